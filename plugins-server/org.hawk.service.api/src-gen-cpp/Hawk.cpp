@@ -5614,6 +5614,824 @@ uint32_t Hawk_fetchAsyncQueryResults_presult::read(::apache::thrift::protocol::T
 }
 
 
+Hawk_openQueryCursor_args::~Hawk_openQueryCursor_args() throw() {
+}
+
+
+uint32_t Hawk_openQueryCursor_args::read(::apache::thrift::protocol::TProtocol* iprot) {
+
+  apache::thrift::protocol::TInputRecursionTracker tracker(*iprot);
+  uint32_t xfer = 0;
+  std::string fname;
+  ::apache::thrift::protocol::TType ftype;
+  int16_t fid;
+
+  xfer += iprot->readStructBegin(fname);
+
+  using ::apache::thrift::protocol::TProtocolException;
+
+  bool isset_name = false;
+  bool isset_query = false;
+  bool isset_language = false;
+  bool isset_options = false;
+
+  while (true)
+  {
+    xfer += iprot->readFieldBegin(fname, ftype, fid);
+    if (ftype == ::apache::thrift::protocol::T_STOP) {
+      break;
+    }
+    switch (fid)
+    {
+      case 1:
+        if (ftype == ::apache::thrift::protocol::T_STRING) {
+          xfer += iprot->readString(this->name);
+          isset_name = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      case 2:
+        if (ftype == ::apache::thrift::protocol::T_STRING) {
+          xfer += iprot->readString(this->query);
+          isset_query = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      case 3:
+        if (ftype == ::apache::thrift::protocol::T_STRING) {
+          xfer += iprot->readString(this->language);
+          isset_language = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      case 4:
+        if (ftype == ::apache::thrift::protocol::T_STRUCT) {
+          xfer += this->options.read(iprot);
+          isset_options = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      default:
+        xfer += iprot->skip(ftype);
+        break;
+    }
+    xfer += iprot->readFieldEnd();
+  }
+
+  xfer += iprot->readStructEnd();
+
+  if (!isset_name)
+    throw TProtocolException(TProtocolException::INVALID_DATA);
+  if (!isset_query)
+    throw TProtocolException(TProtocolException::INVALID_DATA);
+  if (!isset_language)
+    throw TProtocolException(TProtocolException::INVALID_DATA);
+  if (!isset_options)
+    throw TProtocolException(TProtocolException::INVALID_DATA);
+  return xfer;
+}
+
+uint32_t Hawk_openQueryCursor_args::write(::apache::thrift::protocol::TProtocol* oprot) const {
+  uint32_t xfer = 0;
+  apache::thrift::protocol::TOutputRecursionTracker tracker(*oprot);
+  xfer += oprot->writeStructBegin("Hawk_openQueryCursor_args");
+
+  xfer += oprot->writeFieldBegin("name", ::apache::thrift::protocol::T_STRING, 1);
+  xfer += oprot->writeString(this->name);
+  xfer += oprot->writeFieldEnd();
+
+  xfer += oprot->writeFieldBegin("query", ::apache::thrift::protocol::T_STRING, 2);
+  xfer += oprot->writeString(this->query);
+  xfer += oprot->writeFieldEnd();
+
+  xfer += oprot->writeFieldBegin("language", ::apache::thrift::protocol::T_STRING, 3);
+  xfer += oprot->writeString(this->language);
+  xfer += oprot->writeFieldEnd();
+
+  xfer += oprot->writeFieldBegin("options", ::apache::thrift::protocol::T_STRUCT, 4);
+  xfer += this->options.write(oprot);
+  xfer += oprot->writeFieldEnd();
+
+  xfer += oprot->writeFieldStop();
+  xfer += oprot->writeStructEnd();
+  return xfer;
+}
+
+
+Hawk_openQueryCursor_pargs::~Hawk_openQueryCursor_pargs() throw() {
+}
+
+
+uint32_t Hawk_openQueryCursor_pargs::write(::apache::thrift::protocol::TProtocol* oprot) const {
+  uint32_t xfer = 0;
+  apache::thrift::protocol::TOutputRecursionTracker tracker(*oprot);
+  xfer += oprot->writeStructBegin("Hawk_openQueryCursor_pargs");
+
+  xfer += oprot->writeFieldBegin("name", ::apache::thrift::protocol::T_STRING, 1);
+  xfer += oprot->writeString((*(this->name)));
+  xfer += oprot->writeFieldEnd();
+
+  xfer += oprot->writeFieldBegin("query", ::apache::thrift::protocol::T_STRING, 2);
+  xfer += oprot->writeString((*(this->query)));
+  xfer += oprot->writeFieldEnd();
+
+  xfer += oprot->writeFieldBegin("language", ::apache::thrift::protocol::T_STRING, 3);
+  xfer += oprot->writeString((*(this->language)));
+  xfer += oprot->writeFieldEnd();
+
+  xfer += oprot->writeFieldBegin("options", ::apache::thrift::protocol::T_STRUCT, 4);
+  xfer += (*(this->options)).write(oprot);
+  xfer += oprot->writeFieldEnd();
+
+  xfer += oprot->writeFieldStop();
+  xfer += oprot->writeStructEnd();
+  return xfer;
+}
+
+
+Hawk_openQueryCursor_result::~Hawk_openQueryCursor_result() throw() {
+}
+
+
+uint32_t Hawk_openQueryCursor_result::read(::apache::thrift::protocol::TProtocol* iprot) {
+
+  apache::thrift::protocol::TInputRecursionTracker tracker(*iprot);
+  uint32_t xfer = 0;
+  std::string fname;
+  ::apache::thrift::protocol::TType ftype;
+  int16_t fid;
+
+  xfer += iprot->readStructBegin(fname);
+
+  using ::apache::thrift::protocol::TProtocolException;
+
+
+  while (true)
+  {
+    xfer += iprot->readFieldBegin(fname, ftype, fid);
+    if (ftype == ::apache::thrift::protocol::T_STOP) {
+      break;
+    }
+    switch (fid)
+    {
+      case 0:
+        if (ftype == ::apache::thrift::protocol::T_STRING) {
+          xfer += iprot->readString(this->success);
+          this->__isset.success = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      case 1:
+        if (ftype == ::apache::thrift::protocol::T_STRUCT) {
+          xfer += this->err1.read(iprot);
+          this->__isset.err1 = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      case 2:
+        if (ftype == ::apache::thrift::protocol::T_STRUCT) {
+          xfer += this->err2.read(iprot);
+          this->__isset.err2 = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      case 3:
+        if (ftype == ::apache::thrift::protocol::T_STRUCT) {
+          xfer += this->err3.read(iprot);
+          this->__isset.err3 = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      case 4:
+        if (ftype == ::apache::thrift::protocol::T_STRUCT) {
+          xfer += this->err4.read(iprot);
+          this->__isset.err4 = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      case 5:
+        if (ftype == ::apache::thrift::protocol::T_STRUCT) {
+          xfer += this->err5.read(iprot);
+          this->__isset.err5 = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      default:
+        xfer += iprot->skip(ftype);
+        break;
+    }
+    xfer += iprot->readFieldEnd();
+  }
+
+  xfer += iprot->readStructEnd();
+
+  return xfer;
+}
+
+uint32_t Hawk_openQueryCursor_result::write(::apache::thrift::protocol::TProtocol* oprot) const {
+
+  uint32_t xfer = 0;
+
+  xfer += oprot->writeStructBegin("Hawk_openQueryCursor_result");
+
+  if (this->__isset.success) {
+    xfer += oprot->writeFieldBegin("success", ::apache::thrift::protocol::T_STRING, 0);
+    xfer += oprot->writeString(this->success);
+    xfer += oprot->writeFieldEnd();
+  } else if (this->__isset.err1) {
+    xfer += oprot->writeFieldBegin("err1", ::apache::thrift::protocol::T_STRUCT, 1);
+    xfer += this->err1.write(oprot);
+    xfer += oprot->writeFieldEnd();
+  } else if (this->__isset.err2) {
+    xfer += oprot->writeFieldBegin("err2", ::apache::thrift::protocol::T_STRUCT, 2);
+    xfer += this->err2.write(oprot);
+    xfer += oprot->writeFieldEnd();
+  } else if (this->__isset.err3) {
+    xfer += oprot->writeFieldBegin("err3", ::apache::thrift::protocol::T_STRUCT, 3);
+    xfer += this->err3.write(oprot);
+    xfer += oprot->writeFieldEnd();
+  } else if (this->__isset.err4) {
+    xfer += oprot->writeFieldBegin("err4", ::apache::thrift::protocol::T_STRUCT, 4);
+    xfer += this->err4.write(oprot);
+    xfer += oprot->writeFieldEnd();
+  } else if (this->__isset.err5) {
+    xfer += oprot->writeFieldBegin("err5", ::apache::thrift::protocol::T_STRUCT, 5);
+    xfer += this->err5.write(oprot);
+    xfer += oprot->writeFieldEnd();
+  }
+  xfer += oprot->writeFieldStop();
+  xfer += oprot->writeStructEnd();
+  return xfer;
+}
+
+
+Hawk_openQueryCursor_presult::~Hawk_openQueryCursor_presult() throw() {
+}
+
+
+uint32_t Hawk_openQueryCursor_presult::read(::apache::thrift::protocol::TProtocol* iprot) {
+
+  apache::thrift::protocol::TInputRecursionTracker tracker(*iprot);
+  uint32_t xfer = 0;
+  std::string fname;
+  ::apache::thrift::protocol::TType ftype;
+  int16_t fid;
+
+  xfer += iprot->readStructBegin(fname);
+
+  using ::apache::thrift::protocol::TProtocolException;
+
+
+  while (true)
+  {
+    xfer += iprot->readFieldBegin(fname, ftype, fid);
+    if (ftype == ::apache::thrift::protocol::T_STOP) {
+      break;
+    }
+    switch (fid)
+    {
+      case 0:
+        if (ftype == ::apache::thrift::protocol::T_STRING) {
+          xfer += iprot->readString((*(this->success)));
+          this->__isset.success = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      case 1:
+        if (ftype == ::apache::thrift::protocol::T_STRUCT) {
+          xfer += this->err1.read(iprot);
+          this->__isset.err1 = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      case 2:
+        if (ftype == ::apache::thrift::protocol::T_STRUCT) {
+          xfer += this->err2.read(iprot);
+          this->__isset.err2 = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      case 3:
+        if (ftype == ::apache::thrift::protocol::T_STRUCT) {
+          xfer += this->err3.read(iprot);
+          this->__isset.err3 = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      case 4:
+        if (ftype == ::apache::thrift::protocol::T_STRUCT) {
+          xfer += this->err4.read(iprot);
+          this->__isset.err4 = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      case 5:
+        if (ftype == ::apache::thrift::protocol::T_STRUCT) {
+          xfer += this->err5.read(iprot);
+          this->__isset.err5 = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      default:
+        xfer += iprot->skip(ftype);
+        break;
+    }
+    xfer += iprot->readFieldEnd();
+  }
+
+  xfer += iprot->readStructEnd();
+
+  return xfer;
+}
+
+
+Hawk_fetchQueryCursor_args::~Hawk_fetchQueryCursor_args() throw() {
+}
+
+
+uint32_t Hawk_fetchQueryCursor_args::read(::apache::thrift::protocol::TProtocol* iprot) {
+
+  apache::thrift::protocol::TInputRecursionTracker tracker(*iprot);
+  uint32_t xfer = 0;
+  std::string fname;
+  ::apache::thrift::protocol::TType ftype;
+  int16_t fid;
+
+  xfer += iprot->readStructBegin(fname);
+
+  using ::apache::thrift::protocol::TProtocolException;
+
+  bool isset_cursorID = false;
+  bool isset_pageSize = false;
+
+  while (true)
+  {
+    xfer += iprot->readFieldBegin(fname, ftype, fid);
+    if (ftype == ::apache::thrift::protocol::T_STOP) {
+      break;
+    }
+    switch (fid)
+    {
+      case 1:
+        if (ftype == ::apache::thrift::protocol::T_STRING) {
+          xfer += iprot->readString(this->cursorID);
+          isset_cursorID = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      case 2:
+        if (ftype == ::apache::thrift::protocol::T_I32) {
+          xfer += iprot->readI32(this->pageSize);
+          isset_pageSize = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      default:
+        xfer += iprot->skip(ftype);
+        break;
+    }
+    xfer += iprot->readFieldEnd();
+  }
+
+  xfer += iprot->readStructEnd();
+
+  if (!isset_cursorID)
+    throw TProtocolException(TProtocolException::INVALID_DATA);
+  if (!isset_pageSize)
+    throw TProtocolException(TProtocolException::INVALID_DATA);
+  return xfer;
+}
+
+uint32_t Hawk_fetchQueryCursor_args::write(::apache::thrift::protocol::TProtocol* oprot) const {
+  uint32_t xfer = 0;
+  apache::thrift::protocol::TOutputRecursionTracker tracker(*oprot);
+  xfer += oprot->writeStructBegin("Hawk_fetchQueryCursor_args");
+
+  xfer += oprot->writeFieldBegin("cursorID", ::apache::thrift::protocol::T_STRING, 1);
+  xfer += oprot->writeString(this->cursorID);
+  xfer += oprot->writeFieldEnd();
+
+  xfer += oprot->writeFieldBegin("pageSize", ::apache::thrift::protocol::T_I32, 2);
+  xfer += oprot->writeI32(this->pageSize);
+  xfer += oprot->writeFieldEnd();
+
+  xfer += oprot->writeFieldStop();
+  xfer += oprot->writeStructEnd();
+  return xfer;
+}
+
+
+Hawk_fetchQueryCursor_pargs::~Hawk_fetchQueryCursor_pargs() throw() {
+}
+
+
+uint32_t Hawk_fetchQueryCursor_pargs::write(::apache::thrift::protocol::TProtocol* oprot) const {
+  uint32_t xfer = 0;
+  apache::thrift::protocol::TOutputRecursionTracker tracker(*oprot);
+  xfer += oprot->writeStructBegin("Hawk_fetchQueryCursor_pargs");
+
+  xfer += oprot->writeFieldBegin("cursorID", ::apache::thrift::protocol::T_STRING, 1);
+  xfer += oprot->writeString((*(this->cursorID)));
+  xfer += oprot->writeFieldEnd();
+
+  xfer += oprot->writeFieldBegin("pageSize", ::apache::thrift::protocol::T_I32, 2);
+  xfer += oprot->writeI32((*(this->pageSize)));
+  xfer += oprot->writeFieldEnd();
+
+  xfer += oprot->writeFieldStop();
+  xfer += oprot->writeStructEnd();
+  return xfer;
+}
+
+
+Hawk_fetchQueryCursor_result::~Hawk_fetchQueryCursor_result() throw() {
+}
+
+
+uint32_t Hawk_fetchQueryCursor_result::read(::apache::thrift::protocol::TProtocol* iprot) {
+
+  apache::thrift::protocol::TInputRecursionTracker tracker(*iprot);
+  uint32_t xfer = 0;
+  std::string fname;
+  ::apache::thrift::protocol::TType ftype;
+  int16_t fid;
+
+  xfer += iprot->readStructBegin(fname);
+
+  using ::apache::thrift::protocol::TProtocolException;
+
+
+  while (true)
+  {
+    xfer += iprot->readFieldBegin(fname, ftype, fid);
+    if (ftype == ::apache::thrift::protocol::T_STOP) {
+      break;
+    }
+    switch (fid)
+    {
+      case 0:
+        if (ftype == ::apache::thrift::protocol::T_LIST) {
+          {
+            this->success.clear();
+            uint32_t _size427;
+            ::apache::thrift::protocol::TType _etype430;
+            xfer += iprot->readListBegin(_etype430, _size427);
+            this->success.resize(_size427);
+            uint32_t _i431;
+            for (_i431 = 0; _i431 < _size427; ++_i431)
+            {
+              xfer += this->success[_i431].read(iprot);
+            }
+            xfer += iprot->readListEnd();
+          }
+          this->__isset.success = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      case 1:
+        if (ftype == ::apache::thrift::protocol::T_STRUCT) {
+          xfer += this->err1.read(iprot);
+          this->__isset.err1 = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      case 2:
+        if (ftype == ::apache::thrift::protocol::T_STRUCT) {
+          xfer += this->err2.read(iprot);
+          this->__isset.err2 = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      default:
+        xfer += iprot->skip(ftype);
+        break;
+    }
+    xfer += iprot->readFieldEnd();
+  }
+
+  xfer += iprot->readStructEnd();
+
+  return xfer;
+}
+
+uint32_t Hawk_fetchQueryCursor_result::write(::apache::thrift::protocol::TProtocol* oprot) const {
+
+  uint32_t xfer = 0;
+
+  xfer += oprot->writeStructBegin("Hawk_fetchQueryCursor_result");
+
+  if (this->__isset.success) {
+    xfer += oprot->writeFieldBegin("success", ::apache::thrift::protocol::T_LIST, 0);
+    {
+      xfer += oprot->writeListBegin(::apache::thrift::protocol::T_STRUCT, static_cast<uint32_t>(this->success.size()));
+      std::vector<QueryResult> ::const_iterator _iter432;
+      for (_iter432 = this->success.begin(); _iter432 != this->success.end(); ++_iter432)
+      {
+        xfer += (*_iter432).write(oprot);
+      }
+      xfer += oprot->writeListEnd();
+    }
+    xfer += oprot->writeFieldEnd();
+  } else if (this->__isset.err1) {
+    xfer += oprot->writeFieldBegin("err1", ::apache::thrift::protocol::T_STRUCT, 1);
+    xfer += this->err1.write(oprot);
+    xfer += oprot->writeFieldEnd();
+  } else if (this->__isset.err2) {
+    xfer += oprot->writeFieldBegin("err2", ::apache::thrift::protocol::T_STRUCT, 2);
+    xfer += this->err2.write(oprot);
+    xfer += oprot->writeFieldEnd();
+  }
+  xfer += oprot->writeFieldStop();
+  xfer += oprot->writeStructEnd();
+  return xfer;
+}
+
+
+Hawk_fetchQueryCursor_presult::~Hawk_fetchQueryCursor_presult() throw() {
+}
+
+
+uint32_t Hawk_fetchQueryCursor_presult::read(::apache::thrift::protocol::TProtocol* iprot) {
+
+  apache::thrift::protocol::TInputRecursionTracker tracker(*iprot);
+  uint32_t xfer = 0;
+  std::string fname;
+  ::apache::thrift::protocol::TType ftype;
+  int16_t fid;
+
+  xfer += iprot->readStructBegin(fname);
+
+  using ::apache::thrift::protocol::TProtocolException;
+
+
+  while (true)
+  {
+    xfer += iprot->readFieldBegin(fname, ftype, fid);
+    if (ftype == ::apache::thrift::protocol::T_STOP) {
+      break;
+    }
+    switch (fid)
+    {
+      case 0:
+        if (ftype == ::apache::thrift::protocol::T_LIST) {
+          {
+            (*(this->success)).clear();
+            uint32_t _size433;
+            ::apache::thrift::protocol::TType _etype436;
+            xfer += iprot->readListBegin(_etype436, _size433);
+            (*(this->success)).resize(_size433);
+            uint32_t _i437;
+            for (_i437 = 0; _i437 < _size433; ++_i437)
+            {
+              xfer += (*(this->success))[_i437].read(iprot);
+            }
+            xfer += iprot->readListEnd();
+          }
+          this->__isset.success = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      case 1:
+        if (ftype == ::apache::thrift::protocol::T_STRUCT) {
+          xfer += this->err1.read(iprot);
+          this->__isset.err1 = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      case 2:
+        if (ftype == ::apache::thrift::protocol::T_STRUCT) {
+          xfer += this->err2.read(iprot);
+          this->__isset.err2 = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      default:
+        xfer += iprot->skip(ftype);
+        break;
+    }
+    xfer += iprot->readFieldEnd();
+  }
+
+  xfer += iprot->readStructEnd();
+
+  return xfer;
+}
+
+
+Hawk_closeQueryCursor_args::~Hawk_closeQueryCursor_args() throw() {
+}
+
+
+uint32_t Hawk_closeQueryCursor_args::read(::apache::thrift::protocol::TProtocol* iprot) {
+
+  apache::thrift::protocol::TInputRecursionTracker tracker(*iprot);
+  uint32_t xfer = 0;
+  std::string fname;
+  ::apache::thrift::protocol::TType ftype;
+  int16_t fid;
+
+  xfer += iprot->readStructBegin(fname);
+
+  using ::apache::thrift::protocol::TProtocolException;
+
+  bool isset_cursorID = false;
+
+  while (true)
+  {
+    xfer += iprot->readFieldBegin(fname, ftype, fid);
+    if (ftype == ::apache::thrift::protocol::T_STOP) {
+      break;
+    }
+    switch (fid)
+    {
+      case 1:
+        if (ftype == ::apache::thrift::protocol::T_STRING) {
+          xfer += iprot->readString(this->cursorID);
+          isset_cursorID = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      default:
+        xfer += iprot->skip(ftype);
+        break;
+    }
+    xfer += iprot->readFieldEnd();
+  }
+
+  xfer += iprot->readStructEnd();
+
+  if (!isset_cursorID)
+    throw TProtocolException(TProtocolException::INVALID_DATA);
+  return xfer;
+}
+
+uint32_t Hawk_closeQueryCursor_args::write(::apache::thrift::protocol::TProtocol* oprot) const {
+  uint32_t xfer = 0;
+  apache::thrift::protocol::TOutputRecursionTracker tracker(*oprot);
+  xfer += oprot->writeStructBegin("Hawk_closeQueryCursor_args");
+
+  xfer += oprot->writeFieldBegin("cursorID", ::apache::thrift::protocol::T_STRING, 1);
+  xfer += oprot->writeString(this->cursorID);
+  xfer += oprot->writeFieldEnd();
+
+  xfer += oprot->writeFieldStop();
+  xfer += oprot->writeStructEnd();
+  return xfer;
+}
+
+
+Hawk_closeQueryCursor_pargs::~Hawk_closeQueryCursor_pargs() throw() {
+}
+
+
+uint32_t Hawk_closeQueryCursor_pargs::write(::apache::thrift::protocol::TProtocol* oprot) const {
+  uint32_t xfer = 0;
+  apache::thrift::protocol::TOutputRecursionTracker tracker(*oprot);
+  xfer += oprot->writeStructBegin("Hawk_closeQueryCursor_pargs");
+
+  xfer += oprot->writeFieldBegin("cursorID", ::apache::thrift::protocol::T_STRING, 1);
+  xfer += oprot->writeString((*(this->cursorID)));
+  xfer += oprot->writeFieldEnd();
+
+  xfer += oprot->writeFieldStop();
+  xfer += oprot->writeStructEnd();
+  return xfer;
+}
+
+
+Hawk_closeQueryCursor_result::~Hawk_closeQueryCursor_result() throw() {
+}
+
+
+uint32_t Hawk_closeQueryCursor_result::read(::apache::thrift::protocol::TProtocol* iprot) {
+
+  apache::thrift::protocol::TInputRecursionTracker tracker(*iprot);
+  uint32_t xfer = 0;
+  std::string fname;
+  ::apache::thrift::protocol::TType ftype;
+  int16_t fid;
+
+  xfer += iprot->readStructBegin(fname);
+
+  using ::apache::thrift::protocol::TProtocolException;
+
+
+  while (true)
+  {
+    xfer += iprot->readFieldBegin(fname, ftype, fid);
+    if (ftype == ::apache::thrift::protocol::T_STOP) {
+      break;
+    }
+    switch (fid)
+    {
+      case 1:
+        if (ftype == ::apache::thrift::protocol::T_STRUCT) {
+          xfer += this->err1.read(iprot);
+          this->__isset.err1 = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      default:
+        xfer += iprot->skip(ftype);
+        break;
+    }
+    xfer += iprot->readFieldEnd();
+  }
+
+  xfer += iprot->readStructEnd();
+
+  return xfer;
+}
+
+uint32_t Hawk_closeQueryCursor_result::write(::apache::thrift::protocol::TProtocol* oprot) const {
+
+  uint32_t xfer = 0;
+
+  xfer += oprot->writeStructBegin("Hawk_closeQueryCursor_result");
+
+  if (this->__isset.err1) {
+    xfer += oprot->writeFieldBegin("err1", ::apache::thrift::protocol::T_STRUCT, 1);
+    xfer += this->err1.write(oprot);
+    xfer += oprot->writeFieldEnd();
+  }
+  xfer += oprot->writeFieldStop();
+  xfer += oprot->writeStructEnd();
+  return xfer;
+}
+
+
+Hawk_closeQueryCursor_presult::~Hawk_closeQueryCursor_presult() throw() {
+}
+
+
+uint32_t Hawk_closeQueryCursor_presult::read(::apache::thrift::protocol::TProtocol* iprot) {
+
+  apache::thrift::protocol::TInputRecursionTracker tracker(*iprot);
+  uint32_t xfer = 0;
+  std::string fname;
+  ::apache::thrift::protocol::TType ftype;
+  int16_t fid;
+
+  xfer += iprot->readStructBegin(fname);
+
+  using ::apache::thrift::protocol::TProtocolException;
+
+
+  while (true)
+  {
+    xfer += iprot->readFieldBegin(fname, ftype, fid);
+    if (ftype == ::apache::thrift::protocol::T_STOP) {
+      break;
+    }
+    switch (fid)
+    {
+      case 1:
+        if (ftype == ::apache::thrift::protocol::T_STRUCT) {
+          xfer += this->err1.read(iprot);
+          this->__isset.err1 = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      default:
+        xfer += iprot->skip(ftype);
+        break;
+    }
+    xfer += iprot->readFieldEnd();
+  }
+
+  xfer += iprot->readStructEnd();
+
+  return xfer;
+}
+
+
 Hawk_addRepository_args::~Hawk_addRepository_args() throw() {
 }
 
@@ -6984,14 +7802,14 @@ uint32_t Hawk_listRepositories_result::read(::apache::thrift::protocol::TProtoco
         if (ftype == ::apache::thrift::protocol::T_LIST) {
           {
             this->success.clear();
-            uint32_t _size427;
-            ::apache::thrift::protocol::TType _etype430;
-            xfer += iprot->readListBegin(_etype430, _size427);
-            this->success.resize(_size427);
-            uint32_t _i431;
-            for (_i431 = 0; _i431 < _size427; ++_i431)
+            uint32_t _size438;
+            ::apache::thrift::protocol::TType _etype441;
+            xfer += iprot->readListBegin(_etype441, _size438);
+            this->success.resize(_size438);
+            uint32_t _i442;
+            for (_i442 = 0; _i442 < _size438; ++_i442)
             {
-              xfer += this->success[_i431].read(iprot);
+              xfer += this->success[_i442].read(iprot);
             }
             xfer += iprot->readListEnd();
           }
@@ -7038,10 +7856,10 @@ uint32_t Hawk_listRepositories_result::write(::apache::thrift::protocol::TProtoc
     xfer += oprot->writeFieldBegin("success", ::apache::thrift::protocol::T_LIST, 0);
     {
       xfer += oprot->writeListBegin(::apache::thrift::protocol::T_STRUCT, static_cast<uint32_t>(this->success.size()));
-      std::vector<Repository> ::const_iterator _iter432;
-      for (_iter432 = this->success.begin(); _iter432 != this->success.end(); ++_iter432)
+      std::vector<Repository> ::const_iterator _iter443;
+      for (_iter443 = this->success.begin(); _iter443 != this->success.end(); ++_iter443)
       {
-        xfer += (*_iter432).write(oprot);
+        xfer += (*_iter443).write(oprot);
       }
       xfer += oprot->writeListEnd();
     }
@@ -7090,14 +7908,14 @@ uint32_t Hawk_listRepositories_presult::read(::apache::thrift::protocol::TProtoc
         if (ftype == ::apache::thrift::protocol::T_LIST) {
           {
             (*(this->success)).clear();
-            uint32_t _size433;
-            ::apache::thrift::protocol::TType _etype436;
-            xfer += iprot->readListBegin(_etype436, _size433);
-            (*(this->success)).resize(_size433);
-            uint32_t _i437;
-            for (_i437 = 0; _i437 < _size433; ++_i437)
+            uint32_t _size444;
+            ::apache::thrift::protocol::TType _etype447;
+            xfer += iprot->readListBegin(_etype447, _size444);
+            (*(this->success)).resize(_size444);
+            uint32_t _i448;
+            for (_i448 = 0; _i448 < _size444; ++_i448)
             {
-              xfer += (*(this->success))[_i437].read(iprot);
+              xfer += (*(this->success))[_i448].read(iprot);
             }
             xfer += iprot->readListEnd();
           }
@@ -7222,14 +8040,14 @@ uint32_t Hawk_listRepositoryTypes_result::read(::apache::thrift::protocol::TProt
         if (ftype == ::apache::thrift::protocol::T_LIST) {
           {
             this->success.clear();
-            uint32_t _size438;
-            ::apache::thrift::protocol::TType _etype441;
-            xfer += iprot->readListBegin(_etype441, _size438);
-            this->success.resize(_size438);
-            uint32_t _i442;
-            for (_i442 = 0; _i442 < _size438; ++_i442)
+            uint32_t _size449;
+            ::apache::thrift::protocol::TType _etype452;
+            xfer += iprot->readListBegin(_etype452, _size449);
+            this->success.resize(_size449);
+            uint32_t _i453;
+            for (_i453 = 0; _i453 < _size449; ++_i453)
             {
-              xfer += iprot->readString(this->success[_i442]);
+              xfer += iprot->readString(this->success[_i453]);
             }
             xfer += iprot->readListEnd();
           }
@@ -7260,10 +8078,10 @@ uint32_t Hawk_listRepositoryTypes_result::write(::apache::thrift::protocol::TPro
     xfer += oprot->writeFieldBegin("success", ::apache::thrift::protocol::T_LIST, 0);
     {
       xfer += oprot->writeListBegin(::apache::thrift::protocol::T_STRING, static_cast<uint32_t>(this->success.size()));
-      std::vector<std::string> ::const_iterator _iter443;
-      for (_iter443 = this->success.begin(); _iter443 != this->success.end(); ++_iter443)
+      std::vector<std::string> ::const_iterator _iter454;
+      for (_iter454 = this->success.begin(); _iter454 != this->success.end(); ++_iter454)
       {
-        xfer += oprot->writeString((*_iter443));
+        xfer += oprot->writeString((*_iter454));
       }
       xfer += oprot->writeListEnd();
     }
@@ -7304,14 +8122,14 @@ uint32_t Hawk_listRepositoryTypes_presult::read(::apache::thrift::protocol::TPro
         if (ftype == ::apache::thrift::protocol::T_LIST) {
           {
             (*(this->success)).clear();
-            uint32_t _size444;
-            ::apache::thrift::protocol::TType _etype447;
-            xfer += iprot->readListBegin(_etype447, _size444);
-            (*(this->success)).resize(_size444);
-            uint32_t _i448;
-            for (_i448 = 0; _i448 < _size444; ++_i448)
+            uint32_t _size455;
+            ::apache::thrift::protocol::TType _etype458;
+            xfer += iprot->readListBegin(_etype458, _size455);
+            (*(this->success)).resize(_size455);
+            uint32_t _i459;
+            for (_i459 = 0; _i459 < _size455; ++_i459)
             {
-              xfer += iprot->readString((*(this->success))[_i448]);
+              xfer += iprot->readString((*(this->success))[_i459]);
             }
             xfer += iprot->readListEnd();
           }
@@ -7373,14 +8191,14 @@ uint32_t Hawk_listFiles_args::read(::apache::thrift::protocol::TProtocol* iprot)
         if (ftype == ::apache::thrift::protocol::T_LIST) {
           {
             this->repository.clear();
-            uint32_t _size449;
-            ::apache::thrift::protocol::TType _etype452;
-            xfer += iprot->readListBegin(_etype452, _size449);
-            this->repository.resize(_size449);
-            uint32_t _i453;
-            for (_i453 = 0; _i453 < _size449; ++_i453)
+            uint32_t _size460;
+            ::apache::thrift::protocol::TType _etype463;
+            xfer += iprot->readListBegin(_etype463, _size460);
+            this->repository.resize(_size460);
+            uint32_t _i464;
+            for (_i464 = 0; _i464 < _size460; ++_i464)
             {
-              xfer += iprot->readString(this->repository[_i453]);
+              xfer += iprot->readString(this->repository[_i464]);
             }
             xfer += iprot->readListEnd();
           }
@@ -7393,14 +8211,14 @@ uint32_t Hawk_listFiles_args::read(::apache::thrift::protocol::TProtocol* iprot)
         if (ftype == ::apache::thrift::protocol::T_LIST) {
           {
             this->filePatterns.clear();
-            uint32_t _size454;
-            ::apache::thrift::protocol::TType _etype457;
-            xfer += iprot->readListBegin(_etype457, _size454);
-            this->filePatterns.resize(_size454);
-            uint32_t _i458;
-            for (_i458 = 0; _i458 < _size454; ++_i458)
+            uint32_t _size465;
+            ::apache::thrift::protocol::TType _etype468;
+            xfer += iprot->readListBegin(_etype468, _size465);
+            this->filePatterns.resize(_size465);
+            uint32_t _i469;
+            for (_i469 = 0; _i469 < _size465; ++_i469)
             {
-              xfer += iprot->readString(this->filePatterns[_i458]);
+              xfer += iprot->readString(this->filePatterns[_i469]);
             }
             xfer += iprot->readListEnd();
           }
@@ -7439,10 +8257,10 @@ uint32_t Hawk_listFiles_args::write(::apache::thrift::protocol::TProtocol* oprot
   xfer += oprot->writeFieldBegin("repository", ::apache::thrift::protocol::T_LIST, 2);
   {
     xfer += oprot->writeListBegin(::apache::thrift::protocol::T_STRING, static_cast<uint32_t>(this->repository.size()));
-    std::vector<std::string> ::const_iterator _iter459;
-    for (_iter459 = this->repository.begin(); _iter459 != this->repository.end(); ++_iter459)
+    std::vector<std::string> ::const_iterator _iter470;
+    for (_iter470 = this->repository.begin(); _iter470 != this->repository.end(); ++_iter470)
     {
-      xfer += oprot->writeString((*_iter459));
+      xfer += oprot->writeString((*_iter470));
     }
     xfer += oprot->writeListEnd();
   }
@@ -7451,10 +8269,10 @@ uint32_t Hawk_listFiles_args::write(::apache::thrift::protocol::TProtocol* oprot
   xfer += oprot->writeFieldBegin("filePatterns", ::apache::thrift::protocol::T_LIST, 3);
   {
     xfer += oprot->writeListBegin(::apache::thrift::protocol::T_STRING, static_cast<uint32_t>(this->filePatterns.size()));
-    std::vector<std::string> ::const_iterator _iter460;
-    for (_iter460 = this->filePatterns.begin(); _iter460 != this->filePatterns.end(); ++_iter460)
+    std::vector<std::string> ::const_iterator _iter471;
+    for (_iter471 = this->filePatterns.begin(); _iter471 != this->filePatterns.end(); ++_iter471)
     {
-      xfer += oprot->writeString((*_iter460));
+      xfer += oprot->writeString((*_iter471));
     }
     xfer += oprot->writeListEnd();
   }
@@ -7482,10 +8300,10 @@ uint32_t Hawk_listFiles_pargs::write(::apache::thrift::protocol::TProtocol* opro
   xfer += oprot->writeFieldBegin("repository", ::apache::thrift::protocol::T_LIST, 2);
   {
     xfer += oprot->writeListBegin(::apache::thrift::protocol::T_STRING, static_cast<uint32_t>((*(this->repository)).size()));
-    std::vector<std::string> ::const_iterator _iter461;
-    for (_iter461 = (*(this->repository)).begin(); _iter461 != (*(this->repository)).end(); ++_iter461)
+    std::vector<std::string> ::const_iterator _iter472;
+    for (_iter472 = (*(this->repository)).begin(); _iter472 != (*(this->repository)).end(); ++_iter472)
     {
-      xfer += oprot->writeString((*_iter461));
+      xfer += oprot->writeString((*_iter472));
     }
     xfer += oprot->writeListEnd();
   }
@@ -7494,10 +8312,10 @@ uint32_t Hawk_listFiles_pargs::write(::apache::thrift::protocol::TProtocol* opro
   xfer += oprot->writeFieldBegin("filePatterns", ::apache::thrift::protocol::T_LIST, 3);
   {
     xfer += oprot->writeListBegin(::apache::thrift::protocol::T_STRING, static_cast<uint32_t>((*(this->filePatterns)).size()));
-    std::vector<std::string> ::const_iterator _iter462;
-    for (_iter462 = (*(this->filePatterns)).begin(); _iter462 != (*(this->filePatterns)).end(); ++_iter462)
+    std::vector<std::string> ::const_iterator _iter473;
+    for (_iter473 = (*(this->filePatterns)).begin(); _iter473 != (*(this->filePatterns)).end(); ++_iter473)
     {
-      xfer += oprot->writeString((*_iter462));
+      xfer += oprot->writeString((*_iter473));
     }
     xfer += oprot->writeListEnd();
   }
@@ -7538,14 +8356,14 @@ uint32_t Hawk_listFiles_result::read(::apache::thrift::protocol::TProtocol* ipro
         if (ftype == ::apache::thrift::protocol::T_LIST) {
           {
             this->success.clear();
-            uint32_t _size463;
-            ::apache::thrift::protocol::TType _etype466;
-            xfer += iprot->readListBegin(_etype466, _size463);
-            this->success.resize(_size463);
-            uint32_t _i467;
-            for (_i467 = 0; _i467 < _size463; ++_i467)
+            uint32_t _size474;
+            ::apache::thrift::protocol::TType _etype477;
+            xfer += iprot->readListBegin(_etype477, _size474);
+            this->success.resize(_size474);
+            uint32_t _i478;
+            for (_i478 = 0; _i478 < _size474; ++_i478)
             {
-              xfer += iprot->readString(this->success[_i467]);
+              xfer += iprot->readString(this->success[_i478]);
             }
             xfer += iprot->readListEnd();
           }
@@ -7592,10 +8410,10 @@ uint32_t Hawk_listFiles_result::write(::apache::thrift::protocol::TProtocol* opr
     xfer += oprot->writeFieldBegin("success", ::apache::thrift::protocol::T_LIST, 0);
     {
       xfer += oprot->writeListBegin(::apache::thrift::protocol::T_STRING, static_cast<uint32_t>(this->success.size()));
-      std::vector<std::string> ::const_iterator _iter468;
-      for (_iter468 = this->success.begin(); _iter468 != this->success.end(); ++_iter468)
+      std::vector<std::string> ::const_iterator _iter479;
+      for (_iter479 = this->success.begin(); _iter479 != this->success.end(); ++_iter479)
       {
-        xfer += oprot->writeString((*_iter468));
+        xfer += oprot->writeString((*_iter479));
       }
       xfer += oprot->writeListEnd();
     }
@@ -7644,14 +8462,14 @@ uint32_t Hawk_listFiles_presult::read(::apache::thrift::protocol::TProtocol* ipr
         if (ftype == ::apache::thrift::protocol::T_LIST) {
           {
             (*(this->success)).clear();
-            uint32_t _size469;
-            ::apache::thrift::protocol::TType _etype472;
-            xfer += iprot->readListBegin(_etype472, _size469);
-            (*(this->success)).resize(_size469);
-            uint32_t _i473;
-            for (_i473 = 0; _i473 < _size469; ++_i473)
+            uint32_t _size480;
+            ::apache::thrift::protocol::TType _etype483;
+            xfer += iprot->readListBegin(_etype483, _size480);
+            (*(this->success)).resize(_size480);
+            uint32_t _i484;
+            for (_i484 = 0; _i484 < _size480; ++_i484)
             {
-              xfer += iprot->readString((*(this->success))[_i473]);
+              xfer += iprot->readString((*(this->success))[_i484]);
             }
             xfer += iprot->readListEnd();
           }
@@ -8546,14 +9364,14 @@ uint32_t Hawk_listDerivedAttributes_result::read(::apache::thrift::protocol::TPr
         if (ftype == ::apache::thrift::protocol::T_LIST) {
           {
             this->success.clear();
-            uint32_t _size474;
-            ::apache::thrift::protocol::TType _etype477;
-            xfer += iprot->readListBegin(_etype477, _size474);
-            this->success.resize(_size474);
-            uint32_t _i478;
-            for (_i478 = 0; _i478 < _size474; ++_i478)
+            uint32_t _size485;
+            ::apache::thrift::protocol::TType _etype488;
+            xfer += iprot->readListBegin(_etype488, _size485);
+            this->success.resize(_size485);
+            uint32_t _i489;
+            for (_i489 = 0; _i489 < _size485; ++_i489)
             {
-              xfer += this->success[_i478].read(iprot);
+              xfer += this->success[_i489].read(iprot);
             }
             xfer += iprot->readListEnd();
           }
@@ -8600,10 +9418,10 @@ uint32_t Hawk_listDerivedAttributes_result::write(::apache::thrift::protocol::TP
     xfer += oprot->writeFieldBegin("success", ::apache::thrift::protocol::T_LIST, 0);
     {
       xfer += oprot->writeListBegin(::apache::thrift::protocol::T_STRUCT, static_cast<uint32_t>(this->success.size()));
-      std::vector<DerivedAttributeSpec> ::const_iterator _iter479;
-      for (_iter479 = this->success.begin(); _iter479 != this->success.end(); ++_iter479)
+      std::vector<DerivedAttributeSpec> ::const_iterator _iter490;
+      for (_iter490 = this->success.begin(); _iter490 != this->success.end(); ++_iter490)
       {
-        xfer += (*_iter479).write(oprot);
+        xfer += (*_iter490).write(oprot);
       }
       xfer += oprot->writeListEnd();
     }
@@ -8652,14 +9470,14 @@ uint32_t Hawk_listDerivedAttributes_presult::read(::apache::thrift::protocol::TP
         if (ftype == ::apache::thrift::protocol::T_LIST) {
           {
             (*(this->success)).clear();
-            uint32_t _size480;
-            ::apache::thrift::protocol::TType _etype483;
-            xfer += iprot->readListBegin(_etype483, _size480);
-            (*(this->success)).resize(_size480);
-            uint32_t _i484;
-            for (_i484 = 0; _i484 < _size480; ++_i484)
+            uint32_t _size491;
+            ::apache::thrift::protocol::TType _etype494;
+            xfer += iprot->readListBegin(_etype494, _size491);
+            (*(this->success)).resize(_size491);
+            uint32_t _i495;
+            for (_i495 = 0; _i495 < _size491; ++_i495)
             {
-              xfer += (*(this->success))[_i484].read(iprot);
+              xfer += (*(this->success))[_i495].read(iprot);
             }
             xfer += iprot->readListEnd();
           }
@@ -9286,14 +10104,14 @@ uint32_t Hawk_listIndexedAttributes_result::read(::apache::thrift::protocol::TPr
         if (ftype == ::apache::thrift::protocol::T_LIST) {
           {
             this->success.clear();
-            uint32_t _size485;
-            ::apache::thrift::protocol::TType _etype488;
-            xfer += iprot->readListBegin(_etype488, _size485);
-            this->success.resize(_size485);
-            uint32_t _i489;
-            for (_i489 = 0; _i489 < _size485; ++_i489)
+            uint32_t _size496;
+            ::apache::thrift::protocol::TType _etype499;
+            xfer += iprot->readListBegin(_etype499, _size496);
+            this->success.resize(_size496);
+            uint32_t _i500;
+            for (_i500 = 0; _i500 < _size496; ++_i500)
             {
-              xfer += this->success[_i489].read(iprot);
+              xfer += this->success[_i500].read(iprot);
             }
             xfer += iprot->readListEnd();
           }
@@ -9340,10 +10158,10 @@ uint32_t Hawk_listIndexedAttributes_result::write(::apache::thrift::protocol::TP
     xfer += oprot->writeFieldBegin("success", ::apache::thrift::protocol::T_LIST, 0);
     {
       xfer += oprot->writeListBegin(::apache::thrift::protocol::T_STRUCT, static_cast<uint32_t>(this->success.size()));
-      std::vector<IndexedAttributeSpec> ::const_iterator _iter490;
-      for (_iter490 = this->success.begin(); _iter490 != this->success.end(); ++_iter490)
+      std::vector<IndexedAttributeSpec> ::const_iterator _iter501;
+      for (_iter501 = this->success.begin(); _iter501 != this->success.end(); ++_iter501)
       {
-        xfer += (*_iter490).write(oprot);
+        xfer += (*_iter501).write(oprot);
       }
       xfer += oprot->writeListEnd();
     }
@@ -9392,14 +10210,14 @@ uint32_t Hawk_listIndexedAttributes_presult::read(::apache::thrift::protocol::TP
         if (ftype == ::apache::thrift::protocol::T_LIST) {
           {
             (*(this->success)).clear();
-            uint32_t _size491;
-            ::apache::thrift::protocol::TType _etype494;
-            xfer += iprot->readListBegin(_etype494, _size491);
-            (*(this->success)).resize(_size491);
-            uint32_t _i495;
-            for (_i495 = 0; _i495 < _size491; ++_i495)
+            uint32_t _size502;
+            ::apache::thrift::protocol::TType _etype505;
+            xfer += iprot->readListBegin(_etype505, _size502);
+            (*(this->success)).resize(_size502);
+            uint32_t _i506;
+            for (_i506 = 0; _i506 < _size502; ++_i506)
             {
-              xfer += (*(this->success))[_i495].read(iprot);
+              xfer += (*(this->success))[_i506].read(iprot);
             }
             xfer += iprot->readListEnd();
           }
@@ -9567,14 +10385,14 @@ uint32_t Hawk_getModel_result::read(::apache::thrift::protocol::TProtocol* iprot
         if (ftype == ::apache::thrift::protocol::T_LIST) {
           {
             this->success.clear();
-            uint32_t _size496;
-            ::apache::thrift::protocol::TType _etype499;
-            xfer += iprot->readListBegin(_etype499, _size496);
-            this->success.resize(_size496);
-            uint32_t _i500;
-            for (_i500 = 0; _i500 < _size496; ++_i500)
+            uint32_t _size507;
+            ::apache::thrift::protocol::TType _etype510;
+            xfer += iprot->readListBegin(_etype510, _size507);
+            this->success.resize(_size507);
+            uint32_t _i511;
+            for (_i511 = 0; _i511 < _size507; ++_i511)
             {
-              xfer += this->success[_i500].read(iprot);
+              xfer += this->success[_i511].read(iprot);
             }
             xfer += iprot->readListEnd();
           }
@@ -9621,10 +10439,10 @@ uint32_t Hawk_getModel_result::write(::apache::thrift::protocol::TProtocol* opro
     xfer += oprot->writeFieldBegin("success", ::apache::thrift::protocol::T_LIST, 0);
     {
       xfer += oprot->writeListBegin(::apache::thrift::protocol::T_STRUCT, static_cast<uint32_t>(this->success.size()));
-      std::vector<ModelElement> ::const_iterator _iter501;
-      for (_iter501 = this->success.begin(); _iter501 != this->success.end(); ++_iter501)
+      std::vector<ModelElement> ::const_iterator _iter512;
+      for (_iter512 = this->success.begin(); _iter512 != this->success.end(); ++_iter512)
       {
-        xfer += (*_iter501).write(oprot);
+        xfer += (*_iter512).write(oprot);
       }
       xfer += oprot->writeListEnd();
     }
@@ -9673,14 +10491,14 @@ uint32_t Hawk_getModel_presult::read(::apache::thrift::protocol::TProtocol* ipro
         if (ftype == ::apache::thrift::protocol::T_LIST) {
           {
             (*(this->success)).clear();
-            uint32_t _size502;
-            ::apache::thrift::protocol::TType _etype505;
-            xfer += iprot->readListBegin(_etype505, _size502);
-            (*(this->success)).resize(_size502);
-            uint32_t _i506;
-            for (_i506 = 0; _i506 < _size502; ++_i506)
+            uint32_t _size513;
+            ::apache::thrift::protocol::TType _etype516;
+            xfer += iprot->readListBegin(_etype516, _size513);
+            (*(this->success)).resize(_size513);
+            uint32_t _i517;
+            for (_i517 = 0; _i517 < _size513; ++_i517)
             {
-              xfer += (*(this->success))[_i506].read(iprot);
+              xfer += (*(this->success))[_i517].read(iprot);
             }
             xfer += iprot->readListEnd();
           }
@@ -9848,14 +10666,14 @@ uint32_t Hawk_getRootElements_result::read(::apache::thrift::protocol::TProtocol
         if (ftype == ::apache::thrift::protocol::T_LIST) {
           {
             this->success.clear();
-            uint32_t _size507;
-            ::apache::thrift::protocol::TType _etype510;
-            xfer += iprot->readListBegin(_etype510, _size507);
-            this->success.resize(_size507);
-            uint32_t _i511;
-            for (_i511 = 0; _i511 < _size507; ++_i511)
+            uint32_t _size518;
+            ::apache::thrift::protocol::TType _etype521;
+            xfer += iprot->readListBegin(_etype521, _size518);
+            this->success.resize(_size518);
+            uint32_t _i522;
+            for (_i522 = 0; _i522 < _size518; ++_i522)
             {
-              xfer += this->success[_i511].read(iprot);
+              xfer += this->success[_i522].read(iprot);
             }
             xfer += iprot->readListEnd();
           }
@@ -9886,10 +10704,10 @@ uint32_t Hawk_getRootElements_result::write(::apache::thrift::protocol::TProtoco
     xfer += oprot->writeFieldBegin("success", ::apache::thrift::protocol::T_LIST, 0);
     {
       xfer += oprot->writeListBegin(::apache::thrift::protocol::T_STRUCT, static_cast<uint32_t>(this->success.size()));
-      std::vector<ModelElement> ::const_iterator _iter512;
-      for (_iter512 = this->success.begin(); _iter512 != this->success.end(); ++_iter512)
+      std::vector<ModelElement> ::const_iterator _iter523;
+      for (_iter523 = this->success.begin(); _iter523 != this->success.end(); ++_iter523)
       {
-        xfer += (*_iter512).write(oprot);
+        xfer += (*_iter523).write(oprot);
       }
       xfer += oprot->writeListEnd();
     }
@@ -9930,14 +10748,14 @@ uint32_t Hawk_getRootElements_presult::read(::apache::thrift::protocol::TProtoco
         if (ftype == ::apache::thrift::protocol::T_LIST) {
           {
             (*(this->success)).clear();
-            uint32_t _size513;
-            ::apache::thrift::protocol::TType _etype516;
-            xfer += iprot->readListBegin(_etype516, _size513);
-            (*(this->success)).resize(_size513);
-            uint32_t _i517;
-            for (_i517 = 0; _i517 < _size513; ++_i517)
+            uint32_t _size524;
+            ::apache::thrift::protocol::TType _etype527;
+            xfer += iprot->readListBegin(_etype527, _size524);
+            (*(this->success)).resize(_size524);
+            uint32_t _i528;
+            for (_i528 = 0; _i528 < _size524; ++_i528)
             {
-              xfer += (*(this->success))[_i517].read(iprot);
+              xfer += (*(this->success))[_i528].read(iprot);
             }
             xfer += iprot->readListEnd();
           }
@@ -10239,14 +11057,14 @@ uint32_t Hawk_watchModelChanges_args::read(::apache::thrift::protocol::TProtocol
         if (ftype == ::apache::thrift::protocol::T_LIST) {
           {
             this->filePath.clear();
-            uint32_t _size518;
-            ::apache::thrift::protocol::TType _etype521;
-            xfer += iprot->readListBegin(_etype521, _size518);
-            this->filePath.resize(_size518);
-            uint32_t _i522;
-            for (_i522 = 0; _i522 < _size518; ++_i522)
+            uint32_t _size529;
+            ::apache::thrift::protocol::TType _etype532;
+            xfer += iprot->readListBegin(_etype532, _size529);
+            this->filePath.resize(_size529);
+            uint32_t _i533;
+            for (_i533 = 0; _i533 < _size529; ++_i533)
             {
-              xfer += iprot->readString(this->filePath[_i522]);
+              xfer += iprot->readString(this->filePath[_i533]);
             }
             xfer += iprot->readListEnd();
           }
@@ -10265,9 +11083,9 @@ uint32_t Hawk_watchModelChanges_args::read(::apache::thrift::protocol::TProtocol
         break;
       case 5:
         if (ftype == ::apache::thrift::protocol::T_I32) {
-          int32_t ecast523;
-          xfer += iprot->readI32(ecast523);
-          this->durableEvents = (SubscriptionDurability::type)ecast523;
+          int32_t ecast534;
+          xfer += iprot->readI32(ecast534);
+          this->durableEvents = (SubscriptionDurability::type)ecast534;
           isset_durableEvents = true;
         } else {
           xfer += iprot->skip(ftype);
@@ -10311,10 +11129,10 @@ uint32_t Hawk_watchModelChanges_args::write(::apache::thrift::protocol::TProtoco
   xfer += oprot->writeFieldBegin("filePath", ::apache::thrift::protocol::T_LIST, 3);
   {
     xfer += oprot->writeListBegin(::apache::thrift::protocol::T_STRING, static_cast<uint32_t>(this->filePath.size()));
-    std::vector<std::string> ::const_iterator _iter524;
-    for (_iter524 = this->filePath.begin(); _iter524 != this->filePath.end(); ++_iter524)
+    std::vector<std::string> ::const_iterator _iter535;
+    for (_iter535 = this->filePath.begin(); _iter535 != this->filePath.end(); ++_iter535)
     {
-      xfer += oprot->writeString((*_iter524));
+      xfer += oprot->writeString((*_iter535));
     }
     xfer += oprot->writeListEnd();
   }
@@ -10354,10 +11172,10 @@ uint32_t Hawk_watchModelChanges_pargs::write(::apache::thrift::protocol::TProtoc
   xfer += oprot->writeFieldBegin("filePath", ::apache::thrift::protocol::T_LIST, 3);
   {
     xfer += oprot->writeListBegin(::apache::thrift::protocol::T_STRING, static_cast<uint32_t>((*(this->filePath)).size()));
-    std::vector<std::string> ::const_iterator _iter525;
-    for (_iter525 = (*(this->filePath)).begin(); _iter525 != (*(this->filePath)).end(); ++_iter525)
+    std::vector<std::string> ::const_iterator _iter536;
+    for (_iter536 = (*(this->filePath)).begin(); _iter536 != (*(this->filePath)).end(); ++_iter536)
     {
-      xfer += oprot->writeString((*_iter525));
+      xfer += oprot->writeString((*_iter536));
     }
     xfer += oprot->writeListEnd();
   }
@@ -11592,7 +12410,219 @@ void HawkClient::send_timedQuery(const std::string& name, const std::string& que
   oprot_->getTransport()->flush();
 }
 
-void HawkClient::recv_timedQuery(QueryReport& _return)
+void HawkClient::recv_timedQuery(QueryReport& _return)
+{
+
+  int32_t rseqid = 0;
+  std::string fname;
+  ::apache::thrift::protocol::TMessageType mtype;
+
+  iprot_->readMessageBegin(fname, mtype, rseqid);
+  if (mtype == ::apache::thrift::protocol::T_EXCEPTION) {
+    ::apache::thrift::TApplicationException x;
+    x.read(iprot_);
+    iprot_->readMessageEnd();
+    iprot_->getTransport()->readEnd();
+    throw x;
+  }
+  if (mtype != ::apache::thrift::protocol::T_REPLY) {
+    iprot_->skip(::apache::thrift::protocol::T_STRUCT);
+    iprot_->readMessageEnd();
+    iprot_->getTransport()->readEnd();
+  }
+  if (fname.compare("timedQuery") != 0) {
+    iprot_->skip(::apache::thrift::protocol::T_STRUCT);
+    iprot_->readMessageEnd();
+    iprot_->getTransport()->readEnd();
+  }
+  Hawk_timedQuery_presult result;
+  result.success = &_return;
+  result.read(iprot_);
+  iprot_->readMessageEnd();
+  iprot_->getTransport()->readEnd();
+
+  if (result.__isset.success) {
+    // _return pointer has now been filled
+    return;
+  }
+  if (result.__isset.err1) {
+    throw result.err1;
+  }
+  if (result.__isset.err2) {
+    throw result.err2;
+  }
+  if (result.__isset.err3) {
+    throw result.err3;
+  }
+  if (result.__isset.err4) {
+    throw result.err4;
+  }
+  if (result.__isset.err5) {
+    throw result.err5;
+  }
+  throw ::apache::thrift::TApplicationException(::apache::thrift::TApplicationException::MISSING_RESULT, "timedQuery failed: unknown result");
+}
+
+void HawkClient::resolveProxies(std::vector<ModelElement> & _return, const std::string& name, const std::vector<std::string> & ids, const HawkQueryOptions& options)
+{
+  send_resolveProxies(name, ids, options);
+  recv_resolveProxies(_return);
+}
+
+void HawkClient::send_resolveProxies(const std::string& name, const std::vector<std::string> & ids, const HawkQueryOptions& options)
+{
+  int32_t cseqid = 0;
+  oprot_->writeMessageBegin("resolveProxies", ::apache::thrift::protocol::T_CALL, cseqid);
+
+  Hawk_resolveProxies_pargs args;
+  args.name = &name;
+  args.ids = &ids;
+  args.options = &options;
+  args.write(oprot_);
+
+  oprot_->writeMessageEnd();
+  oprot_->getTransport()->writeEnd();
+  oprot_->getTransport()->flush();
+}
+
+void HawkClient::recv_resolveProxies(std::vector<ModelElement> & _return)
+{
+
+  int32_t rseqid = 0;
+  std::string fname;
+  ::apache::thrift::protocol::TMessageType mtype;
+
+  iprot_->readMessageBegin(fname, mtype, rseqid);
+  if (mtype == ::apache::thrift::protocol::T_EXCEPTION) {
+    ::apache::thrift::TApplicationException x;
+    x.read(iprot_);
+    iprot_->readMessageEnd();
+    iprot_->getTransport()->readEnd();
+    throw x;
+  }
+  if (mtype != ::apache::thrift::protocol::T_REPLY) {
+    iprot_->skip(::apache::thrift::protocol::T_STRUCT);
+    iprot_->readMessageEnd();
+    iprot_->getTransport()->readEnd();
+  }
+  if (fname.compare("resolveProxies") != 0) {
+    iprot_->skip(::apache::thrift::protocol::T_STRUCT);
+    iprot_->readMessageEnd();
+    iprot_->getTransport()->readEnd();
+  }
+  Hawk_resolveProxies_presult result;
+  result.success = &_return;
+  result.read(iprot_);
+  iprot_->readMessageEnd();
+  iprot_->getTransport()->readEnd();
+
+  if (result.__isset.success) {
+    // _return pointer has now been filled
+    return;
+  }
+  if (result.__isset.err1) {
+    throw result.err1;
+  }
+  if (result.__isset.err2) {
+    throw result.err2;
+  }
+  throw ::apache::thrift::TApplicationException(::apache::thrift::TApplicationException::MISSING_RESULT, "resolveProxies failed: unknown result");
+}
+
+void HawkClient::asyncQuery(std::string& _return, const std::string& name, const std::string& query, const std::string& language, const HawkQueryOptions& options)
+{
+  send_asyncQuery(name, query, language, options);
+  recv_asyncQuery(_return);
+}
+
+void HawkClient::send_asyncQuery(const std::string& name, const std::string& query, const std::string& language, const HawkQueryOptions& options)
+{
+  int32_t cseqid = 0;
+  oprot_->writeMessageBegin("asyncQuery", ::apache::thrift::protocol::T_CALL, cseqid);
+
+  Hawk_asyncQuery_pargs args;
+  args.name = &name;
+  args.query = &query;
+  args.language = &language;
+  args.options = &options;
+  args.write(oprot_);
+
+  oprot_->writeMessageEnd();
+  oprot_->getTransport()->writeEnd();
+  oprot_->getTransport()->flush();
+}
+
+void HawkClient::recv_asyncQuery(std::string& _return)
+{
+
+  int32_t rseqid = 0;
+  std::string fname;
+  ::apache::thrift::protocol::TMessageType mtype;
+
+  iprot_->readMessageBegin(fname, mtype, rseqid);
+  if (mtype == ::apache::thrift::protocol::T_EXCEPTION) {
+    ::apache::thrift::TApplicationException x;
+    x.read(iprot_);
+    iprot_->readMessageEnd();
+    iprot_->getTransport()->readEnd();
+    throw x;
+  }
+  if (mtype != ::apache::thrift::protocol::T_REPLY) {
+    iprot_->skip(::apache::thrift::protocol::T_STRUCT);
+    iprot_->readMessageEnd();
+    iprot_->getTransport()->readEnd();
+  }
+  if (fname.compare("asyncQuery") != 0) {
+    iprot_->skip(::apache::thrift::protocol::T_STRUCT);
+    iprot_->readMessageEnd();
+    iprot_->getTransport()->readEnd();
+  }
+  Hawk_asyncQuery_presult result;
+  result.success = &_return;
+  result.read(iprot_);
+  iprot_->readMessageEnd();
+  iprot_->getTransport()->readEnd();
+
+  if (result.__isset.success) {
+    // _return pointer has now been filled
+    return;
+  }
+  if (result.__isset.err1) {
+    throw result.err1;
+  }
+  if (result.__isset.err2) {
+    throw result.err2;
+  }
+  if (result.__isset.err3) {
+    throw result.err3;
+  }
+  if (result.__isset.err4) {
+    throw result.err4;
+  }
+  throw ::apache::thrift::TApplicationException(::apache::thrift::TApplicationException::MISSING_RESULT, "asyncQuery failed: unknown result");
+}
+
+void HawkClient::cancelAsyncQuery(const std::string& queryID)
+{
+  send_cancelAsyncQuery(queryID);
+  recv_cancelAsyncQuery();
+}
+
+void HawkClient::send_cancelAsyncQuery(const std::string& queryID)
+{
+  int32_t cseqid = 0;
+  oprot_->writeMessageBegin("cancelAsyncQuery", ::apache::thrift::protocol::T_CALL, cseqid);
+
+  Hawk_cancelAsyncQuery_pargs args;
+  args.queryID = &queryID;
+  args.write(oprot_);
+
+  oprot_->writeMessageEnd();
+  oprot_->getTransport()->writeEnd();
+  oprot_->getTransport()->flush();
+}
+
+void HawkClient::recv_cancelAsyncQuery()
 {
 
   int32_t rseqid = 0;
@@ -11612,54 +12642,35 @@ void HawkClient::recv_timedQuery(QueryReport& _return)
     iprot_->readMessageEnd();
     iprot_->getTransport()->readEnd();
   }
-  if (fname.compare("timedQuery") != 0) {
+  if (fname.compare("cancelAsyncQuery") != 0) {
     iprot_->skip(::apache::thrift::protocol::T_STRUCT);
     iprot_->readMessageEnd();
     iprot_->getTransport()->readEnd();
   }
-  Hawk_timedQuery_presult result;
-  result.success = &_return;
+  Hawk_cancelAsyncQuery_presult result;
   result.read(iprot_);
   iprot_->readMessageEnd();
   iprot_->getTransport()->readEnd();
 
-  if (result.__isset.success) {
-    // _return pointer has now been filled
-    return;
-  }
   if (result.__isset.err1) {
     throw result.err1;
   }
-  if (result.__isset.err2) {
-    throw result.err2;
-  }
-  if (result.__isset.err3) {
-    throw result.err3;
-  }
-  if (result.__isset.err4) {
-    throw result.err4;
-  }
-  if (result.__isset.err5) {
-    throw result.err5;
-  }
-  throw ::apache::thrift::TApplicationException(::apache::thrift::TApplicationException::MISSING_RESULT, "timedQuery failed: unknown result");
+  return;
 }
 
-void HawkClient::resolveProxies(std::vector<ModelElement> & _return, const std::string& name, const std::vector<std::string> & ids, const HawkQueryOptions& options)
+void HawkClient::fetchAsyncQueryResults(QueryReport& _return, const std::string& queryID)
 {
-  send_resolveProxies(name, ids, options);
-  recv_resolveProxies(_return);
+  send_fetchAsyncQueryResults(queryID);
+  recv_fetchAsyncQueryResults(_return);
 }
 
-void HawkClient::send_resolveProxies(const std::string& name, const std::vector<std::string> & ids, const HawkQueryOptions& options)
+void HawkClient::send_fetchAsyncQueryResults(const std::string& queryID)
 {
   int32_t cseqid = 0;
-  oprot_->writeMessageBegin("resolveProxies", ::apache::thrift::protocol::T_CALL, cseqid);
+  oprot_->writeMessageBegin("fetchAsyncQueryResults", ::apache::thrift::protocol::T_CALL, cseqid);
 
-  Hawk_resolveProxies_pargs args;
-  args.name = &name;
-  args.ids = &ids;
-  args.options = &options;
+  Hawk_fetchAsyncQueryResults_pargs args;
+  args.queryID = &queryID;
   args.write(oprot_);
 
   oprot_->writeMessageEnd();
@@ -11667,7 +12678,7 @@ void HawkClient::send_resolveProxies(const std::string& name, const std::vector<
   oprot_->getTransport()->flush();
 }
 
-void HawkClient::recv_resolveProxies(std::vector<ModelElement> & _return)
+void HawkClient::recv_fetchAsyncQueryResults(QueryReport& _return)
 {
 
   int32_t rseqid = 0;
@@ -11687,12 +12698,12 @@ void HawkClient::recv_resolveProxies(std::vector<ModelElement> & _return)
     iprot_->readMessageEnd();
     iprot_->getTransport()->readEnd();
   }
-  if (fname.compare("resolveProxies") != 0) {
+  if (fname.compare("fetchAsyncQueryResults") != 0) {
     iprot_->skip(::apache::thrift::protocol::T_STRUCT);
     iprot_->readMessageEnd();
     iprot_->getTransport()->readEnd();
   }
-  Hawk_resolveProxies_presult result;
+  Hawk_fetchAsyncQueryResults_presult result;
   result.success = &_return;
   result.read(iprot_);
   iprot_->readMessageEnd();
@@ -11708,21 +12719,21 @@ void HawkClient::recv_resolveProxies(std::vector<ModelElement> & _return)
   if (result.__isset.err2) {
     throw result.err2;
   }
-  throw ::apache::thrift::TApplicationException(::apache::thrift::TApplicationException::MISSING_RESULT, "resolveProxies failed: unknown result");
+  throw ::apache::thrift::TApplicationException(::apache::thrift::TApplicationException::MISSING_RESULT, "fetchAsyncQueryResults failed: unknown result");
 }
 
-void HawkClient::asyncQuery(std::string& _return, const std::string& name, const std::string& query, const std::string& language, const HawkQueryOptions& options)
+void HawkClient::openQueryCursor(std::string& _return, const std::string& name, const std::string& query, const std::string& language, const HawkQueryOptions& options)
 {
-  send_asyncQuery(name, query, language, options);
-  recv_asyncQuery(_return);
+  send_openQueryCursor(name, query, language, options);
+  recv_openQueryCursor(_return);
 }
 
-void HawkClient::send_asyncQuery(const std::string& name, const std::string& query, const std::string& language, const HawkQueryOptions& options)
+void HawkClient::send_openQueryCursor(const std::string& name, const std::string& query, const std::string& language, const HawkQueryOptions& options)
 {
   int32_t cseqid = 0;
-  oprot_->writeMessageBegin("asyncQuery", ::apache::thrift::protocol::T_CALL, cseqid);
+  oprot_->writeMessageBegin("openQueryCursor", ::apache::thrift::protocol::T_CALL, cseqid);
 
-  Hawk_asyncQuery_pargs args;
+  Hawk_openQueryCursor_pargs args;
   args.name = &name;
   args.query = &query;
   args.language = &language;
@@ -11734,7 +12745,7 @@ void HawkClient::send_asyncQuery(const std::string& name, const std::string& que
   oprot_->getTransport()->flush();
 }
 
-void HawkClient::recv_asyncQuery(std::string& _return)
+void HawkClient::recv_openQueryCursor(std::string& _return)
 {
 
   int32_t rseqid = 0;
@@ -11754,12 +12765,12 @@ void HawkClient::recv_asyncQuery(std::string& _return)
     iprot_->readMessageEnd();
     iprot_->getTransport()->readEnd();
   }
-  if (fname.compare("asyncQuery") != 0) {
+  if (fname.compare("openQueryCursor") != 0) {
     iprot_->skip(::apache::thrift::protocol::T_STRUCT);
     iprot_->readMessageEnd();
     iprot_->getTransport()->readEnd();
   }
-  Hawk_asyncQuery_presult result;
+  Hawk_openQueryCursor_presult result;
   result.success = &_return;
   result.read(iprot_);
   iprot_->readMessageEnd();
@@ -11781,22 +12792,26 @@ void HawkClient::recv_asyncQuery(std::string& _return)
   if (result.__isset.err4) {
     throw result.err4;
   }
-  throw ::apache::thrift::TApplicationException(::apache::thrift::TApplicationException::MISSING_RESULT, "asyncQuery failed: unknown result");
+  if (result.__isset.err5) {
+    throw result.err5;
+  }
+  throw ::apache::thrift::TApplicationException(::apache::thrift::TApplicationException::MISSING_RESULT, "openQueryCursor failed: unknown result");
 }
 
-void HawkClient::cancelAsyncQuery(const std::string& queryID)
+void HawkClient::fetchQueryCursor(std::vector<QueryResult> & _return, const std::string& cursorID, const int32_t pageSize)
 {
-  send_cancelAsyncQuery(queryID);
-  recv_cancelAsyncQuery();
+  send_fetchQueryCursor(cursorID, pageSize);
+  recv_fetchQueryCursor(_return);
 }
 
-void HawkClient::send_cancelAsyncQuery(const std::string& queryID)
+void HawkClient::send_fetchQueryCursor(const std::string& cursorID, const int32_t pageSize)
 {
   int32_t cseqid = 0;
-  oprot_->writeMessageBegin("cancelAsyncQuery", ::apache::thrift::protocol::T_CALL, cseqid);
+  oprot_->writeMessageBegin("fetchQueryCursor", ::apache::thrift::protocol::T_CALL, cseqid);
 
-  Hawk_cancelAsyncQuery_pargs args;
-  args.queryID = &queryID;
+  Hawk_fetchQueryCursor_pargs args;
+  args.cursorID = &cursorID;
+  args.pageSize = &pageSize;
   args.write(oprot_);
 
   oprot_->writeMessageEnd();
@@ -11804,7 +12819,7 @@ void HawkClient::send_cancelAsyncQuery(const std::string& queryID)
   oprot_->getTransport()->flush();
 }
 
-void HawkClient::recv_cancelAsyncQuery()
+void HawkClient::recv_fetchQueryCursor(std::vector<QueryResult> & _return)
 {
 
   int32_t rseqid = 0;
@@ -11824,35 +12839,43 @@ void HawkClient::recv_cancelAsyncQuery()
     iprot_->readMessageEnd();
     iprot_->getTransport()->readEnd();
   }
-  if (fname.compare("cancelAsyncQuery") != 0) {
+  if (fname.compare("fetchQueryCursor") != 0) {
     iprot_->skip(::apache::thrift::protocol::T_STRUCT);
     iprot_->readMessageEnd();
     iprot_->getTransport()->readEnd();
   }
-  Hawk_cancelAsyncQuery_presult result;
+  Hawk_fetchQueryCursor_presult result;
+  result.success = &_return;
   result.read(iprot_);
   iprot_->readMessageEnd();
   iprot_->getTransport()->readEnd();
 
+  if (result.__isset.success) {
+    // _return pointer has now been filled
+    return;
+  }
   if (result.__isset.err1) {
     throw result.err1;
   }
-  return;
+  if (result.__isset.err2) {
+    throw result.err2;
+  }
+  throw ::apache::thrift::TApplicationException(::apache::thrift::TApplicationException::MISSING_RESULT, "fetchQueryCursor failed: unknown result");
 }
 
-void HawkClient::fetchAsyncQueryResults(QueryReport& _return, const std::string& queryID)
+void HawkClient::closeQueryCursor(const std::string& cursorID)
 {
-  send_fetchAsyncQueryResults(queryID);
-  recv_fetchAsyncQueryResults(_return);
+  send_closeQueryCursor(cursorID);
+  recv_closeQueryCursor();
 }
 
-void HawkClient::send_fetchAsyncQueryResults(const std::string& queryID)
+void HawkClient::send_closeQueryCursor(const std::string& cursorID)
 {
   int32_t cseqid = 0;
-  oprot_->writeMessageBegin("fetchAsyncQueryResults", ::apache::thrift::protocol::T_CALL, cseqid);
+  oprot_->writeMessageBegin("closeQueryCursor", ::apache::thrift::protocol::T_CALL, cseqid);
 
-  Hawk_fetchAsyncQueryResults_pargs args;
-  args.queryID = &queryID;
+  Hawk_closeQueryCursor_pargs args;
+  args.cursorID = &cursorID;
   args.write(oprot_);
 
   oprot_->writeMessageEnd();
@@ -11860,7 +12883,7 @@ void HawkClient::send_fetchAsyncQueryResults(const std::string& queryID)
   oprot_->getTransport()->flush();
 }
 
-void HawkClient::recv_fetchAsyncQueryResults(QueryReport& _return)
+void HawkClient::recv_closeQueryCursor()
 {
 
   int32_t rseqid = 0;
@@ -11880,28 +12903,20 @@ void HawkClient::recv_fetchAsyncQueryResults(QueryReport& _return)
     iprot_->readMessageEnd();
     iprot_->getTransport()->readEnd();
   }
-  if (fname.compare("fetchAsyncQueryResults") != 0) {
+  if (fname.compare("closeQueryCursor") != 0) {
     iprot_->skip(::apache::thrift::protocol::T_STRUCT);
     iprot_->readMessageEnd();
     iprot_->getTransport()->readEnd();
   }
-  Hawk_fetchAsyncQueryResults_presult result;
-  result.success = &_return;
+  Hawk_closeQueryCursor_presult result;
   result.read(iprot_);
   iprot_->readMessageEnd();
   iprot_->getTransport()->readEnd();
 
-  if (result.__isset.success) {
-    // _return pointer has now been filled
-    return;
-  }
   if (result.__isset.err1) {
     throw result.err1;
   }
-  if (result.__isset.err2) {
-    throw result.err2;
-  }
-  throw ::apache::thrift::TApplicationException(::apache::thrift::TApplicationException::MISSING_RESULT, "fetchAsyncQueryResults failed: unknown result");
+  return;
 }
 
 void HawkClient::addRepository(const std::string& name, const Repository& repo, const Credentials& credentials)
@@ -14397,11 +15412,196 @@ void HawkProcessor::process_fetchAsyncQueryResults(int32_t seqid, ::apache::thri
     result.__isset.err2 = true;
   } catch (const std::exception& e) {
     if (this->eventHandler_.get() != NULL) {
-      this->eventHandler_->handlerError(ctx, "Hawk.fetchAsyncQueryResults");
+      this->eventHandler_->handlerError(ctx, "Hawk.fetchAsyncQueryResults");
+    }
+
+    ::apache::thrift::TApplicationException x(e.what());
+    oprot->writeMessageBegin("fetchAsyncQueryResults", ::apache::thrift::protocol::T_EXCEPTION, seqid);
+    x.write(oprot);
+    oprot->writeMessageEnd();
+    oprot->getTransport()->writeEnd();
+    oprot->getTransport()->flush();
+    return;
+  }
+
+  if (this->eventHandler_.get() != NULL) {
+    this->eventHandler_->preWrite(ctx, "Hawk.fetchAsyncQueryResults");
+  }
+
+  oprot->writeMessageBegin("fetchAsyncQueryResults", ::apache::thrift::protocol::T_REPLY, seqid);
+  result.write(oprot);
+  oprot->writeMessageEnd();
+  bytes = oprot->getTransport()->writeEnd();
+  oprot->getTransport()->flush();
+
+  if (this->eventHandler_.get() != NULL) {
+    this->eventHandler_->postWrite(ctx, "Hawk.fetchAsyncQueryResults", bytes);
+  }
+}
+
+void HawkProcessor::process_openQueryCursor(int32_t seqid, ::apache::thrift::protocol::TProtocol* iprot, ::apache::thrift::protocol::TProtocol* oprot, void* callContext)
+{
+  void* ctx = NULL;
+  if (this->eventHandler_.get() != NULL) {
+    ctx = this->eventHandler_->getContext("Hawk.openQueryCursor", callContext);
+  }
+  ::apache::thrift::TProcessorContextFreer freer(this->eventHandler_.get(), ctx, "Hawk.openQueryCursor");
+
+  if (this->eventHandler_.get() != NULL) {
+    this->eventHandler_->preRead(ctx, "Hawk.openQueryCursor");
+  }
+
+  Hawk_openQueryCursor_args args;
+  args.read(iprot);
+  iprot->readMessageEnd();
+  uint32_t bytes = iprot->getTransport()->readEnd();
+
+  if (this->eventHandler_.get() != NULL) {
+    this->eventHandler_->postRead(ctx, "Hawk.openQueryCursor", bytes);
+  }
+
+  Hawk_openQueryCursor_result result;
+  try {
+    iface_->openQueryCursor(result.success, args.name, args.query, args.language, args.options);
+    result.__isset.success = true;
+  } catch (HawkInstanceNotFound &err1) {
+    result.err1 = err1;
+    result.__isset.err1 = true;
+  } catch (HawkInstanceNotRunning &err2) {
+    result.err2 = err2;
+    result.__isset.err2 = true;
+  } catch (UnknownQueryLanguage &err3) {
+    result.err3 = err3;
+    result.__isset.err3 = true;
+  } catch (InvalidQuery &err4) {
+    result.err4 = err4;
+    result.__isset.err4 = true;
+  } catch (FailedQuery &err5) {
+    result.err5 = err5;
+    result.__isset.err5 = true;
+  } catch (const std::exception& e) {
+    if (this->eventHandler_.get() != NULL) {
+      this->eventHandler_->handlerError(ctx, "Hawk.openQueryCursor");
+    }
+
+    ::apache::thrift::TApplicationException x(e.what());
+    oprot->writeMessageBegin("openQueryCursor", ::apache::thrift::protocol::T_EXCEPTION, seqid);
+    x.write(oprot);
+    oprot->writeMessageEnd();
+    oprot->getTransport()->writeEnd();
+    oprot->getTransport()->flush();
+    return;
+  }
+
+  if (this->eventHandler_.get() != NULL) {
+    this->eventHandler_->preWrite(ctx, "Hawk.openQueryCursor");
+  }
+
+  oprot->writeMessageBegin("openQueryCursor", ::apache::thrift::protocol::T_REPLY, seqid);
+  result.write(oprot);
+  oprot->writeMessageEnd();
+  bytes = oprot->getTransport()->writeEnd();
+  oprot->getTransport()->flush();
+
+  if (this->eventHandler_.get() != NULL) {
+    this->eventHandler_->postWrite(ctx, "Hawk.openQueryCursor", bytes);
+  }
+}
+
+void HawkProcessor::process_fetchQueryCursor(int32_t seqid, ::apache::thrift::protocol::TProtocol* iprot, ::apache::thrift::protocol::TProtocol* oprot, void* callContext)
+{
+  void* ctx = NULL;
+  if (this->eventHandler_.get() != NULL) {
+    ctx = this->eventHandler_->getContext("Hawk.fetchQueryCursor", callContext);
+  }
+  ::apache::thrift::TProcessorContextFreer freer(this->eventHandler_.get(), ctx, "Hawk.fetchQueryCursor");
+
+  if (this->eventHandler_.get() != NULL) {
+    this->eventHandler_->preRead(ctx, "Hawk.fetchQueryCursor");
+  }
+
+  Hawk_fetchQueryCursor_args args;
+  args.read(iprot);
+  iprot->readMessageEnd();
+  uint32_t bytes = iprot->getTransport()->readEnd();
+
+  if (this->eventHandler_.get() != NULL) {
+    this->eventHandler_->postRead(ctx, "Hawk.fetchQueryCursor", bytes);
+  }
+
+  Hawk_fetchQueryCursor_result result;
+  try {
+    iface_->fetchQueryCursor(result.success, args.cursorID, args.pageSize);
+    result.__isset.success = true;
+  } catch (InvalidQuery &err1) {
+    result.err1 = err1;
+    result.__isset.err1 = true;
+  } catch (FailedQuery &err2) {
+    result.err2 = err2;
+    result.__isset.err2 = true;
+  } catch (const std::exception& e) {
+    if (this->eventHandler_.get() != NULL) {
+      this->eventHandler_->handlerError(ctx, "Hawk.fetchQueryCursor");
+    }
+
+    ::apache::thrift::TApplicationException x(e.what());
+    oprot->writeMessageBegin("fetchQueryCursor", ::apache::thrift::protocol::T_EXCEPTION, seqid);
+    x.write(oprot);
+    oprot->writeMessageEnd();
+    oprot->getTransport()->writeEnd();
+    oprot->getTransport()->flush();
+    return;
+  }
+
+  if (this->eventHandler_.get() != NULL) {
+    this->eventHandler_->preWrite(ctx, "Hawk.fetchQueryCursor");
+  }
+
+  oprot->writeMessageBegin("fetchQueryCursor", ::apache::thrift::protocol::T_REPLY, seqid);
+  result.write(oprot);
+  oprot->writeMessageEnd();
+  bytes = oprot->getTransport()->writeEnd();
+  oprot->getTransport()->flush();
+
+  if (this->eventHandler_.get() != NULL) {
+    this->eventHandler_->postWrite(ctx, "Hawk.fetchQueryCursor", bytes);
+  }
+}
+
+void HawkProcessor::process_closeQueryCursor(int32_t seqid, ::apache::thrift::protocol::TProtocol* iprot, ::apache::thrift::protocol::TProtocol* oprot, void* callContext)
+{
+  void* ctx = NULL;
+  if (this->eventHandler_.get() != NULL) {
+    ctx = this->eventHandler_->getContext("Hawk.closeQueryCursor", callContext);
+  }
+  ::apache::thrift::TProcessorContextFreer freer(this->eventHandler_.get(), ctx, "Hawk.closeQueryCursor");
+
+  if (this->eventHandler_.get() != NULL) {
+    this->eventHandler_->preRead(ctx, "Hawk.closeQueryCursor");
+  }
+
+  Hawk_closeQueryCursor_args args;
+  args.read(iprot);
+  iprot->readMessageEnd();
+  uint32_t bytes = iprot->getTransport()->readEnd();
+
+  if (this->eventHandler_.get() != NULL) {
+    this->eventHandler_->postRead(ctx, "Hawk.closeQueryCursor", bytes);
+  }
+
+  Hawk_closeQueryCursor_result result;
+  try {
+    iface_->closeQueryCursor(args.cursorID);
+  } catch (InvalidQuery &err1) {
+    result.err1 = err1;
+    result.__isset.err1 = true;
+  } catch (const std::exception& e) {
+    if (this->eventHandler_.get() != NULL) {
+      this->eventHandler_->handlerError(ctx, "Hawk.closeQueryCursor");
     }
 
     ::apache::thrift::TApplicationException x(e.what());
-    oprot->writeMessageBegin("fetchAsyncQueryResults", ::apache::thrift::protocol::T_EXCEPTION, seqid);
+    oprot->writeMessageBegin("closeQueryCursor", ::apache::thrift::protocol::T_EXCEPTION, seqid);
     x.write(oprot);
     oprot->writeMessageEnd();
     oprot->getTransport()->writeEnd();
@@ -14410,17 +15610,17 @@ void HawkProcessor::process_fetchAsyncQueryResults(int32_t seqid, ::apache::thri
   }
 
   if (this->eventHandler_.get() != NULL) {
-    this->eventHandler_->preWrite(ctx, "Hawk.fetchAsyncQueryResults");
+    this->eventHandler_->preWrite(ctx, "Hawk.closeQueryCursor");
   }
 
-  oprot->writeMessageBegin("fetchAsyncQueryResults", ::apache::thrift::protocol::T_REPLY, seqid);
+  oprot->writeMessageBegin("closeQueryCursor", ::apache::thrift::protocol::T_REPLY, seqid);
   result.write(oprot);
   oprot->writeMessageEnd();
   bytes = oprot->getTransport()->writeEnd();
   oprot->getTransport()->flush();
 
   if (this->eventHandler_.get() != NULL) {
-    this->eventHandler_->postWrite(ctx, "Hawk.fetchAsyncQueryResults", bytes);
+    this->eventHandler_->postWrite(ctx, "Hawk.closeQueryCursor", bytes);
   }
 }
 
@@ -17551,6 +18751,288 @@ void HawkConcurrentClient::recv_fetchAsyncQueryResults(QueryReport& _return, con
   } // end while(true)
 }
 
+void HawkConcurrentClient::openQueryCursor(std::string& _return, const std::string& name, const std::string& query, const std::string& language, const HawkQueryOptions& options)
+{
+  int32_t seqid = send_openQueryCursor(name, query, language, options);
+  recv_openQueryCursor(_return, seqid);
+}
+
+int32_t HawkConcurrentClient::send_openQueryCursor(const std::string& name, const std::string& query, const std::string& language, const HawkQueryOptions& options)
+{
+  int32_t cseqid = this->sync_.generateSeqId();
+  ::apache::thrift::async::TConcurrentSendSentry sentry(&this->sync_);
+  oprot_->writeMessageBegin("openQueryCursor", ::apache::thrift::protocol::T_CALL, cseqid);
+
+  Hawk_openQueryCursor_pargs args;
+  args.name = &name;
+  args.query = &query;
+  args.language = &language;
+  args.options = &options;
+  args.write(oprot_);
+
+  oprot_->writeMessageEnd();
+  oprot_->getTransport()->writeEnd();
+  oprot_->getTransport()->flush();
+
+  sentry.commit();
+  return cseqid;
+}
+
+void HawkConcurrentClient::recv_openQueryCursor(std::string& _return, const int32_t seqid)
+{
+
+  int32_t rseqid = 0;
+  std::string fname;
+  ::apache::thrift::protocol::TMessageType mtype;
+
+  // the read mutex gets dropped and reacquired as part of waitForWork()
+  // The destructor of this sentry wakes up other clients
+  ::apache::thrift::async::TConcurrentRecvSentry sentry(&this->sync_, seqid);
+
+  while(true) {
+    if(!this->sync_.getPending(fname, mtype, rseqid)) {
+      iprot_->readMessageBegin(fname, mtype, rseqid);
+    }
+    if(seqid == rseqid) {
+      if (mtype == ::apache::thrift::protocol::T_EXCEPTION) {
+        ::apache::thrift::TApplicationException x;
+        x.read(iprot_);
+        iprot_->readMessageEnd();
+        iprot_->getTransport()->readEnd();
+        sentry.commit();
+        throw x;
+      }
+      if (mtype != ::apache::thrift::protocol::T_REPLY) {
+        iprot_->skip(::apache::thrift::protocol::T_STRUCT);
+        iprot_->readMessageEnd();
+        iprot_->getTransport()->readEnd();
+      }
+      if (fname.compare("openQueryCursor") != 0) {
+        iprot_->skip(::apache::thrift::protocol::T_STRUCT);
+        iprot_->readMessageEnd();
+        iprot_->getTransport()->readEnd();
+
+        // in a bad state, don't commit
+        using ::apache::thrift::protocol::TProtocolException;
+        throw TProtocolException(TProtocolException::INVALID_DATA);
+      }
+      Hawk_openQueryCursor_presult result;
+      result.success = &_return;
+      result.read(iprot_);
+      iprot_->readMessageEnd();
+      iprot_->getTransport()->readEnd();
+
+      if (result.__isset.success) {
+        // _return pointer has now been filled
+        sentry.commit();
+        return;
+      }
+      if (result.__isset.err1) {
+        sentry.commit();
+        throw result.err1;
+      }
+      if (result.__isset.err2) {
+        sentry.commit();
+        throw result.err2;
+      }
+      if (result.__isset.err3) {
+        sentry.commit();
+        throw result.err3;
+      }
+      if (result.__isset.err4) {
+        sentry.commit();
+        throw result.err4;
+      }
+      if (result.__isset.err5) {
+        sentry.commit();
+        throw result.err5;
+      }
+      // in a bad state, don't commit
+      throw ::apache::thrift::TApplicationException(::apache::thrift::TApplicationException::MISSING_RESULT, "openQueryCursor failed: unknown result");
+    }
+    // seqid != rseqid
+    this->sync_.updatePending(fname, mtype, rseqid);
+
+    // this will temporarily unlock the readMutex, and let other clients get work done
+    this->sync_.waitForWork(seqid);
+  } // end while(true)
+}
+
+void HawkConcurrentClient::fetchQueryCursor(std::vector<QueryResult> & _return, const std::string& cursorID, const int32_t pageSize)
+{
+  int32_t seqid = send_fetchQueryCursor(cursorID, pageSize);
+  recv_fetchQueryCursor(_return, seqid);
+}
+
+int32_t HawkConcurrentClient::send_fetchQueryCursor(const std::string& cursorID, const int32_t pageSize)
+{
+  int32_t cseqid = this->sync_.generateSeqId();
+  ::apache::thrift::async::TConcurrentSendSentry sentry(&this->sync_);
+  oprot_->writeMessageBegin("fetchQueryCursor", ::apache::thrift::protocol::T_CALL, cseqid);
+
+  Hawk_fetchQueryCursor_pargs args;
+  args.cursorID = &cursorID;
+  args.pageSize = &pageSize;
+  args.write(oprot_);
+
+  oprot_->writeMessageEnd();
+  oprot_->getTransport()->writeEnd();
+  oprot_->getTransport()->flush();
+
+  sentry.commit();
+  return cseqid;
+}
+
+void HawkConcurrentClient::recv_fetchQueryCursor(std::vector<QueryResult> & _return, const int32_t seqid)
+{
+
+  int32_t rseqid = 0;
+  std::string fname;
+  ::apache::thrift::protocol::TMessageType mtype;
+
+  // the read mutex gets dropped and reacquired as part of waitForWork()
+  // The destructor of this sentry wakes up other clients
+  ::apache::thrift::async::TConcurrentRecvSentry sentry(&this->sync_, seqid);
+
+  while(true) {
+    if(!this->sync_.getPending(fname, mtype, rseqid)) {
+      iprot_->readMessageBegin(fname, mtype, rseqid);
+    }
+    if(seqid == rseqid) {
+      if (mtype == ::apache::thrift::protocol::T_EXCEPTION) {
+        ::apache::thrift::TApplicationException x;
+        x.read(iprot_);
+        iprot_->readMessageEnd();
+        iprot_->getTransport()->readEnd();
+        sentry.commit();
+        throw x;
+      }
+      if (mtype != ::apache::thrift::protocol::T_REPLY) {
+        iprot_->skip(::apache::thrift::protocol::T_STRUCT);
+        iprot_->readMessageEnd();
+        iprot_->getTransport()->readEnd();
+      }
+      if (fname.compare("fetchQueryCursor") != 0) {
+        iprot_->skip(::apache::thrift::protocol::T_STRUCT);
+        iprot_->readMessageEnd();
+        iprot_->getTransport()->readEnd();
+
+        // in a bad state, don't commit
+        using ::apache::thrift::protocol::TProtocolException;
+        throw TProtocolException(TProtocolException::INVALID_DATA);
+      }
+      Hawk_fetchQueryCursor_presult result;
+      result.success = &_return;
+      result.read(iprot_);
+      iprot_->readMessageEnd();
+      iprot_->getTransport()->readEnd();
+
+      if (result.__isset.success) {
+        // _return pointer has now been filled
+        sentry.commit();
+        return;
+      }
+      if (result.__isset.err1) {
+        sentry.commit();
+        throw result.err1;
+      }
+      if (result.__isset.err2) {
+        sentry.commit();
+        throw result.err2;
+      }
+      // in a bad state, don't commit
+      throw ::apache::thrift::TApplicationException(::apache::thrift::TApplicationException::MISSING_RESULT, "fetchQueryCursor failed: unknown result");
+    }
+    // seqid != rseqid
+    this->sync_.updatePending(fname, mtype, rseqid);
+
+    // this will temporarily unlock the readMutex, and let other clients get work done
+    this->sync_.waitForWork(seqid);
+  } // end while(true)
+}
+
+void HawkConcurrentClient::closeQueryCursor(const std::string& cursorID)
+{
+  int32_t seqid = send_closeQueryCursor(cursorID);
+  recv_closeQueryCursor(seqid);
+}
+
+int32_t HawkConcurrentClient::send_closeQueryCursor(const std::string& cursorID)
+{
+  int32_t cseqid = this->sync_.generateSeqId();
+  ::apache::thrift::async::TConcurrentSendSentry sentry(&this->sync_);
+  oprot_->writeMessageBegin("closeQueryCursor", ::apache::thrift::protocol::T_CALL, cseqid);
+
+  Hawk_closeQueryCursor_pargs args;
+  args.cursorID = &cursorID;
+  args.write(oprot_);
+
+  oprot_->writeMessageEnd();
+  oprot_->getTransport()->writeEnd();
+  oprot_->getTransport()->flush();
+
+  sentry.commit();
+  return cseqid;
+}
+
+void HawkConcurrentClient::recv_closeQueryCursor(const int32_t seqid)
+{
+
+  int32_t rseqid = 0;
+  std::string fname;
+  ::apache::thrift::protocol::TMessageType mtype;
+
+  // the read mutex gets dropped and reacquired as part of waitForWork()
+  // The destructor of this sentry wakes up other clients
+  ::apache::thrift::async::TConcurrentRecvSentry sentry(&this->sync_, seqid);
+
+  while(true) {
+    if(!this->sync_.getPending(fname, mtype, rseqid)) {
+      iprot_->readMessageBegin(fname, mtype, rseqid);
+    }
+    if(seqid == rseqid) {
+      if (mtype == ::apache::thrift::protocol::T_EXCEPTION) {
+        ::apache::thrift::TApplicationException x;
+        x.read(iprot_);
+        iprot_->readMessageEnd();
+        iprot_->getTransport()->readEnd();
+        sentry.commit();
+        throw x;
+      }
+      if (mtype != ::apache::thrift::protocol::T_REPLY) {
+        iprot_->skip(::apache::thrift::protocol::T_STRUCT);
+        iprot_->readMessageEnd();
+        iprot_->getTransport()->readEnd();
+      }
+      if (fname.compare("closeQueryCursor") != 0) {
+        iprot_->skip(::apache::thrift::protocol::T_STRUCT);
+        iprot_->readMessageEnd();
+        iprot_->getTransport()->readEnd();
+
+        // in a bad state, don't commit
+        using ::apache::thrift::protocol::TProtocolException;
+        throw TProtocolException(TProtocolException::INVALID_DATA);
+      }
+      Hawk_closeQueryCursor_presult result;
+      result.read(iprot_);
+      iprot_->readMessageEnd();
+      iprot_->getTransport()->readEnd();
+
+      if (result.__isset.err1) {
+        sentry.commit();
+        throw result.err1;
+      }
+      sentry.commit();
+      return;
+    }
+    // seqid != rseqid
+    this->sync_.updatePending(fname, mtype, rseqid);
+
+    // this will temporarily unlock the readMutex, and let other clients get work done
+    this->sync_.waitForWork(seqid);
+  } // end while(true)
+}
+
 void HawkConcurrentClient::addRepository(const std::string& name, const Repository& repo, const Credentials& credentials)
 {
   int32_t seqid = send_addRepository(name, repo, credentials);
@@ -43,6 +43,9 @@ class HawkIf {
   virtual void asyncQuery(std::string& _return, const std::string& name, const std::string& query, const std::string& language, const HawkQueryOptions& options) = 0;
   virtual void cancelAsyncQuery(const std::string& queryID) = 0;
   virtual void fetchAsyncQueryResults(QueryReport& _return, const std::string& queryID) = 0;
+  virtual void openQueryCursor(std::string& _return, const std::string& name, const std::string& query, const std::string& language, const HawkQueryOptions& options) = 0;
+  virtual void fetchQueryCursor(std::vector<QueryResult> & _return, const std::string& cursorID, const int32_t pageSize) = 0;
+  virtual void closeQueryCursor(const std::string& cursorID) = 0;
   virtual void addRepository(const std::string& name, const Repository& repo, const Credentials& credentials) = 0;
   virtual bool isFrozen(const std::string& name, const std::string& uri) = 0;
   virtual void setFrozen(const std::string& name, const std::string& uri, const bool isFrozen) = 0;
@@ -157,6 +160,15 @@ class HawkNull : virtual public HawkIf {
   void fetchAsyncQueryResults(QueryReport& /* _return */, const std::string& /* queryID */) {
     return;
   }
+  void openQueryCursor(std::string& /* _return */, const std::string& /* name */, const std::string& /* query */, const std::string& /* language */, const HawkQueryOptions& /* options */) {
+    return;
+  }
+  void fetchQueryCursor(std::vector<QueryResult> & /* _return */, const std::string& /* cursorID */, const int32_t /* pageSize */) {
+    return;
+  }
+  void closeQueryCursor(const std::string& /* cursorID */) {
+    return;
+  }
   void addRepository(const std::string& /* name */, const Repository& /* repo */, const Credentials& /* credentials */) {
     return;
   }
@@ -2766,6 +2778,380 @@ class Hawk_fetchAsyncQueryResults_presult {
 
 };
 
+
+class Hawk_openQueryCursor_args {
+ public:
+
+  Hawk_openQueryCursor_args(const Hawk_openQueryCursor_args&);
+  Hawk_openQueryCursor_args& operator=(const Hawk_openQueryCursor_args&);
+  Hawk_openQueryCursor_args() : name(), query(), language() {
+  }
+
+  virtual ~Hawk_openQueryCursor_args() throw();
+  std::string name;
+  std::string query;
+  std::string language;
+  HawkQueryOptions options;
+
+  void __set_name(const std::string& val);
+
+  void __set_query(const std::string& val);
+
+  void __set_language(const std::string& val);
+
+  void __set_options(const HawkQueryOptions& val);
+
+  bool operator == (const Hawk_openQueryCursor_args & rhs) const
+  {
+    if (!(name == rhs.name))
+      return false;
+    if (!(query == rhs.query))
+      return false;
+    if (!(language == rhs.language))
+      return false;
+    if (!(options == rhs.options))
+      return false;
+    return true;
+  }
+  bool operator != (const Hawk_openQueryCursor_args &rhs) const {
+    return !(*this == rhs);
+  }
+
+  bool operator < (const Hawk_openQueryCursor_args & ) const;
+
+  uint32_t read(::apache::thrift::protocol::TProtocol* iprot);
+  uint32_t write(::apache::thrift::protocol::TProtocol* oprot) const;
+
+};
+
+
+class Hawk_openQueryCursor_pargs {
+ public:
+
+
+  virtual ~Hawk_openQueryCursor_pargs() throw();
+  const std::string* name;
+  const std::string* query;
+  const std::string* language;
+  const HawkQueryOptions* options;
+
+  uint32_t write(::apache::thrift::protocol::TProtocol* oprot) const;
+
+};
+
+typedef struct _Hawk_openQueryCursor_result__isset {
+  _Hawk_openQueryCursor_result__isset() : success(false), err1(false), err2(false), err3(false), err4(false), err5(false) {}
+  bool success :1;
+  bool err1 :1;
+  bool err2 :1;
+  bool err3 :1;
+  bool err4 :1;
+  bool err5 :1;
+} _Hawk_openQueryCursor_result__isset;
+
+class Hawk_openQueryCursor_result {
+ public:
+
+  Hawk_openQueryCursor_result(const Hawk_openQueryCursor_result&);
+  Hawk_openQueryCursor_result& operator=(const Hawk_openQueryCursor_result&);
+  Hawk_openQueryCursor_result() : success() {
+  }
+
+  virtual ~Hawk_openQueryCursor_result() throw();
+  std::string success;
+  HawkInstanceNotFound err1;
+  HawkInstanceNotRunning err2;
+  UnknownQueryLanguage err3;
+  InvalidQuery err4;
+  FailedQuery err5;
+
+  _Hawk_openQueryCursor_result__isset __isset;
+
+  void __set_success(const std::string& val);
+
+  void __set_err1(const HawkInstanceNotFound& val);
+
+  void __set_err2(const HawkInstanceNotRunning& val);
+
+  void __set_err3(const UnknownQueryLanguage& val);
+
+  void __set_err4(const InvalidQuery& val);
+
+  void __set_err5(const FailedQuery& val);
+
+  bool operator == (const Hawk_openQueryCursor_result & rhs) const
+  {
+    if (!(success == rhs.success))
+      return false;
+    if (!(err1 == rhs.err1))
+      return false;
+    if (!(err2 == rhs.err2))
+      return false;
+    if (!(err3 == rhs.err3))
+      return false;
+    if (!(err4 == rhs.err4))
+      return false;
+    if (!(err5 == rhs.err5))
+      return false;
+    return true;
+  }
+  bool operator != (const Hawk_openQueryCursor_result &rhs) const {
+    return !(*this == rhs);
+  }
+
+  bool operator < (const Hawk_openQueryCursor_result & ) const;
+
+  uint32_t read(::apache::thrift::protocol::TProtocol* iprot);
+  uint32_t write(::apache::thrift::protocol::TProtocol* oprot) const;
+
+};
+
+typedef struct _Hawk_openQueryCursor_presult__isset {
+  _Hawk_openQueryCursor_presult__isset() : success(false), err1(false), err2(false), err3(false), err4(false), err5(false) {}
+  bool success :1;
+  bool err1 :1;
+  bool err2 :1;
+  bool err3 :1;
+  bool err4 :1;
+  bool err5 :1;
+} _Hawk_openQueryCursor_presult__isset;
+
+class Hawk_openQueryCursor_presult {
+ public:
+
+
+  virtual ~Hawk_openQueryCursor_presult() throw();
+  std::string* success;
+  HawkInstanceNotFound err1;
+  HawkInstanceNotRunning err2;
+  UnknownQueryLanguage err3;
+  InvalidQuery err4;
+  FailedQuery err5;
+
+  _Hawk_openQueryCursor_presult__isset __isset;
+
+  uint32_t read(::apache::thrift::protocol::TProtocol* iprot);
+
+};
+
+
+class Hawk_fetchQueryCursor_args {
+ public:
+
+  Hawk_fetchQueryCursor_args(const Hawk_fetchQueryCursor_args&);
+  Hawk_fetchQueryCursor_args& operator=(const Hawk_fetchQueryCursor_args&);
+  Hawk_fetchQueryCursor_args() : cursorID(), pageSize(0) {
+  }
+
+  virtual ~Hawk_fetchQueryCursor_args() throw();
+  std::string cursorID;
+  int32_t pageSize;
+
+  void __set_cursorID(const std::string& val);
+
+  void __set_pageSize(const int32_t val);
+
+  bool operator == (const Hawk_fetchQueryCursor_args & rhs) const
+  {
+    if (!(cursorID == rhs.cursorID))
+      return false;
+    if (!(pageSize == rhs.pageSize))
+      return false;
+    return true;
+  }
+  bool operator != (const Hawk_fetchQueryCursor_args &rhs) const {
+    return !(*this == rhs);
+  }
+
+  bool operator < (const Hawk_fetchQueryCursor_args & ) const;
+
+  uint32_t read(::apache::thrift::protocol::TProtocol* iprot);
+  uint32_t write(::apache::thrift::protocol::TProtocol* oprot) const;
+
+};
+
+
+class Hawk_fetchQueryCursor_pargs {
+ public:
+
+
+  virtual ~Hawk_fetchQueryCursor_pargs() throw();
+  const std::string* cursorID;
+  const int32_t* pageSize;
+
+  uint32_t write(::apache::thrift::protocol::TProtocol* oprot) const;
+
+};
+
+typedef struct _Hawk_fetchQueryCursor_result__isset {
+  _Hawk_fetchQueryCursor_result__isset() : success(false), err1(false), err2(false) {}
+  bool success :1;
+  bool err1 :1;
+  bool err2 :1;
+} _Hawk_fetchQueryCursor_result__isset;
+
+class Hawk_fetchQueryCursor_result {
+ public:
+
+  Hawk_fetchQueryCursor_result(const Hawk_fetchQueryCursor_result&);
+  Hawk_fetchQueryCursor_result& operator=(const Hawk_fetchQueryCursor_result&);
+  Hawk_fetchQueryCursor_result() {
+  }
+
+  virtual ~Hawk_fetchQueryCursor_result() throw();
+  std::vector<QueryResult>  success;
+  InvalidQuery err1;
+  FailedQuery err2;
+
+  _Hawk_fetchQueryCursor_result__isset __isset;
+
+  void __set_success(const std::vector<QueryResult> & val);
+
+  void __set_err1(const InvalidQuery& val);
+
+  void __set_err2(const FailedQuery& val);
+
+  bool operator == (const Hawk_fetchQueryCursor_result & rhs) const
+  {
+    if (!(success == rhs.success))
+      return false;
+    if (!(err1 == rhs.err1))
+      return false;
+    if (!(err2 == rhs.err2))
+      return false;
+    return true;
+  }
+  bool operator != (const Hawk_fetchQueryCursor_result &rhs) const {
+    return !(*this == rhs);
+  }
+
+  bool operator < (const Hawk_fetchQueryCursor_result & ) const;
+
+  uint32_t read(::apache::thrift::protocol::TProtocol* iprot);
+  uint32_t write(::apache::thrift::protocol::TProtocol* oprot) const;
+
+};
+
+typedef struct _Hawk_fetchQueryCursor_presult__isset {
+  _Hawk_fetchQueryCursor_presult__isset() : success(false), err1(false), err2(false) {}
+  bool success :1;
+  bool err1 :1;
+  bool err2 :1;
+} _Hawk_fetchQueryCursor_presult__isset;
+
+class Hawk_fetchQueryCursor_presult {
+ public:
+
+
+  virtual ~Hawk_fetchQueryCursor_presult() throw();
+  std::vector<QueryResult> * success;
+  InvalidQuery err1;
+  FailedQuery err2;
+
+  _Hawk_fetchQueryCursor_presult__isset __isset;
+
+  uint32_t read(::apache::thrift::protocol::TProtocol* iprot);
+
+};
+
+
+class Hawk_closeQueryCursor_args {
+ public:
+
+  Hawk_closeQueryCursor_args(const Hawk_closeQueryCursor_args&);
+  Hawk_closeQueryCursor_args& operator=(const Hawk_closeQueryCursor_args&);
+  Hawk_closeQueryCursor_args() : cursorID() {
+  }
+
+  virtual ~Hawk_closeQueryCursor_args() throw();
+  std::string cursorID;
+
+  void __set_cursorID(const std::string& val);
+
+  bool operator == (const Hawk_closeQueryCursor_args & rhs) const
+  {
+    if (!(cursorID == rhs.cursorID))
+      return false;
+    return true;
+  }
+  bool operator != (const Hawk_closeQueryCursor_args &rhs) const {
+    return !(*this == rhs);
+  }
+
+  bool operator < (const Hawk_closeQueryCursor_args & ) const;
+
+  uint32_t read(::apache::thrift::protocol::TProtocol* iprot);
+  uint32_t write(::apache::thrift::protocol::TProtocol* oprot) const;
+
+};
+
+
+class Hawk_closeQueryCursor_pargs {
+ public:
+
+
+  virtual ~Hawk_closeQueryCursor_pargs() throw();
+  const std::string* cursorID;
+
+  uint32_t write(::apache::thrift::protocol::TProtocol* oprot) const;
+
+};
+
+typedef struct _Hawk_closeQueryCursor_result__isset {
+  _Hawk_closeQueryCursor_result__isset() : err1(false) {}
+  bool err1 :1;
+} _Hawk_closeQueryCursor_result__isset;
+
+class Hawk_closeQueryCursor_result {
+ public:
+
+  Hawk_closeQueryCursor_result(const Hawk_closeQueryCursor_result&);
+  Hawk_closeQueryCursor_result& operator=(const Hawk_closeQueryCursor_result&);
+  Hawk_closeQueryCursor_result() {
+  }
+
+  virtual ~Hawk_closeQueryCursor_result() throw();
+  InvalidQuery err1;
+
+  _Hawk_closeQueryCursor_result__isset __isset;
+
+  void __set_err1(const InvalidQuery& val);
+
+  bool operator == (const Hawk_closeQueryCursor_result & rhs) const
+  {
+    if (!(err1 == rhs.err1))
+      return false;
+    return true;
+  }
+  bool operator != (const Hawk_closeQueryCursor_result &rhs) const {
+    return !(*this == rhs);
+  }
+
+  bool operator < (const Hawk_closeQueryCursor_result & ) const;
+
+  uint32_t read(::apache::thrift::protocol::TProtocol* iprot);
+  uint32_t write(::apache::thrift::protocol::TProtocol* oprot) const;
+
+};
+
+typedef struct _Hawk_closeQueryCursor_presult__isset {
+  _Hawk_closeQueryCursor_presult__isset() : err1(false) {}
+  bool err1 :1;
+} _Hawk_closeQueryCursor_presult__isset;
+
+class Hawk_closeQueryCursor_presult {
+ public:
+
+
+  virtual ~Hawk_closeQueryCursor_presult() throw();
+  InvalidQuery err1;
+
+  _Hawk_closeQueryCursor_presult__isset __isset;
+
+  uint32_t read(::apache::thrift::protocol::TProtocol* iprot);
+
+};
+
 typedef struct _Hawk_addRepository_args__isset {
   _Hawk_addRepository_args__isset() : credentials(false) {}
   bool credentials :1;
@@ -5091,6 +5477,15 @@ class HawkClient : virtual public HawkIf {
   void fetchAsyncQueryResults(QueryReport& _return, const std::string& queryID);
   void send_fetchAsyncQueryResults(const std::string& queryID);
   void recv_fetchAsyncQueryResults(QueryReport& _return);
+  void openQueryCursor(std::string& _return, const std::string& name, const std::string& query, const std::string& language, const HawkQueryOptions& options);
+  void send_openQueryCursor(const std::string& name, const std::string& query, const std::string& language, const HawkQueryOptions& options);
+  void recv_openQueryCursor(std::string& _return);
+  void fetchQueryCursor(std::vector<QueryResult> & _return, const std::string& cursorID, const int32_t pageSize);
+  void send_fetchQueryCursor(const std::string& cursorID, const int32_t pageSize);
+  void recv_fetchQueryCursor(std::vector<QueryResult> & _return);
+  void closeQueryCursor(const std::string& cursorID);
+  void send_closeQueryCursor(const std::string& cursorID);
+  void recv_closeQueryCursor();
   void addRepository(const std::string& name, const Repository& repo, const Credentials& credentials);
   void send_addRepository(const std::string& name, const Repository& repo, const Credentials& credentials);
   void recv_addRepository();
@@ -5185,6 +5580,9 @@ class HawkProcessor : public ::apache::thrift::TDispatchProcessor {
   void process_asyncQuery(int32_t seqid, ::apache::thrift::protocol::TProtocol* iprot, ::apache::thrift::protocol::TProtocol* oprot, void* callContext);
   void process_cancelAsyncQuery(int32_t seqid, ::apache::thrift::protocol::TProtocol* iprot, ::apache::thrift::protocol::TProtocol* oprot, void* callContext);
   void process_fetchAsyncQueryResults(int32_t seqid, ::apache::thrift::protocol::TProtocol* iprot, ::apache::thrift::protocol::TProtocol* oprot, void* callContext);
+  void process_openQueryCursor(int32_t seqid, ::apache::thrift::protocol::TProtocol* iprot, ::apache::thrift::protocol::TProtocol* oprot, void* callContext);
+  void process_fetchQueryCursor(int32_t seqid, ::apache::thrift::protocol::TProtocol* iprot, ::apache::thrift::protocol::TProtocol* oprot, void* callContext);
+  void process_closeQueryCursor(int32_t seqid, ::apache::thrift::protocol::TProtocol* iprot, ::apache::thrift::protocol::TProtocol* oprot, void* callContext);
   void process_addRepository(int32_t seqid, ::apache::thrift::protocol::TProtocol* iprot, ::apache::thrift::protocol::TProtocol* oprot, void* callContext);
   void process_isFrozen(int32_t seqid, ::apache::thrift::protocol::TProtocol* iprot, ::apache::thrift::protocol::TProtocol* oprot, void* callContext);
   void process_setFrozen(int32_t seqid, ::apache::thrift::protocol::TProtocol* iprot, ::apache::thrift::protocol::TProtocol* oprot, void* callContext);
@@ -5229,6 +5627,9 @@ class HawkProcessor : public ::apache::thrift::TDispatchProcessor {
     processMap_["asyncQuery"] = &HawkProcessor::process_asyncQuery;
     processMap_["cancelAsyncQuery"] = &HawkProcessor::process_cancelAsyncQuery;
     processMap_["fetchAsyncQueryResults"] = &HawkProcessor::process_fetchAsyncQueryResults;
+    processMap_["openQueryCursor"] = &HawkProcessor::process_openQueryCursor;
+    processMap_["fetchQueryCursor"] = &HawkProcessor::process_fetchQueryCursor;
+    processMap_["closeQueryCursor"] = &HawkProcessor::process_closeQueryCursor;
     processMap_["addRepository"] = &HawkProcessor::process_addRepository;
     processMap_["isFrozen"] = &HawkProcessor::process_isFrozen;
     processMap_["setFrozen"] = &HawkProcessor::process_setFrozen;
@@ -5488,6 +5889,35 @@ class HawkMultiface : virtual public HawkIf {
     return;
   }
 
+  void openQueryCursor(std::string& _return, const std::string& name, const std::string& query, const std::string& language, const HawkQueryOptions& options) {
+    size_t sz = ifaces_.size();
+    size_t i = 0;
+    for (; i < (sz - 1); ++i) {
+      ifaces_[i]->openQueryCursor(_return, name, query, language, options);
+    }
+    ifaces_[i]->openQueryCursor(_return, name, query, language, options);
+    return;
+  }
+
+  void fetchQueryCursor(std::vector<QueryResult> & _return, const std::string& cursorID, const int32_t pageSize) {
+    size_t sz = ifaces_.size();
+    size_t i = 0;
+    for (; i < (sz - 1); ++i) {
+      ifaces_[i]->fetchQueryCursor(_return, cursorID, pageSize);
+    }
+    ifaces_[i]->fetchQueryCursor(_return, cursorID, pageSize);
+    return;
+  }
+
+  void closeQueryCursor(const std::string& cursorID) {
+    size_t sz = ifaces_.size();
+    size_t i = 0;
+    for (; i < (sz - 1); ++i) {
+      ifaces_[i]->closeQueryCursor(cursorID);
+    }
+    ifaces_[i]->closeQueryCursor(cursorID);
+  }
+
   void addRepository(const std::string& name, const Repository& repo, const Credentials& credentials) {
     size_t sz = ifaces_.size();
     size_t i = 0;
@@ -5764,6 +6194,15 @@ class HawkConcurrentClient : virtual public HawkIf {
   void fetchAsyncQueryResults(QueryReport& _return, const std::string& queryID);
   int32_t send_fetchAsyncQueryResults(const std::string& queryID);
   void recv_fetchAsyncQueryResults(QueryReport& _return, const int32_t seqid);
+  void openQueryCursor(std::string& _return, const std::string& name, const std::string& query, const std::string& language, const HawkQueryOptions& options);
+  int32_t send_openQueryCursor(const std::string& name, const std::string& query, const std::string& language, const HawkQueryOptions& options);
+  void recv_openQueryCursor(std::string& _return, const int32_t seqid);
+  void fetchQueryCursor(std::vector<QueryResult> & _return, const std::string& cursorID, const int32_t pageSize);
+  int32_t send_fetchQueryCursor(const std::string& cursorID, const int32_t pageSize);
+  void recv_fetchQueryCursor(std::vector<QueryResult> & _return, const int32_t seqid);
+  void closeQueryCursor(const std::string& cursorID);
+  int32_t send_closeQueryCursor(const std::string& cursorID);
+  void recv_closeQueryCursor(const int32_t seqid);
   void addRepository(const std::string& name, const Repository& repo, const Credentials& credentials);
   int32_t send_addRepository(const std::string& name, const Repository& repo, const Credentials& credentials);
   void recv_addRepository(const int32_t seqid);
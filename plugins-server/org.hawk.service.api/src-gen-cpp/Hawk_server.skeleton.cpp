@@ -130,6 +130,21 @@ class HawkHandler : virtual public HawkIf {
     printf("fetchAsyncQueryResults\n");
   }
 
+  void openQueryCursor(std::string& _return, const std::string& name, const std::string& query, const std::string& language, const HawkQueryOptions& options) {
+    // Your implementation goes here
+    printf("openQueryCursor\n");
+  }
+
+  void fetchQueryCursor(std::vector<QueryResult> & _return, const std::string& cursorID, const int32_t pageSize) {
+    // Your implementation goes here
+    printf("fetchQueryCursor\n");
+  }
+
+  void closeQueryCursor(const std::string& cursorID) {
+    // Your implementation goes here
+    printf("closeQueryCursor\n");
+  }
+
   void addRepository(const std::string& name, const Repository& repo, const Credentials& credentials) {
     // Your implementation goes here
     printf("addRepository\n");
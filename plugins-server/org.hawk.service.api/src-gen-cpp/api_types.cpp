@@ -8101,6 +8101,16 @@ void QueryReport::__set_isCancelled(const bool val) {
   this->isCancelled = val;
 }
 
+void QueryReport::__set_propertyCacheHits(const int64_t val) {
+  this->propertyCacheHits = val;
+__isset.propertyCacheHits = true;
+}
+
+void QueryReport::__set_propertyCacheMisses(const int64_t val) {
+  this->propertyCacheMisses = val;
+__isset.propertyCacheMisses = true;
+}
+
 uint32_t QueryReport::read(::apache::thrift::protocol::TProtocol* iprot) {
 
   apache::thrift::protocol::TInputRecursionTracker tracker(*iprot);
@@ -8149,6 +8159,22 @@ uint32_t QueryReport::read(::apache::thrift::protocol::TProtocol* iprot) {
           xfer += iprot->skip(ftype);
         }
         break;
+      case 4:
+        if (ftype == ::apache::thrift::protocol::T_I64) {
+          xfer += iprot->readI64(this->propertyCacheHits);
+          this->__isset.propertyCacheHits = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
+      case 5:
+        if (ftype == ::apache::thrift::protocol::T_I64) {
+          xfer += iprot->readI64(this->propertyCacheMisses);
+          this->__isset.propertyCacheMisses = true;
+        } else {
+          xfer += iprot->skip(ftype);
+        }
+        break;
       default:
         xfer += iprot->skip(ftype);
         break;
@@ -8184,6 +8210,16 @@ uint32_t QueryReport::write(::apache::thrift::protocol::TProtocol* oprot) const
   xfer += oprot->writeBool(this->isCancelled);
   xfer += oprot->writeFieldEnd();
 
+  if (this->__isset.propertyCacheHits) {
+    xfer += oprot->writeFieldBegin("propertyCacheHits", ::apache::thrift::protocol::T_I64, 4);
+    xfer += oprot->writeI64(this->propertyCacheHits);
+    xfer += oprot->writeFieldEnd();
+  }
+  if (this->__isset.propertyCacheMisses) {
+    xfer += oprot->writeFieldBegin("propertyCacheMisses", ::apache::thrift::protocol::T_I64, 5);
+    xfer += oprot->writeI64(this->propertyCacheMisses);
+    xfer += oprot->writeFieldEnd();
+  }
   xfer += oprot->writeFieldStop();
   xfer += oprot->writeStructEnd();
   return xfer;
@@ -8194,17 +8230,26 @@ void swap(QueryReport &a, QueryReport &b) {
   swap(a.result, b.result);
   swap(a.wallMillis, b.wallMillis);
   swap(a.isCancelled, b.isCancelled);
+  swap(a.propertyCacheHits, b.propertyCacheHits);
+  swap(a.propertyCacheMisses, b.propertyCacheMisses);
+  swap(a.__isset, b.__isset);
 }
 
 QueryReport::QueryReport(const QueryReport& other287) {
   result = other287.result;
   wallMillis = other287.wallMillis;
   isCancelled = other287.isCancelled;
+  propertyCacheHits = other287.propertyCacheHits;
+  propertyCacheMisses = other287.propertyCacheMisses;
+  __isset = other287.__isset;
 }
 QueryReport& QueryReport::operator=(const QueryReport& other288) {
   result = other288.result;
   wallMillis = other288.wallMillis;
   isCancelled = other288.isCancelled;
+  propertyCacheHits = other288.propertyCacheHits;
+  propertyCacheMisses = other288.propertyCacheMisses;
+  __isset = other288.__isset;
   return *this;
 }
 void QueryReport::printTo(std::ostream& out) const {
@@ -8213,6 +8258,8 @@ void QueryReport::printTo(std::ostream& out) const {
   out << "result=" << to_string(result);
   out << ", " << "wallMillis=" << to_string(wallMillis);
   out << ", " << "isCancelled=" << to_string(isCancelled);
+  out << ", " << "propertyCacheHits="; (__isset.propertyCacheHits ? (out << to_string(propertyCacheHits)) : (out << "<null>"));
+  out << ", " << "propertyCacheMisses="; (__isset.propertyCacheMisses ? (out << to_string(propertyCacheMisses)) : (out << "<null>"));
   out << ")";
 }
 
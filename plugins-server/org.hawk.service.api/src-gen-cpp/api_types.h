@@ -3295,19 +3295,28 @@ inline std::ostream& operator<<(std::ostream& out, const QueryResult& obj)
   return out;
 }
 
+typedef struct _QueryReport__isset {
+  _QueryReport__isset() : propertyCacheHits(false), propertyCacheMisses(false) {}
+  bool propertyCacheHits :1;
+  bool propertyCacheMisses :1;
+} _QueryReport__isset;
 
 class QueryReport {
  public:
 
   QueryReport(const QueryReport&);
   QueryReport& operator=(const QueryReport&);
-  QueryReport() : wallMillis(0), isCancelled(0) {
+  QueryReport() : wallMillis(0), isCancelled(0), propertyCacheHits(0), propertyCacheMisses(0) {
   }
 
   virtual ~QueryReport() throw();
   QueryResult result;
   int64_t wallMillis;
   bool isCancelled;
+  int64_t propertyCacheHits;
+  int64_t propertyCacheMisses;
+
+  _QueryReport__isset __isset;
 
   void __set_result(const QueryResult& val);
 
@@ -3315,6 +3324,10 @@ class QueryReport {
 
   void __set_isCancelled(const bool val);
 
+  void __set_propertyCacheHits(const int64_t val);
+
+  void __set_propertyCacheMisses(const int64_t val);
+
   bool operator == (const QueryReport & rhs) const
   {
     if (!(result == rhs.result))
@@ -3323,6 +3336,14 @@ class QueryReport {
       return false;
     if (!(isCancelled == rhs.isCancelled))
       return false;
+    if (__isset.propertyCacheHits != rhs.__isset.propertyCacheHits)
+      return false;
+    else if (__isset.propertyCacheHits && !(propertyCacheHits == rhs.propertyCacheHits))
+      return false;
+    if (__isset.propertyCacheMisses != rhs.__isset.propertyCacheMisses)
+      return false;
+    else if (__isset.propertyCacheMisses && !(propertyCacheMisses == rhs.propertyCacheMisses))
+      return false;
     return true;
   }
   bool operator != (const QueryReport &rhs) const {
@@ -3670,6 +3670,566 @@ Hawk_fetchAsyncQueryResults_result.prototype.write = function(output) {
   return;
 };
 
+Hawk_openQueryCursor_args = function(args) {
+  this.name = null;
+  this.query = null;
+  this.language = null;
+  this.options = null;
+  if (args) {
+    if (args.name !== undefined && args.name !== null) {
+      this.name = args.name;
+    } else {
+      throw new Thrift.TProtocolException(Thrift.TProtocolExceptionType.UNKNOWN, 'Required field name is unset!');
+    }
+    if (args.query !== undefined && args.query !== null) {
+      this.query = args.query;
+    } else {
+      throw new Thrift.TProtocolException(Thrift.TProtocolExceptionType.UNKNOWN, 'Required field query is unset!');
+    }
+    if (args.language !== undefined && args.language !== null) {
+      this.language = args.language;
+    } else {
+      throw new Thrift.TProtocolException(Thrift.TProtocolExceptionType.UNKNOWN, 'Required field language is unset!');
+    }
+    if (args.options !== undefined && args.options !== null) {
+      this.options = new HawkQueryOptions(args.options);
+    } else {
+      throw new Thrift.TProtocolException(Thrift.TProtocolExceptionType.UNKNOWN, 'Required field options is unset!');
+    }
+  }
+};
+Hawk_openQueryCursor_args.prototype = {};
+Hawk_openQueryCursor_args.prototype.read = function(input) {
+  input.readStructBegin();
+  while (true)
+  {
+    var ret = input.readFieldBegin();
+    var fname = ret.fname;
+    var ftype = ret.ftype;
+    var fid = ret.fid;
+    if (ftype == Thrift.Type.STOP) {
+      break;
+    }
+    switch (fid)
+    {
+      case 1:
+      if (ftype == Thrift.Type.STRING) {
+        this.name = input.readString().value;
+      } else {
+        input.skip(ftype);
+      }
+      break;
+      case 2:
+      if (ftype == Thrift.Type.STRING) {
+        this.query = input.readString().value;
+      } else {
+        input.skip(ftype);
+      }
+      break;
+      case 3:
+      if (ftype == Thrift.Type.STRING) {
+        this.language = input.readString().value;
+      } else {
+        input.skip(ftype);
+      }
+      break;
+      case 4:
+      if (ftype == Thrift.Type.STRUCT) {
+        this.options = new HawkQueryOptions();
+        this.options.read(input);
+      } else {
+        input.skip(ftype);
+      }
+      break;
+      default:
+        input.skip(ftype);
+    }
+    input.readFieldEnd();
+  }
+  input.readStructEnd();
+  return;
+};
+
+Hawk_openQueryCursor_args.prototype.write = function(output) {
+  output.writeStructBegin('Hawk_openQueryCursor_args');
+  if (this.name !== null && this.name !== undefined) {
+    output.writeFieldBegin('name', Thrift.Type.STRING, 1);
+    output.writeString(this.name);
+    output.writeFieldEnd();
+  }
+  if (this.query !== null && this.query !== undefined) {
+    output.writeFieldBegin('query', Thrift.Type.STRING, 2);
+    output.writeString(this.query);
+    output.writeFieldEnd();
+  }
+  if (this.language !== null && this.language !== undefined) {
+    output.writeFieldBegin('language', Thrift.Type.STRING, 3);
+    output.writeString(this.language);
+    output.writeFieldEnd();
+  }
+  if (this.options !== null && this.options !== undefined) {
+    output.writeFieldBegin('options', Thrift.Type.STRUCT, 4);
+    this.options.write(output);
+    output.writeFieldEnd();
+  }
+  output.writeFieldStop();
+  output.writeStructEnd();
+  return;
+};
+
+Hawk_openQueryCursor_result = function(args) {
+  this.success = null;
+  this.err1 = null;
+  this.err2 = null;
+  this.err3 = null;
+  this.err4 = null;
+  this.err5 = null;
+  if (args instanceof HawkInstanceNotFound) {
+    this.err1 = args;
+    return;
+  }
+  if (args instanceof HawkInstanceNotRunning) {
+    this.err2 = args;
+    return;
+  }
+  if (args instanceof UnknownQueryLanguage) {
+    this.err3 = args;
+    return;
+  }
+  if (args instanceof InvalidQuery) {
+    this.err4 = args;
+    return;
+  }
+  if (args instanceof FailedQuery) {
+    this.err5 = args;
+    return;
+  }
+  if (args) {
+    if (args.success !== undefined && args.success !== null) {
+      this.success = args.success;
+    }
+    if (args.err1 !== undefined && args.err1 !== null) {
+      this.err1 = args.err1;
+    }
+    if (args.err2 !== undefined && args.err2 !== null) {
+      this.err2 = args.err2;
+    }
+    if (args.err3 !== undefined && args.err3 !== null) {
+      this.err3 = args.err3;
+    }
+    if (args.err4 !== undefined && args.err4 !== null) {
+      this.err4 = args.err4;
+    }
+    if (args.err5 !== undefined && args.err5 !== null) {
+      this.err5 = args.err5;
+    }
+  }
+};
+Hawk_openQueryCursor_result.prototype = {};
+Hawk_openQueryCursor_result.prototype.read = function(input) {
+  input.readStructBegin();
+  while (true)
+  {
+    var ret = input.readFieldBegin();
+    var fname = ret.fname;
+    var ftype = ret.ftype;
+    var fid = ret.fid;
+    if (ftype == Thrift.Type.STOP) {
+      break;
+    }
+    switch (fid)
+    {
+      case 0:
+      if (ftype == Thrift.Type.STRING) {
+        this.success = input.readString().value;
+      } else {
+        input.skip(ftype);
+      }
+      break;
+      case 1:
+      if (ftype == Thrift.Type.STRUCT) {
+        this.err1 = new HawkInstanceNotFound();
+        this.err1.read(input);
+      } else {
+        input.skip(ftype);
+      }
+      break;
+      case 2:
+      if (ftype == Thrift.Type.STRUCT) {
+        this.err2 = new HawkInstanceNotRunning();
+        this.err2.read(input);
+      } else {
+        input.skip(ftype);
+      }
+      break;
+      case 3:
+      if (ftype == Thrift.Type.STRUCT) {
+        this.err3 = new UnknownQueryLanguage();
+        this.err3.read(input);
+      } else {
+        input.skip(ftype);
+      }
+      break;
+      case 4:
+      if (ftype == Thrift.Type.STRUCT) {
+        this.err4 = new InvalidQuery();
+        this.err4.read(input);
+      } else {
+        input.skip(ftype);
+      }
+      break;
+      case 5:
+      if (ftype == Thrift.Type.STRUCT) {
+        this.err5 = new FailedQuery();
+        this.err5.read(input);
+      } else {
+        input.skip(ftype);
+      }
+      break;
+      default:
+        input.skip(ftype);
+    }
+    input.readFieldEnd();
+  }
+  input.readStructEnd();
+  return;
+};
+
+Hawk_openQueryCursor_result.prototype.write = function(output) {
+  output.writeStructBegin('Hawk_openQueryCursor_result');
+  if (this.success !== null && this.success !== undefined) {
+    output.writeFieldBegin('success', Thrift.Type.STRING, 0);
+    output.writeString(this.success);
+    output.writeFieldEnd();
+  }
+  if (this.err1 !== null && this.err1 !== undefined) {
+    output.writeFieldBegin('err1', Thrift.Type.STRUCT, 1);
+    this.err1.write(output);
+    output.writeFieldEnd();
+  }
+  if (this.err2 !== null && this.err2 !== undefined) {
+    output.writeFieldBegin('err2', Thrift.Type.STRUCT, 2);
+    this.err2.write(output);
+    output.writeFieldEnd();
+  }
+  if (this.err3 !== null && this.err3 !== undefined) {
+    output.writeFieldBegin('err3', Thrift.Type.STRUCT, 3);
+    this.err3.write(output);
+    output.writeFieldEnd();
+  }
+  if (this.err4 !== null && this.err4 !== undefined) {
+    output.writeFieldBegin('err4', Thrift.Type.STRUCT, 4);
+    this.err4.write(output);
+    output.writeFieldEnd();
+  }
+  if (this.err5 !== null && this.err5 !== undefined) {
+    output.writeFieldBegin('err5', Thrift.Type.STRUCT, 5);
+    this.err5.write(output);
+    output.writeFieldEnd();
+  }
+  output.writeFieldStop();
+  output.writeStructEnd();
+  return;
+};
+
+Hawk_fetchQueryCursor_args = function(args) {
+  this.cursorID = null;
+  this.pageSize = null;
+  if (args) {
+    if (args.cursorID !== undefined && args.cursorID !== null) {
+      this.cursorID = args.cursorID;
+    } else {
+      throw new Thrift.TProtocolException(Thrift.TProtocolExceptionType.UNKNOWN, 'Required field cursorID is unset!');
+    }
+    if (args.pageSize !== undefined && args.pageSize !== null) {
+      this.pageSize = args.pageSize;
+    } else {
+      throw new Thrift.TProtocolException(Thrift.TProtocolExceptionType.UNKNOWN, 'Required field pageSize is unset!');
+    }
+  }
+};
+Hawk_fetchQueryCursor_args.prototype = {};
+Hawk_fetchQueryCursor_args.prototype.read = function(input) {
+  input.readStructBegin();
+  while (true)
+  {
+    var ret = input.readFieldBegin();
+    var fname = ret.fname;
+    var ftype = ret.ftype;
+    var fid = ret.fid;
+    if (ftype == Thrift.Type.STOP) {
+      break;
+    }
+    switch (fid)
+    {
+      case 1:
+      if (ftype == Thrift.Type.STRING) {
+        this.cursorID = input.readString().value;
+      } else {
+        input.skip(ftype);
+      }
+      break;
+      case 2:
+      if (ftype == Thrift.Type.I32) {
+        this.pageSize = input.readI32().value;
+      } else {
+        input.skip(ftype);
+      }
+      break;
+      default:
+        input.skip(ftype);
+    }
+    input.readFieldEnd();
+  }
+  input.readStructEnd();
+  return;
+};
+
+Hawk_fetchQueryCursor_args.prototype.write = function(output) {
+  output.writeStructBegin('Hawk_fetchQueryCursor_args');
+  if (this.cursorID !== null && this.cursorID !== undefined) {
+    output.writeFieldBegin('cursorID', Thrift.Type.STRING, 1);
+    output.writeString(this.cursorID);
+    output.writeFieldEnd();
+  }
+  if (this.pageSize !== null && this.pageSize !== undefined) {
+    output.writeFieldBegin('pageSize', Thrift.Type.I32, 2);
+    output.writeI32(this.pageSize);
+    output.writeFieldEnd();
+  }
+  output.writeFieldStop();
+  output.writeStructEnd();
+  return;
+};
+
+Hawk_fetchQueryCursor_result = function(args) {
+  this.success = null;
+  this.err1 = null;
+  this.err2 = null;
+  if (args instanceof InvalidQuery) {
+    this.err1 = args;
+    return;
+  }
+  if (args instanceof FailedQuery) {
+    this.err2 = args;
+    return;
+  }
+  if (args) {
+    if (args.success !== undefined && args.success !== null) {
+      this.success = Thrift.copyList(args.success, [QueryResult]);
+    }
+    if (args.err1 !== undefined && args.err1 !== null) {
+      this.err1 = args.err1;
+    }
+    if (args.err2 !== undefined && args.err2 !== null) {
+      this.err2 = args.err2;
+    }
+  }
+};
+Hawk_fetchQueryCursor_result.prototype = {};
+Hawk_fetchQueryCursor_result.prototype.read = function(input) {
+  input.readStructBegin();
+  while (true)
+  {
+    var ret = input.readFieldBegin();
+    var fname = ret.fname;
+    var ftype = ret.ftype;
+    var fid = ret.fid;
+    if (ftype == Thrift.Type.STOP) {
+      break;
+    }
+    switch (fid)
+    {
+      case 0:
+      if (ftype == Thrift.Type.LIST) {
+        var _size338 = 0;
+        var _rtmp3342;
+        this.success = [];
+        var _etype341 = 0;
+        _rtmp3342 = input.readListBegin();
+        _etype341 = _rtmp3342.etype;
+        _size338 = _rtmp3342.size;
+        for (var _i343 = 0; _i343 < _size338; ++_i343)
+        {
+          var elem344 = null;
+          elem344 = new QueryResult();
+          elem344.read(input);
+          this.success.push(elem344);
+        }
+        input.readListEnd();
+      } else {
+        input.skip(ftype);
+      }
+      break;
+      case 1:
+      if (ftype == Thrift.Type.STRUCT) {
+        this.err1 = new InvalidQuery();
+        this.err1.read(input);
+      } else {
+        input.skip(ftype);
+      }
+      break;
+      case 2:
+      if (ftype == Thrift.Type.STRUCT) {
+        this.err2 = new FailedQuery();
+        this.err2.read(input);
+      } else {
+        input.skip(ftype);
+      }
+      break;
+      default:
+        input.skip(ftype);
+    }
+    input.readFieldEnd();
+  }
+  input.readStructEnd();
+  return;
+};
+
+Hawk_fetchQueryCursor_result.prototype.write = function(output) {
+  output.writeStructBegin('Hawk_fetchQueryCursor_result');
+  if (this.success !== null && this.success !== undefined) {
+    output.writeFieldBegin('success', Thrift.Type.LIST, 0);
+    output.writeListBegin(Thrift.Type.STRUCT, this.success.length);
+    for (var iter345 in this.success)
+    {
+      if (this.success.hasOwnProperty(iter345))
+      {
+        iter345 = this.success[iter345];
+        iter345.write(output);
+      }
+    }
+    output.writeListEnd();
+    output.writeFieldEnd();
+  }
+  if (this.err1 !== null && this.err1 !== undefined) {
+    output.writeFieldBegin('err1', Thrift.Type.STRUCT, 1);
+    this.err1.write(output);
+    output.writeFieldEnd();
+  }
+  if (this.err2 !== null && this.err2 !== undefined) {
+    output.writeFieldBegin('err2', Thrift.Type.STRUCT, 2);
+    this.err2.write(output);
+    output.writeFieldEnd();
+  }
+  output.writeFieldStop();
+  output.writeStructEnd();
+  return;
+};
+
+Hawk_closeQueryCursor_args = function(args) {
+  this.cursorID = null;
+  if (args) {
+    if (args.cursorID !== undefined && args.cursorID !== null) {
+      this.cursorID = args.cursorID;
+    } else {
+      throw new Thrift.TProtocolException(Thrift.TProtocolExceptionType.UNKNOWN, 'Required field cursorID is unset!');
+    }
+  }
+};
+Hawk_closeQueryCursor_args.prototype = {};
+Hawk_closeQueryCursor_args.prototype.read = function(input) {
+  input.readStructBegin();
+  while (true)
+  {
+    var ret = input.readFieldBegin();
+    var fname = ret.fname;
+    var ftype = ret.ftype;
+    var fid = ret.fid;
+    if (ftype == Thrift.Type.STOP) {
+      break;
+    }
+    switch (fid)
+    {
+      case 1:
+      if (ftype == Thrift.Type.STRING) {
+        this.cursorID = input.readString().value;
+      } else {
+        input.skip(ftype);
+      }
+      break;
+      case 0:
+        input.skip(ftype);
+        break;
+      default:
+        input.skip(ftype);
+    }
+    input.readFieldEnd();
+  }
+  input.readStructEnd();
+  return;
+};
+
+Hawk_closeQueryCursor_args.prototype.write = function(output) {
+  output.writeStructBegin('Hawk_closeQueryCursor_args');
+  if (this.cursorID !== null && this.cursorID !== undefined) {
+    output.writeFieldBegin('cursorID', Thrift.Type.STRING, 1);
+    output.writeString(this.cursorID);
+    output.writeFieldEnd();
+  }
+  output.writeFieldStop();
+  output.writeStructEnd();
+  return;
+};
+
+Hawk_closeQueryCursor_result = function(args) {
+  this.err1 = null;
+  if (args instanceof InvalidQuery) {
+    this.err1 = args;
+    return;
+  }
+  if (args) {
+    if (args.err1 !== undefined && args.err1 !== null) {
+      this.err1 = args.err1;
+    }
+  }
+};
+Hawk_closeQueryCursor_result.prototype = {};
+Hawk_closeQueryCursor_result.prototype.read = function(input) {
+  input.readStructBegin();
+  while (true)
+  {
+    var ret = input.readFieldBegin();
+    var fname = ret.fname;
+    var ftype = ret.ftype;
+    var fid = ret.fid;
+    if (ftype == Thrift.Type.STOP) {
+      break;
+    }
+    switch (fid)
+    {
+      case 1:
+      if (ftype == Thrift.Type.STRUCT) {
+        this.err1 = new InvalidQuery();
+        this.err1.read(input);
+      } else {
+        input.skip(ftype);
+      }
+      break;
+      case 0:
+        input.skip(ftype);
+        break;
+      default:
+        input.skip(ftype);
+    }
+    input.readFieldEnd();
+  }
+  input.readStructEnd();
+  return;
+};
+
+Hawk_closeQueryCursor_result.prototype.write = function(output) {
+  output.writeStructBegin('Hawk_closeQueryCursor_result');
+  if (this.err1 !== null && this.err1 !== undefined) {
+    output.writeFieldBegin('err1', Thrift.Type.STRUCT, 1);
+    this.err1.write(output);
+    output.writeFieldEnd();
+  }
+  output.writeFieldStop();
+  output.writeStructEnd();
+  return;
+};
+
 Hawk_addRepository_args = function(args) {
   this.name = null;
   this.repo = null;
@@ -4608,19 +5168,19 @@ Hawk_listRepositories_result.prototype.read = function(input) {
     {
       case 0:
       if (ftype == Thrift.Type.LIST) {
-        var _size338 = 0;
-        var _rtmp3342;
+        var _size346 = 0;
+        var _rtmp3350;
         this.success = [];
-        var _etype341 = 0;
-        _rtmp3342 = input.readListBegin();
-        _etype341 = _rtmp3342.etype;
-        _size338 = _rtmp3342.size;
-        for (var _i343 = 0; _i343 < _size338; ++_i343)
+        var _etype349 = 0;
+        _rtmp3350 = input.readListBegin();
+        _etype349 = _rtmp3350.etype;
+        _size346 = _rtmp3350.size;
+        for (var _i351 = 0; _i351 < _size346; ++_i351)
         {
-          var elem344 = null;
-          elem344 = new Repository();
-          elem344.read(input);
-          this.success.push(elem344);
+          var elem352 = null;
+          elem352 = new Repository();
+          elem352.read(input);
+          this.success.push(elem352);
         }
         input.readListEnd();
       } else {
@@ -4657,12 +5217,12 @@ Hawk_listRepositories_result.prototype.write = function(output) {
   if (this.success !== null && this.success !== undefined) {
     output.writeFieldBegin('success', Thrift.Type.LIST, 0);
     output.writeListBegin(Thrift.Type.STRUCT, this.success.length);
-    for (var iter345 in this.success)
+    for (var iter353 in this.success)
     {
-      if (this.success.hasOwnProperty(iter345))
+      if (this.success.hasOwnProperty(iter353))
       {
-        iter345 = this.success[iter345];
-        iter345.write(output);
+        iter353 = this.success[iter353];
+        iter353.write(output);
       }
     }
     output.writeListEnd();
@@ -4735,18 +5295,18 @@ Hawk_listRepositoryTypes_result.prototype.read = function(input) {
     {
       case 0:
       if (ftype == Thrift.Type.LIST) {
-        var _size346 = 0;
-        var _rtmp3350;
+        var _size354 = 0;
+        var _rtmp3358;
         this.success = [];
-        var _etype349 = 0;
-        _rtmp3350 = input.readListBegin();
-        _etype349 = _rtmp3350.etype;
-        _size346 = _rtmp3350.size;
-        for (var _i351 = 0; _i351 < _size346; ++_i351)
+        var _etype357 = 0;
+        _rtmp3358 = input.readListBegin();
+        _etype357 = _rtmp3358.etype;
+        _size354 = _rtmp3358.size;
+        for (var _i359 = 0; _i359 < _size354; ++_i359)
         {
-          var elem352 = null;
-          elem352 = input.readString().value;
-          this.success.push(elem352);
+          var elem360 = null;
+          elem360 = input.readString().value;
+          this.success.push(elem360);
         }
         input.readListEnd();
       } else {
@@ -4770,12 +5330,12 @@ Hawk_listRepositoryTypes_result.prototype.write = function(output) {
   if (this.success !== null && this.success !== undefined) {
     output.writeFieldBegin('success', Thrift.Type.LIST, 0);
     output.writeListBegin(Thrift.Type.STRING, this.success.length);
-    for (var iter353 in this.success)
+    for (var iter361 in this.success)
     {
-      if (this.success.hasOwnProperty(iter353))
+      if (this.success.hasOwnProperty(iter361))
       {
-        iter353 = this.success[iter353];
-        output.writeString(iter353);
+        iter361 = this.success[iter361];
+        output.writeString(iter361);
       }
     }
     output.writeListEnd();
@@ -4831,18 +5391,18 @@ Hawk_listFiles_args.prototype.read = function(input) {
       break;
       case 2:
       if (ftype == Thrift.Type.LIST) {
-        var _size354 = 0;
-        var _rtmp3358;
+        var _size362 = 0;
+        var _rtmp3366;
         this.repository = [];
-        var _etype357 = 0;
-        _rtmp3358 = input.readListBegin();
-        _etype357 = _rtmp3358.etype;
-        _size354 = _rtmp3358.size;
-        for (var _i359 = 0; _i359 < _size354; ++_i359)
+        var _etype365 = 0;
+        _rtmp3366 = input.readListBegin();
+        _etype365 = _rtmp3366.etype;
+        _size362 = _rtmp3366.size;
+        for (var _i367 = 0; _i367 < _size362; ++_i367)
         {
-          var elem360 = null;
-          elem360 = input.readString().value;
-          this.repository.push(elem360);
+          var elem368 = null;
+          elem368 = input.readString().value;
+          this.repository.push(elem368);
         }
         input.readListEnd();
       } else {
@@ -4851,18 +5411,18 @@ Hawk_listFiles_args.prototype.read = function(input) {
       break;
       case 3:
       if (ftype == Thrift.Type.LIST) {
-        var _size361 = 0;
-        var _rtmp3365;
+        var _size369 = 0;
+        var _rtmp3373;
         this.filePatterns = [];
-        var _etype364 = 0;
-        _rtmp3365 = input.readListBegin();
-        _etype364 = _rtmp3365.etype;
-        _size361 = _rtmp3365.size;
-        for (var _i366 = 0; _i366 < _size361; ++_i366)
+        var _etype372 = 0;
+        _rtmp3373 = input.readListBegin();
+        _etype372 = _rtmp3373.etype;
+        _size369 = _rtmp3373.size;
+        for (var _i374 = 0; _i374 < _size369; ++_i374)
         {
-          var elem367 = null;
-          elem367 = input.readString().value;
-          this.filePatterns.push(elem367);
+          var elem375 = null;
+          elem375 = input.readString().value;
+          this.filePatterns.push(elem375);
         }
         input.readListEnd();
       } else {
@@ -4888,12 +5448,12 @@ Hawk_listFiles_args.prototype.write = function(output) {
   if (this.repository !== null && this.repository !== undefined) {
     output.writeFieldBegin('repository', Thrift.Type.LIST, 2);
     output.writeListBegin(Thrift.Type.STRING, this.repository.length);
-    for (var iter368 in this.repository)
+    for (var iter376 in this.repository)
     {
-      if (this.repository.hasOwnProperty(iter368))
+      if (this.repository.hasOwnProperty(iter376))
       {
-        iter368 = this.repository[iter368];
-        output.writeString(iter368);
+        iter376 = this.repository[iter376];
+        output.writeString(iter376);
       }
     }
     output.writeListEnd();
@@ -4902,12 +5462,12 @@ Hawk_listFiles_args.prototype.write = function(output) {
   if (this.filePatterns !== null && this.filePatterns !== undefined) {
     output.writeFieldBegin('filePatterns', Thrift.Type.LIST, 3);
     output.writeListBegin(Thrift.Type.STRING, this.filePatterns.length);
-    for (var iter369 in this.filePatterns)
+    for (var iter377 in this.filePatterns)
     {
-      if (this.filePatterns.hasOwnProperty(iter369))
+      if (this.filePatterns.hasOwnProperty(iter377))
       {
-        iter369 = this.filePatterns[iter369];
-        output.writeString(iter369);
+        iter377 = this.filePatterns[iter377];
+        output.writeString(iter377);
       }
     }
     output.writeListEnd();
@@ -4958,18 +5518,18 @@ Hawk_listFiles_result.prototype.read = function(input) {
     {
       case 0:
       if (ftype == Thrift.Type.LIST) {
-        var _size370 = 0;
-        var _rtmp3374;
+        var _size378 = 0;
+        var _rtmp3382;
         this.success = [];
-        var _etype373 = 0;
-        _rtmp3374 = input.readListBegin();
-        _etype373 = _rtmp3374.etype;
-        _size370 = _rtmp3374.size;
-        for (var _i375 = 0; _i375 < _size370; ++_i375)
+        var _etype381 = 0;
+        _rtmp3382 = input.readListBegin();
+        _etype381 = _rtmp3382.etype;
+        _size378 = _rtmp3382.size;
+        for (var _i383 = 0; _i383 < _size378; ++_i383)
         {
-          var elem376 = null;
-          elem376 = input.readString().value;
-          this.success.push(elem376);
+          var elem384 = null;
+          elem384 = input.readString().value;
+          this.success.push(elem384);
         }
         input.readListEnd();
       } else {
@@ -5006,12 +5566,12 @@ Hawk_listFiles_result.prototype.write = function(output) {
   if (this.success !== null && this.success !== undefined) {
     output.writeFieldBegin('success', Thrift.Type.LIST, 0);
     output.writeListBegin(Thrift.Type.STRING, this.success.length);
-    for (var iter377 in this.success)
+    for (var iter385 in this.success)
     {
-      if (this.success.hasOwnProperty(iter377))
+      if (this.success.hasOwnProperty(iter385))
       {
-        iter377 = this.success[iter377];
-        output.writeString(iter377);
+        iter385 = this.success[iter385];
+        output.writeString(iter385);
       }
     }
     output.writeListEnd();
@@ -5627,19 +6187,19 @@ Hawk_listDerivedAttributes_result.prototype.read = function(input) {
     {
       case 0:
       if (ftype == Thrift.Type.LIST) {
-        var _size378 = 0;
-        var _rtmp3382;
+        var _size386 = 0;
+        var _rtmp3390;
         this.success = [];
-        var _etype381 = 0;
-        _rtmp3382 = input.readListBegin();
-        _etype381 = _rtmp3382.etype;
-        _size378 = _rtmp3382.size;
-        for (var _i383 = 0; _i383 < _size378; ++_i383)
+        var _etype389 = 0;
+        _rtmp3390 = input.readListBegin();
+        _etype389 = _rtmp3390.etype;
+        _size386 = _rtmp3390.size;
+        for (var _i391 = 0; _i391 < _size386; ++_i391)
         {
-          var elem384 = null;
-          elem384 = new DerivedAttributeSpec();
-          elem384.read(input);
-          this.success.push(elem384);
+          var elem392 = null;
+          elem392 = new DerivedAttributeSpec();
+          elem392.read(input);
+          this.success.push(elem392);
         }
         input.readListEnd();
       } else {
@@ -5676,12 +6236,12 @@ Hawk_listDerivedAttributes_result.prototype.write = function(output) {
   if (this.success !== null && this.success !== undefined) {
     output.writeFieldBegin('success', Thrift.Type.LIST, 0);
     output.writeListBegin(Thrift.Type.STRUCT, this.success.length);
-    for (var iter385 in this.success)
+    for (var iter393 in this.success)
     {
-      if (this.success.hasOwnProperty(iter385))
+      if (this.success.hasOwnProperty(iter393))
       {
-        iter385 = this.success[iter385];
-        iter385.write(output);
+        iter393 = this.success[iter393];
+        iter393.write(output);
       }
     }
     output.writeListEnd();
@@ -6112,19 +6672,19 @@ Hawk_listIndexedAttributes_result.prototype.read = function(input) {
     {
       case 0:
       if (ftype == Thrift.Type.LIST) {
-        var _size386 = 0;
-        var _rtmp3390;
+        var _size394 = 0;
+        var _rtmp3398;
         this.success = [];
-        var _etype389 = 0;
-        _rtmp3390 = input.readListBegin();
-        _etype389 = _rtmp3390.etype;
-        _size386 = _rtmp3390.size;
-        for (var _i391 = 0; _i391 < _size386; ++_i391)
+        var _etype397 = 0;
+        _rtmp3398 = input.readListBegin();
+        _etype397 = _rtmp3398.etype;
+        _size394 = _rtmp3398.size;
+        for (var _i399 = 0; _i399 < _size394; ++_i399)
         {
-          var elem392 = null;
-          elem392 = new IndexedAttributeSpec();
-          elem392.read(input);
-          this.success.push(elem392);
+          var elem400 = null;
+          elem400 = new IndexedAttributeSpec();
+          elem400.read(input);
+          this.success.push(elem400);
         }
         input.readListEnd();
       } else {
@@ -6161,12 +6721,12 @@ Hawk_listIndexedAttributes_result.prototype.write = function(output) {
   if (this.success !== null && this.success !== undefined) {
     output.writeFieldBegin('success', Thrift.Type.LIST, 0);
     output.writeListBegin(Thrift.Type.STRUCT, this.success.length);
-    for (var iter393 in this.success)
+    for (var iter401 in this.success)
     {
-      if (this.success.hasOwnProperty(iter393))
+      if (this.success.hasOwnProperty(iter401))
       {
-        iter393 = this.success[iter393];
-        iter393.write(output);
+        iter401 = this.success[iter401];
+        iter401.write(output);
       }
     }
     output.writeListEnd();
@@ -6298,19 +6858,19 @@ Hawk_getModel_result.prototype.read = function(input) {
     {
       case 0:
       if (ftype == Thrift.Type.LIST) {
-        var _size394 = 0;
-        var _rtmp3398;
+        var _size402 = 0;
+        var _rtmp3406;
         this.success = [];
-        var _etype397 = 0;
-        _rtmp3398 = input.readListBegin();
-        _etype397 = _rtmp3398.etype;
-        _size394 = _rtmp3398.size;
-        for (var _i399 = 0; _i399 < _size394; ++_i399)
+        var _etype405 = 0;
+        _rtmp3406 = input.readListBegin();
+        _etype405 = _rtmp3406.etype;
+        _size402 = _rtmp3406.size;
+        for (var _i407 = 0; _i407 < _size402; ++_i407)
         {
-          var elem400 = null;
-          elem400 = new ModelElement();
-          elem400.read(input);
-          this.success.push(elem400);
+          var elem408 = null;
+          elem408 = new ModelElement();
+          elem408.read(input);
+          this.success.push(elem408);
         }
         input.readListEnd();
       } else {
@@ -6347,12 +6907,12 @@ Hawk_getModel_result.prototype.write = function(output) {
   if (this.success !== null && this.success !== undefined) {
     output.writeFieldBegin('success', Thrift.Type.LIST, 0);
     output.writeListBegin(Thrift.Type.STRUCT, this.success.length);
-    for (var iter401 in this.success)
+    for (var iter409 in this.success)
     {
-      if (this.success.hasOwnProperty(iter401))
+      if (this.success.hasOwnProperty(iter409))
       {
-        iter401 = this.success[iter401];
-        iter401.write(output);
+        iter409 = this.success[iter409];
+        iter409.write(output);
       }
     }
     output.writeListEnd();
@@ -6468,19 +7028,19 @@ Hawk_getRootElements_result.prototype.read = function(input) {
     {
       case 0:
       if (ftype == Thrift.Type.LIST) {
-        var _size402 = 0;
-        var _rtmp3406;
+        var _size410 = 0;
+        var _rtmp3414;
         this.success = [];
-        var _etype405 = 0;
-        _rtmp3406 = input.readListBegin();
-        _etype405 = _rtmp3406.etype;
-        _size402 = _rtmp3406.size;
-        for (var _i407 = 0; _i407 < _size402; ++_i407)
+        var _etype413 = 0;
+        _rtmp3414 = input.readListBegin();
+        _etype413 = _rtmp3414.etype;
+        _size410 = _rtmp3414.size;
+        for (var _i415 = 0; _i415 < _size410; ++_i415)
         {
-          var elem408 = null;
-          elem408 = new ModelElement();
-          elem408.read(input);
-          this.success.push(elem408);
+          var elem416 = null;
+          elem416 = new ModelElement();
+          elem416.read(input);
+          this.success.push(elem416);
         }
         input.readListEnd();
       } else {
@@ -6504,12 +7064,12 @@ Hawk_getRootElements_result.prototype.write = function(output) {
   if (this.success !== null && this.success !== undefined) {
     output.writeFieldBegin('success', Thrift.Type.LIST, 0);
     output.writeListBegin(Thrift.Type.STRUCT, this.success.length);
-    for (var iter409 in this.success)
+    for (var iter417 in this.success)
     {
-      if (this.success.hasOwnProperty(iter409))
+      if (this.success.hasOwnProperty(iter417))
       {
-        iter409 = this.success[iter409];
-        iter409.write(output);
+        iter417 = this.success[iter417];
+        iter417.write(output);
       }
     }
     output.writeListEnd();
@@ -6732,18 +7292,18 @@ Hawk_watchModelChanges_args.prototype.read = function(input) {
       break;
       case 3:
       if (ftype == Thrift.Type.LIST) {
-        var _size410 = 0;
-        var _rtmp3414;
+        var _size418 = 0;
+        var _rtmp3422;
         this.filePath = [];
-        var _etype413 = 0;
-        _rtmp3414 = input.readListBegin();
-        _etype413 = _rtmp3414.etype;
-        _size410 = _rtmp3414.size;
-        for (var _i415 = 0; _i415 < _size410; ++_i415)
+        var _etype421 = 0;
+        _rtmp3422 = input.readListBegin();
+        _etype421 = _rtmp3422.etype;
+        _size418 = _rtmp3422.size;
+        for (var _i423 = 0; _i423 < _size418; ++_i423)
         {
-          var elem416 = null;
-          elem416 = input.readString().value;
-          this.filePath.push(elem416);
+          var elem424 = null;
+          elem424 = input.readString().value;
+          this.filePath.push(elem424);
         }
         input.readListEnd();
       } else {
@@ -6788,12 +7348,12 @@ Hawk_watchModelChanges_args.prototype.write = function(output) {
   if (this.filePath !== null && this.filePath !== undefined) {
     output.writeFieldBegin('filePath', Thrift.Type.LIST, 3);
     output.writeListBegin(Thrift.Type.STRING, this.filePath.length);
-    for (var iter417 in this.filePath)
+    for (var iter425 in this.filePath)
     {
-      if (this.filePath.hasOwnProperty(iter417))
+      if (this.filePath.hasOwnProperty(iter425))
       {
-        iter417 = this.filePath[iter417];
-        output.writeString(iter417);
+        iter425 = this.filePath[iter425];
+        output.writeString(iter425);
       }
     }
     output.writeListEnd();
@@ -8111,6 +8671,178 @@ HawkClient.prototype.recv_fetchAsyncQueryResults = function() {
   }
   throw 'fetchAsyncQueryResults failed: unknown result';
 };
+HawkClient.prototype.openQueryCursor = function(name, query, language, options, callback) {
+  this.send_openQueryCursor(name, query, language, options, callback); 
+  if (!callback) {
+    return this.recv_openQueryCursor();
+  }
+};
+
+HawkClient.prototype.send_openQueryCursor = function(name, query, language, options, callback) {
+  this.output.writeMessageBegin('openQueryCursor', Thrift.MessageType.CALL, this.seqid);
+  var args = new Hawk_openQueryCursor_args();
+  args.name = name;
+  args.query = query;
+  args.language = language;
+  args.options = options;
+  args.write(this.output);
+  this.output.writeMessageEnd();
+  if (callback) {
+    var self = this;
+    this.output.getTransport().flush(true, function() {
+      var result = null;
+      try {
+        result = self.recv_openQueryCursor();
+      } catch (e) {
+        result = e;
+      }
+      callback(result);
+    });
+  } else {
+    return this.output.getTransport().flush();
+  }
+};
+
+HawkClient.prototype.recv_openQueryCursor = function() {
+  var ret = this.input.readMessageBegin();
+  var fname = ret.fname;
+  var mtype = ret.mtype;
+  var rseqid = ret.rseqid;
+  if (mtype == Thrift.MessageType.EXCEPTION) {
+    var x = new Thrift.TApplicationException();
+    x.read(this.input);
+    this.input.readMessageEnd();
+    throw x;
+  }
+  var result = new Hawk_openQueryCursor_result();
+  result.read(this.input);
+  this.input.readMessageEnd();
+
+  if (null !== result.err1) {
+    throw result.err1;
+  }
+  if (null !== result.err2) {
+    throw result.err2;
+  }
+  if (null !== result.err3) {
+    throw result.err3;
+  }
+  if (null !== result.err4) {
+    throw result.err4;
+  }
+  if (null !== result.err5) {
+    throw result.err5;
+  }
+  if (null !== result.success) {
+    return result.success;
+  }
+  throw 'openQueryCursor failed: unknown result';
+};
+HawkClient.prototype.fetchQueryCursor = function(cursorID, pageSize, callback) {
+  this.send_fetchQueryCursor(cursorID, pageSize, callback); 
+  if (!callback) {
+    return this.recv_fetchQueryCursor();
+  }
+};
+
+HawkClient.prototype.send_fetchQueryCursor = function(cursorID, pageSize, callback) {
+  this.output.writeMessageBegin('fetchQueryCursor', Thrift.MessageType.CALL, this.seqid);
+  var args = new Hawk_fetchQueryCursor_args();
+  args.cursorID = cursorID;
+  args.pageSize = pageSize;
+  args.write(this.output);
+  this.output.writeMessageEnd();
+  if (callback) {
+    var self = this;
+    this.output.getTransport().flush(true, function() {
+      var result = null;
+      try {
+        result = self.recv_fetchQueryCursor();
+      } catch (e) {
+        result = e;
+      }
+      callback(result);
+    });
+  } else {
+    return this.output.getTransport().flush();
+  }
+};
+
+HawkClient.prototype.recv_fetchQueryCursor = function() {
+  var ret = this.input.readMessageBegin();
+  var fname = ret.fname;
+  var mtype = ret.mtype;
+  var rseqid = ret.rseqid;
+  if (mtype == Thrift.MessageType.EXCEPTION) {
+    var x = new Thrift.TApplicationException();
+    x.read(this.input);
+    this.input.readMessageEnd();
+    throw x;
+  }
+  var result = new Hawk_fetchQueryCursor_result();
+  result.read(this.input);
+  this.input.readMessageEnd();
+
+  if (null !== result.err1) {
+    throw result.err1;
+  }
+  if (null !== result.err2) {
+    throw result.err2;
+  }
+  if (null !== result.success) {
+    return result.success;
+  }
+  throw 'fetchQueryCursor failed: unknown result';
+};
+HawkClient.prototype.closeQueryCursor = function(cursorID, callback) {
+  this.send_closeQueryCursor(cursorID, callback); 
+  if (!callback) {
+  this.recv_closeQueryCursor();
+  }
+};
+
+HawkClient.prototype.send_closeQueryCursor = function(cursorID, callback) {
+  this.output.writeMessageBegin('closeQueryCursor', Thrift.MessageType.CALL, this.seqid);
+  var args = new Hawk_closeQueryCursor_args();
+  args.cursorID = cursorID;
+  args.write(this.output);
+  this.output.writeMessageEnd();
+  if (callback) {
+    var self = this;
+    this.output.getTransport().flush(true, function() {
+      var result = null;
+      try {
+        result = self.recv_closeQueryCursor();
+      } catch (e) {
+        result = e;
+      }
+      callback(result);
+    });
+  } else {
+    return this.output.getTransport().flush();
+  }
+};
+
+HawkClient.prototype.recv_closeQueryCursor = function() {
+  var ret = this.input.readMessageBegin();
+  var fname = ret.fname;
+  var mtype = ret.mtype;
+  var rseqid = ret.rseqid;
+  if (mtype == Thrift.MessageType.EXCEPTION) {
+    var x = new Thrift.TApplicationException();
+    x.read(this.input);
+    this.input.readMessageEnd();
+    throw x;
+  }
+  var result = new Hawk_closeQueryCursor_result();
+  result.read(this.input);
+  this.input.readMessageEnd();
+
+  if (null !== result.err1) {
+    throw result.err1;
+  }
+  return;
+};
 HawkClient.prototype.addRepository = function(name, repo, credentials, callback) {
   this.send_addRepository(name, repo, credentials, callback); 
   if (!callback) {
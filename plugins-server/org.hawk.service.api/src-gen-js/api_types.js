@@ -5475,6 +5475,8 @@ QueryReport = function(args) {
   this.result = null;
   this.wallMillis = null;
   this.isCancelled = null;
+  this.propertyCacheHits = null;
+  this.propertyCacheMisses = null;
   if (args) {
     if (args.result !== undefined && args.result !== null) {
       this.result = new QueryResult(args.result);
@@ -5491,6 +5493,12 @@ QueryReport = function(args) {
     } else {
       throw new Thrift.TProtocolException(Thrift.TProtocolExceptionType.UNKNOWN, 'Required field isCancelled is unset!');
     }
+    if (args.propertyCacheHits !== undefined && args.propertyCacheHits !== null) {
+      this.propertyCacheHits = args.propertyCacheHits;
+    }
+    if (args.propertyCacheMisses !== undefined && args.propertyCacheMisses !== null) {
+      this.propertyCacheMisses = args.propertyCacheMisses;
+    }
   }
 };
 QueryReport.prototype = {};
@@ -5529,6 +5537,20 @@ QueryReport.prototype.read = function(input) {
         input.skip(ftype);
       }
       break;
+      case 4:
+      if (ftype == Thrift.Type.I64) {
+        this.propertyCacheHits = input.readI64().value;
+      } else {
+        input.skip(ftype);
+      }
+      break;
+      case 5:
+      if (ftype == Thrift.Type.I64) {
+        this.propertyCacheMisses = input.readI64().value;
+      } else {
+        input.skip(ftype);
+      }
+      break;
       default:
         input.skip(ftype);
     }
@@ -5555,6 +5577,16 @@ QueryReport.prototype.write = function(output) {
     output.writeBool(this.isCancelled);
     output.writeFieldEnd();
   }
+  if (this.propertyCacheHits !== null && this.propertyCacheHits !== undefined) {
+    output.writeFieldBegin('propertyCacheHits', Thrift.Type.I64, 4);
+    output.writeI64(this.propertyCacheHits);
+    output.writeFieldEnd();
+  }
+  if (this.propertyCacheMisses !== null && this.propertyCacheMisses !== undefined) {
+    output.writeFieldBegin('propertyCacheMisses', Thrift.Type.I64, 5);
+    output.writeI64(this.propertyCacheMisses);
+    output.writeFieldEnd();
+  }
   output.writeFieldStop();
   output.writeStructEnd();
   return;
@@ -83,6 +83,12 @@ public class Hawk {
 
     public QueryReport fetchAsyncQueryResults(String queryID) throws InvalidQuery, FailedQuery, org.apache.thrift.TException;
 
+    public String openQueryCursor(String name, String query, String language, HawkQueryOptions options) throws HawkInstanceNotFound, HawkInstanceNotRunning, UnknownQueryLanguage, InvalidQuery, FailedQuery, org.apache.thrift.TException;
+
+    public List<QueryResult> fetchQueryCursor(String cursorID, int pageSize) throws InvalidQuery, FailedQuery, org.apache.thrift.TException;
+
+    public void closeQueryCursor(String cursorID) throws InvalidQuery, org.apache.thrift.TException;
+
     public void addRepository(String name, Repository repo, Credentials credentials) throws HawkInstanceNotFound, HawkInstanceNotRunning, UnknownRepositoryType, VCSAuthenticationFailed, org.apache.thrift.TException;
 
     public boolean isFrozen(String name, String uri) throws HawkInstanceNotFound, HawkInstanceNotRunning, org.apache.thrift.TException;
@@ -169,6 +175,12 @@ public class Hawk {
 
     public void fetchAsyncQueryResults(String queryID, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void openQueryCursor(String name, String query, String language, HawkQueryOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void fetchQueryCursor(String cursorID, int pageSize, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void closeQueryCursor(String cursorID, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void addRepository(String name, Repository repo, Credentials credentials, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void isFrozen(String name, String uri, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -855,6 +867,100 @@ public class Hawk {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "fetchAsyncQueryResults failed: unknown result");
     }
 
+    public String openQueryCursor(String name, String query, String language, HawkQueryOptions options) throws HawkInstanceNotFound, HawkInstanceNotRunning, UnknownQueryLanguage, InvalidQuery, FailedQuery, org.apache.thrift.TException
+    {
+      send_openQueryCursor(name, query, language, options);
+      return recv_openQueryCursor();
+    }
+
+    public void send_openQueryCursor(String name, String query, String language, HawkQueryOptions options) throws org.apache.thrift.TException
+    {
+      openQueryCursor_args args = new openQueryCursor_args();
+      args.setName(name);
+      args.setQuery(query);
+      args.setLanguage(language);
+      args.setOptions(options);
+      sendBase("openQueryCursor", args);
+    }
+
+    public String recv_openQueryCursor() throws HawkInstanceNotFound, HawkInstanceNotRunning, UnknownQueryLanguage, InvalidQuery, FailedQuery, org.apache.thrift.TException
+    {
+      openQueryCursor_result result = new openQueryCursor_result();
+      receiveBase(result, "openQueryCursor");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.err1 != null) {
+        throw result.err1;
+      }
+      if (result.err2 != null) {
+        throw result.err2;
+      }
+      if (result.err3 != null) {
+        throw result.err3;
+      }
+      if (result.err4 != null) {
+        throw result.err4;
+      }
+      if (result.err5 != null) {
+        throw result.err5;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "openQueryCursor failed: unknown result");
+    }
+
+    public List<QueryResult> fetchQueryCursor(String cursorID, int pageSize) throws InvalidQuery, FailedQuery, org.apache.thrift.TException
+    {
+      send_fetchQueryCursor(cursorID, pageSize);
+      return recv_fetchQueryCursor();
+    }
+
+    public void send_fetchQueryCursor(String cursorID, int pageSize) throws org.apache.thrift.TException
+    {
+      fetchQueryCursor_args args = new fetchQueryCursor_args();
+      args.setCursorID(cursorID);
+      args.setPageSize(pageSize);
+      sendBase("fetchQueryCursor", args);
+    }
+
+    public List<QueryResult> recv_fetchQueryCursor() throws InvalidQuery, FailedQuery, org.apache.thrift.TException
+    {
+      fetchQueryCursor_result result = new fetchQueryCursor_result();
+      receiveBase(result, "fetchQueryCursor");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.err1 != null) {
+        throw result.err1;
+      }
+      if (result.err2 != null) {
+        throw result.err2;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "fetchQueryCursor failed: unknown result");
+    }
+
+    public void closeQueryCursor(String cursorID) throws InvalidQuery, org.apache.thrift.TException
+    {
+      send_closeQueryCursor(cursorID);
+      recv_closeQueryCursor();
+    }
+
+    public void send_closeQueryCursor(String cursorID) throws org.apache.thrift.TException
+    {
+      closeQueryCursor_args args = new closeQueryCursor_args();
+      args.setCursorID(cursorID);
+      sendBase("closeQueryCursor", args);
+    }
+
+    public void recv_closeQueryCursor() throws InvalidQuery, org.apache.thrift.TException
+    {
+      closeQueryCursor_result result = new closeQueryCursor_result();
+      receiveBase(result, "closeQueryCursor");
+      if (result.err1 != null) {
+        throw result.err1;
+      }
+      return;
+    }
+
     public void addRepository(String name, Repository repo, Credentials credentials) throws HawkInstanceNotFound, HawkInstanceNotRunning, UnknownRepositoryType, VCSAuthenticationFailed, org.apache.thrift.TException
     {
       send_addRepository(name, repo, credentials);
@@ -2179,6 +2285,114 @@ public class Hawk {
       }
     }
 
+    public void openQueryCursor(String name, String query, String language, HawkQueryOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      openQueryCursor_call method_call = new openQueryCursor_call(name, query, language, options, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class openQueryCursor_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String name;
+      private String query;
+      private String language;
+      private HawkQueryOptions options;
+      public openQueryCursor_call(String name, String query, String language, HawkQueryOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.name = name;
+        this.query = query;
+        this.language = language;
+        this.options = options;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("openQueryCursor", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        openQueryCursor_args args = new openQueryCursor_args();
+        args.setName(name);
+        args.setQuery(query);
+        args.setLanguage(language);
+        args.setOptions(options);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public String getResult() throws HawkInstanceNotFound, HawkInstanceNotRunning, UnknownQueryLanguage, InvalidQuery, FailedQuery, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_openQueryCursor();
+      }
+    }
+
+    public void fetchQueryCursor(String cursorID, int pageSize, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      fetchQueryCursor_call method_call = new fetchQueryCursor_call(cursorID, pageSize, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class fetchQueryCursor_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String cursorID;
+      private int pageSize;
+      public fetchQueryCursor_call(String cursorID, int pageSize, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.cursorID = cursorID;
+        this.pageSize = pageSize;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("fetchQueryCursor", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        fetchQueryCursor_args args = new fetchQueryCursor_args();
+        args.setCursorID(cursorID);
+        args.setPageSize(pageSize);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<QueryResult> getResult() throws InvalidQuery, FailedQuery, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_fetchQueryCursor();
+      }
+    }
+
+    public void closeQueryCursor(String cursorID, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      closeQueryCursor_call method_call = new closeQueryCursor_call(cursorID, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class closeQueryCursor_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String cursorID;
+      public closeQueryCursor_call(String cursorID, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.cursorID = cursorID;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("closeQueryCursor", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        closeQueryCursor_args args = new closeQueryCursor_args();
+        args.setCursorID(cursorID);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws InvalidQuery, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_closeQueryCursor();
+      }
+    }
+
     public void addRepository(String name, Repository repo, Credentials credentials, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       addRepository_call method_call = new addRepository_call(name, repo, credentials, resultHandler, this, ___protocolFactory, ___transport);
@@ -2885,6 +3099,9 @@ public class Hawk {
       processMap.put("asyncQuery", new asyncQuery());
       processMap.put("cancelAsyncQuery", new cancelAsyncQuery());
       processMap.put("fetchAsyncQueryResults", new fetchAsyncQueryResults());
+      processMap.put("openQueryCursor", new openQueryCursor());
+      processMap.put("fetchQueryCursor", new fetchQueryCursor());
+      processMap.put("closeQueryCursor", new closeQueryCursor());
       processMap.put("addRepository", new addRepository());
       processMap.put("isFrozen", new isFrozen());
       processMap.put("setFrozen", new setFrozen());
@@ -3465,6 +3682,88 @@ public class Hawk {
       }
     }
 
+    public static class openQueryCursor<I extends Iface> extends org.apache.thrift.ProcessFunction<I, openQueryCursor_args> {
+      public openQueryCursor() {
+        super("openQueryCursor");
+      }
+
+      public openQueryCursor_args getEmptyArgsInstance() {
+        return new openQueryCursor_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public openQueryCursor_result getResult(I iface, openQueryCursor_args args) throws org.apache.thrift.TException {
+        openQueryCursor_result result = new openQueryCursor_result();
+        try {
+          result.success = iface.openQueryCursor(args.name, args.query, args.language, args.options);
+        } catch (HawkInstanceNotFound err1) {
+          result.err1 = err1;
+        } catch (HawkInstanceNotRunning err2) {
+          result.err2 = err2;
+        } catch (UnknownQueryLanguage err3) {
+          result.err3 = err3;
+        } catch (InvalidQuery err4) {
+          result.err4 = err4;
+        } catch (FailedQuery err5) {
+          result.err5 = err5;
+        }
+        return result;
+      }
+    }
+
+    public static class fetchQueryCursor<I extends Iface> extends org.apache.thrift.ProcessFunction<I, fetchQueryCursor_args> {
+      public fetchQueryCursor() {
+        super("fetchQueryCursor");
+      }
+
+      public fetchQueryCursor_args getEmptyArgsInstance() {
+        return new fetchQueryCursor_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public fetchQueryCursor_result getResult(I iface, fetchQueryCursor_args args) throws org.apache.thrift.TException {
+        fetchQueryCursor_result result = new fetchQueryCursor_result();
+        try {
+          result.success = iface.fetchQueryCursor(args.cursorID, args.pageSize);
+        } catch (InvalidQuery err1) {
+          result.err1 = err1;
+        } catch (FailedQuery err2) {
+          result.err2 = err2;
+        }
+        return result;
+      }
+    }
+
+    public static class closeQueryCursor<I extends Iface> extends org.apache.thrift.ProcessFunction<I, closeQueryCursor_args> {
+      public closeQueryCursor() {
+        super("closeQueryCursor");
+      }
+
+      public closeQueryCursor_args getEmptyArgsInstance() {
+        return new closeQueryCursor_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public closeQueryCursor_result getResult(I iface, closeQueryCursor_args args) throws org.apache.thrift.TException {
+        closeQueryCursor_result result = new closeQueryCursor_result();
+        try {
+          iface.closeQueryCursor(args.cursorID);
+        } catch (InvalidQuery err1) {
+          result.err1 = err1;
+        }
+        return result;
+      }
+    }
+
     public static class addRepository<I extends Iface> extends org.apache.thrift.ProcessFunction<I, addRepository_args> {
       public addRepository() {
         super("addRepository");
@@ -3993,6 +4292,9 @@ public class Hawk {
       processMap.put("asyncQuery", new asyncQuery());
       processMap.put("cancelAsyncQuery", new cancelAsyncQuery());
       processMap.put("fetchAsyncQueryResults", new fetchAsyncQueryResults());
+      processMap.put("openQueryCursor", new openQueryCursor());
+      processMap.put("fetchQueryCursor", new fetchQueryCursor());
+      processMap.put("closeQueryCursor", new closeQueryCursor());
       processMap.put("addRepository", new addRepository());
       processMap.put("isFrozen", new isFrozen());
       processMap.put("setFrozen", new setFrozen());
@@ -5356,20 +5658,21 @@ public class Hawk {
       }
     }
 
-    public static class addRepository<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, addRepository_args, Void> {
-      public addRepository() {
-        super("addRepository");
+    public static class openQueryCursor<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, openQueryCursor_args, String> {
+      public openQueryCursor() {
+        super("openQueryCursor");
       }
 
-      public addRepository_args getEmptyArgsInstance() {
-        return new addRepository_args();
+      public openQueryCursor_args getEmptyArgsInstance() {
+        return new openQueryCursor_args();
       }
 
-      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<String> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            addRepository_result result = new addRepository_result();
+        return new AsyncMethodCallback<String>() { 
+          public void onComplete(String o) {
+            openQueryCursor_result result = new openQueryCursor_result();
+            result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -5381,7 +5684,7 @@ public class Hawk {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            addRepository_result result = new addRepository_result();
+            openQueryCursor_result result = new openQueryCursor_result();
             if (e instanceof HawkInstanceNotFound) {
                         result.err1 = (HawkInstanceNotFound) e;
                         result.setErr1IsSet(true);
@@ -5392,77 +5695,19 @@ public class Hawk {
                         result.setErr2IsSet(true);
                         msg = result;
             }
-            else             if (e instanceof UnknownRepositoryType) {
-                        result.err3 = (UnknownRepositoryType) e;
+            else             if (e instanceof UnknownQueryLanguage) {
+                        result.err3 = (UnknownQueryLanguage) e;
                         result.setErr3IsSet(true);
                         msg = result;
             }
-            else             if (e instanceof VCSAuthenticationFailed) {
-                        result.err4 = (VCSAuthenticationFailed) e;
+            else             if (e instanceof InvalidQuery) {
+                        result.err4 = (InvalidQuery) e;
                         result.setErr4IsSet(true);
                         msg = result;
             }
-             else 
-            {
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-              return;
-            } catch (Exception ex) {
-              LOGGER.error("Exception writing to internal frame buffer", ex);
-            }
-            fb.close();
-          }
-        };
-      }
-
-      protected boolean isOneway() {
-        return false;
-      }
-
-      public void start(I iface, addRepository_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.addRepository(args.name, args.repo, args.credentials,resultHandler);
-      }
-    }
-
-    public static class isFrozen<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, isFrozen_args, Boolean> {
-      public isFrozen() {
-        super("isFrozen");
-      }
-
-      public isFrozen_args getEmptyArgsInstance() {
-        return new isFrozen_args();
-      }
-
-      public AsyncMethodCallback<Boolean> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Boolean>() { 
-          public void onComplete(Boolean o) {
-            isFrozen_result result = new isFrozen_result();
-            result.success = o;
-            result.setSuccessIsSet(true);
-            try {
-              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-              return;
-            } catch (Exception e) {
-              LOGGER.error("Exception writing to internal frame buffer", e);
-            }
-            fb.close();
-          }
-          public void onError(Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TBase msg;
-            isFrozen_result result = new isFrozen_result();
-            if (e instanceof HawkInstanceNotFound) {
-                        result.err1 = (HawkInstanceNotFound) e;
-                        result.setErr1IsSet(true);
-                        msg = result;
-            }
-            else             if (e instanceof HawkInstanceNotRunning) {
-                        result.err2 = (HawkInstanceNotRunning) e;
-                        result.setErr2IsSet(true);
+            else             if (e instanceof FailedQuery) {
+                        result.err5 = (FailedQuery) e;
+                        result.setErr5IsSet(true);
                         msg = result;
             }
              else 
@@ -5485,25 +5730,26 @@ public class Hawk {
         return false;
       }
 
-      public void start(I iface, isFrozen_args args, org.apache.thrift.async.AsyncMethodCallback<Boolean> resultHandler) throws TException {
-        iface.isFrozen(args.name, args.uri,resultHandler);
+      public void start(I iface, openQueryCursor_args args, org.apache.thrift.async.AsyncMethodCallback<String> resultHandler) throws TException {
+        iface.openQueryCursor(args.name, args.query, args.language, args.options,resultHandler);
       }
     }
 
-    public static class setFrozen<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, setFrozen_args, Void> {
-      public setFrozen() {
-        super("setFrozen");
+    public static class fetchQueryCursor<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, fetchQueryCursor_args, List<QueryResult>> {
+      public fetchQueryCursor() {
+        super("fetchQueryCursor");
       }
 
-      public setFrozen_args getEmptyArgsInstance() {
-        return new setFrozen_args();
+      public fetchQueryCursor_args getEmptyArgsInstance() {
+        return new fetchQueryCursor_args();
       }
 
-      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<List<QueryResult>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            setFrozen_result result = new setFrozen_result();
+        return new AsyncMethodCallback<List<QueryResult>>() { 
+          public void onComplete(List<QueryResult> o) {
+            fetchQueryCursor_result result = new fetchQueryCursor_result();
+            result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -5515,14 +5761,14 @@ public class Hawk {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            setFrozen_result result = new setFrozen_result();
-            if (e instanceof HawkInstanceNotFound) {
-                        result.err1 = (HawkInstanceNotFound) e;
+            fetchQueryCursor_result result = new fetchQueryCursor_result();
+            if (e instanceof InvalidQuery) {
+                        result.err1 = (InvalidQuery) e;
                         result.setErr1IsSet(true);
                         msg = result;
             }
-            else             if (e instanceof HawkInstanceNotRunning) {
-                        result.err2 = (HawkInstanceNotRunning) e;
+            else             if (e instanceof FailedQuery) {
+                        result.err2 = (FailedQuery) e;
                         result.setErr2IsSet(true);
                         msg = result;
             }
@@ -5546,25 +5792,25 @@ public class Hawk {
         return false;
       }
 
-      public void start(I iface, setFrozen_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.setFrozen(args.name, args.uri, args.isFrozen,resultHandler);
+      public void start(I iface, fetchQueryCursor_args args, org.apache.thrift.async.AsyncMethodCallback<List<QueryResult>> resultHandler) throws TException {
+        iface.fetchQueryCursor(args.cursorID, args.pageSize,resultHandler);
       }
     }
 
-    public static class removeRepository<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, removeRepository_args, Void> {
-      public removeRepository() {
-        super("removeRepository");
+    public static class closeQueryCursor<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, closeQueryCursor_args, Void> {
+      public closeQueryCursor() {
+        super("closeQueryCursor");
       }
 
-      public removeRepository_args getEmptyArgsInstance() {
-        return new removeRepository_args();
+      public closeQueryCursor_args getEmptyArgsInstance() {
+        return new closeQueryCursor_args();
       }
 
       public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new AsyncMethodCallback<Void>() { 
           public void onComplete(Void o) {
-            removeRepository_result result = new removeRepository_result();
+            closeQueryCursor_result result = new closeQueryCursor_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -5576,16 +5822,11 @@ public class Hawk {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            removeRepository_result result = new removeRepository_result();
-            if (e instanceof HawkInstanceNotFound) {
-                        result.err1 = (HawkInstanceNotFound) e;
+            closeQueryCursor_result result = new closeQueryCursor_result();
+            if (e instanceof InvalidQuery) {
+                        result.err1 = (InvalidQuery) e;
                         result.setErr1IsSet(true);
                         msg = result;
-            }
-            else             if (e instanceof HawkInstanceNotRunning) {
-                        result.err2 = (HawkInstanceNotRunning) e;
-                        result.setErr2IsSet(true);
-                        msg = result;
             }
              else 
             {
@@ -5607,25 +5848,25 @@ public class Hawk {
         return false;
       }
 
-      public void start(I iface, removeRepository_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.removeRepository(args.name, args.uri,resultHandler);
+      public void start(I iface, closeQueryCursor_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.closeQueryCursor(args.cursorID,resultHandler);
       }
     }
 
-    public static class updateRepositoryCredentials<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, updateRepositoryCredentials_args, Void> {
-      public updateRepositoryCredentials() {
-        super("updateRepositoryCredentials");
+    public static class addRepository<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, addRepository_args, Void> {
+      public addRepository() {
+        super("addRepository");
       }
 
-      public updateRepositoryCredentials_args getEmptyArgsInstance() {
-        return new updateRepositoryCredentials_args();
+      public addRepository_args getEmptyArgsInstance() {
+        return new addRepository_args();
       }
 
       public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new AsyncMethodCallback<Void>() { 
           public void onComplete(Void o) {
-            updateRepositoryCredentials_result result = new updateRepositoryCredentials_result();
+            addRepository_result result = new addRepository_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -5637,7 +5878,7 @@ public class Hawk {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            updateRepositoryCredentials_result result = new updateRepositoryCredentials_result();
+            addRepository_result result = new addRepository_result();
             if (e instanceof HawkInstanceNotFound) {
                         result.err1 = (HawkInstanceNotFound) e;
                         result.setErr1IsSet(true);
@@ -5647,6 +5888,16 @@ public class Hawk {
                         result.err2 = (HawkInstanceNotRunning) e;
                         result.setErr2IsSet(true);
                         msg = result;
+            }
+            else             if (e instanceof UnknownRepositoryType) {
+                        result.err3 = (UnknownRepositoryType) e;
+                        result.setErr3IsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof VCSAuthenticationFailed) {
+                        result.err4 = (VCSAuthenticationFailed) e;
+                        result.setErr4IsSet(true);
+                        msg = result;
             }
              else 
             {
@@ -5668,26 +5919,27 @@ public class Hawk {
         return false;
       }
 
-      public void start(I iface, updateRepositoryCredentials_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.updateRepositoryCredentials(args.name, args.uri, args.cred,resultHandler);
+      public void start(I iface, addRepository_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.addRepository(args.name, args.repo, args.credentials,resultHandler);
       }
     }
 
-    public static class listRepositories<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, listRepositories_args, List<Repository>> {
-      public listRepositories() {
-        super("listRepositories");
+    public static class isFrozen<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, isFrozen_args, Boolean> {
+      public isFrozen() {
+        super("isFrozen");
       }
 
-      public listRepositories_args getEmptyArgsInstance() {
-        return new listRepositories_args();
+      public isFrozen_args getEmptyArgsInstance() {
+        return new isFrozen_args();
       }
 
-      public AsyncMethodCallback<List<Repository>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<Boolean> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<List<Repository>>() { 
-          public void onComplete(List<Repository> o) {
-            listRepositories_result result = new listRepositories_result();
+        return new AsyncMethodCallback<Boolean>() { 
+          public void onComplete(Boolean o) {
+            isFrozen_result result = new isFrozen_result();
             result.success = o;
+            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -5699,7 +5951,7 @@ public class Hawk {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            listRepositories_result result = new listRepositories_result();
+            isFrozen_result result = new isFrozen_result();
             if (e instanceof HawkInstanceNotFound) {
                         result.err1 = (HawkInstanceNotFound) e;
                         result.setErr1IsSet(true);
@@ -5730,26 +5982,25 @@ public class Hawk {
         return false;
       }
 
-      public void start(I iface, listRepositories_args args, org.apache.thrift.async.AsyncMethodCallback<List<Repository>> resultHandler) throws TException {
-        iface.listRepositories(args.name,resultHandler);
+      public void start(I iface, isFrozen_args args, org.apache.thrift.async.AsyncMethodCallback<Boolean> resultHandler) throws TException {
+        iface.isFrozen(args.name, args.uri,resultHandler);
       }
     }
 
-    public static class listRepositoryTypes<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, listRepositoryTypes_args, List<String>> {
-      public listRepositoryTypes() {
-        super("listRepositoryTypes");
+    public static class setFrozen<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, setFrozen_args, Void> {
+      public setFrozen() {
+        super("setFrozen");
       }
 
-      public listRepositoryTypes_args getEmptyArgsInstance() {
-        return new listRepositoryTypes_args();
+      public setFrozen_args getEmptyArgsInstance() {
+        return new setFrozen_args();
       }
 
-      public AsyncMethodCallback<List<String>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<List<String>>() { 
-          public void onComplete(List<String> o) {
-            listRepositoryTypes_result result = new listRepositoryTypes_result();
-            result.success = o;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            setFrozen_result result = new setFrozen_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -5761,7 +6012,18 @@ public class Hawk {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            listRepositoryTypes_result result = new listRepositoryTypes_result();
+            setFrozen_result result = new setFrozen_result();
+            if (e instanceof HawkInstanceNotFound) {
+                        result.err1 = (HawkInstanceNotFound) e;
+                        result.setErr1IsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof HawkInstanceNotRunning) {
+                        result.err2 = (HawkInstanceNotRunning) e;
+                        result.setErr2IsSet(true);
+                        msg = result;
+            }
+             else 
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -5781,26 +6043,25 @@ public class Hawk {
         return false;
       }
 
-      public void start(I iface, listRepositoryTypes_args args, org.apache.thrift.async.AsyncMethodCallback<List<String>> resultHandler) throws TException {
-        iface.listRepositoryTypes(resultHandler);
+      public void start(I iface, setFrozen_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.setFrozen(args.name, args.uri, args.isFrozen,resultHandler);
       }
     }
 
-    public static class listFiles<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, listFiles_args, List<String>> {
-      public listFiles() {
-        super("listFiles");
+    public static class removeRepository<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, removeRepository_args, Void> {
+      public removeRepository() {
+        super("removeRepository");
       }
 
-      public listFiles_args getEmptyArgsInstance() {
-        return new listFiles_args();
+      public removeRepository_args getEmptyArgsInstance() {
+        return new removeRepository_args();
       }
 
-      public AsyncMethodCallback<List<String>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<List<String>>() { 
-          public void onComplete(List<String> o) {
-            listFiles_result result = new listFiles_result();
-            result.success = o;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            removeRepository_result result = new removeRepository_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -5812,7 +6073,7 @@ public class Hawk {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            listFiles_result result = new listFiles_result();
+            removeRepository_result result = new removeRepository_result();
             if (e instanceof HawkInstanceNotFound) {
                         result.err1 = (HawkInstanceNotFound) e;
                         result.setErr1IsSet(true);
@@ -5843,25 +6104,25 @@ public class Hawk {
         return false;
       }
 
-      public void start(I iface, listFiles_args args, org.apache.thrift.async.AsyncMethodCallback<List<String>> resultHandler) throws TException {
-        iface.listFiles(args.name, args.repository, args.filePatterns,resultHandler);
+      public void start(I iface, removeRepository_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.removeRepository(args.name, args.uri,resultHandler);
       }
     }
 
-    public static class configurePolling<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, configurePolling_args, Void> {
-      public configurePolling() {
-        super("configurePolling");
+    public static class updateRepositoryCredentials<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, updateRepositoryCredentials_args, Void> {
+      public updateRepositoryCredentials() {
+        super("updateRepositoryCredentials");
       }
 
-      public configurePolling_args getEmptyArgsInstance() {
-        return new configurePolling_args();
+      public updateRepositoryCredentials_args getEmptyArgsInstance() {
+        return new updateRepositoryCredentials_args();
       }
 
       public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new AsyncMethodCallback<Void>() { 
           public void onComplete(Void o) {
-            configurePolling_result result = new configurePolling_result();
+            updateRepositoryCredentials_result result = new updateRepositoryCredentials_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -5873,7 +6134,7 @@ public class Hawk {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            configurePolling_result result = new configurePolling_result();
+            updateRepositoryCredentials_result result = new updateRepositoryCredentials_result();
             if (e instanceof HawkInstanceNotFound) {
                         result.err1 = (HawkInstanceNotFound) e;
                         result.setErr1IsSet(true);
@@ -5883,11 +6144,6 @@ public class Hawk {
                         result.err2 = (HawkInstanceNotRunning) e;
                         result.setErr2IsSet(true);
                         msg = result;
-            }
-            else             if (e instanceof InvalidPollingConfiguration) {
-                        result.err3 = (InvalidPollingConfiguration) e;
-                        result.setErr3IsSet(true);
-                        msg = result;
             }
              else 
             {
@@ -5909,25 +6165,26 @@ public class Hawk {
         return false;
       }
 
-      public void start(I iface, configurePolling_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.configurePolling(args.name, args.base, args.max,resultHandler);
+      public void start(I iface, updateRepositoryCredentials_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.updateRepositoryCredentials(args.name, args.uri, args.cred,resultHandler);
       }
     }
 
-    public static class addDerivedAttribute<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, addDerivedAttribute_args, Void> {
-      public addDerivedAttribute() {
-        super("addDerivedAttribute");
+    public static class listRepositories<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, listRepositories_args, List<Repository>> {
+      public listRepositories() {
+        super("listRepositories");
       }
 
-      public addDerivedAttribute_args getEmptyArgsInstance() {
-        return new addDerivedAttribute_args();
+      public listRepositories_args getEmptyArgsInstance() {
+        return new listRepositories_args();
       }
 
-      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<List<Repository>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            addDerivedAttribute_result result = new addDerivedAttribute_result();
+        return new AsyncMethodCallback<List<Repository>>() { 
+          public void onComplete(List<Repository> o) {
+            listRepositories_result result = new listRepositories_result();
+            result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -5939,7 +6196,7 @@ public class Hawk {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            addDerivedAttribute_result result = new addDerivedAttribute_result();
+            listRepositories_result result = new listRepositories_result();
             if (e instanceof HawkInstanceNotFound) {
                         result.err1 = (HawkInstanceNotFound) e;
                         result.setErr1IsSet(true);
@@ -5949,11 +6206,6 @@ public class Hawk {
                         result.err2 = (HawkInstanceNotRunning) e;
                         result.setErr2IsSet(true);
                         msg = result;
-            }
-            else             if (e instanceof InvalidDerivedAttributeSpec) {
-                        result.err3 = (InvalidDerivedAttributeSpec) e;
-                        result.setErr3IsSet(true);
-                        msg = result;
             }
              else 
             {
@@ -5975,25 +6227,26 @@ public class Hawk {
         return false;
       }
 
-      public void start(I iface, addDerivedAttribute_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.addDerivedAttribute(args.name, args.spec,resultHandler);
+      public void start(I iface, listRepositories_args args, org.apache.thrift.async.AsyncMethodCallback<List<Repository>> resultHandler) throws TException {
+        iface.listRepositories(args.name,resultHandler);
       }
     }
 
-    public static class removeDerivedAttribute<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, removeDerivedAttribute_args, Void> {
-      public removeDerivedAttribute() {
-        super("removeDerivedAttribute");
+    public static class listRepositoryTypes<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, listRepositoryTypes_args, List<String>> {
+      public listRepositoryTypes() {
+        super("listRepositoryTypes");
       }
 
-      public removeDerivedAttribute_args getEmptyArgsInstance() {
-        return new removeDerivedAttribute_args();
+      public listRepositoryTypes_args getEmptyArgsInstance() {
+        return new listRepositoryTypes_args();
       }
 
-      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<List<String>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            removeDerivedAttribute_result result = new removeDerivedAttribute_result();
+        return new AsyncMethodCallback<List<String>>() { 
+          public void onComplete(List<String> o) {
+            listRepositoryTypes_result result = new listRepositoryTypes_result();
+            result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -6005,18 +6258,7 @@ public class Hawk {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            removeDerivedAttribute_result result = new removeDerivedAttribute_result();
-            if (e instanceof HawkInstanceNotFound) {
-                        result.err1 = (HawkInstanceNotFound) e;
-                        result.setErr1IsSet(true);
-                        msg = result;
-            }
-            else             if (e instanceof HawkInstanceNotRunning) {
-                        result.err2 = (HawkInstanceNotRunning) e;
-                        result.setErr2IsSet(true);
-                        msg = result;
-            }
-             else 
+            listRepositoryTypes_result result = new listRepositoryTypes_result();
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -6036,25 +6278,25 @@ public class Hawk {
         return false;
       }
 
-      public void start(I iface, removeDerivedAttribute_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.removeDerivedAttribute(args.name, args.spec,resultHandler);
+      public void start(I iface, listRepositoryTypes_args args, org.apache.thrift.async.AsyncMethodCallback<List<String>> resultHandler) throws TException {
+        iface.listRepositoryTypes(resultHandler);
       }
     }
 
-    public static class listDerivedAttributes<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, listDerivedAttributes_args, List<DerivedAttributeSpec>> {
-      public listDerivedAttributes() {
-        super("listDerivedAttributes");
+    public static class listFiles<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, listFiles_args, List<String>> {
+      public listFiles() {
+        super("listFiles");
       }
 
-      public listDerivedAttributes_args getEmptyArgsInstance() {
-        return new listDerivedAttributes_args();
+      public listFiles_args getEmptyArgsInstance() {
+        return new listFiles_args();
       }
 
-      public AsyncMethodCallback<List<DerivedAttributeSpec>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<List<String>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<List<DerivedAttributeSpec>>() { 
-          public void onComplete(List<DerivedAttributeSpec> o) {
-            listDerivedAttributes_result result = new listDerivedAttributes_result();
+        return new AsyncMethodCallback<List<String>>() { 
+          public void onComplete(List<String> o) {
+            listFiles_result result = new listFiles_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -6067,7 +6309,7 @@ public class Hawk {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            listDerivedAttributes_result result = new listDerivedAttributes_result();
+            listFiles_result result = new listFiles_result();
             if (e instanceof HawkInstanceNotFound) {
                         result.err1 = (HawkInstanceNotFound) e;
                         result.setErr1IsSet(true);
@@ -6098,25 +6340,25 @@ public class Hawk {
         return false;
       }
 
-      public void start(I iface, listDerivedAttributes_args args, org.apache.thrift.async.AsyncMethodCallback<List<DerivedAttributeSpec>> resultHandler) throws TException {
-        iface.listDerivedAttributes(args.name,resultHandler);
+      public void start(I iface, listFiles_args args, org.apache.thrift.async.AsyncMethodCallback<List<String>> resultHandler) throws TException {
+        iface.listFiles(args.name, args.repository, args.filePatterns,resultHandler);
       }
     }
 
-    public static class addIndexedAttribute<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, addIndexedAttribute_args, Void> {
-      public addIndexedAttribute() {
-        super("addIndexedAttribute");
+    public static class configurePolling<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, configurePolling_args, Void> {
+      public configurePolling() {
+        super("configurePolling");
       }
 
-      public addIndexedAttribute_args getEmptyArgsInstance() {
-        return new addIndexedAttribute_args();
+      public configurePolling_args getEmptyArgsInstance() {
+        return new configurePolling_args();
       }
 
       public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new AsyncMethodCallback<Void>() { 
           public void onComplete(Void o) {
-            addIndexedAttribute_result result = new addIndexedAttribute_result();
+            configurePolling_result result = new configurePolling_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -6128,7 +6370,7 @@ public class Hawk {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            addIndexedAttribute_result result = new addIndexedAttribute_result();
+            configurePolling_result result = new configurePolling_result();
             if (e instanceof HawkInstanceNotFound) {
                         result.err1 = (HawkInstanceNotFound) e;
                         result.setErr1IsSet(true);
@@ -6139,8 +6381,263 @@ public class Hawk {
                         result.setErr2IsSet(true);
                         msg = result;
             }
-            else             if (e instanceof InvalidIndexedAttributeSpec) {
-                        result.err3 = (InvalidIndexedAttributeSpec) e;
+            else             if (e instanceof InvalidPollingConfiguration) {
+                        result.err3 = (InvalidPollingConfiguration) e;
+                        result.setErr3IsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, configurePolling_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.configurePolling(args.name, args.base, args.max,resultHandler);
+      }
+    }
+
+    public static class addDerivedAttribute<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, addDerivedAttribute_args, Void> {
+      public addDerivedAttribute() {
+        super("addDerivedAttribute");
+      }
+
+      public addDerivedAttribute_args getEmptyArgsInstance() {
+        return new addDerivedAttribute_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            addDerivedAttribute_result result = new addDerivedAttribute_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            addDerivedAttribute_result result = new addDerivedAttribute_result();
+            if (e instanceof HawkInstanceNotFound) {
+                        result.err1 = (HawkInstanceNotFound) e;
+                        result.setErr1IsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof HawkInstanceNotRunning) {
+                        result.err2 = (HawkInstanceNotRunning) e;
+                        result.setErr2IsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof InvalidDerivedAttributeSpec) {
+                        result.err3 = (InvalidDerivedAttributeSpec) e;
+                        result.setErr3IsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, addDerivedAttribute_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.addDerivedAttribute(args.name, args.spec,resultHandler);
+      }
+    }
+
+    public static class removeDerivedAttribute<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, removeDerivedAttribute_args, Void> {
+      public removeDerivedAttribute() {
+        super("removeDerivedAttribute");
+      }
+
+      public removeDerivedAttribute_args getEmptyArgsInstance() {
+        return new removeDerivedAttribute_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            removeDerivedAttribute_result result = new removeDerivedAttribute_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            removeDerivedAttribute_result result = new removeDerivedAttribute_result();
+            if (e instanceof HawkInstanceNotFound) {
+                        result.err1 = (HawkInstanceNotFound) e;
+                        result.setErr1IsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof HawkInstanceNotRunning) {
+                        result.err2 = (HawkInstanceNotRunning) e;
+                        result.setErr2IsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, removeDerivedAttribute_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.removeDerivedAttribute(args.name, args.spec,resultHandler);
+      }
+    }
+
+    public static class listDerivedAttributes<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, listDerivedAttributes_args, List<DerivedAttributeSpec>> {
+      public listDerivedAttributes() {
+        super("listDerivedAttributes");
+      }
+
+      public listDerivedAttributes_args getEmptyArgsInstance() {
+        return new listDerivedAttributes_args();
+      }
+
+      public AsyncMethodCallback<List<DerivedAttributeSpec>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<DerivedAttributeSpec>>() { 
+          public void onComplete(List<DerivedAttributeSpec> o) {
+            listDerivedAttributes_result result = new listDerivedAttributes_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            listDerivedAttributes_result result = new listDerivedAttributes_result();
+            if (e instanceof HawkInstanceNotFound) {
+                        result.err1 = (HawkInstanceNotFound) e;
+                        result.setErr1IsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof HawkInstanceNotRunning) {
+                        result.err2 = (HawkInstanceNotRunning) e;
+                        result.setErr2IsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, listDerivedAttributes_args args, org.apache.thrift.async.AsyncMethodCallback<List<DerivedAttributeSpec>> resultHandler) throws TException {
+        iface.listDerivedAttributes(args.name,resultHandler);
+      }
+    }
+
+    public static class addIndexedAttribute<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, addIndexedAttribute_args, Void> {
+      public addIndexedAttribute() {
+        super("addIndexedAttribute");
+      }
+
+      public addIndexedAttribute_args getEmptyArgsInstance() {
+        return new addIndexedAttribute_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            addIndexedAttribute_result result = new addIndexedAttribute_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            addIndexedAttribute_result result = new addIndexedAttribute_result();
+            if (e instanceof HawkInstanceNotFound) {
+                        result.err1 = (HawkInstanceNotFound) e;
+                        result.setErr1IsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof HawkInstanceNotRunning) {
+                        result.err2 = (HawkInstanceNotRunning) e;
+                        result.setErr2IsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof InvalidIndexedAttributeSpec) {
+                        result.err3 = (InvalidIndexedAttributeSpec) e;
                         result.setErr3IsSet(true);
                         msg = result;
             }
@@ -28468,28 +28965,31 @@ public class Hawk {
 
   }
 
-  public static class addRepository_args implements org.apache.thrift.TBase<addRepository_args, addRepository_args._Fields>, java.io.Serializable, Cloneable, Comparable<addRepository_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addRepository_args");
+  public static class openQueryCursor_args implements org.apache.thrift.TBase<openQueryCursor_args, openQueryCursor_args._Fields>, java.io.Serializable, Cloneable, Comparable<openQueryCursor_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("openQueryCursor_args");
 
     private static final org.apache.thrift.protocol.TField NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("name", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField REPO_FIELD_DESC = new org.apache.thrift.protocol.TField("repo", org.apache.thrift.protocol.TType.STRUCT, (short)2);
-    private static final org.apache.thrift.protocol.TField CREDENTIALS_FIELD_DESC = new org.apache.thrift.protocol.TField("credentials", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+    private static final org.apache.thrift.protocol.TField QUERY_FIELD_DESC = new org.apache.thrift.protocol.TField("query", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField LANGUAGE_FIELD_DESC = new org.apache.thrift.protocol.TField("language", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)4);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new addRepository_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new addRepository_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new openQueryCursor_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new openQueryCursor_argsTupleSchemeFactory());
     }
 
     public String name; // required
-    public Repository repo; // required
-    public Credentials credentials; // required
+    public String query; // required
+    public String language; // required
+    public HawkQueryOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       NAME((short)1, "name"),
-      REPO((short)2, "repo"),
-      CREDENTIALS((short)3, "credentials");
+      QUERY((short)2, "query"),
+      LANGUAGE((short)3, "language"),
+      OPTIONS((short)4, "options");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -28506,10 +29006,3365 @@ public class Hawk {
         switch(fieldId) {
           case 1: // NAME
             return NAME;
-          case 2: // REPO
-            return REPO;
-          case 3: // CREDENTIALS
-            return CREDENTIALS;
+          case 2: // QUERY
+            return QUERY;
+          case 3: // LANGUAGE
+            return LANGUAGE;
+          case 4: // OPTIONS
+            return OPTIONS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.NAME, new org.apache.thrift.meta_data.FieldMetaData("name", org.apache.thrift.TFieldRequirementType.REQUIRED, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.QUERY, new org.apache.thrift.meta_data.FieldMetaData("query", org.apache.thrift.TFieldRequirementType.REQUIRED, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.LANGUAGE, new org.apache.thrift.meta_data.FieldMetaData("language", org.apache.thrift.TFieldRequirementType.REQUIRED, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.REQUIRED, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, HawkQueryOptions.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(openQueryCursor_args.class, metaDataMap);
+    }
+
+    public openQueryCursor_args() {
+    }
+
+    public openQueryCursor_args(
+      String name,
+      String query,
+      String language,
+      HawkQueryOptions options)
+    {
+      this();
+      this.name = name;
+      this.query = query;
+      this.language = language;
+      this.options = options;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public openQueryCursor_args(openQueryCursor_args other) {
+      if (other.isSetName()) {
+        this.name = other.name;
+      }
+      if (other.isSetQuery()) {
+        this.query = other.query;
+      }
+      if (other.isSetLanguage()) {
+        this.language = other.language;
+      }
+      if (other.isSetOptions()) {
+        this.options = new HawkQueryOptions(other.options);
+      }
+    }
+
+    public openQueryCursor_args deepCopy() {
+      return new openQueryCursor_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.name = null;
+      this.query = null;
+      this.language = null;
+      this.options = null;
+    }
+
+    public String getName() {
+      return this.name;
+    }
+
+    public openQueryCursor_args setName(String name) {
+      this.name = name;
+      return this;
+    }
+
+    public void unsetName() {
+      this.name = null;
+    }
+
+    /** Returns true if field name is set (has been assigned a value) and false otherwise */
+    public boolean isSetName() {
+      return this.name != null;
+    }
+
+    public void setNameIsSet(boolean value) {
+      if (!value) {
+        this.name = null;
+      }
+    }
+
+    public String getQuery() {
+      return this.query;
+    }
+
+    public openQueryCursor_args setQuery(String query) {
+      this.query = query;
+      return this;
+    }
+
+    public void unsetQuery() {
+      this.query = null;
+    }
+
+    /** Returns true if field query is set (has been assigned a value) and false otherwise */
+    public boolean isSetQuery() {
+      return this.query != null;
+    }
+
+    public void setQueryIsSet(boolean value) {
+      if (!value) {
+        this.query = null;
+      }
+    }
+
+    public String getLanguage() {
+      return this.language;
+    }
+
+    public openQueryCursor_args setLanguage(String language) {
+      this.language = language;
+      return this;
+    }
+
+    public void unsetLanguage() {
+      this.language = null;
+    }
+
+    /** Returns true if field language is set (has been assigned a value) and false otherwise */
+    public boolean isSetLanguage() {
+      return this.language != null;
+    }
+
+    public void setLanguageIsSet(boolean value) {
+      if (!value) {
+        this.language = null;
+      }
+    }
+
+    public HawkQueryOptions getOptions() {
+      return this.options;
+    }
+
+    public openQueryCursor_args setOptions(HawkQueryOptions options) {
+      this.options = options;
+      return this;
+    }
+
+    public void unsetOptions() {
+      this.options = null;
+    }
+
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
+    }
+
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case NAME:
+        if (value == null) {
+          unsetName();
+        } else {
+          setName((String)value);
+        }
+        break;
+
+      case QUERY:
+        if (value == null) {
+          unsetQuery();
+        } else {
+          setQuery((String)value);
+        }
+        break;
+
+      case LANGUAGE:
+        if (value == null) {
+          unsetLanguage();
+        } else {
+          setLanguage((String)value);
+        }
+        break;
+
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((HawkQueryOptions)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case NAME:
+        return getName();
+
+      case QUERY:
+        return getQuery();
+
+      case LANGUAGE:
+        return getLanguage();
+
+      case OPTIONS:
+        return getOptions();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case NAME:
+        return isSetName();
+      case QUERY:
+        return isSetQuery();
+      case LANGUAGE:
+        return isSetLanguage();
+      case OPTIONS:
+        return isSetOptions();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof openQueryCursor_args)
+        return this.equals((openQueryCursor_args)that);
+      return false;
+    }
+
+    public boolean equals(openQueryCursor_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_name = true && this.isSetName();
+      boolean that_present_name = true && that.isSetName();
+      if (this_present_name || that_present_name) {
+        if (!(this_present_name && that_present_name))
+          return false;
+        if (!this.name.equals(that.name))
+          return false;
+      }
+
+      boolean this_present_query = true && this.isSetQuery();
+      boolean that_present_query = true && that.isSetQuery();
+      if (this_present_query || that_present_query) {
+        if (!(this_present_query && that_present_query))
+          return false;
+        if (!this.query.equals(that.query))
+          return false;
+      }
+
+      boolean this_present_language = true && this.isSetLanguage();
+      boolean that_present_language = true && that.isSetLanguage();
+      if (this_present_language || that_present_language) {
+        if (!(this_present_language && that_present_language))
+          return false;
+        if (!this.language.equals(that.language))
+          return false;
+      }
+
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_name = true && (isSetName());
+      list.add(present_name);
+      if (present_name)
+        list.add(name);
+
+      boolean present_query = true && (isSetQuery());
+      list.add(present_query);
+      if (present_query)
+        list.add(query);
+
+      boolean present_language = true && (isSetLanguage());
+      list.add(present_language);
+      if (present_language)
+        list.add(language);
+
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(openQueryCursor_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetName()).compareTo(other.isSetName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.name, other.name);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetQuery()).compareTo(other.isSetQuery());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetQuery()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.query, other.query);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetLanguage()).compareTo(other.isSetLanguage());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLanguage()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.language, other.language);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("openQueryCursor_args(");
+      boolean first = true;
+
+      sb.append("name:");
+      if (this.name == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.name);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("query:");
+      if (this.query == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.query);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("language:");
+      if (this.language == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.language);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      if (name == null) {
+        throw new org.apache.thrift.protocol.TProtocolException("Required field 'name' was not present! Struct: " + toString());
+      }
+      if (query == null) {
+        throw new org.apache.thrift.protocol.TProtocolException("Required field 'query' was not present! Struct: " + toString());
+      }
+      if (language == null) {
+        throw new org.apache.thrift.protocol.TProtocolException("Required field 'language' was not present! Struct: " + toString());
+      }
+      if (options == null) {
+        throw new org.apache.thrift.protocol.TProtocolException("Required field 'options' was not present! Struct: " + toString());
+      }
+      // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class openQueryCursor_argsStandardSchemeFactory implements SchemeFactory {
+      public openQueryCursor_argsStandardScheme getScheme() {
+        return new openQueryCursor_argsStandardScheme();
+      }
+    }
+
+    private static class openQueryCursor_argsStandardScheme extends StandardScheme<openQueryCursor_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, openQueryCursor_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.name = iprot.readString();
+                struct.setNameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // QUERY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.query = iprot.readString();
+                struct.setQueryIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // LANGUAGE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.language = iprot.readString();
+                struct.setLanguageIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new HawkQueryOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, openQueryCursor_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.name != null) {
+          oprot.writeFieldBegin(NAME_FIELD_DESC);
+          oprot.writeString(struct.name);
+          oprot.writeFieldEnd();
+        }
+        if (struct.query != null) {
+          oprot.writeFieldBegin(QUERY_FIELD_DESC);
+          oprot.writeString(struct.query);
+          oprot.writeFieldEnd();
+        }
+        if (struct.language != null) {
+          oprot.writeFieldBegin(LANGUAGE_FIELD_DESC);
+          oprot.writeString(struct.language);
+          oprot.writeFieldEnd();
+        }
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class openQueryCursor_argsTupleSchemeFactory implements SchemeFactory {
+      public openQueryCursor_argsTupleScheme getScheme() {
+        return new openQueryCursor_argsTupleScheme();
+      }
+    }
+
+    private static class openQueryCursor_argsTupleScheme extends TupleScheme<openQueryCursor_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, openQueryCursor_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        oprot.writeString(struct.name);
+        oprot.writeString(struct.query);
+        oprot.writeString(struct.language);
+        struct.options.write(oprot);
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, openQueryCursor_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        struct.name = iprot.readString();
+        struct.setNameIsSet(true);
+        struct.query = iprot.readString();
+        struct.setQueryIsSet(true);
+        struct.language = iprot.readString();
+        struct.setLanguageIsSet(true);
+        struct.options = new HawkQueryOptions();
+        struct.options.read(iprot);
+        struct.setOptionsIsSet(true);
+      }
+    }
+
+  }
+
+  public static class openQueryCursor_result implements org.apache.thrift.TBase<openQueryCursor_result, openQueryCursor_result._Fields>, java.io.Serializable, Cloneable, Comparable<openQueryCursor_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("openQueryCursor_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField ERR1_FIELD_DESC = new org.apache.thrift.protocol.TField("err1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField ERR2_FIELD_DESC = new org.apache.thrift.protocol.TField("err2", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField ERR3_FIELD_DESC = new org.apache.thrift.protocol.TField("err3", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+    private static final org.apache.thrift.protocol.TField ERR4_FIELD_DESC = new org.apache.thrift.protocol.TField("err4", org.apache.thrift.protocol.TType.STRUCT, (short)4);
+    private static final org.apache.thrift.protocol.TField ERR5_FIELD_DESC = new org.apache.thrift.protocol.TField("err5", org.apache.thrift.protocol.TType.STRUCT, (short)5);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new openQueryCursor_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new openQueryCursor_resultTupleSchemeFactory());
+    }
+
+    public String success; // required
+    public HawkInstanceNotFound err1; // required
+    public HawkInstanceNotRunning err2; // required
+    public UnknownQueryLanguage err3; // required
+    public InvalidQuery err4; // required
+    public FailedQuery err5; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      ERR1((short)1, "err1"),
+      ERR2((short)2, "err2"),
+      ERR3((short)3, "err3"),
+      ERR4((short)4, "err4"),
+      ERR5((short)5, "err5");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // ERR1
+            return ERR1;
+          case 2: // ERR2
+            return ERR2;
+          case 3: // ERR3
+            return ERR3;
+          case 4: // ERR4
+            return ERR4;
+          case 5: // ERR5
+            return ERR5;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.ERR1, new org.apache.thrift.meta_data.FieldMetaData("err1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.ERR2, new org.apache.thrift.meta_data.FieldMetaData("err2", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.ERR3, new org.apache.thrift.meta_data.FieldMetaData("err3", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.ERR4, new org.apache.thrift.meta_data.FieldMetaData("err4", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.ERR5, new org.apache.thrift.meta_data.FieldMetaData("err5", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(openQueryCursor_result.class, metaDataMap);
+    }
+
+    public openQueryCursor_result() {
+    }
+
+    public openQueryCursor_result(
+      String success,
+      HawkInstanceNotFound err1,
+      HawkInstanceNotRunning err2,
+      UnknownQueryLanguage err3,
+      InvalidQuery err4,
+      FailedQuery err5)
+    {
+      this();
+      this.success = success;
+      this.err1 = err1;
+      this.err2 = err2;
+      this.err3 = err3;
+      this.err4 = err4;
+      this.err5 = err5;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public openQueryCursor_result(openQueryCursor_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
+      if (other.isSetErr1()) {
+        this.err1 = new HawkInstanceNotFound(other.err1);
+      }
+      if (other.isSetErr2()) {
+        this.err2 = new HawkInstanceNotRunning(other.err2);
+      }
+      if (other.isSetErr3()) {
+        this.err3 = new UnknownQueryLanguage(other.err3);
+      }
+      if (other.isSetErr4()) {
+        this.err4 = new InvalidQuery(other.err4);
+      }
+      if (other.isSetErr5()) {
+        this.err5 = new FailedQuery(other.err5);
+      }
+    }
+
+    public openQueryCursor_result deepCopy() {
+      return new openQueryCursor_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.err1 = null;
+      this.err2 = null;
+      this.err3 = null;
+      this.err4 = null;
+      this.err5 = null;
+    }
+
+    public String getSuccess() {
+      return this.success;
+    }
+
+    public openQueryCursor_result setSuccess(String success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public HawkInstanceNotFound getErr1() {
+      return this.err1;
+    }
+
+    public openQueryCursor_result setErr1(HawkInstanceNotFound err1) {
+      this.err1 = err1;
+      return this;
+    }
+
+    public void unsetErr1() {
+      this.err1 = null;
+    }
+
+    /** Returns true if field err1 is set (has been assigned a value) and false otherwise */
+    public boolean isSetErr1() {
+      return this.err1 != null;
+    }
+
+    public void setErr1IsSet(boolean value) {
+      if (!value) {
+        this.err1 = null;
+      }
+    }
+
+    public HawkInstanceNotRunning getErr2() {
+      return this.err2;
+    }
+
+    public openQueryCursor_result setErr2(HawkInstanceNotRunning err2) {
+      this.err2 = err2;
+      return this;
+    }
+
+    public void unsetErr2() {
+      this.err2 = null;
+    }
+
+    /** Returns true if field err2 is set (has been assigned a value) and false otherwise */
+    public boolean isSetErr2() {
+      return this.err2 != null;
+    }
+
+    public void setErr2IsSet(boolean value) {
+      if (!value) {
+        this.err2 = null;
+      }
+    }
+
+    public UnknownQueryLanguage getErr3() {
+      return this.err3;
+    }
+
+    public openQueryCursor_result setErr3(UnknownQueryLanguage err3) {
+      this.err3 = err3;
+      return this;
+    }
+
+    public void unsetErr3() {
+      this.err3 = null;
+    }
+
+    /** Returns true if field err3 is set (has been assigned a value) and false otherwise */
+    public boolean isSetErr3() {
+      return this.err3 != null;
+    }
+
+    public void setErr3IsSet(boolean value) {
+      if (!value) {
+        this.err3 = null;
+      }
+    }
+
+    public InvalidQuery getErr4() {
+      return this.err4;
+    }
+
+    public openQueryCursor_result setErr4(InvalidQuery err4) {
+      this.err4 = err4;
+      return this;
+    }
+
+    public void unsetErr4() {
+      this.err4 = null;
+    }
+
+    /** Returns true if field err4 is set (has been assigned a value) and false otherwise */
+    public boolean isSetErr4() {
+      return this.err4 != null;
+    }
+
+    public void setErr4IsSet(boolean value) {
+      if (!value) {
+        this.err4 = null;
+      }
+    }
+
+    public FailedQuery getErr5() {
+      return this.err5;
+    }
+
+    public openQueryCursor_result setErr5(FailedQuery err5) {
+      this.err5 = err5;
+      return this;
+    }
+
+    public void unsetErr5() {
+      this.err5 = null;
+    }
+
+    /** Returns true if field err5 is set (has been assigned a value) and false otherwise */
+    public boolean isSetErr5() {
+      return this.err5 != null;
+    }
+
+    public void setErr5IsSet(boolean value) {
+      if (!value) {
+        this.err5 = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((String)value);
+        }
+        break;
+
+      case ERR1:
+        if (value == null) {
+          unsetErr1();
+        } else {
+          setErr1((HawkInstanceNotFound)value);
+        }
+        break;
+
+      case ERR2:
+        if (value == null) {
+          unsetErr2();
+        } else {
+          setErr2((HawkInstanceNotRunning)value);
+        }
+        break;
+
+      case ERR3:
+        if (value == null) {
+          unsetErr3();
+        } else {
+          setErr3((UnknownQueryLanguage)value);
+        }
+        break;
+
+      case ERR4:
+        if (value == null) {
+          unsetErr4();
+        } else {
+          setErr4((InvalidQuery)value);
+        }
+        break;
+
+      case ERR5:
+        if (value == null) {
+          unsetErr5();
+        } else {
+          setErr5((FailedQuery)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case ERR1:
+        return getErr1();
+
+      case ERR2:
+        return getErr2();
+
+      case ERR3:
+        return getErr3();
+
+      case ERR4:
+        return getErr4();
+
+      case ERR5:
+        return getErr5();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case ERR1:
+        return isSetErr1();
+      case ERR2:
+        return isSetErr2();
+      case ERR3:
+        return isSetErr3();
+      case ERR4:
+        return isSetErr4();
+      case ERR5:
+        return isSetErr5();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof openQueryCursor_result)
+        return this.equals((openQueryCursor_result)that);
+      return false;
+    }
+
+    public boolean equals(openQueryCursor_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_err1 = true && this.isSetErr1();
+      boolean that_present_err1 = true && that.isSetErr1();
+      if (this_present_err1 || that_present_err1) {
+        if (!(this_present_err1 && that_present_err1))
+          return false;
+        if (!this.err1.equals(that.err1))
+          return false;
+      }
+
+      boolean this_present_err2 = true && this.isSetErr2();
+      boolean that_present_err2 = true && that.isSetErr2();
+      if (this_present_err2 || that_present_err2) {
+        if (!(this_present_err2 && that_present_err2))
+          return false;
+        if (!this.err2.equals(that.err2))
+          return false;
+      }
+
+      boolean this_present_err3 = true && this.isSetErr3();
+      boolean that_present_err3 = true && that.isSetErr3();
+      if (this_present_err3 || that_present_err3) {
+        if (!(this_present_err3 && that_present_err3))
+          return false;
+        if (!this.err3.equals(that.err3))
+          return false;
+      }
+
+      boolean this_present_err4 = true && this.isSetErr4();
+      boolean that_present_err4 = true && that.isSetErr4();
+      if (this_present_err4 || that_present_err4) {
+        if (!(this_present_err4 && that_present_err4))
+          return false;
+        if (!this.err4.equals(that.err4))
+          return false;
+      }
+
+      boolean this_present_err5 = true && this.isSetErr5();
+      boolean that_present_err5 = true && that.isSetErr5();
+      if (this_present_err5 || that_present_err5) {
+        if (!(this_present_err5 && that_present_err5))
+          return false;
+        if (!this.err5.equals(that.err5))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_err1 = true && (isSetErr1());
+      list.add(present_err1);
+      if (present_err1)
+        list.add(err1);
+
+      boolean present_err2 = true && (isSetErr2());
+      list.add(present_err2);
+      if (present_err2)
+        list.add(err2);
+
+      boolean present_err3 = true && (isSetErr3());
+      list.add(present_err3);
+      if (present_err3)
+        list.add(err3);
+
+      boolean present_err4 = true && (isSetErr4());
+      list.add(present_err4);
+      if (present_err4)
+        list.add(err4);
+
+      boolean present_err5 = true && (isSetErr5());
+      list.add(present_err5);
+      if (present_err5)
+        list.add(err5);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(openQueryCursor_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetErr1()).compareTo(other.isSetErr1());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetErr1()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.err1, other.err1);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetErr2()).compareTo(other.isSetErr2());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetErr2()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.err2, other.err2);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetErr3()).compareTo(other.isSetErr3());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetErr3()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.err3, other.err3);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetErr4()).compareTo(other.isSetErr4());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetErr4()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.err4, other.err4);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetErr5()).compareTo(other.isSetErr5());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetErr5()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.err5, other.err5);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("openQueryCursor_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("err1:");
+      if (this.err1 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.err1);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("err2:");
+      if (this.err2 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.err2);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("err3:");
+      if (this.err3 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.err3);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("err4:");
+      if (this.err4 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.err4);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("err5:");
+      if (this.err5 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.err5);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class openQueryCursor_resultStandardSchemeFactory implements SchemeFactory {
+      public openQueryCursor_resultStandardScheme getScheme() {
+        return new openQueryCursor_resultStandardScheme();
+      }
+    }
+
+    private static class openQueryCursor_resultStandardScheme extends StandardScheme<openQueryCursor_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, openQueryCursor_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // ERR1
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.err1 = new HawkInstanceNotFound();
+                struct.err1.read(iprot);
+                struct.setErr1IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // ERR2
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.err2 = new HawkInstanceNotRunning();
+                struct.err2.read(iprot);
+                struct.setErr2IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // ERR3
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.err3 = new UnknownQueryLanguage();
+                struct.err3.read(iprot);
+                struct.setErr3IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // ERR4
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.err4 = new InvalidQuery();
+                struct.err4.read(iprot);
+                struct.setErr4IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // ERR5
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.err5 = new FailedQuery();
+                struct.err5.read(iprot);
+                struct.setErr5IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, openQueryCursor_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeString(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.err1 != null) {
+          oprot.writeFieldBegin(ERR1_FIELD_DESC);
+          struct.err1.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.err2 != null) {
+          oprot.writeFieldBegin(ERR2_FIELD_DESC);
+          struct.err2.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.err3 != null) {
+          oprot.writeFieldBegin(ERR3_FIELD_DESC);
+          struct.err3.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.err4 != null) {
+          oprot.writeFieldBegin(ERR4_FIELD_DESC);
+          struct.err4.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.err5 != null) {
+          oprot.writeFieldBegin(ERR5_FIELD_DESC);
+          struct.err5.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class openQueryCursor_resultTupleSchemeFactory implements SchemeFactory {
+      public openQueryCursor_resultTupleScheme getScheme() {
+        return new openQueryCursor_resultTupleScheme();
+      }
+    }
+
+    private static class openQueryCursor_resultTupleScheme extends TupleScheme<openQueryCursor_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, openQueryCursor_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetErr1()) {
+          optionals.set(1);
+        }
+        if (struct.isSetErr2()) {
+          optionals.set(2);
+        }
+        if (struct.isSetErr3()) {
+          optionals.set(3);
+        }
+        if (struct.isSetErr4()) {
+          optionals.set(4);
+        }
+        if (struct.isSetErr5()) {
+          optionals.set(5);
+        }
+        oprot.writeBitSet(optionals, 6);
+        if (struct.isSetSuccess()) {
+          oprot.writeString(struct.success);
+        }
+        if (struct.isSetErr1()) {
+          struct.err1.write(oprot);
+        }
+        if (struct.isSetErr2()) {
+          struct.err2.write(oprot);
+        }
+        if (struct.isSetErr3()) {
+          struct.err3.write(oprot);
+        }
+        if (struct.isSetErr4()) {
+          struct.err4.write(oprot);
+        }
+        if (struct.isSetErr5()) {
+          struct.err5.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, openQueryCursor_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(6);
+        if (incoming.get(0)) {
+          struct.success = iprot.readString();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.err1 = new HawkInstanceNotFound();
+          struct.err1.read(iprot);
+          struct.setErr1IsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.err2 = new HawkInstanceNotRunning();
+          struct.err2.read(iprot);
+          struct.setErr2IsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.err3 = new UnknownQueryLanguage();
+          struct.err3.read(iprot);
+          struct.setErr3IsSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.err4 = new InvalidQuery();
+          struct.err4.read(iprot);
+          struct.setErr4IsSet(true);
+        }
+        if (incoming.get(5)) {
+          struct.err5 = new FailedQuery();
+          struct.err5.read(iprot);
+          struct.setErr5IsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class fetchQueryCursor_args implements org.apache.thrift.TBase<fetchQueryCursor_args, fetchQueryCursor_args._Fields>, java.io.Serializable, Cloneable, Comparable<fetchQueryCursor_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("fetchQueryCursor_args");
+
+    private static final org.apache.thrift.protocol.TField CURSOR_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("cursorID", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PAGE_SIZE_FIELD_DESC = new org.apache.thrift.protocol.TField("pageSize", org.apache.thrift.protocol.TType.I32, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new fetchQueryCursor_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new fetchQueryCursor_argsTupleSchemeFactory());
+    }
+
+    public String cursorID; // required
+    public int pageSize; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      CURSOR_ID((short)1, "cursorID"),
+      PAGE_SIZE((short)2, "pageSize");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // CURSOR_ID
+            return CURSOR_ID;
+          case 2: // PAGE_SIZE
+            return PAGE_SIZE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __PAGESIZE_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.CURSOR_ID, new org.apache.thrift.meta_data.FieldMetaData("cursorID", org.apache.thrift.TFieldRequirementType.REQUIRED, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PAGE_SIZE, new org.apache.thrift.meta_data.FieldMetaData("pageSize", org.apache.thrift.TFieldRequirementType.REQUIRED, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(fetchQueryCursor_args.class, metaDataMap);
+    }
+
+    public fetchQueryCursor_args() {
+    }
+
+    public fetchQueryCursor_args(
+      String cursorID,
+      int pageSize)
+    {
+      this();
+      this.cursorID = cursorID;
+      this.pageSize = pageSize;
+      setPageSizeIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public fetchQueryCursor_args(fetchQueryCursor_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetCursorID()) {
+        this.cursorID = other.cursorID;
+      }
+      this.pageSize = other.pageSize;
+    }
+
+    public fetchQueryCursor_args deepCopy() {
+      return new fetchQueryCursor_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.cursorID = null;
+      setPageSizeIsSet(false);
+      this.pageSize = 0;
+    }
+
+    public String getCursorID() {
+      return this.cursorID;
+    }
+
+    public fetchQueryCursor_args setCursorID(String cursorID) {
+      this.cursorID = cursorID;
+      return this;
+    }
+
+    public void unsetCursorID() {
+      this.cursorID = null;
+    }
+
+    /** Returns true if field cursorID is set (has been assigned a value) and false otherwise */
+    public boolean isSetCursorID() {
+      return this.cursorID != null;
+    }
+
+    public void setCursorIDIsSet(boolean value) {
+      if (!value) {
+        this.cursorID = null;
+      }
+    }
+
+    public int getPageSize() {
+      return this.pageSize;
+    }
+
+    public fetchQueryCursor_args setPageSize(int pageSize) {
+      this.pageSize = pageSize;
+      setPageSizeIsSet(true);
+      return this;
+    }
+
+    public void unsetPageSize() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PAGESIZE_ISSET_ID);
+    }
+
+    /** Returns true if field pageSize is set (has been assigned a value) and false otherwise */
+    public boolean isSetPageSize() {
+      return EncodingUtils.testBit(__isset_bitfield, __PAGESIZE_ISSET_ID);
+    }
+
+    public void setPageSizeIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PAGESIZE_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case CURSOR_ID:
+        if (value == null) {
+          unsetCursorID();
+        } else {
+          setCursorID((String)value);
+        }
+        break;
+
+      case PAGE_SIZE:
+        if (value == null) {
+          unsetPageSize();
+        } else {
+          setPageSize((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case CURSOR_ID:
+        return getCursorID();
+
+      case PAGE_SIZE:
+        return getPageSize();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case CURSOR_ID:
+        return isSetCursorID();
+      case PAGE_SIZE:
+        return isSetPageSize();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof fetchQueryCursor_args)
+        return this.equals((fetchQueryCursor_args)that);
+      return false;
+    }
+
+    public boolean equals(fetchQueryCursor_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_cursorID = true && this.isSetCursorID();
+      boolean that_present_cursorID = true && that.isSetCursorID();
+      if (this_present_cursorID || that_present_cursorID) {
+        if (!(this_present_cursorID && that_present_cursorID))
+          return false;
+        if (!this.cursorID.equals(that.cursorID))
+          return false;
+      }
+
+      boolean this_present_pageSize = true;
+      boolean that_present_pageSize = true;
+      if (this_present_pageSize || that_present_pageSize) {
+        if (!(this_present_pageSize && that_present_pageSize))
+          return false;
+        if (this.pageSize != that.pageSize)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_cursorID = true && (isSetCursorID());
+      list.add(present_cursorID);
+      if (present_cursorID)
+        list.add(cursorID);
+
+      boolean present_pageSize = true;
+      list.add(present_pageSize);
+      if (present_pageSize)
+        list.add(pageSize);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(fetchQueryCursor_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetCursorID()).compareTo(other.isSetCursorID());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetCursorID()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.cursorID, other.cursorID);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPageSize()).compareTo(other.isSetPageSize());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPageSize()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.pageSize, other.pageSize);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("fetchQueryCursor_args(");
+      boolean first = true;
+
+      sb.append("cursorID:");
+      if (this.cursorID == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.cursorID);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("pageSize:");
+      sb.append(this.pageSize);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      if (cursorID == null) {
+        throw new org.apache.thrift.protocol.TProtocolException("Required field 'cursorID' was not present! Struct: " + toString());
+      }
+      // alas, we cannot check 'pageSize' because it's a primitive and you chose the non-beans generator.
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class fetchQueryCursor_argsStandardSchemeFactory implements SchemeFactory {
+      public fetchQueryCursor_argsStandardScheme getScheme() {
+        return new fetchQueryCursor_argsStandardScheme();
+      }
+    }
+
+    private static class fetchQueryCursor_argsStandardScheme extends StandardScheme<fetchQueryCursor_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, fetchQueryCursor_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // CURSOR_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.cursorID = iprot.readString();
+                struct.setCursorIDIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PAGE_SIZE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.pageSize = iprot.readI32();
+                struct.setPageSizeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        if (!struct.isSetPageSize()) {
+          throw new org.apache.thrift.protocol.TProtocolException("Required field 'pageSize' was not found in serialized data! Struct: " + toString());
+        }
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, fetchQueryCursor_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.cursorID != null) {
+          oprot.writeFieldBegin(CURSOR_ID_FIELD_DESC);
+          oprot.writeString(struct.cursorID);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(PAGE_SIZE_FIELD_DESC);
+        oprot.writeI32(struct.pageSize);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class fetchQueryCursor_argsTupleSchemeFactory implements SchemeFactory {
+      public fetchQueryCursor_argsTupleScheme getScheme() {
+        return new fetchQueryCursor_argsTupleScheme();
+      }
+    }
+
+    private static class fetchQueryCursor_argsTupleScheme extends TupleScheme<fetchQueryCursor_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, fetchQueryCursor_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        oprot.writeString(struct.cursorID);
+        oprot.writeI32(struct.pageSize);
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, fetchQueryCursor_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        struct.cursorID = iprot.readString();
+        struct.setCursorIDIsSet(true);
+        struct.pageSize = iprot.readI32();
+        struct.setPageSizeIsSet(true);
+      }
+    }
+
+  }
+
+  public static class fetchQueryCursor_result implements org.apache.thrift.TBase<fetchQueryCursor_result, fetchQueryCursor_result._Fields>, java.io.Serializable, Cloneable, Comparable<fetchQueryCursor_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("fetchQueryCursor_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField ERR1_FIELD_DESC = new org.apache.thrift.protocol.TField("err1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField ERR2_FIELD_DESC = new org.apache.thrift.protocol.TField("err2", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new fetchQueryCursor_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new fetchQueryCursor_resultTupleSchemeFactory());
+    }
+
+    public List<QueryResult> success; // required
+    public InvalidQuery err1; // required
+    public FailedQuery err2; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      ERR1((short)1, "err1"),
+      ERR2((short)2, "err2");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // ERR1
+            return ERR1;
+          case 2: // ERR2
+            return ERR2;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, QueryResult.class))));
+      tmpMap.put(_Fields.ERR1, new org.apache.thrift.meta_data.FieldMetaData("err1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.ERR2, new org.apache.thrift.meta_data.FieldMetaData("err2", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(fetchQueryCursor_result.class, metaDataMap);
+    }
+
+    public fetchQueryCursor_result() {
+    }
+
+    public fetchQueryCursor_result(
+      List<QueryResult> success,
+      InvalidQuery err1,
+      FailedQuery err2)
+    {
+      this();
+      this.success = success;
+      this.err1 = err1;
+      this.err2 = err2;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public fetchQueryCursor_result(fetchQueryCursor_result other) {
+      if (other.isSetSuccess()) {
+        List<QueryResult> __this__success = new ArrayList<QueryResult>(other.success.size());
+        for (QueryResult other_element : other.success) {
+          __this__success.add(new QueryResult(other_element));
+        }
+        this.success = __this__success;
+      }
+      if (other.isSetErr1()) {
+        this.err1 = new InvalidQuery(other.err1);
+      }
+      if (other.isSetErr2()) {
+        this.err2 = new FailedQuery(other.err2);
+      }
+    }
+
+    public fetchQueryCursor_result deepCopy() {
+      return new fetchQueryCursor_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.err1 = null;
+      this.err2 = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<QueryResult> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(QueryResult elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<QueryResult>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<QueryResult> getSuccess() {
+      return this.success;
+    }
+
+    public fetchQueryCursor_result setSuccess(List<QueryResult> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public InvalidQuery getErr1() {
+      return this.err1;
+    }
+
+    public fetchQueryCursor_result setErr1(InvalidQuery err1) {
+      this.err1 = err1;
+      return this;
+    }
+
+    public void unsetErr1() {
+      this.err1 = null;
+    }
+
+    /** Returns true if field err1 is set (has been assigned a value) and false otherwise */
+    public boolean isSetErr1() {
+      return this.err1 != null;
+    }
+
+    public void setErr1IsSet(boolean value) {
+      if (!value) {
+        this.err1 = null;
+      }
+    }
+
+    public FailedQuery getErr2() {
+      return this.err2;
+    }
+
+    public fetchQueryCursor_result setErr2(FailedQuery err2) {
+      this.err2 = err2;
+      return this;
+    }
+
+    public void unsetErr2() {
+      this.err2 = null;
+    }
+
+    /** Returns true if field err2 is set (has been assigned a value) and false otherwise */
+    public boolean isSetErr2() {
+      return this.err2 != null;
+    }
+
+    public void setErr2IsSet(boolean value) {
+      if (!value) {
+        this.err2 = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<QueryResult>)value);
+        }
+        break;
+
+      case ERR1:
+        if (value == null) {
+          unsetErr1();
+        } else {
+          setErr1((InvalidQuery)value);
+        }
+        break;
+
+      case ERR2:
+        if (value == null) {
+          unsetErr2();
+        } else {
+          setErr2((FailedQuery)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case ERR1:
+        return getErr1();
+
+      case ERR2:
+        return getErr2();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case ERR1:
+        return isSetErr1();
+      case ERR2:
+        return isSetErr2();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof fetchQueryCursor_result)
+        return this.equals((fetchQueryCursor_result)that);
+      return false;
+    }
+
+    public boolean equals(fetchQueryCursor_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_err1 = true && this.isSetErr1();
+      boolean that_present_err1 = true && that.isSetErr1();
+      if (this_present_err1 || that_present_err1) {
+        if (!(this_present_err1 && that_present_err1))
+          return false;
+        if (!this.err1.equals(that.err1))
+          return false;
+      }
+
+      boolean this_present_err2 = true && this.isSetErr2();
+      boolean that_present_err2 = true && that.isSetErr2();
+      if (this_present_err2 || that_present_err2) {
+        if (!(this_present_err2 && that_present_err2))
+          return false;
+        if (!this.err2.equals(that.err2))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_err1 = true && (isSetErr1());
+      list.add(present_err1);
+      if (present_err1)
+        list.add(err1);
+
+      boolean present_err2 = true && (isSetErr2());
+      list.add(present_err2);
+      if (present_err2)
+        list.add(err2);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(fetchQueryCursor_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetErr1()).compareTo(other.isSetErr1());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetErr1()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.err1, other.err1);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetErr2()).compareTo(other.isSetErr2());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetErr2()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.err2, other.err2);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("fetchQueryCursor_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("err1:");
+      if (this.err1 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.err1);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("err2:");
+      if (this.err2 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.err2);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class fetchQueryCursor_resultStandardSchemeFactory implements SchemeFactory {
+      public fetchQueryCursor_resultStandardScheme getScheme() {
+        return new fetchQueryCursor_resultStandardScheme();
+      }
+    }
+
+    private static class fetchQueryCursor_resultStandardScheme extends StandardScheme<fetchQueryCursor_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, fetchQueryCursor_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list338 = iprot.readListBegin();
+                  struct.success = new ArrayList<QueryResult>(_list338.size);
+                  QueryResult _elem339;
+                  for (int _i340 = 0; _i340 < _list338.size; ++_i340)
+                  {
+                    _elem339 = new QueryResult();
+                    _elem339.read(iprot);
+                    struct.success.add(_elem339);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // ERR1
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.err1 = new InvalidQuery();
+                struct.err1.read(iprot);
+                struct.setErr1IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // ERR2
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.err2 = new FailedQuery();
+                struct.err2.read(iprot);
+                struct.setErr2IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, fetchQueryCursor_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (QueryResult _iter341 : struct.success)
+            {
+              _iter341.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.err1 != null) {
+          oprot.writeFieldBegin(ERR1_FIELD_DESC);
+          struct.err1.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.err2 != null) {
+          oprot.writeFieldBegin(ERR2_FIELD_DESC);
+          struct.err2.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class fetchQueryCursor_resultTupleSchemeFactory implements SchemeFactory {
+      public fetchQueryCursor_resultTupleScheme getScheme() {
+        return new fetchQueryCursor_resultTupleScheme();
+      }
+    }
+
+    private static class fetchQueryCursor_resultTupleScheme extends TupleScheme<fetchQueryCursor_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, fetchQueryCursor_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetErr1()) {
+          optionals.set(1);
+        }
+        if (struct.isSetErr2()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (QueryResult _iter342 : struct.success)
+            {
+              _iter342.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetErr1()) {
+          struct.err1.write(oprot);
+        }
+        if (struct.isSetErr2()) {
+          struct.err2.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, fetchQueryCursor_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list343 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<QueryResult>(_list343.size);
+            QueryResult _elem344;
+            for (int _i345 = 0; _i345 < _list343.size; ++_i345)
+            {
+              _elem344 = new QueryResult();
+              _elem344.read(iprot);
+              struct.success.add(_elem344);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.err1 = new InvalidQuery();
+          struct.err1.read(iprot);
+          struct.setErr1IsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.err2 = new FailedQuery();
+          struct.err2.read(iprot);
+          struct.setErr2IsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class closeQueryCursor_args implements org.apache.thrift.TBase<closeQueryCursor_args, closeQueryCursor_args._Fields>, java.io.Serializable, Cloneable, Comparable<closeQueryCursor_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("closeQueryCursor_args");
+
+    private static final org.apache.thrift.protocol.TField CURSOR_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("cursorID", org.apache.thrift.protocol.TType.STRING, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new closeQueryCursor_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new closeQueryCursor_argsTupleSchemeFactory());
+    }
+
+    public String cursorID; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      CURSOR_ID((short)1, "cursorID");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // CURSOR_ID
+            return CURSOR_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.CURSOR_ID, new org.apache.thrift.meta_data.FieldMetaData("cursorID", org.apache.thrift.TFieldRequirementType.REQUIRED, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(closeQueryCursor_args.class, metaDataMap);
+    }
+
+    public closeQueryCursor_args() {
+    }
+
+    public closeQueryCursor_args(
+      String cursorID)
+    {
+      this();
+      this.cursorID = cursorID;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public closeQueryCursor_args(closeQueryCursor_args other) {
+      if (other.isSetCursorID()) {
+        this.cursorID = other.cursorID;
+      }
+    }
+
+    public closeQueryCursor_args deepCopy() {
+      return new closeQueryCursor_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.cursorID = null;
+    }
+
+    public String getCursorID() {
+      return this.cursorID;
+    }
+
+    public closeQueryCursor_args setCursorID(String cursorID) {
+      this.cursorID = cursorID;
+      return this;
+    }
+
+    public void unsetCursorID() {
+      this.cursorID = null;
+    }
+
+    /** Returns true if field cursorID is set (has been assigned a value) and false otherwise */
+    public boolean isSetCursorID() {
+      return this.cursorID != null;
+    }
+
+    public void setCursorIDIsSet(boolean value) {
+      if (!value) {
+        this.cursorID = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case CURSOR_ID:
+        if (value == null) {
+          unsetCursorID();
+        } else {
+          setCursorID((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case CURSOR_ID:
+        return getCursorID();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case CURSOR_ID:
+        return isSetCursorID();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof closeQueryCursor_args)
+        return this.equals((closeQueryCursor_args)that);
+      return false;
+    }
+
+    public boolean equals(closeQueryCursor_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_cursorID = true && this.isSetCursorID();
+      boolean that_present_cursorID = true && that.isSetCursorID();
+      if (this_present_cursorID || that_present_cursorID) {
+        if (!(this_present_cursorID && that_present_cursorID))
+          return false;
+        if (!this.cursorID.equals(that.cursorID))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_cursorID = true && (isSetCursorID());
+      list.add(present_cursorID);
+      if (present_cursorID)
+        list.add(cursorID);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(closeQueryCursor_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetCursorID()).compareTo(other.isSetCursorID());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetCursorID()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.cursorID, other.cursorID);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("closeQueryCursor_args(");
+      boolean first = true;
+
+      sb.append("cursorID:");
+      if (this.cursorID == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.cursorID);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      if (cursorID == null) {
+        throw new org.apache.thrift.protocol.TProtocolException("Required field 'cursorID' was not present! Struct: " + toString());
+      }
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class closeQueryCursor_argsStandardSchemeFactory implements SchemeFactory {
+      public closeQueryCursor_argsStandardScheme getScheme() {
+        return new closeQueryCursor_argsStandardScheme();
+      }
+    }
+
+    private static class closeQueryCursor_argsStandardScheme extends StandardScheme<closeQueryCursor_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, closeQueryCursor_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // CURSOR_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.cursorID = iprot.readString();
+                struct.setCursorIDIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, closeQueryCursor_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.cursorID != null) {
+          oprot.writeFieldBegin(CURSOR_ID_FIELD_DESC);
+          oprot.writeString(struct.cursorID);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class closeQueryCursor_argsTupleSchemeFactory implements SchemeFactory {
+      public closeQueryCursor_argsTupleScheme getScheme() {
+        return new closeQueryCursor_argsTupleScheme();
+      }
+    }
+
+    private static class closeQueryCursor_argsTupleScheme extends TupleScheme<closeQueryCursor_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, closeQueryCursor_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        oprot.writeString(struct.cursorID);
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, closeQueryCursor_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        struct.cursorID = iprot.readString();
+        struct.setCursorIDIsSet(true);
+      }
+    }
+
+  }
+
+  public static class closeQueryCursor_result implements org.apache.thrift.TBase<closeQueryCursor_result, closeQueryCursor_result._Fields>, java.io.Serializable, Cloneable, Comparable<closeQueryCursor_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("closeQueryCursor_result");
+
+    private static final org.apache.thrift.protocol.TField ERR1_FIELD_DESC = new org.apache.thrift.protocol.TField("err1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new closeQueryCursor_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new closeQueryCursor_resultTupleSchemeFactory());
+    }
+
+    public InvalidQuery err1; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      ERR1((short)1, "err1");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // ERR1
+            return ERR1;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.ERR1, new org.apache.thrift.meta_data.FieldMetaData("err1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(closeQueryCursor_result.class, metaDataMap);
+    }
+
+    public closeQueryCursor_result() {
+    }
+
+    public closeQueryCursor_result(
+      InvalidQuery err1)
+    {
+      this();
+      this.err1 = err1;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public closeQueryCursor_result(closeQueryCursor_result other) {
+      if (other.isSetErr1()) {
+        this.err1 = new InvalidQuery(other.err1);
+      }
+    }
+
+    public closeQueryCursor_result deepCopy() {
+      return new closeQueryCursor_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.err1 = null;
+    }
+
+    public InvalidQuery getErr1() {
+      return this.err1;
+    }
+
+    public closeQueryCursor_result setErr1(InvalidQuery err1) {
+      this.err1 = err1;
+      return this;
+    }
+
+    public void unsetErr1() {
+      this.err1 = null;
+    }
+
+    /** Returns true if field err1 is set (has been assigned a value) and false otherwise */
+    public boolean isSetErr1() {
+      return this.err1 != null;
+    }
+
+    public void setErr1IsSet(boolean value) {
+      if (!value) {
+        this.err1 = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case ERR1:
+        if (value == null) {
+          unsetErr1();
+        } else {
+          setErr1((InvalidQuery)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case ERR1:
+        return getErr1();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case ERR1:
+        return isSetErr1();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof closeQueryCursor_result)
+        return this.equals((closeQueryCursor_result)that);
+      return false;
+    }
+
+    public boolean equals(closeQueryCursor_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_err1 = true && this.isSetErr1();
+      boolean that_present_err1 = true && that.isSetErr1();
+      if (this_present_err1 || that_present_err1) {
+        if (!(this_present_err1 && that_present_err1))
+          return false;
+        if (!this.err1.equals(that.err1))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_err1 = true && (isSetErr1());
+      list.add(present_err1);
+      if (present_err1)
+        list.add(err1);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(closeQueryCursor_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetErr1()).compareTo(other.isSetErr1());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetErr1()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.err1, other.err1);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("closeQueryCursor_result(");
+      boolean first = true;
+
+      sb.append("err1:");
+      if (this.err1 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.err1);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class closeQueryCursor_resultStandardSchemeFactory implements SchemeFactory {
+      public closeQueryCursor_resultStandardScheme getScheme() {
+        return new closeQueryCursor_resultStandardScheme();
+      }
+    }
+
+    private static class closeQueryCursor_resultStandardScheme extends StandardScheme<closeQueryCursor_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, closeQueryCursor_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // ERR1
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.err1 = new InvalidQuery();
+                struct.err1.read(iprot);
+                struct.setErr1IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, closeQueryCursor_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.err1 != null) {
+          oprot.writeFieldBegin(ERR1_FIELD_DESC);
+          struct.err1.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class closeQueryCursor_resultTupleSchemeFactory implements SchemeFactory {
+      public closeQueryCursor_resultTupleScheme getScheme() {
+        return new closeQueryCursor_resultTupleScheme();
+      }
+    }
+
+    private static class closeQueryCursor_resultTupleScheme extends TupleScheme<closeQueryCursor_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, closeQueryCursor_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetErr1()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetErr1()) {
+          struct.err1.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, closeQueryCursor_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.err1 = new InvalidQuery();
+          struct.err1.read(iprot);
+          struct.setErr1IsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class addRepository_args implements org.apache.thrift.TBase<addRepository_args, addRepository_args._Fields>, java.io.Serializable, Cloneable, Comparable<addRepository_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addRepository_args");
+
+    private static final org.apache.thrift.protocol.TField NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("name", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField REPO_FIELD_DESC = new org.apache.thrift.protocol.TField("repo", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField CREDENTIALS_FIELD_DESC = new org.apache.thrift.protocol.TField("credentials", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new addRepository_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new addRepository_argsTupleSchemeFactory());
+    }
+
+    public String name; // required
+    public Repository repo; // required
+    public Credentials credentials; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      NAME((short)1, "name"),
+      REPO((short)2, "repo"),
+      CREDENTIALS((short)3, "credentials");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // NAME
+            return NAME;
+          case 2: // REPO
+            return REPO;
+          case 3: // CREDENTIALS
+            return CREDENTIALS;
           default:
             return null;
         }
@@ -34570,14 +38425,14 @@ public class Hawk {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list338 = iprot.readListBegin();
-                  struct.success = new ArrayList<Repository>(_list338.size);
-                  Repository _elem339;
-                  for (int _i340 = 0; _i340 < _list338.size; ++_i340)
+                  org.apache.thrift.protocol.TList _list346 = iprot.readListBegin();
+                  struct.success = new ArrayList<Repository>(_list346.size);
+                  Repository _elem347;
+                  for (int _i348 = 0; _i348 < _list346.size; ++_i348)
                   {
-                    _elem339 = new Repository();
-                    _elem339.read(iprot);
-                    struct.success.add(_elem339);
+                    _elem347 = new Repository();
+                    _elem347.read(iprot);
+                    struct.success.add(_elem347);
                   }
                   iprot.readListEnd();
                 }
@@ -34623,9 +38478,9 @@ public class Hawk {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (Repository _iter341 : struct.success)
+            for (Repository _iter349 : struct.success)
             {
-              _iter341.write(oprot);
+              _iter349.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -34672,9 +38527,9 @@ public class Hawk {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (Repository _iter342 : struct.success)
+            for (Repository _iter350 : struct.success)
             {
-              _iter342.write(oprot);
+              _iter350.write(oprot);
             }
           }
         }
@@ -34692,14 +38547,14 @@ public class Hawk {
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list343 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<Repository>(_list343.size);
-            Repository _elem344;
-            for (int _i345 = 0; _i345 < _list343.size; ++_i345)
+            org.apache.thrift.protocol.TList _list351 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<Repository>(_list351.size);
+            Repository _elem352;
+            for (int _i353 = 0; _i353 < _list351.size; ++_i353)
             {
-              _elem344 = new Repository();
-              _elem344.read(iprot);
-              struct.success.add(_elem344);
+              _elem352 = new Repository();
+              _elem352.read(iprot);
+              struct.success.add(_elem352);
             }
           }
           struct.setSuccessIsSet(true);
@@ -35280,13 +39135,13 @@ public class Hawk {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list346 = iprot.readListBegin();
-                  struct.success = new ArrayList<String>(_list346.size);
-                  String _elem347;
-                  for (int _i348 = 0; _i348 < _list346.size; ++_i348)
+                  org.apache.thrift.protocol.TList _list354 = iprot.readListBegin();
+                  struct.success = new ArrayList<String>(_list354.size);
+                  String _elem355;
+                  for (int _i356 = 0; _i356 < _list354.size; ++_i356)
                   {
-                    _elem347 = iprot.readString();
-                    struct.success.add(_elem347);
+                    _elem355 = iprot.readString();
+                    struct.success.add(_elem355);
                   }
                   iprot.readListEnd();
                 }
@@ -35314,9 +39169,9 @@ public class Hawk {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
-            for (String _iter349 : struct.success)
+            for (String _iter357 : struct.success)
             {
-              oprot.writeString(_iter349);
+              oprot.writeString(_iter357);
             }
             oprot.writeListEnd();
           }
@@ -35347,9 +39202,9 @@ public class Hawk {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (String _iter350 : struct.success)
+            for (String _iter358 : struct.success)
             {
-              oprot.writeString(_iter350);
+              oprot.writeString(_iter358);
             }
           }
         }
@@ -35361,13 +39216,13 @@ public class Hawk {
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list351 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.success = new ArrayList<String>(_list351.size);
-            String _elem352;
-            for (int _i353 = 0; _i353 < _list351.size; ++_i353)
+            org.apache.thrift.protocol.TList _list359 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new ArrayList<String>(_list359.size);
+            String _elem360;
+            for (int _i361 = 0; _i361 < _list359.size; ++_i361)
             {
-              _elem352 = iprot.readString();
-              struct.success.add(_elem352);
+              _elem360 = iprot.readString();
+              struct.success.add(_elem360);
             }
           }
           struct.setSuccessIsSet(true);
@@ -35888,13 +39743,13 @@ public class Hawk {
             case 2: // REPOSITORY
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list354 = iprot.readListBegin();
-                  struct.repository = new ArrayList<String>(_list354.size);
-                  String _elem355;
-                  for (int _i356 = 0; _i356 < _list354.size; ++_i356)
+                  org.apache.thrift.protocol.TList _list362 = iprot.readListBegin();
+                  struct.repository = new ArrayList<String>(_list362.size);
+                  String _elem363;
+                  for (int _i364 = 0; _i364 < _list362.size; ++_i364)
                   {
-                    _elem355 = iprot.readString();
-                    struct.repository.add(_elem355);
+                    _elem363 = iprot.readString();
+                    struct.repository.add(_elem363);
                   }
                   iprot.readListEnd();
                 }
@@ -35906,13 +39761,13 @@ public class Hawk {
             case 3: // FILE_PATTERNS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list357 = iprot.readListBegin();
-                  struct.filePatterns = new ArrayList<String>(_list357.size);
-                  String _elem358;
-                  for (int _i359 = 0; _i359 < _list357.size; ++_i359)
+                  org.apache.thrift.protocol.TList _list365 = iprot.readListBegin();
+                  struct.filePatterns = new ArrayList<String>(_list365.size);
+                  String _elem366;
+                  for (int _i367 = 0; _i367 < _list365.size; ++_i367)
                   {
-                    _elem358 = iprot.readString();
-                    struct.filePatterns.add(_elem358);
+                    _elem366 = iprot.readString();
+                    struct.filePatterns.add(_elem366);
                   }
                   iprot.readListEnd();
                 }
@@ -35945,9 +39800,9 @@ public class Hawk {
           oprot.writeFieldBegin(REPOSITORY_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.repository.size()));
-            for (String _iter360 : struct.repository)
+            for (String _iter368 : struct.repository)
             {
-              oprot.writeString(_iter360);
+              oprot.writeString(_iter368);
             }
             oprot.writeListEnd();
           }
@@ -35957,9 +39812,9 @@ public class Hawk {
           oprot.writeFieldBegin(FILE_PATTERNS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.filePatterns.size()));
-            for (String _iter361 : struct.filePatterns)
+            for (String _iter369 : struct.filePatterns)
             {
-              oprot.writeString(_iter361);
+              oprot.writeString(_iter369);
             }
             oprot.writeListEnd();
           }
@@ -35985,16 +39840,16 @@ public class Hawk {
         oprot.writeString(struct.name);
         {
           oprot.writeI32(struct.repository.size());
-          for (String _iter362 : struct.repository)
+          for (String _iter370 : struct.repository)
           {
-            oprot.writeString(_iter362);
+            oprot.writeString(_iter370);
           }
         }
         {
           oprot.writeI32(struct.filePatterns.size());
-          for (String _iter363 : struct.filePatterns)
+          for (String _iter371 : struct.filePatterns)
           {
-            oprot.writeString(_iter363);
+            oprot.writeString(_iter371);
           }
         }
       }
@@ -36005,24 +39860,24 @@ public class Hawk {
         struct.name = iprot.readString();
         struct.setNameIsSet(true);
         {
-          org.apache.thrift.protocol.TList _list364 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-          struct.repository = new ArrayList<String>(_list364.size);
-          String _elem365;
-          for (int _i366 = 0; _i366 < _list364.size; ++_i366)
+          org.apache.thrift.protocol.TList _list372 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.repository = new ArrayList<String>(_list372.size);
+          String _elem373;
+          for (int _i374 = 0; _i374 < _list372.size; ++_i374)
           {
-            _elem365 = iprot.readString();
-            struct.repository.add(_elem365);
+            _elem373 = iprot.readString();
+            struct.repository.add(_elem373);
           }
         }
         struct.setRepositoryIsSet(true);
         {
-          org.apache.thrift.protocol.TList _list367 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-          struct.filePatterns = new ArrayList<String>(_list367.size);
-          String _elem368;
-          for (int _i369 = 0; _i369 < _list367.size; ++_i369)
+          org.apache.thrift.protocol.TList _list375 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.filePatterns = new ArrayList<String>(_list375.size);
+          String _elem376;
+          for (int _i377 = 0; _i377 < _list375.size; ++_i377)
           {
-            _elem368 = iprot.readString();
-            struct.filePatterns.add(_elem368);
+            _elem376 = iprot.readString();
+            struct.filePatterns.add(_elem376);
           }
         }
         struct.setFilePatternsIsSet(true);
@@ -36508,13 +40363,13 @@ public class Hawk {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list370 = iprot.readListBegin();
-                  struct.success = new ArrayList<String>(_list370.size);
-                  String _elem371;
-                  for (int _i372 = 0; _i372 < _list370.size; ++_i372)
+                  org.apache.thrift.protocol.TList _list378 = iprot.readListBegin();
+                  struct.success = new ArrayList<String>(_list378.size);
+                  String _elem379;
+                  for (int _i380 = 0; _i380 < _list378.size; ++_i380)
                   {
-                    _elem371 = iprot.readString();
-                    struct.success.add(_elem371);
+                    _elem379 = iprot.readString();
+                    struct.success.add(_elem379);
                   }
                   iprot.readListEnd();
                 }
@@ -36560,9 +40415,9 @@ public class Hawk {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
-            for (String _iter373 : struct.success)
+            for (String _iter381 : struct.success)
             {
-              oprot.writeString(_iter373);
+              oprot.writeString(_iter381);
             }
             oprot.writeListEnd();
           }
@@ -36609,9 +40464,9 @@ public class Hawk {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (String _iter374 : struct.success)
+            for (String _iter382 : struct.success)
             {
-              oprot.writeString(_iter374);
+              oprot.writeString(_iter382);
             }
           }
         }
@@ -36629,13 +40484,13 @@ public class Hawk {
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list375 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.success = new ArrayList<String>(_list375.size);
-            String _elem376;
-            for (int _i377 = 0; _i377 < _list375.size; ++_i377)
+            org.apache.thrift.protocol.TList _list383 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new ArrayList<String>(_list383.size);
+            String _elem384;
+            for (int _i385 = 0; _i385 < _list383.size; ++_i385)
             {
-              _elem376 = iprot.readString();
-              struct.success.add(_elem376);
+              _elem384 = iprot.readString();
+              struct.success.add(_elem384);
             }
           }
           struct.setSuccessIsSet(true);
@@ -40583,14 +44438,14 @@ public class Hawk {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list378 = iprot.readListBegin();
-                  struct.success = new ArrayList<DerivedAttributeSpec>(_list378.size);
-                  DerivedAttributeSpec _elem379;
-                  for (int _i380 = 0; _i380 < _list378.size; ++_i380)
+                  org.apache.thrift.protocol.TList _list386 = iprot.readListBegin();
+                  struct.success = new ArrayList<DerivedAttributeSpec>(_list386.size);
+                  DerivedAttributeSpec _elem387;
+                  for (int _i388 = 0; _i388 < _list386.size; ++_i388)
                   {
-                    _elem379 = new DerivedAttributeSpec();
-                    _elem379.read(iprot);
-                    struct.success.add(_elem379);
+                    _elem387 = new DerivedAttributeSpec();
+                    _elem387.read(iprot);
+                    struct.success.add(_elem387);
                   }
                   iprot.readListEnd();
                 }
@@ -40636,9 +44491,9 @@ public class Hawk {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (DerivedAttributeSpec _iter381 : struct.success)
+            for (DerivedAttributeSpec _iter389 : struct.success)
             {
-              _iter381.write(oprot);
+              _iter389.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -40685,9 +44540,9 @@ public class Hawk {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (DerivedAttributeSpec _iter382 : struct.success)
+            for (DerivedAttributeSpec _iter390 : struct.success)
             {
-              _iter382.write(oprot);
+              _iter390.write(oprot);
             }
           }
         }
@@ -40705,14 +44560,14 @@ public class Hawk {
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list383 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<DerivedAttributeSpec>(_list383.size);
-            DerivedAttributeSpec _elem384;
-            for (int _i385 = 0; _i385 < _list383.size; ++_i385)
+            org.apache.thrift.protocol.TList _list391 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<DerivedAttributeSpec>(_list391.size);
+            DerivedAttributeSpec _elem392;
+            for (int _i393 = 0; _i393 < _list391.size; ++_i393)
             {
-              _elem384 = new DerivedAttributeSpec();
-              _elem384.read(iprot);
-              struct.success.add(_elem384);
+              _elem392 = new DerivedAttributeSpec();
+              _elem392.read(iprot);
+              struct.success.add(_elem392);
             }
           }
           struct.setSuccessIsSet(true);
@@ -43533,14 +47388,14 @@ public class Hawk {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list386 = iprot.readListBegin();
-                  struct.success = new ArrayList<IndexedAttributeSpec>(_list386.size);
-                  IndexedAttributeSpec _elem387;
-                  for (int _i388 = 0; _i388 < _list386.size; ++_i388)
+                  org.apache.thrift.protocol.TList _list394 = iprot.readListBegin();
+                  struct.success = new ArrayList<IndexedAttributeSpec>(_list394.size);
+                  IndexedAttributeSpec _elem395;
+                  for (int _i396 = 0; _i396 < _list394.size; ++_i396)
                   {
-                    _elem387 = new IndexedAttributeSpec();
-                    _elem387.read(iprot);
-                    struct.success.add(_elem387);
+                    _elem395 = new IndexedAttributeSpec();
+                    _elem395.read(iprot);
+                    struct.success.add(_elem395);
                   }
                   iprot.readListEnd();
                 }
@@ -43586,9 +47441,9 @@ public class Hawk {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (IndexedAttributeSpec _iter389 : struct.success)
+            for (IndexedAttributeSpec _iter397 : struct.success)
             {
-              _iter389.write(oprot);
+              _iter397.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -43635,9 +47490,9 @@ public class Hawk {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (IndexedAttributeSpec _iter390 : struct.success)
+            for (IndexedAttributeSpec _iter398 : struct.success)
             {
-              _iter390.write(oprot);
+              _iter398.write(oprot);
             }
           }
         }
@@ -43655,14 +47510,14 @@ public class Hawk {
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list391 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<IndexedAttributeSpec>(_list391.size);
-            IndexedAttributeSpec _elem392;
-            for (int _i393 = 0; _i393 < _list391.size; ++_i393)
+            org.apache.thrift.protocol.TList _list399 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<IndexedAttributeSpec>(_list399.size);
+            IndexedAttributeSpec _elem400;
+            for (int _i401 = 0; _i401 < _list399.size; ++_i401)
             {
-              _elem392 = new IndexedAttributeSpec();
-              _elem392.read(iprot);
-              struct.success.add(_elem392);
+              _elem400 = new IndexedAttributeSpec();
+              _elem400.read(iprot);
+              struct.success.add(_elem400);
             }
           }
           struct.setSuccessIsSet(true);
@@ -44622,14 +48477,14 @@ public class Hawk {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list394 = iprot.readListBegin();
-                  struct.success = new ArrayList<ModelElement>(_list394.size);
-                  ModelElement _elem395;
-                  for (int _i396 = 0; _i396 < _list394.size; ++_i396)
+                  org.apache.thrift.protocol.TList _list402 = iprot.readListBegin();
+                  struct.success = new ArrayList<ModelElement>(_list402.size);
+                  ModelElement _elem403;
+                  for (int _i404 = 0; _i404 < _list402.size; ++_i404)
                   {
-                    _elem395 = new ModelElement();
-                    _elem395.read(iprot);
-                    struct.success.add(_elem395);
+                    _elem403 = new ModelElement();
+                    _elem403.read(iprot);
+                    struct.success.add(_elem403);
                   }
                   iprot.readListEnd();
                 }
@@ -44675,9 +48530,9 @@ public class Hawk {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (ModelElement _iter397 : struct.success)
+            for (ModelElement _iter405 : struct.success)
             {
-              _iter397.write(oprot);
+              _iter405.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -44724,9 +48579,9 @@ public class Hawk {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (ModelElement _iter398 : struct.success)
+            for (ModelElement _iter406 : struct.success)
             {
-              _iter398.write(oprot);
+              _iter406.write(oprot);
             }
           }
         }
@@ -44744,14 +48599,14 @@ public class Hawk {
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list399 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<ModelElement>(_list399.size);
-            ModelElement _elem400;
-            for (int _i401 = 0; _i401 < _list399.size; ++_i401)
+            org.apache.thrift.protocol.TList _list407 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<ModelElement>(_list407.size);
+            ModelElement _elem408;
+            for (int _i409 = 0; _i409 < _list407.size; ++_i409)
             {
-              _elem400 = new ModelElement();
-              _elem400.read(iprot);
-              struct.success.add(_elem400);
+              _elem408 = new ModelElement();
+              _elem408.read(iprot);
+              struct.success.add(_elem408);
             }
           }
           struct.setSuccessIsSet(true);
@@ -45547,14 +49402,14 @@ public class Hawk {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list402 = iprot.readListBegin();
-                  struct.success = new ArrayList<ModelElement>(_list402.size);
-                  ModelElement _elem403;
-                  for (int _i404 = 0; _i404 < _list402.size; ++_i404)
+                  org.apache.thrift.protocol.TList _list410 = iprot.readListBegin();
+                  struct.success = new ArrayList<ModelElement>(_list410.size);
+                  ModelElement _elem411;
+                  for (int _i412 = 0; _i412 < _list410.size; ++_i412)
                   {
-                    _elem403 = new ModelElement();
-                    _elem403.read(iprot);
-                    struct.success.add(_elem403);
+                    _elem411 = new ModelElement();
+                    _elem411.read(iprot);
+                    struct.success.add(_elem411);
                   }
                   iprot.readListEnd();
                 }
@@ -45582,9 +49437,9 @@ public class Hawk {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (ModelElement _iter405 : struct.success)
+            for (ModelElement _iter413 : struct.success)
             {
-              _iter405.write(oprot);
+              _iter413.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -45615,9 +49470,9 @@ public class Hawk {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (ModelElement _iter406 : struct.success)
+            for (ModelElement _iter414 : struct.success)
             {
-              _iter406.write(oprot);
+              _iter414.write(oprot);
             }
           }
         }
@@ -45629,14 +49484,14 @@ public class Hawk {
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list407 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<ModelElement>(_list407.size);
-            ModelElement _elem408;
-            for (int _i409 = 0; _i409 < _list407.size; ++_i409)
+            org.apache.thrift.protocol.TList _list415 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<ModelElement>(_list415.size);
+            ModelElement _elem416;
+            for (int _i417 = 0; _i417 < _list415.size; ++_i417)
             {
-              _elem408 = new ModelElement();
-              _elem408.read(iprot);
-              struct.success.add(_elem408);
+              _elem416 = new ModelElement();
+              _elem416.read(iprot);
+              struct.success.add(_elem416);
             }
           }
           struct.setSuccessIsSet(true);
@@ -47268,13 +51123,13 @@ public class Hawk {
             case 3: // FILE_PATH
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list410 = iprot.readListBegin();
-                  struct.filePath = new ArrayList<String>(_list410.size);
-                  String _elem411;
-                  for (int _i412 = 0; _i412 < _list410.size; ++_i412)
+                  org.apache.thrift.protocol.TList _list418 = iprot.readListBegin();
+                  struct.filePath = new ArrayList<String>(_list418.size);
+                  String _elem419;
+                  for (int _i420 = 0; _i420 < _list418.size; ++_i420)
                   {
-                    _elem411 = iprot.readString();
-                    struct.filePath.add(_elem411);
+                    _elem419 = iprot.readString();
+                    struct.filePath.add(_elem419);
                   }
                   iprot.readListEnd();
                 }
@@ -47328,9 +51183,9 @@ public class Hawk {
           oprot.writeFieldBegin(FILE_PATH_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.filePath.size()));
-            for (String _iter413 : struct.filePath)
+            for (String _iter421 : struct.filePath)
             {
-              oprot.writeString(_iter413);
+              oprot.writeString(_iter421);
             }
             oprot.writeListEnd();
           }
@@ -47367,9 +51222,9 @@ public class Hawk {
         oprot.writeString(struct.repositoryUri);
         {
           oprot.writeI32(struct.filePath.size());
-          for (String _iter414 : struct.filePath)
+          for (String _iter422 : struct.filePath)
           {
-            oprot.writeString(_iter414);
+            oprot.writeString(_iter422);
           }
         }
         oprot.writeString(struct.clientID);
@@ -47384,13 +51239,13 @@ public class Hawk {
         struct.repositoryUri = iprot.readString();
         struct.setRepositoryUriIsSet(true);
         {
-          org.apache.thrift.protocol.TList _list415 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-          struct.filePath = new ArrayList<String>(_list415.size);
-          String _elem416;
-          for (int _i417 = 0; _i417 < _list415.size; ++_i417)
+          org.apache.thrift.protocol.TList _list423 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.filePath = new ArrayList<String>(_list423.size);
+          String _elem424;
+          for (int _i425 = 0; _i425 < _list423.size; ++_i425)
           {
-            _elem416 = iprot.readString();
-            struct.filePath.add(_elem416);
+            _elem424 = iprot.readString();
+            struct.filePath.add(_elem424);
           }
         }
         struct.setFilePathIsSet(true);
@@ -41,6 +41,8 @@ public class QueryReport implements org.apache.thrift.TBase<QueryReport, QueryRe
   private static final org.apache.thrift.protocol.TField RESULT_FIELD_DESC = new org.apache.thrift.protocol.TField("result", org.apache.thrift.protocol.TType.STRUCT, (short)1);
   private static final org.apache.thrift.protocol.TField WALL_MILLIS_FIELD_DESC = new org.apache.thrift.protocol.TField("wallMillis", org.apache.thrift.protocol.TType.I64, (short)2);
   private static final org.apache.thrift.protocol.TField IS_CANCELLED_FIELD_DESC = new org.apache.thrift.protocol.TField("isCancelled", org.apache.thrift.protocol.TType.BOOL, (short)3);
+  private static final org.apache.thrift.protocol.TField PROPERTY_CACHE_HITS_FIELD_DESC = new org.apache.thrift.protocol.TField("propertyCacheHits", org.apache.thrift.protocol.TType.I64, (short)4);
+  private static final org.apache.thrift.protocol.TField PROPERTY_CACHE_MISSES_FIELD_DESC = new org.apache.thrift.protocol.TField("propertyCacheMisses", org.apache.thrift.protocol.TType.I64, (short)5);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -51,12 +53,16 @@ public class QueryReport implements org.apache.thrift.TBase<QueryReport, QueryRe
   public QueryResult result; // required
   public long wallMillis; // required
   public boolean isCancelled; // required
+  public long propertyCacheHits; // optional
+  public long propertyCacheMisses; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     RESULT((short)1, "result"),
     WALL_MILLIS((short)2, "wallMillis"),
-    IS_CANCELLED((short)3, "isCancelled");
+    IS_CANCELLED((short)3, "isCancelled"),
+    PROPERTY_CACHE_HITS((short)4, "propertyCacheHits"),
+    PROPERTY_CACHE_MISSES((short)5, "propertyCacheMisses");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -77,6 +83,10 @@ public class QueryReport implements org.apache.thrift.TBase<QueryReport, QueryRe
           return WALL_MILLIS;
         case 3: // IS_CANCELLED
           return IS_CANCELLED;
+        case 4: // PROPERTY_CACHE_HITS
+          return PROPERTY_CACHE_HITS;
+        case 5: // PROPERTY_CACHE_MISSES
+          return PROPERTY_CACHE_MISSES;
         default:
           return null;
       }
@@ -119,7 +129,10 @@ public class QueryReport implements org.apache.thrift.TBase<QueryReport, QueryRe
   // isset id assignments
   private static final int __WALLMILLIS_ISSET_ID = 0;
   private static final int __ISCANCELLED_ISSET_ID = 1;
+  private static final int __PROPERTYCACHEHITS_ISSET_ID = 2;
+  private static final int __PROPERTYCACHEMISSES_ISSET_ID = 3;
   private byte __isset_bitfield = 0;
+  private static final _Fields optionals[] = {_Fields.PROPERTY_CACHE_HITS,_Fields.PROPERTY_CACHE_MISSES};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -129,6 +142,10 @@ public class QueryReport implements org.apache.thrift.TBase<QueryReport, QueryRe
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
     tmpMap.put(_Fields.IS_CANCELLED, new org.apache.thrift.meta_data.FieldMetaData("isCancelled", org.apache.thrift.TFieldRequirementType.REQUIRED, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+    tmpMap.put(_Fields.PROPERTY_CACHE_HITS, new org.apache.thrift.meta_data.FieldMetaData("propertyCacheHits", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+    tmpMap.put(_Fields.PROPERTY_CACHE_MISSES, new org.apache.thrift.meta_data.FieldMetaData("propertyCacheMisses", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(QueryReport.class, metaDataMap);
   }
@@ -159,6 +176,8 @@ public class QueryReport implements org.apache.thrift.TBase<QueryReport, QueryRe
     }
     this.wallMillis = other.wallMillis;
     this.isCancelled = other.isCancelled;
+    this.propertyCacheHits = other.propertyCacheHits;
+    this.propertyCacheMisses = other.propertyCacheMisses;
   }
 
   public QueryReport deepCopy() {
@@ -172,6 +191,10 @@ public class QueryReport implements org.apache.thrift.TBase<QueryReport, QueryRe
     this.wallMillis = 0;
     setIsCancelledIsSet(false);
     this.isCancelled = false;
+    setPropertyCacheHitsIsSet(false);
+    this.propertyCacheHits = 0;
+    setPropertyCacheMissesIsSet(false);
+    this.propertyCacheMisses = 0;
   }
 
   public QueryResult getResult() {
@@ -244,6 +267,52 @@ public class QueryReport implements org.apache.thrift.TBase<QueryReport, QueryRe
     __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __ISCANCELLED_ISSET_ID, value);
   }
 
+  public long getPropertyCacheHits() {
+    return this.propertyCacheHits;
+  }
+
+  public QueryReport setPropertyCacheHits(long propertyCacheHits) {
+    this.propertyCacheHits = propertyCacheHits;
+    setPropertyCacheHitsIsSet(true);
+    return this;
+  }
+
+  public void unsetPropertyCacheHits() {
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PROPERTYCACHEHITS_ISSET_ID);
+  }
+
+  /** Returns true if field propertyCacheHits is set (has been assigned a value) and false otherwise */
+  public boolean isSetPropertyCacheHits() {
+    return EncodingUtils.testBit(__isset_bitfield, __PROPERTYCACHEHITS_ISSET_ID);
+  }
+
+  public void setPropertyCacheHitsIsSet(boolean value) {
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PROPERTYCACHEHITS_ISSET_ID, value);
+  }
+
+  public long getPropertyCacheMisses() {
+    return this.propertyCacheMisses;
+  }
+
+  public QueryReport setPropertyCacheMisses(long propertyCacheMisses) {
+    this.propertyCacheMisses = propertyCacheMisses;
+    setPropertyCacheMissesIsSet(true);
+    return this;
+  }
+
+  public void unsetPropertyCacheMisses() {
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PROPERTYCACHEMISSES_ISSET_ID);
+  }
+
+  /** Returns true if field propertyCacheMisses is set (has been assigned a value) and false otherwise */
+  public boolean isSetPropertyCacheMisses() {
+    return EncodingUtils.testBit(__isset_bitfield, __PROPERTYCACHEMISSES_ISSET_ID);
+  }
+
+  public void setPropertyCacheMissesIsSet(boolean value) {
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PROPERTYCACHEMISSES_ISSET_ID, value);
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case RESULT:
@@ -270,6 +339,22 @@ public class QueryReport implements org.apache.thrift.TBase<QueryReport, QueryRe
       }
       break;
 
+    case PROPERTY_CACHE_HITS:
+      if (value == null) {
+        unsetPropertyCacheHits();
+      } else {
+        setPropertyCacheHits((Long)value);
+      }
+      break;
+
+    case PROPERTY_CACHE_MISSES:
+      if (value == null) {
+        unsetPropertyCacheMisses();
+      } else {
+        setPropertyCacheMisses((Long)value);
+      }
+      break;
+
     }
   }
 
@@ -284,6 +369,12 @@ public class QueryReport implements org.apache.thrift.TBase<QueryReport, QueryRe
     case IS_CANCELLED:
       return isIsCancelled();
 
+    case PROPERTY_CACHE_HITS:
+      return getPropertyCacheHits();
+
+    case PROPERTY_CACHE_MISSES:
+      return getPropertyCacheMisses();
+
     }
     throw new IllegalStateException();
   }
@@ -301,6 +392,10 @@ public class QueryReport implements org.apache.thrift.TBase<QueryReport, QueryRe
       return isSetWallMillis();
     case IS_CANCELLED:
       return isSetIsCancelled();
+    case PROPERTY_CACHE_HITS:
+      return isSetPropertyCacheHits();
+    case PROPERTY_CACHE_MISSES:
+      return isSetPropertyCacheMisses();
     }
     throw new IllegalStateException();
   }
@@ -345,6 +440,24 @@ public class QueryReport implements org.apache.thrift.TBase<QueryReport, QueryRe
         return false;
     }
 
+    boolean this_present_propertyCacheHits = true && this.isSetPropertyCacheHits();
+    boolean that_present_propertyCacheHits = true && that.isSetPropertyCacheHits();
+    if (this_present_propertyCacheHits || that_present_propertyCacheHits) {
+      if (!(this_present_propertyCacheHits && that_present_propertyCacheHits))
+        return false;
+      if (this.propertyCacheHits != that.propertyCacheHits)
+        return false;
+    }
+
+    boolean this_present_propertyCacheMisses = true && this.isSetPropertyCacheMisses();
+    boolean that_present_propertyCacheMisses = true && that.isSetPropertyCacheMisses();
+    if (this_present_propertyCacheMisses || that_present_propertyCacheMisses) {
+      if (!(this_present_propertyCacheMisses && that_present_propertyCacheMisses))
+        return false;
+      if (this.propertyCacheMisses != that.propertyCacheMisses)
+        return false;
+    }
+
     return true;
   }
 
@@ -367,6 +480,16 @@ public class QueryReport implements org.apache.thrift.TBase<QueryReport, QueryRe
     if (present_isCancelled)
       list.add(isCancelled);
 
+    boolean present_propertyCacheHits = true && (isSetPropertyCacheHits());
+    list.add(present_propertyCacheHits);
+    if (present_propertyCacheHits)
+      list.add(propertyCacheHits);
+
+    boolean present_propertyCacheMisses = true && (isSetPropertyCacheMisses());
+    list.add(present_propertyCacheMisses);
+    if (present_propertyCacheMisses)
+      list.add(propertyCacheMisses);
+
     return list.hashCode();
   }
 
@@ -408,6 +531,26 @@ public class QueryReport implements org.apache.thrift.TBase<QueryReport, QueryRe
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetPropertyCacheHits()).compareTo(other.isSetPropertyCacheHits());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetPropertyCacheHits()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.propertyCacheHits, other.propertyCacheHits);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetPropertyCacheMisses()).compareTo(other.isSetPropertyCacheMisses());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetPropertyCacheMisses()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.propertyCacheMisses, other.propertyCacheMisses);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -443,6 +586,18 @@ public class QueryReport implements org.apache.thrift.TBase<QueryReport, QueryRe
     sb.append("isCancelled:");
     sb.append(this.isCancelled);
     first = false;
+    if (isSetPropertyCacheHits()) {
+      if (!first) sb.append(", ");
+      sb.append("propertyCacheHits:");
+      sb.append(this.propertyCacheHits);
+      first = false;
+    }
+    if (isSetPropertyCacheMisses()) {
+      if (!first) sb.append(", ");
+      sb.append("propertyCacheMisses:");
+      sb.append(this.propertyCacheMisses);
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -518,6 +673,22 @@ public class QueryReport implements org.apache.thrift.TBase<QueryReport, QueryRe
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 4: // PROPERTY_CACHE_HITS
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.propertyCacheHits = iprot.readI64();
+              struct.setPropertyCacheHitsIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 5: // PROPERTY_CACHE_MISSES
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.propertyCacheMisses = iprot.readI64();
+              struct.setPropertyCacheMissesIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -550,6 +721,16 @@ public class QueryReport implements org.apache.thrift.TBase<QueryReport, QueryRe
       oprot.writeFieldBegin(IS_CANCELLED_FIELD_DESC);
       oprot.writeBool(struct.isCancelled);
       oprot.writeFieldEnd();
+      if (struct.isSetPropertyCacheHits()) {
+        oprot.writeFieldBegin(PROPERTY_CACHE_HITS_FIELD_DESC);
+        oprot.writeI64(struct.propertyCacheHits);
+        oprot.writeFieldEnd();
+      }
+      if (struct.isSetPropertyCacheMisses()) {
+        oprot.writeFieldBegin(PROPERTY_CACHE_MISSES_FIELD_DESC);
+        oprot.writeI64(struct.propertyCacheMisses);
+        oprot.writeFieldEnd();
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -570,6 +751,20 @@ public class QueryReport implements org.apache.thrift.TBase<QueryReport, QueryRe
       struct.result.write(oprot);
       oprot.writeI64(struct.wallMillis);
       oprot.writeBool(struct.isCancelled);
+      BitSet optionals = new BitSet();
+      if (struct.isSetPropertyCacheHits()) {
+        optionals.set(0);
+      }
+      if (struct.isSetPropertyCacheMisses()) {
+        optionals.set(1);
+      }
+      oprot.writeBitSet(optionals, 2);
+      if (struct.isSetPropertyCacheHits()) {
+        oprot.writeI64(struct.propertyCacheHits);
+      }
+      if (struct.isSetPropertyCacheMisses()) {
+        oprot.writeI64(struct.propertyCacheMisses);
+      }
     }
 
     @Override
@@ -582,6 +777,15 @@ public class QueryReport implements org.apache.thrift.TBase<QueryReport, QueryRe
       struct.setWallMillisIsSet(true);
       struct.isCancelled = iprot.readBool();
       struct.setIsCancelledIsSet(true);
+      BitSet incoming = iprot.readBitSet(2);
+      if (incoming.get(0)) {
+        struct.propertyCacheHits = iprot.readI64();
+        struct.setPropertyCacheHitsIsSet(true);
+      }
+      if (incoming.get(1)) {
+        struct.propertyCacheMisses = iprot.readI64();
+        struct.setPropertyCacheMissesIsSet(true);
+      }
     }
   }
 
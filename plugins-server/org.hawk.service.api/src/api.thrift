@@ -369,6 +369,8 @@ struct QueryReport {
 	 /* Result of the query. */ 1: required QueryResult result,
 	 /* Wall time on the server in milliseconds. */ 2: required i64 wallMillis,
 	 /* Was the query cancelled?. */ 3: required bool isCancelled,
+	 /* Number of graph reads answered from the per-query property cache (hit ratio is hits / (hits + misses)). */ 4: optional i64 propertyCacheHits,
+	 /* Number of graph reads that were not in the per-query property cache. */ 5: optional i64 propertyCacheMisses,
 }
 
 /* The majority of service operations provided by the server
@@ -623,6 +625,39 @@ service Hawk {
 	2: FailedQuery err2 /* The specified query failed to complete its execution. */ 
 	) 
 	
+  /* Runs a query on a Hawk instance and keeps its results in the server, returning a cursor ID to fetch them in pages. Cursors that are not used for a while are closed automatically. Auth needed: Yes */
+  string openQueryCursor(
+	/* The name of the Hawk instance. */ 1: required string name,
+	/* The query to be executed. */ 2: required string query,
+	/* The name of the query language used (e.g. EOL, OCL). */ 3: required string language,
+	/* Options for the query. */ 4: required HawkQueryOptions options,
+  )
+  throws (
+	1: HawkInstanceNotFound err1 /* No Hawk instance exists with that name. */ 
+	2: HawkInstanceNotRunning err2 /* The selected Hawk instance is not running. */ 
+	3: UnknownQueryLanguage err3 /* The specified query language is not supported by the operation. */ 
+	4: InvalidQuery err4 /* The specified query is not valid. */ 
+	5: FailedQuery err5 /* The specified query failed to complete its execution. */ 
+	) 
+	
+  /* Fetches the next page of results from a cursor. Returns an empty list once all results have been fetched. Auth needed: Yes */
+  list<QueryResult> fetchQueryCursor(
+	/* The cursor ID returned by openQueryCursor. */ 1: required string cursorID,
+	/* Maximum number of results to be returned. */ 2: required i32 pageSize,
+  )
+  throws (
+	1: InvalidQuery err1 /* The specified query is not valid. */ 
+	2: FailedQuery err2 /* The specified query failed to complete its execution. */ 
+	) 
+	
+  /* Closes a cursor, freeing its resources. Auth needed: Yes */
+  void closeQueryCursor(
+	/* The cursor ID returned by openQueryCursor. */ 1: required string cursorID,
+  )
+  throws (
+	1: InvalidQuery err1 /* The specified query is not valid. */ 
+	) 
+	
   /* Asks a Hawk instance to start monitoring a repository. Auth needed: Yes */
   void addRepository(
 	/* The name of the Hawk instance. */ 1: required string name,
@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.hawk.service.servlet.processors;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hawk.core.util.SystemProperties;
+
+/**
+ * Runs the asynchronous queries of each Hawk instance in its own bounded
+ * thread pool, so queries on one instance can run concurrently without
+ * starving the others.
+ *
+ * If the queue of an instance is full, {@link #submit(String, Runnable)}
+ * blocks the caller until there is room, up to a timeout: this slows down
+ * clients that send queries faster than they can be answered, instead of
+ * letting the queue grow without limit.
+ */
+public class AsyncQueryExecutor {
+
+	/**
+	 * Name of the system property with the maximum number of queries to run at
+	 * once on each instance (the number of available processors by default).
+	 */
+	public static final String POOL_SIZE_PROPERTY = "hawk.server.asyncQuery.poolSize";
+
+	/**
+	 * Name of the system property with the maximum number of queries waiting
+	 * to run on each instance (100 by default).
+	 */
+	public static final String QUEUE_DEPTH_PROPERTY = "hawk.server.asyncQuery.queueDepth";
+
+	/**
+	 * Name of the system property with the maximum time in milliseconds to
+	 * wait for room in a full queue, before rejecting a query (30000 by
+	 * default).
+	 */
+	public static final String SUBMIT_TIMEOUT_PROPERTY = "hawk.server.asyncQuery.submitTimeoutMillis";
+
+	private static final long IDLE_THREAD_SECONDS = 60;
+
+	private static final AsyncQueryExecutor INSTANCE = new AsyncQueryExecutor(
+		SystemProperties.getInteger(POOL_SIZE_PROPERTY, Runtime.getRuntime().availableProcessors()),
+		SystemProperties.getInteger(QUEUE_DEPTH_PROPERTY, 100),
+		SystemProperties.getLong(SUBMIT_TIMEOUT_PROPERTY, 30_000));
+
+	private final Map<String, ThreadPoolExecutor> executors = new ConcurrentHashMap<>();
+	private final int poolSize, queueDepth;
+	private final long submitTimeoutMillis;
+
+	public AsyncQueryExecutor(int poolSize, int queueDepth, long submitTimeoutMillis) {
+		this.poolSize = Math.max(1, poolSize);
+		this.queueDepth = Math.max(1, queueDepth);
+		this.submitTimeoutMillis = submitTimeoutMillis;
+	}
+
+	/**
+	 * Returns the executor shared by all the Thrift API endpoints.
+	 */
+	public static AsyncQueryExecutor getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Queues a query for a Hawk instance, waiting for room in the queue if
+	 * needed.
+	 *
+	 * @throws RejectedExecutionException
+	 *             The queue was still full after the timeout, or the calling
+	 *             thread was interrupted while waiting.
+	 */
+	public Future<?> submit(String instanceName, Runnable query) {
+		return executors.computeIfAbsent(instanceName, this::createExecutor).submit(query);
+	}
+
+	/**
+	 * Returns the number of queries waiting to run on an instance.
+	 */
+	public int getQueuedCount(String instanceName) {
+		final ThreadPoolExecutor executor = executors.get(instanceName);
+		return executor == null ? 0 : executor.getQueue().size();
+	}
+
+	/**
+	 * Returns the number of queries running on an instance.
+	 */
+	public int getActiveCount(String instanceName) {
+		final ThreadPoolExecutor executor = executors.get(instanceName);
+		return executor == null ? 0 : executor.getActiveCount();
+	}
+
+	/**
+	 * Stops accepting queries for an instance (e.g. when it is removed),
+	 * letting the queued ones finish.
+	 */
+	public void shutdown(String instanceName) {
+		final ThreadPoolExecutor executor = executors.remove(instanceName);
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	private ThreadPoolExecutor createExecutor(String instanceName) {
+		final AtomicInteger threadCount = new AtomicInteger();
+		final ThreadFactory threadFactory = (r) -> {
+			final Thread t = new Thread(r, "hawk-query-" + instanceName + "-" + threadCount.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		};
+
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+			poolSize, poolSize, IDLE_THREAD_SECONDS, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(queueDepth), threadFactory, this::waitForRoom);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	private void waitForRoom(Runnable r, ThreadPoolExecutor executor) {
+		if (executor.isShutdown()) {
+			throw new RejectedExecutionException("Query executor has been shut down");
+		}
+
+		try {
+			if (!executor.getQueue().offer(r, submitTimeoutMillis, TimeUnit.MILLISECONDS)) {
+				throw new RejectedExecutionException(String.format(
+					"%d queries are already waiting, and none finished within %d ms",
+					queueDepth, submitTimeoutMillis));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RejectedExecutionException("Interrupted while waiting to queue the query", e);
+		}
+	}
+
+}
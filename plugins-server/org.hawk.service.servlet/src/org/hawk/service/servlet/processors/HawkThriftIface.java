@@ -33,6 +33,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -48,9 +49,8 @@ import org.apache.activemq.artemis.api.core.client.ClientSessionFactory;
 import org.apache.activemq.artemis.api.core.client.ServerLocator;
 import org.apache.activemq.artemis.core.remoting.impl.invm.InVMConnectorFactory;
 import org.apache.thrift.TException;
-import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobManager;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.Job;
 import org.hawk.core.IHawkFactory;
 import org.hawk.core.IHawkPlugin;
@@ -131,66 +131,78 @@ import com.google.common.collect.ImmutableSet;
  */
 public final class HawkThriftIface implements Hawk.Iface {
 
-	protected class AsyncQueryExecutionJob extends Job {
+	protected class AsyncQueryExecution implements Runnable {
 		private final String uuid;
-		private final String hawkInstanceName;
+		private final HModel model;
 		private final String language;
 		private final String query;
 		private final HawkQueryOptions options;
 
-		private Runnable doCancel;
+		private volatile Future<?> future;
+		private volatile Runnable doCancel;
 		private CompletableFuture<QueryReport> report = new CompletableFuture<>();
-		private long startMillis;
-
-		protected AsyncQueryExecutionJob(String uuid, String language, HawkQueryOptions options,
-				String query, String hawkInstanceName) {
-			super("Running query " + uuid);
+		private volatile long startMillis;
 
+		protected AsyncQueryExecution(String uuid, String language, HawkQueryOptions options,
+				String query, HModel model) {
 			this.language = language;
 			this.options = options;
 			this.query = query;
 			this.uuid = uuid;
-			this.hawkInstanceName = hawkInstanceName;
+			this.model = model;
 		}
 
-		@Override
-		protected void canceling() {
+		public void cancel() {
+			if (future != null) {
+				future.cancel(false);
+			}
 			if (doCancel != null) {
 				doCancel.run();
-				
-				QueryReport rValue = new QueryReport();
-				QueryResult rResult = new QueryResult();
-				rResult.setVString("cancelled");
-				rValue.setResult(rResult);
-				rValue.setWallMillis(System.currentTimeMillis() - startMillis);
-				rValue.setIsCancelled(true);
-				report.complete(rValue);
 			}
+
+			QueryReport rValue = new QueryReport();
+			QueryResult rResult = new QueryResult();
+			rResult.setVString("cancelled");
+			rValue.setResult(rResult);
+			rValue.setWallMillis(startMillis > 0 ? System.currentTimeMillis() - startMillis : 0);
+			rValue.setIsCancelled(true);
+			report.complete(rValue);
 		}
 
 		@Override
-		protected IStatus run(IProgressMonitor monitor) {
+		public void run() {
+			if (report.isDone()) {
+				// Cancelled while it was waiting in the queue
+				return;
+			}
+
+			/*
+			 * Queries only read from the index, so they can run alongside each other,
+			 * but they still have to wait for any exclusive operations (e.g. syncs).
+			 */
+			final ISchedulingRule rule = new HModelSchedulingRule(model, true);
+			final IJobManager jobManager = Job.getJobManager();
 			try {
+				jobManager.beginRule(rule, null);
 				startMillis = System.currentTimeMillis();
-				final QueryReport rValue = performTimedQuery(hawkInstanceName, query, language, options, this::setDoCancel);
+				final QueryReport rValue = performTimedQuery(model.getName(), query, language, options, this::setDoCancel);
 				report.complete(rValue);
-				return new Status(IStatus.OK, getBundleName(), "Completed query " + uuid);
 			} catch (Throwable e) {
 				if (!report.isDone()) {
+					LOGGER.error("Query " + uuid + " failed: " + e.getMessage(), e);
 					report.completeExceptionally(e);
-					return new Status(IStatus.ERROR, getBundleName(),
-						"Query " + uuid + " failed: " + e.getMessage(), e);
 				}
+			} finally {
+				jobManager.endRule(rule);
 			}
-			return new Status(IStatus.OK, getBundleName(), "Cancelled query " + uuid);
 		}
 
 		public Future<QueryReport> getQueryReport() {
 			return report;
 		}
 
-		private String getBundleName() {
-			return FrameworkUtil.getBundle(getClass()).getSymbolicName();
+		private void setFuture(Future<?> future) {
+			this.future = future;
 		}
 
 		private void setDoCancel(Runnable doCancel) {
@@ -238,7 +250,7 @@ public final class HawkThriftIface implements Hawk.Iface {
 	private final HttpServletRequest request;
 
 	/* Keeps track of all the running asynchronous queries. */
-	private static final Map<String, AsyncQueryExecutionJob> ASYNC_QUERIES
+	private static final Map<String, AsyncQueryExecution> ASYNC_QUERIES
 		= new ConcurrentHashMap<>();
 
 	private static enum CollectElements { ALL, ONLY_ROOTS; }
@@ -326,7 +338,7 @@ public final class HawkThriftIface implements Hawk.Iface {
 	public QueryResult query(String name, String query, String language, HawkQueryOptions opts)
 			throws HawkInstanceNotFound, UnknownQueryLanguage, InvalidQuery,
 			FailedQuery, TException {
-		return performQuery(name, query, language, opts, null);
+		return performQuery(name, query, language, opts, null, null);
 	}
 
 	@Override
@@ -336,45 +348,31 @@ public final class HawkThriftIface implements Hawk.Iface {
 		return performTimedQuery(name, query, language, opts, null);
 	}
 
-	private QueryResult performQuery(String name, String query, String language, HawkQueryOptions opts, Consumer<Runnable> cancelConsumer)
+	private QueryResult performQuery(String name, String query, String language, HawkQueryOptions opts,
+			Consumer<Runnable> cancelConsumer, Consumer<Map<String, Object>> statsConsumer)
 			throws HawkInstanceNotFound, HawkInstanceNotRunning, InvalidQuery, FailedQuery, TException {
 		final HModel model = getRunningHawkByName(name);
+
+		// The generation must be read before the query, in case the graph changes while it runs
+		final QueryResultCache cache = QueryResultCache.getInstance();
+		final long generation = model.getIndexer().getCompositeGraphChangeListener().getGeneration();
+		final QueryResult cached = cache.get(name, query, language, opts, generation);
+		if (cached != null) {
+			return cached;
+		}
+
 		try {
-			final Map<String, Object> context = new HashMap<>();
-			if (opts.isSetDefaultNamespaces()) {
-				context.put(IQueryEngine.PROPERTY_DEFAULTNAMESPACES, opts.getDefaultNamespaces());
-			}
-	
-			if (opts.isSetRepositoryPattern() || opts.isSetFilePatterns()) {
-				final boolean allRepositories = !opts.isSetRepositoryPattern() || "*".equals(opts.getRepositoryPattern());
-				final boolean allFiles = !opts.isSetFilePatterns() || Arrays.asList("*").equals(opts.getFilePatterns());
-				if (!allRepositories || !allFiles) {
-					context.put(IQueryEngine.PROPERTY_REPOSITORYCONTEXT, opts.isSetRepositoryPattern() ? opts.getRepositoryPattern() : "*");
-					context.put(IQueryEngine.PROPERTY_FILECONTEXT, opts.isSetFilePatterns() ? join(opts.getFilePatterns(), ",") : "*");
-				}
-			}
-			if (cancelConsumer != null) {
-				context.put(IQueryEngine.PROPERTY_CANCEL_CONSUMER, cancelConsumer);
-			}
-			Object ret = model.query(query, language, context);
+			Object ret = runQuery(model, query, language, opts, cancelConsumer, statsConsumer);
 	
 			final GraphWrapper gw = new GraphWrapper(model.getGraph());
-			final HawkModelElementEncoder enc = new HawkModelElementEncoder(gw);
-			enc.setUseContainment(opts.includeContained);
-			enc.setIncludeNodeIDs(opts.includeNodeIDs);
-			enc.setIncludeAttributes(opts.includeAttributes);
-			enc.setIncludeReferences(opts.includeReferences);
-			enc.setIncludeDerived(opts.includeDerived);
-			final EffectiveMetamodelRuleset emm = new EffectiveMetamodelRuleset(
-					opts.getEffectiveMetamodelIncludes(), opts.getEffectiveMetamodelExcludes());
-			if (!emm.isEverythingIncluded()) {
-				enc.setEffectiveMetamodel(emm);
-			}
-	
+			final HawkModelElementEncoder enc = createEncoder(gw, opts);
 			final HawkModelElementTypeEncoder typeEnc = new HawkModelElementTypeEncoder(gw);
+			final QueryResult result;
 			try (final IGraphTransaction t = model.getGraph().beginTransaction()) {
-				return encodeValue(model, ret, enc, typeEnc);
+				result = encodeValue(model, ret, enc, typeEnc);
 			}
+			cache.put(name, query, language, opts, generation, result);
+			return result;
 		} catch (InvalidQueryException ex) {
 			throw new InvalidQuery(ex.getMessage());
 		} catch (QueryExecutionException ex) {
@@ -384,13 +382,61 @@ public final class HawkThriftIface implements Hawk.Iface {
 		}
 	}
 
+	private Object runQuery(HModel model, String query, String language, HawkQueryOptions opts,
+			Consumer<Runnable> cancelConsumer, Consumer<Map<String, Object>> statsConsumer) throws Exception {
+		final Map<String, Object> context = new HashMap<>();
+		if (opts.isSetDefaultNamespaces()) {
+			context.put(IQueryEngine.PROPERTY_DEFAULTNAMESPACES, opts.getDefaultNamespaces());
+		}
+
+		if (opts.isSetRepositoryPattern() || opts.isSetFilePatterns()) {
+			final boolean allRepositories = !opts.isSetRepositoryPattern() || "*".equals(opts.getRepositoryPattern());
+			final boolean allFiles = !opts.isSetFilePatterns() || Arrays.asList("*").equals(opts.getFilePatterns());
+			if (!allRepositories || !allFiles) {
+				context.put(IQueryEngine.PROPERTY_REPOSITORYCONTEXT, opts.isSetRepositoryPattern() ? opts.getRepositoryPattern() : "*");
+				context.put(IQueryEngine.PROPERTY_FILECONTEXT, opts.isSetFilePatterns() ? join(opts.getFilePatterns(), ",") : "*");
+			}
+		}
+		if (cancelConsumer != null) {
+			context.put(IQueryEngine.PROPERTY_CANCEL_CONSUMER, cancelConsumer);
+		}
+		if (statsConsumer != null) {
+			context.put(IQueryEngine.PROPERTY_STATS_CONSUMER, statsConsumer);
+		}
+		return model.query(query, language, context);
+	}
+
+	private HawkModelElementEncoder createEncoder(final GraphWrapper gw, HawkQueryOptions opts) {
+		final HawkModelElementEncoder enc = new HawkModelElementEncoder(gw);
+		enc.setUseContainment(opts.includeContained);
+		enc.setIncludeNodeIDs(opts.includeNodeIDs);
+		enc.setIncludeAttributes(opts.includeAttributes);
+		enc.setIncludeReferences(opts.includeReferences);
+		enc.setIncludeDerived(opts.includeDerived);
+		final EffectiveMetamodelRuleset emm = new EffectiveMetamodelRuleset(
+				opts.getEffectiveMetamodelIncludes(), opts.getEffectiveMetamodelExcludes());
+		if (!emm.isEverythingIncluded()) {
+			enc.setEffectiveMetamodel(emm);
+		}
+		return enc;
+	}
+
 	private QueryReport performTimedQuery(String name, String query, String language, HawkQueryOptions opts, Consumer<Runnable> cancelConsumer)
 			throws HawkInstanceNotFound, UnknownQueryLanguage, InvalidQuery, FailedQuery, TException {
+		final QueryReport queryReport = new QueryReport();
 		final long startMillis = System.currentTimeMillis();
-		final QueryResult result = performQuery(name, query, language, opts, cancelConsumer);
+		final QueryResult result = performQuery(name, query, language, opts, cancelConsumer, (stats) -> {
+			final Object hits = stats.get(IQueryEngine.STAT_PROPERTY_CACHE_HITS);
+			if (hits instanceof Long) {
+				queryReport.setPropertyCacheHits((Long) hits);
+			}
+			final Object misses = stats.get(IQueryEngine.STAT_PROPERTY_CACHE_MISSES);
+			if (misses instanceof Long) {
+				queryReport.setPropertyCacheMisses((Long) misses);
+			}
+		});
 		final long endMillis = System.currentTimeMillis();
 
-		final QueryReport queryReport = new QueryReport();
 		queryReport.setResult(result);
 		queryReport.setWallMillis(endMillis - startMillis);
 		return queryReport;
@@ -485,9 +531,14 @@ public final class HawkThriftIface implements Hawk.Iface {
 				encoder.setEffectiveMetamodel(emm);
 			}
 			
-			for (String id : ids) {
+			final List<IGraphNode> nodes = graph.getNodesByIds(ids);
+			for (int i = 0; i < nodes.size(); i++) {
 				try {
-					encoder.encode(id);
+					if (nodes.get(i) == null) {
+						LOGGER.error("No node exists with id {}", ids.get(i));
+					} else {
+						encoder.encode(nodes.get(i));
+					}
 				} catch (Exception ex) {
 					LOGGER.error(ex.getMessage(), ex);
 				}
@@ -498,6 +549,66 @@ public final class HawkThriftIface implements Hawk.Iface {
 		}
 	}
 
+	@Override
+	public String openQueryCursor(String name, String query, String language, HawkQueryOptions opts)
+			throws HawkInstanceNotFound, HawkInstanceNotRunning, UnknownQueryLanguage, InvalidQuery, FailedQuery, TException {
+		final HModel model = getRunningHawkByName(name);
+		try (final IGraphTransaction t = model.getGraph().beginTransaction()) {
+			// The result may read the graph lazily: copy it before the transaction ends
+			final Object ret = runQuery(model, query, language, opts, null, null);
+			final String cursorID = QueryCursorRegistry.getInstance().open(model, opts, ret);
+			t.success();
+			return cursorID;
+		} catch (InvalidQueryException ex) {
+			throw new InvalidQuery(ex.getMessage());
+		} catch (QueryExecutionException ex) {
+			throw new FailedQuery(ex.getMessage());
+		} catch (FailedQuery ex) {
+			throw ex;
+		} catch (Exception ex) {
+			throw new TException(ex);
+		}
+	}
+
+	@Override
+	public List<QueryResult> fetchQueryCursor(String cursorID, int pageSize) throws InvalidQuery, FailedQuery, TException {
+		final QueryCursorRegistry registry = QueryCursorRegistry.getInstance();
+		final QueryCursorRegistry.Cursor cursor = registry.get(cursorID);
+		final int maxResults = registry.getPageSize(pageSize);
+
+		/*
+		 * Each page is encoded on its own, so memory use depends on the page size
+		 * rather than on the size of the whole result. This means that a model
+		 * element contained within elements from different pages may be sent more
+		 * than once.
+		 */
+		final HModel model = cursor.getModel();
+		final GraphWrapper gw = new GraphWrapper(model.getGraph());
+		final HawkModelElementEncoder enc = createEncoder(gw, cursor.getOptions());
+		final HawkModelElementTypeEncoder typeEnc = new HawkModelElementTypeEncoder(gw);
+
+		final List<QueryResult> page = new ArrayList<>();
+		synchronized (cursor) {
+			try (final IGraphTransaction t = model.getGraph().beginTransaction()) {
+				while (page.size() < maxResults && cursor.hasNext()) {
+					page.add(encodeValue(model, cursor.next(), enc, typeEnc));
+				}
+			} catch (Exception ex) {
+				LOGGER.error("Failed to fetch page from cursor " + cursorID, ex);
+				registry.close(cursorID);
+				throw new FailedQuery(ex.getMessage());
+			}
+		}
+		return page;
+	}
+
+	@Override
+	public void closeQueryCursor(String cursorID) throws InvalidQuery, TException {
+		if (!QueryCursorRegistry.getInstance().close(cursorID)) {
+			throw new InvalidQuery("Cannot find open cursor with ID " + cursorID);
+		}
+	}
+
 	@Override
 	public void addRepository(String name, Repository repo, Credentials credentials) throws HawkInstanceNotFound, HawkInstanceNotRunning, UnknownRepositoryType, VCSAuthenticationFailed {
 
@@ -803,6 +914,9 @@ public final class HawkThriftIface implements Hawk.Iface {
 		try {
 			HManager.getInstance().delete(model, true);
 			removeStateListener(model);
+			AsyncQueryExecutor.getInstance().shutdown(name);
+			QueryCursorRegistry.getInstance().closeAll(name);
+			QueryResultCache.getInstance().invalidate(name);
 		} catch (BackingStoreException e) {
 			throw new TException(e.getMessage(), e);
 		}
@@ -823,6 +937,9 @@ public final class HawkThriftIface implements Hawk.Iface {
 		if (model.isRunning()) {
 			model.stop(ShutdownRequestType.ALWAYS);
 			removeStateListener(model);
+			AsyncQueryExecutor.getInstance().shutdown(name);
+			QueryCursorRegistry.getInstance().closeAll(name);
+			QueryResultCache.getInstance().invalidate(name);
 		}
 	}
 
@@ -1023,17 +1140,21 @@ public final class HawkThriftIface implements Hawk.Iface {
 		final HModel model = getRunningHawkByName(hawkInstanceName);
 
 		final String queryUUID = UUID.randomUUID().toString();
-		final AsyncQueryExecutionJob timedQueryJob = new AsyncQueryExecutionJob(queryUUID, language, options, query, hawkInstanceName);
-		ASYNC_QUERIES.put(queryUUID, timedQueryJob);
-		timedQueryJob.setRule(new HModelSchedulingRule(model));
-		timedQueryJob.schedule();
+		final AsyncQueryExecution timedQuery = new AsyncQueryExecution(queryUUID, language, options, query, model);
+		ASYNC_QUERIES.put(queryUUID, timedQuery);
+		try {
+			timedQuery.setFuture(AsyncQueryExecutor.getInstance().submit(hawkInstanceName, timedQuery));
+		} catch (RejectedExecutionException ex) {
+			ASYNC_QUERIES.remove(queryUUID);
+			throw new FailedQuery("Too many queries queued for " + hawkInstanceName + ": " + ex.getMessage());
+		}
 
 		return queryUUID;
 	}
 
 	@Override
 	public void cancelAsyncQuery(String queryID) throws TException {
-		AsyncQueryExecutionJob queryJob = ASYNC_QUERIES.get(queryID);
+		AsyncQueryExecution queryJob = ASYNC_QUERIES.get(queryID);
 		if (queryJob == null) {
 			throw new InvalidQuery("Cannot find query with UUID " + queryID);
 		} else {
@@ -1044,7 +1165,7 @@ public final class HawkThriftIface implements Hawk.Iface {
 
 	@Override
 	public QueryReport fetchAsyncQueryResults(String queryID) throws TException {
-		AsyncQueryExecutionJob queryJob = ASYNC_QUERIES.get(queryID);
+		AsyncQueryExecution queryJob = ASYNC_QUERIES.get(queryID);
 		if (queryJob == null) {
 			throw new InvalidQuery("Cannot find query with UUID " + queryID);
 		} else {
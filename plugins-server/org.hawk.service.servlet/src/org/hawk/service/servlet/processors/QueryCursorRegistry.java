@@ -0,0 +1,302 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.hawk.service.servlet.processors;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hawk.core.graph.IGraphNode;
+import org.hawk.core.util.SystemProperties;
+import org.hawk.osgiserver.HModel;
+import org.hawk.service.api.FailedQuery;
+import org.hawk.service.api.HawkQueryOptions;
+import org.hawk.service.api.InvalidQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the results of the queries opened through the paginated query API, so
+ * they can be encoded and sent one page at a time. Only the raw results of the
+ * query are kept: encoded pages are discarded once they have been sent.
+ *
+ * Each page is fetched in its own transaction, so the results are copied when
+ * the cursor is opened, while the transaction of the query is still open.
+ * Collections which read the graph lazily are turned into lists, and graph
+ * nodes are replaced by their IDs and looked up again when they are fetched.
+ *
+ * Cursors that have not been used for a while are closed automatically, so
+ * clients that do not close their cursors will not leak memory.
+ */
+public class QueryCursorRegistry {
+
+	/**
+	 * Name of the system property with the time in milliseconds after which an
+	 * unused cursor is closed (5 minutes by default).
+	 */
+	public static final String IDLE_TIMEOUT_PROPERTY = "hawk.server.queryCursor.idleTimeoutMillis";
+
+	/**
+	 * Name of the system property with the maximum number of cursors that can
+	 * be open at the same time (100 by default).
+	 */
+	public static final String MAX_OPEN_PROPERTY = "hawk.server.queryCursor.maxOpen";
+
+	/**
+	 * Name of the system property with the maximum number of results in a page
+	 * (10000 by default). Larger page sizes are reduced to this value.
+	 */
+	public static final String MAX_PAGE_SIZE_PROPERTY = "hawk.server.queryCursor.maxPageSize";
+
+	/**
+	 * Results of a query which have not been fetched yet.
+	 */
+	public static class Cursor {
+		private final String id;
+		private final HModel model;
+		private final HawkQueryOptions options;
+		private Iterator<?> remaining;
+		private volatile long lastAccessMillis;
+
+		private Cursor(String id, HModel model, HawkQueryOptions options, Object result) {
+			this.id = id;
+			this.model = model;
+			this.options = options;
+			this.lastAccessMillis = System.currentTimeMillis();
+
+			final List<Object> results = new ArrayList<>();
+			if (result instanceof Iterable && !(result instanceof Map)) {
+				for (Object o : (Iterable<?>) result) {
+					results.add(detach(o));
+				}
+			} else {
+				results.add(detach(result));
+			}
+			this.remaining = results.iterator();
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		public HModel getModel() {
+			return model;
+		}
+
+		public HawkQueryOptions getOptions() {
+			return options;
+		}
+
+		/**
+		 * Returns <code>true</code> if there are results left to be fetched.
+		 * Callers should synchronize on the cursor while fetching.
+		 */
+		public boolean hasNext() {
+			if (remaining != null && !remaining.hasNext()) {
+				// Let go of the query results as soon as possible
+				remaining = null;
+			}
+			return remaining != null;
+		}
+
+		/**
+		 * Returns the next raw result of the query. Callers should synchronize
+		 * on the cursor while fetching, from within a transaction.
+		 */
+		public Object next() {
+			return attach(remaining.next());
+		}
+
+		private Object attach(Object o) {
+			if (o instanceof NodeID) {
+				return model.getGraph().getNodeById(((NodeID) o).id);
+			} else if (o instanceof Map) {
+				final Map<Object, Object> attached = new LinkedHashMap<>();
+				for (Map.Entry<?, ?> entry : ((Map<?, ?>) o).entrySet()) {
+					attached.put(entry.getKey(), attach(entry.getValue()));
+				}
+				return attached;
+			} else if (o instanceof DetachedList) {
+				final List<Object> attached = new ArrayList<>();
+				for (Object e : (DetachedList) o) {
+					attached.add(attach(e));
+				}
+				return attached;
+			}
+			return o;
+		}
+	}
+
+	/**
+	 * ID of a graph node in a query result, which is only looked up again when
+	 * it is fetched.
+	 */
+	private static final class NodeID {
+		private final Object id;
+
+		private NodeID(Object id) {
+			this.id = id;
+		}
+	}
+
+	/**
+	 * Copy of a collection in a query result.
+	 */
+	private static final class DetachedList extends ArrayList<Object> {
+		private static final long serialVersionUID = 1L;
+	}
+
+	/**
+	 * Copies a raw query result so it does not depend on the transaction that
+	 * produced it.
+	 */
+	private static Object detach(Object o) {
+		if (o instanceof IGraphNode) {
+			return new NodeID(((IGraphNode) o).getId());
+		} else if (o instanceof Map) {
+			final Map<Object, Object> detached = new LinkedHashMap<>();
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) o).entrySet()) {
+				detached.put(entry.getKey(), detach(entry.getValue()));
+			}
+			return detached;
+		} else if (o instanceof Iterable) {
+			final DetachedList detached = new DetachedList();
+			for (Object e : (Iterable<?>) o) {
+				detached.add(detach(e));
+			}
+			return detached;
+		}
+		return o;
+	}
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(QueryCursorRegistry.class);
+
+	private static final QueryCursorRegistry INSTANCE = new QueryCursorRegistry(
+		SystemProperties.getLong(IDLE_TIMEOUT_PROPERTY, TimeUnit.MINUTES.toMillis(5)),
+		SystemProperties.getInteger(MAX_OPEN_PROPERTY, 100),
+		SystemProperties.getInteger(MAX_PAGE_SIZE_PROPERTY, 10_000));
+
+	private final Map<String, Cursor> cursors = new ConcurrentHashMap<>();
+	private final long idleTimeoutMillis;
+	private final int maxOpen, maxPageSize;
+
+	public QueryCursorRegistry(long idleTimeoutMillis, int maxOpen, int maxPageSize) {
+		this.idleTimeoutMillis = idleTimeoutMillis;
+		this.maxOpen = maxOpen;
+		this.maxPageSize = Math.max(1, maxPageSize);
+
+		final ScheduledExecutorService reaper = Executors.newSingleThreadScheduledExecutor((r) -> {
+			final Thread t = new Thread(r, "hawk-query-cursor-reaper");
+			t.setDaemon(true);
+			return t;
+		});
+		final long period = Math.max(1000, idleTimeoutMillis / 2);
+		reaper.scheduleWithFixedDelay(this::closeIdle, period, period, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Returns the registry shared by all the Thrift API endpoints.
+	 */
+	public static QueryCursorRegistry getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Opens a new cursor over the raw result of a query, returning its ID. This
+	 * must be called from within the transaction in which the query was run,
+	 * as the result is copied here.
+	 *
+	 * @throws FailedQuery
+	 *             There are too many open cursors already.
+	 */
+	public String open(HModel model, HawkQueryOptions options, Object result) throws FailedQuery {
+		if (cursors.size() >= maxOpen) {
+			closeIdle();
+			if (cursors.size() >= maxOpen) {
+				throw new FailedQuery("Too many open query cursors (" + maxOpen + "): close some before opening more");
+			}
+		}
+
+		final String id = UUID.randomUUID().toString();
+		cursors.put(id, new Cursor(id, model, options, result));
+		return id;
+	}
+
+	/**
+	 * Returns an open cursor, resetting its idle timeout.
+	 *
+	 * @throws InvalidQuery
+	 *             No cursor exists with that ID, or it was closed because it
+	 *             was not used for too long.
+	 */
+	public Cursor get(String cursorID) throws InvalidQuery {
+		final Cursor cursor = cursors.get(cursorID);
+		if (cursor == null) {
+			throw new InvalidQuery("Cannot find open cursor with ID " + cursorID);
+		}
+		cursor.lastAccessMillis = System.currentTimeMillis();
+		return cursor;
+	}
+
+	/**
+	 * Clamps a page size requested by a client to the allowed range.
+	 *
+	 * @throws InvalidQuery
+	 *             The page size is not a positive number.
+	 */
+	public int getPageSize(int requested) throws InvalidQuery {
+		if (requested <= 0) {
+			throw new InvalidQuery("Page size must be a positive number, but was " + requested);
+		}
+		return Math.min(requested, maxPageSize);
+	}
+
+	/**
+	 * Closes a cursor, returning <code>false</code> if it did not exist.
+	 */
+	public boolean close(String cursorID) {
+		return cursors.remove(cursorID) != null;
+	}
+
+	/**
+	 * Closes all the cursors of a Hawk instance (e.g. when it is removed).
+	 */
+	public void closeAll(String instanceName) {
+		cursors.values().removeIf((c) -> instanceName.equals(c.getModel().getName()));
+	}
+
+	public int size() {
+		return cursors.size();
+	}
+
+	private void closeIdle() {
+		final long cutoff = System.currentTimeMillis() - idleTimeoutMillis;
+		for (Cursor cursor : cursors.values()) {
+			if (cursor.lastAccessMillis < cutoff && cursors.remove(cursor.getId(), cursor)) {
+				LOGGER.info("Closed query cursor {} after {} ms without use", cursor.getId(), idleTimeoutMillis);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,273 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.hawk.service.servlet.processors;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.thrift.TDeserializer;
+import org.apache.thrift.TException;
+import org.apache.thrift.TSerializer;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.hawk.core.runtime.CompositeGraphChangeListener;
+import org.hawk.core.util.SystemProperties;
+import org.hawk.service.api.HawkQueryOptions;
+import org.hawk.service.api.QueryResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Optional cache of encoded query results, so repeated queries can be answered
+ * without touching the backend while the graph stays the same. Results are
+ * keyed by the instance, the query, the language, the query options, and the
+ * generation of the instance (see
+ * {@link CompositeGraphChangeListener#getGeneration()}): once the graph changes,
+ * all the results cached for the previous generation are dropped.
+ *
+ * Results are kept in serialized form, which makes it possible to bound the
+ * cache by the number of bytes, and ensures that callers never share the same
+ * mutable {@link QueryResult}. The least recently used results are evicted
+ * first.
+ */
+public class QueryResultCache {
+
+	/**
+	 * Name of the system property with the maximum size of the cache in bytes.
+	 * If zero or less (the default), query results are not cached.
+	 */
+	public static final String MAX_BYTES_PROPERTY = "hawk.server.queryCache.maxBytes";
+
+	/**
+	 * Name of the system property with the maximum time in milliseconds that a
+	 * result is kept in the cache (10 minutes by default).
+	 */
+	public static final String TTL_PROPERTY = "hawk.server.queryCache.ttlMillis";
+
+	private static final class Key {
+		private final String instance, query, language;
+		private final HawkQueryOptions options;
+		private final long generation;
+
+		public Key(String instance, String query, String language, HawkQueryOptions options, long generation) {
+			this.instance = instance;
+			this.query = query;
+			this.language = language;
+			this.options = options.deepCopy();
+			this.generation = generation;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(instance, query, language, options, generation);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			} else if (!(obj instanceof Key)) {
+				return false;
+			}
+			final Key other = (Key) obj;
+			return generation == other.generation
+				&& instance.equals(other.instance)
+				&& query.equals(other.query)
+				&& language.equals(other.language)
+				&& options.equals(other.options);
+		}
+	}
+
+	private static final class Entry {
+		private final byte[] serialized;
+		private final long expiresMillis;
+
+		public Entry(byte[] serialized, long expiresMillis) {
+			this.serialized = serialized;
+			this.expiresMillis = expiresMillis;
+		}
+	}
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(QueryResultCache.class);
+
+	private static final QueryResultCache INSTANCE = new QueryResultCache(
+		SystemProperties.getLong(MAX_BYTES_PROPERTY, 0),
+		SystemProperties.getLong(TTL_PROPERTY, 600_000));
+
+	private final long maxBytes, ttlMillis;
+	private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private final Map<String, Long> generations = new HashMap<>();
+	private long usedBytes, hits, misses;
+
+	public QueryResultCache(long maxBytes, long ttlMillis) {
+		this.maxBytes = maxBytes;
+		this.ttlMillis = ttlMillis;
+	}
+
+	/**
+	 * Returns the cache shared by all the Thrift API endpoints.
+	 */
+	public static QueryResultCache getInstance() {
+		return INSTANCE;
+	}
+
+	public boolean isEnabled() {
+		return maxBytes > 0;
+	}
+
+	/**
+	 * Returns a copy of the cached result of a query, or <code>null</code> if
+	 * it is not in the cache.
+	 *
+	 * @param generation
+	 *            Current generation of the instance, which must have been read
+	 *            before running the query.
+	 */
+	public QueryResult get(String instance, String query, String language, HawkQueryOptions options, long generation) {
+		if (!isEnabled()) {
+			return null;
+		}
+
+		final Entry entry;
+		synchronized (this) {
+			dropOldGenerations(instance, generation);
+			final Key key = new Key(instance, query, language, options, generation);
+			final Entry found = entries.get(key);
+			if (found != null && found.expiresMillis < System.currentTimeMillis()) {
+				remove(key);
+				entry = null;
+			} else {
+				entry = found;
+			}
+
+			if (entry == null) {
+				misses++;
+				return null;
+			}
+			hits++;
+		}
+
+		try {
+			final QueryResult result = new QueryResult();
+			new TDeserializer(new TCompactProtocol.Factory()).deserialize(result, entry.serialized);
+			return result;
+		} catch (TException e) {
+			LOGGER.error("Could not read cached query result", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the result of a query, if it fits within the cache.
+	 *
+	 * @param generation
+	 *            Generation of the instance, as read before running the query.
+	 */
+	public void put(String instance, String query, String language, HawkQueryOptions options, long generation, QueryResult result) {
+		if (!isEnabled()) {
+			return;
+		}
+
+		final byte[] serialized;
+		try {
+			serialized = new TSerializer(new TCompactProtocol.Factory()).serialize(result);
+		} catch (TException e) {
+			LOGGER.error("Could not serialize query result for the cache", e);
+			return;
+		}
+		if (serialized.length > maxBytes) {
+			return;
+		}
+
+		synchronized (this) {
+			dropOldGenerations(instance, generation);
+			if (generations.get(instance) > generation) {
+				// The graph changed while the query was running
+				return;
+			}
+
+			final Key key = new Key(instance, query, language, options, generation);
+			remove(key);
+			entries.put(key, new Entry(serialized, System.currentTimeMillis() + ttlMillis));
+			usedBytes += serialized.length;
+
+			final Iterator<Map.Entry<Key, Entry>> itEntries = entries.entrySet().iterator();
+			while (usedBytes > maxBytes && itEntries.hasNext()) {
+				usedBytes -= itEntries.next().getValue().serialized.length;
+				itEntries.remove();
+			}
+		}
+	}
+
+	/**
+	 * Drops all the cached results of an instance (e.g. when it is stopped or
+	 * removed).
+	 */
+	public synchronized void invalidate(String instance) {
+		generations.remove(instance);
+		removeIf(instance, Long.MAX_VALUE);
+	}
+
+	public synchronized long getUsedBytes() {
+		return usedBytes;
+	}
+
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return String.format("QueryResultCache [entries=%d, usedBytes=%d, maxBytes=%d, hits=%d, misses=%d]",
+			entries.size(), usedBytes, maxBytes, hits, misses);
+	}
+
+	private void dropOldGenerations(String instance, long generation) {
+		final Long known = generations.get(instance);
+		if (known == null || known < generation) {
+			generations.put(instance, generation);
+			if (known != null) {
+				removeIf(instance, generation);
+			}
+		}
+	}
+
+	private void removeIf(String instance, long beforeGeneration) {
+		final Iterator<Map.Entry<Key, Entry>> itEntries = entries.entrySet().iterator();
+		while (itEntries.hasNext()) {
+			final Map.Entry<Key, Entry> e = itEntries.next();
+			if (e.getKey().instance.equals(instance) && e.getKey().generation < beforeGeneration) {
+				usedBytes -= e.getValue().serialized.length;
+				itEntries.remove();
+			}
+		}
+	}
+
+	private void remove(Key key) {
+		final Entry old = entries.remove(key);
+		if (old != null) {
+			usedBytes -= old.serialized.length;
+		}
+	}
+
+}
@@ -148,6 +148,17 @@ public interface IVcsManager extends IHawkPlugin {
 	 */
 	void setFrozen(boolean frozen);
 
+	/**
+	 * Returns <code>true</code> if the revision identifiers produced by this
+	 * manager remain valid after Hawk is restarted, so indexing can resume from
+	 * a revision saved in a previous session. Managers that compute revisions
+	 * from in-memory state (e.g. local folders) should return
+	 * <code>false</code>, which is the default.
+	 */
+	default boolean hasStableRevisions() {
+		return false;
+	}
+
 	@Override
 	default Category getCategory() {
 		return Category.VCS_MANAGER;
@@ -18,6 +18,10 @@
 package org.hawk.core.graph;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -105,10 +109,96 @@ public interface IGraphDatabase extends IHawkPlugin {
 
 	IGraphEdge createRelationship(IGraphNode start, IGraphNode end, String type, Map<String, Object> props);
 
+	/**
+	 * Creates several nodes with the same label. Backends may override this
+	 * method to reduce the per-node overhead of {@link #createNode(Map, String)}.
+	 *
+	 * @param props
+	 *            Properties of each new node (<code>null</code> elements are
+	 *            allowed for nodes without properties).
+	 * @return New nodes, in the same order as <code>props</code>.
+	 */
+	default List<IGraphNode> createNodes(List<Map<String, Object>> props, String label) {
+		final List<IGraphNode> nodes = new ArrayList<>(props.size());
+		for (Map<String, Object> nodeProps : props) {
+			nodes.add(createNode(nodeProps, label));
+		}
+		return nodes;
+	}
+
+	/**
+	 * Creates edges with the same label and properties from a node to each of
+	 * several targets. Backends may override this method to reduce the per-edge
+	 * overhead of {@link #createRelationship(IGraphNode, IGraphNode, String, Map)}.
+	 *
+	 * @param props
+	 *            Properties of the new edges (may be <code>null</code> or empty
+	 *            for lightweight edges).
+	 * @return New edges, in the same order as <code>ends</code>.
+	 */
+	default List<IGraphEdge> createRelationships(IGraphNode start, Collection<? extends IGraphNode> ends, String type, Map<String, Object> props) {
+		final List<IGraphEdge> edges = new ArrayList<>(ends.size());
+		for (IGraphNode end : ends) {
+			if (props == null || props.isEmpty()) {
+				edges.add(createRelationship(start, end, type));
+			} else {
+				edges.add(createRelationship(start, end, type, props));
+			}
+		}
+		return edges;
+	}
+
 	Object getGraph();
 
 	IGraphNode getNodeById(Object id);
 
+	/**
+	 * Returns the nodes with the specified identifiers. Backends may override
+	 * this method to fetch them in fewer round trips than calling
+	 * {@link #getNodeById(Object)} for each of them.
+	 *
+	 * @return Nodes in the same order as <code>ids</code>, with
+	 *         <code>null</code> for the identifiers that could not be resolved.
+	 */
+	default List<IGraphNode> getNodesByIds(Collection<?> ids) {
+		final List<IGraphNode> nodes = new ArrayList<>(ids.size());
+		for (Object id : ids) {
+			nodes.add(getNodeById(id));
+		}
+		return nodes;
+	}
+
+	/**
+	 * Returns the values of several properties of a node. Backends may override
+	 * this method to read the node only once, rather than once per property.
+	 *
+	 * @return Map from the names of the properties to their values. Unset
+	 *         properties are not included.
+	 */
+	default Map<String, Object> getProperties(IGraphNode node, Collection<String> keys) {
+		final Map<String, Object> values = new HashMap<>();
+		for (String key : keys) {
+			final Object value = node.getProperty(key);
+			if (value != null) {
+				values.put(key, value);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Returns the identifiers of the targets of the outgoing edges of a node
+	 * with a certain label. Backends may override this method to avoid creating
+	 * the intermediate {@link IGraphEdge} objects.
+	 */
+	default List<Object> getOutgoingTargetIds(IGraphNode node, String type) {
+		final List<Object> ids = new ArrayList<>();
+		for (IGraphEdge edge : node.getOutgoingWithType(type)) {
+			ids.add(edge.getEndNode().getId());
+		}
+		return ids;
+	}
+
 	boolean nodeIndexExists(String name);
 
 	String getTempDir();
@@ -123,6 +213,26 @@ public interface IGraphDatabase extends IHawkPlugin {
 	 */
 	Mode currentMode();
 
+	/**
+	 * Returns <code>true</code> if other threads can read from the graph in
+	 * their own transactions while the current thread is updating it. Backends
+	 * which are not thread-safe, or whose transactions save or reload the whole
+	 * graph, must return <code>false</code>, which is the default.
+	 */
+	default boolean supportsConcurrentReaders() {
+		return false;
+	}
+
+	/**
+	 * Returns <code>true</code> if <code>byte[]</code> property values take up
+	 * about as much space as their length, so binary encodings are worth using
+	 * for large values. Backends which store each byte in a wider slot must
+	 * return <code>false</code>. The default is <code>true</code>.
+	 */
+	default boolean supportsCompactByteArrays() {
+		return true;
+	}
+
 	Set<String> getNodeIndexNames();
 
 	Set<String> getKnownMMUris();
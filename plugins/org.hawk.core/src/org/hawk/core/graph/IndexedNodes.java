@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.core.graph;
+
+import java.util.Collections;
+
+/**
+ * Finds, creates and deletes the nodes that Hawk uses to keep its own
+ * bookkeeping in the graph, which are looked up by a single key in a node index
+ * of their own. This class does not handle transactions: users are expected to
+ * do it.
+ */
+public final class IndexedNodes {
+
+	private IndexedNodes() {
+		// static methods only
+	}
+
+	/**
+	 * Returns the node with <code>key = value</code> in the index, or
+	 * <code>null</code> if there is none. Does not make any changes to the
+	 * graph.
+	 */
+	public static IGraphNode find(IGraphDatabase db, String indexName, String key, Object value) {
+		if (!db.nodeIndexExists(indexName)) {
+			return null;
+		}
+
+		final IGraphIterable<? extends IGraphNode> iNode = db.getOrCreateNodeIndex(indexName).get(key, value);
+		return iNode.size() > 0 ? iNode.getSingle() : null;
+	}
+
+	/**
+	 * Returns the node with <code>key = value</code> in the index, creating it
+	 * with that property and <code>label</code> if there is none.
+	 */
+	public static IGraphNode findOrCreate(IGraphDatabase db, String indexName, String key, Object value, String label) {
+		final IGraphNode existing = find(db, indexName, key, value);
+		if (existing != null) {
+			return existing;
+		}
+
+		final IGraphNode node = db.createNode(Collections.singletonMap(key, value), label);
+		db.getOrCreateNodeIndex(indexName).add(node, key, value);
+		return node;
+	}
+
+	/**
+	 * Removes the node with <code>key = value</code> from the index and deletes
+	 * it, if it exists.
+	 */
+	public static void delete(IGraphDatabase db, String indexName, String key, Object value) {
+		final IGraphNode node = find(db, indexName, key, value);
+		if (node != null) {
+			db.getOrCreateNodeIndex(indexName).remove(node);
+			node.delete();
+		}
+	}
+
+}
@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.core.query;
+
+import java.util.Collection;
+
+import org.hawk.core.graph.IGraphDatabase;
+
+/**
+ * Computes derived attributes without changing the graph, so the computation
+ * can be split across several threads (each with its own evaluator) while a
+ * single thread writes the results. Created through
+ * {@link IQueryEngine#createDerivedAttributeEvaluator(org.hawk.core.IModelIndexer)}.
+ */
+public interface IDerivedAttributeEvaluator {
+
+	/**
+	 * New values for the not-yet-derived attributes of a derived feature node,
+	 * together with the accesses performed while computing them.
+	 */
+	interface Result {
+		/**
+		 * Returns the accesses performed while computing the values.
+		 */
+		Collection<IAccess> getAccesses();
+
+		/**
+		 * Stores the new values in the graph. Must be called from within a
+		 * transaction in the writer thread.
+		 */
+		void apply(IGraphDatabase graph) throws Exception;
+	}
+
+	/**
+	 * Computes the new values of the derived feature node with the provided ID.
+	 * Must be called from within a (read-only) transaction in the thread that
+	 * owns this evaluator. Returns <code>null</code> if the node no longer
+	 * exists.
+	 */
+	Result evaluate(Object derivedFeatureNodeId) throws QueryExecutionException;
+
+}
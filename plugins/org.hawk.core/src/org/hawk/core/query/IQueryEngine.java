@@ -116,12 +116,55 @@ public interface IQueryEngine extends IHawkPlugin {
 	 */
 	public static final String PROPERTY_CANCEL_CONSUMER = "EXEC_CANCEL_CONSUMER";
 
+	/**
+	 * If set, this key should be associated to a {@link Consumer<Map<String,
+	 * Object>>} that will be invoked once the query completes, passing
+	 * statistics about its execution (e.g. {@link #STAT_PROPERTY_CACHE_HITS}).
+	 * Query engines only report the statistics they keep track of.
+	 */
+	public static final String PROPERTY_STATS_CONSUMER = "EXEC_STATS_CONSUMER";
+
+	/**
+	 * Statistic with the number of reads of attributes, references and types
+	 * which were answered from the per-query property cache, as a {@link Long}.
+	 */
+	public static final String STAT_PROPERTY_CACHE_HITS = "propertyCacheHits";
+
+	/**
+	 * Statistic with the number of reads of attributes, references and types
+	 * which had to go to the graph, as a {@link Long}.
+	 */
+	public static final String STAT_PROPERTY_CACHE_MISSES = "propertyCacheMisses";
+
 	IAccessListener calculateDerivedAttributes(IModelIndexer m,
 			Iterable<IGraphNode> nodes) throws InvalidQueryException,
 			QueryExecutionException;
 
+	/**
+	 * Creates a new evaluator that computes derived attributes without writing
+	 * them, for splitting the computation across several threads. Each thread
+	 * should use its own evaluator. Returns <code>null</code> if this engine
+	 * or the graph of the indexer (see
+	 * {@link org.hawk.core.graph.IGraphDatabase#supportsConcurrentReaders()})
+	 * does not support it, in which case
+	 * {@link #calculateDerivedAttributes(IModelIndexer, Iterable)} should be
+	 * used instead.
+	 */
+	default IDerivedAttributeEvaluator createDerivedAttributeEvaluator(IModelIndexer m) {
+		return null;
+	}
+
 	List<String> validate(String derivationlogic);
 
+	/**
+	 * Discards any cached information which may depend on the metamodels or
+	 * the derived and indexed attributes of an indexer, as they have changed.
+	 * Does nothing by default.
+	 */
+	default void invalidateCaches() {
+		// nothing to do
+	}
+
 	/**
 	 * Changes the default namespaces used to resolve ambiguous type references.
 	 *
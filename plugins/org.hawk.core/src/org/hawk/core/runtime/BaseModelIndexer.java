@@ -22,6 +22,7 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -35,10 +36,15 @@ import java.util.TimerTask;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.hawk.core.IConsole;
 import org.hawk.core.ICredentialsStore;
@@ -65,6 +71,7 @@ import org.hawk.core.util.DerivedAttributeParameters;
 import org.hawk.core.util.FileOperations;
 import org.hawk.core.util.HawkProperties;
 import org.hawk.core.util.IndexedAttributeParameters;
+import org.hawk.core.util.SystemProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -95,7 +102,7 @@ public abstract class BaseModelIndexer implements IModelIndexer {
 		}
 	
 		@Override
-		public File importFile(String commitPath) {
+		public synchronized File importFile(String commitPath) {
 			/*
 			 * We cache the results as some files may get imported repeatedly
 			 * (e.g. mmversion.dat for Modelio).
@@ -124,6 +131,16 @@ public abstract class BaseModelIndexer implements IModelIndexer {
 		}
 	}
 
+	private static final class PendingFetch {
+		final Future<FetchedChanges> future;
+		final File tempDir;
+
+		PendingFetch(Future<FetchedChanges> future, File tempDir) {
+			this.future = future;
+			this.tempDir = tempDir;
+		}
+	}
+
 	private static final Logger LOGGER = LoggerFactory.getLogger(BaseModelIndexer.class);
 
 	private static final int CEILING_DELAY_FAILED_UPDATES = 60_000;
@@ -133,6 +150,46 @@ public abstract class BaseModelIndexer implements IModelIndexer {
 	public static final int DEFAULT_MAXDELAY = 1000 * 512;
 	public static final int DEFAULT_MINDELAY = 5000;
 
+	/**
+	 * Number of threads used to parse model files ahead of the graph writer
+	 * (1 by default, which parses each file right before it is written).
+	 * Model resource factories must support concurrent calls to
+	 * {@link IModelResourceFactory#parse(IFileImporter, File)} to use
+	 * higher values.
+	 */
+	public static final String PARSE_THREADS_PROPERTY = "hawk.sync.parseThreads";
+
+	/**
+	 * Maximum number of files being parsed or waiting to be written at any
+	 * time, when using more than one parsing thread.
+	 */
+	public static final String PARSE_MAX_INFLIGHT_FILES_PROPERTY = "hawk.sync.parseMaxInFlightFiles";
+
+	/**
+	 * Maximum combined size in bytes of the files being parsed or waiting to
+	 * be written at any time, when using more than one parsing thread.
+	 */
+	public static final String PARSE_MAX_INFLIGHT_BYTES_PROPERTY = "hawk.sync.parseMaxInFlightBytes";
+
+	/**
+	 * Number of threads used to fetch changes from the indexed locations
+	 * concurrently (1 by default, which fetches from each location right
+	 * before its changes are written into the graph). Updates to the graph are
+	 * always done for one location at a time.
+	 */
+	public static final String FETCH_THREADS_PROPERTY = "hawk.sync.fetchThreads";
+
+	public static final int DEFAULT_FETCH_THREADS = 1;
+	public static final int DEFAULT_PARSE_THREADS = 1;
+	public static final int DEFAULT_PARSE_MAX_INFLIGHT_FILES = 32;
+	public static final long DEFAULT_PARSE_MAX_INFLIGHT_BYTES = 128L * 1024 * 1024;
+
+	/**
+	 * How often the indexer thread reports the progress of the concurrent
+	 * fetches while it waits for them, in milliseconds.
+	 */
+	private static final long FETCH_REPORT_INTERVAL_MILLIS = 500;
+
 	protected static final boolean IS_DERIVED = true;
 	protected static final boolean IS_INDEXED = false;
 
@@ -162,6 +219,22 @@ public abstract class BaseModelIndexer implements IModelIndexer {
 	private int currentDelay = minDelay;
 	private ScheduledExecutorService updateTimer = null;
 
+	private int fetchThreads = SystemProperties.getInteger(FETCH_THREADS_PROPERTY, DEFAULT_FETCH_THREADS);
+	private final Map<IVcsManager, PendingFetch> pendingFetches = new HashMap<>();
+	private ExecutorService fetchExecutor;
+
+	/*
+	 * State listeners are not meant to be called concurrently, so the fetching
+	 * threads queue their progress messages, and the indexer thread reports
+	 * them while it waits for the fetched changes (see reportInfo).
+	 */
+	private final ThreadLocal<Boolean> isFetchThread = new ThreadLocal<>();
+	private final Queue<String> fetchReports = new ConcurrentLinkedQueue<>();
+
+	private int parseThreads = SystemProperties.getInteger(PARSE_THREADS_PROPERTY, DEFAULT_PARSE_THREADS);
+	private int parseMaxInFlightFiles = SystemProperties.getInteger(PARSE_MAX_INFLIGHT_FILES_PROPERTY, DEFAULT_PARSE_MAX_INFLIGHT_FILES);
+	private long parseMaxInFlightBytes = SystemProperties.getLong(PARSE_MAX_INFLIGHT_BYTES_PROPERTY, DEFAULT_PARSE_MAX_INFLIGHT_BYTES);
+
 	private final CompositeGraphChangeListener listener = new CompositeGraphChangeListener();
 	protected final CompositeStateListener stateListener = new CompositeStateListener();
 
@@ -277,18 +350,23 @@ public abstract class BaseModelIndexer implements IModelIndexer {
 			latestUpdateFoundChanges = false;
 	
 			if (monitors.size() > 0) {
-				for (IVcsManager m : monitors) {
-					if (!m.isFrozen()) {
-						if (m.isActive()) {
-							allSync = allSync && synchronise(m);
+				startConcurrentFetches();
+				try {
+					for (IVcsManager m : monitors) {
+						if (!m.isFrozen()) {
+							if (m.isActive()) {
+								allSync = allSync && synchronise(m);
+							} else {
+								console.printerrln("Warning, monitor is inactive, synchronisation failed!");
+								allSync = false;
+							}
 						} else {
-							console.printerrln("Warning, monitor is inactive, synchronisation failed!");
-							allSync = false;
+							console.printerrln("Monitor is frozen, skipping it.");
+							// frozen do nothing
 						}
-					} else {
-						console.printerrln("Monitor is frozen, skipping it.");
-						// frozen do nothing
 					}
+				} finally {
+					discardPendingFetches();
 				}
 			}
 	
@@ -303,6 +381,183 @@ public abstract class BaseModelIndexer implements IModelIndexer {
 	}
 
 
+	/**
+	 * Returns a task which fetches the changes in a location since it was last
+	 * indexed, without accessing the graph. This method is invoked from the
+	 * update thread, but the task may be run from a different thread, while the
+	 * graph is being updated for another location.
+	 *
+	 * The default implementation returns <code>null</code>, meaning that the
+	 * indexer does not support fetching changes ahead of time.
+	 *
+	 * @param vcsManager
+	 *            Location whose changes should be fetched.
+	 * @param tempDir
+	 *            Temporary directory where changed files can be imported.
+	 * @param importAhead
+	 *            If <code>true</code>, the task should import the changed model
+	 *            files as well.
+	 */
+	protected Callable<FetchedChanges> createFetchTask(IVcsManager vcsManager, File tempDir, boolean importAhead) {
+		return null;
+	}
+
+	/**
+	 * Returns the changes fetched concurrently for a location during the
+	 * current synchronisation, waiting for them if needed. Returns
+	 * <code>null</code> if the changes for this location were not fetched
+	 * ahead of time.
+	 */
+	protected FetchedChanges takeFetchedChanges(IVcsManager vcsManager) throws Exception {
+		final PendingFetch pending = pendingFetches.remove(vcsManager);
+		if (pending == null) {
+			return null;
+		}
+
+		try {
+			while (true) {
+				reportFetchProgress();
+				try {
+					return pending.future.get(FETCH_REPORT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+				} catch (TimeoutException ex) {
+					// still fetching: report any progress and keep waiting
+				}
+			}
+		} catch (ExecutionException ex) {
+			deleteTempDir(pending.tempDir);
+			if (ex.getCause() instanceof Exception) {
+				throw (Exception) ex.getCause();
+			}
+			throw ex;
+		} finally {
+			reportFetchProgress();
+		}
+	}
+
+	/**
+	 * Reports an information message to the state listeners. If invoked from
+	 * one of the threads fetching changes concurrently, the message is queued
+	 * and reported later from the indexer thread.
+	 */
+	protected void reportInfo(String message) {
+		if (Boolean.TRUE.equals(isFetchThread.get())) {
+			fetchReports.add(message);
+		} else {
+			stateListener.info(message);
+		}
+	}
+
+	private void reportFetchProgress() {
+		for (String message = fetchReports.poll(); message != null; message = fetchReports.poll()) {
+			stateListener.info(message);
+		}
+	}
+
+	/**
+	 * Imports in advance the changed model files in the fetched changes.
+	 * Meant to be called from the tasks created by
+	 * {@link #createFetchTask(IVcsManager, File, boolean)}.
+	 */
+	protected void importAhead(FetchedChanges changes) {
+		final Set<VcsCommitItem> deletedItems = new HashSet<>();
+		final Set<VcsCommitItem> interestingFiles = new HashSet<>();
+		inspectChanges(changes.getItems(), deletedItems, interestingFiles);
+
+		changes.getTempDir().mkdirs();
+		importFiles(changes.getImporter(), interestingFiles, changes.getImportedFiles());
+	}
+
+	/**
+	 * Changes how many locations can have their changes fetched concurrently
+	 * during synchronisation. By default, this is taken from the
+	 * {@link #FETCH_THREADS_PROPERTY} system property. Values lower than 2
+	 * disable concurrent fetching.
+	 */
+	public void setFetchThreads(int threads) {
+		this.fetchThreads = threads;
+	}
+
+	private void startConcurrentFetches() {
+		if (fetchThreads < 2) {
+			return;
+		}
+
+		final List<IVcsManager> fetchable = new ArrayList<>();
+		for (IVcsManager m : monitors) {
+			if (!m.isFrozen() && m.isActive()) {
+				fetchable.add(m);
+			}
+		}
+		if (fetchable.size() < 2) {
+			return;
+		}
+
+		final File graphTempDir = new File(graph.getTempDir());
+		int iFetch = 0;
+		for (IVcsManager m : fetchable) {
+			final File tempDir = new File(graphTempDir.getParentFile(), graphTempDir.getName() + "-fetch" + (++iFetch));
+			final Callable<FetchedChanges> task = createFetchTask(m, tempDir, true);
+			if (task == null) {
+				continue;
+			}
+
+			if (fetchExecutor == null) {
+				fetchExecutor = Executors.newFixedThreadPool(Math.min(fetchThreads, fetchable.size()));
+			}
+			pendingFetches.put(m, new PendingFetch(fetchExecutor.submit(new Callable<FetchedChanges>() {
+				@Override
+				public FetchedChanges call() throws Exception {
+					isFetchThread.set(true);
+					try {
+						return task.call();
+					} finally {
+						isFetchThread.remove();
+					}
+				}
+			}), tempDir));
+		}
+
+		if (fetchExecutor != null) {
+			fetchExecutor.shutdown();
+		}
+	}
+
+	private void discardPendingFetches() {
+		if (fetchExecutor == null) {
+			return;
+		}
+
+		for (PendingFetch pending : pendingFetches.values()) {
+			pending.future.cancel(true);
+		}
+
+		try {
+			fetchExecutor.shutdownNow();
+			if (!fetchExecutor.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+				LOGGER.warn("Fetching threads did not terminate in time");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOGGER.error("Wait for fetching threads was interrupted", e);
+		} finally {
+			fetchExecutor = null;
+		}
+
+		for (PendingFetch pending : pendingFetches.values()) {
+			deleteTempDir(pending.tempDir);
+		}
+		pendingFetches.clear();
+
+		// Progress of the discarded fetches is no longer relevant
+		fetchReports.clear();
+	}
+
+	private void deleteTempDir(File tempDir) {
+		if (tempDir.exists() && !FileOperations.deleteFiles(tempDir, true)) {
+			console.printerrln("error in deleting temporary local vcs files");
+		}
+	}
+
 	protected boolean deleteRemovedModels(boolean success, IModelUpdater u, final Set<VcsCommitItem> deleteditems) {
 		stateListener.info("Deleting models removed from repository...");
 
@@ -339,7 +594,7 @@ public abstract class BaseModelIndexer implements IModelIndexer {
 
 			++iImported;
 			if (iImported % 10 == 0) {
-				stateListener.info(String.format("Imported %d/%d files from %s",
+				reportInfo(String.format("Imported %d/%d files from %s",
 					iImported, changedItems.size(), s.getCommit().getDelta().getManager().getLocation()));
 			}
 		}
@@ -1056,7 +1311,7 @@ public abstract class BaseModelIndexer implements IModelIndexer {
 	}
 
 	protected void inspectChanges(Iterable<VcsCommitItem> files, Set<VcsCommitItem> deleteditems, Set<VcsCommitItem> interestingfiles) {
-		stateListener.info("Calculating relevant changed model files...");
+		reportInfo("Calculating relevant changed model files...");
 	
 		for (VcsCommitItem r : files) {
 			for (IModelResourceFactory parser : modelParsers.values()) {
@@ -1088,6 +1343,17 @@ public abstract class BaseModelIndexer implements IModelIndexer {
 	protected boolean internalSynchronise(final String currentRevision, final IVcsManager m,
 			final IModelUpdater u, final Set<VcsCommitItem> deletedItems, final Set<VcsCommitItem> interestingfiles,
 			final String monitorTempDir) {
+		final IFileImporter importer = new DefaultFileImporter(m, currentRevision, new File(monitorTempDir));
+		return internalSynchronise(m, u, deletedItems, interestingfiles, importer, new HashMap<String, File>());
+	}
+
+	/**
+	 * Variant of {@link #internalSynchronise(String, IVcsManager, IModelUpdater, Set, Set, String)}
+	 * which reuses an existing importer and any files already imported through it.
+	 */
+	protected boolean internalSynchronise(final IVcsManager m, final IModelUpdater u,
+			final Set<VcsCommitItem> deletedItems, final Set<VcsCommitItem> interestingfiles,
+			final IFileImporter importer, final Map<String, File> pathToImported) {
 		boolean success = true;
 
 		// enters transaction mode!
@@ -1097,9 +1363,7 @@ public abstract class BaseModelIndexer implements IModelIndexer {
 		final int totalFiles = currReposChangedItems.size();
 		currchangeditems = currchangeditems + totalFiles;
 
-		// create temp files with changed repos files
-		final Map<String, File> pathToImported = new HashMap<>();
-		final IFileImporter importer = new DefaultFileImporter(m, currentRevision, new File(monitorTempDir));
+		// create temp files with changed repos files (skips those imported ahead of time)
 		importFiles(importer, currReposChangedItems, pathToImported);
 
 		// delete all removed files
@@ -1115,52 +1379,53 @@ public abstract class BaseModelIndexer implements IModelIndexer {
 		int totalProcessedFiles = 0, filesProcessedSinceLastPrint = 0;
 		long millisSinceLastPrint = millisSinceStart;
 
-		for (VcsCommitItem v : currReposChangedItems) {
-			try {
-				// Place before the actual update so we print the 0/X message as well
-				if (fileCountProgress && (totalProcessedFiles == 0 && filesProcessedSinceLastPrint == 0
-						|| filesProcessedSinceLastPrint == FILECOUNT_PROGRESS_THRESHOLD)) {
-					totalProcessedFiles += filesProcessedSinceLastPrint;
-
-					final long millisPrint = System.currentTimeMillis();
-					stateListener.info(String.format("Processed %d/%d files in repo %s (%s sec, %s sec total)",
-							totalProcessedFiles, totalFiles, m.getLocation(),
-							(millisPrint - millisSinceLastPrint) / 1000, (millisPrint - millisSinceStart) / 1000));
-
-					filesProcessedSinceLastPrint = 0;
-					millisSinceLastPrint = millisPrint;
-				}
-
-				IHawkModelResource r = null;
-				if (u.caresAboutResources()) {
-					final File file = pathToImported.get(v.getPath());
-					if (file == null || !file.exists()) {
-						console.printerrln("warning, cannot find file: " + file + ", ignoring changes");
-					} else {
-						IModelResourceFactory mrf = getModelParserFromFilename(file.getName().toLowerCase());
-						if (mrf.canParse(file)) {
-							r = mrf.parse(importer, file);
-						}
+		final ModelParsingPipeline pipeline = createParsingPipeline(u, importer, pathToImported, currReposChangedItems);
+		try {
+			while (pipeline.hasNext()) {
+				final ModelParsingPipeline.ParsedFile parsed = pipeline.next();
+				final VcsCommitItem v = parsed.getItem();
+
+				try {
+					// Place before the actual update so we print the 0/X message as well
+					if (fileCountProgress && (totalProcessedFiles == 0 && filesProcessedSinceLastPrint == 0
+							|| filesProcessedSinceLastPrint == FILECOUNT_PROGRESS_THRESHOLD)) {
+						totalProcessedFiles += filesProcessedSinceLastPrint;
+
+						final long millisPrint = System.currentTimeMillis();
+						stateListener.info(String.format("Processed %d/%d files in repo %s (%s sec, %s sec total)",
+								totalProcessedFiles, totalFiles, m.getLocation(),
+								(millisPrint - millisSinceLastPrint) / 1000, (millisPrint - millisSinceStart) / 1000));
+
+						filesProcessedSinceLastPrint = 0;
+						millisSinceLastPrint = millisPrint;
 					}
-				}
-				success = u.updateStore(v, r) && success;
 
-				if (r != null) {
-					if (!isSyncMetricsEnabled) {
-						r.unload();
-					} else {
-						fileToResourceMap.put(v, r);
+					final IHawkModelResource r = parsed.getResource();
+					success = u.updateStore(v, r) && success;
+
+					if (r != null) {
+						if (!isSyncMetricsEnabled) {
+							r.unload();
+						} else {
+							fileToResourceMap.put(v, r);
+						}
+						loadedResources++;
 					}
-					loadedResources++;
-				}
 
-				filesProcessedSinceLastPrint++;
+					filesProcessedSinceLastPrint++;
 
-			} catch (Exception e) {
-				console.printerrln("updater: " + u + "failed to update store");
-				console.printerrln(e);
-				success = false;
+				} catch (Exception e) {
+					console.printerrln("updater: " + u + "failed to update store");
+					console.printerrln(e);
+					success = false;
+				}
 			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOGGER.error("Interrupted while waiting for parsed models", e);
+			success = false;
+		} finally {
+			pipeline.close();
 		}
 
 		// Print the final message
@@ -1185,26 +1450,103 @@ public abstract class BaseModelIndexer implements IModelIndexer {
 		return success;
 	}
 
+	/**
+	 * Parses the imported version of a changed file, if the updater needs it.
+	 * Returns <code>null</code> if the updater does not care about resources,
+	 * or if the file could not be found or parsed. May be called concurrently
+	 * from several parsing threads.
+	 */
+	protected IHawkModelResource parseResource(final IModelUpdater u, final IFileImporter importer,
+			final Map<String, File> pathToImported, final VcsCommitItem v) throws Exception {
+		if (!u.caresAboutResources()) {
+			return null;
+		}
+
+		final File file = pathToImported.get(v.getPath());
+		if (file == null || !file.exists()) {
+			console.printerrln("warning, cannot find file: " + file + ", ignoring changes");
+		} else {
+			IModelResourceFactory mrf = getModelParserFromFilename(file.getName().toLowerCase());
+			if (mrf.canParse(file)) {
+				return mrf.parse(importer, file);
+			}
+		}
+
+		return null;
+	}
+
+	private ModelParsingPipeline createParsingPipeline(final IModelUpdater u, final IFileImporter importer,
+			final Map<String, File> pathToImported, final Set<VcsCommitItem> items) {
+		final int threads = u.caresAboutResources() ? parseThreads : 1;
+
+		return new ModelParsingPipeline(items, new ModelParsingPipeline.Parser() {
+			@Override
+			public IHawkModelResource parse(VcsCommitItem item) throws Exception {
+				return parseResource(u, importer, pathToImported, item);
+			}
+
+			@Override
+			public long estimateSize(VcsCommitItem item) {
+				final File file = pathToImported.get(item.getPath());
+				return file == null ? 0 : file.length();
+			}
+		}, threads, parseMaxInFlightFiles, parseMaxInFlightBytes);
+	}
+
+	/**
+	 * Changes how many model files are parsed ahead of the graph writer during
+	 * synchronisation. By default, these values are taken from the
+	 * {@link #PARSE_THREADS_PROPERTY}, {@link #PARSE_MAX_INFLIGHT_FILES_PROPERTY}
+	 * and {@link #PARSE_MAX_INFLIGHT_BYTES_PROPERTY} system properties.
+	 *
+	 * @param threads
+	 *            Number of parsing threads. 1 parses each file on the update
+	 *            thread right before it is written.
+	 * @param maxInFlightFiles
+	 *            Maximum number of parsed resources waiting to be written.
+	 * @param maxInFlightBytes
+	 *            Maximum combined size in bytes of the files whose resources
+	 *            are waiting to be written.
+	 */
+	public void setParsingPipeline(int threads, int maxInFlightFiles, long maxInFlightBytes) {
+		this.parseThreads = threads;
+		this.parseMaxInFlightFiles = maxInFlightFiles;
+		this.parseMaxInFlightBytes = maxInFlightBytes;
+	}
+
 	protected boolean synchroniseFiles(String revision, IVcsManager vcsManager, final Collection<VcsCommitItem> files) {
+		final File tempDir = new File(graph.getTempDir());
+		final IFileImporter importer = new DefaultFileImporter(vcsManager, revision, tempDir);
+		return synchroniseFiles(vcsManager, files, importer, new HashMap<String, File>(), tempDir);
+	}
+
+	/**
+	 * Updates the graph with previously fetched changes, reusing any files that
+	 * were imported ahead of time.
+	 */
+	protected boolean synchroniseFiles(FetchedChanges changes) {
+		return synchroniseFiles(changes.getVcsManager(), changes.getItems(),
+			changes.getImporter(), changes.getImportedFiles(), changes.getTempDir());
+	}
+
+	private boolean synchroniseFiles(IVcsManager vcsManager, final Collection<VcsCommitItem> files,
+			final IFileImporter importer, final Map<String, File> pathToImported, final File tempDir) {
 		final Set<VcsCommitItem> deleteditems = new HashSet<VcsCommitItem>();
 		final Set<VcsCommitItem> interestingfiles = new HashSet<VcsCommitItem>();
 		inspectChanges(files, deleteditems, interestingfiles);
 		deletedFiles = deletedFiles + deleteditems.size();
 		interestingFiles = interestingFiles + interestingfiles.size();
 
-		final String monitorTempDir = graph.getTempDir();
-		File temp = new File(monitorTempDir);
-		temp.mkdir();
+		tempDir.mkdir();
 
 		// for each registered updater
 		boolean updatersOK = true;
 		for (IModelUpdater updater : getModelUpdaters()) {
-			updatersOK = updatersOK && internalSynchronise(revision, vcsManager, updater, deleteditems, interestingfiles, monitorTempDir);
+			updatersOK = updatersOK && internalSynchronise(vcsManager, updater, deleteditems, interestingfiles, importer, pathToImported);
 		}
 
 		// delete temporary files
-		if (!FileOperations.deleteFiles(new File(monitorTempDir), true))
-			console.printerrln("error in deleting temporary local vcs files");
+		deleteTempDir(tempDir);
 		return updatersOK;
 	}
 	
@@ -17,6 +17,7 @@
 package org.hawk.core.runtime;
 
 import java.util.LinkedHashSet;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.hawk.core.IModelIndexer;
 import org.hawk.core.VcsCommitItem;
@@ -39,6 +40,17 @@ public class CompositeGraphChangeListener extends LinkedHashSet<IGraphChangeList
 		implements IGraphChangeListener {
 	private static final long serialVersionUID = 639097671453202757L;
 
+	private final AtomicLong generation = new AtomicLong();
+
+	/**
+	 * Returns the number of changes to the graph that have completed
+	 * successfully so far. Anything computed from the graph while this value
+	 * stays the same (e.g. the result of a query) is still up to date.
+	 */
+	public long getGeneration() {
+		return generation.get();
+	}
+
 	@Override
 	public void synchroniseStart() {
 		for (IGraphChangeListener l : this) {
@@ -74,6 +86,7 @@ public class CompositeGraphChangeListener extends LinkedHashSet<IGraphChangeList
 
 	@Override
 	public void changeSuccess() {
+		generation.incrementAndGet();
 		for (IGraphChangeListener l : this) {
 			try {
 				l.changeSuccess();
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.core.runtime;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hawk.core.IFileImporter;
+import org.hawk.core.IVcsManager;
+import org.hawk.core.VcsCommitItem;
+
+/**
+ * Changes fetched from a {@link IVcsManager} before updating the graph: the
+ * revision that was reached, the changed items since the last indexed
+ * revision, and any local copies of the changed files that were already
+ * imported. Fetching does not touch the graph, so it can be done for several
+ * locations concurrently while the graph is updated for one location at a
+ * time.
+ */
+public class FetchedChanges {
+
+	private final IVcsManager vcsManager;
+	private final String revision;
+	private final boolean revisionFetched;
+	private final Collection<VcsCommitItem> items;
+	private final File tempDir;
+	private final IFileImporter importer;
+	private final Map<String, File> importedFiles = new HashMap<>();
+
+	/**
+	 * Creates a new instance.
+	 *
+	 * @param vcsManager
+	 *            Location the changes were fetched from.
+	 * @param revision
+	 *            Revision that the changes lead to.
+	 * @param revisionFetched
+	 *            <code>true</code> if the revision was fetched from the
+	 *            location, <code>false</code> if it could not be fetched and
+	 *            the last seen revision was used instead.
+	 * @param items
+	 *            Changed items, or <code>null</code> if the location is up to
+	 *            date with the index.
+	 * @param tempDir
+	 *            Temporary directory where changed files should be imported.
+	 */
+	public FetchedChanges(IVcsManager vcsManager, String revision, boolean revisionFetched, Collection<VcsCommitItem> items, File tempDir) {
+		this.vcsManager = vcsManager;
+		this.revision = revision;
+		this.revisionFetched = revisionFetched;
+		this.items = items;
+		this.tempDir = tempDir;
+		this.importer = new BaseModelIndexer.DefaultFileImporter(vcsManager, revision, tempDir);
+	}
+
+	public IVcsManager getVcsManager() {
+		return vcsManager;
+	}
+
+	public String getRevision() {
+		return revision;
+	}
+
+	public boolean isRevisionFetched() {
+		return revisionFetched;
+	}
+
+	/**
+	 * Returns <code>true</code> if there are changes to be indexed.
+	 */
+	public boolean hasChanges() {
+		return items != null;
+	}
+
+	public Collection<VcsCommitItem> getItems() {
+		return items;
+	}
+
+	public File getTempDir() {
+		return tempDir;
+	}
+
+	public IFileImporter getImporter() {
+		return importer;
+	}
+
+	/**
+	 * Returns the mutable map from repository paths to the local copies of the
+	 * files that have been imported so far.
+	 */
+	public Map<String, File> getImportedFiles() {
+		return importedFiles;
+	}
+
+}
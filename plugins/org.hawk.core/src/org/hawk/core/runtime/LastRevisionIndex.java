@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.core.runtime;
+
+import org.hawk.core.graph.IGraphDatabase;
+import org.hawk.core.graph.IGraphNode;
+import org.hawk.core.graph.IndexedNodes;
+
+/**
+ * Keeps the last indexed revision of each repository in the graph, using the
+ * same nodes and index as the <code>VCSManagerIndex</code> of the time-aware
+ * indexer. This class does not handle transactions: users are expected to do
+ * it.
+ */
+class LastRevisionIndex {
+	private static final String IDX_NAME = "_hawkVCSIndex";
+	private static final String NODE_LABEL = "_hawkRepo";
+	private static final String URI_PROPERTY = "uri";
+	private static final String LASTREV_PROPERTY = "lastRevision";
+
+	private final IGraphDatabase db;
+
+	public LastRevisionIndex(IGraphDatabase db) {
+		this.db = db;
+	}
+
+	/**
+	 * Returns the last revision indexed for the repository, or <code>null</code>
+	 * if none has been stored. Does not make any changes to the graph.
+	 */
+	public String getLastRevision(String repoURI) {
+		final IGraphNode node = IndexedNodes.find(db, IDX_NAME, URI_PROPERTY, repoURI);
+		if (node == null) {
+			return null;
+		}
+
+		final Object lastRev = node.getProperty(LASTREV_PROPERTY);
+		return lastRev == null ? null : lastRev.toString();
+	}
+
+	/**
+	 * Changes the last revision indexed for the repository, creating its node
+	 * if it does not exist yet.
+	 */
+	public void setLastRevision(String repoURI, String lastRev) {
+		IndexedNodes.findOrCreate(db, IDX_NAME, URI_PROPERTY, repoURI, NODE_LABEL)
+			.setProperty(LASTREV_PROPERTY, lastRev);
+	}
+
+	/**
+	 * Deletes the node kept about the repository, if it exists.
+	 */
+	public void removeLastRevision(String repoURI) {
+		IndexedNodes.delete(db, IDX_NAME, URI_PROPERTY, repoURI);
+	}
+
+}
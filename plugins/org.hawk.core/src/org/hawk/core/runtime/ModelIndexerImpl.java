@@ -14,7 +14,8 @@
  * Contributors:
  *     Konstantinos Barmpis - initial API and implementation
  *     Antonio Garcia-Dominguez - extract import to interface, cleanup,
- *       use revision in imports, divide into super + subclass
+ *       use revision in imports, divide into super + subclass,
+ *       persist last indexed revisions
  ******************************************************************************/
 package org.hawk.core.runtime;
 
@@ -22,17 +23,32 @@ import java.io.File;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 import org.hawk.core.IConsole;
 import org.hawk.core.ICredentialsStore;
 import org.hawk.core.IVcsManager;
 import org.hawk.core.VcsCommitItem;
+import org.hawk.core.graph.IGraphTransaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
- * Indexes only the latest revision into the graph, and does not maintain
- * repository nodes.
+ * Indexes only the latest revision into the graph. For locations with
+ * {@link IVcsManager#hasStableRevisions() stable revisions}, the last
+ * successfully indexed revision is kept in the graph through a
+ * {@link LastRevisionIndex}, so synchronisation can resume from it after a
+ * restart instead of re-checking every file.
  */
 public class ModelIndexerImpl extends BaseModelIndexer {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ModelIndexerImpl.class);
+
+	/** Revision which forces a full synchronisation of the repository. */
+	private static final String UNKNOWN_LOCAL_REVISION = "-3";
+
+	/** Revision used until we can fetch the current one from the repository. */
+	private static final String UNKNOWN_REPOSITORY_REVISION = "-4";
+
 	private final Map<String, String> currLocalTopRevisions = new HashMap<>();
 	private final Map<String, String> currReposTopRevisions = new HashMap<>();
 
@@ -42,8 +58,9 @@ public class ModelIndexerImpl extends BaseModelIndexer {
 
 	@Override
 	public void addVCSManager(IVcsManager vcs, boolean persist) {
-		currLocalTopRevisions.put(vcs.getLocation(), "-3");
-		currReposTopRevisions.put(vcs.getLocation(), "-4");
+		// The local top revision is loaded from the graph on the first synchronisation
+		currLocalTopRevisions.remove(vcs.getLocation());
+		currReposTopRevisions.put(vcs.getLocation(), UNKNOWN_REPOSITORY_REVISION);
 
 		super.addVCSManager(vcs, persist);
 	}
@@ -53,45 +70,132 @@ public class ModelIndexerImpl extends BaseModelIndexer {
 		currLocalTopRevisions.remove(vcs.getLocation());
 		currReposTopRevisions.remove(vcs.getLocation());
 		super.removeVCSManager(vcs);
+		removeLastIndexedRevision(vcs.getLocation());
 	}
 
 	@Override
 	protected void resetRepository(String repoURL) {
 		System.err.println("reseting local top revision of repository: " + repoURL
 				+ "\n(as elements in it were removed or new metamodels were added to Hawk)");
-		currLocalTopRevisions.put(repoURL, "-3");
+		currLocalTopRevisions.put(repoURL, UNKNOWN_LOCAL_REVISION);
+		removeLastIndexedRevision(repoURL);
 	}
 
 	@Override
 	protected boolean synchronise(IVcsManager vcsManager) throws Exception {
-		boolean success = true;
-
-		String currentRevision = currReposTopRevisions.get(vcsManager.getLocation());
-		try {
-			// Try to fetch the current revision from the VCS, if not, keep the latest seen
-			// revision
-			currentRevision = vcsManager.getCurrentRevision();
-			currReposTopRevisions.put(vcsManager.getLocation(), currentRevision);
-		} catch (Exception e) {
-			console.printerrln(e);
-			success = false;
+		FetchedChanges changes = takeFetchedChanges(vcsManager);
+		if (changes == null) {
+			changes = createFetchTask(vcsManager, new File(graph.getTempDir()), false).call();
 		}
-	
-		if (!currentRevision.equals(currLocalTopRevisions.get(vcsManager.getLocation()))) {
-			final Collection<VcsCommitItem> files = vcsManager.getDelta(currLocalTopRevisions.get(vcsManager.getLocation()));
+
+		boolean success = changes.isRevisionFetched();
+		final String currentRevision = changes.getRevision();
+		currReposTopRevisions.put(vcsManager.getLocation(), currentRevision);
+
+		if (changes.hasChanges()) {
 			latestUpdateFoundChanges = true;
-			boolean updatersOK = synchroniseFiles(currentRevision, vcsManager, files);
+			boolean updatersOK = synchroniseFiles(changes);
 	
 			if (updatersOK) {
-				currLocalTopRevisions.put(vcsManager.getLocation(),
-						currReposTopRevisions.get(vcsManager.getLocation()));
+				currLocalTopRevisions.put(vcsManager.getLocation(), currentRevision);
+				if (vcsManager.hasStableRevisions()) {
+					setLastIndexedRevision(vcsManager.getLocation(), currentRevision);
+				}
 			} else {
 				success = false;
-				currLocalTopRevisions.put(vcsManager.getLocation(), "-3");
+				currLocalTopRevisions.put(vcsManager.getLocation(), UNKNOWN_LOCAL_REVISION);
+				removeLastIndexedRevision(vcsManager.getLocation());
 			}
 		}
 	
 		return success;
 	}
 
+	@Override
+	protected Callable<FetchedChanges> createFetchTask(final IVcsManager vcsManager, final File tempDir, final boolean importAhead) {
+		final String localTopRevision = getLocalTopRevision(vcsManager);
+		final String lastSeenRevision = currReposTopRevisions.get(vcsManager.getLocation());
+
+		return new Callable<FetchedChanges>() {
+			@Override
+			public FetchedChanges call() throws Exception {
+				boolean revisionFetched = true;
+				String currentRevision = lastSeenRevision;
+				try {
+					// Try to fetch the current revision from the VCS, if not, keep the latest seen
+					// revision
+					currentRevision = vcsManager.getCurrentRevision();
+				} catch (Exception e) {
+					console.printerrln(e);
+					revisionFetched = false;
+				}
+
+				if (currentRevision.equals(localTopRevision)) {
+					return new FetchedChanges(vcsManager, currentRevision, revisionFetched, null, tempDir);
+				}
+
+				final Collection<VcsCommitItem> files = vcsManager.getDelta(localTopRevision);
+				final FetchedChanges changes = new FetchedChanges(vcsManager, currentRevision, revisionFetched, files, tempDir);
+
+				/*
+				 * Full synchronisations will skip most files after comparing them with the
+				 * graph, so we only import files ahead of time for incremental ones.
+				 */
+				if (importAhead && !UNKNOWN_LOCAL_REVISION.equals(localTopRevision)) {
+					importAhead(changes);
+				}
+
+				return changes;
+			}
+		};
+	}
+
+	/**
+	 * Returns the last revision of the repository that was indexed in full,
+	 * reading it from the graph if this is the first synchronisation since the
+	 * location was added.
+	 */
+	protected String getLocalTopRevision(IVcsManager vcsManager) {
+		String localTopRevision = currLocalTopRevisions.get(vcsManager.getLocation());
+		if (localTopRevision == null) {
+			localTopRevision = UNKNOWN_LOCAL_REVISION;
+			if (vcsManager.hasStableRevisions()) {
+				try (IGraphTransaction tx = graph.beginTransaction()) {
+					final String lastRev = new LastRevisionIndex(graph).getLastRevision(vcsManager.getLocation());
+					if (lastRev != null) {
+						localTopRevision = lastRev;
+					}
+					tx.success();
+				} catch (Exception e) {
+					LOGGER.error("Could not fetch the last indexed revision of " + vcsManager.getLocation(), e);
+				}
+			}
+			currLocalTopRevisions.put(vcsManager.getLocation(), localTopRevision);
+		}
+
+		return localTopRevision;
+	}
+
+	protected void setLastIndexedRevision(String repoURL, String lastRev) {
+		try (IGraphTransaction tx = graph.beginTransaction()) {
+			new LastRevisionIndex(graph).setLastRevision(repoURL, lastRev);
+			tx.success();
+		} catch (Exception e) {
+			LOGGER.error("Could not save the last indexed revision of " + repoURL, e);
+		}
+	}
+
+	protected void removeLastIndexedRevision(String repoURL) {
+		if (graph == null) {
+			return;
+		}
+
+		try (IGraphTransaction tx = graph.beginTransaction()) {
+			new LastRevisionIndex(graph).removeLastRevision(repoURL);
+			tx.success();
+		} catch (Exception e) {
+			LOGGER.error("Could not remove the last indexed revision of " + repoURL, e);
+		}
+	}
+
 }
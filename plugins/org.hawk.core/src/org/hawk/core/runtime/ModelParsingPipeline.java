@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.core.runtime;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hawk.core.VcsCommitItem;
+import org.hawk.core.model.IHawkModelResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded producer/consumer pipeline which parses model files ahead of the
+ * thread that writes them into the graph. Parsing happens in a pool of worker
+ * threads, but results are always handed back in the order in which the files
+ * were provided, so the single writer sees the same sequence as in a purely
+ * sequential synchronisation.
+ *
+ * The number of files being parsed or waiting to be consumed is limited both
+ * by count and by the total size in bytes of their files (as a rough proxy of
+ * the memory used by the parsed resources). At least one file is always in
+ * flight, so files larger than the byte limit can still be indexed.
+ *
+ * With a single thread, no worker pool is created and every file is parsed on
+ * the consumer thread when it is requested.
+ */
+class ModelParsingPipeline implements AutoCloseable {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ModelParsingPipeline.class);
+
+	/**
+	 * Parses the file behind a single {@link VcsCommitItem}. May be invoked
+	 * concurrently from several threads.
+	 */
+	interface Parser {
+		IHawkModelResource parse(VcsCommitItem item) throws Exception;
+
+		/**
+		 * Returns the estimated cost in bytes of keeping the parsed version of
+		 * <code>item</code> in memory.
+		 */
+		long estimateSize(VcsCommitItem item);
+	}
+
+	/**
+	 * Result of parsing a file. {@link #getResource()} rethrows any exception
+	 * raised while parsing.
+	 */
+	static final class ParsedFile {
+		private final VcsCommitItem item;
+		private final IHawkModelResource resource;
+		private final Exception error;
+
+		private ParsedFile(VcsCommitItem item, IHawkModelResource resource, Exception error) {
+			this.item = item;
+			this.resource = resource;
+			this.error = error;
+		}
+
+		public VcsCommitItem getItem() {
+			return item;
+		}
+
+		public IHawkModelResource getResource() throws Exception {
+			if (error != null) {
+				throw error;
+			}
+			return resource;
+		}
+	}
+
+	private static final class PendingFile {
+		final VcsCommitItem item;
+		final long size;
+		Future<IHawkModelResource> future;
+
+		/** Parsed resource, once it is available. */
+		volatile IHawkModelResource resource;
+		private final AtomicBoolean discarded = new AtomicBoolean();
+
+		PendingFile(VcsCommitItem item, long size) {
+			this.item = item;
+			this.size = size;
+		}
+
+		/**
+		 * Unloads the parsed resource, if it is available and it has not been
+		 * unloaded already. Only to be used for files that will not be consumed.
+		 */
+		void discard() {
+			final IHawkModelResource r = resource;
+			if (r != null && discarded.compareAndSet(false, true)) {
+				r.unload();
+			}
+		}
+	}
+
+	private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+	private final Iterator<VcsCommitItem> itItems;
+	private final Parser parser;
+	private final int maxInFlightFiles;
+	private final long maxInFlightBytes;
+
+	private final ExecutorService executor;
+	private final Deque<PendingFile> pending = new ArrayDeque<>();
+	private long inFlightBytes = 0;
+	private volatile boolean closed;
+
+	/**
+	 * Creates a new pipeline.
+	 *
+	 * @param items
+	 *            Files to be parsed, in the order in which they should be
+	 *            returned.
+	 * @param parser
+	 *            Parsing logic for each file.
+	 * @param threads
+	 *            Number of parsing threads. Values lower than 2 disable the
+	 *            worker pool.
+	 * @param maxInFlightFiles
+	 *            Maximum number of files being parsed or waiting to be consumed.
+	 * @param maxInFlightBytes
+	 *            Maximum combined estimated size of the files being parsed or
+	 *            waiting to be consumed.
+	 */
+	ModelParsingPipeline(Iterable<VcsCommitItem> items, Parser parser, int threads, int maxInFlightFiles, long maxInFlightBytes) {
+		this.itItems = items.iterator();
+		this.parser = parser;
+		this.maxInFlightFiles = Math.max(1, maxInFlightFiles);
+		this.maxInFlightBytes = Math.max(1, maxInFlightBytes);
+
+		if (threads > 1) {
+			final int poolId = POOL_COUNT.incrementAndGet();
+			this.executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+				private final AtomicInteger threadCount = new AtomicInteger();
+
+				@Override
+				public Thread newThread(Runnable r) {
+					final Thread t = new Thread(r, String.format("hawk-parse-%d-%d", poolId, threadCount.incrementAndGet()));
+					t.setDaemon(true);
+					return t;
+				}
+			});
+			fill();
+		} else {
+			this.executor = null;
+		}
+	}
+
+	public boolean hasNext() {
+		return !pending.isEmpty() || itItems.hasNext();
+	}
+
+	/**
+	 * Returns the next parsed file, blocking until it is available.
+	 */
+	public ParsedFile next() throws InterruptedException {
+		if (executor == null) {
+			final VcsCommitItem item = itItems.next();
+			try {
+				return new ParsedFile(item, parser.parse(item), null);
+			} catch (Exception e) {
+				return new ParsedFile(item, null, e);
+			}
+		}
+
+		final PendingFile head = pending.pollFirst();
+		if (head == null) {
+			throw new NoSuchElementException();
+		}
+
+		ParsedFile result;
+		try {
+			result = new ParsedFile(head.item, head.future.get(), null);
+		} catch (ExecutionException e) {
+			final Throwable cause = e.getCause();
+			result = new ParsedFile(head.item, null, cause instanceof Exception ? (Exception) cause : e);
+		} catch (CancellationException e) {
+			result = new ParsedFile(head.item, null, e);
+		}
+
+		inFlightBytes -= head.size;
+		fill();
+		return result;
+	}
+
+	private void fill() {
+		while (itItems.hasNext() && pending.size() < maxInFlightFiles
+				&& (pending.isEmpty() || inFlightBytes < maxInFlightBytes)) {
+			final VcsCommitItem item = itItems.next();
+			final PendingFile file = new PendingFile(item, Math.max(0, parser.estimateSize(item)));
+			file.future = executor.submit(new Callable<IHawkModelResource>() {
+				@Override
+				public IHawkModelResource call() throws Exception {
+					file.resource = parser.parse(item);
+					if (closed) {
+						// Cancelling does not stop the parser: nobody will consume this resource
+						file.discard();
+					}
+					return file.resource;
+				}
+			});
+
+			pending.addLast(file);
+			inFlightBytes += file.size;
+		}
+	}
+
+	/**
+	 * Cancels any pending parses, unloading the resources that were parsed but
+	 * not consumed (including those of parses that finish after this call),
+	 * and stops the worker pool.
+	 */
+	@Override
+	public void close() {
+		if (executor == null) {
+			return;
+		}
+
+		/*
+		 * Parses still running will see the flag and unload their own results
+		 * once they finish, and we unload those that have finished already.
+		 * Both sides check after writing, so each result is seen by at least
+		 * one of them, and discard() only unloads it once.
+		 */
+		closed = true;
+		for (PendingFile p : pending) {
+			p.future.cancel(true);
+			p.discard();
+		}
+		pending.clear();
+		inFlightBytes = 0;
+
+		executor.shutdownNow();
+		try {
+			if (!executor.awaitTermination(BaseModelIndexer.SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+				LOGGER.warn("Parsing threads did not terminate in time");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
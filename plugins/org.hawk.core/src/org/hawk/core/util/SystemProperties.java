@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.core.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Utility methods for reading tuning knobs from Java system properties (e.g.
+ * <code>-Dhawk.sync.parseThreads=4</code>). Invalid values are logged and
+ * replaced with the provided default.
+ */
+public final class SystemProperties {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SystemProperties.class);
+
+	private SystemProperties() {
+		// utility class
+	}
+
+	public static int getInteger(String key, int defaultValue) {
+		final String sValue = System.getProperty(key);
+		if (sValue != null) {
+			try {
+				return Integer.parseInt(sValue.trim());
+			} catch (NumberFormatException ex) {
+				LOGGER.error("-D{} has invalid value '{}': falling back to {}", key, sValue, defaultValue);
+			}
+		}
+		return defaultValue;
+	}
+
+	public static long getLong(String key, long defaultValue) {
+		final String sValue = System.getProperty(key);
+		if (sValue != null) {
+			try {
+				return Long.parseLong(sValue.trim());
+			} catch (NumberFormatException ex) {
+				LOGGER.error("-D{} has invalid value '{}': falling back to {}", key, sValue, defaultValue);
+			}
+		}
+		return defaultValue;
+	}
+
+	public static boolean getBoolean(String key, boolean defaultValue) {
+		final String sValue = System.getProperty(key);
+		if (sValue != null) {
+			return Boolean.parseBoolean(sValue.trim());
+		}
+		return defaultValue;
+	}
+
+}
@@ -24,6 +24,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -42,6 +43,7 @@ import org.eclipse.epsilon.eol.exceptions.EolUndefinedVariableException;
 import org.eclipse.epsilon.eol.exceptions.models.EolModelElementTypeNotFoundException;
 import org.eclipse.epsilon.eol.exceptions.models.EolModelLoadingException;
 import org.eclipse.epsilon.eol.exceptions.models.EolNotInstantiableModelElementTypeException;
+import org.eclipse.epsilon.eol.execute.context.EolContext;
 import org.eclipse.epsilon.eol.execute.context.Variable;
 import org.eclipse.epsilon.eol.execute.control.DefaultExecutionController;
 import org.eclipse.epsilon.eol.execute.introspection.IPropertyGetter;
@@ -56,13 +58,17 @@ import org.hawk.core.graph.IGraphIterable;
 import org.hawk.core.graph.IGraphNode;
 import org.hawk.core.graph.IGraphNodeIndex;
 import org.hawk.core.graph.IGraphTransaction;
+import org.hawk.core.query.IAccess;
+import org.hawk.core.query.IDerivedAttributeEvaluator;
 import org.hawk.core.query.IQueryEngine;
 import org.hawk.core.query.InvalidQueryException;
 import org.hawk.core.query.QueryExecutionException;
+import org.hawk.core.util.SystemProperties;
 import org.hawk.core.util.Utils;
 import org.hawk.epsilon.emc.contextful.CEOLQueryEngine;
 import org.hawk.epsilon.emc.optimisation.OptimisableCollection;
 import org.hawk.epsilon.emc.pgetters.GraphPropertyGetter;
+import org.hawk.epsilon.emc.pgetters.PropertyAccessCache;
 import org.hawk.epsilon.emc.tracking.AccessListener;
 import org.hawk.epsilon.emc.wrappers.FileNodeWrapper;
 import org.hawk.epsilon.emc.wrappers.GraphNodeWrapper;
@@ -103,7 +109,7 @@ public class EOLQueryEngine extends AbstractHawkModel implements IQueryEngine {
 
 		@Override
 		public boolean isEmpty() {
-			return iterableNodes.size() > 0;
+			return iterableNodes.size() == 0;
 		}
 
 		@Override
@@ -221,6 +227,13 @@ public class EOLQueryEngine extends AbstractHawkModel implements IQueryEngine {
 
 	public static final String TYPE = "org.hawk.epsilon.emc.EOLQueryEngine";
 
+	/**
+	 * Name of the system property which controls if derived attributes that
+	 * have not been derived yet are computed when a query accesses them (true
+	 * by default). Otherwise, queries see their derivation logic instead.
+	 */
+	public static final String DERIVE_ON_ACCESS_PROPERTY = "hawk.epsilon.deriveOnAccess";
+
 	private static final Logger LOGGER = LoggerFactory.getLogger(EOLQueryEngine.class);
 	private static final String MMURI_TYPE_SEPARATOR = "::";
 	private static final String ANY_TYPE = new EolAnyType().getName();
@@ -238,6 +251,16 @@ public class EOLQueryEngine extends AbstractHawkModel implements IQueryEngine {
 
 	/** Do not use OptimisedCollection unless we can benefit from it. */
 	private boolean useOptimisableCollection;
+
+	/** Parsed query modules, created on first use. */
+	private volatile QueryModuleCache queryCache;
+
+	/** Receives the statistics of the query once it completes, if set. */
+	private Consumer<Map<String, Object>> statsConsumer;
+
+	/** Computes not-yet-derived attributes on access, created on first use. */
+	private OnAccessDeriver onAccessDeriver;
+	private boolean deriveOnAccess = SystemProperties.getBoolean(DERIVE_ON_ACCESS_PROPERTY, true);
 	
 	/**
 	 * Returns all of the contents of the database in the form of lightweight
@@ -341,12 +364,16 @@ public class EOLQueryEngine extends AbstractHawkModel implements IQueryEngine {
 	}
 
 	public Collection<Object> getAllOf(IGraphNode typeNode, final String typeorkind) {
-		Collection<Object> nodes = createAllOfCollection(typeNode);
-
-		for (IGraphEdge n : typeNode.getIncomingWithType(typeorkind)) {
-			nodes.add(new GraphNodeWrapper(n.getStartNode(), this));
+		if (useOptimisableCollection) {
+			// instances are only fetched if the selects on them cannot use the indexes
+			final Collection<Object> nodes = new OptimisableCollection(this, new GraphNodeWrapper(typeNode, this), typeorkind);
+			broadcastAllOfXAccess(nodes);
+			return nodes;
 		}
 
+		// instances are only fetched as they are iterated over
+		final Collection<Object> nodes = new LazyGraphNodeSequence<>(
+			typeNode.getIncomingWithType(typeorkind), (e) -> new GraphNodeWrapper(e.getStartNode(), this));
 		broadcastAllOfXAccess(nodes);
 		return nodes;
 	}
@@ -357,6 +384,23 @@ public class EOLQueryEngine extends AbstractHawkModel implements IQueryEngine {
 		return nodes;
 	}
 
+	/**
+	 * Returns a collection with the model elements of some instances of a type.
+	 * If the collection cannot benefit from the indexes, the instances will only
+	 * be fetched as the collection is iterated over.
+	 */
+	protected Collection<Object> createAllOfCollection(IGraphNode typeNode, Iterable<IGraphNode> instances) {
+		if (!useOptimisableCollection) {
+			return new LazyGraphNodeSequence<>(instances, (n) -> new GraphNodeWrapper(n, this));
+		}
+
+		final Collection<Object> nodes = createAllOfCollection(typeNode);
+		for (IGraphNode n : instances) {
+			nodes.add(new GraphNodeWrapper(n, this));
+		}
+		return nodes;
+	}
+
 	public List<IGraphNode> getTypeNodes(String typeName) {
 		List<IGraphNode> typeNodes = typeNodesCache.get(typeName);
 		if (typeNodes == null) {
@@ -670,6 +714,10 @@ public class EOLQueryEngine extends AbstractHawkModel implements IQueryEngine {
 			e2.printStackTrace();
 		}
 
+		// values cached by a previous run may be stale now
+		propertyGetter.getAccessCache().clear();
+		onAccessDeriver = null;
+
 		// listen to accesses
 		GraphPropertyGetter pg = null;
 		if (!enableDebug) {
@@ -704,60 +752,203 @@ public class EOLQueryEngine extends AbstractHawkModel implements IQueryEngine {
 			String prop = n.getProperty(s).toString();
 
 			if (prop.startsWith(DirtyDerivedFeaturesListener.NOT_YET_DERIVED_PREFIX)) {
-				Object derived = "DERIVATION_EXCEPTION";
-				try {
-					derived = new DeriveFeature().deriveFeature(cachedModules, indexer, n, this, s, prop);
-				} catch (Exception e) {
-					LOGGER.error("Error while deriving feature " + prop, e);
-				}
+				storeDerivedValue(n, s, deriveValue(cachedModules, n, s, prop));
+			}
+		}
 
-				// Unset the current value (if there is any)
-				final String derivedEdgeLabel = ModelElementNode.DERIVED_EDGE_PREFIX + s;
-				for (IGraphEdge edge : n.getOutgoingWithType(derivedEdgeLabel)) {
-					LOGGER.debug("Clearing edge {}", edge.getType());
-					edge.delete();
-				}
-				n.removeProperty(s);
+		IGraphNodeIndex derivedProxyDictionary = graph.getOrCreateNodeIndex("derivedproxydictionary");
+		derivedProxyDictionary.remove(n);
+	}
 
-				// Set the new value
-				if (derived instanceof Object[] && ((Object[])derived).length > 0 && ((Object[])derived)[0] instanceof GraphNodeWrapper) {
-					GraphNodeWrapper[] nodes = (GraphNodeWrapper[])derived;
+	/**
+	 * Computes the new value of a not-yet-derived attribute, without changing
+	 * the graph.
+	 */
+	protected Object deriveValue(Map<String, EolModule> cachedModules, IGraphNode n, String s, String prop) {
+		Object derived = "DERIVATION_EXCEPTION";
+		try {
+			derived = new DeriveFeature().deriveFeature(cachedModules, indexer, n, this, s, prop);
+		} catch (Exception e) {
+			LOGGER.error("Error while deriving feature " + prop, e);
+		}
+		return derived;
+	}
 
-					// Replace existing edges with new ones
-					for (GraphNodeWrapper gw : nodes) {
-						graph.createRelationship(n, gw.getNode(), derivedEdgeLabel);
-					}
-				} else if (derived instanceof GraphNodeWrapper) {
-					GraphNodeWrapper gw = (GraphNodeWrapper) derived;
-					graph.createRelationship(n, gw.getNode(), derivedEdgeLabel);
-				} else if (derived != null) {
-					n.setProperty(s, derived);
-				} else {
-					n.setProperty(s, new String[0]);
-				}
+	/**
+	 * Replaces the value of a derived attribute in a derived feature node, and
+	 * updates the index of its model element.
+	 */
+	protected void storeDerivedValue(IGraphNode n, String s, Object derived) {
+		// Unset the current value (if there is any)
+		final String derivedEdgeLabel = ModelElementNode.DERIVED_EDGE_PREFIX + s;
+		for (IGraphEdge edge : n.getOutgoingWithType(derivedEdgeLabel)) {
+			LOGGER.debug("Clearing edge {}", edge.getType());
+			edge.delete();
+		}
+		n.removeProperty(s);
 
-				final IGraphNode elementNode = n.getIncoming().iterator().next().getStartNode();
-				final String idxName = n.getProperty(GraphModelInserter.DERIVED_IDXNAME_NODEPROP).toString();
-				final IGraphNodeIndex idxNodeByDerivedValue = graph.getOrCreateNodeIndex(idxName);
+		// Set the new value (target nodes are retrieved again, as they may have been found by another thread)
+		if (derived instanceof Object[] && ((Object[])derived).length > 0 && ((Object[])derived)[0] instanceof GraphNodeWrapper) {
+			GraphNodeWrapper[] nodes = (GraphNodeWrapper[])derived;
 
-				// flatten multi-valued derived features for indexing
-				if (derived != null) {
-					if (derived.getClass().getComponentType() != null || derived instanceof Collection<?>) {
-						derived = new Utils().toString(derived);
-					}
+			// Replace existing edges with new ones
+			for (GraphNodeWrapper gw : nodes) {
+				graph.createRelationship(n, graph.getNodeById(gw.getId()), derivedEdgeLabel);
+			}
+		} else if (derived instanceof GraphNodeWrapper) {
+			GraphNodeWrapper gw = (GraphNodeWrapper) derived;
+			graph.createRelationship(n, graph.getNodeById(gw.getId()), derivedEdgeLabel);
+		} else if (derived != null) {
+			n.setProperty(s, derived);
+		} else {
+			n.setProperty(s, new String[0]);
+		}
+
+		final IGraphNode elementNode = n.getIncoming().iterator().next().getStartNode();
+		final String idxName = n.getProperty(GraphModelInserter.DERIVED_IDXNAME_NODEPROP).toString();
+		final IGraphNodeIndex idxNodeByDerivedValue = graph.getOrCreateNodeIndex(idxName);
+
+		// flatten multi-valued derived features for indexing
+		if (derived != null) {
+			if (derived.getClass().getComponentType() != null || derived instanceof Collection<?>) {
+				derived = new Utils().toString(derived);
+			}
+
+			// TODO: need to test how this works with derived edges
+			idxNodeByDerivedValue.remove(elementNode, s, null);
+			idxNodeByDerivedValue.add(elementNode, s, derived);
+
+			// Note: this is needed in order to mark the node as "dirty" to some time-aware backends.
+			elementNode.setProperty(GraphModelInserter.LAST_DERIVED_TSTAMP_NODEPROP, System.nanoTime());
+		}
+	}
+
+	@Override
+	public IDerivedAttributeEvaluator createDerivedAttributeEvaluator(IModelIndexer m) {
+		if (!m.getGraph().supportsConcurrentReaders()) {
+			return null;
+		}
+
+		final EOLQueryEngine worker = createDerivationWorker();
+		if (worker == null) {
+			return null;
+		}
+
+		worker.defaultNamespaces = defaultNamespaces;
+		try {
+			worker.load(m);
+		} catch (EolModelLoadingException e) {
+			LOGGER.error("Could not set up derived attribute evaluator", e);
+			return null;
+		}
+		return worker.new DerivedAttributeEvaluator();
+	}
 
-					// TODO: need to test how this works with derived edges
-					idxNodeByDerivedValue.remove(elementNode, s, null);
-					idxNodeByDerivedValue.add(elementNode, s, derived);
+	/**
+	 * Creates a separate instance of this engine for computing derived
+	 * attributes from another thread, or returns <code>null</code> if that is
+	 * not supported. Subclasses which change how derived attributes are
+	 * computed must override this method to enable it.
+	 */
+	protected EOLQueryEngine createDerivationWorker() {
+		return getClass() == EOLQueryEngine.class ? new EOLQueryEngine() : null;
+	}
 
-					// Note: this is needed in order to mark the node as "dirty" to some time-aware backends.
-					elementNode.setProperty(GraphModelInserter.LAST_DERIVED_TSTAMP_NODEPROP, System.nanoTime());
+	/**
+	 * Computes the value of a derived attribute which has not been derived yet,
+	 * so the query does not have to wait for the indexer to do it. The value is
+	 * kept until the end of the query, and it is not written back to the graph:
+	 * that is left to the indexer.
+	 *
+	 * Values are computed by the engine returned by
+	 * {@link #createDerivationWorker()}, which does not derive attributes on
+	 * access in turn. If it is not available or deriving on access has been
+	 * disabled, the derivation logic is returned as is.
+	 *
+	 * @param derivedNode
+	 *            Derived feature node holding the attribute.
+	 * @param property
+	 *            Name of the derived attribute.
+	 * @param derivationLogic
+	 *            Current value of the attribute, starting with
+	 *            {@link DirtyDerivedFeaturesListener#NOT_YET_DERIVED_PREFIX}.
+	 */
+	public Object deriveOnAccess(IGraphNode derivedNode, String property, String derivationLogic) {
+		if (onAccessDeriver == null && deriveOnAccess) {
+			final EOLQueryEngine worker = createDerivationWorker();
+			if (worker == null) {
+				deriveOnAccess = false;
+			} else {
+				worker.deriveOnAccess = false;
+				try {
+					worker.load(indexer);
+					onAccessDeriver = new OnAccessDeriver(this, worker);
+				} catch (EolModelLoadingException e) {
+					LOGGER.error("Could not set up the derivation of attributes on access", e);
+					deriveOnAccess = false;
 				}
 			}
 		}
 
-		IGraphNodeIndex derivedProxyDictionary = graph.getOrCreateNodeIndex("derivedproxydictionary");
-		derivedProxyDictionary.remove(n);
+		if (onAccessDeriver == null) {
+			LOGGER.debug("Attribute {} has not been derived yet for node {}", property, derivedNode.getId());
+			return derivationLogic;
+		}
+		return onAccessDeriver.derive(derivedNode, property, derivationLogic);
+	}
+
+	/**
+	 * Computes derived attributes with a separate instance of this engine,
+	 * leaving the writing of the results to the caller.
+	 */
+	private class DerivedAttributeEvaluator implements IDerivedAttributeEvaluator {
+		private final Map<String, EolModule> cachedModules = new HashMap<>();
+		private final GraphPropertyGetter pg;
+
+		DerivedAttributeEvaluator() {
+			pg = (GraphPropertyGetter) getPropertyGetter();
+			pg.getAccessCache().clear();
+			pg.setBroadcastAccess(true);
+			onAccessDeriver = null;
+		}
+
+		@Override
+		public Result evaluate(final Object derivedFeatureNodeId) throws QueryExecutionException {
+			final IGraphNode n = graph.getNodeById(derivedFeatureNodeId);
+			if (n == null) {
+				return null;
+			}
+
+			final Map<String, Object> values = new HashMap<>();
+			for (String s : n.getPropertyKeys()) {
+				final String prop = n.getProperty(s).toString();
+				if (prop.startsWith(DirtyDerivedFeaturesListener.NOT_YET_DERIVED_PREFIX)) {
+					values.put(s, deriveValue(cachedModules, n, s, prop));
+				}
+			}
+
+			final Collection<IAccess> accesses = new ArrayList<>(pg.getAccessListener().getAccesses());
+			pg.getAccessListener().resetAccesses();
+
+			return new Result() {
+				@Override
+				public Collection<IAccess> getAccesses() {
+					return accesses;
+				}
+
+				@Override
+				public void apply(IGraphDatabase target) throws Exception {
+					final IGraphNode targetNode = target.getNodeById(derivedFeatureNodeId);
+					if (targetNode == null) {
+						return;
+					}
+					for (Entry<String, Object> entry : values.entrySet()) {
+						storeDerivedValue(targetNode, entry.getKey(), entry.getValue());
+					}
+					target.getOrCreateNodeIndex("derivedproxydictionary").remove(targetNode);
+				}
+			};
+		}
 	}
 
 	@Override
@@ -825,9 +1016,7 @@ public class EOLQueryEngine extends AbstractHawkModel implements IQueryEngine {
 			throw new QueryExecutionException("Loading of EOLQueryEngine failed");
 		}
 
-		final IEolModule module = createModule();
-		parseQuery(query, context, q, module);
-		return q.runQuery(module);
+		return runCachedQuery(query, context, q);
 	}
 
 	protected Object contextfulQuery(IModelIndexer m, String query, Map<String, Object> context)
@@ -841,9 +1030,81 @@ public class EOLQueryEngine extends AbstractHawkModel implements IQueryEngine {
 		}
 		LOGGER.debug("Graph path: {}", graph.getPath());
 
-		final IEolModule module = createModule();
-		parseQuery(query, context, q, module);
-		return q.runQuery(module);
+		return runCachedQuery(query, context, q);
+	}
+
+	/**
+	 * Runs the query on <code>model</code>, reusing a module which has already
+	 * parsed it if possible (see {@link #getQueryCache()}). Queries with cached
+	 * operations are always parsed again, as their results are kept by the
+	 * module.
+	 */
+	protected Object runCachedQuery(String query, Map<String, Object> context, EOLQueryEngine model)
+			throws InvalidQueryException, QueryExecutionException {
+		final QueryModuleCache cache = getQueryCache();
+		if (!cache.isEnabled() || query.contains("@cached")) {
+			final IEolModule module = createModule();
+			parseQuery(query, context, model, module);
+			return model.runQuery(module);
+		}
+
+		final Map<String, Object> args = getQueryArguments(context);
+		final QueryModuleCache.Lease lease = cache.lease(this, query, args == null ? null : args.keySet());
+		final IEolModule module = lease.getModule();
+		if (lease.isReused()) {
+			/*
+			 * Only the parsed query is reused: a fresh context ensures that nothing
+			 * from the previous run (variables, extended properties, frames left by
+			 * a failed run, the execution controller) is seen by this one. Only
+			 * plain EolModules are released back into the cache.
+			 */
+			((EolModule) module).setContext(new EolContext());
+		} else {
+			parseModule(query, module);
+		}
+		prepareModule(context, model, module);
+
+		final Object result;
+		try {
+			result = model.runQuery(module);
+		} finally {
+			module.getContext().getModelRepository().removeModel(model);
+		}
+
+		/*
+		 * Other Epsilon modules (e.g. EPL) may keep more state between runs, so
+		 * we only reuse plain EOL modules.
+		 */
+		if (module.getClass() == EolModule.class) {
+			cache.release(lease);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the cache of parsed query modules of this engine, with its hit
+	 * and miss counts.
+	 */
+	public QueryModuleCache getQueryCache() {
+		QueryModuleCache cache = queryCache;
+		if (cache == null) {
+			synchronized (this) {
+				cache = queryCache;
+				if (cache == null) {
+					cache = new QueryModuleCache();
+					queryCache = cache;
+				}
+			}
+		}
+		return cache;
+	}
+
+	@Override
+	public void invalidateCaches() {
+		final QueryModuleCache cache = queryCache;
+		if (cache != null) {
+			cache.invalidate();
+		}
 	}
 
 	// IQueryEngine part //////////////////////////////////////////////////////
@@ -857,6 +1118,14 @@ public class EOLQueryEngine extends AbstractHawkModel implements IQueryEngine {
 
 	protected void parseQuery(String query, Map<String, Object> context, final EOLQueryEngine model,
 			final IEolModule module) throws InvalidQueryException {
+		parseModule(query, module);
+		prepareModule(context, model, module);
+	}
+
+	/**
+	 * Parses the query, throwing an exception if it has any problems.
+	 */
+	protected void parseModule(String query, final IEolModule module) throws InvalidQueryException {
 		try {
 			module.parse(query);
 			if (!module.getParseProblems().isEmpty()) {
@@ -867,12 +1136,25 @@ public class EOLQueryEngine extends AbstractHawkModel implements IQueryEngine {
 				}
 				throw new InvalidQueryException(sb.toString());
 			}
+		} catch (InvalidQueryException ex) {
+			throw ex;
 		} catch (Exception ex) {
 			throw new InvalidQueryException(ex);
 		}
+	}
 
+	/**
+	 * Sets up a parsed module to run the query on <code>model</code>, with the
+	 * arguments and the cancellation hook in the context (if any).
+	 */
+	protected void prepareModule(Map<String, Object> context, final EOLQueryEngine model, final IEolModule module) {
 		module.getContext().getModelRepository().addModel(model);
 		addQueryArguments(context, module);
+		if (context != null && context.containsKey(IQueryEngine.PROPERTY_STATS_CONSUMER)) {
+			@SuppressWarnings("unchecked")
+			final Consumer<Map<String, Object>> consumer = (Consumer<Map<String, Object>>) context.get(IQueryEngine.PROPERTY_STATS_CONSUMER);
+			model.statsConsumer = consumer;
+		}
 		if (context != null && context.containsKey(IQueryEngine.PROPERTY_CANCEL_CONSUMER)) {
 			@SuppressWarnings("unchecked")
 			final Consumer<Runnable> cancelProvider = (Consumer<Runnable>) context.get(IQueryEngine.PROPERTY_CANCEL_CONSUMER);
@@ -889,6 +1171,7 @@ public class EOLQueryEngine extends AbstractHawkModel implements IQueryEngine {
 		Object ret = null;
 		try (IGraphTransaction tx = graph.beginTransaction()) {
 			ret = module.execute();
+			materializeLazySequences(ret, Collections.newSetFromMap(new IdentityHashMap<>()));
 			tx.success();
 		} catch (EolUndefinedVariableException ex) {
 			// Provide more details than Epsilon about ambiguous intra-model type references
@@ -922,21 +1205,70 @@ public class EOLQueryEngine extends AbstractHawkModel implements IQueryEngine {
 			throw new QueryExecutionException(e);
 		}
 
+		reportStatistics();
 		return ret;
 	}
 
-	@SuppressWarnings("unchecked")
+	/**
+	 * Copies into memory the {@link LazyGraphNodeSequence}s within a query
+	 * result, as they cannot read from the graph once the transaction of the
+	 * query is closed. Sequences nested in collections and maps are copied as
+	 * well.
+	 *
+	 * @param visited
+	 *            Values that have already been visited, to avoid revisiting
+	 *            shared or self-containing collections.
+	 */
+	protected static void materializeLazySequences(Object value, Set<Object> visited) {
+		if (value instanceof LazyGraphNodeSequence) {
+			// Elements are only model elements, which do not need to be visited
+			((LazyGraphNodeSequence<?>) value).materialize();
+		} else if (value instanceof IGraphIterableCollection) {
+			// Only model elements: visiting them would read the whole graph
+			return;
+		} else if (value instanceof Collection && visited.add(value)) {
+			for (Object e : (Collection<?>) value) {
+				materializeLazySequences(e, visited);
+			}
+		} else if (value instanceof Map && visited.add(value)) {
+			for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				materializeLazySequences(entry.getKey(), visited);
+				materializeLazySequences(entry.getValue(), visited);
+			}
+		}
+	}
+
+	/**
+	 * Passes the statistics of the last query to the consumer set through
+	 * {@link IQueryEngine#PROPERTY_STATS_CONSUMER}, if any.
+	 */
+	protected void reportStatistics() {
+		if (statsConsumer == null || propertyGetter == null) {
+			return;
+		}
+
+		final PropertyAccessCache accessCache = propertyGetter.getAccessCache();
+		final Map<String, Object> stats = new HashMap<>();
+		stats.put(IQueryEngine.STAT_PROPERTY_CACHE_HITS, accessCache.getHits());
+		stats.put(IQueryEngine.STAT_PROPERTY_CACHE_MISSES, accessCache.getMisses());
+		LOGGER.debug("Query statistics: {}", accessCache);
+		statsConsumer.accept(stats);
+	}
+
 	protected void addQueryArguments(Map<String, Object> context, final IEolModule module) {
-		if (context != null) {
-			final Map<String, Object> args = (Map<String, Object>) context.get(PROPERTY_ARGUMENTS);
-			if (args != null) {
-				for (Entry<String, Object> entry : args.entrySet()) {
-					module.getContext().getFrameStack().putGlobal(new Variable(entry.getKey(), entry.getValue(), null));
-				}
+		final Map<String, Object> args = getQueryArguments(context);
+		if (args != null) {
+			for (Entry<String, Object> entry : args.entrySet()) {
+				module.getContext().getFrameStack().putGlobal(new Variable(entry.getKey(), entry.getValue(), null));
 			}
 		}
 	}
 
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> getQueryArguments(Map<String, Object> context) {
+		return context == null ? null : (Map<String, Object>) context.get(PROPERTY_ARGUMENTS);
+	}
+
 	@Override
 	public void setDefaultNamespaces(String namespaces) {
 		// set default packages if applicable
@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.epsilon.emc;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.eclipse.epsilon.eol.types.EolSequence;
+import org.hawk.core.graph.IGraphIterable;
+
+/**
+ * Sequence whose elements are read from the graph while it is iterated over,
+ * instead of all at once. This is used for the results of <code>X.all</code>,
+ * which can be very large but are usually just iterated over once (e.g. by a
+ * <code>select</code> or a <code>collect</code>).
+ *
+ * {@link #size()}, {@link #isEmpty()} and {@link #contains(Object)} do not keep
+ * the elements in memory either. The elements are only copied into an
+ * {@link EolSequence} when they are accessed by position or the sequence is
+ * modified: from then on, it behaves as a regular sequence.
+ *
+ * Since the elements are read from the graph, a sequence should only be used
+ * within the transaction in which it was created, unless it is materialized
+ * first (see {@link #materialize()}).
+ *
+ * @param <T>
+ *            Type of the raw values produced by the source, which are
+ *            converted to model elements by the mapping function.
+ */
+public class LazyGraphNodeSequence<T> extends AbstractList<Object> {
+
+	private final Iterable<T> source;
+	private final Function<? super T, ?> mapper;
+
+	private List<Object> materialized;
+	private int size = -1;
+
+	/**
+	 * Creates a new sequence.
+	 *
+	 * @param source
+	 *            Source of the raw values. It must be possible to iterate over
+	 *            it more than once. If it is an {@link IGraphIterable}, its
+	 *            size will be used without iterating over it.
+	 * @param mapper
+	 *            Function which turns each raw value into a model element.
+	 */
+	public LazyGraphNodeSequence(Iterable<T> source, Function<? super T, ?> mapper) {
+		this.source = source;
+		this.mapper = mapper;
+	}
+
+	/**
+	 * Returns <code>true</code> if the elements have been copied into memory.
+	 */
+	public boolean isMaterialized() {
+		return materialized != null;
+	}
+
+	@Override
+	public Iterator<Object> iterator() {
+		if (materialized != null) {
+			return materialized.iterator();
+		}
+
+		final Iterator<T> itSource = source.iterator();
+		return new Iterator<Object>() {
+			@Override
+			public boolean hasNext() {
+				return itSource.hasNext();
+			}
+
+			@Override
+			public Object next() {
+				return mapper.apply(itSource.next());
+			}
+		};
+	}
+
+	@Override
+	public int size() {
+		if (materialized != null) {
+			return materialized.size();
+		} else if (size < 0) {
+			if (source instanceof IGraphIterable) {
+				size = ((IGraphIterable<?>) source).size();
+			} else {
+				int count = 0;
+				for (Iterator<T> it = source.iterator(); it.hasNext(); it.next()) {
+					count++;
+				}
+				size = count;
+			}
+		}
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		if (materialized != null) {
+			return materialized.isEmpty();
+		} else if (size >= 0) {
+			return size == 0;
+		}
+		return !source.iterator().hasNext();
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		if (materialized != null) {
+			return materialized.contains(o);
+		}
+
+		for (Object e : this) {
+			if (e.equals(o)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public Object get(int index) {
+		return materialize().get(index);
+	}
+
+	@Override
+	public Object set(int index, Object element) {
+		return materialize().set(index, element);
+	}
+
+	@Override
+	public void add(int index, Object element) {
+		materialize().add(index, element);
+		modCount++;
+	}
+
+	@Override
+	public Object remove(int index) {
+		final Object removed = materialize().remove(index);
+		modCount++;
+		return removed;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		modCount++;
+		return materialize().remove(o);
+	}
+
+	@Override
+	public boolean removeAll(Collection<?> c) {
+		modCount++;
+		return materialize().removeAll(c);
+	}
+
+	@Override
+	public boolean retainAll(Collection<?> c) {
+		modCount++;
+		return materialize().retainAll(c);
+	}
+
+	@Override
+	public boolean removeIf(Predicate<? super Object> filter) {
+		modCount++;
+		return materialize().removeIf(filter);
+	}
+
+	@Override
+	public void clear() {
+		materialized = new EolSequence<>();
+		modCount++;
+	}
+
+	/**
+	 * Copies the elements into memory, if they have not been copied yet. This
+	 * must be done before the sequence is used outside the transaction in which
+	 * it was created, as it reads its elements from the graph.
+	 *
+	 * @return List with the elements, which backs this sequence from now on.
+	 */
+	public List<Object> materialize() {
+		if (materialized == null) {
+			final List<Object> elements = new EolSequence<>();
+			for (T raw : source) {
+				elements.add(mapper.apply(raw));
+			}
+			materialized = elements;
+		}
+		return materialized;
+	}
+
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.epsilon.emc;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.epsilon.eol.EolModule;
+import org.eclipse.epsilon.eol.types.EolSequence;
+import org.hawk.core.graph.IGraphNode;
+import org.hawk.epsilon.emc.wrappers.GraphNodeWrapper;
+import org.hawk.graph.updater.DirtyDerivedFeaturesListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes the derived attributes that a query finds in the not-yet-derived
+ * state, instead of returning the marker left by
+ * {@link DirtyDerivedFeaturesListener}. This lets queries run right after a
+ * large synchronisation produce correct results without waiting for the
+ * indexer to update all the derived attributes.
+ *
+ * Values are computed by a separate instance of the query engine (so scoping
+ * does not affect them), and kept until the end of the query. They are never
+ * written back to the graph: the indexer remains the only writer, and it will
+ * store them together with the accesses they depend on.
+ *
+ * This class is not thread-safe: it should only be used by the thread running
+ * the query.
+ */
+class OnAccessDeriver {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(OnAccessDeriver.class);
+
+	private static final class DerivedValue {
+		private final String derivationLogic;
+		private final Object value;
+
+		public DerivedValue(String derivationLogic, Object value) {
+			this.derivationLogic = derivationLogic;
+			this.value = value;
+		}
+	}
+
+	private final EOLQueryEngine model;
+	private final EOLQueryEngine worker;
+
+	private final Map<String, EolModule> cachedModules = new HashMap<>();
+	private final Map<List<Object>, DerivedValue> values = new HashMap<>();
+
+	/**
+	 * Creates a new deriver.
+	 *
+	 * @param model
+	 *            Engine running the query, which will own the model elements
+	 *            in the derived values.
+	 * @param worker
+	 *            Loaded engine which will compute the derived values.
+	 */
+	public OnAccessDeriver(EOLQueryEngine model, EOLQueryEngine worker) {
+		this.model = model;
+		this.worker = worker;
+	}
+
+	/**
+	 * Returns the value of a derived attribute, computing it if it has not been
+	 * accessed yet during this query.
+	 *
+	 * @param derivedNode
+	 *            Derived feature node holding the attribute.
+	 * @param property
+	 *            Name of the derived attribute.
+	 * @param derivationLogic
+	 *            Current (not-yet-derived) value of the attribute.
+	 * @return Value in the same form as the property getter would produce for
+	 *         an attribute that had been derived by the indexer.
+	 */
+	public Object derive(IGraphNode derivedNode, String property, String derivationLogic) {
+		final List<Object> key = Arrays.asList(derivedNode.getId(), property);
+
+		DerivedValue derived = values.get(key);
+		if (derived == null || !derived.derivationLogic.equals(derivationLogic)) {
+			LOGGER.debug("Deriving {} on access for node {}", property, derivedNode.getId());
+			final Object value = worker.deriveValue(cachedModules, derivedNode, property, derivationLogic);
+			derived = new DerivedValue(derivationLogic, value);
+			values.put(key, derived);
+		}
+
+		return toQueryValue(derived.value);
+	}
+
+	private Object toQueryValue(Object derived) {
+		if (derived instanceof GraphNodeWrapper[]) {
+			final List<GraphNodeWrapper> targets = new EolSequence<>();
+			for (GraphNodeWrapper gw : (GraphNodeWrapper[]) derived) {
+				targets.add(new GraphNodeWrapper(gw.getNode(), model));
+			}
+			return targets;
+		} else if (derived instanceof GraphNodeWrapper) {
+			final List<GraphNodeWrapper> targets = new EolSequence<>();
+			targets.add(new GraphNodeWrapper(((GraphNodeWrapper) derived).getNode(), model));
+			return targets;
+		} else if (derived == null) {
+			return new String[0];
+		}
+		return derived;
+	}
+
+}
@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.epsilon.emc;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.eclipse.epsilon.eol.IEolModule;
+import org.hawk.core.util.SystemProperties;
+
+/**
+ * Bounded LRU cache of parsed and validated query modules, so repeated queries
+ * do not have to be parsed again. Modules are not thread-safe, so they are
+ * lent to one query at a time: there may be several idle modules for the same
+ * query, if it was run concurrently. Entries are keyed by the language, the
+ * query text, and the names of the query arguments. Only the parsed query is
+ * reused: {@link EOLQueryEngine} runs a lent module with a fresh context.
+ */
+public class QueryModuleCache {
+
+	/**
+	 * Name of the system property with the maximum number of distinct queries
+	 * to be kept (256 by default). If zero or less, queries are not cached.
+	 */
+	public static final String SIZE_PROPERTY = "hawk.eol.queryCache.size";
+
+	/**
+	 * Name of the system property with the maximum number of idle modules to be
+	 * kept for each query (the number of available processors by default).
+	 */
+	public static final String IDLE_PROPERTY = "hawk.eol.queryCache.idlePerQuery";
+
+	/**
+	 * Module lent by the cache, to be returned with
+	 * {@link QueryModuleCache#release(Lease)} once the query is done.
+	 */
+	public static final class Lease {
+		private final String key;
+		private final long generation;
+		private final IEolModule module;
+		private final boolean reused;
+
+		private Lease(String key, long generation, IEolModule module, boolean reused) {
+			this.key = key;
+			this.generation = generation;
+			this.module = module;
+			this.reused = reused;
+		}
+
+		public IEolModule getModule() {
+			return module;
+		}
+
+		/**
+		 * Returns <code>true</code> if the module was parsed by a previous
+		 * query, or <code>false</code> if it still needs to be parsed.
+		 */
+		public boolean isReused() {
+			return reused;
+		}
+	}
+
+	private final int maxEntries;
+	private final int maxIdlePerQuery;
+	private final Map<String, Deque<IEolModule>> idleModules;
+
+	private long generation, hits, misses, invalidations;
+
+	public QueryModuleCache() {
+		this(SystemProperties.getInteger(SIZE_PROPERTY, 256),
+			SystemProperties.getInteger(IDLE_PROPERTY, Runtime.getRuntime().availableProcessors()));
+	}
+
+	public QueryModuleCache(final int maxEntries, int maxIdlePerQuery) {
+		this.maxEntries = maxEntries;
+		this.maxIdlePerQuery = maxIdlePerQuery;
+		this.idleModules = new LinkedHashMap<String, Deque<IEolModule>>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Deque<IEolModule>> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * Returns <code>true</code> if queries will be cached at all.
+	 */
+	public boolean isEnabled() {
+		return maxEntries > 0 && maxIdlePerQuery > 0;
+	}
+
+	/**
+	 * Lends an idle module which has already parsed the query, or a new module
+	 * created by <code>engine</code> if there is none.
+	 *
+	 * @param argumentNames
+	 *            Names of the arguments to be passed to the query (may be
+	 *            <code>null</code>).
+	 */
+	public synchronized Lease lease(EOLQueryEngine engine, String query, Collection<String> argumentNames) {
+		final StringBuilder sbKey = new StringBuilder(engine.getType());
+		sbKey.append('\0');
+		if (argumentNames != null) {
+			for (String argName : new TreeSet<>(argumentNames)) {
+				sbKey.append(argName);
+				sbKey.append(',');
+			}
+		}
+		sbKey.append('\0');
+		sbKey.append(query);
+		final String key = sbKey.toString();
+
+		final Deque<IEolModule> idle = idleModules.get(key);
+		if (idle != null && !idle.isEmpty()) {
+			hits++;
+			return new Lease(key, generation, idle.pop(), true);
+		}
+
+		misses++;
+		return new Lease(key, generation, engine.createModule(), false);
+	}
+
+	/**
+	 * Returns a module to the cache, so it can be reused by a later run of the
+	 * same query. Modules lent before the last {@link #invalidate()} call are
+	 * discarded.
+	 */
+	public synchronized void release(Lease lease) {
+		if (!isEnabled() || lease.generation != generation) {
+			return;
+		}
+
+		Deque<IEolModule> idle = idleModules.get(lease.key);
+		if (idle == null) {
+			idle = new ArrayDeque<>();
+			idleModules.put(lease.key, idle);
+		}
+		if (idle.size() < maxIdlePerQuery) {
+			idle.push(lease.module);
+		}
+	}
+
+	/**
+	 * Discards all the cached modules (e.g. after metamodels or derived
+	 * attributes changed).
+	 */
+	public synchronized void invalidate() {
+		idleModules.clear();
+		generation++;
+		invalidations++;
+	}
+
+	/**
+	 * Returns the number of times a parsed module could be reused.
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of times a query had to be parsed.
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	public synchronized long getInvalidations() {
+		return invalidations;
+	}
+
+	/**
+	 * Returns the number of distinct queries currently in the cache.
+	 */
+	public synchronized int size() {
+		return idleModules.size();
+	}
+
+	@Override
+	public synchronized String toString() {
+		return String.format("QueryModuleCache [size=%d, hits=%d, misses=%d, invalidations=%d]",
+			idleModules.size(), hits, misses, invalidations);
+	}
+}
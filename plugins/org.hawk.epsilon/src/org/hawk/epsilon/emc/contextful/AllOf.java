@@ -16,11 +16,32 @@
  ******************************************************************************/
 package org.hawk.epsilon.emc.contextful;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.hawk.core.graph.IGraphNode;
+import org.hawk.epsilon.emc.wrappers.GraphNodeWrapper;
 
 @FunctionalInterface
 public interface AllOf {
 	void addAllOf(IGraphNode typeNode, final String typeorkind, Collection<Object> nodes);
+
+	/**
+	 * Returns the nodes of the instances of a type which are in scope.
+	 * Implementations should find them while the result is iterated over, so
+	 * callers can go through them without keeping them all in memory. It must be
+	 * possible to iterate over the result more than once. By default, they are
+	 * all collected through {@link #addAllOf(IGraphNode, String, Collection)}.
+	 */
+	default Iterable<IGraphNode> iterateAllOf(IGraphNode typeNode, final String typeorkind) {
+		final List<Object> wrappers = new ArrayList<>();
+		addAllOf(typeNode, typeorkind, wrappers);
+
+		final List<IGraphNode> nodes = new ArrayList<>(wrappers.size());
+		for (Object o : wrappers) {
+			nodes.add(((GraphNodeWrapper) o).getNode());
+		}
+		return nodes;
+	}
 }
\ No newline at end of file
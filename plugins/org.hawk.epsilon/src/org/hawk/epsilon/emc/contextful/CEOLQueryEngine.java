@@ -235,9 +235,7 @@ public class CEOLQueryEngine extends EOLQueryEngine {
 
 	@Override
 	public Collection<Object> getAllOf(IGraphNode typeNode, final String typeorkind) {
-		Collection<Object> nodes = createAllOfCollection(typeNode);
-		allOf.addAllOf(typeNode, typeorkind, nodes);
-		return nodes;
+		return createAllOfCollection(typeNode, allOf.iterateAllOf(typeNode, typeorkind));
 	}
 
 	@Override
@@ -261,6 +259,15 @@ public class CEOLQueryEngine extends EOLQueryEngine {
 		return isTraversalScopingEnabled;
 	}
 	
+	/**
+	 * Scoping only applies to the queries: derived attributes are always
+	 * computed over the whole graph, as in the regular EOL engine.
+	 */
+	@Override
+	protected EOLQueryEngine createDerivationWorker() {
+		return new EOLQueryEngine();
+	}
+
 	@Override
 	public String getHumanReadableName() {
 		return "CEOL Query Engine";
@@ -53,6 +53,13 @@ public class DerivedAllOf implements AllOf {
 
 	@Override
 	public void addAllOf(IGraphNode typeNode, String typeorkind, Collection<Object> nodes) {
+		for (IGraphNode node : iterateAllOf(typeNode, typeorkind)) {
+			nodes.add(new GraphNodeWrapper(node, engine));
+		}
+	}
+
+	@Override
+	public Iterable<IGraphNode> iterateAllOf(IGraphNode typeNode, String typeorkind) {
 		// Add derived edge if it doesn't exist
 		final TypeNode tn = new TypeNode(typeNode);
 		final String dedgeName = DEDGE_PREFIX + tn.getTypeName();
@@ -68,13 +75,13 @@ public class DerivedAllOf implements AllOf {
 					"return self.closure(e|e.eContainers);");
 		}
 
-		for (ModelElementNode root : roots.get()) {
-			for (IGraphEdge e : root.getNode().getIncomingWithType(ModelElementNode.DERIVED_EDGE_PREFIX + dedgeName)) {
+		return () -> new NodeSearchIterator<ModelElementNode, IGraphEdge>(
+			roots.get().iterator(),
+			(root) -> root.getNode().getIncomingWithType(ModelElementNode.DERIVED_EDGE_PREFIX + dedgeName),
+			(e) -> {
 				final IGraphNode derivedFeatureNode = e.getStartNode();
-				final IGraphNode sourceElementNode = derivedFeatureNode.getIncoming().iterator().next().getStartNode();
-				nodes.add(new GraphNodeWrapper(sourceElementNode, engine));
-			}
-		}
+				return derivedFeatureNode.getIncoming().iterator().next().getStartNode();
+			});
 	}
 
 	private Set<ModelElementNode> computeRoots() {
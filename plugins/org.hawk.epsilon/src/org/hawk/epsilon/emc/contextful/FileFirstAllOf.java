@@ -41,13 +41,17 @@ public class FileFirstAllOf implements AllOf {
 
 	@Override
 	public void addAllOf(IGraphNode typeNode, String typeorkind, Collection<Object> nodes) {
-		for (IGraphNode rawFileNode : allFiles.apply(typeNode)) {
-			final FileNode f = new FileNode(rawFileNode);
-			for (ModelElementNode me : f.getModelElements()) {
-				if (me.isOfKind(typeNode)) {
-					nodes.add(new GraphNodeWrapper(me.getNode(), engine));
-				}
-			}
+		for (IGraphNode node : iterateAllOf(typeNode, typeorkind)) {
+			nodes.add(new GraphNodeWrapper(node, engine));
 		}
 	}
+
+	@Override
+	public Iterable<IGraphNode> iterateAllOf(IGraphNode typeNode, String typeorkind) {
+		final boolean ofType = ModelElementNode.EDGE_LABEL_OFTYPE.equals(typeorkind);
+		return () -> new NodeSearchIterator<IGraphNode, ModelElementNode>(
+			allFiles.apply(typeNode).iterator(),
+			(rawFileNode) -> new FileNode(rawFileNode).getModelElements(),
+			(me) -> (ofType ? me.isOfType(typeNode) : me.isOfKind(typeNode)) ? me.getNode() : null);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.epsilon.emc.contextful;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import org.hawk.core.graph.IGraphNode;
+
+/**
+ * Goes through the children of a sequence of parents (e.g. the elements of a
+ * set of files), and produces the nodes selected from them. Parents and
+ * children are only fetched from the graph as they are needed.
+ *
+ * @param <P>
+ *            Type of the parents.
+ * @param <C>
+ *            Type of the children.
+ */
+class NodeSearchIterator<P, C> implements Iterator<IGraphNode> {
+
+	private final Iterator<? extends P> itParents;
+	private final Function<? super P, ? extends Iterable<? extends C>> children;
+	private final Function<? super C, IGraphNode> selector;
+
+	private Iterator<? extends C> itChildren = Collections.emptyIterator();
+	private IGraphNode next;
+
+	/**
+	 * Creates a new iterator.
+	 *
+	 * @param itParents
+	 *            Iterator over the parents.
+	 * @param children
+	 *            Function which returns the children of a parent.
+	 * @param selector
+	 *            Function which returns the node to be produced for a child,
+	 *            or <code>null</code> if it should be skipped.
+	 */
+	public NodeSearchIterator(Iterator<? extends P> itParents,
+			Function<? super P, ? extends Iterable<? extends C>> children,
+			Function<? super C, IGraphNode> selector) {
+		this.itParents = itParents;
+		this.children = children;
+		this.selector = selector;
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (next == null) {
+			if (itChildren.hasNext()) {
+				next = selector.apply(itChildren.next());
+			} else if (itParents.hasNext()) {
+				itChildren = children.apply(itParents.next()).iterator();
+			} else {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public IGraphNode next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		final IGraphNode ret = next;
+		next = null;
+		return ret;
+	}
+
+}
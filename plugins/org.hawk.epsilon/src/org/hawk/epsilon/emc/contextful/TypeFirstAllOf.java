@@ -17,6 +17,7 @@
 package org.hawk.epsilon.emc.contextful;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Function;
@@ -42,18 +43,32 @@ public class TypeFirstAllOf implements AllOf {
 	
 	@Override
 	public void addAllOf(IGraphNode typeNode, String typeorkind, Collection<Object> nodes) {
-		final Set<IGraphNode> files = new HashSet<>();
-		for (IGraphNode f : allFiles.apply(typeNode)) {
-			files.add(f);
+		for (IGraphNode node : iterateAllOf(typeNode, typeorkind)) {
+			nodes.add(new GraphNodeWrapper(node, engine));
 		}
+	}
+
+	@Override
+	public Iterable<IGraphNode> iterateAllOf(IGraphNode typeNode, String typeorkind) {
+		return () -> {
+			final Set<IGraphNode> files = new HashSet<>();
+			for (IGraphNode f : allFiles.apply(typeNode)) {
+				files.add(f);
+			}
+
+			return new NodeSearchIterator<IGraphNode, IGraphEdge>(
+				Collections.singleton(typeNode).iterator(),
+				(tn) -> tn.getIncomingWithType(typeorkind),
+				(n) -> isInFiles(n.getStartNode(), files) ? n.getStartNode() : null);
+		};
+	}
 
-		for (IGraphEdge n : typeNode.getIncomingWithType(typeorkind)) {
-			IGraphNode node = n.getStartNode();
-			for (IGraphEdge e : node.getOutgoingWithType(ModelElementNode.EDGE_LABEL_FILE)) {
-				if (files.contains(e.getEndNode())) {
-					nodes.add(new GraphNodeWrapper(node, engine));
-				}
+	private boolean isInFiles(IGraphNode node, Set<IGraphNode> files) {
+		for (IGraphEdge e : node.getOutgoingWithType(ModelElementNode.EDGE_LABEL_FILE)) {
+			if (files.contains(e.getEndNode())) {
+				return true;
 			}
 		}
+		return false;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.epsilon.emc.optimisation;
+
+import org.eclipse.epsilon.eol.dom.EqualsOperatorExpression;
+import org.eclipse.epsilon.eol.dom.Expression;
+import org.eclipse.epsilon.eol.dom.GreaterEqualOperatorExpression;
+import org.eclipse.epsilon.eol.dom.GreaterThanOperatorExpression;
+import org.eclipse.epsilon.eol.dom.LessEqualOperatorExpression;
+import org.eclipse.epsilon.eol.dom.LessThanOperatorExpression;
+import org.eclipse.epsilon.eol.dom.NotEqualsOperatorExpression;
+import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
+import org.hawk.core.graph.EmptyIGraphIterable;
+import org.hawk.core.graph.IGraphDatabase;
+import org.hawk.core.graph.IGraphIterable;
+import org.hawk.core.graph.IGraphNode;
+
+/**
+ * Single lookup on the index of an attribute, combining all the comparisons
+ * against that attribute in a conjunction: either an exact non-numeric value,
+ * or a range of numbers (e.g. <code>x.a &gt; 5 and x.a &lt; 10</code> becomes
+ * one query for <code>(5, 10)</code>, instead of two half-open ones).
+ */
+class IndexLookup {
+
+	private final String indexName, attribute;
+
+	private Object exactValue;
+	private Class<?> numericType;
+	private Number from, to;
+	private boolean fromInclusive = true, toInclusive = true;
+	private boolean unsatisfiable;
+
+	public IndexLookup(String indexName, String attribute) {
+		this.indexName = indexName;
+		this.attribute = attribute;
+	}
+
+	public String getAttribute() {
+		return attribute;
+	}
+
+	/**
+	 * Narrows down this lookup with a comparison against <code>value</code>.
+	 * Returns <code>false</code> if the comparison cannot be combined with this
+	 * lookup (e.g. it is a "!=", or it uses a different type of number).
+	 *
+	 * @throws EolRuntimeException
+	 *             A range comparison was used with a non-numeric value.
+	 */
+	public boolean restrict(Expression ast, Object value) throws EolRuntimeException {
+		final boolean isEquals = ast instanceof EqualsOperatorExpression && !(ast instanceof NotEqualsOperatorExpression);
+		final boolean isLower = ast instanceof GreaterThanOperatorExpression || ast instanceof GreaterEqualOperatorExpression;
+		final boolean isUpper = ast instanceof LessThanOperatorExpression || ast instanceof LessEqualOperatorExpression;
+		if (!isEquals && !isLower && !isUpper) {
+			return false;
+		}
+
+		if (!(value instanceof Integer || value instanceof Long || value instanceof Double)) {
+			if (!isEquals) {
+				throw new EolRuntimeException(getOperatorSymbol(ast)
+					+ " used with a non numeric value (" + value.getClass() + ")");
+			} else if (numericType != null) {
+				return false;
+			}
+
+			if (exactValue == null) {
+				exactValue = value;
+			} else if (!exactValue.equals(value)) {
+				unsatisfiable = true;
+			}
+			return true;
+		}
+
+		if (exactValue != null || numericType != null && numericType != value.getClass()) {
+			return false;
+		}
+		numericType = value.getClass();
+
+		final Number n = (Number) value;
+		if (isEquals || isLower) {
+			final boolean inclusive = !(ast instanceof GreaterThanOperatorExpression);
+			final int cmp = from == null ? 1 : compare(n, from);
+			if (cmp > 0) {
+				from = n;
+				fromInclusive = inclusive;
+			} else if (cmp == 0) {
+				fromInclusive = fromInclusive && inclusive;
+			}
+		}
+		if (isEquals || isUpper) {
+			final boolean inclusive = !(ast instanceof LessThanOperatorExpression);
+			final int cmp = to == null ? -1 : compare(n, to);
+			if (cmp < 0) {
+				to = n;
+				toInclusive = inclusive;
+			} else if (cmp == 0) {
+				toInclusive = toInclusive && inclusive;
+			}
+		}
+		if (from != null && to != null) {
+			final int cmp = compare(from, to);
+			unsatisfiable = cmp > 0 || cmp == 0 && !(fromInclusive && toInclusive);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Runs the lookup. Must be called within a transaction.
+	 */
+	public IGraphIterable<? extends IGraphNode> query(IGraphDatabase graph) {
+		if (unsatisfiable) {
+			return new EmptyIGraphIterable<>();
+		} else if (numericType == null) {
+			return graph.getOrCreateNodeIndex(indexName).get(attribute, exactValue);
+		}
+
+		Number qFrom = from, qTo = to;
+		if (numericType == Integer.class) {
+			qFrom = qFrom == null ? Integer.MIN_VALUE : qFrom;
+			qTo = qTo == null ? Integer.MAX_VALUE : qTo;
+		} else if (numericType == Long.class) {
+			qFrom = qFrom == null ? Long.MIN_VALUE : qFrom;
+			qTo = qTo == null ? Long.MAX_VALUE : qTo;
+		} else {
+			qFrom = qFrom == null ? -Double.MAX_VALUE : qFrom;
+			qTo = qTo == null ? Double.MAX_VALUE : qTo;
+		}
+
+		return graph.getOrCreateNodeIndex(indexName).query(attribute, qFrom, qTo, fromInclusive, toInclusive);
+	}
+
+	@Override
+	public String toString() {
+		if (numericType == null) {
+			return String.format("IndexLookup [%s = %s]", attribute, exactValue);
+		}
+		return String.format("IndexLookup [%s in %s%s, %s%s]", attribute,
+			fromInclusive ? "[" : "(", from == null ? "-inf" : from,
+			to == null ? "+inf" : to, toInclusive ? "]" : ")");
+	}
+
+	private int compare(Number a, Number b) {
+		if (numericType == Double.class) {
+			return Double.compare(a.doubleValue(), b.doubleValue());
+		}
+		return Long.compare(a.longValue(), b.longValue());
+	}
+
+	private static String getOperatorSymbol(Expression ast) {
+		if (ast instanceof GreaterEqualOperatorExpression) {
+			return ">=";
+		} else if (ast instanceof GreaterThanOperatorExpression) {
+			return ">";
+		} else if (ast instanceof LessEqualOperatorExpression) {
+			return "<=";
+		} else {
+			return "<";
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011-2015 The University of York.
+ * Copyright (c) 2011-2018 The University of York, Aston University.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,23 +13,49 @@
  *
  * Contributors:
  *     Konstantinos Barmpis - initial API and implementation
+ *     Antonio Garcia-Dominguez - lazy loading of type extents
  ******************************************************************************/
 package org.hawk.epsilon.emc.optimisation;
 
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Spliterator;
 
 import org.eclipse.epsilon.eol.execute.operations.AbstractOperation;
 import org.eclipse.epsilon.eol.execute.operations.declarative.IAbstractOperationContributor;
 import org.eclipse.epsilon.eol.models.IModel;
+import org.hawk.core.graph.IGraphEdge;
+import org.hawk.core.graph.IGraphIterable;
+import org.hawk.core.graph.IGraphTransaction;
 import org.hawk.epsilon.emc.EOLQueryEngine;
+import org.hawk.epsilon.emc.optimisation.OptimisableCollectionFirstOrderOperation.Kind;
 import org.hawk.epsilon.emc.wrappers.GraphNodeWrapper;
+import org.hawk.graph.ModelElementNode;
 
+/**
+ * Set of model elements which can use the indexed attributes of their type to
+ * speed up <code>select</code>, <code>selectOne</code>, <code>exists</code>,
+ * <code>forAll</code>, <code>reject</code> and <code>count</code>. If created
+ * through {@link #OptimisableCollection(IModel, GraphNodeWrapper, String)}, it
+ * holds all the instances of the type, but these are only fetched from the
+ * graph once they are needed: operations that can be answered from the
+ * indexes, {@link #size()}, {@link #isEmpty()} and {@link #contains(Object)}
+ * will not need them at all.
+ */
 public class OptimisableCollection extends HashSet<Object> implements
 		IAbstractOperationContributor {
 
 	protected EOLQueryEngine model;
 	protected GraphNodeWrapper type = null;
 
+	/**
+	 * Label of the edges from the instances to {@link #type} if this is its
+	 * full extent, or <code>null</code> otherwise.
+	 */
+	protected String typeorkind;
+	private boolean loaded;
+
 	protected OptimisableCollectionSelectOperation indexedAttributeListSelectOperation = new OptimisableCollectionSelectOperation();
 
 	/**
@@ -38,18 +64,42 @@ public class OptimisableCollection extends HashSet<Object> implements
 	private static final long serialVersionUID = 1L;
 
 	public OptimisableCollection(IModel m, GraphNodeWrapper t) {
+		this(m, t, null);
+	}
+
+	/**
+	 * Creates a collection with all the instances of a type, which will be
+	 * fetched from the graph on first access.
+	 *
+	 * @param typeorkind
+	 *            Label of the edges from the instances to the type node (
+	 *            <code>ofType</code> or <code>ofKind</code>).
+	 */
+	public OptimisableCollection(IModel m, GraphNodeWrapper t, String typeorkind) {
 
 		model = (EOLQueryEngine) m;
 
 		if (type == null)
 			type = t;
 
+		this.typeorkind = typeorkind;
+		this.loaded = typeorkind == null;
 	}
 
 	@Override
 	public AbstractOperation getAbstractOperation(String name) {
 		if ("select".equals(name)) {
 			return indexedAttributeListSelectOperation;
+		} else if ("selectOne".equals(name)) {
+			return new OptimisableCollectionFirstOrderOperation(indexedAttributeListSelectOperation, Kind.SELECT_ONE);
+		} else if ("exists".equals(name)) {
+			return new OptimisableCollectionFirstOrderOperation(indexedAttributeListSelectOperation, Kind.EXISTS);
+		} else if ("forAll".equals(name)) {
+			return new OptimisableCollectionFirstOrderOperation(indexedAttributeListSelectOperation, Kind.FOR_ALL);
+		} else if ("reject".equals(name)) {
+			return new OptimisableCollectionFirstOrderOperation(indexedAttributeListSelectOperation, Kind.REJECT);
+		} else if ("count".equals(name)) {
+			return new OptimisableCollectionFirstOrderOperation(indexedAttributeListSelectOperation, Kind.COUNT);
 		} else
 			return null;
 	}
@@ -58,4 +108,180 @@ public class OptimisableCollection extends HashSet<Object> implements
 		return model;
 	}
 
+	/**
+	 * Returns <code>true</code> if this collection still contains exactly all
+	 * the instances of its type (through {@link #getTypeOrKind()} edges).
+	 */
+	public boolean isFullExtent() {
+		return typeorkind != null;
+	}
+
+	/**
+	 * Returns the label of the edges from the instances to the type node, if
+	 * {@link #isFullExtent()} is <code>true</code>.
+	 */
+	public String getTypeOrKind() {
+		return typeorkind;
+	}
+
+	/**
+	 * Returns <code>true</code> if the instances have been fetched from the
+	 * graph already.
+	 */
+	public boolean isLoaded() {
+		return loaded;
+	}
+
+	protected void ensureLoaded() {
+		if (loaded) {
+			return;
+		}
+
+		try (IGraphTransaction tx = model.getBackend().beginTransaction()) {
+			for (IGraphEdge e : type.getNode().getIncomingWithType(typeorkind)) {
+				super.add(new GraphNodeWrapper(e.getStartNode(), model));
+			}
+			tx.success();
+		} catch (Exception e) {
+			super.clear();
+			throw new IllegalStateException("Could not fetch the instances of " + type.getTypeName(), e);
+		}
+		loaded = true;
+	}
+
+	private void modified() {
+		ensureLoaded();
+		typeorkind = null;
+	}
+
+	@Override
+	public Iterator<Object> iterator() {
+		ensureLoaded();
+		final Iterator<Object> it = super.iterator();
+		return new Iterator<Object>() {
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public Object next() {
+				return it.next();
+			}
+
+			@Override
+			public void remove() {
+				it.remove();
+				typeorkind = null;
+			}
+		};
+	}
+
+	@Override
+	public Spliterator<Object> spliterator() {
+		ensureLoaded();
+		return super.spliterator();
+	}
+
+	@Override
+	public int size() {
+		if (loaded) {
+			return super.size();
+		}
+
+		try (IGraphTransaction tx = model.getBackend().beginTransaction()) {
+			final Iterable<IGraphEdge> edges = type.getNode().getIncomingWithType(typeorkind);
+			int size;
+			if (edges instanceof IGraphIterable) {
+				size = ((IGraphIterable<IGraphEdge>) edges).size();
+			} else {
+				size = 0;
+				for (Iterator<IGraphEdge> it = edges.iterator(); it.hasNext(); it.next()) {
+					size++;
+				}
+			}
+			tx.success();
+			return size;
+		} catch (Exception e) {
+			throw new IllegalStateException("Could not count the instances of " + type.getTypeName(), e);
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		if (loaded) {
+			return super.isEmpty();
+		}
+
+		try (IGraphTransaction tx = model.getBackend().beginTransaction()) {
+			final boolean empty = !type.getNode().getIncomingWithType(typeorkind).iterator().hasNext();
+			tx.success();
+			return empty;
+		} catch (Exception e) {
+			throw new IllegalStateException("Could not check the instances of " + type.getTypeName(), e);
+		}
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		if (loaded) {
+			return super.contains(o);
+		} else if (!(o instanceof GraphNodeWrapper) || !model.equals(((GraphNodeWrapper) o).getContainerModel())) {
+			return false;
+		}
+
+		// check the edges of the element instead of fetching all the instances
+		try (IGraphTransaction tx = model.getBackend().beginTransaction()) {
+			final ModelElementNode men = new ModelElementNode(((GraphNodeWrapper) o).getNode());
+			final boolean contained = ModelElementNode.EDGE_LABEL_OFTYPE.equals(typeorkind)
+				? men.isOfType(type.getNode()) : men.isOfKind(type.getNode());
+			tx.success();
+			return contained;
+		} catch (Exception e) {
+			throw new IllegalStateException("Could not check the type of " + o, e);
+		}
+	}
+
+	@Override
+	public Object[] toArray() {
+		ensureLoaded();
+		return super.toArray();
+	}
+
+	@Override
+	public <T> T[] toArray(T[] a) {
+		ensureLoaded();
+		return super.toArray(a);
+	}
+
+	@Override
+	public boolean add(Object e) {
+		modified();
+		return super.add(e);
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends Object> c) {
+		modified();
+		return super.addAll(c);
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		modified();
+		return super.remove(o);
+	}
+
+	@Override
+	public void clear() {
+		modified();
+		super.clear();
+	}
+
+	@Override
+	public Object clone() {
+		ensureLoaded();
+		return super.clone();
+	}
+
 }
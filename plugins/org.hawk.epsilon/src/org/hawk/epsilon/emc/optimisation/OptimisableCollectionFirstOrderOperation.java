@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.epsilon.emc.optimisation;
+
+import java.util.List;
+
+import org.eclipse.epsilon.eol.dom.Expression;
+import org.eclipse.epsilon.eol.dom.NameExpression;
+import org.eclipse.epsilon.eol.dom.Parameter;
+import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
+import org.eclipse.epsilon.eol.execute.context.IEolContext;
+import org.eclipse.epsilon.eol.execute.context.Variable;
+import org.eclipse.epsilon.eol.execute.operations.declarative.FirstOrderOperation;
+
+/**
+ * Index-aware version of the first-order operations other than
+ * <code>select</code> over an {@link OptimisableCollection}, which delegates
+ * on the {@link OptimisableCollectionSelectOperation} of the collection.
+ */
+public class OptimisableCollectionFirstOrderOperation extends FirstOrderOperation {
+
+	public enum Kind {
+		SELECT_ONE, EXISTS, FOR_ALL, REJECT, COUNT;
+	}
+
+	private final OptimisableCollectionSelectOperation selectOperation;
+	private final Kind kind;
+
+	public OptimisableCollectionFirstOrderOperation(OptimisableCollectionSelectOperation selectOperation, Kind kind) {
+		this.selectOperation = selectOperation;
+		this.kind = kind;
+	}
+
+	@Override
+	public Object execute(Object target, NameExpression operationNameExpression, List<Parameter> iterators,
+			List<Expression> expressions, IEolContext context) throws EolRuntimeException {
+		if (kind == Kind.COUNT && iterators.isEmpty()) {
+			// plain count(item): elements are unique, so it can only be 0 or 1
+			final Object item = context.getExecutorFactory().execute(expressions.get(0), context);
+			return ((OptimisableCollection) target).contains(item) ? 1 : 0;
+		}
+
+		return super.execute(target, operationNameExpression, iterators, expressions, context);
+	}
+
+	@Override
+	public Object execute(Object target, Variable iterator, Expression expression, IEolContext context) throws EolRuntimeException {
+		switch (kind) {
+		case SELECT_ONE:
+			return selectOperation.selectOne(target, iterator, expression, context);
+		case EXISTS:
+			return selectOperation.selectOne(target, iterator, expression, context) != null;
+		case FOR_ALL:
+			return selectOperation.forAll(target, iterator, expression, context);
+		case REJECT:
+			return selectOperation.reject(target, iterator, expression, context);
+		case COUNT:
+			return selectOperation.count(target, iterator, expression, context);
+		default:
+			throw new EolRuntimeException("Unknown operation kind " + kind, expression);
+		}
+	}
+
+}
@@ -17,10 +17,15 @@
  ******************************************************************************/
 package org.hawk.epsilon.emc.optimisation;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.epsilon.eol.dom.AndOperatorExpression;
@@ -39,27 +44,30 @@ import org.eclipse.epsilon.eol.dom.OrOperatorExpression;
 import org.eclipse.epsilon.eol.dom.PropertyCallExpression;
 import org.eclipse.epsilon.eol.dom.XorOperatorExpression;
 import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
+import org.eclipse.epsilon.eol.execute.context.FrameStack;
+import org.eclipse.epsilon.eol.execute.context.FrameType;
 import org.eclipse.epsilon.eol.execute.context.IEolContext;
 import org.eclipse.epsilon.eol.execute.context.Variable;
 import org.eclipse.epsilon.eol.execute.operations.declarative.SelectOperation;
 import org.hawk.core.IModelIndexer;
 import org.hawk.core.graph.IGraphDatabase;
+import org.hawk.core.graph.IGraphEdge;
 import org.hawk.core.graph.IGraphIterable;
 import org.hawk.core.graph.IGraphNode;
-import org.hawk.core.graph.IGraphNodeIndex;
 import org.hawk.core.graph.IGraphTransaction;
 import org.hawk.core.util.Utils;
 import org.hawk.epsilon.emc.AbstractHawkModel;
 import org.hawk.epsilon.emc.EOLQueryEngine;
 import org.hawk.epsilon.emc.wrappers.GraphNodeWrapper;
+import org.hawk.graph.ModelElementNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class OptimisableCollectionSelectOperation extends SelectOperation {
 
-	// XXX can also index subsets of X.all as the context is kept. but this may
-	// be counter-productive as you may end up doing a retain all on a list of a
-	// couple of elements into an indexed result of millions
+	// XXX can also index subsets of X.all as the context is kept: the
+	// intersection goes through the smaller side, but the index may still
+	// return millions of hits for a target of a couple of elements
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(OptimisableCollectionSelectOperation.class);
 
@@ -71,27 +79,134 @@ public class OptimisableCollectionSelectOperation extends SelectOperation {
 	IGraphNode metaclass;
 	IGraphDatabase graph = null;
 
+	/**
+	 * <code>true</code> if the target only has direct instances of
+	 * {@link #metaclass}.
+	 */
+	private boolean ofTypeTarget;
+
+	/**
+	 * Whether {@link #metaclass} has instances of its subtypes, or
+	 * <code>null</code> if it has not been checked yet.
+	 */
+	private Boolean hasSubtypeInstances;
+
 	@Override
 	public Object execute(Object target, Variable iterator, Expression ast, IEolContext context,
 			boolean returnOnFirstMatch) throws EolRuntimeException {
 
 		try {
+			prepare(target, iterator, context);
+			return decomposeAST(target, ast);
+		} catch (Exception e) {
+			throw new EolRuntimeException("select(...) failed: " + e.getMessage(), ast);
+		}
+	}
+
+	/**
+	 * Returns the first element of the target that satisfies <code>ast</code>,
+	 * or <code>null</code> if there is none. Stops at the first index hit
+	 * within the target if possible.
+	 */
+	public Object selectOne(Object target, Variable iterator, Expression ast, IEolContext context) throws EolRuntimeException {
+		try {
+			prepare(target, iterator, context);
+			return findFirst(target, ast);
+		} catch (Exception e) {
+			throw new EolRuntimeException("selectOne(...) failed: " + e.getMessage(), ast);
+		}
+	}
 
-			this.context = context;
-			// cannot guarantee correctness if returnOnFirstMatch is used
-			this.returnOnFirstMatch = false;
-			this.iterator = iterator;
-			model = (EOLQueryEngine) ((OptimisableCollection) target).getModel();
+	/**
+	 * Returns <code>true</code> if all the elements of the target satisfy
+	 * <code>ast</code>. If it can be answered from an index, it compares the
+	 * number of hits with the size of the target instead.
+	 */
+	public boolean forAll(Object target, Variable iterator, Expression ast, IEolContext context) throws EolRuntimeException {
+		try {
+			prepare(target, iterator, context);
 
-			graph = model.getBackend();
-			try (IGraphTransaction ignored = graph.beginTransaction()) {
-				metaclass = ((OptimisableCollection) target).type.getNode();
-				ignored.success();
+			final Collection<?> targetCollection = (Collection<?>) target;
+			if (isOptimisable(ast)) {
+				final int hitCount = countIndexHits(target, ast);
+				if (hitCount >= 0) {
+					return hitCount == targetCollection.size();
+				}
+			} else if (isLogical(ast)) {
+				return decomposeAST(target, ast).size() == targetCollection.size();
 			}
 
-			return decomposeAST(target, ast);
+			for (Object item : targetCollection) {
+				if (iterator.getType() == null || iterator.getType().isKind(item)) {
+					final Object bodyResult = evaluate(item, ast);
+					if (bodyResult instanceof Boolean && !(Boolean) bodyResult) {
+						return false;
+					}
+				}
+			}
+			return true;
 		} catch (Exception e) {
-			throw new EolRuntimeException("select(...) failed: " + e.getMessage(), ast);
+			throw new EolRuntimeException("forAll(...) failed: " + e.getMessage(), ast);
+		}
+	}
+
+	/**
+	 * Returns the elements of the target that do not satisfy <code>ast</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	public Collection<Object> reject(Object target, Variable iterator, Expression ast, IEolContext context) throws EolRuntimeException {
+		try {
+			prepare(target, iterator, context);
+
+			final Collection<Object> selected = decomposeAST(target, ast);
+			final Set<Object> selectedSet = selected instanceof Set ? (Set<Object>) selected : new HashSet<>(selected);
+			final Set<Object> result = new HashSet<>();
+			for (Object o : (Collection<Object>) target) {
+				if (!selectedSet.contains(o)) {
+					result.add(o);
+				}
+			}
+			return result;
+		} catch (Exception e) {
+			throw new EolRuntimeException("reject(...) failed: " + e.getMessage(), ast);
+		}
+	}
+
+	/**
+	 * Returns the number of elements of the target that satisfy
+	 * <code>ast</code>. If it can be answered from an index, it does not need
+	 * to fetch the matching nodes.
+	 */
+	public int count(Object target, Variable iterator, Expression ast, IEolContext context) throws EolRuntimeException {
+		try {
+			prepare(target, iterator, context);
+
+			if (isOptimisable(ast)) {
+				final int hitCount = countIndexHits(target, ast);
+				if (hitCount >= 0) {
+					return hitCount;
+				}
+			}
+			return decomposeAST(target, ast).size();
+		} catch (Exception e) {
+			throw new EolRuntimeException("count(...) failed: " + e.getMessage(), ast);
+		}
+	}
+
+	protected void prepare(Object target, Variable iterator, IEolContext context) throws Exception {
+		this.context = context;
+		// cannot guarantee correctness if returnOnFirstMatch is used
+		this.returnOnFirstMatch = false;
+		this.iterator = iterator;
+		model = (EOLQueryEngine) ((OptimisableCollection) target).getModel();
+		ofTypeTarget = isFullExtent(target)
+			&& ModelElementNode.EDGE_LABEL_OFTYPE.equals(((OptimisableCollection) target).getTypeOrKind());
+		hasSubtypeInstances = null;
+
+		graph = model.getBackend();
+		try (IGraphTransaction ignored = graph.beginTransaction()) {
+			metaclass = ((OptimisableCollection) target).type.getNode();
+			ignored.success();
 		}
 	}
 
@@ -124,6 +239,87 @@ public class OptimisableCollectionSelectOperation extends SelectOperation {
 
 	}
 
+	@SuppressWarnings("unchecked")
+	private Object findFirst(Object target, Expression ast) throws Exception {
+		if (isOptimisable(ast)) {
+			boolean indexed = false;
+			GraphNodeWrapper first = null;
+			try (IGraphTransaction ignored = graph.beginTransaction()) {
+				final IGraphIterable<? extends IGraphNode> hits = queryIndex(ast);
+				if (hits != null) {
+					indexed = true;
+					for (Iterator<? extends IGraphNode> itHits = hits.iterator(); first == null && itHits.hasNext();) {
+						first = wrapIfContained(target, itHits.next());
+					}
+				}
+				ignored.success();
+			}
+			if (indexed) {
+				return first;
+			}
+		} else if (ast instanceof AndOperatorExpression) {
+			// narrow down through the index, then stop at the first match of the other side
+			final Expression lOperand = ((AndOperatorExpression) ast).getFirstOperand();
+			final Expression rOperand = ((AndOperatorExpression) ast).getSecondOperand();
+			if (isOptimisable(lOperand)) {
+				return findFirst(optimisedExecution(target, lOperand), rOperand);
+			} else if (isOptimisable(rOperand)) {
+				return findFirst(optimisedExecution(target, rOperand), lOperand);
+			}
+		}
+
+		final Collection<Object> matches = isLogical(ast) ? decomposeAST(target, ast)
+			: (Collection<Object>) super.execute(target, iterator, ast, context, true);
+		return matches.isEmpty() ? null : matches.iterator().next();
+	}
+
+	/**
+	 * Counts the index hits for an optimisable expression which are in the
+	 * target, or returns -1 if it cannot be answered from an index.
+	 */
+	private int countIndexHits(Object target, Expression ast) throws Exception {
+		try (IGraphTransaction ignored = graph.beginTransaction()) {
+			final IGraphIterable<? extends IGraphNode> hits = queryIndex(ast);
+
+			int count;
+			if (hits == null) {
+				count = -1;
+			} else if (isFullExtent(target)) {
+				// the index is only used if all its hits are in the target: no need to go through them
+				count = hits.size();
+			} else {
+				count = 0;
+				for (IGraphNode hit : hits) {
+					if (wrapIfContained(target, hit) != null) {
+						count++;
+					}
+				}
+			}
+
+			ignored.success();
+			return count;
+		}
+	}
+
+	private Object evaluate(Object item, Expression ast) throws EolRuntimeException {
+		final FrameStack scope = context.getFrameStack();
+		scope.enterLocal(FrameType.UNPROTECTED, ast);
+		try {
+			scope.put(Variable.createReadOnlyVariable(iterator.getName(), item));
+			return context.getExecutorFactory().execute(ast, context);
+		} finally {
+			scope.leaveLocal(ast);
+		}
+	}
+
+	private static boolean isLogical(Expression ast) {
+		return ast instanceof AndOperatorExpression
+			|| ast instanceof OrOperatorExpression
+			|| ast instanceof XorOperatorExpression
+			|| ast instanceof ImpliesOperatorExpression
+			|| ast instanceof NotOperatorExpression;
+	}
+
 	@SuppressWarnings("unchecked")
 	private Collection<Object> implies(Object target, ImpliesOperatorExpression ast) throws Exception {
 
@@ -232,38 +428,149 @@ public class OptimisableCollectionSelectOperation extends SelectOperation {
 		return filter;
 	}
 
+	@SuppressWarnings("unchecked")
 	private Collection<Object> and(Object target, AndOperatorExpression ast) throws Exception {
+		final List<Expression> conjuncts = new ArrayList<>();
+		flattenConjuncts(ast, conjuncts);
+
+		// combine the comparisons on the same indexed attribute into a single lookup
+		final List<IndexLookup> lookups = new ArrayList<>();
+		final List<Expression> others = new ArrayList<>();
+		for (Expression conjunct : conjuncts) {
+			if (!isOptimisable(conjunct) || !addToLookups(conjunct, lookups)) {
+				others.add(conjunct);
+			}
+		}
 
-		// System.err.println("anding:
-		// "+lOperand.toStringTree()+"\n"+rOperand.toStringTree());
+		Object current = target;
+		if (!lookups.isEmpty()) {
+			current = intersectLookups(target, lookups, ast);
+		}
 
-		final Expression lOperand = ast.getFirstOperand();
-		final Expression rOperand = ast.getSecondOperand();
-		final boolean lOptimisable = isOptimisable(lOperand);
-		final boolean rOptimisable = isOptimisable(rOperand);
+		// the rest is evaluated over what is left, in the original order
+		for (Expression other : others) {
+			current = decomposeAST(current, other);
+		}
+		return (Collection<Object>) current;
+	}
 
-		final Collection<Object> filter = new HashSet<>();
-		if (lOptimisable && rOptimisable) {
-			filter.addAll(optimisedExecution(optimisedExecution(target, lOperand), rOperand));
-		} else if (lOptimisable) {
-			filter.addAll(decomposeAST(optimisedExecution(target, lOperand), rOperand));
-		} else if (rOptimisable) {
-			filter.addAll(decomposeAST(optimisedExecution(target, rOperand), lOperand));
+	private static void flattenConjuncts(Expression ast, List<Expression> conjuncts) {
+		if (ast instanceof AndOperatorExpression) {
+			flattenConjuncts(((AndOperatorExpression) ast).getFirstOperand(), conjuncts);
+			flattenConjuncts(((AndOperatorExpression) ast).getSecondOperand(), conjuncts);
 		} else {
-			filter.addAll(decomposeAST(decomposeAST(target, lOperand), rOperand));
-			// modifiedlist = (Collection<?>)
-			// super.execute(modifiedlist,iterator, ast, context,
-			// returnOnFirstMatch);
+			conjuncts.add(ast);
 		}
+	}
 
-		return filter;
+	/**
+	 * Runs the lookups from the most to the least selective one (using their
+	 * number of hits as an estimate), intersecting the hits by node ID, and
+	 * returns the wrappers of the surviving hits which are in the target.
+	 */
+	private Set<Object> intersectLookups(Object target, List<IndexLookup> lookups, Expression ast) throws EolRuntimeException {
+		final Set<Object> result = new HashSet<>();
 
+		try (IGraphTransaction ignored = graph.beginTransaction()) {
+			final List<IGraphIterable<? extends IGraphNode>> hitsByLookup = new ArrayList<>();
+			for (IndexLookup lookup : lookups) {
+				hitsByLookup.add(lookup.query(graph));
+			}
+			if (hitsByLookup.size() > 1) {
+				final Map<IGraphIterable<? extends IGraphNode>, Integer> sizes = new IdentityHashMap<>();
+				for (IGraphIterable<? extends IGraphNode> hits : hitsByLookup) {
+					sizes.put(hits, hits.size());
+				}
+				hitsByLookup.sort((l, r) -> Integer.compare(sizes.get(l), sizes.get(r)));
+			}
+
+			Map<Object, IGraphNode> candidates = null;
+			for (IGraphIterable<? extends IGraphNode> hits : hitsByLookup) {
+				final Map<Object, IGraphNode> survivors = new HashMap<>();
+				for (IGraphNode hit : hits) {
+					if (candidates == null || candidates.containsKey(hit.getId())) {
+						survivors.put(hit.getId(), hit);
+					}
+				}
+				candidates = survivors;
+				if (candidates.isEmpty()) {
+					break;
+				}
+			}
+
+			for (IGraphNode node : candidates.values()) {
+				final GraphNodeWrapper wrapper = wrapIfContained(target, node);
+				if (wrapper != null) {
+					result.add(wrapper);
+				}
+			}
+
+			ignored.success();
+		} catch (Exception e) {
+			throw new EolRuntimeException("select optimisation failed: " + e.getMessage(), ast);
+		}
+
+		return result;
 	}
 
 	@SuppressWarnings("unchecked")
 	private Collection<Object> optimisedExecution(Object target, Expression ast) throws EolRuntimeException {
-
 		// NOTE: this assumes that isOptimisable(ast) returned true
+
+		/*
+		 * If the target is X.all, the hits are already the result and we do
+		 * not need to fetch all the instances of X.
+		 */
+		final boolean fullExtent = isFullExtent(target);
+		final Set<Object> filter = new HashSet<Object>();
+
+		// use index to query
+		boolean indexed = false;
+		try (IGraphTransaction ignored = graph.beginTransaction()) {
+			final IGraphIterable<? extends IGraphNode> hits = queryIndex(ast);
+			if (hits != null) {
+				indexed = true;
+				for (IGraphNode hit : hits) {
+					final GraphNodeWrapper wrapper = fullExtent ? wrapIfContained(target, hit) : new GraphNodeWrapper(hit, model);
+					if (wrapper != null) {
+						filter.add(wrapper);
+					}
+				}
+			}
+			ignored.success();
+		} catch (Exception e) {
+			throw new EolRuntimeException("select optimisation failed: " + e.getMessage(), ast);
+		}
+
+		if (!indexed) {
+			return (Collection<Object>) super.execute(target, iterator, (Expression) ast, context, returnOnFirstMatch);
+		} else if (fullExtent) {
+			return filter;
+		} else {
+			return intersect((Collection<Object>) target, filter);
+		}
+	}
+
+	/**
+	 * Evaluates the value side of an optimisable expression and queries the
+	 * index of its attribute. Returns <code>null</code> if the expression
+	 * cannot be answered from an index. Must be called within a transaction.
+	 */
+	private IGraphIterable<? extends IGraphNode> queryIndex(Expression ast) throws EolRuntimeException {
+		final List<IndexLookup> lookups = new ArrayList<>(1);
+		if (!addToLookups(ast, lookups)) {
+			return null;
+		}
+		return lookups.get(0).query(graph);
+	}
+
+	/**
+	 * Adds an optimisable expression to the lookup on the same attribute in
+	 * <code>lookups</code>, or to a new lookup if there is none or they cannot
+	 * be combined. Returns <code>false</code> if the expression cannot be
+	 * answered from an index.
+	 */
+	private boolean addToLookups(Expression ast, List<IndexLookup> lookups) throws EolRuntimeException {
 		final OperatorExpression opExp = (OperatorExpression) ast;
 		final PropertyCallExpression lOperand = (PropertyCallExpression) opExp.getFirstOperand();
 		final String attributename = lOperand.getPropertyNameExpression().getName();
@@ -280,125 +587,90 @@ public class OptimisableCollectionSelectOperation extends SelectOperation {
 					+ "\ncannot be evaluated using database indexing,\nas the iterator variable of the current select operation ({}) "
 					+ "is not used in this process.\nDefaulting to Epsilon's select", ast, iterator.getName());
 		}
+		if (attributevalue == null) {
+			return false;
+		}
 
-		String indexname;
-		if (attributevalue != null && (indexname = isIndexed(attributename)) != null) {
-			if (!(attributevalue instanceof Collection<?>)) {
-				attributevalue = AbstractHawkModel.toPrimitive(attributevalue);
-			} else {
-				Collection<?> cRet = (Collection<?>) attributevalue;
-				Object[] aRet = new Object[cRet.size()];
-				int count = 0;
-				for (Iterator<?> it = cRet.iterator(); it.hasNext();) {
-					aRet[count] = AbstractHawkModel.toPrimitive(it.next());
-					count++;
-				}
-				// flatten to allow comparison to index value (which cannot be
-				// multi-valued)
-				attributevalue = Arrays.toString(aRet);
+		if (!(attributevalue instanceof Collection<?>)) {
+			attributevalue = AbstractHawkModel.toPrimitive(attributevalue);
+		} else {
+			Collection<?> cRet = (Collection<?>) attributevalue;
+			Object[] aRet = new Object[cRet.size()];
+			int count = 0;
+			for (Iterator<?> it = cRet.iterator(); it.hasNext();) {
+				aRet[count] = AbstractHawkModel.toPrimitive(it.next());
+				count++;
 			}
+			// flatten to allow comparison to index value (which cannot be
+			// multi-valued)
+			attributevalue = Arrays.toString(aRet);
+		}
 
-			final Set<Object> result = new HashSet<Object>((Collection<Object>) target);
-			System.err.println(String.format("indexed ast found: %s.%s %s %s (type: %s)",
-					variableName, attributename, ast.getClass().getName(),
-					new Utils().toString(attributevalue),
-					attributevalue.getClass().getName()));
-
-			final Set<Object> filter = new HashSet<Object>();
-
-			// use index to query
-			try (IGraphTransaction ignored = graph.beginTransaction()) {
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("optimisable ast found: {}.{} {} {} (type: {})",
+				variableName, attributename, ast.getClass().getName(),
+				new Utils().toString(attributevalue),
+				attributevalue.getClass().getName());
+		}
 
-				IGraphNodeIndex index = graph.getOrCreateNodeIndex(indexname);
-
-				//
-				IGraphIterable<? extends IGraphNode> hits = null;
-
-				if (ast instanceof EqualsOperatorExpression && !(ast instanceof NotEqualsOperatorExpression)) {
-					if (attributevalue instanceof Integer)
-						hits = index.query(attributename, (int) attributevalue, (int) attributevalue, true, true);
-					else if (attributevalue instanceof Long)
-						hits = index.query(attributename, (long) attributevalue, (long) attributevalue, true, true);
-					else if (attributevalue instanceof Double)
-						hits = index.query(attributename, (double) attributevalue, (double) attributevalue, true, true);
-					else
-						hits = index.get(attributename, attributevalue);
-				} else if (ast instanceof GreaterEqualOperatorExpression) {
-					if (attributevalue instanceof Integer)
-						hits = index.query(attributename, (int) attributevalue, Integer.MAX_VALUE, true, true);
-					else if (attributevalue instanceof Long)
-						hits = index.query(attributename, (long) attributevalue, Long.MAX_VALUE, true, true);
-					else if (attributevalue instanceof Double)
-						hits = index.query(attributename, (double) attributevalue, Double.MAX_VALUE, true, true);
-					else
-						throw new EolRuntimeException(
-								">= used with a non numeric value (" + attributevalue.getClass() + ")");
-				} else if (ast instanceof GreaterThanOperatorExpression) {
-					if (attributevalue instanceof Integer)
-						hits = index.query(attributename, (int) attributevalue, Integer.MAX_VALUE, false, true);
-					else if (attributevalue instanceof Long)
-						hits = index.query(attributename, (long) attributevalue, Long.MAX_VALUE, false, true);
-					else if (attributevalue instanceof Double)
-						hits = index.query(attributename, (double) attributevalue, Double.MAX_VALUE, false, true);
-					else
-						throw new EolRuntimeException(
-								"> used with a non numeric value (" + attributevalue.getClass() + ")");
-				} else if (ast instanceof LessEqualOperatorExpression) {
-					if (attributevalue instanceof Integer)
-						hits = index.query(attributename, Integer.MIN_VALUE, (int) attributevalue, true, true);
-					else if (attributevalue instanceof Long)
-						hits = index.query(attributename, Long.MIN_VALUE, (long) attributevalue, true, true);
-					else if (attributevalue instanceof Double)
-						hits = index.query(attributename, Double.MIN_VALUE, (double) attributevalue, true, true);
-					else
-						throw new EolRuntimeException(
-								"<= used with a non numeric value (" + attributevalue.getClass() + ")");
-				} else if (ast instanceof LessThanOperatorExpression) {
-					if (attributevalue instanceof Integer)
-						hits = index.query(attributename, Integer.MIN_VALUE, (int) attributevalue, true, false);
-					else if (attributevalue instanceof Long)
-						hits = index.query(attributename, Long.MIN_VALUE, (long) attributevalue, true, false);
-					else if (attributevalue instanceof Double)
-						hits = index.query(attributename, Double.MIN_VALUE, (double) attributevalue, true, false);
-					else
-						throw new EolRuntimeException(
-								"< used with a non numeric value (" + attributevalue.getClass() + ")");
-				}
+		for (IndexLookup lookup : lookups) {
+			if (lookup.getAttribute().equals(attributename) && lookup.restrict(ast, attributevalue)) {
+				return true;
+			}
+		}
 
-				// modifiedlist.clear();
+		final String indexname = isIndexed(attributename);
+		if (indexname == null) {
+			return false;
+		}
+		final IndexLookup lookup = new IndexLookup(indexname, attributename);
+		if (!lookup.restrict(ast, attributevalue)) {
+			// "!=" is left to Epsilon
+			return false;
+		}
+		lookups.add(lookup);
+		return true;
+	}
 
-				for (IGraphNode hit : hits) {
+	/**
+	 * Returns the wrapper for an index hit, or <code>null</code> if the hit is
+	 * not part of the target. Must be called within a transaction.
+	 */
+	private GraphNodeWrapper wrapIfContained(Object target, IGraphNode hit) {
+		if (isFullExtent(target)) {
+			// the indexes only hold direct instances of the type, which are all in X.all and X.allOfType
+			return new GraphNodeWrapper(hit, model);
+		}
 
-					filter.add(new GraphNodeWrapper(hit, model));
+		final GraphNodeWrapper wrapper = new GraphNodeWrapper(hit, model);
+		return ((Collection<?>) target).contains(wrapper) ? wrapper : null;
+	}
 
-					// ((OptimisableCollection) modifiedlist)
-					// .add(new NeoIdWrapperDebuggable(graph, hit
-					// .getId(), model));
+	private static boolean isFullExtent(Object target) {
+		return target instanceof OptimisableCollection && ((OptimisableCollection) target).isFullExtent();
+	}
 
+	/**
+	 * Returns the elements of <code>target</code> which are also in
+	 * <code>hits</code>, going through the smaller of the two if possible
+	 * instead of copying <code>target</code>.
+	 */
+	private static Set<Object> intersect(Collection<Object> target, Set<Object> hits) {
+		final Set<Object> result = new HashSet<>();
+		if (target instanceof Set && hits.size() < target.size()) {
+			for (Object hit : hits) {
+				if (target.contains(hit)) {
+					result.add(hit);
 				}
-
-				ignored.success();
-
-			} catch (Exception e) {
-				throw new EolRuntimeException("select optimisation failed: " + e.getMessage(), ast);
 			}
-
-			result.retainAll(filter);
-			return result;
-			// System.err.println(Arrays.toString(ret.toArray()));
-			// return ret;
-
 		} else {
-
-			// System.err.println("giving to super: "+ast.toStringTree());
-
-			return (Collection<Object>) super.execute(target, iterator, (Expression) ast, context, returnOnFirstMatch);
-
-			// System.err.println("super returns: "+rett.getClass());
-			// return rett;
-
+			for (Object o : target) {
+				if (hits.contains(o)) {
+					result.add(o);
+				}
+			}
 		}
-
+		return result;
 	}
 
 	private boolean isOptimisable(Expression ast) {
@@ -441,6 +713,36 @@ public class OptimisableCollectionSelectOperation extends SelectOperation {
 		}
 	}
 
+	/**
+	 * Returns <code>true</code> if the attribute indexes of {@link #metaclass}
+	 * can find all the matching elements of the target. The indexes only hold
+	 * its direct instances, so this is not the case if the target may include
+	 * instances of its subtypes. Must be called within a transaction.
+	 */
+	private boolean indexHoldsAllMatches() {
+		if (ofTypeTarget) {
+			return true;
+		}
+		if (hasSubtypeInstances == null) {
+			// every instance has an ofKind edge to its type, and only direct instances have an ofType edge
+			hasSubtypeInstances = countEdges(metaclass.getIncomingWithType(ModelElementNode.EDGE_LABEL_OFKIND))
+				!= countEdges(metaclass.getIncomingWithType(ModelElementNode.EDGE_LABEL_OFTYPE));
+		}
+		return !hasSubtypeInstances;
+	}
+
+	private static int countEdges(Iterable<IGraphEdge> edges) {
+		if (edges instanceof IGraphIterable) {
+			return ((IGraphIterable<IGraphEdge>) edges).size();
+		}
+
+		int count = 0;
+		for (Iterator<IGraphEdge> it = edges.iterator(); it.hasNext(); it.next()) {
+			count++;
+		}
+		return count;
+	}
+
 	private String isIndexed(String attributename) {
 		String result = null;
 
@@ -453,7 +755,7 @@ public class OptimisableCollectionSelectOperation extends SelectOperation {
 			// System.err.println(indexname);
 			// System.err.println(graph.getNodeIndexNames());
 
-			if (graph.nodeIndexExists(indexname))
+			if (graph.nodeIndexExists(indexname) && indexHoldsAllMatches())
 				result = indexname;
 
 			ignored.success();
@@ -197,9 +197,10 @@ public class CGraphPropertyGetter extends GraphPropertyGetter {
 
 		else if (canHaveDerivedAttr(node, property)) {
 
+			IGraphNode derivedNode = null;
 			for (IGraphEdge r : node.getOutgoingWithType(property)) {
 				if (ret == null) {
-					final IGraphNode derivedNode = r.getEndNode();
+					derivedNode = r.getEndNode();
 					ret = derivedNode.getProperty(property);
 					if (ret == null) {
 						List<GraphNodeWrapper> derivedTargets = new EolSequence<>();
@@ -219,8 +220,7 @@ public class CGraphPropertyGetter extends GraphPropertyGetter {
 			if (ret == null) {
 				throw new EolRuntimeException("derived attribute lookup failed for: " + object + " # " + property);
 			} else if (ret instanceof String && ((String) ret).startsWith(DirtyDerivedFeaturesListener.NOT_YET_DERIVED_PREFIX)) {
-				// XXX IDEA: dynamically derive on the spot on access
-				System.err.println("attribute: " + property + " is NYD for node: " + node.getId());
+				ret = retainScoped(model.deriveOnAccess(derivedNode, property, (String) ret));
 			}
 
 		}
@@ -231,15 +231,16 @@ public class CGraphPropertyGetter extends GraphPropertyGetter {
 
 			final Collection<Object> retCollection = (Collection<Object>) ret;
 
-			if (node.getProperty(property) != null) {
+			final Object rawValues = getAttributeValue(node, property);
+			if (rawValues != null) {
 
-				final List<?> values = new Utils().asList(node.getProperty(property));
+				final List<?> values = new Utils().asList(rawValues);
 				retCollection.addAll(values);
 
 			}
 
-			for (IGraphEdge r : node.getOutgoingWithType(property)) {
-				GraphNodeWrapper o = wrapIfInScope(r.getEndNode());
+			for (GraphNodeWrapper target : getReferenceTargets(node, property)) {
+				GraphNodeWrapper o = retainScoped(target);
 				if (o != null)
 					retCollection.add(o);
 			}
@@ -247,15 +248,16 @@ public class CGraphPropertyGetter extends GraphPropertyGetter {
 
 		else if (canHaveAttr(node, property)) {
 
-			if (node.getProperty(property) != null) {
+			final Object rawValue = getAttributeValue(node, property);
+			if (rawValue != null) {
 				// FIXMEdone handle collections / ordered etc
 				if (!(isMany(property)))
-					ret = node.getProperty(property);
+					ret = rawValue;
 				else {
 
 					ret = getCollectionForProperty(property);
 
-					Object[] array = ((Object[]) node.getProperty(property));
+					Object[] array = ((Object[]) rawValue);
 
 					for (int i = 0; i < array.length; i++)
 						((Collection<Object>) ret).add(array[i]);
@@ -282,9 +284,8 @@ public class CGraphPropertyGetter extends GraphPropertyGetter {
 				otherNodes = getCollectionForProperty(property);
 			}
 
-			for (IGraphEdge r : node.getOutgoingWithType(property)) {
-				IGraphNode n = r.getEndNode();
-				GraphNodeWrapper o = wrapIfInScope(n);
+			for (GraphNodeWrapper target : getReferenceTargets(node, property)) {
+				GraphNodeWrapper o = retainScoped(target);
 				if (otherNodes != null) {
 					if (o != null)
 						otherNodes.add(o);
@@ -329,12 +330,12 @@ public class CGraphPropertyGetter extends GraphPropertyGetter {
 		return cRet == null ? ret : cRet;
 	}
 
-	private Object retainScoped(GraphNodeWrapper ret) {
+	private GraphNodeWrapper retainScoped(GraphNodeWrapper ret) {
 		if (!engine.isTraversalScopingEnabled())
 			return ret;
 
 		// capture multiple file containment (ie for singleton nodes)
-		for (IGraphEdge e : graph.getNodeById(ret.getId()).getOutgoingWithType(ModelElementNode.EDGE_LABEL_FILE)) {
+		for (IGraphEdge e : ret.getNode().getOutgoingWithType(ModelElementNode.EDGE_LABEL_FILE)) {
 			if (engine.getRawFileNodes().contains(e.getEndNode())) {
 				return ret;
 			}
@@ -16,6 +16,7 @@
  ******************************************************************************/
 package org.hawk.epsilon.emc.pgetters;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -36,6 +37,7 @@ import org.hawk.core.IModelIndexer;
 import org.hawk.core.graph.IGraphDatabase;
 import org.hawk.core.graph.IGraphEdge;
 import org.hawk.core.graph.IGraphNode;
+import org.hawk.core.util.SystemProperties;
 import org.hawk.core.util.Utils;
 import org.hawk.epsilon.emc.EOLQueryEngine;
 import org.hawk.epsilon.emc.tracking.AccessListener;
@@ -84,6 +86,10 @@ public class GraphPropertyGetter extends AbstractPropertyGetter {
 	protected Map<IGraphNode, Map<String, PropertyType>> propertyTypeCache = new HashMap<>();
 	protected Map<IGraphNode, Map<String, String[]>> propertyTypeFlagsCache = new HashMap<>();
 
+	// Cache: node -> property name -> raw value / reference targets / type node
+	protected final PropertyAccessCache accessCache = new PropertyAccessCache(
+		SystemProperties.getInteger(PropertyAccessCache.MAX_ENTRIES_PROPERTY, 10_000));
+
 	public GraphPropertyGetter(IGraphDatabase graph, EOLQueryEngine m) {
 		this.graph = graph;
 		this.model = m;
@@ -110,7 +116,7 @@ public class GraphPropertyGetter extends AbstractPropertyGetter {
 		PropertyType propertyType = getPropertyType(node, property);
 		switch (propertyType) {
 		case ATTRIBUTE:
-			Object value = node.getProperty(property);
+			Object value = getAttributeValue(node, property);
 			if (value != null) {
 				if (!(isMany(property)))
 					return value;
@@ -121,6 +127,7 @@ public class GraphPropertyGetter extends AbstractPropertyGetter {
 
 		case DERIVED:
 			Object derivedValue = null;
+			IGraphNode nDerived = null;
 			for (IGraphEdge r : node.getOutgoingWithType(property)) {
 				if (derivedValue != null) {
 					throw new EolRuntimeException(String.format(
@@ -128,7 +135,7 @@ public class GraphPropertyGetter extends AbstractPropertyGetter {
 							property));
 				}
 
-				final IGraphNode nDerived = r.getEndNode();
+				nDerived = r.getEndNode();
 				derivedValue = nDerived.getProperty(property);
 				if (derivedValue == null) {
 					List<GraphNodeWrapper> derivedTargets = null;
@@ -147,43 +154,32 @@ public class GraphPropertyGetter extends AbstractPropertyGetter {
 				throw new EolRuntimeException("derived attribute lookup failed for: " + node + " # " + property);
 			} else if (derivedValue instanceof String
 					&& ((String) derivedValue).startsWith(DirtyDerivedFeaturesListener.NOT_YET_DERIVED_PREFIX)) {
-				// XXX IDEA: dynamically derive on the spot on access
-				System.err.println("attribute: " + property + " is NYD for node: " + node.getId());
+				derivedValue = model.deriveOnAccess(nDerived, property, (String) derivedValue);
 			}
 
 			return derivedValue;
 		case MIXED:
 			final Collection<Object> retCollection = getCollectionForProperty(property);
-			if (node.getProperty(property) != null) {
-				final List<?> values = new Utils().asList(node.getProperty(property));
+			final Object rawValues = getAttributeValue(node, property);
+			if (rawValues != null) {
+				final List<?> values = new Utils().asList(rawValues);
 				retCollection.addAll(values);
 			}
-			for (IGraphEdge r : node.getOutgoingWithType(property)) {
-				retCollection.add(new GraphNodeWrapper(r.getEndNode(), model));
-			}
+			retCollection.addAll(getReferenceTargets(node, property));
 			return retCollection;
 
 		case REFERENCE:
-			GraphNodeWrapper otherNode = null;
-			Collection<Object> otherNodes = null;
-
-			// FIXMEdone arity etc in metamodel
-			// otherNodes = new EolBag<NeoIdWrapperDebuggable>();
+			final List<GraphNodeWrapper> targets = getReferenceTargets(node, property);
 			if (isMany(property)) {
-				otherNodes = getCollectionForProperty(property);
-			}
-
-			for (IGraphEdge r : node.getOutgoingWithType(property)) {
-				if (otherNodes != null)
-					otherNodes.add(new GraphNodeWrapper(r.getEndNode(), model));
-				else if (otherNode == null)
-					otherNode = new GraphNodeWrapper(r.getEndNode(), model);
-				else
-					throw new EolRuntimeException(
-							"A relationship with arity 1 ( " + property + " ) has more than 1 links");
+				final Collection<Object> otherNodes = getCollectionForProperty(property);
+				otherNodes.addAll(targets);
+				return otherNodes;
+			} else if (targets.size() > 1) {
+				throw new EolRuntimeException(
+						"A relationship with arity 1 ( " + property + " ) has more than 1 links");
 			}
 
-			return otherNodes != null ? otherNodes : otherNode;
+			return targets.isEmpty() ? null : targets.get(0);
 		default:
 			return null;
 		}
@@ -351,6 +347,83 @@ public class GraphPropertyGetter extends AbstractPropertyGetter {
 		}
 	}
 
+	/**
+	 * Returns the key that identifies a node in {@link #accessCache}, or
+	 * <code>null</code> if the properties of the node should not be cached.
+	 */
+	protected Object getCacheKey(IGraphNode node) {
+		return node.getId();
+	}
+
+	/**
+	 * Returns the raw value of an attribute of a node, reusing the value read
+	 * by a previous access during this query if possible.
+	 */
+	protected Object getAttributeValue(IGraphNode node, String property) {
+		final Object key = getCacheKey(node);
+		if (key == null) {
+			return node.getProperty(property);
+		}
+
+		Object value = accessCache.get(key, property);
+		if (value == PropertyAccessCache.MISSING) {
+			value = node.getProperty(property);
+			accessCache.put(key, property, value);
+		}
+		return value;
+	}
+
+	/**
+	 * Returns the targets of a reference of a node, reusing the targets found
+	 * by a previous access during this query if possible. The returned list
+	 * cannot be modified.
+	 */
+	@SuppressWarnings("unchecked")
+	protected List<GraphNodeWrapper> getReferenceTargets(IGraphNode node, String property) {
+		final Object key = getCacheKey(node);
+		if (key != null) {
+			final Object cached = accessCache.get(key, property);
+			if (cached != PropertyAccessCache.MISSING) {
+				return (List<GraphNodeWrapper>) cached;
+			}
+		}
+
+		final List<GraphNodeWrapper> targets = new ArrayList<>();
+		for (IGraphEdge r : node.getOutgoingWithType(property)) {
+			targets.add(new GraphNodeWrapper(r.getEndNode(), model));
+		}
+		final List<GraphNodeWrapper> result = Collections.unmodifiableList(targets);
+		if (key != null) {
+			accessCache.put(key, property, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the node of the type of a node, or <code>null</code> if it does
+	 * not have one.
+	 */
+	protected IGraphNode getTypeNode(IGraphNode node) {
+		final Object key = getCacheKey(node);
+		if (key != null) {
+			final Object cached = accessCache.get(key, ModelElementNode.EDGE_LABEL_OFTYPE);
+			if (cached != PropertyAccessCache.MISSING) {
+				return (IGraphNode) cached;
+			}
+		}
+
+		final Iterator<IGraphEdge> itTypeOf = node.getOutgoingWithType(ModelElementNode.EDGE_LABEL_OFTYPE).iterator();
+		final IGraphNode typeNode = itTypeOf.hasNext() ? itTypeOf.next().getEndNode() : null;
+		if (key != null) {
+			accessCache.put(key, ModelElementNode.EDGE_LABEL_OFTYPE, typeNode);
+		}
+		return typeNode;
+	}
+
+	public PropertyAccessCache getAccessCache() {
+		return accessCache;
+	}
+
 	protected Collection<Object> getCollectionForProperty(final String property) {
 		if (isUnique(property))
 			return new EolOrderedSet<Object>();
@@ -407,10 +480,10 @@ public class GraphPropertyGetter extends AbstractPropertyGetter {
 	}
 
 	protected PropertyType getPropertyType(IGraphNode node, String property) {
-		final Iterator<IGraphEdge> itTypeOf = node.getOutgoingWithType(ModelElementNode.EDGE_LABEL_OFTYPE).iterator();
+		final IGraphNode typeNode = getTypeNode(node);
 
-		if (itTypeOf.hasNext()) {
-			featureStartingNodeClassNode = itTypeOf.next().getEndNode();
+		if (typeNode != null) {
+			featureStartingNodeClassNode = typeNode;
 			Map<String, PropertyType> knownProperties = propertyTypeCache.get(featureStartingNodeClassNode);
 			if (knownProperties == null) {
 				knownProperties = new HashMap<>();
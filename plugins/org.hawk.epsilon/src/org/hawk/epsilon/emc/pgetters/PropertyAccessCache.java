@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.epsilon.emc.pgetters;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Memoizes the values read by a property getter during a query (raw attribute
+ * values and the targets of references), so repeated accesses from nested
+ * loops do not have to go back to the backend. As a new property getter is
+ * created for every query, the cache does not outlive the query. It keeps up
+ * to a certain number of entries, evicting the least recently used ones first.
+ *
+ * This class is not thread-safe: it should only be used by the thread running
+ * the query.
+ */
+public class PropertyAccessCache {
+
+	/**
+	 * Name of the system property with the maximum number of values kept by
+	 * the cache of each query (10000 by default). If zero or less, the cache is
+	 * disabled.
+	 */
+	public static final String MAX_ENTRIES_PROPERTY = "hawk.epsilon.propertyCache.maxEntries";
+
+	/**
+	 * Returned by {@link #get(Object, String)} when the value is not in the
+	 * cache. <code>null</code> cannot be used for this, as unset attributes are
+	 * cached as well.
+	 */
+	public static final Object MISSING = new Object();
+
+	private static final class Key {
+		private final Object node;
+		private final String property;
+
+		public Key(Object node, String property) {
+			this.node = node;
+			this.property = property;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(node, property);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			} else if (!(obj instanceof Key)) {
+				return false;
+			}
+			final Key other = (Key) obj;
+			return node.equals(other.node) && property.equals(other.property);
+		}
+	}
+
+	private final int maxEntries;
+	private final Map<Key, Object> entries;
+	private long hits, misses;
+
+	public PropertyAccessCache(int maxEntries) {
+		this.maxEntries = maxEntries;
+		this.entries = new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+				return size() > PropertyAccessCache.this.maxEntries;
+			}
+		};
+	}
+
+	public boolean isEnabled() {
+		return maxEntries > 0;
+	}
+
+	/**
+	 * Returns the cached value of a property of a node, or {@link #MISSING} if
+	 * it has not been cached.
+	 *
+	 * @param nodeKey
+	 *            Key which identifies the node (see
+	 *            {@link GraphPropertyGetter#getCacheKey}).
+	 */
+	public Object get(Object nodeKey, String property) {
+		if (!isEnabled()) {
+			return MISSING;
+		}
+
+		final Key key = new Key(nodeKey, property);
+		final Object value = entries.get(key);
+		if (value != null || entries.containsKey(key)) {
+			hits++;
+			return value;
+		}
+		misses++;
+		return MISSING;
+	}
+
+	/**
+	 * Stores the value of a property of a node. Collections should not be
+	 * modified after they have been cached.
+	 */
+	public void put(Object nodeKey, String property, Object value) {
+		if (isEnabled()) {
+			entries.put(new Key(nodeKey, property), value);
+		}
+	}
+
+	/**
+	 * Drops all the cached values (e.g. if the graph has been modified).
+	 */
+	public void clear() {
+		entries.clear();
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Returns the fraction of the lookups that were answered from the cache,
+	 * or 0 if there were no lookups.
+	 */
+	public double getHitRatio() {
+		final long total = hits + misses;
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("PropertyAccessCache [entries=%d, maxEntries=%d, hits=%d, misses=%d]",
+			entries.size(), maxEntries, hits, misses);
+	}
+
+}
@@ -47,6 +47,7 @@ import org.hawk.graph.ModelElementNode;
 import org.hawk.graph.updater.GraphModelBatchInjector;
 import org.hawk.graph.updater.GraphModelInserter;
 import org.hawk.graph.updater.GraphModelUpdater;
+import org.hawk.graph.updater.proxies.ProxyReferenceCodec;
 
 public class SyncValidationListener implements IGraphChangeListener {
 
@@ -490,7 +491,7 @@ public class SyncValidationListener implements IGraphChangeListener {
 
 			if (propertykey.startsWith(GraphModelUpdater.PROXY_REFERENCE_PREFIX)) {
 
-				String[] proxies = (String[]) instance.getProperty(propertykey);
+				String[] proxies = ProxyReferenceCodec.toStringArray(instance.getProperty(propertykey));
 
 				for (int i = 0; i < proxies.length; i = i + 4)
 					if (modelrefvaluesclone.remove(proxies[i]))
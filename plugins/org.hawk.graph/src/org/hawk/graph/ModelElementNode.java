@@ -19,6 +19,7 @@ package org.hawk.graph;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -138,9 +139,20 @@ public class ModelElementNode {
 	 */
 	public void getSlotValues(Map<String, Object> attributeValues, Map<String, Object> referenceValues, Map<String, Object> mixedValues, Map<String, Object> derivedValues) {
 		final Collection<Slot> slots = getTypeNode().getSlots().values();
+
+		// Read all the stored attributes at once
+		final List<String> attributeNames = new ArrayList<>();
+		for (Slot s : slots) {
+			if (s.isAttribute() && attributeValues != null || s.isMixed() && mixedValues != null) {
+				attributeNames.add(s.getName());
+			}
+		}
+		final Map<String, Object> rawValues = attributeNames.isEmpty()
+			? Collections.emptyMap() : node.getGraph().getProperties(node, attributeNames);
+
 		for (Slot s : slots) {
 			if (s.isAttribute() && attributeValues != null) {
-				final Object value = getSlotValue(s);
+				final Object value = decodeRawValue(s, rawValues.get(s.getName()));
 				if (value == null) continue;
 				attributeValues.put(s.getName(), value);
 			} else if (s.isReference() && referenceValues != null) {
@@ -148,7 +160,7 @@ public class ModelElementNode {
 				if (value == null) continue;
 				referenceValues.put(s.getName(), value);
 			} else if (s.isMixed() && mixedValues != null) {
-				final Object value = getSlotValue(s);
+				final Object value = decodeRawValue(s, rawValues.get(s.getName()));
 				if (value == null) continue;
 				mixedValues.put(s.getName(), value);
 			} else if (s.isDerived()) {
@@ -232,10 +244,7 @@ public class ModelElementNode {
 		}
 
 		if (slot.isReference() || slot.isMixed()) {
-			for (IGraphEdge r : node.getOutgoingWithType(slot.getName())) {
-				final Object id = r.getEndNode().getId();
-				collection.add(id);
-			}
+			collection.addAll(node.getGraph().getOutgoingTargetIds(node, slot.getName()));
 		}
 
 		if (slot.isMany()) {
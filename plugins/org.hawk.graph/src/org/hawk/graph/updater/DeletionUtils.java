@@ -161,7 +161,8 @@ public class DeletionUtils {
 
 					proxies = new Utils()
 							.addToElementProxies(
-									(String[]) proxies,
+									graph,
+									proxies,
 									fullReferencedElementPathElementURI,
 									type,
 									rel.getProperty(ModelElementNode.EDGE_PROPERTY_CONTAINMENT) != null,
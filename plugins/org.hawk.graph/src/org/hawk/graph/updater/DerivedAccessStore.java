@@ -0,0 +1,301 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.graph.updater;
+
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.WeakHashMap;
+
+import org.hawk.core.graph.IGraphDatabase;
+import org.hawk.core.graph.IGraphNode;
+import org.hawk.core.graph.IGraphNodeIndex;
+import org.hawk.core.query.IAccess;
+
+/**
+ * In-memory reverse dependency store for derived attributes, which maps each
+ * accessed (node ID, property) pair to the derived feature nodes that read it
+ * while being computed. It sits on top of the
+ * {@link GraphModelInserter#DERIVED_ACCESS_IDXNAME} index, which remains the
+ * persistent version of this information: pairs are loaded from the index the
+ * first time they are looked up, and are kept up to date afterwards through
+ * {@link #update(Map)}, which should be called once the transaction that wrote
+ * the same accesses to the index has succeeded.
+ *
+ * Derived feature nodes are interned as <code>int</code>s, and the dependents
+ * of each pair are kept as sorted <code>int[]</code> arrays. Only pairs with
+ * dependents are kept: pairs without any are looked up again in the index,
+ * and the <code>int</code> of a derived feature node is reused once it no
+ * longer depends on any loaded pair. Lookups may
+ * return nodes that no longer depend on a pair (e.g. if the index was changed
+ * by someone else), but never miss a dependent: callers should be ready to
+ * handle nodes that no longer exist.
+ *
+ * There is one store per graph, shared by all its updaters and listeners.
+ */
+public final class DerivedAccessStore {
+
+	private static final String ANY_PROPERTY = "*";
+
+	private static final Map<IGraphDatabase, DerivedAccessStore> STORES = new WeakHashMap<>();
+
+	/**
+	 * (Accessed node ID, property) pair used as key.
+	 */
+	private static final class AccessKey {
+		final String nodeId, property;
+
+		AccessKey(String nodeId, String property) {
+			this.nodeId = nodeId;
+			this.property = property;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * nodeId.hashCode() + property.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof AccessKey)) {
+				return false;
+			}
+			final AccessKey other = (AccessKey) obj;
+			return nodeId.equals(other.nodeId) && property.equals(other.property);
+		}
+	}
+
+	/** Loaded pairs, with the sorted ordinals of their dependent derived feature nodes. */
+	private final Map<AccessKey, int[]> dependents = new HashMap<>();
+
+	/** Pairs that each derived feature node has been added to, by ordinal. */
+	private final List<List<AccessKey>> dependencies = new ArrayList<>();
+
+	private final Map<String, Integer> ordinals = new HashMap<>();
+	private final List<String> derivedNodeIds = new ArrayList<>();
+
+	/** Ordinals of derived feature nodes which no longer depend on any loaded pair. */
+	private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+
+	/** Tri-state: <code>null</code> if we have not checked if the index has any entries yet. */
+	private Boolean indexHasEntries;
+
+	private DerivedAccessStore() {
+		// use forGraph
+	}
+
+	/**
+	 * Returns the store for the specified graph, creating it if needed.
+	 */
+	public static synchronized DerivedAccessStore forGraph(IGraphDatabase graph) {
+		DerivedAccessStore store = STORES.get(graph);
+		if (store == null) {
+			store = new DerivedAccessStore();
+			STORES.put(graph, store);
+		}
+		return store;
+	}
+
+	/**
+	 * Returns <code>false</code> if no derived attribute depends on anything.
+	 * Only queries the index the first time, or after {@link #clear()}.
+	 */
+	public synchronized boolean hasDependencies(IGraphNodeIndex idx) {
+		if (indexHasEntries == null) {
+			indexHasEntries = idx.query("*", "*").iterator().hasNext();
+		}
+		return indexHasEntries;
+	}
+
+	/**
+	 * Returns the IDs of the derived feature nodes that depend on a property of
+	 * a node (or on any of its properties, if <code>property</code> is
+	 * <code>*</code>), querying the index only if this pair has not been
+	 * looked up before.
+	 */
+	public synchronized List<String> getDependents(IGraphNodeIndex idx, String nodeId, String property) {
+		final AccessKey key = new AccessKey(nodeId, property);
+
+		int[] ords = dependents.get(key);
+		if (ords == null) {
+			for (IGraphNode n : idx.query(nodeId, property)) {
+				addDependent(key, n.getId().toString());
+			}
+
+			// Pairs without dependents are not kept, as most lookups are for those
+			ords = dependents.get(key);
+			if (ords == null) {
+				return Collections.emptyList();
+			}
+		}
+
+		final List<String> ret = new ArrayList<>(ords.length);
+		for (int ord : ords) {
+			ret.add(derivedNodeIds.get(ord));
+		}
+		return ret;
+	}
+
+	/**
+	 * Replaces the dependencies of the derived feature nodes whose IDs are the
+	 * keys of <code>accessesBySource</code>, after their accesses have been
+	 * written to the index.
+	 */
+	public synchronized void update(Map<String, ? extends Collection<IAccess>> accessesBySource) {
+		for (Entry<String, ? extends Collection<IAccess>> entry : accessesBySource.entrySet()) {
+			final String derivedNodeId = entry.getKey();
+			removeDependent(derivedNodeId);
+
+			for (IAccess access : entry.getValue()) {
+				indexHasEntries = true;
+
+				// Only update the pairs we have already loaded: others will be loaded from the index
+				final AccessKey key = new AccessKey(access.getAccessObjectID(), access.getProperty());
+				if (dependents.containsKey(key)) {
+					addDependent(key, derivedNodeId);
+				}
+				final AccessKey anyKey = new AccessKey(access.getAccessObjectID(), ANY_PROPERTY);
+				if (dependents.containsKey(anyKey)) {
+					addDependent(anyKey, derivedNodeId);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Discards everything, so it will be loaded again from the index.
+	 */
+	public synchronized void clear() {
+		dependents.clear();
+		dependencies.clear();
+		ordinals.clear();
+		derivedNodeIds.clear();
+		freeOrdinals.clear();
+		indexHasEntries = null;
+	}
+
+	/**
+	 * Returns the number of (node ID, property) pairs currently loaded.
+	 */
+	public synchronized int getLoadedPairCount() {
+		return dependents.size();
+	}
+
+	/**
+	 * Returns the number of derived feature nodes that depend on the loaded
+	 * pairs.
+	 */
+	public synchronized int getDerivedNodeCount() {
+		return ordinals.size();
+	}
+
+	/**
+	 * Groups accesses by the ID of their derived feature node, keeping the
+	 * order in which they were first seen.
+	 */
+	public static Map<String, List<IAccess>> groupBySource(Iterable<IAccess> accesses) {
+		final Map<String, List<IAccess>> ret = new LinkedHashMap<>();
+		for (IAccess a : accesses) {
+			List<IAccess> sourceAccesses = ret.get(a.getSourceObjectID());
+			if (sourceAccesses == null) {
+				sourceAccesses = new ArrayList<>();
+				ret.put(a.getSourceObjectID(), sourceAccesses);
+			}
+			sourceAccesses.add(a);
+		}
+		return ret;
+	}
+
+	private void addDependent(AccessKey key, String derivedNodeId) {
+		Integer ord = ordinals.get(derivedNodeId);
+		if (ord == null) {
+			ord = freeOrdinals.poll();
+			if (ord == null) {
+				ord = derivedNodeIds.size();
+				derivedNodeIds.add(derivedNodeId);
+				dependencies.add(null);
+			} else {
+				derivedNodeIds.set(ord, derivedNodeId);
+			}
+			ordinals.put(derivedNodeId, ord);
+		}
+
+		final int[] ords = dependents.get(key);
+		if (ords == null) {
+			dependents.put(key, new int[] { ord });
+		} else {
+			final int pos = Arrays.binarySearch(ords, ord);
+			if (pos >= 0) {
+				return;
+			}
+			dependents.put(key, insert(ords, -pos - 1, ord));
+		}
+
+		List<AccessKey> keys = dependencies.get(ord);
+		if (keys == null) {
+			keys = new ArrayList<>(2);
+			dependencies.set(ord, keys);
+		}
+		keys.add(key);
+	}
+
+	private void removeDependent(String derivedNodeId) {
+		final Integer ord = ordinals.remove(derivedNodeId);
+		if (ord == null) {
+			return;
+		}
+
+		final List<AccessKey> keys = dependencies.get(ord);
+		if (keys != null) {
+			for (AccessKey key : keys) {
+				final int[] ords = dependents.get(key);
+				final int pos = ords == null ? -1 : Arrays.binarySearch(ords, ord);
+				if (pos < 0) {
+					continue;
+				} else if (ords.length == 1) {
+					dependents.remove(key);
+				} else {
+					final int[] newOrds = new int[ords.length - 1];
+					System.arraycopy(ords, 0, newOrds, 0, pos);
+					System.arraycopy(ords, pos + 1, newOrds, pos, ords.length - pos - 1);
+					dependents.put(key, newOrds);
+				}
+			}
+		}
+
+		dependencies.set(ord, null);
+		derivedNodeIds.set(ord, null);
+		freeOrdinals.push(ord);
+	}
+
+	private static int[] insert(int[] ords, int insertAt, int ord) {
+		final int[] newOrds = new int[ords.length + 1];
+		System.arraycopy(ords, 0, newOrds, 0, insertAt);
+		newOrds[insertAt] = ord;
+		System.arraycopy(ords, insertAt, newOrds, insertAt + 1, ords.length - insertAt);
+		return newOrds;
+	}
+
+}
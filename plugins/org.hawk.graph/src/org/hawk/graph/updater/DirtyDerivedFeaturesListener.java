@@ -28,7 +28,6 @@ import org.hawk.core.graph.IGraphChangeListener;
 import org.hawk.core.graph.IGraphDatabase;
 import org.hawk.core.graph.IGraphDatabase.Mode;
 import org.hawk.core.graph.IGraphEdge;
-import org.hawk.core.graph.IGraphIterable;
 import org.hawk.core.graph.IGraphNode;
 import org.hawk.core.graph.IGraphNodeIndex;
 import org.hawk.core.graph.IGraphTransaction;
@@ -122,13 +121,19 @@ public class DirtyDerivedFeaturesListener implements IGraphChangeListener {
 
 			final IGraphNodeIndex idx = db.getOrCreateNodeIndex(GraphModelInserter.DERIVED_ACCESS_IDXNAME);
 
-			// Do a quick check first if there are *any* derived attributes:
-			// repeated checks are very expensive in Neo4j due to Lucene query
+			// The store only queries the index for pairs it has not seen yet:
+			// repeated queries are very expensive in Neo4j due to Lucene query
 			// parsing.
-			IGraphIterable<? extends IGraphNode> anyResults = idx.query("*", "*");
-			if (anyResults.iterator().hasNext()) {
+			final DerivedAccessStore store = DerivedAccessStore.forGraph(db);
+			if (store.hasDependencies(idx)) {
+				final Set<String> dependentIds = new HashSet<>();
 				for (Entry<String, String> e : pending) {
-					for (IGraphNode n : idx.query(e.getKey(), e.getValue())) {
+					dependentIds.addAll(store.getDependents(idx, e.getKey(), e.getValue()));
+				}
+				for (String id : dependentIds) {
+					// The store may be out of date for deleted nodes, and some backends reuse IDs
+					final IGraphNode n = db.getNodeById(id);
+					if (n != null && n.getProperty("derivationlogic") != null) {
 						toBeUpdated.add(n);
 					}
 				}
@@ -995,6 +995,9 @@ public class GraphMetaModelResourceInjector {
 
 						t.success();
 						listener.changeSuccess();
+
+						// Entries were removed from the index directly: reload them on demand
+						DerivedAccessStore.forGraph(graph).clear();
 					} else {
 						LOGGER.error("Error in removeDerivedAttribute, attribute metadata not valid");
 						listener.changeFailure();
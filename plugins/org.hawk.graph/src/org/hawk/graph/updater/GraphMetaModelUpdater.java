@@ -20,7 +20,9 @@ import java.util.Set;
 
 import org.hawk.core.IMetaModelUpdater;
 import org.hawk.core.IModelIndexer;
+import org.hawk.core.IModelUpdater;
 import org.hawk.core.model.IHawkMetaModelResource;
+import org.hawk.core.query.IQueryEngine;
 import org.hawk.core.runtime.CompositeGraphChangeListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +42,8 @@ public class GraphMetaModelUpdater implements IMetaModelUpdater {
 		} catch (Exception e) {
 			LOGGER.error("Metamodel insertion failed", e);
 			return false;
+		} finally {
+			invalidateCaches(indexer, null);
 		}
 	}
 
@@ -49,7 +53,12 @@ public class GraphMetaModelUpdater implements IMetaModelUpdater {
 				indexer,
 				(CompositeGraphChangeListener) indexer
 						.getCompositeGraphChangeListener());
-		return ret.removeMetamodels(mmuri);
+		try {
+			return ret.removeMetamodels(mmuri);
+		} finally {
+			// dependent metamodels may have been removed as well
+			invalidateCaches(indexer, null);
+		}
 	}
 
 	@Override
@@ -58,10 +67,14 @@ public class GraphMetaModelUpdater implements IMetaModelUpdater {
 			boolean isOrdered, boolean isUnique, String derivationlanguage,
 			String derivationlogic, IModelIndexer indexer) {
 
-		return GraphMetaModelResourceInjector.addDerivedAttribute(metamodeluri,
-				typename, attributename, isMany, isOrdered, isUnique,
-				attributetype, derivationlanguage, derivationlogic,
-				indexer.getGraph(), indexer.getCompositeGraphChangeListener());
+		try {
+			return GraphMetaModelResourceInjector.addDerivedAttribute(metamodeluri,
+					typename, attributename, isMany, isOrdered, isUnique,
+					attributetype, derivationlanguage, derivationlogic,
+					indexer.getGraph(), indexer.getCompositeGraphChangeListener());
+		} finally {
+			invalidateCaches(indexer, metamodeluri);
+		}
 	}
 
 	@Override
@@ -72,9 +85,13 @@ public class GraphMetaModelUpdater implements IMetaModelUpdater {
 	@Override
 	public boolean addIndexedAttribute(String metamodeluri, String typename,
 			String attributename, IModelIndexer indexer) {
-		return GraphMetaModelResourceInjector.addIndexedAttribute(metamodeluri,
-				typename, attributename, indexer.getGraph(),
-				indexer.getCompositeGraphChangeListener());
+		try {
+			return GraphMetaModelResourceInjector.addIndexedAttribute(metamodeluri,
+					typename, attributename, indexer.getGraph(),
+					indexer.getCompositeGraphChangeListener());
+		} finally {
+			invalidateCaches(indexer, metamodeluri);
+		}
 	}
 
 	@Override
@@ -85,16 +102,46 @@ public class GraphMetaModelUpdater implements IMetaModelUpdater {
 	@Override
 	public boolean removeIndexedAttribute(String metamodelUri, String typename,
 			String attributename, IModelIndexer indexer) {
-		return GraphMetaModelResourceInjector.removeIndexedAttribute(
-				metamodelUri, typename, attributename, indexer.getGraph(),
-				indexer.getCompositeGraphChangeListener());
+		try {
+			return GraphMetaModelResourceInjector.removeIndexedAttribute(
+					metamodelUri, typename, attributename, indexer.getGraph(),
+					indexer.getCompositeGraphChangeListener());
+		} finally {
+			invalidateCaches(indexer, metamodelUri);
+		}
 	}
 
 	@Override
 	public boolean removeDerivedAttribute(String metamodelUri, String typeName,
 			String attributeName, IModelIndexer indexer) {
-		return GraphMetaModelResourceInjector.removeDerivedAttribute(
-				metamodelUri, typeName, attributeName, indexer.getGraph(),
-				indexer.getCompositeGraphChangeListener());
+		try {
+			return GraphMetaModelResourceInjector.removeDerivedAttribute(
+					metamodelUri, typeName, attributeName, indexer.getGraph(),
+					indexer.getCompositeGraphChangeListener());
+		} finally {
+			invalidateCaches(indexer, metamodelUri);
+		}
+	}
+
+	/**
+	 * Tells the {@link TypeCache}s of the graph model updaters of the indexer
+	 * that a metamodel has changed. If <code>metamodelURI</code> is
+	 * <code>null</code>, all cached types are discarded. Query engines always
+	 * discard all their cached information.
+	 */
+	private void invalidateCaches(IModelIndexer indexer, String metamodelURI) {
+		for (IModelUpdater updater : indexer.getModelUpdaters()) {
+			if (updater instanceof GraphModelUpdater) {
+				final TypeCache typeCache = ((GraphModelUpdater) updater).getTypeCache();
+				if (metamodelURI == null) {
+					typeCache.invalidate();
+				} else {
+					typeCache.invalidate(metamodelURI);
+				}
+			}
+		}
+		for (IQueryEngine engine : indexer.getKnownQueryLanguages().values()) {
+			engine.invalidateCaches();
+		}
 	}
 }
@@ -25,11 +25,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.hawk.core.IModelIndexer;
@@ -68,6 +71,15 @@ public class GraphModelBatchInjector {
 	public static final String PROXY_DICT_NAME = "proxydictionary";
 	public static final String DERIVED_PROXY_DICT_NAME = "derivedproxydictionary";
 
+	/**
+	 * Name of the system property with the number of nodes and edges that a
+	 * bulk load session may create before it flushes the fragment index and
+	 * forgets the nodes it has created so far. If zero or less (the default),
+	 * bulk load sessions are not used, and each new file is inserted by its own
+	 * injector.
+	 */
+	public static final String BULK_LOAD_THRESHOLD_PROPERTY = "hawk.bulkload.threshold";
+
 	// integer array containing the current number of added elements:
 	// (element,((ofType)M->MM)reference,((ofKind)M->MM)reference,(unset(M->M))reference)
 	private int[] objectCount = { 0, 0, 0, 0 };
@@ -88,13 +100,28 @@ public class GraphModelBatchInjector {
 	 */
 	private final Map<Pair<String, String>, IGraphNode> hash = new HashMap<>();
 
+	/*
+	 * Fragment-unique nodes created since the last flush, which may not be
+	 * visible through the fragment index yet.
+	 */
+	private final Map<String, IGraphNode> unflushedFragments = new HashMap<>();
+
+	/*
+	 * Paths of the files in the graph for each repository, looked up once per
+	 * bulk load session and kept up to date as files are added (see
+	 * hasFileNode).
+	 */
+	private final Map<String, Set<String>> filePaths = new HashMap<>();
+
 	IGraphNodeIndex fileDictionary, proxyDictionary, rootDictionary, fragmentIdx,
 			derivedProxyDictionary;
 
 	long startTime;
 
+	private final IModelIndexer hawk;
+	private final Supplier<DeletionUtils> deletionUtils;
 	private final IGraphChangeListener listener;
-	private final VcsCommitItem commitItem;
+	private VcsCommitItem commitItem;
 	private final String tempDirURI;
 	private Mode previousMode = Mode.UNKNOWN;
 
@@ -102,6 +129,9 @@ public class GraphModelBatchInjector {
 
 	private boolean successState = true;
 
+	private final int flushThreshold;
+	private long createdSinceFlush;
+
 	private void refreshIndexes() throws Exception {
 		// only do it if db state changed to avoid overhead
 		Mode currentMode = graph.currentMode();
@@ -130,25 +160,53 @@ public class GraphModelBatchInjector {
 
 	public GraphModelBatchInjector(IGraphDatabase g, TypeCache typeCache, VcsCommitItem s, IGraphChangeListener listener) throws Exception {
 		this.graph = g;
+		this.hawk = null;
+		this.deletionUtils = null;
 		this.typeCache = typeCache;
 		this.commitItem = s;
 		this.listener = listener;
 		this.tempDirURI = new File(g.getTempDir()).toURI().toString();
+		this.flushThreshold = 0;
 
 		refreshIndexes();
 	}
 
 	public GraphModelBatchInjector(IModelIndexer hawk, Supplier<DeletionUtils> deletionUtils, TypeCache typeCache, VcsCommitItem s, IHawkModelResource r, IGraphChangeListener listener, boolean verbose) throws Exception {
+		this(hawk, deletionUtils, typeCache, listener, 0);
+		successState = inject(s, r, verbose);
+	}
 
-		IGraphDatabase g = hawk.getGraph();
-		this.graph = g;
+	/**
+	 * Creates a bulk load session, which inserts new files through
+	 * {@link #inject(VcsCommitItem, IHawkModelResource, boolean)} while
+	 * keeping its index handles and the fragment-unique nodes created so far.
+	 * The fragment index is only flushed once <code>flushThreshold</code>
+	 * nodes and edges have been created, or when {@link #flush()} is called. The
+	 * session must be flushed before anything else reads or changes the graph
+	 * (e.g. when leaving batch mode, or resolving proxies).
+	 */
+	public GraphModelBatchInjector(IModelIndexer hawk, Supplier<DeletionUtils> deletionUtils, TypeCache typeCache, IGraphChangeListener listener, int flushThreshold) {
+		this.hawk = hawk;
+		this.graph = hawk.getGraph();
+		this.deletionUtils = deletionUtils;
 		this.typeCache = typeCache;
-		this.commitItem = s;
 		this.listener = listener;
-		this.tempDirURI = new File(g.getTempDir()).toURI().toString();
+		this.tempDirURI = new File(graph.getTempDir()).toURI().toString();
+		this.flushThreshold = flushThreshold;
+	}
+
+	/**
+	 * Inserts a file which is not in the graph yet, in batch mode. Returns
+	 * <code>true</code> if it succeeded.
+	 */
+	public boolean inject(VcsCommitItem s, IHawkModelResource r, boolean verbose) {
+		this.commitItem = s;
+
+		// Nodes from previous files must not be found here (see addEReferences)
+		hash.clear();
 
 		startTime = System.nanoTime();
-		graph.enterBatchMode();
+		enterBatchMode();
 
 		try {
 			listener.changeStart();
@@ -174,6 +232,10 @@ public class GraphModelBatchInjector {
 				// add file
 				if (fileNode == null) {
 					fileNode = addFileNode(s, listener);
+					final Set<String> paths = filePaths.get(repoURL);
+					if (paths != null) {
+						paths.add(s.getPath());
+					}
 				}
 
 				try {
@@ -186,7 +248,10 @@ public class GraphModelBatchInjector {
 					}
 
 					int[] addedElements = parseResource(fileNode, ParseOptions.MODELELEMENTS, children, hawk, r.providesSingletonElements());
-					fragmentIdx.flush();
+					createdSinceFlush += addedElements[0] + addedElements[1] + addedElements[2];
+					if (flushThreshold <= 0) {
+						fragmentIdx.flush();
+					}
 					if (verbose) {
 						LOGGER.debug("{} NODES AND {} M->MM REFERENCES! (took ~{}sec)",
 							addedElements[0], addedElements[1], addedElements[2],
@@ -202,6 +267,7 @@ public class GraphModelBatchInjector {
 					addedElements = parseResource(fileNode, ParseOptions.MODELREFERENCES, children, hawk,
 							r.providesSingletonElements());
 					setUnset(getUnset() + addedElements[3]);
+					createdSinceFlush += addedElements[0];
 					if (verbose) {
 						LOGGER.debug("{} REFERENCES! (took ~{} sec)", addedElements[0], (System.nanoTime() - startTime) / 1_000_000_000);
 					}
@@ -211,13 +277,20 @@ public class GraphModelBatchInjector {
 				} catch (Exception e) {
 					LOGGER.error(e.getMessage(), e);
 
+					// Make the partially inserted file visible, so it can be removed
+					flush();
 					IGraphNode n = new Utils().getFileNodeFromVCSCommitItem(graph, s);
 					if (n != null) {
 
-						try (IGraphTransaction t = g.beginTransaction()) {
+						try (IGraphTransaction t = graph.beginTransaction()) {
 							deletionUtils.get().deleteAll(n, s, listener);
 							t.success();
 
+							final Set<String> paths = filePaths.get(repoURL);
+							if (paths != null) {
+								paths.remove(s.getPath());
+							}
+
 						} catch (Exception e2) {
 							LOGGER.error("error in reverting from erroneous batch insert", e2);
 						}
@@ -235,6 +308,58 @@ public class GraphModelBatchInjector {
 			LOGGER.error(ex.getMessage(), ex);
 			listener.changeFailure();
 		}
+
+		if (flushThreshold > 0 && createdSinceFlush >= flushThreshold) {
+			flush();
+		}
+		return successState;
+	}
+
+	/**
+	 * Returns <code>true</code> if the graph may already have a node for the
+	 * file of the commit item. The files of each repository are looked up
+	 * once per bulk load session, in batch mode, rather than once per file.
+	 */
+	public boolean hasFileNode(VcsCommitItem s) throws Exception {
+		final String repository = s.getCommit().getDelta().getManager().getLocation();
+
+		Set<String> paths = filePaths.get(repository);
+		if (paths == null) {
+			enterBatchMode();
+			refreshIndexes();
+			fileDictionary.flush();
+
+			paths = new HashSet<>();
+			for (IGraphNode fileNode : fileDictionary.query("id", repository + GraphModelUpdater.FILEINDEX_REPO_SEPARATOR + "*")) {
+				if (repository.equals(fileNode.getProperty(FileNode.PROP_REPOSITORY))) {
+					paths.add(fileNode.getProperty(IModelIndexer.IDENTIFIER_PROPERTY).toString());
+				}
+			}
+			filePaths.put(repository, paths);
+		}
+
+		return paths.contains(s.getPath());
+	}
+
+	/**
+	 * Flushes the fragment index and forgets the fragment-unique nodes and
+	 * index handles kept so far. The next file will enter batch mode again,
+	 * if something else left it in the meantime.
+	 */
+	public void flush() {
+		if (fragmentIdx != null) {
+			fragmentIdx.flush();
+		}
+		unflushedFragments.clear();
+		createdSinceFlush = 0;
+		previousMode = Mode.UNKNOWN;
+	}
+
+	private void enterBatchMode() {
+		// Entering batch mode is not free in some backends, even if we are already in it
+		if (graph.currentMode() != Mode.NO_TX_MODE) {
+			graph.enterBatchMode();
+		}
 	}
 
 	private IGraphNode addFileNode(VcsCommitItem s, IGraphChangeListener listener) {
@@ -369,6 +494,7 @@ public class GraphModelBatchInjector {
 			IGraphNode node = graph.createNode(nodeMap, ModelElementNode.OBJECT_VERTEX_LABEL);
 			if (eObject.isFragmentUnique()) {
 				fragmentIdx.add(node, "id", eObject.getUriFragment());
+				unflushedFragments.put(eObject.getUriFragment(), node);
 			}
 
 			// propagate changes to listeners
@@ -594,7 +720,10 @@ public class GraphModelBatchInjector {
 	}
 
 	private IGraphNode getFromFragmentIndex(IHawkObject eObject) {
-		IGraphNode node = null;
+		IGraphNode node = unflushedFragments.get(eObject.getUriFragment());
+		if (node != null) {
+			return node;
+		}
 
 		final Iterator<? extends IGraphNode> itr = fragmentIdx.get("id", eObject.getUriFragment()).iterator();
 		while (itr.hasNext()) {
@@ -675,7 +804,7 @@ public class GraphModelBatchInjector {
 	 * @throws Exception
 	 */
 	protected boolean addEReferences(IGraphNode fileNode, IGraphNode node, IHawkObject source,
-			Map<String, IGraphNode> addedNodesHash, Map<String, IGraphNode> nodes) throws Exception {
+			Map<String, IGraphNode> addedNodesHash, Function<String, IGraphNode> nodes) throws Exception {
 
 		refreshIndexes();
 
@@ -698,7 +827,7 @@ public class GraphModelBatchInjector {
 								IGraphNode dest = null;
 								dest = addedNodesHash.get(destinationHawkObject.getUriFragment());
 								if (dest == null)
-									dest = nodes.get(destinationHawkObject.getUriFragment());
+									dest = nodes.apply(destinationHawkObject.getUriFragment());
 
 								Map<String, Object> props = new HashMap<String, Object>();
 								if (eReference.isContainment()) {
@@ -721,7 +850,7 @@ public class GraphModelBatchInjector {
 						if (!destinationHawkObject.isInDifferentResourceThan(source)) {
 							IGraphNode dest = addedNodesHash.get(destinationHawkObject.getUriFragment());
 							if (dest == null)
-								dest = nodes.get(destinationHawkObject.getUriFragment());
+								dest = nodes.apply(destinationHawkObject.getUriFragment());
 
 							Map<String, Object> props = new HashMap<String, Object>();
 
@@ -844,7 +973,7 @@ public class GraphModelBatchInjector {
 			final String fullObjectFileURI = repoURL + GraphModelUpdater.FILEINDEX_REPO_SEPARATOR + relativeObjectFileURI;
 
 			Object proxies = node.getProperty(GraphModelUpdater.PROXY_REFERENCE_PREFIX + fullObjectFileURI);
-			proxies = new Utils().addToElementProxies((String[]) proxies, fullObjectURI, edgelabel, isContainment, isContainer);
+			proxies = new Utils().addToElementProxies(graph, proxies, fullObjectURI, edgelabel, isContainment, isContainer);
 			node.setProperty(GraphModelUpdater.PROXY_REFERENCE_PREFIX + fullObjectFileURI, proxies);
 
 			proxyDictionary.add(node, Collections.singletonMap(
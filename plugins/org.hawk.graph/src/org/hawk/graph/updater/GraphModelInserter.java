@@ -22,7 +22,9 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -32,6 +34,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import org.hawk.core.IModelIndexer;
@@ -51,13 +63,16 @@ import org.hawk.core.model.IHawkObject;
 import org.hawk.core.model.IHawkReference;
 import org.hawk.core.query.IAccess;
 import org.hawk.core.query.IAccessListener;
+import org.hawk.core.query.IDerivedAttributeEvaluator;
 import org.hawk.core.query.IQueryEngine;
 import org.hawk.core.query.InvalidQueryException;
 import org.hawk.core.query.QueryExecutionException;
+import org.hawk.core.util.SystemProperties;
 import org.hawk.graph.ModelElementNode;
 import org.hawk.graph.updater.proxies.ProxyReferenceList;
 import org.hawk.graph.updater.proxies.ProxyReferenceList.ProxyReference;
 import org.hawk.graph.updater.proxies.ProxyReferenceTarget;
+import org.hawk.graph.updater.proxies.ProxyResolutionCursor;
 import org.hawk.graph.util.GraphUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -69,6 +84,11 @@ import org.slf4j.LoggerFactory;
  */
 public class GraphModelInserter {
 
+	/**
+	 * Reloads the nodes from the graph as they are iterated over, in chunks of
+	 * {@link #RELOAD_CHUNK_SIZE} nodes (see
+	 * {@link IGraphDatabase#getNodesByIds(Collection)}).
+	 */
 	protected class ReloadNodeCollectionIterable implements Iterable<IGraphNode> {
 		private final Iterable<IGraphNode> nodes;
 
@@ -81,15 +101,23 @@ public class GraphModelInserter {
 			Iterator<IGraphNode> itNodes = nodes.iterator();
 
 			return new Iterator<IGraphNode>() {
+				private Iterator<IGraphNode> itChunk = Collections.emptyIterator();
+
 				@Override
 				public boolean hasNext() {
-					return itNodes.hasNext();
+					return itChunk.hasNext() || itNodes.hasNext();
 				}
 
 				@Override
 				public IGraphNode next() {
-					Object id = itNodes.next().getId();
-					return indexer.getGraph().getNodeById(id);
+					if (!itChunk.hasNext()) {
+						final List<Object> ids = new ArrayList<>(RELOAD_CHUNK_SIZE);
+						while (itNodes.hasNext() && ids.size() < RELOAD_CHUNK_SIZE) {
+							ids.add(itNodes.next().getId());
+						}
+						itChunk = indexer.getGraph().getNodesByIds(ids).iterator();
+					}
+					return itChunk.next();
 				}
 			};
 		}
@@ -119,6 +147,16 @@ public class GraphModelInserter {
 	 */
 	public static final String DERIVED_IDXNAME_NODEPROP = "indexName";
 
+	/**
+	 * Name of the system property with the number of threads used to compute
+	 * derived attributes. With more than one thread, the derived attributes are
+	 * computed in parallel (as long as the query engine supports it and the
+	 * graph supports concurrent readers), and a single thread writes the
+	 * results.
+	 * Defaults to 1, which computes them in the updater thread.
+	 */
+	public static final String DERIVED_THREADS_PROPERTY = "hawk.derived.threads";
+
 	private static final Logger LOGGER = LoggerFactory.getLogger(GraphModelInserter.class);
 
 	// toggle to enabled detailed output of update process
@@ -127,7 +165,7 @@ public class GraphModelInserter {
 	private static final int PROXY_RESOLVE_NOTIFY_INTERVAL = 25000;
 	private static final int PROXY_RESOLVE_TX_SIZE = 5000;
 	private static final int DERIVED_PNODE_TX_SIZE = 1000;
-	private static final double MAX_TX_LOADRATIO = 0.5;
+	private static final int RELOAD_CHUNK_SIZE = 500;
 
 	private String repoURL;
 	private String tempDirURI;
@@ -143,9 +181,12 @@ public class GraphModelInserter {
 	private GraphModelBatchInjector inj;
 	private VcsCommitItem commitItem;
 
-	private Map<String, IGraphNode> nodes = new HashMap<>();
+	private StoredElements stored;
+	private int resourceCount;
 	private TypeCache typeCache;
 	private Supplier<DeletionUtils> deletionUtils;
+	private GraphModelBatchInjector bulkLoadSession;
+	private int derivedThreads = SystemProperties.getInteger(DERIVED_THREADS_PROPERTY, 1);
 
 	public GraphModelInserter(IModelIndexer hawk, Supplier<DeletionUtils> deletionUtils, TypeCache typeCache) {
 		this.indexer = hawk;
@@ -154,6 +195,17 @@ public class GraphModelInserter {
 		this.deletionUtils = deletionUtils;
 	}
 
+	/**
+	 * Makes this inserter add new files through a shared bulk load session
+	 * (see
+	 * {@link GraphModelBatchInjector#GraphModelBatchInjector(IModelIndexer, Supplier, TypeCache, IGraphChangeListener, int)}),
+	 * or through their own injectors if <code>null</code>. The session is
+	 * flushed before updating files that were already in the graph.
+	 */
+	public void setBulkLoadSession(GraphModelBatchInjector session) {
+		this.bulkLoadSession = session;
+	}
+
 	public boolean run(IHawkModelResource res, VcsCommitItem s, final boolean verbose) throws Exception {
 		if (verbose) {
 			indexer.getCompositeStateListener().info("Calculating model delta for file: " + s.getPath() + "...");
@@ -161,25 +213,43 @@ public class GraphModelInserter {
 
 		this.resource = res;
 		this.commitItem = s;
-		this.inj = new GraphModelBatchInjector(graph, typeCache, this.commitItem, indexer.getCompositeGraphChangeListener());
+		this.stored = new StoredElements(graph);
+		this.resourceCount = 0;
 
 		final double ratio = calculateModelDeltaRatio(verbose);
 		if (ratio >= 0) {
+			if (bulkLoadSession != null) {
+				bulkLoadSession.flush();
+			}
+			this.inj = new GraphModelBatchInjector(graph, typeCache, this.commitItem, indexer.getCompositeGraphChangeListener());
 			this.tempDirURI = new File(graph.getTempDir()).toURI().toString();
 			if (verbose) {
 				LOGGER.debug("File already present, calculating deltas with respect to graph storage");
 			}
 
-			if (ratio > MAX_TX_LOADRATIO) {
-				return batchUpdate(verbose);
+			final int storedCount = stored.size();
+			final int changedCount = added.size() + retyped.size() + updated.size()
+				+ (storedCount - unchanged.size() - updated.size() - retyped.size());
+			final UpdateCostModel costModel = UpdateCostModel.forBackend(graph.getClass());
+			final UpdateCostModel.Strategy strategy = costModel.choose(
+				getAllowedUpdateStrategies(), storedCount, resourceCount, changedCount);
+
+			final long startMillis = System.currentTimeMillis();
+			final boolean success;
+			if (strategy == UpdateCostModel.Strategy.BATCH) {
+				success = batchUpdate(verbose);
 			} else {
 				indexer.getCompositeStateListener()
 					.info("Performing transactional update (ratio:" + ratio + ") on file: " + commitItem.getPath() + "...");
-				LOGGER.debug("transactional update called");
+				LOGGER.debug("transactional update called ({})", strategy);
 
-				return transactionalUpdate(verbose);
+				success = transactionalUpdate(verbose, strategy == UpdateCostModel.Strategy.TRANSACTIONAL);
 			}
 
+			if (success) {
+				costModel.record(strategy, storedCount, resourceCount, changedCount, System.currentTimeMillis() - startMillis);
+			}
+			return success;
 		} else {
 			/*
 			 * Populate the database from scratch (for this file) -- this will trigger
@@ -189,8 +259,25 @@ public class GraphModelInserter {
 		}
 	}
 
+	/**
+	 * Returns the strategies that may be used to update files which are
+	 * already in the graph.
+	 */
+	protected Set<UpdateCostModel.Strategy> getAllowedUpdateStrategies() {
+		return EnumSet.allOf(UpdateCostModel.Strategy.class);
+	}
+
+	/**
+	 * Updates the file in place, according to the delta computed by
+	 * {@link #calculateModelDeltaRatio(IGraphNode, boolean)}.
+	 *
+	 * @param fetchAll
+	 *            If <code>true</code>, all the existing nodes of the file are
+	 *            fetched at once. Otherwise, only the nodes that are needed
+	 *            are fetched.
+	 */
 	@SuppressWarnings("unchecked")
-	private boolean transactionalUpdate(final boolean verbose) throws Exception {
+	private boolean transactionalUpdate(final boolean verbose, final boolean fetchAll) throws Exception {
 		graph.exitBatchMode();
 
 		final IGraphChangeListener listener = indexer.getCompositeGraphChangeListener();
@@ -200,13 +287,16 @@ public class GraphModelInserter {
 			repoURL = commitItem.getCommit().getDelta().getManager().getLocation();
 			IGraphNode fileNode = graph.getFileIndex()
 					.get("id", repoURL + GraphModelUpdater.FILEINDEX_REPO_SEPARATOR + commitItem.getPath()).iterator().next();
+			if (fetchAll) {
+				stored.fetchAll(fileNode);
+			}
 
 			// manage retyped nodes
 			for (final Map.Entry<String, IHawkObject> entry : retyped.entrySet()) {
 				final String uriFragment = entry.getKey();
 				final IHawkObject o = entry.getValue();
 
-				final IGraphNode node = nodes.remove(uriFragment);
+				final IGraphNode node = stored.remove(uriFragment);
 				remove(node, fileNode, listener);
 				added.put(uriFragment, o);
 			}
@@ -233,22 +323,23 @@ public class GraphModelInserter {
 
 			// references of added object and tracking of changes
 			for (IGraphNode node : addedNodes.keySet()) {
-				inj.addEReferences(fileNode, node, addedNodes.get(node), addedNodesHash, nodes);
+				inj.addEReferences(fileNode, node, addedNodes.get(node), addedNodesHash, stored::get);
 			}
 
 			// delete obsolete nodes and change attributes
-			for (String s : nodes.keySet()) {
-
-				IGraphNode node = nodes.get(s);
-
-				if (unchanged.containsKey(node.getProperty(IModelIndexer.IDENTIFIER_PROPERTY))) {
+			for (String s : stored.getIdentifiers()) {
+				if (unchanged.containsKey(s)) {
 					// do nothing as node is identical to current model element
-				} else if (updated.containsKey(node.getProperty(IModelIndexer.IDENTIFIER_PROPERTY))) {
+					continue;
+				}
+
+				IGraphNode node = stored.get(s);
+				if (updated.containsKey(s)) {
 					// remove all old proxies of this node to other nodes (as
 					// any new ones will be re-created)
 					cleanupNode(node);
 					// change properties of node to the new values
-					final IHawkObject o = updated.get(node.getProperty(IModelIndexer.IDENTIFIER_PROPERTY));
+					final IHawkObject o = updated.get(s);
 					node.setProperty(IModelIndexer.SIGNATURE_PROPERTY, o.signature());
 					updateNodeProperties(fileNode, node, o);
 				} else {
@@ -259,7 +350,7 @@ public class GraphModelInserter {
 			// change references (including adding new proxies as required)
 			for (String o : updated.keySet()) {
 				IHawkObject source = updated.get(o);
-				IGraphNode node = nodes.get(source.getUriFragment());
+				IGraphNode node = stored.get(source.getUriFragment());
 
 				// its null if it was just inserted (above), this is fine.
 				if (node == null)
@@ -314,7 +405,7 @@ public class GraphModelInserter {
 						}
 
 						for (String s : targetids) {
-							IGraphNode dest = nodes.get(s);
+							IGraphNode dest = stored.get(s);
 							if (dest == null) {
 								dest = addedNodesHash.get(s);
 							}
@@ -421,7 +512,7 @@ public class GraphModelInserter {
 			String destinationObjectRelativeFileURI = destinationObjectRelativePathURI;
 
 			destinationObjectRelativeFileURI = destinationObjectRelativePathURI
-					.substring(destinationObjectRelativePathURI.indexOf("#"));
+					.substring(0, destinationObjectRelativePathURI.indexOf("#"));
 
 			String destinationObjectFullPathURI = repoURL + GraphModelUpdater.FILEINDEX_REPO_SEPARATOR
 					+ destinationObjectRelativePathURI;
@@ -431,7 +522,7 @@ public class GraphModelInserter {
 
 			Object proxies = null;
 			proxies = node.getProperty(GraphModelUpdater.PROXY_REFERENCE_PREFIX + destinationObjectFullFileURI);
-			proxies = new Utils().addToElementProxies((String[]) proxies, destinationObjectFullPathURI, edgelabel,
+			proxies = new Utils().addToElementProxies(graph, proxies, destinationObjectFullPathURI, edgelabel,
 					isContainment, isContainer);
 
 			node.setProperty(GraphModelUpdater.PROXY_REFERENCE_PREFIX + destinationObjectFullFileURI, proxies);
@@ -635,7 +726,12 @@ public class GraphModelInserter {
 			LOGGER.info("calculateModelDeltaSize() called");
 		}
 
-		final IGraphNode fileNode = new Utils().getFileNodeFromVCSCommitItem(graph, commitItem);
+		/*
+		 * Bulk load sessions know which files are in the graph, so new files
+		 * do not need a transaction and a file index flush each.
+		 */
+		final IGraphNode fileNode = bulkLoadSession == null || bulkLoadSession.hasFileNode(commitItem)
+			? new Utils().getFileNodeFromVCSCommitItem(graph, commitItem) : null;
 		if (fileNode != null) {
 			return calculateModelDeltaRatio(fileNode, verbose);
 		} else {
@@ -646,31 +742,30 @@ public class GraphModelInserter {
 		}
 	}
 
+	/**
+	 * Compares the signatures of the model elements of the file in the graph
+	 * with those in the new version of the file, and returns the ratio of
+	 * elements that were added, changed, retyped or deleted. Only the nodes of
+	 * the changed elements are fetched.
+	 */
 	protected double calculateModelDeltaRatio(final IGraphNode fileNode, boolean verbose) throws Exception {
 		try (IGraphTransaction t = graph.beginTransaction()) {
-			final Map<String, byte[]> signatures = new HashMap<>();
-
-			// Get existing nodes from the store (and their signatures)
-			for (IGraphEdge e : fileNode.getIncomingWithType(ModelElementNode.EDGE_LABEL_FILE)) {
-				IGraphNode n = e.getStartNode();
-				nodes.put(n.getProperty(IModelIndexer.IDENTIFIER_PROPERTY).toString(), n);
-
-				signatures.put((String) n.getProperty(IModelIndexer.IDENTIFIER_PROPERTY),
-						(byte[]) n.getProperty(IModelIndexer.SIGNATURE_PROPERTY));
-			}
+			// Get the identifiers and signatures of the existing nodes from the store
+			stored.load(fileNode);
 			if (verbose) {
-				LOGGER.info("File contains: {} ({}) nodes in store", nodes.size(), signatures.size());
+				LOGGER.info("File contains: {} nodes in store", stored.size());
 			}
 
 			// Get the model elements from the resource and use signatures and URI
 			for (IHawkObject o : resource.getAllContents()) {
+				resourceCount++;
 				final String uriFragment = o.getUriFragment();
-				byte[] hash = signatures.get(uriFragment);
+				byte[] hash = stored.getSignature(uriFragment);
 				if (hash != null) {
 					if (!Arrays.equals(hash, o.signature())) {
 						final String actualType = o.getType().getName();
 
-						final IGraphNode node = nodes.get(uriFragment);
+						final IGraphNode node = stored.get(uriFragment);
 						final Iterator<IGraphEdge> typeEdges = node
 								.getOutgoingWithType(ModelElementNode.EDGE_LABEL_OFTYPE).iterator();
 						final IGraphNode typeNode = typeEdges.next().getEndNode();
@@ -696,9 +791,9 @@ public class GraphModelInserter {
 			final int addedn = added.size();
 			final int retypedn = retyped.size();
 			final int updatedn = updated.size();
-			final int deletedn = nodes.size() - unchanged.size() - updatedn - retypedn;
+			final int deletedn = stored.size() - unchanged.size() - updatedn - retypedn;
 
-			final double ratio = (addedn + retypedn + updatedn + deletedn) / ((double) nodes.size());
+			final double ratio = (addedn + retypedn + updatedn + deletedn) / ((double) stored.size());
 			if (verbose) {
 				LOGGER.info("Update contains | a:{} u:{} d:{} ratio: {}",
 					(addedn + retypedn), updatedn, deletedn, ratio);
@@ -723,10 +818,14 @@ public class GraphModelInserter {
 		}
 		boolean success = true;
 		if (resource != null) {
-			GraphModelBatchInjector batch = new GraphModelBatchInjector(indexer, deletionUtils, typeCache,
-				commitItem, resource,
-				indexer.getCompositeGraphChangeListener(), verbose);
-			success = batch.getSuccess();
+			if (bulkLoadSession != null) {
+				success = bulkLoadSession.inject(commitItem, resource, verbose);
+			} else {
+				GraphModelBatchInjector batch = new GraphModelBatchInjector(indexer, deletionUtils, typeCache,
+					commitItem, resource,
+					indexer.getCompositeGraphChangeListener(), verbose);
+				success = batch.getSuccess();
+			}
 			if (!success) {
 				LOGGER.error(
 						"model insertion aborted: see above error (maybe you need to register the metamodel?)");
@@ -751,56 +850,72 @@ public class GraphModelInserter {
 	}
 
 	public void resolveProxies(IGraphDatabase graph) throws Exception {
+		resolveProxies(graph, Collections.<String>emptySet());
+	}
+
+	/**
+	 * Resolves pending proxy references, going through the proxy dictionary one
+	 * target file at a time. Only the proxy reference lists of a bounded number
+	 * of source nodes are loaded at once, and each batch is committed on its
+	 * own. After each target file, its URI is recorded as the
+	 * {@link ProxyResolutionCursor}: if a pass is interrupted, the next one
+	 * skips the target files up to the cursor, unless they were changed since.
+	 *
+	 * @param changedFileURIs
+	 *            Full URIs (<code>repo||||path</code>) of the files that were
+	 *            updated or deleted since the last pass.
+	 */
+	public void resolveProxies(IGraphDatabase graph, Set<String> changedFileURIs) throws Exception {
 		final long start = System.currentTimeMillis();
 
 		final IGraphChangeListener listener = indexer.getCompositeGraphChangeListener();
+		final ProxyResolutionCursor cursor = new ProxyResolutionCursor(graph);
 
-		// First, find out about all the proxy reference lists that we have to process
-		final List<ProxyReferenceList> proxyReferenceLists = getProxyReferenceLists(graph);
-
-		// Now reorganize individual proxy references by target file
-		int nToBeProcessed = 0;
-		final Map<ProxyReferenceTarget, List<ProxyReference>> refsByTargetFile = new HashMap<>();
-		for (ProxyReferenceList list : proxyReferenceLists) {
-			List<ProxyReference> refs = refsByTargetFile.get(list.getTargetFile());
-			if (refs == null) {
-				refs = new ArrayList<>();
-				refsByTargetFile.put(list.getTargetFile(), refs);
-			}
-
-			refs.addAll(list.getReferences());
-			nToBeProcessed += list.getReferences().size();
+		// First, find out the target files that we have to go through (sorted, so we can resume)
+		final SortedSet<String> targetFiles = getProxyTargetFiles(graph);
+		String resumeAfter;
+		try (IGraphTransaction tx = graph.beginTransaction()) {
+			resumeAfter = cursor.getLastTarget();
+			tx.success();
+		}
+		if (resumeAfter != null) {
+			LOGGER.info("Resuming interrupted proxy resolution after {}", resumeAfter);
 		}
 
 		final long startMillis = System.currentTimeMillis();
-		int totalProcessed = 0, currentProcessed = 0, totalResolved = 0;
-		final Iterator<Entry<ProxyReferenceTarget, List<ProxyReference>>> itTargetFiles
-			= refsByTargetFile.entrySet().iterator();
-		if (nToBeProcessed > 0) {
+		int totalProcessed = 0, currentProcessed = 0, totalResolved = 0, processedFiles = 0;
+		if (!targetFiles.isEmpty()) {
 			indexer.getCompositeStateListener()
-				.info(String.format("Processing %d/%d proxy references (%d sec total)",
-					totalProcessed, nToBeProcessed, (System.currentTimeMillis() - startMillis) / 1000));
+				.info(String.format("Processing proxy references to %d files", targetFiles.size()));
 		}
 
 		// Go through the proxy references pointing to each target file
-		while (itTargetFiles.hasNext()) {
-			final Entry<ProxyReferenceTarget, List<ProxyReference>> entry = itTargetFiles.next();
-			final ProxyReferenceTarget targetFile = entry.getKey();
-			final List<ProxyReference> refs = entry.getValue();
+		for (String targetFile : targetFiles) {
+			++processedFiles;
+			if (resumeAfter != null && targetFile.compareTo(resumeAfter) <= 0 && !isChangedTarget(targetFile, changedFileURIs)) {
+				continue;
+			}
 
+			final List<Object> sourceIDs = getProxySourceNodeIDs(graph, targetFile);
 			int iFrom = 0;
-			while (iFrom < refs.size()) {
-				// Need to batch up proxy resolution to keep tx size bound
-				List<ProxyReference> sublistRefs = refs.subList(iFrom,
-						Math.min(refs.size(), iFrom + PROXY_RESOLVE_TX_SIZE));
-				iFrom += PROXY_RESOLVE_TX_SIZE;
-
+			while (iFrom < sourceIDs.size()) {
+				// Need to batch up proxy resolution to keep tx size (and memory use) bound
 				try (IGraphTransaction tx = graph.beginTransaction()) {
 					listener.changeStart();
+					final List<ProxyReferenceList> lists = new ArrayList<>();
+					int nRefs = 0;
+					while (iFrom < sourceIDs.size() && nRefs < PROXY_RESOLVE_TX_SIZE) {
+						final ProxyReferenceList list = getProxyReferenceList(graph, sourceIDs.get(iFrom++), targetFile);
+						if (list != null) {
+							lists.add(list);
+							nRefs += list.getReferences().size();
+						}
+					}
+
 					IGraphNodeIndex proxyDictionary = graph
 							.getOrCreateNodeIndex(GraphModelBatchInjector.PROXY_DICT_NAME);
-					final int nResolved = resolveProxies(graph, listener, targetFile, sublistRefs, proxyDictionary);
-					currentProcessed += sublistRefs.size();
+					final int nResolved = resolveProxies(graph, listener, targetFile, lists, proxyDictionary);
+					currentProcessed += nRefs;
 					totalResolved += nResolved;
 
 					tx.success();
@@ -815,23 +930,90 @@ public class GraphModelInserter {
 					currentProcessed = 0;
 					final long elapsedSeconds = (System.currentTimeMillis() - startMillis) / 1000;
 					indexer.getCompositeStateListener()
-							.info(String.format("Processed %d/%d proxy references (%d sec total)",
-									totalProcessed, nToBeProcessed, elapsedSeconds));
+							.info(String.format("Processed %d proxy references, %d/%d files (%d sec total)",
+									totalProcessed, processedFiles, targetFiles.size(), elapsedSeconds));
 				}
 			}
+
+			try (IGraphTransaction tx = graph.beginTransaction()) {
+				cursor.setLastTarget(targetFile);
+				tx.success();
+			}
 		}
 		totalProcessed += currentProcessed;
 
 		try (IGraphTransaction tx = graph.beginTransaction()) {
+			cursor.clear();
 			final IGraphNodeIndex proxyDictionary = graph.getOrCreateNodeIndex(GraphModelBatchInjector.PROXY_DICT_NAME);
 			final int proxiesLeft = proxyDictionary.query(GraphModelUpdater.PROXY_REFERENCE_PREFIX, "*").size();
-			LOGGER.info("{} proxy ref lists left after resolving {} refs", proxiesLeft, totalResolved);
+			LOGGER.info("{} proxy ref lists left after resolving {}/{} refs", proxiesLeft, totalResolved, totalProcessed);
 			tx.success();
 		}
 
 		LOGGER.info("proxy resolution took: ~{}s", (System.currentTimeMillis() - start) / 1000.0);
 	}
 
+	private boolean isChangedTarget(String targetFile, Set<String> changedFileURIs) {
+		if (targetFile.endsWith(GraphModelUpdater.FILEINDEX_REPO_SEPARATOR + GraphModelUpdater.PROXY_FILE_WILDCARD)) {
+			// Fragment-based references may point to any of the changed files
+			return !changedFileURIs.isEmpty();
+		}
+		return changedFileURIs.contains(targetFile);
+	}
+
+	/**
+	 * Returns the full URIs of the files targeted by the proxy reference lists
+	 * in the graph, in ascending order. Does not parse the lists themselves.
+	 */
+	public SortedSet<String> getProxyTargetFiles(IGraphDatabase graph) throws Exception {
+		final SortedSet<String> targetFiles = new TreeSet<>();
+		try (IGraphTransaction tx = graph.beginTransaction()) {
+			IGraphNodeIndex proxyDictionary = graph.getOrCreateNodeIndex(GraphModelBatchInjector.PROXY_DICT_NAME);
+			IGraphIterable<? extends IGraphNode> proxies = proxyDictionary.query(GraphModelUpdater.PROXY_REFERENCE_PREFIX, "*");
+			for (IGraphNode n : proxies) {
+				for (String propertyKey : n.getPropertyKeys()) {
+					if (propertyKey.startsWith(GraphModelUpdater.PROXY_REFERENCE_PREFIX)) {
+						targetFiles.add(propertyKey.substring(GraphModelUpdater.PROXY_REFERENCE_PREFIX.length()));
+					}
+				}
+			}
+			tx.success();
+		}
+		return targetFiles;
+	}
+
+	private List<Object> getProxySourceNodeIDs(IGraphDatabase graph, String targetFile) throws Exception {
+		final Set<Object> ids = new LinkedHashSet<>();
+		try (IGraphTransaction tx = graph.beginTransaction()) {
+			IGraphNodeIndex proxyDictionary = graph.getOrCreateNodeIndex(GraphModelBatchInjector.PROXY_DICT_NAME);
+			for (IGraphNode n : proxyDictionary.get(GraphModelUpdater.PROXY_REFERENCE_PREFIX, targetFile)) {
+				ids.add(n.getId());
+			}
+			tx.success();
+		}
+		return new ArrayList<>(ids);
+	}
+
+	private ProxyReferenceList getProxyReferenceList(IGraphDatabase graph, Object sourceID, String targetFile) {
+		final IGraphNode n = graph.getNodeById(sourceID);
+		if (n == null) {
+			return null;
+		}
+
+		final Object propertyValue = n.getProperty(GraphModelUpdater.PROXY_REFERENCE_PREFIX + targetFile);
+		if (propertyValue == null) {
+			return null;
+		}
+
+		final ProxyReferenceList list = new ProxyReferenceList(n, propertyValue);
+		if (list.getReferences().isEmpty()) {
+			// TODO debug and fix?
+			LOGGER.warn("Proxy ref list is empty: node {}, target file {}", n, targetFile);
+			return null;
+		}
+		return list;
+	}
+
 	public List<ProxyReferenceList> getProxyReferenceLists(IGraphDatabase graph) throws Exception {
 		final List<ProxyReferenceList> proxyReferenceLists = new ArrayList<>();
 		try (IGraphTransaction tx = graph.beginTransaction()) {
@@ -840,9 +1022,9 @@ public class GraphModelInserter {
 			for (IGraphNode n : proxies) {
 				for (String propertyKey : n.getPropertyKeys()) {
 					if (propertyKey.startsWith(GraphModelUpdater.PROXY_REFERENCE_PREFIX)) {
-						final String[] propertyValue = (String[]) n.getProperty(propertyKey);
-						if (propertyValue.length > 0) {
-							proxyReferenceLists.add(new ProxyReferenceList(n, propertyValue));
+						final ProxyReferenceList list = new ProxyReferenceList(n, n.getProperty(propertyKey));
+						if (!list.getReferences().isEmpty()) {
+							proxyReferenceLists.add(list);
 						} else {
 							// TODO debug and fix?
 							LOGGER.warn("Proxy ref list is empty: node {}, key {}", n, propertyKey);
@@ -855,40 +1037,47 @@ public class GraphModelInserter {
 		return proxyReferenceLists;
 	}
 
-	private int resolveProxies(IGraphDatabase graph, IGraphChangeListener listener,	ProxyReferenceTarget targetFile, List<ProxyReference> references, IGraphNodeIndex proxyDictionary) throws Exception {
-		// Do URI -> ref mapping, find proxy ref lists that will need to be updated
-		final Map<String, List<ProxyReference>> refsByURI = new HashMap<>();
-		final Set<ProxyReferenceList> refLists = new HashSet<>();
-		for (ProxyReference ref : references) {
-			List<ProxyReference> refs = refsByURI.get(ref.getTarget().getElementURI());
-			if (refs == null) {
-				refs = new LinkedList<>();
-				refsByURI.put(ref.getTarget().getElementURI(), refs);
+	private int resolveProxies(IGraphDatabase graph, IGraphChangeListener listener, String targetFile, List<ProxyReferenceList> refLists, IGraphNodeIndex proxyDictionary) throws Exception {
+		// Do target file -> URI -> ref mapping
+		final Map<ProxyReferenceTarget, Map<String, List<ProxyReference>>> refsByTarget = new HashMap<>();
+		for (ProxyReferenceList list : refLists) {
+			Map<String, List<ProxyReference>> refsByURI = refsByTarget.get(list.getTargetFile());
+			if (refsByURI == null) {
+				refsByURI = new HashMap<>();
+				refsByTarget.put(list.getTargetFile(), refsByURI);
 			}
-			refs.add(ref);
 
-			refLists.add(ref.getList());
+			for (ProxyReference ref : list.getReferences()) {
+				List<ProxyReference> refs = refsByURI.get(ref.getTarget().getElementURI());
+				if (refs == null) {
+					refs = new LinkedList<>();
+					refsByURI.put(ref.getTarget().getElementURI(), refs);
+				}
+				refs.add(ref);
+			}
 		}
 
 		// Keep track of how many we resolved
 		int resolved = 0;
 
-		if (targetFile.isFragmentBased()) {
-			// GUID-based proxy resolution (e.g. for Modelio)
-			resolved = resolveProxiesByFragment(graph, listener, refsByURI, resolved);
-		} else {
-			// URI-based proxy resolution (e.g. for most EMF models)
-			resolved = resolveProxiesByPath(graph, listener, targetFile, refsByURI, resolved);
+		for (Entry<ProxyReferenceTarget, Map<String, List<ProxyReference>>> entry : refsByTarget.entrySet()) {
+			if (entry.getKey().isFragmentBased()) {
+				// GUID-based proxy resolution (e.g. for Modelio)
+				resolved = resolveProxiesByFragment(graph, listener, entry.getValue(), resolved);
+			} else {
+				// URI-based proxy resolution (e.g. for most EMF models)
+				resolved = resolveProxiesByPath(graph, listener, entry.getKey(), entry.getValue(), resolved);
+			}
 		}
 
 		// Go through the proxy reference lists and update graph based on it
 		for (ProxyReferenceList list : refLists) {
 			final IGraphNode sourceNode = graph.getNodeById(list.getSourceNodeID());
 			if (list.getReferences().isEmpty()) {
-				sourceNode.removeProperty(GraphModelUpdater.PROXY_REFERENCE_PREFIX + list.getFullPathURI());
-				proxyDictionary.remove(sourceNode, GraphModelUpdater.PROXY_REFERENCE_PREFIX, list.getFullPathURI());
+				sourceNode.removeProperty(GraphModelUpdater.PROXY_REFERENCE_PREFIX + targetFile);
+				proxyDictionary.remove(sourceNode, GraphModelUpdater.PROXY_REFERENCE_PREFIX, targetFile);
 			} else {
-				sourceNode.setProperty(GraphModelUpdater.PROXY_REFERENCE_PREFIX + list.getFullPathURI(), list.toArray());
+				sourceNode.setProperty(GraphModelUpdater.PROXY_REFERENCE_PREFIX + targetFile, list.encode(graph));
 			}
 		}
 
@@ -996,6 +1185,23 @@ public class GraphModelInserter {
 		final long startMillis = System.currentTimeMillis();
 		final IQueryEngine q = indexer.getKnownQueryLanguages().get(type);
 
+		if (derivedThreads > 1 && graph.supportsConcurrentReaders()) {
+			final List<IDerivedAttributeEvaluator> evaluators = new ArrayList<>(derivedThreads);
+			for (int i = 0; i < derivedThreads; i++) {
+				final IDerivedAttributeEvaluator evaluator = q.createDerivedAttributeEvaluator(indexer);
+				if (evaluator == null) {
+					break;
+				}
+				evaluators.add(evaluator);
+			}
+
+			if (evaluators.size() > 1) {
+				processDerivedFeatureNodesInParallel(type, derivedFeatureNodes, nNodes, evaluators);
+				return;
+			}
+			LOGGER.warn("Query engine {} cannot compute derived attributes in parallel: falling back to one thread", type);
+		}
+
 		Iterator<? extends IGraphNode> itUnresolved;
 		try (IGraphTransaction tx = graph.beginTransaction()) {
 			itUnresolved = derivedFeatureNodes.iterator();
@@ -1006,10 +1212,10 @@ public class GraphModelInserter {
 		int count = 0;
 		boolean done = false;
 		while (!done) {
+			final long startChunkMillis = System.currentTimeMillis();
+			final List<IGraphNode> chunk = new ArrayList<>(DERIVED_PNODE_TX_SIZE);
+			Map<String, List<IAccess>> writtenAccesses;
 			try (IGraphTransaction tx = graph.beginTransaction()) {
-				final long startChunkMillis = System.currentTimeMillis();
-
-				final List<IGraphNode> chunk = new ArrayList<>(DERIVED_PNODE_TX_SIZE);
 				for (int i = 0; i < DERIVED_PNODE_TX_SIZE && itUnresolved.hasNext(); i++) {
 					chunk.add(itUnresolved.next());
 				}
@@ -1020,14 +1226,7 @@ public class GraphModelInserter {
 
 				// dump access to Lucene and add hooks on updates
 				// TODO - break transactions by accesses, not by derived nodes
-				for (IAccess a : accessListener.getAccesses()) {
-					final IGraphNode sourceNode = graph.getNodeById(a.getSourceObjectID());
-					derivedAccessDictionary.remove(sourceNode);
-				}
-				for (IAccess a : accessListener.getAccesses()) {
-					final IGraphNode sourceNode = graph.getNodeById(a.getSourceObjectID());
-					derivedAccessDictionary.add(sourceNode, a.getAccessObjectID(), a.getProperty());
-				}
+				writtenAccesses = writeAccesses(derivedAccessDictionary, accessListener.getAccesses());
 
 				if (enableDebug) {
 					/* high overhead in certain corner cases (modelio -- large workspace -- only enable for debugging) */
@@ -1036,18 +1235,160 @@ public class GraphModelInserter {
 
 				accessListener.resetAccesses();
 				tx.success();
+			}
+			DerivedAccessStore.forGraph(graph).update(writtenAccesses);
+
+			count += chunk.size();
+			final long now = System.currentTimeMillis();
+			final long chunkMillis = now - startChunkMillis;
+			final long totalMillis = now - startMillis;
+			indexer.getCompositeStateListener().info(String.format(
+					"Processed %d/%d derived feature nodes of type '%s' (%d s, %d s total)",
+							count, nNodes, type, chunkMillis / 1000, totalMillis / 1000));
+		}
+	}
+
+	/**
+	 * Variant of {@link #processDerivedFeatureNodes(String, Iterable, int)}
+	 * which splits each chunk of derived feature nodes across several
+	 * evaluators running in their own threads and read-only transactions. The
+	 * results are written by the current thread in one transaction per chunk,
+	 * while the next chunk is being computed.
+	 */
+	private void processDerivedFeatureNodesInParallel(final String type, final Iterable<? extends IGraphNode> derivedFeatureNodes,
+			final int nNodes, final List<IDerivedAttributeEvaluator> evaluators) throws Exception {
+		final long startMillis = System.currentTimeMillis();
+		final BlockingQueue<IDerivedAttributeEvaluator> idleEvaluators = new LinkedBlockingQueue<>(evaluators);
+		final ExecutorService executor = Executors.newFixedThreadPool(evaluators.size(), new ThreadFactory() {
+			private final AtomicInteger threadCount = new AtomicInteger();
+
+			@Override
+			public Thread newThread(Runnable r) {
+				final Thread t = new Thread(r, "hawk-derive-" + threadCount.incrementAndGet());
+				t.setDaemon(true);
+				return t;
+			}
+		});
+
+		try {
+			Iterator<? extends IGraphNode> itUnresolved;
+			try (IGraphTransaction tx = graph.beginTransaction()) {
+				itUnresolved = derivedFeatureNodes.iterator();
+				tx.success();
+			}
+
+			int count = 0;
+			List<Future<List<IDerivedAttributeEvaluator.Result>>> pending = submitDerivedChunk(itUnresolved, executor, idleEvaluators);
+			while (!pending.isEmpty()) {
+				final long startChunkMillis = System.currentTimeMillis();
 
-				count += chunk.size();
+				final List<IDerivedAttributeEvaluator.Result> results = new ArrayList<>();
+				for (Future<List<IDerivedAttributeEvaluator.Result>> f : pending) {
+					try {
+						results.addAll(f.get());
+					} catch (ExecutionException ex) {
+						throw ex.getCause() instanceof Exception ? (Exception) ex.getCause() : ex;
+					}
+				}
+
+				// Compute the next chunk while we write this one
+				pending = submitDerivedChunk(itUnresolved, executor, idleEvaluators);
+
+				final Map<String, List<IAccess>> writtenAccesses;
+				try (IGraphTransaction tx = graph.beginTransaction()) {
+					final IGraphNodeIndex derivedAccessDictionary = graph.getOrCreateNodeIndex(DERIVED_ACCESS_IDXNAME);
+					for (IDerivedAttributeEvaluator.Result result : results) {
+						result.apply(graph);
+					}
+
+					// dump access to Lucene and add hooks on updates
+					final List<IAccess> accesses = new ArrayList<>();
+					for (IDerivedAttributeEvaluator.Result result : results) {
+						accesses.addAll(result.getAccesses());
+					}
+					writtenAccesses = writeAccesses(derivedAccessDictionary, accesses);
+					tx.success();
+				}
+				DerivedAccessStore.forGraph(graph).update(writtenAccesses);
+
+				count += results.size();
 				final long now = System.currentTimeMillis();
-				final long chunkMillis = now - startChunkMillis;
-				final long totalMillis = now - startMillis;
 				indexer.getCompositeStateListener().info(String.format(
-						"Processed %d/%d derived feature nodes of type '%s' (%d s, %d s total)",
-								count, nNodes, type, chunkMillis / 1000, totalMillis / 1000));
+						"Processed %d/%d derived feature nodes of type '%s' with %d threads (%d s, %d s total)",
+						count, nNodes, type, evaluators.size(), (now - startChunkMillis) / 1000, (now - startMillis) / 1000));
 			}
+		} finally {
+			executor.shutdownNow();
 		}
 	}
 
+	/**
+	 * Reads the IDs of the next {@link #DERIVED_PNODE_TX_SIZE} derived feature
+	 * nodes, and submits one evaluation task per idle evaluator. Returns an
+	 * empty list if there are no nodes left.
+	 */
+	private List<Future<List<IDerivedAttributeEvaluator.Result>>> submitDerivedChunk(
+			final Iterator<? extends IGraphNode> itUnresolved, final ExecutorService executor,
+			final BlockingQueue<IDerivedAttributeEvaluator> idleEvaluators) {
+		final List<Object> ids = new ArrayList<>(DERIVED_PNODE_TX_SIZE);
+		try (IGraphTransaction tx = graph.beginTransaction()) {
+			for (int i = 0; i < DERIVED_PNODE_TX_SIZE && itUnresolved.hasNext(); i++) {
+				ids.add(itUnresolved.next().getId());
+			}
+			tx.success();
+		} catch (Exception e) {
+			LOGGER.error("Could not read the next derived feature nodes", e);
+		}
+
+		final List<Future<List<IDerivedAttributeEvaluator.Result>>> futures = new ArrayList<>();
+		final int sliceSize = Math.max(1, (ids.size() + derivedThreads - 1) / derivedThreads);
+		for (int iFrom = 0; iFrom < ids.size(); iFrom += sliceSize) {
+			final List<Object> slice = ids.subList(iFrom, Math.min(ids.size(), iFrom + sliceSize));
+			futures.add(executor.submit(() -> {
+				final IDerivedAttributeEvaluator evaluator = idleEvaluators.take();
+				try (IGraphTransaction tx = graph.beginTransaction()) {
+					final List<IDerivedAttributeEvaluator.Result> results = new ArrayList<>(slice.size());
+					for (Object id : slice) {
+						final IDerivedAttributeEvaluator.Result result = evaluator.evaluate(id);
+						if (result != null) {
+							results.add(result);
+						}
+					}
+					tx.success();
+					return results;
+				} finally {
+					idleEvaluators.add(evaluator);
+				}
+			}));
+		}
+		return futures;
+	}
+
+	/**
+	 * Replaces the entries of the derived feature nodes in the derived access
+	 * index with their new accesses, fetching each derived feature node only
+	 * once. Returns the written accesses grouped by derived feature node, to be
+	 * passed to {@link DerivedAccessStore#update(Map)} once the transaction
+	 * succeeds.
+	 */
+	private Map<String, List<IAccess>> writeAccesses(IGraphNodeIndex derivedAccessDictionary, Iterable<IAccess> accesses) {
+		final Map<String, List<IAccess>> bySource = DerivedAccessStore.groupBySource(accesses);
+		for (Iterator<Entry<String, List<IAccess>>> itSource = bySource.entrySet().iterator(); itSource.hasNext(); ) {
+			final Entry<String, List<IAccess>> entry = itSource.next();
+			final IGraphNode sourceNode = graph.getNodeById(entry.getKey());
+			if (sourceNode == null) {
+				itSource.remove();
+				continue;
+			}
+
+			derivedAccessDictionary.remove(sourceNode);
+			for (IAccess a : entry.getValue()) {
+				derivedAccessDictionary.add(sourceNode, a.getAccessObjectID(), a.getProperty());
+			}
+		}
+		return bySource;
+	}
+
 	public void updateDerivedAttributes(String type, Set<IGraphNode> nodesToBeUpdated) throws Exception {
 		final IGraphChangeListener listener = indexer.getCompositeGraphChangeListener();
 
@@ -1068,22 +1409,11 @@ public class GraphModelInserter {
 			// nodesToBeUpdated = graph.retainExisting(nodesToBeUpdated);
 
 			IGraphNodeIndex derivedAccessDictionary = graph.getOrCreateNodeIndex(DERIVED_ACCESS_IDXNAME);
-			for (IAccess a : accessListener.getAccesses()) {
-				IGraphNode sourceNode = graph.getNodeById(a.getSourceObjectID());
-				if (sourceNode != null) {
-					derivedAccessDictionary.remove(sourceNode);
-				}
-			}
-
-			for (IAccess a : accessListener.getAccesses()) {
-				IGraphNode sourceNode = graph.getNodeById(a.getSourceObjectID());
-				if (sourceNode != null) {
-					derivedAccessDictionary.add(sourceNode, a.getAccessObjectID(), a.getProperty());
-				}
-			}
+			final Map<String, List<IAccess>> writtenAccesses = writeAccesses(derivedAccessDictionary, accessListener.getAccesses());
 
 			tx.success();
 			listener.changeSuccess();
+			DerivedAccessStore.forGraph(graph).update(writtenAccesses);
 		} catch (Exception e) {
 			listener.changeFailure();
 			throw e;
@@ -37,6 +37,8 @@ import org.hawk.core.graph.IGraphNode;
 import org.hawk.core.graph.IGraphNodeIndex;
 import org.hawk.core.graph.IGraphTransaction;
 import org.hawk.core.model.IHawkModelResource;
+import org.hawk.core.util.SystemProperties;
+import org.hawk.graph.updater.proxies.ProxyReferenceCodec;
 
 public class GraphModelUpdater implements IModelUpdater {
 
@@ -52,20 +54,54 @@ public class GraphModelUpdater implements IModelUpdater {
 
 	protected IModelIndexer indexer;
 	protected IConsole console;
-	protected TypeCache typeCache = new TypeCache();
+	protected final TypeCache typeCache = new TypeCache();
 	private boolean isActive = false;
+	private boolean proxyReferencesMigrated = false;
 	protected Set<IGraphNode> toBeUpdated = new HashSet<>();
 
+	private final int bulkLoadThreshold = SystemProperties.getInteger(GraphModelBatchInjector.BULK_LOAD_THRESHOLD_PROPERTY, 0);
+	private GraphModelBatchInjector bulkLoadSession;
+
+	/**
+	 * Full URIs of the files updated or deleted since the last call to
+	 * {@link #updateProxies()}: proxy references to these are always
+	 * reprocessed, even when resuming an interrupted proxy resolution.
+	 */
+	protected Set<String> changedFileURIs = new HashSet<>();
+
 	@Override
 	public void run(IConsole c, IModelIndexer hawk) throws Exception {
 		this.indexer = hawk;
 		this.console = c;
+		typeCache.invalidate();
+		migrateProxyReferences();
+	}
+
+	/**
+	 * Rewrites any proxy reference lists from older versions of Hawk with the
+	 * current encoding, if the graph is available and this has not been done
+	 * yet. Older lists can still be read, so failures are only reported.
+	 */
+	protected void migrateProxyReferences() {
+		final IGraphDatabase graph = indexer.getGraph();
+		if (proxyReferencesMigrated || graph == null) {
+			return;
+		}
+
+		try {
+			ProxyReferenceCodec.migrate(graph);
+			proxyReferencesMigrated = true;
+		} catch (Exception e) {
+			console.printerrln("Could not migrate proxy reference lists:");
+			console.printerrln(e);
+		}
 	}
 
 	@Override
 	public boolean updateStore(VcsCommitItem f, IHawkModelResource res) {
 		final long start = System.currentTimeMillis();
 		boolean success = true;
+		changedFileURIs.add(getFileURI(f));
 
 		/*
 		 * We register this listener only for this particular updater and during
@@ -93,16 +129,21 @@ public class GraphModelUpdater implements IModelUpdater {
 					/*
 					 * File failed to update to latest version so remove it to maintain consistency.
 					 */
+					endBulkLoadSession();
 					if (!deleteAll(f)) {
 						console.printerrln("warning: failed to delete item: "
 								+ f
 								+ "\nafter its resource failed to be loaded");
 						success = false;
 					}
-				} else if (!createInserter().run(res, f, verbose)) {
-					console.printerrln("warning: failed to update item: " + f
-							+ "\nmodel resource: " + res);
-					success = false;
+				} else {
+					final GraphModelInserter inserter = createInserter();
+					inserter.setBulkLoadSession(getBulkLoadSession());
+					if (!inserter.run(res, f, verbose)) {
+						console.printerrln("warning: failed to update item: " + f
+								+ "\nmodel resource: " + res);
+						success = false;
+					}
 				}
 			} catch (Exception ex) {
 				console.printerrln(ex);
@@ -137,10 +178,13 @@ public class GraphModelUpdater implements IModelUpdater {
 		final long start = System.currentTimeMillis();
 
 		console.println("attempting to resolve any leftover cross-file references...");
+		endBulkLoadSession();
+		migrateProxyReferences();
 		try {
 			indexer.getCompositeStateListener().info(
 					"Resolving any leftover cross-file references...");
-			createInserter().resolveProxies(indexer.getGraph());
+			createInserter().resolveProxies(indexer.getGraph(), changedFileURIs);
+			changedFileURIs = new HashSet<>();
 		} catch (Exception e) {
 			console.printerrln("Exception in updateStore - resolving proxies, returning 0:");
 			console.printerrln(e);
@@ -172,9 +216,14 @@ public class GraphModelUpdater implements IModelUpdater {
 		long end = System.currentTimeMillis();
 		console.println((end - start) / 1000 + "s" + (end - start) % 1000
 				+ "ms [proxy update]");
+	}
 
-		// Clear the type cache by creating a new one and letting the old one be GC'ed
-		typeCache = new TypeCache();
+	/**
+	 * Returns the cache of type nodes used by this updater, which is kept
+	 * across synchronisations.
+	 */
+	public TypeCache getTypeCache() {
+		return typeCache;
 	}
 
 	public boolean isActive() {
@@ -183,7 +232,7 @@ public class GraphModelUpdater implements IModelUpdater {
 
 	@Override
 	public void shutdown() {
-		//
+		endBulkLoadSession();
 	}
 
 	@Override
@@ -193,6 +242,7 @@ public class GraphModelUpdater implements IModelUpdater {
 
 	@Override
 	public boolean deleteAll(IVcsManager c) throws Exception {
+		endBulkLoadSession();
 
 		boolean ret = false;
 
@@ -224,6 +274,7 @@ public class GraphModelUpdater implements IModelUpdater {
 				item.setPath(path.startsWith("/") ? path : "/" + path);
 
 				fakeCommit.getItems().add(item);
+				changedFileURIs.add(getFileURI(item));
 				createDeletionUtils().deleteAll(fileNode, item, changeListener);
 			}
 
@@ -237,6 +288,8 @@ public class GraphModelUpdater implements IModelUpdater {
 	public boolean deleteAll(VcsCommitItem c) throws Exception {
 		indexer.getCompositeStateListener().info("Deleting all contents of file: " + c.getPath() + "...");
 		boolean ret = false;
+		changedFileURIs.add(getFileURI(c));
+		endBulkLoadSession();
 
 		IGraphNode n = new Utils().getFileNodeFromVCSCommitItem(indexer.getGraph(), c);
 		if (n != null) {
@@ -262,6 +315,7 @@ public class GraphModelUpdater implements IModelUpdater {
 			String attributename, String attributetype, boolean isMany,
 			boolean isOrdered, boolean isUnique, String derivationlanguage,
 			String derivationlogic) {
+		endBulkLoadSession();
 		createInserter()
 			.updateDerivedAttribute(metamodeluri,
 				typename, attributename, attributetype, isMany, isOrdered,
@@ -271,6 +325,7 @@ public class GraphModelUpdater implements IModelUpdater {
 	@Override
 	public void updateIndexedAttribute(String metamodeluri, String typename,
 			String attributename) {
+		endBulkLoadSession();
 		createInserter().updateIndexedAttribute(metamodeluri,
 				typename, attributename);
 	}
@@ -286,6 +341,7 @@ public class GraphModelUpdater implements IModelUpdater {
 		if (reposItems.isEmpty()) {
 			return reposItems;
 		}
+		endBulkLoadSession();
 
 		final VcsCommitItem firstItem = reposItems.iterator().next();
 		final String repositoryURL = firstItem.getCommit().getDelta()
@@ -347,6 +403,34 @@ public class GraphModelUpdater implements IModelUpdater {
 		return changed;
 	}
 
+	private static String getFileURI(VcsCommitItem item) {
+		return item.getCommit().getDelta().getManager().getLocation() + FILEINDEX_REPO_SEPARATOR + item.getPath();
+	}
+
+	/**
+	 * Returns the bulk load session to be used for inserting new files,
+	 * creating it if needed, or <code>null</code> if bulk loading is disabled
+	 * (see {@link GraphModelBatchInjector#BULK_LOAD_THRESHOLD_PROPERTY}).
+	 */
+	protected GraphModelBatchInjector getBulkLoadSession() {
+		if (bulkLoadThreshold > 0 && bulkLoadSession == null) {
+			bulkLoadSession = new GraphModelBatchInjector(indexer, this::createDeletionUtils,
+				typeCache, indexer.getCompositeGraphChangeListener(), bulkLoadThreshold);
+		}
+		return bulkLoadSession;
+	}
+
+	/**
+	 * Flushes and discards the current bulk load session, if any. Needs to be
+	 * done before anything else reads or changes the graph.
+	 */
+	protected void endBulkLoadSession() {
+		if (bulkLoadSession != null) {
+			bulkLoadSession.flush();
+			bulkLoadSession = null;
+		}
+	}
+
 	public GraphModelInserter createInserter() {
 		return new GraphModelInserter(indexer, this::createDeletionUtils, typeCache);
 	}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.graph.updater;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hawk.core.IModelIndexer;
+import org.hawk.core.graph.IGraphDatabase;
+import org.hawk.core.graph.IGraphEdge;
+import org.hawk.core.graph.IGraphNode;
+import org.hawk.graph.ModelElementNode;
+
+/**
+ * Identifiers, node IDs and signatures of the model elements of a file which
+ * are already in the graph. The nodes themselves are only fetched when they are
+ * needed, unless {@link #fetchAll(IGraphNode)} is used.
+ */
+class StoredElements {
+
+	private final IGraphDatabase graph;
+	private final Map<String, Object> nodeIds = new HashMap<>();
+	private final Map<String, byte[]> signatures = new HashMap<>();
+	private final Map<String, IGraphNode> nodes = new HashMap<>();
+
+	public StoredElements(IGraphDatabase graph) {
+		this.graph = graph;
+	}
+
+	/**
+	 * Reads the identifiers, IDs and signatures of all the model elements in a
+	 * file. Must be called within a transaction.
+	 */
+	public void load(IGraphNode fileNode) {
+		for (IGraphEdge e : fileNode.getIncomingWithType(ModelElementNode.EDGE_LABEL_FILE)) {
+			final IGraphNode n = e.getStartNode();
+			final String identifier = n.getProperty(IModelIndexer.IDENTIFIER_PROPERTY).toString();
+			nodeIds.put(identifier, n.getId());
+			signatures.put(identifier, (byte[]) n.getProperty(IModelIndexer.SIGNATURE_PROPERTY));
+		}
+	}
+
+	/**
+	 * Fetches the nodes of all the model elements in a file at once, which can
+	 * be faster than fetching many of them one by one. Must be called within a
+	 * transaction.
+	 */
+	public void fetchAll(IGraphNode fileNode) {
+		for (IGraphEdge e : fileNode.getIncomingWithType(ModelElementNode.EDGE_LABEL_FILE)) {
+			final IGraphNode n = e.getStartNode();
+			final String identifier = n.getProperty(IModelIndexer.IDENTIFIER_PROPERTY).toString();
+			if (nodeIds.containsKey(identifier)) {
+				nodes.put(identifier, n);
+			}
+		}
+	}
+
+	public int size() {
+		return nodeIds.size();
+	}
+
+	public Set<String> getIdentifiers() {
+		return nodeIds.keySet();
+	}
+
+	public byte[] getSignature(String identifier) {
+		return signatures.get(identifier);
+	}
+
+	/**
+	 * Returns the node of a stored model element, fetching it if needed, or
+	 * <code>null</code> if there is no such element. Must be called within a
+	 * transaction.
+	 */
+	public IGraphNode get(String identifier) {
+		IGraphNode node = nodes.get(identifier);
+		if (node == null) {
+			final Object id = nodeIds.get(identifier);
+			if (id != null) {
+				node = graph.getNodeById(id);
+				nodes.put(identifier, node);
+			}
+		}
+		return node;
+	}
+
+	/**
+	 * Forgets about a stored model element, returning its node. Must be called
+	 * within a transaction.
+	 */
+	public IGraphNode remove(String identifier) {
+		final IGraphNode node = get(identifier);
+		nodeIds.remove(identifier);
+		signatures.remove(identifier);
+		nodes.remove(identifier);
+		return node;
+	}
+
+}
@@ -33,17 +33,25 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Cache that can be shared across multiple {@link GraphModelBatchInjector}
- * classes to avoid retrieving the same type node again and again. Designed to
- * be simply GC'ed during the {@link GraphModelUpdater#updateProxies()} stage.
+ * classes to avoid retrieving the same type node again and again. Type nodes
+ * are keyed by the URI of their metamodel and their name: the first lookup in
+ * a metamodel hashes all its types at once. Only node identifiers are kept, so
+ * nodes are always retrieved from the current state of the graph (e.g. the
+ * current timepoint in time-aware backends).
+ *
+ * The cache is meant to live as long as its {@link GraphModelUpdater}, so it
+ * must be told about any changes in the metamodels through
+ * {@link #invalidate()} or {@link #invalidate(String)}: this is done by the
+ * {@link GraphMetaModelUpdater}.
  */
 public class TypeCache {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(TypeCache.class);
 
-	private Map<IHawkClass, IGraphNode> hashedEClasses = new HashMap<>();
-	private Map<IGraphNode, Map<String, Slot>> hashedEClassSlots = new HashMap<>();
+	private final Map<String, Map<String, Object>> hashedEClasses = new HashMap<>();
+	private final Map<Object, Map<String, Slot>> hashedEClassSlots = new HashMap<>();
 
-	public IGraphNode getEClassNode(IGraphDatabase graph, IHawkClassifier e) throws Exception {
+	public synchronized IGraphNode getEClassNode(IGraphDatabase graph, IHawkClassifier e) throws Exception {
 		IHawkClass eClass = null;
 
 		if (e instanceof IHawkClass)
@@ -51,49 +59,80 @@ public class TypeCache {
 		else
 			System.err.println("getEClassNode called on a non-class classifier:\n" + e);
 
-		IGraphNode classnode = hashedEClasses.get(eClass);
+		final String packageNSURI = eClass.getPackageNSURI();
+		Map<String, Object> classNodeIds = hashedEClasses.get(packageNSURI);
+		if (classNodeIds == null) {
+			classNodeIds = hashClassNodes(graph, packageNSURI);
+			hashedEClasses.put(packageNSURI, classNodeIds);
+		}
 
+		final Object classnodeId = classNodeIds.get(eClass.getName());
+		final IGraphNode classnode = classnodeId == null ? null : graph.getNodeById(classnodeId);
 		if (classnode == null) {
-			final String packageNSURI = eClass.getPackageNSURI();
-			IGraphNode ePackageNode = null;
-			try {
-				ePackageNode = graph.getMetamodelIndex().get("id", packageNSURI).getSingle();
-			} catch (NoSuchElementException ex) {
-				throw new Exception(String.format(
-						"Metamodel %s does not have a Node associated with it in the store, please make sure it has been inserted",
-						packageNSURI));
-			} catch (Exception e2) {
-				LOGGER.error("Error while finding metamodel node", e2);
-			}
+			throw new Exception(String.format(
+					"eClass: %s (%s) does not have a Node associated with it in the store, please make sure the metamodel %s has been inserted",
+					eClass.getName(), eClass.getUri(), packageNSURI));
+		}
 
-			for (IGraphEdge r : ePackageNode.getEdges()) {
-				final IGraphNode otherNode = r.getStartNode();
-				if (otherNode.equals(ePackageNode)) {
-					continue;
-				}
-
-				final Object id = otherNode.getProperty(IModelIndexer.IDENTIFIER_PROPERTY);
-				if (id.equals(eClass.getName())) {
-					classnode = otherNode;
-					break;
-				}
-			}
+		return classnode;
+	}
 
-			if (classnode != null) {
-				hashedEClasses.put(eClass, classnode);
-			} else {
-				throw new Exception(String.format(
-						"eClass: %s (%s) does not have a Node associated with it in the store, please make sure the metamodel %s has been inserted",
-						eClass.getName(), eClass.getUri(), packageNSURI));
-			}
+	public synchronized Map<String, Slot> getEClassNodeSlots(IGraphDatabase graph, IHawkClassifier e) throws Exception {
+		final IGraphNode classnode = getEClassNode(graph, e);
 
-			hashedEClassSlots.put(classnode, new TypeNode(classnode).getSlots());
+		Map<String, Slot> slots = hashedEClassSlots.get(classnode.getId());
+		if (slots == null) {
+			slots = new TypeNode(classnode).getSlots();
+			hashedEClassSlots.put(classnode.getId(), slots);
 		}
+		return slots;
+	}
 
-		return classnode;
+	/**
+	 * Discards all cached types. Should be called when metamodels are added
+	 * or removed.
+	 */
+	public synchronized void invalidate() {
+		hashedEClasses.clear();
+		hashedEClassSlots.clear();
 	}
 
-	public Map<String, Slot> getEClassNodeSlots(IGraphDatabase graph, IHawkClassifier e) throws Exception {
-		return hashedEClassSlots.get(getEClassNode(graph, e));
+	/**
+	 * Discards the cached types of a metamodel. Should be called when the
+	 * slots of its types change (e.g. after adding a derived attribute).
+	 */
+	public synchronized void invalidate(String packageNSURI) {
+		final Map<String, Object> classNodeIds = hashedEClasses.remove(packageNSURI);
+		if (classNodeIds != null) {
+			hashedEClassSlots.keySet().removeAll(classNodeIds.values());
+		}
+	}
+
+	private Map<String, Object> hashClassNodes(IGraphDatabase graph, final String packageNSURI) throws Exception {
+		IGraphNode ePackageNode = null;
+		try {
+			ePackageNode = graph.getMetamodelIndex().get("id", packageNSURI).getSingle();
+		} catch (NoSuchElementException ex) {
+			throw new Exception(String.format(
+					"Metamodel %s does not have a Node associated with it in the store, please make sure it has been inserted",
+					packageNSURI));
+		} catch (Exception e2) {
+			LOGGER.error("Error while finding metamodel node", e2);
+			throw e2;
+		}
+
+		final Map<String, Object> classNodeIds = new HashMap<>();
+		for (IGraphEdge r : ePackageNode.getEdges()) {
+			final IGraphNode otherNode = r.getStartNode();
+			if (otherNode.equals(ePackageNode)) {
+				continue;
+			}
+
+			final Object id = otherNode.getProperty(IModelIndexer.IDENTIFIER_PROPERTY);
+			if (id != null && !classNodeIds.containsKey(id.toString())) {
+				classNodeIds.put(id.toString(), otherNode.getId());
+			}
+		}
+		return classNodeIds;
 	}
 }
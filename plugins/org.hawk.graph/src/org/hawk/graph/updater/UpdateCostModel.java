@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.graph.updater;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Chooses how to update a file that is already in the graph, by estimating the
+ * cost of each strategy from the timings of recent updates. There is one model
+ * per graph backend, and estimates are kept separately for files of different
+ * sizes (in powers of two of the number of model elements).
+ *
+ * Each strategy has a cost per "unit of work" (see
+ * {@link #getWorkUnits(Strategy, int, int, int)}), which is updated with an
+ * exponential moving average after each update. Before any update has been
+ * timed, the initial costs reproduce the old fixed rule of using batch updates
+ * once more than half of the elements changed.
+ *
+ * As only the chosen strategy is timed, the estimates of the others would
+ * never be corrected if they started too high. To avoid this, one in every
+ * {@link #EXPLORE_EVERY} choices for files of a certain size picks the allowed
+ * strategy that has gone the longest without being timed for that size, as
+ * long as it is not estimated to be more than {@link #MAX_EXPLORE_RATIO} times
+ * slower than the best one.
+ */
+public class UpdateCostModel {
+
+	public enum Strategy {
+		/**
+		 * Update the file in place, loading all its existing nodes first.
+		 */
+		TRANSACTIONAL,
+
+		/**
+		 * Update the file in place, loading only the existing nodes that are
+		 * changed or referenced by the changed elements.
+		 */
+		STREAMING,
+
+		/**
+		 * Delete all the existing nodes and insert the file again in batch
+		 * mode.
+		 */
+		BATCH
+	}
+
+	/**
+	 * Number of choices for files of a certain size between explorations of
+	 * other strategies.
+	 */
+	public static final int EXPLORE_EVERY = 20;
+
+	/**
+	 * Strategies which are estimated to take more than this many times as long
+	 * as the best one are never explored.
+	 */
+	public static final double MAX_EXPLORE_RATIO = 4.0;
+
+	private static final Map<String, UpdateCostModel> MODELS = new ConcurrentHashMap<>();
+
+	private static final int SIZE_BUCKETS = 32;
+	private static final double SMOOTHING = 0.2;
+	private static final double[] INITIAL_MILLIS_PER_UNIT = { 1.0, 3.0, 0.75 };
+
+	private final double[][] millisPerUnit = new double[Strategy.values().length][SIZE_BUCKETS];
+
+	/** Number of choices made so far for each size bucket. */
+	private final long[] choiceCounts = new long[SIZE_BUCKETS];
+
+	/** Value of {@link #choiceCounts} when each strategy was last timed for each size bucket. */
+	private final long[][] lastRecorded = new long[Strategy.values().length][SIZE_BUCKETS];
+
+	protected UpdateCostModel() {
+		for (Strategy s : Strategy.values()) {
+			for (int i = 0; i < SIZE_BUCKETS; i++) {
+				millisPerUnit[s.ordinal()][i] = INITIAL_MILLIS_PER_UNIT[s.ordinal()];
+			}
+		}
+	}
+
+	/**
+	 * Returns the cost model shared by all graphs of the same backend.
+	 */
+	public static UpdateCostModel forBackend(Class<?> backendClass) {
+		return MODELS.computeIfAbsent(backendClass.getName(), (k) -> new UpdateCostModel());
+	}
+
+	/**
+	 * Returns the allowed strategy with the lowest estimated cost, or one of
+	 * the other strategies if it is time to explore them.
+	 *
+	 * @param storedCount
+	 *            Number of elements of the file that are in the graph.
+	 * @param resourceCount
+	 *            Number of elements in the new version of the file.
+	 * @param changedCount
+	 *            Number of elements that were added, changed, retyped or
+	 *            deleted.
+	 */
+	public synchronized Strategy choose(Set<Strategy> allowed, int storedCount, int resourceCount, int changedCount) {
+		Strategy best = null;
+		double bestCost = Double.POSITIVE_INFINITY;
+		for (Strategy s : allowed) {
+			final double cost = estimateMillis(s, storedCount, resourceCount, changedCount);
+			if (best == null || cost < bestCost) {
+				best = s;
+				bestCost = cost;
+			}
+		}
+
+		final int bucket = getSizeBucket(storedCount);
+		if (++choiceCounts[bucket] % EXPLORE_EVERY != 0) {
+			return best;
+		}
+
+		Strategy stalest = best;
+		for (Strategy s : allowed) {
+			if (s != best
+					&& lastRecorded[s.ordinal()][bucket] < lastRecorded[stalest.ordinal()][bucket]
+					&& estimateMillis(s, storedCount, resourceCount, changedCount) <= MAX_EXPLORE_RATIO * bestCost) {
+				stalest = s;
+			}
+		}
+		return stalest;
+	}
+
+	/**
+	 * Returns the estimated time in milliseconds that a strategy would take.
+	 */
+	public synchronized double estimateMillis(Strategy s, int storedCount, int resourceCount, int changedCount) {
+		return millisPerUnit[s.ordinal()][getSizeBucket(storedCount)]
+			* getWorkUnits(s, storedCount, resourceCount, changedCount);
+	}
+
+	/**
+	 * Records how long a successful update took with a certain strategy.
+	 */
+	public synchronized void record(Strategy s, int storedCount, int resourceCount, int changedCount, long elapsedMillis) {
+		final double observed = elapsedMillis / getWorkUnits(s, storedCount, resourceCount, changedCount);
+		final double[] bucketCosts = millisPerUnit[s.ordinal()];
+		final int bucket = getSizeBucket(storedCount);
+		bucketCosts[bucket] = SMOOTHING * observed + (1 - SMOOTHING) * bucketCosts[bucket];
+		lastRecorded[s.ordinal()][bucket] = choiceCounts[bucket];
+	}
+
+	/**
+	 * Returns the amount of work a strategy has to do: in-place updates have to
+	 * process the changed elements (and the transactional one has to load all
+	 * the stored ones as well), and batch updates have to delete all the stored
+	 * elements and insert all the new ones.
+	 */
+	protected double getWorkUnits(Strategy s, int storedCount, int resourceCount, int changedCount) {
+		switch (s) {
+		case TRANSACTIONAL:
+			return 1 + storedCount + changedCount;
+		case STREAMING:
+			return 1 + changedCount;
+		case BATCH:
+			return 1 + storedCount + resourceCount;
+		default:
+			throw new IllegalArgumentException("Unknown strategy " + s);
+		}
+	}
+
+	private static int getSizeBucket(int storedCount) {
+		return Math.min(SIZE_BUCKETS - 1, 32 - Integer.numberOfLeadingZeros(storedCount));
+	}
+
+}
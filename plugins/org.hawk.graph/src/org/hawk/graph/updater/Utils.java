@@ -25,6 +25,7 @@ import org.hawk.core.graph.IGraphDatabase.Mode;
 import org.hawk.core.graph.IGraphNode;
 import org.hawk.core.graph.IGraphNodeIndex;
 import org.hawk.core.graph.IGraphTransaction;
+import org.hawk.graph.updater.proxies.ProxyReferenceCodec;
 
 public class Utils {
 
@@ -41,42 +42,14 @@ public class Utils {
 		return extension;
 	}
 
-	protected String[] addToElementProxies(String[] proxies, String fullPathURI, String edgelabel,
+	/**
+	 * Returns the new value of a proxy reference list property after adding a
+	 * reference to it. The existing value may be <code>null</code>, or use
+	 * either format (see {@link ProxyReferenceCodec}).
+	 */
+	protected Object addToElementProxies(IGraphDatabase graph, Object proxies, String fullPathURI, String edgelabel,
 			boolean isContainment, boolean isContainer) {
-
-		// System.err.println("addtoelementproxies: " +
-		// Arrays.toString(proxies));
-		// System.err.println("fullpathuri " + fullPathURI);
-		// System.err.println("edgelabel " + edgelabel);
-
-		if (proxies != null) {
-
-			String[] ret = new String[proxies.length + 4];
-
-			for (int i = 0; i < proxies.length; i = i + 4) {
-
-				ret[i] = proxies[i];
-				ret[i + 1] = proxies[i + 1];
-				ret[i + 2] = proxies[i + 2];
-				ret[i + 3] = proxies[i + 3];
-
-			}
-
-			ret[proxies.length] = fullPathURI;
-			ret[proxies.length + 1] = edgelabel;
-			ret[proxies.length + 2] = isContainment + "";
-			ret[proxies.length + 3] = isContainer + "";
-
-			proxies = null;
-
-			// System.err.println("ret " + Arrays.toString(ret));
-
-			return ret;
-
-		} else {
-			String[] ret = new String[] { fullPathURI, edgelabel, isContainment + "", isContainer + "" };
-			return ret;
-		}
+		return ProxyReferenceCodec.append(graph, proxies, fullPathURI, edgelabel, isContainment, isContainer);
 	}
 
 	/**
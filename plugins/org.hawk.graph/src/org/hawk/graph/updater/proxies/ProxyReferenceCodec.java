@@ -0,0 +1,402 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.graph.updater.proxies;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hawk.core.graph.IGraphDatabase;
+import org.hawk.core.graph.IGraphNode;
+import org.hawk.core.graph.IGraphNodeIndex;
+import org.hawk.core.graph.IGraphTransaction;
+import org.hawk.core.graph.IndexedNodes;
+import org.hawk.graph.updater.GraphModelBatchInjector;
+import org.hawk.graph.updater.GraphModelUpdater;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Encodes and decodes the values of the <code>hawkProxyRef:</code> node
+ * properties, which hold the unresolved references from a node to the elements
+ * of a certain file.
+ *
+ * Older versions of Hawk used a <code>String[]</code> with four entries per
+ * reference (target URI, edge label, containment flag, container flag). The
+ * current version uses a <code>byte[]</code> with this layout, where all
+ * integers are unsigned LEB128 varints and all strings are UTF-8 with a varint
+ * byte length prefix:
+ *
+ * <ul>
+ * <li>Format version (a single byte, currently {@link #VERSION}).</li>
+ * <li>Number of distinct edge labels, followed by the labels.</li>
+ * <li>Number of references, followed by the references. Each reference has
+ * the index of its edge label, a byte with the containment (bit 0) and
+ * container (bit 1) flags, the number of leading characters shared with the
+ * URI of the previous reference, and the rest of its URI.</li>
+ * </ul>
+ *
+ * The binary format is only used in backends which
+ * {@link IGraphDatabase#supportsCompactByteArrays() store byte arrays
+ * compactly}: the others keep using the legacy format. Both formats are
+ * accepted when decoding, and values in the other format are rewritten with
+ * {@link #migrate(IGraphDatabase)}.
+ */
+public final class ProxyReferenceCodec {
+
+	/**
+	 * Receives the references decoded from a property value.
+	 */
+	public interface ReferenceVisitor {
+		void visit(String uri, String edgeLabel, boolean isContainment, boolean isContainer);
+	}
+
+	public static final byte VERSION = 1;
+
+	/**
+	 * Version recorded in graphs which use the legacy <code>String[]</code>
+	 * format.
+	 */
+	public static final byte LEGACY_VERSION = 0;
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ProxyReferenceCodec.class);
+
+	private static final int FLAG_CONTAINMENT = 1;
+	private static final int FLAG_CONTAINER = 2;
+	private static final int MIGRATION_TX_SIZE = 5000;
+
+	private static final String MARKER_IDXNAME = "_hawkProxyEncodingIndex";
+	private static final String MARKER_ID_PROPERTY = "id";
+	private static final String MARKER_ID_VALUE = "proxyEncoding";
+	private static final String MARKER_VERSION_PROPERTY = "version";
+
+	private ProxyReferenceCodec() {
+		// utility class
+	}
+
+	/**
+	 * Incrementally builds a property value with a list of references.
+	 */
+	private interface ValueBuilder extends ReferenceVisitor {
+		Object build();
+	}
+
+	/**
+	 * Incrementally builds a list of references in the legacy format.
+	 */
+	private static final class LegacyEncoder implements ValueBuilder {
+		private final List<String> tuples = new ArrayList<>();
+
+		@Override
+		public void visit(String uri, String edgeLabel, boolean isContainment, boolean isContainer) {
+			tuples.add(uri);
+			tuples.add(edgeLabel);
+			tuples.add(isContainment + "");
+			tuples.add(isContainer + "");
+		}
+
+		@Override
+		public String[] build() {
+			return tuples.toArray(new String[tuples.size()]);
+		}
+	}
+
+	/**
+	 * Incrementally builds an encoded list of references.
+	 */
+	private static final class Encoder implements ValueBuilder {
+		private final List<String> labels = new ArrayList<>();
+		private final Map<String, Integer> labelPositions = new HashMap<>();
+		private final ByteArrayOutputStream refs = new ByteArrayOutputStream();
+		private int nRefs = 0;
+		private String lastURI = "";
+
+		@Override
+		public void visit(String uri, String edgeLabel, boolean isContainment, boolean isContainer) {
+			Integer labelPosition = labelPositions.get(edgeLabel);
+			if (labelPosition == null) {
+				labelPosition = labels.size();
+				labels.add(edgeLabel);
+				labelPositions.put(edgeLabel, labelPosition);
+			}
+			writeVarint(refs, labelPosition);
+			refs.write((isContainment ? FLAG_CONTAINMENT : 0) | (isContainer ? FLAG_CONTAINER : 0));
+
+			final int shared = sharedPrefixLength(lastURI, uri);
+			writeVarint(refs, shared);
+			writeString(refs, uri.substring(shared));
+
+			lastURI = uri;
+			++nRefs;
+		}
+
+		@Override
+		public byte[] build() {
+			final ByteArrayOutputStream out = new ByteArrayOutputStream(refs.size() + 16 * labels.size() + 8);
+			out.write(VERSION);
+			writeVarint(out, labels.size());
+			for (String label : labels) {
+				writeString(out, label);
+			}
+			writeVarint(out, nRefs);
+
+			final byte[] refBytes = refs.toByteArray();
+			out.write(refBytes, 0, refBytes.length);
+			return out.toByteArray();
+		}
+	}
+
+	/**
+	 * Cursor over an encoded <code>byte[]</code>.
+	 */
+	private static final class Decoder {
+		private final byte[] bytes;
+		private int pos = 0;
+
+		Decoder(byte[] bytes) {
+			this.bytes = bytes;
+		}
+
+		int readVarint() {
+			int value = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = bytes[pos++];
+				value |= (b & 0x7F) << shift;
+				shift += 7;
+			} while ((b & 0x80) != 0);
+			return value;
+		}
+
+		int readByte() {
+			return bytes[pos++] & 0xFF;
+		}
+
+		String readString() {
+			final int length = readVarint();
+			final String s = new String(bytes, pos, length, StandardCharsets.UTF_8);
+			pos += length;
+			return s;
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the value uses the legacy
+	 * <code>String[]</code> format.
+	 */
+	public static boolean isLegacy(Object value) {
+		return value instanceof String[];
+	}
+
+	/**
+	 * Returns the format version used for new values in the graph: either
+	 * {@link #VERSION} or {@link #LEGACY_VERSION}.
+	 */
+	public static int getVersion(IGraphDatabase graph) {
+		return graph.supportsCompactByteArrays() ? VERSION : LEGACY_VERSION;
+	}
+
+	/**
+	 * Goes through the references in an encoded (or legacy) property value. Null
+	 * values are treated as empty lists.
+	 */
+	public static void decode(Object value, ReferenceVisitor visitor) {
+		if (value == null) {
+			return;
+		} else if (value instanceof String[]) {
+			final String[] legacy = (String[]) value;
+			for (int i = 0; i + 3 < legacy.length; i += 4) {
+				visitor.visit(legacy[i], legacy[i + 1], Boolean.valueOf(legacy[i + 2]), Boolean.valueOf(legacy[i + 3]));
+			}
+			return;
+		} else if (!(value instanceof byte[])) {
+			throw new IllegalArgumentException("Unknown proxy reference list value: " + value);
+		}
+
+		final byte[] bytes = (byte[]) value;
+		if (bytes.length == 0) {
+			return;
+		}
+
+		final Decoder decoder = new Decoder(bytes);
+		final int version = decoder.readByte();
+		if (version != VERSION) {
+			throw new IllegalArgumentException("Unsupported proxy reference list format version " + version);
+		}
+
+		final String[] labels = new String[decoder.readVarint()];
+		for (int i = 0; i < labels.length; i++) {
+			labels[i] = decoder.readString();
+		}
+
+		String lastURI = "";
+		final int nRefs = decoder.readVarint();
+		for (int i = 0; i < nRefs; i++) {
+			final String label = labels[decoder.readVarint()];
+			final int flags = decoder.readByte();
+			final int shared = decoder.readVarint();
+			final String uri = lastURI.substring(0, shared) + decoder.readString();
+
+			visitor.visit(uri, label, (flags & FLAG_CONTAINMENT) != 0, (flags & FLAG_CONTAINER) != 0);
+			lastURI = uri;
+		}
+	}
+
+	/**
+	 * Returns the references in an encoded (or legacy) property value, in the
+	 * legacy <code>String[]</code> format.
+	 */
+	public static String[] toStringArray(Object value) {
+		final LegacyEncoder encoder = new LegacyEncoder();
+		decode(value, encoder);
+		return encoder.build();
+	}
+
+	/**
+	 * Returns the value to be stored in the graph for the references in a
+	 * list, in the format used by the graph (see {@link #getVersion(IGraphDatabase)}).
+	 */
+	public static Object encode(IGraphDatabase graph, ProxyReferenceList list) {
+		final ValueBuilder builder = createBuilder(getVersion(graph));
+		for (ProxyReferenceList.ProxyReference ref : list.getReferences()) {
+			builder.visit(ref.getTarget().getElementURI(), ref.getEdgeLabel(), ref.isContainment(), ref.isContainer());
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Returns the new value of an existing (encoded, legacy or
+	 * <code>null</code>) property value, with a new reference at the end. The
+	 * new value uses the format of the graph (see {@link #getVersion(IGraphDatabase)}).
+	 */
+	public static Object append(IGraphDatabase graph, Object value, String uri, String edgeLabel, boolean isContainment, boolean isContainer) {
+		final ValueBuilder builder = createBuilder(getVersion(graph));
+		decode(value, builder);
+		builder.visit(uri, edgeLabel, isContainment, isContainer);
+		return builder.build();
+	}
+
+	/**
+	 * Rewrites any proxy reference lists in the graph which do not use its
+	 * format (see {@link #getVersion(IGraphDatabase)}). The graph remembers the
+	 * version it was migrated to, so this is only done once.
+	 */
+	public static void migrate(IGraphDatabase graph) throws Exception {
+		final int targetVersion = getVersion(graph);
+		try (IGraphTransaction tx = graph.beginTransaction()) {
+			final IGraphNode marker = getMarker(graph, false);
+			final Object version = marker == null ? null : marker.getProperty(MARKER_VERSION_PROPERTY);
+			if (version instanceof Number && ((Number) version).intValue() == targetVersion) {
+				tx.success();
+				return;
+			}
+			tx.success();
+		}
+
+		final long start = System.currentTimeMillis();
+		final List<Object> ids = new ArrayList<>();
+		try (IGraphTransaction tx = graph.beginTransaction()) {
+			final IGraphNodeIndex proxyDictionary = graph.getOrCreateNodeIndex(GraphModelBatchInjector.PROXY_DICT_NAME);
+			for (IGraphNode n : proxyDictionary.query(GraphModelUpdater.PROXY_REFERENCE_PREFIX, "*")) {
+				ids.add(n.getId());
+			}
+			tx.success();
+		}
+
+		int iFrom = 0, nMigrated = 0;
+		while (iFrom < ids.size()) {
+			final int iTo = Math.min(ids.size(), iFrom + MIGRATION_TX_SIZE);
+			try (IGraphTransaction tx = graph.beginTransaction()) {
+				for (Object id : ids.subList(iFrom, iTo)) {
+					final IGraphNode n = graph.getNodeById(id);
+					if (n == null) {
+						continue;
+					}
+					for (String key : n.getPropertyKeys()) {
+						if (key.startsWith(GraphModelUpdater.PROXY_REFERENCE_PREFIX)) {
+							final Object value = n.getProperty(key);
+							if (value != null && !isInFormat(value, targetVersion)) {
+								final ValueBuilder builder = createBuilder(targetVersion);
+								decode(value, builder);
+								n.setProperty(key, builder.build());
+								++nMigrated;
+							}
+						}
+					}
+				}
+				tx.success();
+			}
+			iFrom = iTo;
+		}
+
+		try (IGraphTransaction tx = graph.beginTransaction()) {
+			getMarker(graph, true).setProperty(MARKER_VERSION_PROPERTY, Integer.valueOf(targetVersion));
+			tx.success();
+		}
+
+		if (nMigrated > 0) {
+			LOGGER.info("Migrated {} proxy reference lists to format version {} in ~{}s",
+				nMigrated, targetVersion, (System.currentTimeMillis() - start) / 1000.0);
+		}
+	}
+
+	private static boolean isInFormat(Object value, int version) {
+		return isLegacy(value) == (version == LEGACY_VERSION);
+	}
+
+	private static ValueBuilder createBuilder(int version) {
+		return version == LEGACY_VERSION ? new LegacyEncoder() : new Encoder();
+	}
+
+	private static IGraphNode getMarker(IGraphDatabase graph, boolean create) {
+		return create
+			? IndexedNodes.findOrCreate(graph, MARKER_IDXNAME, MARKER_ID_PROPERTY, MARKER_ID_VALUE, "_hawkProxyEncoding")
+			: IndexedNodes.find(graph, MARKER_IDXNAME, MARKER_ID_PROPERTY, MARKER_ID_VALUE);
+	}
+
+	private static int sharedPrefixLength(String a, String b) {
+		final int max = Math.min(a.length(), b.length());
+		int i = 0;
+		while (i < max && a.charAt(i) == b.charAt(i)) {
+			i++;
+		}
+		if (i > 0 && Character.isHighSurrogate(b.charAt(i - 1))) {
+			// do not split surrogate pairs, as the suffix is encoded in UTF-8
+			i--;
+		}
+		return i;
+	}
+
+	private static void writeVarint(ByteArrayOutputStream out, int value) {
+		while ((value & ~0x7F) != 0) {
+			out.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+
+	private static void writeString(ByteArrayOutputStream out, String s) {
+		final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		writeVarint(out, bytes.length);
+		out.write(bytes, 0, bytes.length);
+	}
+
+}
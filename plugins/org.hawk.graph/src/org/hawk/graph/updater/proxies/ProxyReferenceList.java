@@ -19,6 +19,7 @@ package org.hawk.graph.updater.proxies;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hawk.core.graph.IGraphDatabase;
 import org.hawk.core.graph.IGraphNode;
 
 /**
@@ -71,19 +72,19 @@ public class ProxyReferenceList {
 	private final ProxyReferenceTarget targetFile;
 	private final List<ProxyReference> references = new ArrayList<>();
 
-	public ProxyReferenceList(IGraphNode sourceNode, String[] rawValue) {
+	/**
+	 * Creates a new list from the value of a proxy reference node property,
+	 * which may use the current encoding or the legacy <code>String[]</code>
+	 * format (see {@link ProxyReferenceCodec}).
+	 */
+	public ProxyReferenceList(IGraphNode sourceNode, Object rawValue) {
 		this.sourceNodeID = sourceNode.getId();
-		targetFile = new ProxyReferenceTarget(rawValue[0], true);
-
-		// Split subelements
-		for (int i = 0; i < rawValue.length; i += 4) {
-			final ProxyReferenceTarget target = new ProxyReferenceTarget(rawValue[i], false);
-			final String edgeLabel = rawValue[i + 1];
-			final boolean isContainment = Boolean.valueOf(rawValue[i + 2]);
-			final boolean isContainer = Boolean.valueOf(rawValue[i + 3]);
 
+		ProxyReferenceCodec.decode(rawValue, (uri, edgeLabel, isContainment, isContainer) -> {
+			final ProxyReferenceTarget target = new ProxyReferenceTarget(uri, false);
 			references.add(new ProxyReference(target, edgeLabel, isContainment, isContainer));
-		}
+		});
+		targetFile = references.isEmpty() ? null : new ProxyReferenceTarget(references.get(0).getTarget().getFileURI(), true);
 	}
 
 	public String getFullPathURI() {
@@ -110,6 +111,14 @@ public class ProxyReferenceList {
 		return sourceNodeID;
 	}
 
+	/**
+	 * Returns the value to be stored in the node property for this list, in
+	 * the format used by the graph.
+	 */
+	public Object encode(IGraphDatabase graph) {
+		return ProxyReferenceCodec.encode(graph, this);
+	}
+
 	public String[] toArray() {
 		String[] arr = new String[references.size() * 4];
 
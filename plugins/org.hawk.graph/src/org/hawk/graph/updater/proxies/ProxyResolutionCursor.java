@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.graph.updater.proxies;
+
+import org.hawk.core.graph.IGraphDatabase;
+import org.hawk.core.graph.IGraphNode;
+import org.hawk.core.graph.IndexedNodes;
+
+/**
+ * Keeps track in the graph of the last target file whose proxy references were
+ * fully processed during the current proxy resolution pass, so an interrupted
+ * pass can be resumed. The node only exists while a pass is in progress. This
+ * class does not handle transactions: users are expected to do it.
+ */
+public class ProxyResolutionCursor {
+	public static final String IDXNAME = "_hawkProxyResolutionIndex";
+
+	private static final String ID_PROPERTY = "id";
+	private static final String ID_VALUE = "proxyResolution";
+	private static final String LASTTARGET_PROPERTY = "lastTarget";
+
+	private final IGraphDatabase db;
+
+	public ProxyResolutionCursor(IGraphDatabase db) {
+		this.db = db;
+	}
+
+	/**
+	 * Returns the full URI of the last target file processed by an unfinished
+	 * pass, or <code>null</code> if the last pass was completed.
+	 */
+	public String getLastTarget() {
+		final IGraphNode node = getNode(false);
+		if (node == null) {
+			return null;
+		}
+
+		final Object lastTarget = node.getProperty(LASTTARGET_PROPERTY);
+		return lastTarget == null ? null : lastTarget.toString();
+	}
+
+	/**
+	 * Records that all the proxy references to <code>targetFileURI</code> (and
+	 * any target files sorted before it) have been processed.
+	 */
+	public void setLastTarget(String targetFileURI) {
+		getNode(true).setProperty(LASTTARGET_PROPERTY, targetFileURI);
+	}
+
+	/**
+	 * Marks the current pass as completed.
+	 */
+	public void clear() {
+		IndexedNodes.delete(db, IDXNAME, ID_PROPERTY, ID_VALUE);
+	}
+
+	private IGraphNode getNode(boolean create) {
+		return create
+			? IndexedNodes.findOrCreate(db, IDXNAME, ID_PROPERTY, ID_VALUE, "_hawkProxyResolution")
+			: IndexedNodes.find(db, IDXNAME, ID_PROPERTY, ID_VALUE);
+	}
+
+}
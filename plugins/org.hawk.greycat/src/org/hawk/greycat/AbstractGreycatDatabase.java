@@ -23,9 +23,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -50,6 +54,7 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.RemovalListener;
 import com.google.common.cache.RemovalNotification;
 import com.google.common.collect.Iterators;
@@ -134,11 +139,30 @@ public abstract class AbstractGreycatDatabase implements ITimeAwareGraphDatabase
 	 */
 	protected static final String NODE_LABEL_IDX = "h_nodeLabel";
 	/**
-	 * In batch mode, we save every time we reach an X number of dirty nodes.
+	 * Number of node lookups between checks of the hit rate of the node cache,
+	 * for deciding whether it should grow.
 	 */
-	protected static final int SAVE_EVERY = 10_000;
+	private static final int CACHE_ADAPT_WINDOW = 10_000;
+	/**
+	 * The node cache grows when at least this fraction of the lookups in a
+	 * window missed, and some nodes were evicted from it.
+	 */
+	private static final double CACHE_GROW_MISS_RATE = 0.2;
 	private static final Logger LOGGER = LoggerFactory.getLogger(AbstractGreycatDatabase.class);
+	private GreycatSettings settings = new GreycatSettings();
 	private Cache<NodeKey, NodeCacheWrapper> nodeCache;
+	/**
+	 * Current maximum size of the node cache: starts at the configured size, and
+	 * grows up to the configured maximum under read-heavy loads.
+	 */
+	private int nodeCacheSize = settings.getNodeCacheSize();
+	/**
+	 * Statistics from the previous node caches (the cache is replaced when it
+	 * grows or we reconnect), and from the start of the current window.
+	 */
+	private CacheStats pastCacheStats = new CacheStats(0, 0, 0, 0, 0, 0);
+	private CacheStats windowStartStats = pastCacheStats;
+	private int lookupsInWindow = 0;
 	protected File storageFolder;
 	private File tempFolder;
 	private IConsole console;
@@ -206,6 +230,9 @@ public abstract class AbstractGreycatDatabase implements ITimeAwareGraphDatabase
 		this.storageFolder = parentFolder;
 		this.tempFolder = new File(storageFolder, "temp");
 		this.console = c;
+		this.settings = GreycatSettings.load(storageFolder);
+		this.nodeCacheSize = settings.getNodeCacheSize();
+		LOGGER.info("Using {}", settings);
 	
 		reconnect();
 	}
@@ -248,6 +275,7 @@ public abstract class AbstractGreycatDatabase implements ITimeAwareGraphDatabase
 	protected void shutdownHelpers() {
 		if (nodeCache != null) {
 			nodeCache.invalidateAll();
+			pastCacheStats = pastCacheStats.plus(nodeCache.stats());
 			nodeCache = null;
 		}
 	
@@ -261,6 +289,28 @@ public abstract class AbstractGreycatDatabase implements ITimeAwareGraphDatabase
 		super();
 	}
 
+	/**
+	 * Returns the tuning settings of this database, as read when it was started.
+	 */
+	public GreycatSettings getSettings() {
+		return settings;
+	}
+
+	/**
+	 * Returns the current maximum number of nodes in the node cache.
+	 */
+	public int getNodeCacheSize() {
+		return nodeCacheSize;
+	}
+
+	/**
+	 * Returns the hit, miss and eviction counts of the node cache since this
+	 * database was started.
+	 */
+	public CacheStats getNodeCacheStats() {
+		return nodeCache == null ? pastCacheStats : pastCacheStats.plus(nodeCache.stats());
+	}
+
 	@Override
 	public ITimeAwareGraphNodeIndex getOrCreateNodeIndex(String name) {
 		try {
@@ -384,8 +434,8 @@ public abstract class AbstractGreycatDatabase implements ITimeAwareGraphDatabase
 
 	/**
 	 * Marks a certain node as being dirty: on batch mode, a periodic save will be
-	 * triggered when the set of dirty nodes reaches {@link #SAVE_EVERY} and there
-	 * are no opened nodes.
+	 * triggered when the set of dirty nodes reaches
+	 * {@link GreycatSettings#getSaveEvery()} and there are no opened nodes.
 	 */
 	protected void markDirty(GreycatNode n) {
 		currentDirtyNodes.add(n);
@@ -405,13 +455,31 @@ public abstract class AbstractGreycatDatabase implements ITimeAwareGraphDatabase
 	 */
 	protected void markClosed(GreycatNode n) {
 		if (currentOpenNodes.remove(n) && currentOpenNodes.isEmpty()) {
-			if (mode == Mode.NO_TX_MODE && currentDirtyNodes.size() > SAVE_EVERY) {
-				save();
+			if (mode == Mode.NO_TX_MODE && currentDirtyNodes.size() > settings.getSaveEvery()) {
+				save(false);
 			}
 		}
 	}
 
+	/**
+	 * Saves all changes so far, waiting until they have been written to disk.
+	 */
 	protected void save() {
+		save(true);
+	}
+
+	/**
+	 * Saves all changes so far.
+	 *
+	 * @param wait
+	 *            If <code>false</code> and the storage supports it (see
+	 *            {@link GreycatSettings#PIPELINED_SAVE}), the changes may still
+	 *            be being written when this method returns.
+	 * @throws IllegalStateException
+	 *             The storage could not write these changes or, with pipelined
+	 *             saves, those of a previous save.
+	 */
+	protected void save(boolean wait) {
 		final CompletableFuture<Boolean> result = new CompletableFuture<>();
 	
 		// First stage save
@@ -438,7 +506,7 @@ public abstract class AbstractGreycatDatabase implements ITimeAwareGraphDatabase
 				}
 			}, world, time);
 		});
-		result.join();
+		final Boolean saved = result.join();
 	
 		// Free nodes after having saved them 
 		for (GreycatNode dirtyNode : currentDirtyNodes) {
@@ -446,6 +514,13 @@ public abstract class AbstractGreycatDatabase implements ITimeAwareGraphDatabase
 			nodeCache.invalidate(new NodeKey(dirtyNode));
 		}
 		currentDirtyNodes.clear();
+
+		if (wait) {
+			awaitPendingWrites();
+		}
+		if (Boolean.FALSE.equals(saved)) {
+			throw new IllegalStateException("Greycat could not save the changes");
+		}
 	
 		// useful for finding GreyCat Node leaks
 		//System.out.println("-- SAVED: available is " + graph.space().available());
@@ -477,6 +552,37 @@ public abstract class AbstractGreycatDatabase implements ITimeAwareGraphDatabase
 		return new GreycatNode(this, world, time, (long)id);
 	}
 
+	@Override
+	public List<IGraphNode> getNodesByIds(Collection<?> ids) {
+		final List<IGraphNode> nodes = new ArrayList<>(ids.size());
+		final long[] rawIds = new long[ids.size()];
+		int i = 0;
+		for (Object id : ids) {
+			final GreycatNode n = getNodeById(id);
+			nodes.add(n);
+			rawIds[i++] = n.getId();
+		}
+		prefetch(world, time, rawIds);
+
+		return nodes;
+	}
+
+	@Override
+	public Map<String, Object> getProperties(IGraphNode node, Collection<String> keys) {
+		if (!(node instanceof GreycatNode)) {
+			return ITimeAwareGraphDatabase.super.getProperties(node, keys);
+		}
+		return ((GreycatNode) node).getProperties(keys);
+	}
+
+	@Override
+	public List<Object> getOutgoingTargetIds(IGraphNode node, String type) {
+		if (!(node instanceof GreycatNode)) {
+			return ITimeAwareGraphDatabase.super.getOutgoingTargetIds(node, type);
+		}
+		return ((GreycatNode) node).getOutgoingTargetIds(type);
+	}
+
 	@Override
 	public boolean nodeIndexExists(String name) {
 		return luceneIndexer.indexExists(name);
@@ -497,6 +603,12 @@ public abstract class AbstractGreycatDatabase implements ITimeAwareGraphDatabase
 		return mode;
 	}
 
+	@Override
+	public boolean supportsCompactByteArrays() {
+		// GreycatNode keeps byte[] values as int arrays (see setProperty)
+		return false;
+	}
+
 	@Override
 	public Set<String> getNodeIndexNames() {
 		return luceneIndexer.getIndexNames();
@@ -552,18 +664,12 @@ public abstract class AbstractGreycatDatabase implements ITimeAwareGraphDatabase
 	}
 
 	protected void connect(CompletableFuture<Boolean> cConnected) {
-		this.nodeCache = CacheBuilder.newBuilder()
-			.maximumSize(1_000)
-			.removalListener(new RemovalListener<NodeKey, NodeCacheWrapper>() {
-				@Override
-				public void onRemoval(RemovalNotification<NodeKey, NodeCacheWrapper> notification) {
-					final NodeCacheWrapper wrapper = notification.getValue();
-					if (!wrapper.inUse && wrapper.node != null) {
-						wrapper.node.free();
-					}
-				}
-			})
-			.build();
+		if (nodeCache != null) {
+			pastCacheStats = pastCacheStats.plus(nodeCache.stats());
+		}
+		this.nodeCache = buildNodeCache(nodeCacheSize);
+		this.windowStartStats = nodeCache.stats();
+		this.lookupsInWindow = 0;
 	
 		this.graph = createGraph();
 	
@@ -584,6 +690,58 @@ public abstract class AbstractGreycatDatabase implements ITimeAwareGraphDatabase
 		});
 	}
 
+	private Cache<NodeKey, NodeCacheWrapper> buildNodeCache(int maximumSize) {
+		return CacheBuilder.newBuilder()
+			.maximumSize(maximumSize)
+			.recordStats()
+			.removalListener(new RemovalListener<NodeKey, NodeCacheWrapper>() {
+				@Override
+				public void onRemoval(RemovalNotification<NodeKey, NodeCacheWrapper> notification) {
+					final NodeCacheWrapper wrapper = notification.getValue();
+					if (!wrapper.inUse && wrapper.node != null) {
+						wrapper.node.free();
+					}
+				}
+			})
+			.build();
+	}
+
+	/**
+	 * Grows the node cache if the last window of lookups was read-heavy (we are
+	 * not in batch mode) and the cache was too small for it (many misses, and
+	 * nodes were evicted). The cache is never shrunk while connected.
+	 */
+	private void adaptNodeCache() {
+		if (++lookupsInWindow < CACHE_ADAPT_WINDOW) {
+			return;
+		}
+
+		final CacheStats current = nodeCache.stats();
+		final CacheStats window = current.minus(windowStartStats);
+		windowStartStats = current;
+		lookupsInWindow = 0;
+
+		final int maxSize = settings.getNodeCacheMaxSize();
+		if (mode == Mode.TX_MODE && nodeCacheSize < maxSize
+				&& window.evictionCount() > 0 && window.missRate() >= CACHE_GROW_MISS_RATE) {
+			final int newSize = (int) Math.min(maxSize, 2L * nodeCacheSize);
+			LOGGER.info("Growing Greycat node cache from {} to {} nodes (window miss rate: {})",
+				nodeCacheSize, newSize, window.missRate());
+
+			/*
+			 * Guava caches cannot be resized: we move the entries into a larger
+			 * one instead. The old cache is not invalidated, as that would free
+			 * the nodes we are moving.
+			 */
+			final Cache<NodeKey, NodeCacheWrapper> oldCache = nodeCache;
+			pastCacheStats = pastCacheStats.plus(oldCache.stats());
+			nodeCache = buildNodeCache(newSize);
+			nodeCache.putAll(oldCache.asMap());
+			nodeCacheSize = newSize;
+			windowStartStats = nodeCache.stats();
+		}
+	}
+
 	protected void hardDelete(GreycatNode gn, Callback<?> callback) {
 		unlink(gn);
 	
@@ -628,7 +786,23 @@ public abstract class AbstractGreycatDatabase implements ITimeAwareGraphDatabase
 		}
 	}
 
+	/**
+	 * Waits until the storage has written all the changes saved so far. By
+	 * default, storages write changes synchronously, so this does nothing.
+	 *
+	 * @throws IllegalStateException
+	 *             Some of the changes could not be written.
+	 */
+	protected void awaitPendingWrites() {
+		// nothing to do
+	}
+
 	protected void commitLuceneIndex() {
+		/*
+		 * The Lucene commit should not refer to nodes that have not been
+		 * written to disk yet, so we wait for the pipelined saves first.
+		 */
+		awaitPendingWrites();
 		try {
 			luceneIndexer.commit();
 		} catch (IOException ex) {
@@ -636,17 +810,45 @@ public abstract class AbstractGreycatDatabase implements ITimeAwareGraphDatabase
 		}
 	}
 
+	/**
+	 * Loads the nodes that are not in the LRU cache yet with a single lookup, so
+	 * later accesses do not have to go to the storage one node at a time. At
+	 * most as many nodes as fit in the cache are loaded, so they do not evict
+	 * each other.
+	 */
+	protected void prefetch(long world, long time, long[] ids) {
+		final long[] missing = Arrays.stream(ids)
+			.filter(id -> nodeCache.getIfPresent(new NodeKey(world, time, id)) == null)
+			.distinct()
+			.limit(nodeCacheSize)
+			.toArray();
+		if (missing.length == 0) {
+			return;
+		}
+
+		final CompletableFuture<Node[]> result = new CompletableFuture<>();
+		graph.lookupAll(world, time, missing, nodes -> result.complete(nodes));
+		final Node[] found = result.join();
+		for (int i = 0; i < missing.length; i++) {
+			if (found[i] != null) {
+				nodeCache.put(new NodeKey(world, time, missing[i]), new NodeCacheWrapper(found[i]));
+			}
+		}
+	}
+
 	/**
 	 * Looks up a node, using the Guava LRU cache in the middle.
 	 */
 	protected NodeCacheWrapper lookup(long world, long time, long id) {
 		try {
-			return nodeCache.get(new NodeKey(world, time, id), () -> {
+			final NodeCacheWrapper wrapper = nodeCache.get(new NodeKey(world, time, id), () -> {
 				CompletableFuture<Node> result = new CompletableFuture<>();
 				graph.lookup(world, time, id, node -> result.complete(node));
 				final Node node = result.join();
 				return new NodeCacheWrapper(node);
 			});
+			adaptNodeCache();
+			return wrapper;
 		} catch (ExecutionException e) {
 			LOGGER.error(String.format("Failed to lookup node %d:%d:%d", world, time, id), e);
 			return null;
@@ -18,7 +18,9 @@ package org.hawk.greycat;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -467,6 +469,23 @@ public class GreycatNode implements ITimeAwareGraphNode {
 		}
 	}
 
+	/**
+	 * Returns the values of several properties, keeping the node open while
+	 * they are read. Unset properties are not included.
+	 */
+	public Map<String, Object> getProperties(Collection<String> names) {
+		final Map<String, Object> values = new HashMap<>();
+		try (NodeReader rn = getNodeReader()) {
+			for (String name : names) {
+				final Object value = getProperty(name);
+				if (value != null) {
+					values.put(name, value);
+				}
+			}
+		}
+		return values;
+	}
+
 	@Override
 	public void setProperty(String name, Object value) {
 		try (NodeReader rn = getNodeReader()) {
@@ -730,6 +749,35 @@ public class GreycatNode implements ITimeAwareGraphNode {
 		};
 	}
 
+	/**
+	 * Returns the identifiers of the targets of the outgoing edges with a
+	 * certain label. All the nodes in the relation are fetched with a single
+	 * lookup, rather than one by one.
+	 */
+	public List<Object> getOutgoingTargetIds(String type) {
+		try (NodeReader rn = getNodeReader()) {
+			final int relationPosition = db.getGraph().resolver().stringToHash(Direction.OUT.getPrefix() + type, false);
+			final Relation relation = (Relation) rn.get().getAt(relationPosition);
+			if (relation == null) {
+				return new ArrayList<>();
+			}
+
+			final long[] targetIds = relation.all();
+			db.prefetch(world, time, targetIds);
+
+			final List<Object> ids = new ArrayList<>(targetIds.length);
+			for (long targetId : targetIds) {
+				final GreycatNode target = new GreycatNode(db, world, time, targetId);
+				if (GreycatHeavyEdge.NODETYPE.equals(target.getNodeLabel())) {
+					ids.add(new GreycatHeavyEdge(target, type).getEndNode().getId());
+				} else {
+					ids.add(targetId);
+				}
+			}
+			return ids;
+		}
+	}
+
 	@Override
 	public Iterable<IGraphEdge> getIncoming() {
 		try (NodeReader rn = getNodeReader()) {
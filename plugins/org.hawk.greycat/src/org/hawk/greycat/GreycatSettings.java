@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.greycat;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+import org.hawk.core.util.SystemProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tuning settings for a Greycat database. Each setting is read from the
+ * optional {@link #FILENAME} file in the storage folder of the database, so
+ * each Hawk instance can be tuned separately. Settings missing from that file
+ * are read from the Java system property with the same name, falling back to
+ * the default value.
+ */
+public class GreycatSettings {
+
+	/**
+	 * Name of the optional properties file in the storage folder.
+	 */
+	public static final String FILENAME = "greycat.properties";
+
+	/**
+	 * Initial number of Greycat nodes kept in the LRU node cache (1000 by default).
+	 */
+	public static final String NODE_CACHE_SIZE = "hawk.greycat.nodeCacheSize";
+
+	/**
+	 * Maximum number of Greycat nodes that the node cache may grow to under
+	 * read-heavy loads (10000 by default). If it is not above the initial size,
+	 * the cache keeps its initial size.
+	 */
+	public static final String NODE_CACHE_MAX_SIZE = "hawk.greycat.nodeCacheMaxSize";
+
+	/**
+	 * Number of memory chunks reserved by Greycat (1000000 by default). This
+	 * should be large enough to hold the node cache and the dirty nodes kept
+	 * between saves in batch mode.
+	 */
+	public static final String MEMORY_SIZE = "hawk.greycat.memorySize";
+
+	/**
+	 * Number of dirty nodes that trigger a periodic save in batch mode (10000 by
+	 * default).
+	 */
+	public static final String SAVE_EVERY = "hawk.greycat.saveEvery";
+
+	/**
+	 * If <code>true</code>, the periodic saves in batch mode are written to disk
+	 * from a background thread while the graph keeps being updated (false by
+	 * default). A failed write makes the next save or commit fail. Only
+	 * supported by the LevelDB storage.
+	 */
+	public static final String PIPELINED_SAVE = "hawk.greycat.pipelinedSave";
+
+	/**
+	 * Maximum number of pipelined writes that may be pending at a time (2 by
+	 * default). Saves block while this limit is reached.
+	 */
+	public static final String MAX_PENDING_SAVES = "hawk.greycat.maxPendingSaves";
+
+	/**
+	 * Maximum number of nodes whose Lucene documents are changed in memory before
+	 * they are written to the index (1000 by default). Pending changes are also
+	 * written before any search or commit.
+	 */
+	public static final String LUCENE_BATCH_SIZE = "hawk.greycat.lucene.batchSize";
+
+	/**
+	 * Milliseconds between the background refreshes of the Lucene searcher after
+	 * writes (1000 by default). If 0, the searcher is only refreshed when it is
+	 * needed for a search after a write.
+	 */
+	public static final String LUCENE_REFRESH_MILLIS = "hawk.greycat.lucene.refreshMillis";
+
+	public static final int DEFAULT_NODE_CACHE_SIZE = 1_000;
+	public static final int DEFAULT_NODE_CACHE_MAX_SIZE = 10_000;
+	public static final long DEFAULT_MEMORY_SIZE = 1_000_000;
+	public static final int DEFAULT_SAVE_EVERY = 10_000;
+	public static final int DEFAULT_MAX_PENDING_SAVES = 2;
+	public static final int DEFAULT_LUCENE_BATCH_SIZE = 1_000;
+	public static final long DEFAULT_LUCENE_REFRESH_MILLIS = 1_000;
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(GreycatSettings.class);
+
+	private final Properties properties;
+
+	/**
+	 * Creates settings that only use the system properties and the defaults.
+	 */
+	public GreycatSettings() {
+		this(new Properties());
+	}
+
+	public GreycatSettings(Properties properties) {
+		this.properties = properties;
+	}
+
+	/**
+	 * Reads the settings for the database stored in the specified folder.
+	 */
+	public static GreycatSettings load(File storageFolder) {
+		final Properties props = new Properties();
+		final File fSettings = new File(storageFolder, FILENAME);
+		if (fSettings.isFile()) {
+			try (InputStream is = new FileInputStream(fSettings)) {
+				props.load(is);
+			} catch (IOException e) {
+				LOGGER.error("Could not read " + fSettings + ": using system properties", e);
+			}
+		}
+		return new GreycatSettings(props);
+	}
+
+	public int getNodeCacheSize() {
+		return Math.max(1, getInteger(NODE_CACHE_SIZE, DEFAULT_NODE_CACHE_SIZE));
+	}
+
+	public int getNodeCacheMaxSize() {
+		return Math.max(getNodeCacheSize(), getInteger(NODE_CACHE_MAX_SIZE, DEFAULT_NODE_CACHE_MAX_SIZE));
+	}
+
+	public long getMemorySize() {
+		return getLong(MEMORY_SIZE, DEFAULT_MEMORY_SIZE);
+	}
+
+	public int getSaveEvery() {
+		return getInteger(SAVE_EVERY, DEFAULT_SAVE_EVERY);
+	}
+
+	public boolean isPipelinedSave() {
+		final String sValue = properties.getProperty(PIPELINED_SAVE);
+		if (sValue != null) {
+			return Boolean.parseBoolean(sValue.trim());
+		}
+		return SystemProperties.getBoolean(PIPELINED_SAVE, false);
+	}
+
+	public int getMaxPendingSaves() {
+		return Math.max(1, getInteger(MAX_PENDING_SAVES, DEFAULT_MAX_PENDING_SAVES));
+	}
+
+	public int getLuceneBatchSize() {
+		return Math.max(1, getInteger(LUCENE_BATCH_SIZE, DEFAULT_LUCENE_BATCH_SIZE));
+	}
+
+	public long getLuceneRefreshMillis() {
+		return Math.max(0, getLong(LUCENE_REFRESH_MILLIS, DEFAULT_LUCENE_REFRESH_MILLIS));
+	}
+
+	private int getInteger(String key, int defaultValue) {
+		final String sValue = properties.getProperty(key);
+		if (sValue != null) {
+			try {
+				return Integer.parseInt(sValue.trim());
+			} catch (NumberFormatException ex) {
+				LOGGER.error("{} has invalid value '{}' for {}: ignoring", FILENAME, sValue, key);
+			}
+		}
+		return SystemProperties.getInteger(key, defaultValue);
+	}
+
+	private long getLong(String key, long defaultValue) {
+		final String sValue = properties.getProperty(key);
+		if (sValue != null) {
+			try {
+				return Long.parseLong(sValue.trim());
+			} catch (NumberFormatException ex) {
+				LOGGER.error("{} has invalid value '{}' for {}: ignoring", FILENAME, sValue, key);
+			}
+		}
+		return SystemProperties.getLong(key, defaultValue);
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"GreycatSettings [nodeCacheSize=%d, nodeCacheMaxSize=%d, memorySize=%d, saveEvery=%d, pipelinedSave=%s, "
+				+ "maxPendingSaves=%d, luceneBatchSize=%d, luceneRefreshMillis=%d]",
+			getNodeCacheSize(), getNodeCacheMaxSize(), getMemorySize(), getSaveEvery(), isPipelinedSave(),
+			getMaxPendingSaves(), getLuceneBatchSize(), getLuceneRefreshMillis());
+	}
+
+}
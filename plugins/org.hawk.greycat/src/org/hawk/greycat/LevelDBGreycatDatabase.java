@@ -21,13 +21,43 @@ import greycat.GraphBuilder;
 import greycat.leveldb.LevelDBStorage;
 
 public class LevelDBGreycatDatabase extends AbstractGreycatDatabase {
+	private PipelinedLevelDBStorage pipelinedStorage;
+
 	@Override
 	protected Graph createGraph() {
+		final String path = storageFolder.getAbsolutePath();
+		final LevelDBStorage storage;
+		if (getSettings().isPipelinedSave()) {
+			pipelinedStorage = createPipelinedStorage(path, getSettings().getMaxPendingSaves());
+			storage = pipelinedStorage;
+		} else {
+			pipelinedStorage = null;
+			storage = new LevelDBStorage(path);
+		}
+
 		return new GraphBuilder()
-			.withMemorySize(1_000_000)
-			.withStorage(new LevelDBStorage(storageFolder.getAbsolutePath()))
+			.withMemorySize(getSettings().getMemorySize())
+			.withStorage(storage)
 			.build();
 	}
+
+	/**
+	 * Creates the storage to be used if {@link GreycatSettings#PIPELINED_SAVE}
+	 * is enabled.
+	 */
+	protected PipelinedLevelDBStorage createPipelinedStorage(String path, int maxPendingWrites) {
+		return new PipelinedLevelDBStorage(path, maxPendingWrites);
+	}
+
+	@Override
+	protected void awaitPendingWrites() {
+		if (pipelinedStorage != null) {
+			final Throwable failure = pipelinedStorage.awaitPendingWrites();
+			if (failure != null) {
+				throw new IllegalStateException("Some of the pipelined saves could not be written", failure);
+			}
+		}
+	}
 	
 	@Override
 	public String getHumanReadableName() {
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.greycat;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import greycat.Callback;
+import greycat.Graph;
+import greycat.leveldb.LevelDBStorage;
+import greycat.struct.Buffer;
+
+/**
+ * LevelDB storage which writes the chunks produced by a Greycat save from a
+ * background thread, so the thread updating the graph can go on with the next
+ * batch of changes while the previous one is written to disk.
+ *
+ * Greycat has already serialised the dirty chunks when it hands them to the
+ * storage, so this class only needs to keep a copy of them until they have been
+ * written. At most a certain number of writes may be pending: further saves
+ * block until one of them completes. Reads, removals and disconnections wait
+ * for all pending writes, so they always see the saved state.
+ *
+ * As a save completes before its chunks are written, a failed write is
+ * reported later, by the callback of the following save or by
+ * {@link #awaitPendingWrites()} (whichever comes first).
+ */
+public class PipelinedLevelDBStorage extends LevelDBStorage {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PipelinedLevelDBStorage.class);
+
+	private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+		final Thread t = new Thread(r, "hawk-greycat-writer");
+		t.setDaemon(true);
+		return t;
+	});
+
+	private final int maxPendingWrites;
+	private final Semaphore pendingWrites;
+	private Graph graph;
+
+	/** First write that failed since the last time a failure was reported. */
+	private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+	public PipelinedLevelDBStorage(String storagePath, int maxPendingWrites) {
+		super(storagePath);
+		this.maxPendingWrites = Math.max(1, maxPendingWrites);
+		this.pendingWrites = new Semaphore(this.maxPendingWrites);
+	}
+
+	@Override
+	public void connect(Graph graph, Callback<Boolean> callback) {
+		this.graph = graph;
+		super.connect(graph, callback);
+	}
+
+	@Override
+	public void put(Buffer stream, Callback<Boolean> callback) {
+		final Buffer copy = graph.newBuffer();
+		copy.writeAll(stream.data());
+
+		try {
+			pendingWrites.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOGGER.warn("Interrupted while waiting for a pending write: writing synchronously", e);
+			super.put(copy, written -> {
+				copy.free();
+				if (callback != null) {
+					callback.on(written);
+				}
+			});
+			return;
+		}
+
+		writer.submit(() -> {
+			try {
+				write(copy, written -> {
+					if (!written) {
+						fail(new IOException("LevelDB could not write a batch of chunks"));
+					}
+				});
+			} catch (Throwable t) {
+				fail(t);
+			} finally {
+				copy.free();
+				pendingWrites.release();
+			}
+		});
+
+		if (callback != null) {
+			// This write is still pending, but we can report the ones that have failed
+			callback.on(failure.getAndSet(null) == null);
+		}
+	}
+
+	/**
+	 * Writes a batch of chunks to LevelDB. Called from the background thread.
+	 */
+	protected void write(Buffer chunks, Callback<Boolean> callback) {
+		super.put(chunks, callback);
+	}
+
+	@Override
+	public void putSilent(Buffer stream, Callback<Buffer> callback) {
+		waitForWrites();
+		super.putSilent(stream, callback);
+	}
+
+	@Override
+	public void get(Buffer keys, Callback<Buffer> callback) {
+		waitForWrites();
+		super.get(keys, callback);
+	}
+
+	@Override
+	public void remove(Buffer keys, Callback<Boolean> callback) {
+		waitForWrites();
+		super.remove(keys, callback);
+	}
+
+	@Override
+	public void disconnect(Callback<Boolean> callback) {
+		if (awaitPendingWrites() != null) {
+			LOGGER.warn("Disconnecting after failed writes: the last changes may have been lost");
+		}
+		writer.shutdown();
+		super.disconnect(callback);
+	}
+
+	/**
+	 * Waits until all the pending writes have completed, and returns the first
+	 * write that failed since a failure was last reported, if any. Failures are
+	 * only reported once.
+	 *
+	 * @return Cause of the first failed write, or <code>null</code> if all the
+	 *         writes since the last reported failure have succeeded.
+	 */
+	public Throwable awaitPendingWrites() {
+		waitForWrites();
+		return failure.getAndSet(null);
+	}
+
+	private void waitForWrites() {
+		try {
+			pendingWrites.acquire(maxPendingWrites);
+			pendingWrites.release(maxPendingWrites);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOGGER.warn("Interrupted while waiting for pending writes", e);
+		}
+	}
+
+	private void fail(Throwable t) {
+		LOGGER.error("Greycat could not write a batch of chunks", t);
+		failure.compareAndSet(null, t);
+	}
+
+}
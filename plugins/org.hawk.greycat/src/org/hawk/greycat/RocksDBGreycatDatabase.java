@@ -34,7 +34,7 @@ public class RocksDBGreycatDatabase extends AbstractGreycatDatabase {
 	@Override
 	protected Graph createGraph() {
 		return new GraphBuilder()
-			.withMemorySize(1_000_000)
+			.withMemorySize(getSettings().getMemorySize())
 			.withStorage(new RocksDBStorage(storageFolder.getAbsolutePath()))
 			.build();
 	}
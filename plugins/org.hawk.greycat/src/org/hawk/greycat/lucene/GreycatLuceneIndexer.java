@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
@@ -61,6 +62,7 @@ import org.hawk.core.graph.timeaware.ITimeAwareGraphNodeIndex;
 import org.hawk.greycat.AbstractGreycatDatabase;
 import org.hawk.greycat.GreycatNode;
 import org.hawk.greycat.lucene.IntervalCollector.Interval;
+import org.hawk.greycat.lucene.SoftTxLucene.DocumentBlock;
 import org.hawk.greycat.lucene.SoftTxLucene.SearcherCloseable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -83,6 +85,10 @@ import com.google.common.cache.CacheBuilder;
  * <p>We have a background thread that will do a real commit if the rollback log is
  * empty. There is also an explicit commit when this indexer shuts down.</p>
  *
+ * <p>Changes to the documents of a node in an index are batched: all its documents
+ * are read once, their validity intervals are revised in memory, and they are
+ * written back together before the next search or commit.</p>
+ *
  * <p>TODO: add support for multiple worlds to this index. This may require keeping track
  * of how worlds branch off from each other.</p>
  */
@@ -249,43 +255,29 @@ public class GreycatLuceneIndexer {
 
 		@Override
 		public void remove(IGraphNode n, String key, Object value) {
-			try (SearcherCloseable sc = lucene.getSearcher()) {
-				final IndexSearcher searcher = sc.get();
+			try {
 				final GreycatNode gn = (GreycatNode) n;
+				final DocumentBlock block = getNodeBlock(gn);
 
 				/*
 				 * All documents from this point in time in the index need to be revised. One
 				 * may be still valid, others just need to have the future value removed.
-				 *
-				 * If both key and value are present, we can add those to the query to reduce
-				 * the number of documents to be changed.
 				 */
-				final Builder queryBuilder = getIndexQueryBuilder()
-					.add(LongPoint.newExactQuery(NODEID_FIELD, gn.getId()), Occur.FILTER)
-					.add(LongPoint.newRangeQuery(VALIDTO_FIELD, gn.getTime(), Long.MAX_VALUE), Occur.FILTER);
-				if (key != null && value != null) {
-					queryBuilder.add(getValueQuery(key, value), Occur.FILTER);
-				}
-				final Query query = queryBuilder.build();
-				final ListCollector collector = new ListCollector(searcher);
-				searcher.search(query, collector);
-
-				if (key == null) {
-					for (Document doc : collector.getDocuments()) {
-						removeValue(doc, gn, value);
-					}
-				} else {
-					for (Document doc : collector.getDocuments()) {
-						removeKeyValue(doc, gn, key, value);
+				for (Document doc : new ArrayList<>(block.getDocuments())) {
+					if (getValidTo(doc) >= gn.getTime()) {
+						if (key == null) {
+							removeValue(block, doc, gn, value);
+						} else {
+							removeKeyValue(block, doc, gn, key, value);
+						}
 					}
 				}
-
 			} catch (IOException e) {
 				LOGGER.error("Could not remove node from index", e);
 			}
 		}
 
-		protected void removeKeyValue(final Document oldDocument, final GreycatNode gn, String key, Object value) throws IOException {
+		protected void removeKeyValue(final DocumentBlock block, final Document oldDocument, final GreycatNode gn, String key, Object value) {
 			final Document updated = new Document();
 
 			// Copy all other fields as we go
@@ -318,19 +310,21 @@ public class GreycatLuceneIndexer {
 			}
 
 			if (anyMatched) {
-				replaceDocumentAtTimepoint(gn, oldDocument, updated);
+				replaceDocumentAtTimepoint(block, gn, oldDocument, updated);
 			}
 		}
 
-		private void replaceDocumentAtTimepoint(final GreycatNode gn, final Document oldDocument, final Document newDocument) throws IOException {
+		private void replaceDocumentAtTimepoint(final DocumentBlock block, final GreycatNode gn, final Document oldDocument, final Document newDocument) {
 			assert oldDocument != null : "Old document should not be null";
 			assert newDocument != null : "New document should not be null";
 			assert newDocument.getField(VALIDFROM_FIELD) != null : "New document should have a starting point";
 			assert newDocument.getField(VALIDTO_FIELD) != null : "New document should have an ending point";
 			assert oldDocument.getField(UUID_FIELD).stringValue().equals(newDocument.getField(UUID_FIELD).stringValue()) : "Both documents should have same UUID";
 
-			final long lOldFrom = oldDocument.getField(VALIDFROM_FIELD).numericValue().longValue();
-			final long lOldTo = oldDocument.getField(VALIDTO_FIELD).numericValue().longValue();
+			final List<Document> docs = block.getDocuments();
+			final int oldPosition = docs.indexOf(oldDocument);
+			final long lOldFrom = getValidFrom(oldDocument);
+			final long lOldTo = getValidTo(oldDocument);
 
 			// Is the old document currently in effect? If so, we need to shorten its lifespan.
 			if (gn.getTime() >= lOldFrom && gn.getTime() <= lOldTo) {
@@ -338,26 +332,27 @@ public class GreycatLuceneIndexer {
 				final long lOldNewTo = gn.getTime() - 1;
 				if (lOldNewTo < lOldFrom) {
 					// old document would not have a lifespan - just replace
-					lucene.update(new Term(UUID_FIELD, oldDocument.get(UUID_FIELD)), oldDocument, newDocument);
+					docs.set(oldPosition, storedFields(newDocument));
 				} else {
 					// shorten lifespan of old document, generate new UUID
 					final Document shortenedDoc = copy(oldDocument);
 					replaceRawField(shortenedDoc, VALIDTO_FIELD, lOldNewTo);
-					lucene.update(new Term(UUID_FIELD, oldDocument.get(UUID_FIELD)), oldDocument, shortenedDoc);
+					docs.set(oldPosition, storedFields(shortenedDoc));
 
 					// generate new UUID for the other document and set starting timepoint
 					final String newUUID = UUID.randomUUID().toString();
 					replaceRawField(newDocument, UUID_FIELD, newUUID);
 					replaceRawField(newDocument, VALIDFROM_FIELD, gn.getTime());
-					lucene.update(new Term(UUID_FIELD, newUUID), null, newDocument);
+					docs.add(storedFields(newDocument));
 				}
 			} else {
 				// the old document is not in effect - just replace the values there
-				lucene.update(new Term(UUID_FIELD), oldDocument, newDocument);
+				docs.set(oldPosition, storedFields(newDocument));
 			}
+			block.markChanged();
 		}
 
-		protected void removeValue(final Document oldDocument, final GreycatNode gn, Object value) throws IOException {
+		protected void removeValue(final DocumentBlock block, final Document oldDocument, final GreycatNode gn, Object value) {
 			final Document updated = new Document();
 
 			boolean matched = false;
@@ -375,7 +370,7 @@ public class GreycatLuceneIndexer {
 			}
 
 			if (matched) {
-				replaceDocumentAtTimepoint(gn, oldDocument, updated);
+				replaceDocumentAtTimepoint(block, gn, oldDocument, updated);
 			}
 		}
 
@@ -383,19 +378,26 @@ public class GreycatLuceneIndexer {
 		public void remove(IGraphNode n) {
 			try {
 				final GreycatNode gn = (GreycatNode) n;
-
-				// All documents for this node starting in the future must be deleted
-				final Query queryToDelete = getIndexQueryBuilder()
-					.add(findNodeQuery(gn), Occur.FILTER)
-					.add(LongPoint.newRangeQuery(VALIDFROM_FIELD, gn.getTime() + 1, Long.MAX_VALUE), Occur.FILTER)
-					.build();
-				lucene.delete(queryToDelete);
-
-				// Currently valid documents must be invalidated from this timepoint
-				final Query queryToInvalidate = getIndexQueryBuilder()
-					.add(findValidNodeDocuments(gn), Occur.FILTER)
-					.build();
-				invalidateAtTimepoint(gn, queryToInvalidate);
+				final long time = gn.getTime();
+				final DocumentBlock block = getNodeBlock(gn);
+
+				for (ListIterator<Document> itDoc = block.getDocuments().listIterator(); itDoc.hasNext(); ) {
+					final Document doc = itDoc.next();
+					final long from = getValidFrom(doc);
+					final long to = getValidTo(doc);
+
+					if (from > time || from == time && to >= time) {
+						// Documents starting in the future, or only valid from this timepoint, are deleted
+						itDoc.remove();
+						block.markChanged();
+					} else if (to >= time) {
+						// Documents valid before this timepoint must be invalidated from it
+						final Document revisedDoc = copy(doc);
+						replaceRawField(revisedDoc, VALIDTO_FIELD, time - 1);
+						itDoc.set(storedFields(revisedDoc));
+						block.markChanged();
+					}
+				}
 			} catch (IOException e) {
 				LOGGER.error(String.format("Could not remove node with id %d from index %s", n.getId(), name), e);
 			}
@@ -589,30 +591,24 @@ public class GreycatLuceneIndexer {
 			}
 			final GreycatNode gn = (GreycatNode)n;
 
-			try (SearcherCloseable sc = lucene.getSearcher()) {
-				final IndexSearcher searcher = sc.get();
+			try {
+				final DocumentBlock block = getNodeBlock(gn);
 
 				// We want to find the currently valid document for this node and update it
-				final Query latestVersionQuery = getIndexQueryBuilder()
-					.add(findNodeQuery(gn), Occur.FILTER)
-					.add(findValidDocumentsAtTimepoint(gn.getTime()), Occur.FILTER)
-					.build();
-
-				final TopDocs results = searcher.search(latestVersionQuery, 1);
+				final Document oldDocument = findValidDocument(block.getDocuments(), gn.getTime());
 				Long validTo = null;
-				if (results.totalHits > 0) {
-					final Document oldDocument = searcher.doc(results.scoreDocs[0].doc);
+				if (oldDocument != null) {
 					if (differenceFound(oldDocument, values)) {
-						validTo = extendCurrentDocument(gn, values, searcher, results);
+						validTo = extendCurrentDocument(block, gn, values, oldDocument);
 					}
 				} else {
-					validTo = addNewDocument(gn, values, searcher);
+					validTo = addNewDocument(block, gn, values);
 				}
 
 				// If this document does not last forever, we need to update future documents too.
 				// No need to manipulate lifespans in this case.
 				if (validTo != null && validTo < Long.MAX_VALUE) {
-					extendFutureDocuments(gn, values, searcher, validTo);
+					extendFutureDocuments(block, values, validTo);
 				}
 			} catch (IOException e) {
 				LOGGER.error(e.getMessage(), e);
@@ -638,25 +634,19 @@ public class GreycatLuceneIndexer {
 			return false;
 		}
 
-		private void extendFutureDocuments(final GreycatNode gn, Map<String, Object> values,
-				final IndexSearcher searcher, long validTo) throws IOException {
-			final Query allFutureQuery = getIndexQueryBuilder()
-				.add(findNodeQuery(gn), Occur.FILTER)
-				.add(LongPoint.newRangeQuery(VALIDFROM_FIELD, validTo + 1, Long.MAX_VALUE), Occur.FILTER)
-				.build();
-
-			final ListCollector lc = new ListCollector(searcher);
-			searcher.search(allFutureQuery, lc);
-			for (final Document doc : lc.getDocuments()) {
-				 final Document updatedFuture = copy(doc);
-				 addAttributes(updatedFuture, values);
-
-				 final String uuid = updatedFuture.getField(UUID_FIELD).stringValue();
-				 lucene.update(new Term(UUID_FIELD, uuid), doc, updatedFuture);
+		private void extendFutureDocuments(final DocumentBlock block, Map<String, Object> values, long validTo) {
+			for (ListIterator<Document> itDoc = block.getDocuments().listIterator(); itDoc.hasNext(); ) {
+				final Document doc = itDoc.next();
+				if (getValidFrom(doc) > validTo) {
+					final Document updatedFuture = copy(doc);
+					addAttributes(updatedFuture, values);
+					itDoc.set(storedFields(updatedFuture));
+					block.markChanged();
+				}
 			}
 		}
 
-		private long addNewDocument(final GreycatNode gn, Map<String, Object> values, final IndexSearcher searcher) throws IOException {
+		private long addNewDocument(final DocumentBlock block, final GreycatNode gn, Map<String, Object> values) {
 			final String uuid = UUID.randomUUID().toString();
 			final Document newDocument = new Document();
 			addRawField(newDocument, NODEID_FIELD, gn.getId());
@@ -668,19 +658,17 @@ public class GreycatLuceneIndexer {
 			addRawField(newDocument, VALIDFROM_FIELD, gn.getTime());
 
 			// 'valid to' depends on future entries - need to compute!
-			final long validTo = computeValidToForNewDocument(gn, searcher);
+			final long validTo = computeValidToForNewDocument(block.getDocuments(), gn);
 			addRawField(newDocument, VALIDTO_FIELD, validTo);
 
 			addAttributes(newDocument, values);
-			lucene.update(new Term(UUID_FIELD, uuid), null, newDocument);
+			block.getDocuments().add(storedFields(newDocument));
+			block.markChanged();
 
 			return validTo;
 		}
 
-		private long extendCurrentDocument(final GreycatNode gn, Map<String, Object> values,
-				final IndexSearcher searcher, final TopDocs results) throws IOException {
-			final Document oldDocument = searcher.doc(results.scoreDocs[0].doc);
-
+		private long extendCurrentDocument(final DocumentBlock block, final GreycatNode gn, Map<String, Object> values, final Document oldDocument) {
 			final Document updatedDocument = new Document();
 			addRawField(updatedDocument, NODEID_FIELD, gn.getId());
 			addRawField(updatedDocument, DOCTYPE_FIELD, NODE_DOCTYPE);
@@ -696,33 +684,48 @@ public class GreycatLuceneIndexer {
 				}
 			}
 			addAttributes(updatedDocument, values);
-			replaceDocumentAtTimepoint(gn, oldDocument, updatedDocument);
-			final long validTo = updatedDocument.getField(VALIDTO_FIELD).numericValue().longValue();
+			final long validTo = getValidTo(updatedDocument);
+			replaceDocumentAtTimepoint(block, gn, oldDocument, updatedDocument);
 
 			return validTo;
 		}
 
-		private long computeValidToForNewDocument(final GreycatNode gn, final IndexSearcher searcher) throws IOException {
-			final Query afterStartQuery = getIndexQueryBuilder()
-				.add(findNodeQuery(gn), Occur.FILTER)
-				.add(LongPoint.newRangeQuery(VALIDFROM_FIELD, gn.getTime() + 1, Long.MAX_VALUE), Occur.FILTER)
-				.build();
-
-			final ListCollector lc = new ListCollector(searcher);
-			searcher.search(afterStartQuery, lc);
+		private long computeValidToForNewDocument(final List<Document> docs, final GreycatNode gn) {
 			Long minFrom = null;
-			for (Document dAfterStart : lc.getDocuments()) {
-				final long from = dAfterStart.getField(VALIDFROM_FIELD).numericValue().longValue();
-				if (minFrom == null) {
-					minFrom = from;
-				} else {
-					minFrom = Math.min(from, minFrom);
+			for (Document doc : docs) {
+				final long from = getValidFrom(doc);
+				if (from > gn.getTime()) {
+					if (minFrom == null) {
+						minFrom = from;
+					} else {
+						minFrom = Math.min(from, minFrom);
+					}
 				}
 			}
 
 			return minFrom == null ? Long.MAX_VALUE : minFrom - 1;
 		}
 
+		private Document findValidDocument(final List<Document> docs, final long time) {
+			for (Document doc : docs) {
+				if (getValidFrom(doc) <= time && getValidTo(doc) >= time) {
+					return doc;
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * Returns the block with all the documents of a node in this index, so they
+		 * can be updated in memory and then written in one go.
+		 */
+		private DocumentBlock getNodeBlock(final GreycatNode gn) throws IOException {
+			final Query query = getIndexQueryBuilder()
+				.add(findNodeQuery(gn), Occur.FILTER)
+				.build();
+			return lucene.getBlock(name + "/" + gn.getId(), query);
+		}
+
 		@Override
 		public GreycatLuceneNodeIndex travelInTime(long timepoint) {
 			return new GreycatLuceneNodeIndex(name, timepoint);
@@ -756,7 +759,8 @@ public class GreycatLuceneIndexer {
 
 	public GreycatLuceneIndexer(AbstractGreycatDatabase db, File dir) throws IOException {
 		this.database = db;
-		this.lucene = new SoftTxLucene(dir);
+		this.lucene = new SoftTxLucene(dir,
+			db.getSettings().getLuceneBatchSize(), db.getSettings().getLuceneRefreshMillis());
 	}
 
 	public GreycatLuceneNodeIndex getIndex(String name) throws Exception {
@@ -925,6 +929,28 @@ public class GreycatLuceneIndexer {
 		}
 	}
 
+	/**
+	 * Returns a document with only the stored fields of another, in the same form as
+	 * the documents read from the index.
+	 */
+	protected static Document storedFields(Document doc) {
+		final Document stored = new Document();
+		for (IndexableField f : doc.getFields()) {
+			if (f.fieldType().stored()) {
+				stored.add(f);
+			}
+		}
+		return stored;
+	}
+
+	protected static long getValidFrom(Document doc) {
+		return doc.getField(VALIDFROM_FIELD).numericValue().longValue();
+	}
+
+	protected static long getValidTo(Document doc) {
+		return doc.getField(VALIDTO_FIELD).numericValue().longValue();
+	}
+
 	/**
 	 * Copies and recreates an entire document, including IntPoint and DoublePoint fields.
 	 */
@@ -19,9 +19,11 @@ package org.hawk.greycat.lucene;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -32,6 +34,7 @@ import org.apache.lucene.document.Document;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
@@ -46,6 +49,12 @@ import org.slf4j.LoggerFactory;
 /**
  * Implements "soft" transactions within Lucene. This class is NOT thread-safe: only one
  * thread is assumed to be accessing this Lucene index at a time.
+ *
+ * Changes to groups of related documents (e.g. all the documents of a node in an index)
+ * can be batched through {@link #getBlock(String, Query)}: they are done in memory, and
+ * written to Lucene in one go before the next search or commit, or once there are too
+ * many pending blocks. Searchers are only refreshed when they are acquired after a
+ * write, or periodically in the background.
  */
 final class SoftTxLucene {
 	private static final Logger LOGGER = LoggerFactory.getLogger(SoftTxLucene.class);
@@ -59,10 +68,55 @@ final class SoftTxLucene {
 		void undoWork() throws IOException;
 	}
 
-	private final List<IUndoable> rollbackLog = new LinkedList<>();
+	/**
+	 * Group of documents which is read from the index once, changed in memory, and
+	 * then written back in one go, replacing all the documents matching its query.
+	 */
+	public final class DocumentBlock {
+		private final Query query;
+		private final List<Document> oldDocuments;
+		private final List<Document> documents = new ArrayList<>();
+		private boolean changed;
+
+		private DocumentBlock(Query query, List<Document> oldDocuments) {
+			this.query = query;
+			this.oldDocuments = oldDocuments;
+			for (Document oldDoc : oldDocuments) {
+				final Document doc = new Document();
+				for (IndexableField f : oldDoc) {
+					doc.add(f);
+				}
+				documents.add(doc);
+			}
+		}
+
+		/**
+		 * Returns the current version of the documents in the block, with only
+		 * their stored fields (as if they had been read from the index). The
+		 * list can be changed, but {@link #markChanged()} should be called
+		 * afterwards so the changes are written.
+		 */
+		public List<Document> getDocuments() {
+			return documents;
+		}
+
+		public void markChanged() {
+			this.changed = true;
+		}
+	}
+
+	private final List<IUndoable> rollbackLog = new ArrayList<>();
+	private final Map<String, DocumentBlock> pendingBlocks = new LinkedHashMap<>();
+	private final int maxPendingBlocks;
 	private final ScheduledExecutorService executor;
 	private final SearcherManager searchManager;
 
+	/**
+	 * <code>true</code> if there have been writes since the searcher was last
+	 * refreshed.
+	 */
+	private volatile boolean dirty;
+
 	public class SearcherCloseable implements Closeable {
 		private IndexSearcher searcher;
 
@@ -87,7 +141,20 @@ final class SoftTxLucene {
 		}
 	}
 
-	public SoftTxLucene(File dir) throws IOException {
+	/**
+	 * Opens the index.
+	 *
+	 * @param dir
+	 *            Folder with the index.
+	 * @param maxPendingBlocks
+	 *            Maximum number of blocks kept in memory before they are
+	 *            written to the index.
+	 * @param refreshMillis
+	 *            Milliseconds between background refreshes of the searcher
+	 *            after writes, or 0 to only refresh it when it is acquired.
+	 */
+	public SoftTxLucene(File dir, int maxPendingBlocks, long refreshMillis) throws IOException {
+		this.maxPendingBlocks = Math.max(1, maxPendingBlocks);
 		this.storage = new MMapDirectory(dir.toPath());
 		this.analyzer = new CaseInsensitiveWhitespaceAnalyzer();
 		this.writer = new IndexWriter(storage, new IndexWriterConfig(analyzer));
@@ -105,18 +172,120 @@ final class SoftTxLucene {
 				}
 			}
 		}, 30, 30, TimeUnit.SECONDS); 
+
+		if (refreshMillis > 0) {
+			executor.scheduleWithFixedDelay(() -> {
+				try {
+					refreshReader();
+				} catch (IOException e) {
+					LOGGER.error("Periodic refresh of Lucene at " + storage + " failed", e);
+				}
+			}, refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
+		}
 	}
 
+	/**
+	 * Returns a searcher that sees all the changes so far, applying the pending
+	 * blocks and refreshing the searcher if needed.
+	 */
 	public SearcherCloseable getSearcher() throws IOException {
+		applyPendingBlocks();
+		return acquireSearcher();
+	}
+
+	/**
+	 * Returns a searcher that sees all the changes written so far, without
+	 * applying the pending blocks.
+	 */
+	private SearcherCloseable acquireSearcher() throws IOException {
+		if (dirty) {
+			dirty = false;
+			searchManager.maybeRefreshBlocking();
+		}
 		return new SearcherCloseable();
 	}
 
 	private void refreshReader() throws IOException {
-		searchManager.maybeRefresh();
+		if (dirty) {
+			dirty = false;
+			if (!searchManager.maybeRefresh()) {
+				// Another thread was refreshing: it may have missed the latest writes
+				dirty = true;
+			}
+		}
+	}
+
+	/**
+	 * Returns the block of documents with the specified key, reading it from
+	 * the index if it is not pending already.
+	 *
+	 * @param key
+	 *            Unique key of the block.
+	 * @param query
+	 *            Query which matches all the documents of the block, and no
+	 *            documents from any other block.
+	 */
+	public DocumentBlock getBlock(String key, Query query) throws IOException {
+		synchronized (rollbackLog) {
+			DocumentBlock block = pendingBlocks.get(key);
+			if (block == null) {
+				if (pendingBlocks.size() >= maxPendingBlocks) {
+					applyPendingBlocks();
+				}
+
+				/*
+				 * The query does not match documents from the other pending
+				 * blocks, so we do not need to apply them first.
+				 */
+				try (SearcherCloseable sc = acquireSearcher()) {
+					final ListCollector lc = new ListCollector(sc.get());
+					sc.get().search(query, lc);
+					block = new DocumentBlock(query, lc.getDocuments());
+				}
+				pendingBlocks.put(key, block);
+			}
+			return block;
+		}
+	}
+
+	/**
+	 * Writes all the changed blocks to the index. Each block becomes one entry
+	 * in the rollback log.
+	 */
+	private void applyPendingBlocks() throws IOException {
+		synchronized (rollbackLog) {
+			for (DocumentBlock block : pendingBlocks.values()) {
+				if (block.changed) {
+					doWork(new IUndoable() {
+						@Override
+						public void doWork() throws IOException {
+							replaceAll(block.query, block.documents);
+						}
+
+						@Override
+						public void undoWork() throws IOException {
+							replaceAll(block.query, block.oldDocuments);
+						}
+					});
+				}
+			}
+			pendingBlocks.clear();
+		}
+	}
+
+	private void replaceAll(Query query, List<Document> documents) throws IOException {
+		final List<Document> newDocuments = new ArrayList<>(documents.size());
+		for (Document doc : documents) {
+			newDocuments.add(GreycatLuceneIndexer.copy(doc));
+		}
+		writer.deleteDocuments(query);
+		writer.addDocuments(newDocuments);
+		dirty = true;
 	}
 
 	public void flush() {
 		try {
+			applyPendingBlocks();
 			writer.flush();
 			searchManager.maybeRefreshBlocking();
 		} catch (IOException e) {
@@ -138,18 +307,21 @@ final class SoftTxLucene {
 		}
 	}
 
-	public void commit() {
+	public void commit() throws IOException {
 		synchronized (rollbackLog) {
+			applyPendingBlocks();
 			rollbackLog.clear();
 		}
 	}
 
 	public void rollback() throws IOException {
 		synchronized (rollbackLog) {
+			pendingBlocks.clear();
 			for (ListIterator<IUndoable> itUndoable = rollbackLog.listIterator(rollbackLog.size()); itUndoable.hasPrevious(); ) {
 				itUndoable.previous().undoWork();
 			}
 			rollbackLog.clear();
+			dirty = true;
 			refreshReader();
 		}
 	}
@@ -158,14 +330,14 @@ final class SoftTxLucene {
 	 * Updates a single document with this term.
 	 */
 	public void update(Term term, Document oldDocument, Document newDocument) throws IOException {
-		doWork(new IUndoable() {
+		doWorkAfterBlocks(new IUndoable() {
 			private Document prevDocument = null;
 
 			@Override
 			public void doWork() throws IOException {
 				prevDocument = GreycatLuceneIndexer.copy(oldDocument);
 				writer.updateDocument(term, newDocument);
-				refreshReader();
+				dirty = true;
 			}
 
 			@Override
@@ -183,14 +355,14 @@ final class SoftTxLucene {
 	 * Deletes a single document with this term.
 	 */
 	public void delete(Term term) throws IOException {
-		doWork(new IUndoable() {
+		doWorkAfterBlocks(new IUndoable() {
 			private Document oldDocument = null;
 
 			@Override
 			public void doWork() throws IOException {
 				oldDocument = GreycatLuceneIndexer.copy(getDocument(term));
 				writer.deleteDocuments(term);
-				refreshReader();
+				dirty = true;
 			}
 
 			@Override
@@ -206,16 +378,17 @@ final class SoftTxLucene {
 	 * Deletes all documents matching this query.
 	 */
 	public void delete(Query query) throws IOException {
-		doWork(new IUndoable() {
+		doWorkAfterBlocks(new IUndoable() {
 			private List<Document> oldDocuments;
 
 			@Override
 			public void doWork() throws IOException {
-				try (SearcherCloseable sc = new SearcherCloseable()) {
+				try (SearcherCloseable sc = acquireSearcher()) {
 					final ListCollector lc = new ListCollector(sc.get());
 					sc.get().search(query, lc);
 					oldDocuments = lc.getDocuments().stream().map(d -> GreycatLuceneIndexer.copy(d)).collect(Collectors.toList());
 					writer.deleteDocuments(query);
+					dirty = true;
 				}
 			}
 
@@ -229,7 +402,7 @@ final class SoftTxLucene {
 	}
 
 	private Document getDocument(Term term) throws IOException {
-		try (SearcherCloseable sc = new SearcherCloseable()) {
+		try (SearcherCloseable sc = acquireSearcher()) {
 			final IndexSearcher searcher = sc.get();
 			final TopDocs topDocs = searcher.search(new TermQuery(term), 1);
 			if (topDocs.totalHits > 0) {
@@ -239,6 +412,17 @@ final class SoftTxLucene {
 		return null;
 	}
 
+	/**
+	 * Applies a change right away, after the pending blocks (which may affect
+	 * the same documents).
+	 */
+	private void doWorkAfterBlocks(IUndoable iUndoable) throws IOException {
+		synchronized (rollbackLog) {
+			applyPendingBlocks();
+			doWork(iUndoable);
+		}
+	}
+
 	private void doWork(IUndoable iUndoable) throws IOException {
 		synchronized (rollbackLog) {
 			iUndoable.doWork();
@@ -333,4 +333,9 @@ public class HTTPManager implements IVcsManager {
 	public void setFrozen(boolean f) {
 		isFrozen = f;
 	}
+
+	@Override
+	public boolean hasStableRevisions() {
+		return true;
+	}
 }
@@ -19,9 +19,12 @@ package org.hawk.neo4j_v2;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -42,6 +45,7 @@ import org.hawk.neo4j_v2.util.Neo4JNodeIndex;
 import org.hawk.neo4j_v2.util.Neo4JTransaction;
 import org.neo4j.graphdb.DynamicRelationshipType;
 import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
 import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.Relationship;
 import org.neo4j.graphdb.RelationshipType;
@@ -318,6 +322,29 @@ public class Neo4JDatabase implements IGraphDatabase {
 
 	}
 
+	@Override
+	public List<IGraphNode> createNodes(List<Map<String, Object>> props, String type) {
+		final Label label = Neo4JBatchUtil.createLabel(type);
+		final List<IGraphNode> nodes = new ArrayList<>(props.size());
+		for (Map<String, Object> map : props) {
+			if (map == null) {
+				map = Collections.emptyMap();
+			}
+
+			if (graph != null) {
+				Node n = graph.createNode(label);
+				for (String s : map.keySet()) {
+					n.setProperty(s, map.get(s));
+				}
+				nodes.add(new Neo4JNode(n, this));
+			} else {
+				long l = batch.createNode(map, label);
+				nodes.add(new Neo4JNode(l, this));
+			}
+		}
+		return nodes;
+	}
+
 	@Override
 	public IGraphEdge createRelationship(IGraphNode start, IGraphNode end,
 			String t) {
@@ -422,6 +449,22 @@ public class Neo4JDatabase implements IGraphDatabase {
 
 	}
 
+	@Override
+	public Map<String, Object> getProperties(IGraphNode node, Collection<String> keys) {
+		if (!(node instanceof Neo4JNode)) {
+			return IGraphDatabase.super.getProperties(node, keys);
+		}
+		return ((Neo4JNode) node).getProperties(keys);
+	}
+
+	@Override
+	public List<Object> getOutgoingTargetIds(IGraphNode node, String type) {
+		if (!(node instanceof Neo4JNode)) {
+			return IGraphDatabase.super.getOutgoingTargetIds(node, type);
+		}
+		return ((Neo4JNode) node).getOutgoingTargetIds(type);
+	}
+
 	@Override
 	public String getHumanReadableName() {
 		return "Neo4J (Version 2) Graph Database";
@@ -443,6 +486,12 @@ public class Neo4JDatabase implements IGraphDatabase {
 		}
 	}
 
+	@Override
+	public boolean supportsConcurrentReaders() {
+		// The batch inserter can only be used from one thread
+		return currentMode() == Mode.TX_MODE;
+	}
+
 	public File logFull() throws Exception {
 		File logFolder = new File(loc + "/logs");
 		logFolder.mkdir();
@@ -16,7 +16,11 @@
  ******************************************************************************/
 package org.hawk.neo4j_v2.util;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 
 import org.hawk.core.graph.IGraphDatabase;
@@ -27,7 +31,9 @@ import org.hawk.neo4j_v2.Neo4JDatabase;
 import org.neo4j.graphdb.Direction;
 import org.neo4j.graphdb.DynamicRelationshipType;
 import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Relationship;
 import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.unsafe.batchinsert.BatchRelationship;
 
 public class Neo4JNode implements IGraphNode {
 
@@ -80,6 +86,59 @@ public class Neo4JNode implements IGraphNode {
 		}
 	}
 
+	/**
+	 * Returns the values of several properties. In batch mode, the properties
+	 * of the node are only read once. Unset properties are not included.
+	 */
+	public Map<String, Object> getProperties(Collection<String> names) {
+		final Map<String, Object> ret = new HashMap<>();
+		if (graph.getGraph() != null) {
+			if (node == null) {
+				node = graph.getGraph().getNodeById(id);
+			}
+			for (String name : names) {
+				final Object value = node.getProperty(name, null);
+				if (value != null) {
+					ret.put(name, value);
+				}
+			}
+		} else {
+			final Map<String, Object> props = graph.getBatch().getNodeProperties(id);
+			for (String name : names) {
+				final Object value = props.get(name);
+				if (value != null) {
+					ret.put(name, value);
+				}
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns the identifiers of the targets of the outgoing edges with a
+	 * certain type, without wrapping the edges. Unlike
+	 * {@link #getOutgoingWithType(String)}, this filters edges by direction and
+	 * type in batch mode as well.
+	 */
+	public List<Object> getOutgoingTargetIds(String type) {
+		final List<Object> ret = new ArrayList<>();
+		if (graph.getGraph() != null) {
+			if (node == null) {
+				node = graph.getGraph().getNodeById(id);
+			}
+			for (Relationship r : node.getRelationships(getNewRelationshipType(type), Direction.OUTGOING)) {
+				ret.add(r.getEndNode().getId());
+			}
+		} else {
+			for (BatchRelationship r : graph.getBatch().getRelationships(id)) {
+				if (r.getStartNode() == id && type.equals(r.getType().name())) {
+					ret.add(r.getEndNode());
+				}
+			}
+		}
+		return ret;
+	}
+
 	@Override
 	public void removeProperty(String name) {
 
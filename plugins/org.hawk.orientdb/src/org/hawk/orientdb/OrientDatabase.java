@@ -23,13 +23,20 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.Queue;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.pool2.BasePooledObjectFactory;
 import org.apache.commons.pool2.PooledObject;
@@ -54,6 +61,7 @@ import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.cache.ORecordCache;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
@@ -83,6 +91,7 @@ public class OrientDatabase implements IGraphDatabase {
 		public void destroyObject(PooledObject<ODatabaseDocumentTx> pooled) throws Exception {
 			final ODatabaseDocumentTx db = pooled.getObject();
 			allConns.remove(db);
+			cacheInvalidations.remove(db);
 			db.activateOnCurrentThread();
 			db.close();
 		}
@@ -109,6 +118,7 @@ public class OrientDatabase implements IGraphDatabase {
 				db.open("admin", "admin");
 			}
 			db.declareIntent(currentMode == Mode.NO_TX_MODE ? new OIntentMassiveInsert() : new OIntentMassiveRead());
+			cacheInvalidations.put(db, new CacheInvalidations());
 			allConns.add(db);
 			return db;
 		}
@@ -119,6 +129,54 @@ public class OrientDatabase implements IGraphDatabase {
 		}
 	}
 
+	/**
+	 * Records whose copies in the local cache of a connection have become stale,
+	 * as they were changed through another connection. They are dropped by the
+	 * thread using the connection the next time it accesses the database, so
+	 * flushes from the indexer do not touch the caches of other threads, and
+	 * only the changed records are dropped.
+	 */
+	private static final class CacheInvalidations {
+		private final Queue<ORID> records = new ConcurrentLinkedQueue<>();
+		private final AtomicInteger size = new AtomicInteger();
+		private volatile boolean invalidateAll;
+
+		public void addAll(Collection<ORID> ids) {
+			if (invalidateAll) {
+				return;
+			}
+
+			if (size.addAndGet(ids.size()) > MAX_PENDING_INVALIDATIONS) {
+				// Connection has not been used for a while - cheaper to drop its cache
+				invalidateAll = true;
+				records.clear();
+			} else {
+				records.addAll(ids);
+			}
+		}
+
+		public void applyTo(ODatabaseDocumentTx conn) {
+			if (invalidateAll) {
+				invalidateAll = false;
+				records.clear();
+				size.set(0);
+				conn.getLocalCache().invalidate();
+				return;
+			}
+
+			for (ORID id = records.poll(); id != null; id = records.poll()) {
+				size.decrementAndGet();
+				conn.getLocalCache().deleteRecord(id);
+			}
+		}
+	}
+
+	/**
+	 * Maximum number of records that may be pending invalidation in a connection
+	 * before we drop its entire local cache instead.
+	 */
+	public static final int MAX_PENDING_INVALIDATIONS = 100_000;
+
 	/** Name of the Orient document class for edges. */
 	private static final String EDGE_TYPE = "E";
 
@@ -168,8 +226,24 @@ public class OrientDatabase implements IGraphDatabase {
 
 	private Mode currentMode;
 
-	private Map<String, OrientNode> dirtyNodes = new HashMap<>(SIZE_THRESHOLD);
-	private Map<String, OrientEdge> dirtyEdges = new HashMap<>(SIZE_THRESHOLD);
+	/*
+	 * Changes not saved yet are kept per thread, like the connections: a thread
+	 * committing its own transaction must not save those of another thread.
+	 * They are also registered by thread, so a shutdown from another thread
+	 * (e.g. the server or the UI) can still save those left by the indexer in
+	 * batch mode. The entries of finished threads are dropped by the GC.
+	 */
+	private final Map<Thread, Map<String, OrientNode>> allDirtyNodes = Collections.synchronizedMap(new WeakHashMap<>());
+	private final Map<Thread, Map<String, OrientEdge>> allDirtyEdges = Collections.synchronizedMap(new WeakHashMap<>());
+	private final ThreadLocal<Map<String, OrientNode>> dirtyNodes = ThreadLocal.withInitial(() -> registerDirty(allDirtyNodes));
+	private final ThreadLocal<Map<String, OrientEdge>> dirtyEdges = ThreadLocal.withInitial(() -> registerDirty(allDirtyEdges));
+
+	/**
+	 * Persistent records changed or deleted by this thread since the last
+	 * {@link #publishChangedRecords()}, to be dropped from the caches of the
+	 * other connections.
+	 */
+	private final ThreadLocal<Set<ORID>> changedRecords = ThreadLocal.withInitial(HashSet::new);
 
 	// Currently held database connection in this thread (may be released)
 	private final ThreadLocal<ODatabaseDocumentTx> dbConn = new ThreadLocal<>();
@@ -182,6 +256,7 @@ public class OrientDatabase implements IGraphDatabase {
 	private GenericObjectPool<ODatabaseDocumentTx> pool;
 	private final Set<ODatabaseDocumentTx> allConns = Collections.newSetFromMap(
 		new ConcurrentHashMap<ODatabaseDocumentTx, Boolean>(Runtime.getRuntime().availableProcessors() * 2, 0.9f, 1));
+	private final Map<ODatabaseDocumentTx, CacheInvalidations> cacheInvalidations = new ConcurrentHashMap<>();
 	private static final String POOL_SIZE_PROPERTY = "hawk.orient.maxConnections";
 
 	protected String dbURL;
@@ -271,8 +346,10 @@ public class OrientDatabase implements IGraphDatabase {
 		ODatabaseDocumentTx db = getGraphNoCreate();
 		if (delete) {
 			discardDirty();
+			clearDirty(allDirtyNodes);
+			clearDirty(allDirtyEdges);
 		} else {
-			saveDirty();
+			saveAllDirty();
 		}
 
 		synchronized (allConns) {
@@ -347,6 +424,7 @@ public class OrientDatabase implements IGraphDatabase {
 		if (db.getTransaction().isActive()) {
 			saveDirty();
 			db.commit();
+			publishChangedRecords();
 		}
 
 		currentMode = Mode.NO_TX_MODE;
@@ -366,28 +444,80 @@ public class OrientDatabase implements IGraphDatabase {
 	}
 
 	public void saveDirty() {
-		final boolean hadDirty = !dirtyNodes.isEmpty() || !dirtyEdges.isEmpty();
-		for (Iterator<OrientNode> itNode = dirtyNodes.values().iterator(); itNode.hasNext();) {
+		for (Iterator<OrientNode> itNode = dirtyNodes.get().values().iterator(); itNode.hasNext();) {
 			OrientNode on = itNode.next();
 			on.save();
 			itNode.remove();
 		}
-		for (Iterator<OrientEdge> itEdge = dirtyEdges.values().iterator(); itEdge.hasNext();) {
+		for (Iterator<OrientEdge> itEdge = dirtyEdges.get().values().iterator(); itEdge.hasNext();) {
 			OrientEdge oe = itEdge.next();
 			oe.save();
 			itEdge.remove();
 		}
 
-		if (hadDirty) {
-			// We changed the database permanently - invalidate all the other caches
-			for (ODatabaseDocumentTx conn : allConns) {
-				conn.activateOnCurrentThread();
-				conn.getLocalCache().invalidate();
+		final ODatabaseDocumentTx current = dbConn.get();
+		if (current == null || !current.getTransaction().isActive()) {
+			// Saves outside transactions are permanent right away
+			publishChangedRecords();
+		}
+	}
+
+	private static <T> Map<String, T> registerDirty(Map<Thread, Map<String, T>> registry) {
+		final Map<String, T> dirty = new HashMap<>(SIZE_THRESHOLD);
+		registry.put(Thread.currentThread(), dirty);
+		return dirty;
+	}
+
+	/**
+	 * Saves the records left unsaved by all the threads, from the current
+	 * thread. Only to be used on shutdown, as they may be part of the
+	 * transactions of the other threads.
+	 */
+	private void saveAllDirty() {
+		saveDirty();
+
+		synchronized (allDirtyNodes) {
+			for (Map<String, OrientNode> nodes : allDirtyNodes.values()) {
+				for (OrientNode on : nodes.values()) {
+					on.save();
+				}
+				nodes.clear();
 			}
-			ODatabaseDocumentTx conn = dbConn.get();
-			if (conn != null) {
-				conn.activateOnCurrentThread();
+		}
+		synchronized (allDirtyEdges) {
+			for (Map<String, OrientEdge> edges : allDirtyEdges.values()) {
+				for (OrientEdge oe : edges.values()) {
+					oe.save();
+				}
+				edges.clear();
+			}
+		}
+	}
+
+	private static void clearDirty(Map<Thread, ? extends Map<String, ?>> registry) {
+		synchronized (registry) {
+			for (Map<String, ?> dirty : registry.values()) {
+				dirty.clear();
+			}
+		}
+	}
+
+	/**
+	 * Lets the other connections know about the records changed since the last
+	 * call, so they drop them from their caches. This must only be done once
+	 * the changes are permanent: otherwise, the other connections could load
+	 * and cache the old versions again before the commit.
+	 */
+	void publishChangedRecords() {
+		final Set<ORID> changed = changedRecords.get();
+		if (!changed.isEmpty()) {
+			final ODatabaseDocumentTx current = dbConn.get();
+			for (Map.Entry<ODatabaseDocumentTx, CacheInvalidations> entry : cacheInvalidations.entrySet()) {
+				if (entry.getKey() != current) {
+					entry.getValue().addAll(changed);
+				}
 			}
+			changed.clear();
 		}
 	}
 
@@ -426,6 +556,28 @@ public class OrientDatabase implements IGraphDatabase {
 		}
 	}
 
+	@Override
+	public List<IGraphNode> createNodes(List<Map<String, Object>> props, String label) {
+		final String vertexTypeName = getVertexTypeName(label);
+		ensureClassExists(vertexTypeName);
+
+		final List<IGraphNode> nodes = new ArrayList<>(props.size());
+		for (Map<String, Object> nodeProps : props) {
+			ODocument newDoc = new ODocument(vertexTypeName);
+			if (nodeProps != null) {
+				OrientNode.setProperties(newDoc, nodeProps);
+			}
+			newDoc.save(vertexTypeName);
+
+			if (newDoc.getIdentity().isPersistent()) {
+				nodes.add(new OrientNode(newDoc.getIdentity(), this));
+			} else {
+				nodes.add(new OrientNode(newDoc, this));
+			}
+		}
+		return nodes;
+	}
+
 	private void ensureClassExists(final String className) {
 		ODatabaseDocumentTx db = getGraph();
 		final OSchemaProxy schema = db.getMetadata().getSchema();
@@ -435,6 +587,7 @@ public class OrientDatabase implements IGraphDatabase {
 				LOGGER.warn("Warning: premature commit needed to create class {}", className);
 				saveDirty();
 				getGraph().commit();
+				publishChangedRecords();
 			}
 
 			/*
@@ -477,15 +630,33 @@ public class OrientDatabase implements IGraphDatabase {
 		ensureClassExists(edgeTypeName);
 
 		IGraphEdge newEdge = OrientEdge.create(this, oStart, oEnd, type, edgeTypeName, props);
-		dirtyNodes.put(oStart.getId().toString(), oStart);
-		dirtyNodes.put(oEnd.getId().toString(), oEnd);
+		dirtyNodes.get().put(oStart.getId().toString(), oStart);
+		dirtyNodes.get().put(oEnd.getId().toString(), oEnd);
 		saveIfBig();
 
 		return newEdge;
 	}
 
+	@Override
+	public List<IGraphEdge> createRelationships(IGraphNode start, Collection<? extends IGraphNode> ends, String type, Map<String, Object> props) {
+		final OrientNode oStart = (OrientNode)start;
+		final String edgeTypeName = getEdgeTypeName(type);
+		ensureClassExists(edgeTypeName);
+
+		final List<IGraphEdge> edges = new ArrayList<>(ends.size());
+		for (IGraphNode end : ends) {
+			final OrientNode oEnd = (OrientNode)end;
+			edges.add(OrientEdge.create(this, oStart, oEnd, type, edgeTypeName, props));
+			dirtyNodes.get().put(oEnd.getId().toString(), oEnd);
+		}
+		dirtyNodes.get().put(oStart.getId().toString(), oStart);
+		saveIfBig();
+
+		return edges;
+	}
+
 	private void saveIfBig() {
-		final int totalSize = dirtyNodes.size() + dirtyEdges.size();
+		final int totalSize = dirtyNodes.get().size() + dirtyEdges.get().size();
 		if (totalSize > SIZE_THRESHOLD) {
 			saveDirty();
 		}
@@ -529,12 +700,15 @@ public class OrientDatabase implements IGraphDatabase {
 		if (conn != null) {
 			conn.activateOnCurrentThread();
 			if (!conn.isClosed()) {
+				applyCacheInvalidations(conn);
 				return conn;
 			}
 		}
 
 		try {
-			return pool.borrowObject();
+			final ODatabaseDocumentTx borrowed = pool.borrowObject();
+			applyCacheInvalidations(borrowed);
+			return borrowed;
 		} catch (Exception e) {
 			LOGGER.error("Error opening connection to Orient", e);
 			return null;
@@ -548,7 +722,7 @@ public class OrientDatabase implements IGraphDatabase {
 		}
 
 		String sID = id instanceof ODocument ? ((ODocument)id).getIdentity().toString() : id.toString();
-		OrientNode result = dirtyNodes.get(sID);
+		OrientNode result = dirtyNodes.get().get(sID);
 
 		if (result == null) {
 			if (id instanceof ODocument) {
@@ -568,13 +742,47 @@ public class OrientDatabase implements IGraphDatabase {
 		return result;
 	}
 
+	@Override
+	public Map<String, Object> getProperties(IGraphNode node, Collection<String> keys) {
+		if (!(node instanceof OrientNode)) {
+			return IGraphDatabase.super.getProperties(node, keys);
+		}
+		return ((OrientNode) node).getProperties(keys);
+	}
+
+	@Override
+	public List<Object> getOutgoingTargetIds(IGraphNode node, String type) {
+		if (!(node instanceof OrientNode)) {
+			return IGraphDatabase.super.getOutgoingTargetIds(node, type);
+		}
+		return ((OrientNode) node).getOutgoingTargetIds(type);
+	}
+
+	/**
+	 * Returns <code>true</code> if the record is a heavyweight edge rather than
+	 * a vertex. The record is only loaded if its cluster does not tell.
+	 */
+	boolean isEdgeRecord(OIdentifiable record) {
+		if (record instanceof ODocument) {
+			final OClass oClass = ((ODocument) record).getSchemaClass();
+			return oClass != null && !oClass.getName().startsWith(VERTEX_TYPE_PREFIX);
+		}
+
+		final int clusterId = record.getIdentity().getClusterId();
+		if (clusterId >= 0) {
+			final OClass edgeClass = getGraph().getMetadata().getSchema().getClass(EDGE_TYPE);
+			return edgeClass != null && edgeClass.hasPolymorphicClusterId(clusterId);
+		}
+		return isEdgeRecord(getNodeById(record).getDocument());
+	}
+
 	public OrientEdge getEdgeById(Object id) {
 		if (id instanceof String) {
 			id = new ORecordId(id.toString());
 		}
 
 		String sID = id instanceof ODocument ? ((ODocument)id).getIdentity().toString() : id.toString();
-		OrientEdge dirtyEdge = dirtyEdges.get(sID);
+		OrientEdge dirtyEdge = dirtyEdges.get().get(sID);
 		if (dirtyEdge != null) {
 			return dirtyEdge;
 		} else if (id instanceof ODocument) {
@@ -604,6 +812,12 @@ public class OrientDatabase implements IGraphDatabase {
 		return currentMode;
 	}
 
+	@Override
+	public boolean supportsConcurrentReaders() {
+		// Each thread has its own connection, but batch mode has no transactions
+		return currentMode == Mode.TX_MODE;
+	}
+
 	@Override
 	public Set<String> getNodeIndexNames() {
 		return new HashSet<String>(getIndexStore().getNodeIndexNames());
@@ -669,35 +883,47 @@ public class OrientDatabase implements IGraphDatabase {
 
 	public void markNodeAsDirty(OrientNode orientNode) {
 		final ORID id = orientNode.getId();
-		dirtyNodes.put(id.toString(), orientNode);
-		deleteFromAllCaches(id);
+		dirtyNodes.get().put(id.toString(), orientNode);
+		markRecordAsChanged(id);
 		saveIfBig();
 	}
 
 	public void unmarkNodeAsDirty(OrientNode orientNode) {
-		dirtyNodes.remove(orientNode.getId() + "");
+		dirtyNodes.get().remove(orientNode.getId() + "");
 	}
 
 	public void markEdgeAsDirty(OrientEdge orientEdge) {
 		final ORID id = orientEdge.getId();
-		dirtyEdges.put(id.toString(), orientEdge);
-		deleteFromAllCaches(id);
+		dirtyEdges.get().put(id.toString(), orientEdge);
+		markRecordAsChanged(id);
 		saveIfBig();
 	}
 
 	public void unmarkEdgeAsDirty(OrientEdge orientEdge) {
-		dirtyEdges.remove(orientEdge.getId() + "");
+		dirtyEdges.get().remove(orientEdge.getId() + "");
 	}
 
 	public void discardDirty() {
-		dirtyNodes.clear();
-		dirtyEdges.clear();
+		dirtyNodes.get().clear();
+		dirtyEdges.get().clear();
+		changedRecords.get().clear();
 	}
 
-	protected void deleteFromAllCaches(final ORID id) {
-		for (ODatabaseDocumentTx conn : allConns) {
-			conn.activateOnCurrentThread();
-			conn.getLocalCache().deleteRecord(id);
+	/**
+	 * Notes that a record has been changed or deleted, so the other connections
+	 * drop it from their caches once it is saved and committed. Records which
+	 * have not been saved yet cannot be in those caches.
+	 */
+	public void markRecordAsChanged(ORID id) {
+		if (id.isPersistent()) {
+			changedRecords.get().add(id.copy());
+		}
+	}
+
+	private void applyCacheInvalidations(ODatabaseDocumentTx conn) {
+		final CacheInvalidations invalidations = cacheInvalidations.get(conn);
+		if (invalidations != null) {
+			invalidations.applyTo(conn);
 		}
 	}
 
@@ -142,6 +142,7 @@ public class OrientEdge implements IGraphEdge {
 		db.markNodeAsDirty(startNode);
 		db.markNodeAsDirty(endNode);
 		db.unmarkEdgeAsDirty(this);
+		db.markRecordAsChanged(getId());
 		db.getGraph().delete(getId());
 
 		changedEdge = null;
@@ -133,8 +133,35 @@ public class OrientNode implements IGraphNode {
 		return internalGetProperty(PREFIX_PROPERTY + OrientNameCleaner.escapeToField(name));
 	}
 
+	/**
+	 * Returns the values of several properties, loading the document only once.
+	 * Unset properties are not included in the map.
+	 */
+	public Map<String, Object> getProperties(Collection<String> names) {
+		final ODocument tmpVertex = getDocument();
+		final Map<String, Object> values = new HashMap<>();
+		for (String name : names) {
+			Object value = null;
+			try {
+				value = internalGetProperty(tmpVertex, PREFIX_PROPERTY + name);
+			} catch (IllegalArgumentException ex) {
+				// Field name might need to be escaped (OrientDB only checks on set)
+			}
+			if (value == null) {
+				value = internalGetProperty(tmpVertex, PREFIX_PROPERTY + OrientNameCleaner.escapeToField(name));
+			}
+			if (value != null) {
+				values.put(name, value);
+			}
+		}
+		return values;
+	}
+
 	public Object internalGetProperty(final String fieldName) {
-		ODocument tmpVertex = getDocument();
+		return internalGetProperty(getDocument(), fieldName);
+	}
+
+	private static Object internalGetProperty(final ODocument tmpVertex, final String fieldName) {
 		final Object value = tmpVertex.field(fieldName);
 		if (value instanceof OTrackedList<?>) {
 			final OTrackedList<?> cValue = (OTrackedList<?>)value;
@@ -334,6 +361,45 @@ public class OrientNode implements IGraphNode {
 		return getEdges(type, Direction.OUT);
 	}
 
+	/**
+	 * Returns the identifiers of the targets of the outgoing edges with a
+	 * certain label. Unlike {@link #getOutgoingWithType(String)}, the targets
+	 * of lightweight edges are not loaded.
+	 */
+	public List<Object> getOutgoingTargetIds(String type) {
+		final ODocument tmpVertex = getDocument();
+		final List<Object> ids = new ArrayList<>();
+		try {
+			addOutgoingTargetIds(ids, tmpVertex, type);
+		} catch (IllegalArgumentException ex) {
+			// fall back to the escaped version
+		}
+		if (ids.isEmpty()) {
+			addOutgoingTargetIds(ids, tmpVertex, OrientNameCleaner.escapeToField(type));
+		}
+		return ids;
+	}
+
+	private void addOutgoingTargetIds(final List<Object> ids, final ODocument tmpVertex, final String type) {
+		for (String fldName : new String[] { PREFIX_OUTGOING + type, PREFIX_OUTGOING_OLD + type }) {
+			final Iterable<Object> odocs = tmpVertex.field(fldName);
+			if (odocs == null) {
+				continue;
+			}
+
+			for (Object odoc : odocs) {
+				if (odoc instanceof OIdentifiable) {
+					final OIdentifiable target = (OIdentifiable) odoc;
+					if (graph.isEdgeRecord(target)) {
+						ids.add(graph.getEdgeById(target).getEndNode().getId());
+					} else {
+						ids.add(graph.getNodeById(target).getId());
+					}
+				}
+			}
+		}
+	}
+
 	@Override
 	public Iterable<IGraphEdge> getIncomingWithType(String type) {
 		return getEdges(type, Direction.IN);
@@ -358,6 +424,7 @@ public class OrientNode implements IGraphNode {
 			graph.getOrCreateNodeIndex(idxName).remove(this);
 		}
 
+		graph.markRecordAsChanged(getId());
 		graph.getGraph().delete(getId());
 		changedVertex = null;
 		graph.unmarkNodeAsDirty(this);
@@ -40,6 +40,7 @@ public class OrientTransaction implements IGraphTransaction {
 		graph.saveDirty();
 		graph.processPostponedIndexes();
 		graph.getGraph().commit();
+		graph.publishChangedRecords();
 	}
 
 	@Override
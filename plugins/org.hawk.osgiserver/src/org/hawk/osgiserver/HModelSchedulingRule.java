@@ -16,23 +16,78 @@
  ******************************************************************************/
 package org.hawk.osgiserver;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 
 /**
  * Job scheduling rule that prevents two jobs from running at once on the same
- * Hawk HModel.
+ * Hawk HModel, unless both of them only read from it (e.g. queries).
+ *
+ * To avoid starving jobs that need exclusive access, read-only rules are
+ * grouped into epochs: each exclusive rule starts a new epoch for its HModel,
+ * and read-only rules only share the HModel with read-only rules from the same
+ * epoch. Read-only jobs scheduled after an exclusive job will therefore wait
+ * for the read-only jobs scheduled before it, instead of overtaking it.
  */
 public class HModelSchedulingRule implements ISchedulingRule {
+	private static final Map<HModel, AtomicLong> EPOCHS = Collections.synchronizedMap(new WeakHashMap<>());
+
 	private final HModel hawkModel;
+	private final boolean readOnly;
+	private final long epoch;
 
+	/**
+	 * Creates a rule for a job that needs exclusive access to the HModel.
+	 */
 	public HModelSchedulingRule(HModel hawkModel) {
+		this(hawkModel, false);
+	}
+
+	/**
+	 * Creates a rule for a job on the HModel.
+	 *
+	 * @param readOnly
+	 *            If <code>true</code>, the job only reads from the HModel and
+	 *            can run at the same time as other read-only jobs.
+	 */
+	public HModelSchedulingRule(HModel hawkModel, boolean readOnly) {
 		this.hawkModel = hawkModel;
+		this.readOnly = readOnly;
+
+		final AtomicLong modelEpoch = EPOCHS.computeIfAbsent(hawkModel, m -> new AtomicLong());
+		this.epoch = readOnly ? modelEpoch.get() : modelEpoch.incrementAndGet();
+	}
+
+	public boolean isReadOnly() {
+		return readOnly;
+	}
+
+	/**
+	 * Returns the epoch of this rule within its HModel: see the class
+	 * documentation for details.
+	 */
+	public long getEpoch() {
+		return epoch;
 	}
 
 	@Override
 	public boolean isConflicting(ISchedulingRule rule) {
-		if (rule instanceof HModelSchedulingRule) {
-			return ((HModelSchedulingRule)rule).hawkModel == this.hawkModel;
+		if (rule == this) {
+			// Required by the job manager
+			return true;
+		} else if (rule instanceof HModelSchedulingRule) {
+			final HModelSchedulingRule other = (HModelSchedulingRule) rule;
+			if (other.hawkModel != this.hawkModel) {
+				return false;
+			} else if (other.readOnly && this.readOnly) {
+				return other.epoch != this.epoch;
+			} else {
+				return true;
+			}
 		}
 		return false;
 	}
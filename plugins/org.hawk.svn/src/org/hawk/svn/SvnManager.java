@@ -327,4 +327,9 @@ public class SvnManager implements IVcsManager {
 	public void setFrozen(boolean f) {
 		isFrozen = f;
 	}
+
+	@Override
+	public boolean hasStableRevisions() {
+		return true;
+	}
 }
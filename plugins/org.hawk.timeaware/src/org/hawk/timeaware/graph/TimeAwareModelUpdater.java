@@ -16,12 +16,16 @@
  ******************************************************************************/
 package org.hawk.timeaware.graph;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import org.hawk.core.graph.IGraphDatabase;
 import org.hawk.core.graph.IGraphNode;
 import org.hawk.core.graph.timeaware.ITimeAwareGraphNode;
 import org.hawk.graph.updater.DeletionUtils;
 import org.hawk.graph.updater.GraphModelInserter;
 import org.hawk.graph.updater.GraphModelUpdater;
+import org.hawk.graph.updater.UpdateCostModel.Strategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -74,15 +78,13 @@ public class TimeAwareModelUpdater extends GraphModelUpdater {
 	public GraphModelInserter createInserter() {
 		return new GraphModelInserter(indexer, this::createDeletionUtils, typeCache) {
 			@Override
-			protected double calculateModelDeltaRatio(IGraphNode fileNode, boolean verbose) throws Exception {
-				super.calculateModelDeltaRatio(fileNode, verbose);
-
+			protected Set<Strategy> getAllowedUpdateStrategies() {
 				/*
 				 * We want to always do a transactional update - batch update starts by removing
 				 * every existing node, so we would lose track of the various versions of each
 				 * model element.
 				 */
-				return 0;
+				return EnumSet.of(Strategy.TRANSACTIONAL, Strategy.STREAMING);
 			}
 		};
 	}
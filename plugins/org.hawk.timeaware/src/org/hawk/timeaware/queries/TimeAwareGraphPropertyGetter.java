@@ -17,6 +17,7 @@
 package org.hawk.timeaware.queries;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
@@ -40,6 +41,22 @@ class TimeAwareGraphPropertyGetter extends GraphPropertyGetter {
 		super(graph, m);
 	}
 
+	/**
+	 * The same node has different values over time, so cached values are keyed
+	 * by both the ID and the timepoint of the node. Scoped nodes may see a
+	 * different set of edges than their plain versions, so their values are not
+	 * cached at all.
+	 */
+	@Override
+	protected Object getCacheKey(IGraphNode node) {
+		if (node instanceof IScopingTimeAwareGraphNode) {
+			return null;
+		} else if (node instanceof ITimeAwareGraphNode) {
+			return Arrays.asList(node.getId(), ((ITimeAwareGraphNode) node).getTime());
+		}
+		return super.getCacheKey(node);
+	}
+
 	@Override
 	protected Object invokePredefined(String property, IGraphNode node) throws EolRuntimeException {
 		final Object ret = super.invokePredefined(property, node);
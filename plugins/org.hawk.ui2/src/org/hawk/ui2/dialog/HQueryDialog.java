@@ -217,7 +217,7 @@ public class HQueryDialog extends TitleAreaDialog implements IStateListener {
 					return FrameworkUtil.getBundle(getClass()).getSymbolicName();
 				}
 			};
-			runQueryJob.setRule(new HModelSchedulingRule(index));
+			runQueryJob.setRule(new HModelSchedulingRule(index, true));
 			runQueryJob.schedule();
 		}
 
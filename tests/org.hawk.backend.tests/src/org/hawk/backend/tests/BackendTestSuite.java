@@ -59,6 +59,9 @@ import com.github.peterwippermann.junit4.parameterizedsuite.ParameterizedSuite;
 	IndexTest.class,
 	DatabaseManagementTest.class,
 	GraphPopulationTest.class,
+	PipelinedSaveTest.class,
+	OrientCacheInvalidationTest.class,
+	GreycatSettingsTest.class,
 })
 public class BackendTestSuite {
 
@@ -22,9 +22,12 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import org.hawk.backend.tests.factories.IGraphDatabaseFactory;
@@ -384,6 +387,42 @@ public class GraphPopulationTest extends TemporaryDatabaseTest {
 		}
 	}
 
+	@Test
+	public void bulkAccess() throws Exception {
+		final List<IGraphNode> nodes;
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final Map<String, Object> props = new HashMap<>();
+			props.put("name", "b");
+			props.put("size", 2);
+			nodes = db.createNodes(Arrays.asList(Collections.singletonMap("name", "a"), props, null), "eobject");
+			assertEquals(3, nodes.size());
+			assertEquals(3, db.allNodes("eobject").size());
+
+			db.createRelationships(nodes.get(0), nodes.subList(1, 3), "light", null);
+			db.createRelationships(nodes.get(1), nodes.subList(2, 3), "heavy", Collections.singletonMap("x", 1));
+			tx.success();
+		}
+
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final List<IGraphNode> reloaded = db.getNodesByIds(Arrays.asList(
+				nodes.get(2).getId(), nodes.get(0).getId(), nodes.get(1).getId()));
+			assertEquals(Arrays.asList(nodes.get(2), nodes.get(0), nodes.get(1)), reloaded);
+
+			final Map<String, Object> props = db.getProperties(reloaded.get(2), Arrays.asList("name", "size", "missing"));
+			assertEquals(2, props.size());
+			assertEquals("b", props.get("name"));
+			assertEquals(2, props.get("size"));
+			assertTrue(db.getProperties(reloaded.get(0), Arrays.asList("name")).isEmpty());
+
+			assertEquals(new HashSet<>(Arrays.asList(nodes.get(1).getId(), nodes.get(2).getId())),
+				new HashSet<>(db.getOutgoingTargetIds(reloaded.get(1), "light")));
+			assertEquals(Arrays.asList(nodes.get(2).getId()),
+				db.getOutgoingTargetIds(reloaded.get(2), "heavy"));
+			assertTrue(db.getOutgoingTargetIds(reloaded.get(0), "light").isEmpty());
+			tx.success();
+		}
+	}
+
 	@Test
 	public void escapeInvalidClassCharacters() throws Exception {
 		char[] invalidClassChars = ":,; %@=.".toCharArray();
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.backend.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.hawk.backend.tests.factories.IGraphDatabaseFactory;
+import org.hawk.backend.tests.factories.LevelDBGreycatDatabaseFactory;
+import org.hawk.backend.tests.factories.RocksDBGreycatDatabaseFactory;
+import org.hawk.core.graph.IGraphTransaction;
+import org.hawk.core.util.DefaultConsole;
+import org.hawk.greycat.AbstractGreycatDatabase;
+import org.hawk.greycat.GreycatSettings;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Checks that the tuning settings of a Greycat database are read from its
+ * storage folder and the system properties, and that its node cache grows
+ * under read-heavy loads.
+ */
+@RunWith(Parameterized.class)
+public class GreycatSettingsTest {
+
+	@Rule
+	public RedirectSystemErrorRule errRule = new RedirectSystemErrorRule();
+
+	@Rule
+	public LogbackOnlyErrorsRule logRule = new LogbackOnlyErrorsRule();
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Parameters(name="Parameters are {0}")
+	public static Iterable<Object[]> params() {
+		return BackendTestSuite.caseParams();
+	}
+
+	private final IGraphDatabaseFactory dbFactory;
+	private AbstractGreycatDatabase db;
+
+	public GreycatSettingsTest(IGraphDatabaseFactory dbFactory) {
+		this.dbFactory = dbFactory;
+	}
+
+	@Before
+	public void setup() {
+		Assume.assumeTrue("These settings are specific to Greycat",
+			dbFactory instanceof LevelDBGreycatDatabaseFactory || dbFactory instanceof RocksDBGreycatDatabaseFactory);
+	}
+
+	@After
+	public void teardown() throws Exception {
+		if (db != null) {
+			db.delete();
+		}
+	}
+
+	@Test
+	public void settingsFromStorageFolder() throws Exception {
+		final Properties props = new Properties();
+		props.setProperty(GreycatSettings.NODE_CACHE_SIZE, "10");
+		props.setProperty(GreycatSettings.NODE_CACHE_MAX_SIZE, "40");
+		props.setProperty(GreycatSettings.MEMORY_SIZE, "500000");
+		props.setProperty(GreycatSettings.SAVE_EVERY, "5");
+		start(props);
+
+		final GreycatSettings settings = db.getSettings();
+		assertEquals(10, settings.getNodeCacheSize());
+		assertEquals(40, settings.getNodeCacheMaxSize());
+		assertEquals(500_000, settings.getMemorySize());
+		assertEquals(5, settings.getSaveEvery());
+		assertEquals(10, db.getNodeCacheSize());
+	}
+
+	@Test
+	public void systemPropertiesAsFallback() throws Exception {
+		final Properties props = new Properties();
+		props.setProperty(GreycatSettings.NODE_CACHE_SIZE, "10");
+
+		System.setProperty(GreycatSettings.NODE_CACHE_SIZE, "20");
+		System.setProperty(GreycatSettings.SAVE_EVERY, "7");
+		try {
+			start(props);
+			assertEquals(10, db.getSettings().getNodeCacheSize());
+			assertEquals(7, db.getSettings().getSaveEvery());
+			assertEquals(GreycatSettings.DEFAULT_MEMORY_SIZE, db.getSettings().getMemorySize());
+		} finally {
+			System.clearProperty(GreycatSettings.NODE_CACHE_SIZE);
+			System.clearProperty(GreycatSettings.SAVE_EVERY);
+		}
+	}
+
+	@Test
+	public void invalidValuesAreIgnored() {
+		final Properties props = new Properties();
+		props.setProperty(GreycatSettings.NODE_CACHE_SIZE, "lots");
+		props.setProperty(GreycatSettings.NODE_CACHE_MAX_SIZE, "5");
+
+		final GreycatSettings settings = new GreycatSettings(props);
+		assertEquals(GreycatSettings.DEFAULT_NODE_CACHE_SIZE, settings.getNodeCacheSize());
+		assertEquals("The maximum should not be below the initial size",
+			GreycatSettings.DEFAULT_NODE_CACHE_SIZE, settings.getNodeCacheMaxSize());
+	}
+
+	@Test
+	public void nodeCacheGrowsUnderReads() throws Exception {
+		final Properties props = new Properties();
+		props.setProperty(GreycatSettings.NODE_CACHE_SIZE, "10");
+		props.setProperty(GreycatSettings.NODE_CACHE_MAX_SIZE, "40");
+		start(props);
+
+		final List<Object> ids = new ArrayList<>();
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			for (int i = 0; i < 100; i++) {
+				ids.add(db.createNode(Collections.singletonMap("x", i), "node").getId());
+			}
+			tx.success();
+		}
+
+		// Cycling through more nodes than the cache holds misses most of the time
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			for (int round = 0; round < 500; round++) {
+				for (int i = 0; i < ids.size(); i++) {
+					assertEquals(i, db.getNodeById(ids.get(i)).getProperty("x"));
+				}
+			}
+			tx.success();
+		}
+
+		assertEquals("The node cache should grow up to its maximum size", 40, db.getNodeCacheSize());
+	}
+
+	private void start(Properties props) throws Exception {
+		try (OutputStream os = new FileOutputStream(new File(folder.getRoot(), GreycatSettings.FILENAME))) {
+			props.store(os, null);
+		}
+
+		db = (AbstractGreycatDatabase) dbFactory.create();
+		db.run(folder.getRoot(), new DefaultConsole());
+	}
+
+}
@@ -0,0 +1,271 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.backend.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hawk.backend.tests.factories.IGraphDatabaseFactory;
+import org.hawk.backend.tests.factories.OrientDatabaseFactory;
+import org.hawk.core.graph.IGraphEdge;
+import org.hawk.core.graph.IGraphNode;
+import org.hawk.core.graph.IGraphTransaction;
+import org.hawk.core.util.DefaultConsole;
+import org.hawk.orientdb.OrientDatabase;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Checks that a thread querying OrientDB through its own connection sees the
+ * changes flushed by the indexing thread, even if it had already cached the
+ * changed records.
+ */
+@RunWith(Parameterized.class)
+public class OrientCacheInvalidationTest extends TemporaryDatabaseTest {
+
+	private static final String COUNTER = "counter";
+
+	@Rule
+	public RedirectSystemErrorRule errRule = new RedirectSystemErrorRule();
+
+	@Rule
+	public LogbackOnlyErrorsRule logRule = new LogbackOnlyErrorsRule();
+
+	/**
+	 * Single thread, so queries always reuse the same connection and cache.
+	 */
+	private final ExecutorService queryThread = Executors.newSingleThreadExecutor();
+
+	@Parameters(name="Parameters are {0}")
+	public static Iterable<Object[]> params() {
+		return BackendTestSuite.caseParams();
+	}
+
+	public OrientCacheInvalidationTest(IGraphDatabaseFactory dbFactory) {
+		super(dbFactory);
+	}
+
+	@Override
+	public void setup() throws Exception {
+		Assume.assumeTrue("Per-connection caches are specific to OrientDB", dbFactory instanceof OrientDatabaseFactory);
+		super.setup();
+	}
+
+	@After
+	@Override
+	public void teardown() throws Exception {
+		queryThread.shutdownNow();
+		queryThread.awaitTermination(10, TimeUnit.SECONDS);
+		if (db != null) {
+			super.teardown();
+		}
+	}
+
+	@Test
+	public void transactionalChanges() throws Exception {
+		final Object id1 = createNode(0), id2 = createNode(0);
+		assertEquals(0, readCounter(id1));
+		assertEquals(0, readOutgoing(id1));
+
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final IGraphNode n1 = db.getNodeById(id1);
+			n1.setProperty(COUNTER, 1);
+			db.createRelationship(n1, db.getNodeById(id2), "next");
+			tx.success();
+		}
+		assertEquals(1, readCounter(id1));
+		assertEquals(1, readOutgoing(id1));
+
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			for (IGraphEdge e : db.getNodeById(id1).getOutgoing()) {
+				e.delete();
+			}
+			tx.success();
+		}
+		assertEquals(0, readOutgoing(id1));
+	}
+
+	@Test
+	public void rolledBackChanges() throws Exception {
+		final Object id = createNode(0);
+		assertEquals(0, readCounter(id));
+
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			db.getNodeById(id).setProperty(COUNTER, 1);
+			tx.failure();
+		}
+		assertEquals(0, readCounter(id));
+	}
+
+	@Test
+	public void batchChanges() throws Exception {
+		final Object id = createNode(0);
+		assertEquals(0, readCounter(id));
+
+		db.enterBatchMode();
+		try {
+			db.getNodeById(id).setProperty(COUNTER, 1);
+		} finally {
+			db.exitBatchMode();
+		}
+		assertEquals(1, readCounter(id));
+	}
+
+	@Test
+	public void concurrentQueries() throws Exception {
+		final int nUpdates = 200;
+		final Object id = createNode(0);
+
+		// The query thread keeps reading the node while it is being updated
+		final AtomicBoolean done = new AtomicBoolean();
+		final Future<Integer> reads = queryThread.submit(() -> {
+			int nReads = 0, last = 0;
+			while (!done.get()) {
+				try (IGraphTransaction tx = db.beginTransaction()) {
+					final int current = (int) db.getNodeById(id).getProperty(COUNTER);
+					assertTrue("Values should not go back in time", current >= last);
+					last = current;
+					tx.success();
+				}
+				nReads++;
+			}
+			return nReads;
+		});
+
+		try {
+			for (int i = 1; i <= nUpdates; i++) {
+				try (IGraphTransaction tx = db.beginTransaction()) {
+					db.getNodeById(id).setProperty(COUNTER, i);
+					tx.success();
+				}
+			}
+		} finally {
+			done.set(true);
+		}
+		assertTrue(reads.get() > 0);
+
+		// The latest value must not be hidden by a copy cached during the updates
+		assertEquals(nUpdates, readCounter(id));
+	}
+
+	@Test
+	public void tooManyChangesDropWholeCache() throws Exception {
+		final Object id = createNode(0);
+
+		// The query thread keeps its connection (and its cache) during the changes
+		final CountDownLatch cached = new CountDownLatch(1), changed = new CountDownLatch(1);
+		final Future<Integer> read = queryThread.submit(() -> {
+			try (IGraphTransaction tx = db.beginTransaction()) {
+				assertEquals(0, (int) db.getNodeById(id).getProperty(COUNTER));
+				cached.countDown();
+				changed.await();
+
+				final int value = (int) db.getNodeById(id).getProperty(COUNTER);
+				tx.success();
+				return value;
+			}
+		});
+		cached.await();
+
+		// Changes more records than the connection of the query thread keeps track of
+		try {
+			db.enterBatchMode();
+			try {
+				db.getNodeById(id).setProperty(COUNTER, 1);
+				for (int i = 0; i < OrientDatabase.MAX_PENDING_INVALIDATIONS; i++) {
+					db.createNode(Collections.emptyMap(), "test").setProperty(COUNTER, i);
+				}
+			} finally {
+				db.exitBatchMode();
+			}
+		} finally {
+			changed.countDown();
+		}
+		assertEquals(1, (int) read.get());
+	}
+
+	@Test
+	public void shutdownSavesBatchChangesOfOtherThreads() throws Exception {
+		final Object id = createNode(0);
+
+		// The indexer thread leaves unsaved changes in batch mode
+		final ExecutorService updaterThread = Executors.newSingleThreadExecutor();
+		try {
+			updaterThread.submit(() -> {
+				db.enterBatchMode();
+				db.getNodeById(id).setProperty(COUNTER, 1);
+				return null;
+			}).get();
+
+			// The instance is stopped from another thread (e.g. the server or the UI)
+			db.shutdown();
+		} finally {
+			updaterThread.shutdownNow();
+			updaterThread.awaitTermination(10, TimeUnit.SECONDS);
+		}
+
+		db.run(folder.getRoot(), new DefaultConsole());
+		assertEquals(1, readCounter(id));
+	}
+
+	private Object createNode(int counter) throws Exception {
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final IGraphNode n = db.createNode(Collections.singletonMap(COUNTER, counter), "test");
+			tx.success();
+			return n.getId();
+		}
+	}
+
+	private int readCounter(Object id) throws Exception {
+		return inQueryThread(() -> (int) db.getNodeById(id).getProperty(COUNTER));
+	}
+
+	private int readOutgoing(Object id) throws Exception {
+		return inQueryThread(() -> {
+			int count = 0;
+			for (@SuppressWarnings("unused") IGraphEdge e : db.getNodeById(id).getOutgoing()) {
+				count++;
+			}
+			return count;
+		});
+	}
+
+	private <T> T inQueryThread(Callable<T> query) throws Exception {
+		return queryThread.submit(() -> {
+			try (IGraphTransaction tx = db.beginTransaction()) {
+				final T result = query.call();
+				tx.success();
+				return result;
+			}
+		}).get();
+	}
+
+}
@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.backend.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Properties;
+
+import org.hawk.backend.tests.factories.IGraphDatabaseFactory;
+import org.hawk.backend.tests.factories.LevelDBGreycatDatabaseFactory;
+import org.hawk.core.graph.IGraphNode;
+import org.hawk.core.graph.IGraphTransaction;
+import org.hawk.core.util.DefaultConsole;
+import org.hawk.greycat.GreycatSettings;
+import org.hawk.greycat.LevelDBGreycatDatabase;
+import org.hawk.greycat.PipelinedLevelDBStorage;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import greycat.Callback;
+import greycat.struct.Buffer;
+
+/**
+ * Checks that writes which fail after a pipelined save has returned make the
+ * following commit fail, and that they are only reported once.
+ */
+@RunWith(Parameterized.class)
+public class PipelinedSaveTest {
+
+	private static final int SAVE_EVERY = 10;
+
+	/**
+	 * LevelDB database whose pipelined writes can be made to fail.
+	 */
+	private static class FailingLevelDBDatabase extends LevelDBGreycatDatabase {
+		private volatile boolean failWrites;
+
+		@Override
+		protected PipelinedLevelDBStorage createPipelinedStorage(String path, int maxPendingWrites) {
+			return new PipelinedLevelDBStorage(path, maxPendingWrites) {
+				@Override
+				protected void write(Buffer chunks, Callback<Boolean> callback) {
+					if (failWrites) {
+						callback.on(false);
+					} else {
+						super.write(chunks, callback);
+					}
+				}
+			};
+		}
+	}
+
+	@Rule
+	public RedirectSystemErrorRule errRule = new RedirectSystemErrorRule();
+
+	@Rule
+	public LogbackOnlyErrorsRule logRule = new LogbackOnlyErrorsRule();
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Parameters(name="Parameters are {0}")
+	public static Iterable<Object[]> params() {
+		return BackendTestSuite.caseParams();
+	}
+
+	private final IGraphDatabaseFactory dbFactory;
+	private FailingLevelDBDatabase db;
+
+	public PipelinedSaveTest(IGraphDatabaseFactory dbFactory) {
+		this.dbFactory = dbFactory;
+	}
+
+	@Before
+	public void setup() throws Exception {
+		Assume.assumeTrue("Pipelined saves are only supported by LevelDB", dbFactory instanceof LevelDBGreycatDatabaseFactory);
+
+		final Properties props = new Properties();
+		props.setProperty(GreycatSettings.PIPELINED_SAVE, "true");
+		props.setProperty(GreycatSettings.SAVE_EVERY, SAVE_EVERY + "");
+		try (OutputStream os = new FileOutputStream(new File(folder.getRoot(), GreycatSettings.FILENAME))) {
+			props.store(os, null);
+		}
+
+		db = new FailingLevelDBDatabase();
+		db.run(folder.getRoot(), new DefaultConsole());
+	}
+
+	@After
+	public void teardown() throws Exception {
+		if (db != null) {
+			db.failWrites = false;
+			db.delete();
+		}
+	}
+
+	@Test
+	public void failedWriteFailsCommit() throws Exception {
+		db.failWrites = true;
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			db.createNode(Collections.singletonMap("x", 1), "node");
+			tx.success();
+			fail("The commit should have failed");
+		} catch (IllegalStateException ex) {
+			// expected
+		}
+
+		// The failure has been reported: later commits should work
+		db.failWrites = false;
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			db.createNode(Collections.singletonMap("x", 2), "node");
+			tx.success();
+		}
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			assertEquals(1, countNodesWith(2));
+			tx.success();
+		}
+	}
+
+	@Test
+	public void failedBatchWriteFailsExit() throws Exception {
+		db.enterBatchMode();
+		db.failWrites = true;
+		try {
+			// The failure may be reported by a later periodic save, or when leaving batch mode
+			for (int i = 0; i < 5 * SAVE_EVERY; i++) {
+				db.createNode(Collections.singletonMap("x", i), "node");
+			}
+			db.exitBatchMode();
+			fail("Batch mode should have failed");
+		} catch (IllegalStateException ex) {
+			// expected
+		}
+
+		// The failure has been reported: going back to transactional mode should work
+		db.failWrites = false;
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			db.createNode(Collections.singletonMap("x", -1), "node");
+			tx.success();
+		}
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			assertEquals(1, countNodesWith(-1));
+			tx.success();
+		}
+	}
+
+	private int countNodesWith(int x) {
+		int count = 0;
+		for (IGraphNode n : db.allNodes("node")) {
+			if (Integer.valueOf(x).equals(n.getProperty("x"))) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+}
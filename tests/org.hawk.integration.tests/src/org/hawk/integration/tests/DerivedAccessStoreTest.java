@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.integration.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hawk.backend.tests.BackendTestSuite;
+import org.hawk.backend.tests.TemporaryDatabaseTest;
+import org.hawk.backend.tests.factories.IGraphDatabaseFactory;
+import org.hawk.core.graph.IGraphNode;
+import org.hawk.core.graph.IGraphNodeIndex;
+import org.hawk.core.graph.IGraphTransaction;
+import org.hawk.core.query.IAccess;
+import org.hawk.epsilon.emc.tracking.Access;
+import org.hawk.graph.updater.DerivedAccessStore;
+import org.hawk.graph.updater.GraphModelInserter;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Tests for the in-memory reverse dependencies of derived attributes.
+ */
+public class DerivedAccessStoreTest extends TemporaryDatabaseTest {
+
+	@Parameters(name = "{0}")
+	public static Iterable<Object[]> params() {
+		return BackendTestSuite.caseParams();
+	}
+
+	private DerivedAccessStore store;
+	private IGraphNodeIndex idx;
+
+	public DerivedAccessStoreTest(IGraphDatabaseFactory dbf) {
+		super(dbf);
+	}
+
+	@Before
+	public void setupStore() throws Exception {
+		store = DerivedAccessStore.forGraph(db);
+		store.clear();
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			idx = db.getOrCreateNodeIndex(GraphModelInserter.DERIVED_ACCESS_IDXNAME);
+			tx.success();
+		}
+	}
+
+	@Test
+	public void emptyLookupsAreNotKept() throws Exception {
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			assertEquals(Collections.emptyList(), store.getDependents(idx, "e1", "label"));
+			assertEquals(0, store.getLoadedPairCount());
+
+			// Entries added to the index later must still be found
+			final IGraphNode derived = createDerivedNode();
+			idx.add(derived, "e1", "label");
+			idx.flush();
+			assertEquals(Arrays.asList(id(derived)), store.getDependents(idx, "e1", "label"));
+			assertEquals(1, store.getLoadedPairCount());
+			tx.success();
+		}
+	}
+
+	@Test
+	public void updateReplacesDependents() throws Exception {
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final IGraphNode derived = createDerivedNode();
+			idx.add(derived, "e1", "label");
+			idx.flush();
+			assertEquals(Arrays.asList(id(derived)), store.getDependents(idx, "e1", "label"));
+
+			// The derived attribute now reads e2 instead of e1
+			idx.remove(derived);
+			idx.add(derived, "e2", "label");
+			idx.flush();
+			store.update(DerivedAccessStore.groupBySource(
+				Arrays.<IAccess>asList(new Access(id(derived), "e2", "label"))));
+
+			assertEquals(0, store.getLoadedPairCount());
+			assertEquals(0, store.getDerivedNodeCount());
+			assertEquals(Collections.emptyList(), store.getDependents(idx, "e1", "label"));
+			assertEquals(Arrays.asList(id(derived)), store.getDependents(idx, "e2", "label"));
+			assertEquals(1, store.getDerivedNodeCount());
+			tx.success();
+		}
+	}
+
+	@Test
+	public void anyPropertyIsUpdated() throws Exception {
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final IGraphNode derived = createDerivedNode();
+			assertEquals(Collections.emptyList(), store.getDependents(idx, "e1", "*"));
+
+			idx.add(derived, "e1", "label");
+			idx.flush();
+			assertEquals(Arrays.asList(id(derived)), store.getDependents(idx, "e1", "*"));
+
+			// Loaded wildcard pairs are kept up to date without going to the index
+			final IGraphNode other = createDerivedNode();
+			store.update(DerivedAccessStore.groupBySource(
+				Arrays.<IAccess>asList(new Access(id(other), "e1", "name"))));
+			final List<String> dependents = store.getDependents(idx, "e1", "*");
+			assertEquals(2, dependents.size());
+			assertTrue(dependents.containsAll(Arrays.asList(id(derived), id(other))));
+			tx.success();
+		}
+	}
+
+	@Test
+	public void derivedNodesAreForgotten() throws Exception {
+		final int nDerived = 100;
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final List<IGraphNode> derivedNodes = new ArrayList<>();
+			for (int i = 0; i < nDerived; i++) {
+				final IGraphNode derived = createDerivedNode();
+				idx.add(derived, "e1", "label");
+				derivedNodes.add(derived);
+			}
+			idx.flush();
+			assertEquals(nDerived, store.getDependents(idx, "e1", "label").size());
+			assertEquals(nDerived, store.getDerivedNodeCount());
+
+			// None of them reads anything now
+			final Map<String, List<IAccess>> noAccesses = new HashMap<>();
+			for (IGraphNode derived : derivedNodes) {
+				idx.remove(derived);
+				noAccesses.put(id(derived), Collections.<IAccess>emptyList());
+			}
+			idx.flush();
+			store.update(noAccesses);
+			assertEquals(0, store.getLoadedPairCount());
+			assertEquals(0, store.getDerivedNodeCount());
+
+			// Reloading works after their ordinals have been released
+			final IGraphNode derived = createDerivedNode();
+			idx.add(derived, "e3", "label");
+			idx.flush();
+			assertEquals(Arrays.asList(id(derived)), store.getDependents(idx, "e3", "label"));
+			assertEquals(1, store.getDerivedNodeCount());
+			tx.success();
+		}
+	}
+
+	private IGraphNode createDerivedNode() {
+		return db.createNode(Collections.<String, Object>emptyMap(), "derivedattribute");
+	}
+
+	private static String id(IGraphNode n) {
+		return n.getId().toString();
+	}
+
+}
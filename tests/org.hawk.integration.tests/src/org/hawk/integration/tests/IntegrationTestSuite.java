@@ -19,13 +19,23 @@ package org.hawk.integration.tests;
 import org.hawk.backend.tests.BackendTestSuite;
 import org.hawk.backend.tests.factories.IGraphDatabaseFactory;
 import org.hawk.integration.tests.bpmn.ModelVersioningTest;
+import org.hawk.integration.tests.emf.BulkLoadTest;
+import org.hawk.integration.tests.emf.ConcurrentFetchTest;
+import org.hawk.integration.tests.emf.DeriveOnAccessTest;
 import org.hawk.integration.tests.emf.DerivedFeatureTest;
 import org.hawk.integration.tests.emf.DerivedFromMetaPropertiesTest;
+import org.hawk.integration.tests.emf.IndexedQueryTest;
+import org.hawk.integration.tests.emf.LazyAllOfTest;
 import org.hawk.integration.tests.emf.MetamodelQueryTest;
+import org.hawk.integration.tests.emf.ParsingPipelineTest;
+import org.hawk.integration.tests.emf.PropertyCacheStatsTest;
+import org.hawk.integration.tests.emf.ProxyResolutionTest;
+import org.hawk.integration.tests.emf.QueryModuleCacheTest;
 import org.hawk.integration.tests.emf.ScopedQueryTest;
 import org.hawk.integration.tests.emf.SubtreeContextTest;
 import org.hawk.integration.tests.emf.CountInstancesTest;
 import org.hawk.integration.tests.emf.TreeUpdateTest;
+import org.hawk.integration.tests.emf.TypeCacheTest;
 import org.hawk.integration.tests.manifests.ManifestIndexQueryTest;
 import org.hawk.integration.tests.modelio.ModelioMetamodelPopulationTest;
 import org.hawk.integration.tests.modelio.ModelioProxyResolutionTest;
@@ -40,17 +50,29 @@ import com.github.peterwippermann.junit4.parameterizedsuite.ParameterizedSuite;
 
 @RunWith(ParameterizedSuite.class)
 @SuiteClasses({
+	BulkLoadTest.class,
+	ConcurrentFetchTest.class,
 	CountInstancesTest.class,
+	DerivedAccessStoreTest.class,
+	DeriveOnAccessTest.class,
 	DerivedFeatureTest.class,
 	DerivedFromMetaPropertiesTest.class,
+	IndexedQueryTest.class,
+	LazyAllOfTest.class,
 	ManifestIndexQueryTest.class,
 	MetamodelQueryTest.class,
 	ModelioProxyResolutionTest.class,
 	ModelioMetamodelPopulationTest.class,
 	ModelVersioningTest.class,
+	ParsingPipelineTest.class,
+	PropertyCacheStatsTest.class,
+	ProxyReferenceCodecTest.class,
+	ProxyResolutionTest.class,
+	QueryModuleCacheTest.class,
 	ScopedQueryTest.class,
 	SubtreeContextTest.class,
 	TreeUpdateTest.class,
+	TypeCacheTest.class,
 	UMLIndexingTest.class,
 	UMLWorkspaceIndexingTest.class,
 })
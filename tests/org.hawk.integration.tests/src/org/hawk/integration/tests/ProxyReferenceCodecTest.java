@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.integration.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+
+import org.hawk.backend.tests.BackendTestSuite;
+import org.hawk.backend.tests.TemporaryDatabaseTest;
+import org.hawk.backend.tests.factories.IGraphDatabaseFactory;
+import org.hawk.core.graph.IGraphDatabase;
+import org.hawk.core.graph.IGraphNode;
+import org.hawk.core.graph.IGraphTransaction;
+import org.hawk.graph.updater.GraphModelBatchInjector;
+import org.hawk.graph.updater.GraphModelUpdater;
+import org.hawk.graph.updater.proxies.ProxyReferenceCodec;
+import org.junit.Test;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Tests for the encoding of proxy reference lists, and for the migration of
+ * the lists in a graph to the format it uses.
+ */
+public class ProxyReferenceCodecTest extends TemporaryDatabaseTest {
+
+	private static final String PROXY_KEY = GraphModelUpdater.PROXY_REFERENCE_PREFIX + "repo||||/other.xmi";
+
+	/**
+	 * References as they would be returned by
+	 * {@link ProxyReferenceCodec#toStringArray(Object)}: URIs share prefixes,
+	 * and include non-ASCII characters and surrogate pairs.
+	 */
+	private static final String[] REFERENCES = {
+		"repo||||/other.xmi#//@children.0", "children", "true", "false",
+		"repo||||/other.xmi#//@children.1", "children", "true", "false",
+		"repo||||/other.xmi#//@children.1/@parent", "parent", "false", "true",
+		"repo||||/other.xmi#/\u00e1rbol", "ref", "false", "false",
+		"repo||||/other.xmi#/\uD834\uDD1E", "ref", "true", "true",
+		"repo||||/other.xmi#/\uD834\uDD20", "ref", "false", "false",
+		"repo||||/another.xmi#/", "children", "false", "false",
+	};
+
+	@Parameters(name = "{0}")
+	public static Iterable<Object[]> params() {
+		return BackendTestSuite.caseParams();
+	}
+
+	public ProxyReferenceCodecTest(IGraphDatabaseFactory dbf) {
+		super(dbf);
+	}
+
+	@Test
+	public void legacyRoundTrip() {
+		assertArrayEquals(REFERENCES, ProxyReferenceCodec.toStringArray(buildValue(false)));
+		assertArrayEquals(REFERENCES, ProxyReferenceCodec.toStringArray(REFERENCES.clone()));
+		assertArrayEquals(new String[0], ProxyReferenceCodec.toStringArray(null));
+	}
+
+	@Test
+	public void compactRoundTrip() {
+		final Object value = buildValue(true);
+		assertTrue(value instanceof byte[]);
+		assertArrayEquals(REFERENCES, ProxyReferenceCodec.toStringArray(value));
+
+		// Edge labels are only stored once, and URIs only store what changed
+		int legacyLength = 0;
+		for (String s : REFERENCES) {
+			legacyLength += s.length();
+		}
+		assertTrue(((byte[]) value).length < legacyLength / 2);
+	}
+
+	@Test
+	public void unknownVersionIsRejected() {
+		final byte[] value = (byte[]) buildValue(true);
+		value[0] = ProxyReferenceCodec.VERSION + 1;
+		try {
+			ProxyReferenceCodec.toStringArray(value);
+			fail("Unknown versions should be rejected");
+		} catch (IllegalArgumentException ex) {
+			// expected
+		}
+	}
+
+	@Test
+	public void graphRoundTrip() throws Exception {
+		final Object id;
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			Object value = null;
+			for (int i = 0; i < REFERENCES.length; i += 4) {
+				value = ProxyReferenceCodec.append(db, value, REFERENCES[i], REFERENCES[i + 1],
+					Boolean.valueOf(REFERENCES[i + 2]), Boolean.valueOf(REFERENCES[i + 3]));
+			}
+			final IGraphNode n = db.createNode(Collections.<String, Object>emptyMap(), "eobject");
+			n.setProperty(PROXY_KEY, value);
+			id = n.getId();
+			tx.success();
+		}
+
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final Object value = db.getNodeById(id).getProperty(PROXY_KEY);
+			assertUsesGraphFormat(value);
+			assertArrayEquals(REFERENCES, ProxyReferenceCodec.toStringArray(value));
+			tx.success();
+		}
+	}
+
+	@Test
+	public void migrationRewritesOtherFormat() throws Exception {
+		// Values in the format that the graph does not use
+		final boolean otherFormatIsCompact = !db.supportsCompactByteArrays();
+		final Object id = createProxyNode(buildValue(otherFormatIsCompact));
+
+		ProxyReferenceCodec.migrate(db);
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final Object value = db.getNodeById(id).getProperty(PROXY_KEY);
+			assertUsesGraphFormat(value);
+			assertArrayEquals(REFERENCES, ProxyReferenceCodec.toStringArray(value));
+			tx.success();
+		}
+
+		// The graph remembers it has been migrated, so it is not scanned again
+		final Object laterId = createProxyNode(buildValue(otherFormatIsCompact));
+		ProxyReferenceCodec.migrate(db);
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final Object value = db.getNodeById(laterId).getProperty(PROXY_KEY);
+			assertEquals(otherFormatIsCompact, value instanceof byte[]);
+			tx.success();
+		}
+	}
+
+	@Test
+	public void migrationKeepsGraphFormat() throws Exception {
+		final boolean compact = db.supportsCompactByteArrays();
+		final Object id = createProxyNode(buildValue(compact));
+
+		ProxyReferenceCodec.migrate(db);
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final Object value = db.getNodeById(id).getProperty(PROXY_KEY);
+			assertUsesGraphFormat(value);
+			assertArrayEquals(REFERENCES, ProxyReferenceCodec.toStringArray(value));
+			tx.success();
+		}
+	}
+
+	private Object createProxyNode(Object value) throws Exception {
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final IGraphNode n = db.createNode(Collections.<String, Object>emptyMap(), "eobject");
+			n.setProperty(PROXY_KEY, value);
+			db.getOrCreateNodeIndex(GraphModelBatchInjector.PROXY_DICT_NAME)
+				.add(n, GraphModelUpdater.PROXY_REFERENCE_PREFIX, "repo||||/other.xmi");
+			tx.success();
+			return n.getId();
+		}
+	}
+
+	private void assertUsesGraphFormat(Object value) {
+		if (db.supportsCompactByteArrays()) {
+			assertTrue("Compact values should be byte arrays", value instanceof byte[]);
+		} else {
+			assertTrue("Legacy values should be string arrays", value instanceof String[]);
+		}
+	}
+
+	/**
+	 * Builds a value with all the {@link #REFERENCES} in the compact or legacy
+	 * format, regardless of the format used by the graph.
+	 */
+	private static Object buildValue(boolean compact) {
+		final IGraphDatabase formatGraph = formatGraph(compact);
+		Object value = null;
+		for (int i = 0; i < REFERENCES.length; i += 4) {
+			value = ProxyReferenceCodec.append(formatGraph, value, REFERENCES[i], REFERENCES[i + 1],
+				Boolean.valueOf(REFERENCES[i + 2]), Boolean.valueOf(REFERENCES[i + 3]));
+		}
+		return value;
+	}
+
+	/**
+	 * Returns a graph that can only be asked whether it stores byte arrays
+	 * compactly, for choosing the format of new values.
+	 */
+	private static IGraphDatabase formatGraph(final boolean compact) {
+		return (IGraphDatabase) Proxy.newProxyInstance(ProxyReferenceCodecTest.class.getClassLoader(),
+			new Class<?>[] { IGraphDatabase.class }, new InvocationHandler() {
+				@Override
+				public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+					if ("supportsCompactByteArrays".equals(method.getName())) {
+						return compact;
+					}
+					throw new UnsupportedOperationException(method.getName());
+				}
+			});
+	}
+
+}
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.integration.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.hawk.graph.updater.UpdateCostModel;
+import org.hawk.graph.updater.UpdateCostModel.Strategy;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the choice of strategy when updating a file in the graph.
+ */
+public class UpdateCostModelTest {
+
+	private static final Set<Strategy> ALL = EnumSet.allOf(Strategy.class);
+
+	private UpdateCostModel model;
+
+	@Before
+	public void setup() {
+		// Avoid the models shared by the backends
+		model = new UpdateCostModel() {};
+	}
+
+	@Test
+	public void initialCosts() {
+		assertEquals(Strategy.STREAMING, model.choose(ALL, 1000, 1000, 10));
+		assertEquals(Strategy.BATCH, model.choose(ALL, 1000, 1000, 1000));
+	}
+
+	@Test
+	public void allStrategiesAreExplored() {
+		final Set<Strategy> chosen = EnumSet.noneOf(Strategy.class);
+		for (int i = 0; i < 3 * UpdateCostModel.EXPLORE_EVERY; i++) {
+			final Strategy s = model.choose(ALL, 1000, 1000, 400);
+			chosen.add(s);
+			model.record(s, 1000, 1000, 400, 1000);
+		}
+		assertEquals(ALL, chosen);
+	}
+
+	@Test
+	public void fasterStrategyIsLearned() {
+		assertNotEquals(Strategy.TRANSACTIONAL, model.choose(ALL, 1000, 1000, 400));
+		for (int i = 0; i < 10; i++) {
+			model.record(Strategy.TRANSACTIONAL, 1000, 1000, 400, 100);
+		}
+		assertEquals(Strategy.TRANSACTIONAL, model.choose(ALL, 1000, 1000, 400));
+	}
+
+	@Test
+	public void muchSlowerStrategiesAreNotExplored() {
+		for (int i = 0; i < 3 * UpdateCostModel.EXPLORE_EVERY; i++) {
+			final Strategy s = model.choose(ALL, 100_000, 100_000, 1);
+			assertEquals(Strategy.STREAMING, s);
+			model.record(s, 100_000, 100_000, 1, 5);
+		}
+	}
+
+	@Test
+	public void onlyAllowedStrategiesAreExplored() {
+		final Set<Strategy> allowed = EnumSet.of(Strategy.TRANSACTIONAL, Strategy.BATCH);
+		for (int i = 0; i < 3 * UpdateCostModel.EXPLORE_EVERY; i++) {
+			final Strategy s = model.choose(allowed, 1000, 1000, 400);
+			assertNotEquals(Strategy.STREAMING, s);
+			model.record(s, 1000, 1000, 400, 1000);
+		}
+	}
+
+}
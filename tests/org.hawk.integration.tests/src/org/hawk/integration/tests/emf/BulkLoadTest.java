@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.integration.tests.emf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hawk.backend.tests.BackendTestSuite;
+import org.hawk.backend.tests.factories.IGraphDatabaseFactory;
+import org.hawk.core.graph.IGraphDatabase;
+import org.hawk.core.graph.IGraphNodeIndex;
+import org.hawk.graph.syncValidationListener.SyncValidationListener;
+import org.hawk.graph.updater.GraphModelBatchInjector;
+import org.hawk.graph.updater.GraphModelUpdater;
+import org.hawk.integration.tests.ModelIndexingTest;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Checks that bulk load sessions insert many new files while entering batch
+ * mode and looking up the file index once per session, rather than once per
+ * file.
+ */
+public class BulkLoadTest extends ModelIndexingTest {
+
+	private static final int FILE_COUNT = 10;
+
+	/**
+	 * Wraps the databases of another factory, counting how many times they
+	 * enter batch mode and flush their file index.
+	 */
+	private static class CountingDatabaseFactory implements IGraphDatabaseFactory {
+		private final IGraphDatabaseFactory factory;
+		private final AtomicInteger batchModeEntries = new AtomicInteger();
+		private final AtomicInteger fileIndexFlushes = new AtomicInteger();
+
+		public CountingDatabaseFactory(IGraphDatabaseFactory factory) {
+			this.factory = factory;
+		}
+
+		@Override
+		public IGraphDatabase create() {
+			final IGraphDatabase db = factory.create();
+			return (IGraphDatabase) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { IGraphDatabase.class }, new InvocationHandler() {
+					@Override
+					public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+						if ("enterBatchMode".equals(method.getName())) {
+							batchModeEntries.incrementAndGet();
+						}
+						final Object result = delegate(db, method, args);
+						if ("getFileIndex".equals(method.getName())) {
+							return countFlushes((IGraphNodeIndex) result);
+						}
+						return result;
+					}
+				});
+		}
+
+		private IGraphNodeIndex countFlushes(final IGraphNodeIndex idx) {
+			return (IGraphNodeIndex) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { IGraphNodeIndex.class }, new InvocationHandler() {
+					@Override
+					public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+						if ("flush".equals(method.getName())) {
+							fileIndexFlushes.incrementAndGet();
+						}
+						return delegate(idx, method, args);
+					}
+				});
+		}
+
+		private static Object delegate(Object target, Method method, Object[] args) throws Throwable {
+			try {
+				return method.invoke(target, args);
+			} catch (InvocationTargetException ex) {
+				throw ex.getCause();
+			}
+		}
+
+		@Override
+		public String toString() {
+			return factory.toString();
+		}
+	}
+
+	@Rule
+	public GraphChangeListenerRule<SyncValidationListener> syncValidation
+		= new GraphChangeListenerRule<>(new SyncValidationListener());
+
+	@Rule
+	public TemporaryFolder modelFolder = new TemporaryFolder();
+
+	@Parameters(name = "{0}")
+	public static Iterable<Object[]> params() {
+		return BackendTestSuite.caseParams();
+	}
+
+	private final CountingDatabaseFactory counts;
+
+	public BulkLoadTest(IGraphDatabaseFactory dbf) {
+		this(new CountingDatabaseFactory(dbf));
+	}
+
+	private BulkLoadTest(CountingDatabaseFactory counts) {
+		super(counts, new EMFModelSupportFactory());
+		this.counts = counts;
+	}
+
+	@Override
+	protected GraphModelUpdater createModelUpdater() {
+		// The threshold is read when the updater is created
+		final String oldValue = System.setProperty(GraphModelBatchInjector.BULK_LOAD_THRESHOLD_PROPERTY, "100000");
+		try {
+			return new GraphModelUpdater();
+		} finally {
+			if (oldValue == null) {
+				System.clearProperty(GraphModelBatchInjector.BULK_LOAD_THRESHOLD_PROPERTY);
+			} else {
+				System.setProperty(GraphModelBatchInjector.BULK_LOAD_THRESHOLD_PROPERTY, oldValue);
+			}
+		}
+	}
+
+	@Test
+	public void newFilesShareOneSession() throws Throwable {
+		for (int i = 0; i < FILE_COUNT; i++) {
+			Files.copy(new File("resources/models/tree/tree.model").toPath(),
+				new File(modelFolder.getRoot(), "tree" + i + ".model").toPath());
+		}
+		indexer.registerMetamodels(
+			new File("resources/metamodels/Ecore.ecore"),
+			new File("resources/metamodels/Tree.ecore"));
+
+		final int batchModeEntriesBefore = counts.batchModeEntries.get();
+		final int fileIndexFlushesBefore = counts.fileIndexFlushes.get();
+		requestFolderIndex(modelFolder.getRoot());
+		waitForSync(new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				assertEquals(0, syncValidation.getListener().getTotalErrors());
+				assertEquals(2 * FILE_COUNT, eol("return Tree.all.size;"));
+
+				final int batchModeEntries = counts.batchModeEntries.get() - batchModeEntriesBefore;
+				assertTrue("Batch mode should not be entered for each file, got " + batchModeEntries,
+					batchModeEntries < FILE_COUNT);
+				final int fileIndexFlushes = counts.fileIndexFlushes.get() - fileIndexFlushesBefore;
+				assertTrue("The file index should not be flushed for each file, got " + fileIndexFlushes,
+					fileIndexFlushes < FILE_COUNT);
+				return null;
+			}
+		});
+	}
+
+	@Test
+	public void updatedFileInSession() throws Throwable {
+		newFilesShareOneSession();
+
+		// The session has to notice that this file is already in the graph
+		Files.copy(new File("resources/models/changed-trees/add-child.model").toPath(),
+			new File(modelFolder.getRoot(), "tree0.model").toPath(), StandardCopyOption.REPLACE_EXISTING);
+		Files.copy(new File("resources/models/tree/tree.model").toPath(),
+			new File(modelFolder.getRoot(), "tree" + FILE_COUNT + ".model").toPath());
+		indexer.requestImmediateSync();
+		waitForSync(new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				assertEquals(0, syncValidation.getListener().getTotalErrors());
+				assertEquals(2 * (FILE_COUNT + 1) + 1, eol("return Tree.all.size;"));
+				return null;
+			}
+		});
+	}
+
+}
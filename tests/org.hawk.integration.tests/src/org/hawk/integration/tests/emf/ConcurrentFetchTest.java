@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.integration.tests.emf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.hawk.backend.tests.BackendTestSuite;
+import org.hawk.backend.tests.factories.IGraphDatabaseFactory;
+import org.hawk.core.IModelIndexer;
+import org.hawk.core.IStateListener;
+import org.hawk.core.runtime.ModelIndexerImpl;
+import org.hawk.core.security.FileBasedCredentialsStore;
+import org.hawk.integration.tests.ModelIndexingTest;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Checks that changes can be fetched from several locations concurrently,
+ * and that the progress reported while fetching them reaches the state
+ * listeners from the indexer thread.
+ */
+public class ConcurrentFetchTest extends ModelIndexingTest {
+
+	private static final int FILE_COUNT = 10;
+	private static final String UPDATING_MESSAGE = "Updating Hawk...";
+
+	/**
+	 * Keeps the fetching progress messages, and the threads that reported them.
+	 */
+	private static class FetchProgressListener implements IStateListener {
+		private final List<String> messages = new ArrayList<>();
+		private final List<Thread> threads = new ArrayList<>();
+		private Thread indexerThread;
+
+		@Override
+		public synchronized void info(String s) {
+			if (UPDATING_MESSAGE.equals(s)) {
+				indexerThread = Thread.currentThread();
+			} else if (s.startsWith("Imported ")) {
+				messages.add(s);
+				threads.add(Thread.currentThread());
+			}
+		}
+
+		@Override
+		public void state(HawkState state) {
+			// nothing to do
+		}
+
+		@Override
+		public void error(String s) {
+			// nothing to do
+		}
+
+		@Override
+		public void removed() {
+			// nothing to do
+		}
+	}
+
+	@Rule
+	public TemporaryFolder modelFolderA = new TemporaryFolder();
+
+	@Rule
+	public TemporaryFolder modelFolderB = new TemporaryFolder();
+
+	@Parameters(name = "{0}")
+	public static Iterable<Object[]> params() {
+		return BackendTestSuite.caseParams();
+	}
+
+	public ConcurrentFetchTest(IGraphDatabaseFactory dbf) {
+		super(dbf, new EMFModelSupportFactory());
+	}
+
+	@Override
+	protected IModelIndexer createIndexer(File indexerFolder, FileBasedCredentialsStore credStore) {
+		final ModelIndexerImpl indexer = (ModelIndexerImpl) super.createIndexer(indexerFolder, credStore);
+		indexer.setFetchThreads(2);
+		return indexer;
+	}
+
+	@Test
+	public void progressIsReportedFromIndexerThread() throws Throwable {
+		copyTrees(modelFolderA.getRoot(), "tree/tree.model");
+		copyTrees(modelFolderB.getRoot(), "tree/tree.model");
+		indexer.registerMetamodels(
+			new File("resources/metamodels/Ecore.ecore"),
+			new File("resources/metamodels/Tree.ecore"));
+		requestFolderIndex(modelFolderA.getRoot());
+		requestFolderIndex(modelFolderB.getRoot());
+		waitForSync(new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				assertEquals(4 * FILE_COUNT, eol("return Tree.all.size;"));
+				return null;
+			}
+		});
+
+		// Incremental synchronisations import the changed files ahead of time
+		final FetchProgressListener progress = new FetchProgressListener();
+		indexer.addStateListener(progress);
+		try {
+			copyTrees(modelFolderA.getRoot(), "changed-trees/add-child.model");
+			copyTrees(modelFolderB.getRoot(), "changed-trees/add-child.model");
+			indexer.requestImmediateSync();
+			waitForSync(new Callable<Object>() {
+				@Override
+				public Object call() throws Exception {
+					assertEquals(6 * FILE_COUNT, eol("return Tree.all.size;"));
+					return null;
+				}
+			});
+		} finally {
+			indexer.removeStateListener(progress);
+		}
+
+		synchronized (progress) {
+			// Files imported ahead of time are reported again when they are used
+			assertTrue("Both locations should report their imported files", progress.messages.size() >= 2);
+			for (String message : progress.messages) {
+				assertTrue(message, message.startsWith(String.format("Imported %d/%d files", FILE_COUNT, FILE_COUNT)));
+			}
+			for (Thread t : progress.threads) {
+				assertEquals(progress.indexerThread, t);
+			}
+		}
+	}
+
+	private void copyTrees(File folder, String model) throws IOException {
+		for (int i = 0; i < FILE_COUNT; i++) {
+			Files.copy(new File("resources/models/" + model).toPath(),
+				new File(folder, "tree" + i + ".model").toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.integration.tests.emf;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.util.concurrent.Callable;
+
+import org.hawk.backend.tests.BackendTestSuite;
+import org.hawk.backend.tests.factories.IGraphDatabaseFactory;
+import org.hawk.core.graph.IGraphNode;
+import org.hawk.core.graph.IGraphTransaction;
+import org.hawk.epsilon.emc.EOLQueryEngine;
+import org.hawk.epsilon.emc.wrappers.GraphNodeWrapper;
+import org.hawk.graph.updater.DirtyDerivedFeaturesListener;
+import org.hawk.integration.tests.ModelIndexingTest;
+import org.junit.Test;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Checks that queries compute the derived attributes they find in the
+ * not-yet-derived state, without writing them back to the graph.
+ */
+public class DeriveOnAccessTest extends ModelIndexingTest {
+
+	private static final String ATTRIBUTE = "doubleLabel";
+	private static final String NEW_LOGIC = "return 'x' + self.label;";
+
+	@Parameters(name = "{0}")
+	public static Iterable<Object[]> params() {
+		return BackendTestSuite.caseParams();
+	}
+
+	public DeriveOnAccessTest(IGraphDatabaseFactory dbf) {
+		super(dbf, new EMFModelSupportFactory());
+	}
+
+	@Test
+	public void notYetDerivedIsComputed() throws Throwable {
+		indexAndMarkNotYetDerived();
+
+		waitForSync(new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				assertEquals("xt3", eol("return Tree.all.selectOne(t|t.label='t3').doubleLabel;"));
+
+				// The value is only kept by the query: the indexer still has to store it
+				assertEquals(DirtyDerivedFeaturesListener.NOT_YET_DERIVED_PREFIX + NEW_LOGIC, getStoredValue());
+				return null;
+			}
+		});
+	}
+
+	@Test
+	public void notYetDerivedIsReturnedIfDisabled() throws Throwable {
+		indexAndMarkNotYetDerived();
+
+		waitForSync(new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				final String oldValue = System.setProperty(EOLQueryEngine.DERIVE_ON_ACCESS_PROPERTY, "false");
+				try {
+					assertEquals(DirtyDerivedFeaturesListener.NOT_YET_DERIVED_PREFIX + NEW_LOGIC,
+						eol("return Tree.all.selectOne(t|t.label='t3').doubleLabel;"));
+				} finally {
+					if (oldValue == null) {
+						System.clearProperty(EOLQueryEngine.DERIVE_ON_ACCESS_PROPERTY);
+					} else {
+						System.setProperty(EOLQueryEngine.DERIVE_ON_ACCESS_PROPERTY, oldValue);
+					}
+				}
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Indexes the tree model with a derived attribute, and then replaces the
+	 * value of the attribute in t3 with the marker that the indexer would
+	 * leave when its derivation logic changes. The node is not added to the
+	 * derived proxy index, so the indexer will not derive it again.
+	 */
+	private void indexAndMarkNotYetDerived() throws Throwable {
+		indexer.registerMetamodels(
+			new File("resources/metamodels/Ecore.ecore"),
+			new File("resources/metamodels/Tree.ecore"));
+		requestFolderIndex(new File("resources/models/tree"));
+
+		waitForSync(new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				indexer.addDerivedAttribute("Tree", "Tree", ATTRIBUTE, "String", false, true, false,
+					EOLQueryEngine.TYPE, "return self.label + self.label;");
+				assertEquals("t3t3", eol("return Tree.all.selectOne(t|t.label='t3').doubleLabel;"));
+
+				try (IGraphTransaction tx = db.beginTransaction()) {
+					getDerivedNode().setProperty(ATTRIBUTE, DirtyDerivedFeaturesListener.NOT_YET_DERIVED_PREFIX + NEW_LOGIC);
+					tx.success();
+				}
+				return null;
+			}
+		});
+	}
+
+	private Object getStoredValue() throws Exception {
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final Object value = getDerivedNode().getProperty(ATTRIBUTE);
+			tx.success();
+			return value;
+		}
+	}
+
+	private IGraphNode getDerivedNode() throws Exception {
+		final GraphNodeWrapper gw = (GraphNodeWrapper) eol("return Tree.all.selectOne(t|t.label='t3');");
+		final IGraphNode elementNode = db.getNodeById(gw.getId());
+		return elementNode.getOutgoingWithType(ATTRIBUTE).iterator().next().getEndNode();
+	}
+
+}
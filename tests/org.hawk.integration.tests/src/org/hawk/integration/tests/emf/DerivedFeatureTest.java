@@ -32,6 +32,7 @@ import java.util.concurrent.Callable;
 import org.hawk.backend.tests.BackendTestSuite;
 import org.hawk.backend.tests.factories.IGraphDatabaseFactory;
 import org.hawk.epsilon.emc.EOLQueryEngine;
+import org.hawk.graph.updater.GraphModelInserter;
 import org.hawk.integration.tests.ModelIndexingTest;
 import org.junit.Test;
 import org.junit.runners.Parameterized.Parameters;
@@ -174,5 +175,37 @@ public class DerivedFeatureTest extends ModelIndexingTest {
 		
 	}
 	
+	@Test
+	public void parallelDerivationMatchesSerial() throws Throwable {
+		indexer.registerMetamodels(new File("resources/metamodels/Ecore.ecore"),
+				new File("resources/metamodels/crossrefs.ecore"));
+		requestFolderIndex(new File("resources/models/scopedQuery"));
+
+		waitForSync(new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				final String xrefsURI = "http://github.com/mondo-hawk/testing/xrefs";
+				final String derivation = "return self.id * 100 + self.xrefs.size;";
+				try {
+					System.setProperty(GraphModelInserter.DERIVED_THREADS_PROPERTY, "1");
+					indexer.addDerivedAttribute(xrefsURI, "Element", "serialRefs", "dummy", false, true, false,
+							EOLQueryEngine.TYPE, derivation);
+
+					System.setProperty(GraphModelInserter.DERIVED_THREADS_PROPERTY, "4");
+					indexer.addDerivedAttribute(xrefsURI, "Element", "parallelRefs", "dummy", false, true, false,
+							EOLQueryEngine.TYPE, derivation);
+				} finally {
+					System.clearProperty(GraphModelInserter.DERIVED_THREADS_PROPERTY);
+				}
+
+				assertEquals(eol("return Element.all.size;"),
+					eol("return Element.all.select(e|e.parallelRefs = e.serialRefs).size;"));
+				assertEquals(0, eol("return Element.all.select(e|e.serialRefs <> e.id * 100 + e.xrefs.size).size;"));
+				assertEquals(103, eol("return Element.all.selectOne(e|e.id=1).parallelRefs;"));
+				return null;
+			}
+		});
+	}
+
 	// TODO: indexed lookup tests
 }
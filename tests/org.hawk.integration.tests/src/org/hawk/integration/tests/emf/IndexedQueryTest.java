@@ -0,0 +1,329 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.integration.tests.emf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.hawk.backend.tests.BackendTestSuite;
+import org.hawk.backend.tests.factories.IGraphDatabaseFactory;
+import org.hawk.core.graph.IGraphTransaction;
+import org.hawk.core.query.IQueryEngine;
+import org.hawk.epsilon.emc.optimisation.OptimisableCollection;
+import org.hawk.graph.ModelElementNode;
+import org.hawk.integration.tests.ModelIndexingTest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Checks that queries on the full extent of a type are answered from the
+ * indexed attributes without reading the attributes of every instance, and
+ * that they return the same elements as going through all of them.
+ */
+public class IndexedQueryTest extends ModelIndexingTest {
+
+	private static final String INDEXED_URI = "http://github.com/mondo-hawk/testing/indexed";
+	private static final int SAMPLE_COUNT = 20;
+
+	@Rule
+	public TemporaryFolder modelFolder = new TemporaryFolder();
+
+	@Parameters(name = "{0}")
+	public static Iterable<Object[]> params() {
+		return BackendTestSuite.caseParams();
+	}
+
+	public IndexedQueryTest(IGraphDatabaseFactory dbf) {
+		super(dbf, new EMFModelSupportFactory());
+	}
+
+	@Before
+	public void prepare() throws Throwable {
+		writeSamples();
+
+		indexer.registerMetamodels(
+			new File("resources/metamodels/Ecore.ecore"),
+			new File("resources/metamodels/indexed.ecore"));
+		indexer.addIndexedAttribute(INDEXED_URI, "Sample", "id");
+		indexer.addIndexedAttribute(INDEXED_URI, "Sample", "name");
+		indexer.addIndexedAttribute(INDEXED_URI, "Sample", "weight");
+
+		requestFolderIndex(modelFolder.getRoot());
+		waitForSync(() -> {
+			assertEquals(SAMPLE_COUNT, eol("return Sample.all.size;"));
+			return null;
+		});
+	}
+
+	@Test
+	public void extentIsFetchedOnDemand() throws Exception {
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final OptimisableCollection samples = (OptimisableCollection)
+				queryEngine.getAllOf("Sample", ModelElementNode.EDGE_LABEL_OFKIND);
+			assertTrue(samples.isFullExtent());
+			assertFalse(samples.isLoaded());
+
+			int count = 0;
+			for (Object o : samples) {
+				assertTrue(samples.contains(o));
+				count++;
+			}
+			assertEquals(SAMPLE_COUNT, count);
+			assertTrue(samples.isLoaded());
+			tx.success();
+		}
+	}
+
+	@Test
+	public void selectOnAll() throws Exception {
+		assertSelected("Sample.all.select(s|s.id = 5)", 5);
+		assertSelected("Sample.all.select(s|s.name = 's1')", 1, 6, 11, 16);
+		assertSelected("Sample.all.select(s|s.name = 'missing')");
+	}
+
+	@Test
+	public void selectOnAllOfKind() throws Exception {
+		assertSelected("Sample.allOfKind.select(s|s.name = 's2')", 2, 7, 12, 17);
+	}
+
+	@Test
+	public void selectOnAllOfType() throws Exception {
+		assertSelected("Sample.allOfType.select(s|s.name = 's3')", 3, 8, 13, 18);
+	}
+
+	@Test
+	public void selectOnModifiedExtent() throws Exception {
+		// the extent is no longer complete, so the index hits are intersected with it
+		assertSelected("var samples = Sample.all; samples.remove(Sample.all.select(s|s.id = 1).first);",
+			"samples.select(s|s.name = 's1')", 6, 11, 16);
+	}
+
+	@Test
+	public void selectOne() throws Exception {
+		assertIndexed("return Sample.all.selectOne(s|s.id = 7).isDefined();", true);
+		assertIndexed("return Sample.all.selectOne(s|s.id = 99).isDefined();", false);
+		assertEquals("s2", eol("return Sample.all.selectOne(s|s.id = 7).name;"));
+
+		// narrowed down through the index of the left side
+		final Object id = eol("return Sample.all.selectOne(s|s.name = 's2' and s.id > 10).id;");
+		assertTrue("Expected 12 or 17, got " + id, Arrays.asList(12, 17).contains(id));
+	}
+
+	@Test
+	public void exists() throws Exception {
+		assertIndexed("return Sample.all.exists(s|s.name = 's4');", true);
+		assertIndexed("return Sample.all.exists(s|s.name = 'missing');", false);
+	}
+
+	@Test
+	public void forAll() throws Exception {
+		assertIndexed("return Sample.all.forAll(s|s.id >= 1);", true);
+		assertIndexed("return Sample.all.forAll(s|s.id > 1);", false);
+	}
+
+	@Test
+	public void count() throws Exception {
+		assertIndexed("return Sample.all.count(s|s.name = 's0');", 4);
+		assertIndexed("return Sample.allOfType.count(s|s.name = 's0');", 4);
+		assertIndexed("var sample = Sample.all.selectOne(s|s.id = 3); return Sample.all.count(sample);", 1);
+	}
+
+	@Test
+	public void reject() throws Exception {
+		assertSelected("Sample.all.reject(s|s.name = 's1')",
+			2, 3, 4, 5, 7, 8, 9, 10, 12, 13, 14, 15, 17, 18, 19, 20);
+	}
+
+	@Test
+	public void notEqualsFallsBack() throws Exception {
+		assertIds("", "Sample.all.select(s|s.name <> 's1')",
+			2, 3, 4, 5, 7, 8, 9, 10, 12, 13, 14, 15, 17, 18, 19, 20);
+		assertEquals(16, eol("return Sample.all.count(s|s.name <> 's1');"));
+	}
+
+	@Test
+	public void unloadedExtentQueries() throws Exception {
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final OptimisableCollection samples = (OptimisableCollection)
+				queryEngine.getAllOf("Sample", ModelElementNode.EDGE_LABEL_OFKIND);
+			final Object sample = queryEngine.getAllOf("Sample", ModelElementNode.EDGE_LABEL_OFTYPE).iterator().next();
+			final Object catalogue = queryEngine.getAllOf("Catalogue", ModelElementNode.EDGE_LABEL_OFKIND).iterator().next();
+
+			assertEquals(SAMPLE_COUNT, samples.size());
+			assertFalse(samples.isEmpty());
+			assertTrue(samples.contains(sample));
+			assertFalse(samples.contains(catalogue));
+			assertFalse(samples.contains("s1"));
+			assertFalse("The instances should not be fetched", samples.isLoaded());
+			tx.success();
+		}
+	}
+
+	@Test
+	public void rangeConjunction() throws Exception {
+		assertSelected("Sample.all.select(s|s.id > 5 and s.id < 10)", 6, 7, 8, 9);
+		assertSelected("Sample.all.select(s|s.id >= 5 and s.id <= 5)", 5);
+		assertSelected("Sample.all.select(s|s.id < 10 and s.id >= 3 and s.id < 5)", 3, 4);
+	}
+
+	@Test
+	public void contradictoryConjunction() throws Exception {
+		assertSelected("Sample.all.select(s|s.id > 10 and s.id < 5)");
+		assertSelected("Sample.all.select(s|s.id >= 5 and s.id < 5)");
+		assertSelected("Sample.all.select(s|s.name = 's1' and s.name = 's2')");
+	}
+
+	@Test
+	public void conjunctionOnSeveralAttributes() throws Exception {
+		assertSelected("Sample.all.select(s|s.id > 5 and s.name = 's1')", 6, 11, 16);
+		assertSelected("Sample.all.select(s|s.id > 2 and (s.name = 's3' and s.id < 15))", 3, 8, 13);
+	}
+
+	@Test
+	public void conjunctionWithUnindexedComparison() throws Exception {
+		final String selection = "Sample.all.select(s|s.id <= 10 and s.name <> 's1')";
+		assertIds("", selection, 2, 3, 4, 5, 7, 8, 9, 10);
+
+		// only the index hits of the first side are read
+		final long misses = queryMisses("return " + selection + ".size();", 8);
+		assertTrue("Expected at most 10 reads, got " + misses, misses <= 10);
+	}
+
+	@Test
+	public void doubleRanges() throws Exception {
+		// open ranges must include negative numbers
+		assertSelected("var zero = '0'.asDouble();", "Sample.all.select(s|s.weight < zero)",
+			1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+		assertSelected("var lo = '-5'.asDouble(); var hi = '5'.asDouble();",
+			"Sample.all.select(s|s.weight > lo and s.weight < hi)",
+			6, 7, 8, 9, 10, 11, 12, 13, 14, 15);
+	}
+
+	@Test
+	public void subtypeInstances() throws Throwable {
+		writeSpecials();
+		indexer.requestImmediateSync();
+		waitForSync(() -> {
+			assertEquals(SAMPLE_COUNT + 3, eol("return Sample.all.size;"));
+			return null;
+		});
+
+		// the indexes of Sample do not have the instances of Special
+		assertIds("", "Sample.all.select(s|s.name = 's1')", 1, 6, 11, 16, 21, 23);
+		assertIds("", "Sample.all.reject(s|s.name <> 's2' and s.id < 23)", 2, 7, 12, 17, 22, 23);
+		assertIds("", "Sample.all.reject(s|s.name = 's1' or s.id <= 20)", 22);
+		assertEquals(6, eol("return Sample.all.count(s|s.name = 's1');"));
+		assertEquals(true, eol("return Sample.all.forAll(s|s.id >= 1);"));
+		assertEquals(false, eol("return Sample.all.forAll(s|s.id <= 20);"));
+		assertEquals(true, eol("return Sample.all.exists(s|s.id = 22);"));
+		assertEquals("s2", eol("return Sample.all.selectOne(s|s.id = 22).name;"));
+		assertIds("", "Sample.all.select(s|s.id > 19 and s.id < 23)", 20, 21, 22);
+
+		// the direct instances can still be found through the indexes
+		assertSelected("Sample.allOfType.select(s|s.name = 's1')", 1, 6, 11, 16);
+		assertIndexed("return Sample.allOfType.count(s|s.name = 's1');", 4);
+		assertIndexed("return Sample.allOfType.forAll(s|s.id <= 20);", true);
+	}
+
+	private void assertSelected(String selection, Integer... expectedIds) throws Exception {
+		assertSelected("", selection, expectedIds);
+	}
+
+	/**
+	 * Checks that <code>selection</code> (which may use the variables declared
+	 * in <code>setup</code>) returns the samples with the expected IDs, without
+	 * reading any of their attributes.
+	 */
+	private void assertSelected(String setup, String selection, Integer... expectedIds) throws Exception {
+		assertIds(setup, selection, expectedIds);
+		assertIndexed(setup + "return " + selection + ".size();", expectedIds.length);
+	}
+
+	private void assertIds(String setup, String selection, Integer... expectedIds) throws Exception {
+		final Collection<?> ids = (Collection<?>) eol(setup + "return " + selection + ".collect(s|s.id);");
+		assertEquals(new HashSet<>(Arrays.asList(expectedIds)), new HashSet<>(ids));
+	}
+
+	/**
+	 * Checks that <code>query</code> returns the expected value without reading
+	 * the attributes of any sample.
+	 */
+	private void assertIndexed(String query, Object expected) throws Exception {
+		assertEquals("The indexes should be used instead of reading the attributes",
+			0L, queryMisses(query, expected));
+	}
+
+	/**
+	 * Checks that <code>query</code> returns the expected value, and returns
+	 * the number of attributes it read.
+	 */
+	private long queryMisses(String query, Object expected) throws Exception {
+		final Map<String, Object> stats = new HashMap<>();
+		final Consumer<Map<String, Object>> consumer = stats::putAll;
+		assertEquals(expected, eol(query, Collections.singletonMap(IQueryEngine.PROPERTY_STATS_CONSUMER, consumer)));
+		return (Long) stats.get(IQueryEngine.STAT_PROPERTY_CACHE_MISSES);
+	}
+
+	/**
+	 * Writes {@link #SAMPLE_COUNT} samples, where the i-th sample (from 1) has
+	 * <code>id = i</code>, <code>name = 's' + (i % 5)</code> and
+	 * <code>weight = i - 10.5</code>.
+	 */
+	private void writeSamples() throws IOException {
+		final StringBuilder sb = new StringBuilder();
+		sb.append("<?xml version=\"1.0\" encoding=\"ASCII\"?>\n");
+		sb.append("<idx:Catalogue xmi:version=\"2.0\" xmlns:xmi=\"http://www.omg.org/XMI\" xmlns:idx=\"" + INDEXED_URI + "\">\n");
+		for (int i = 1; i <= SAMPLE_COUNT; i++) {
+			sb.append(String.format("  <samples id=\"%d\" name=\"s%d\" weight=\"%s\"/>\n", i, i % 5, i - 10.5));
+		}
+		sb.append("</idx:Catalogue>\n");
+		Files.write(new File(modelFolder.getRoot(), "samples.model").toPath(), sb.toString().getBytes(StandardCharsets.US_ASCII));
+	}
+
+	/**
+	 * Writes three instances of <code>Special</code> (a subtype of
+	 * <code>Sample</code>), with IDs 21 to 23 and names <code>s1</code>,
+	 * <code>s2</code> and <code>s1</code>.
+	 */
+	private void writeSpecials() throws IOException {
+		final String xmi = "<?xml version=\"1.0\" encoding=\"ASCII\"?>\n"
+			+ "<idx:Catalogue xmi:version=\"2.0\" xmlns:xmi=\"http://www.omg.org/XMI\""
+			+ " xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xmlns:idx=\"" + INDEXED_URI + "\">\n"
+			+ "  <samples xsi:type=\"idx:Special\" id=\"21\" name=\"s1\"/>\n"
+			+ "  <samples xsi:type=\"idx:Special\" id=\"22\" name=\"s2\"/>\n"
+			+ "  <samples xsi:type=\"idx:Special\" id=\"23\" name=\"s1\"/>\n"
+			+ "</idx:Catalogue>\n";
+		Files.write(new File(modelFolder.getRoot(), "specials.model").toPath(), xmi.getBytes(StandardCharsets.US_ASCII));
+	}
+
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.integration.tests.emf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hawk.backend.tests.BackendTestSuite;
+import org.hawk.backend.tests.factories.IGraphDatabaseFactory;
+import org.hawk.core.graph.IGraphTransaction;
+import org.hawk.epsilon.emc.LazyGraphNodeSequence;
+import org.hawk.epsilon.emc.contextful.CEOLQueryEngine;
+import org.hawk.epsilon.emc.wrappers.GraphNodeWrapper;
+import org.hawk.graph.ModelElementNode;
+import org.hawk.integration.tests.ModelIndexingTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Checks that the instances of a type are only read from the graph as they
+ * are needed, and that they are read into memory before a query returns them.
+ */
+public class LazyAllOfTest extends ModelIndexingTest {
+
+	@Parameters(name = "{0}")
+	public static Iterable<Object[]> params() {
+		return BackendTestSuite.caseParams();
+	}
+
+	public LazyAllOfTest(IGraphDatabaseFactory dbf) {
+		super(dbf, new EMFModelSupportFactory());
+	}
+
+	@Before
+	public void prepare() throws Throwable {
+		indexer.registerMetamodels(
+			new File("resources/metamodels/Ecore.ecore"),
+			new File("resources/metamodels/Tree.ecore"));
+		requestFolderIndex(new File("resources/models/tree-xres"));
+		waitForSync(() -> {
+			assertEquals(3, eol("return Tree.all.size;"));
+			return null;
+		});
+	}
+
+	@Test
+	public void readOnDemandWithinTransaction() throws Exception {
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final LazyGraphNodeSequence<?> trees = (LazyGraphNodeSequence<?>)
+				queryEngine.getAllOf("Tree", ModelElementNode.EDGE_LABEL_OFKIND);
+			assertEquals(3, trees.size());
+			assertFalse(trees.isEmpty());
+			int count = 0;
+			for (Object o : trees) {
+				assertTrue(o instanceof GraphNodeWrapper);
+				assertTrue(trees.contains(o));
+				count++;
+			}
+			assertEquals(3, count);
+			assertFalse("Iterating should not copy the instances", trees.isMaterialized());
+
+			final Object first = trees.get(0);
+			assertTrue("Positional access should copy the instances", trees.isMaterialized());
+			trees.remove(first);
+			assertEquals(2, trees.size());
+			tx.success();
+		}
+	}
+
+	@Test
+	public void resultIsMaterialized() throws Exception {
+		final Object result = eol("return Tree.all;");
+		assertMaterialized(3, result);
+	}
+
+	@Test
+	public void nestedResultsAreMaterialized() throws Exception {
+		final List<?> result = (List<?>) eol("return Sequence{Tree.all, Map{'trees' = Tree.all}};");
+		assertMaterialized(3, result.get(0));
+		assertMaterialized(3, ((Map<?, ?>) result.get(1)).get("trees"));
+	}
+
+	@Test
+	public void contextfulResultIsMaterialized() throws Exception {
+		final Map<String, Object> context = new HashMap<>();
+		context.put(CEOLQueryEngine.PROPERTY_FILECONTEXT, "/root.model");
+		assertMaterialized(2, eol("return Tree.all;", context));
+		assertMaterialized(3, eol("return Tree.all;", Collections.<String, Object>singletonMap(CEOLQueryEngine.PROPERTY_FILECONTEXT, "*")));
+	}
+
+	private void assertMaterialized(int expectedSize, Object value) {
+		assertTrue("Result should be a lazy sequence", value instanceof LazyGraphNodeSequence);
+		final LazyGraphNodeSequence<?> sequence = (LazyGraphNodeSequence<?>) value;
+		assertTrue("Result should be read before the query transaction ends", sequence.isMaterialized());
+		assertEquals(expectedSize, sequence.size());
+		for (Object o : sequence) {
+			assertTrue(o instanceof GraphNodeWrapper);
+		}
+	}
+
+}
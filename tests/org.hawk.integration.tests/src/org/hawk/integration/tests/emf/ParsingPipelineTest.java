@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.integration.tests.emf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import org.hawk.backend.tests.BackendTestSuite;
+import org.hawk.backend.tests.factories.IGraphDatabaseFactory;
+import org.hawk.core.IModelIndexer;
+import org.hawk.core.IModelResourceFactory;
+import org.hawk.core.runtime.ModelIndexerImpl;
+import org.hawk.core.security.FileBasedCredentialsStore;
+import org.hawk.graph.syncValidationListener.SyncValidationListener;
+import org.hawk.integration.tests.ModelIndexingTest;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Checks that model files parsed ahead of the graph writer by several threads
+ * produce the same graph as parsing them one at a time, regardless of the
+ * limits on the files in flight.
+ */
+public class ParsingPipelineTest extends ModelIndexingTest {
+
+	private static final int FILE_COUNT = 10;
+	private static final int PARSE_THREADS = 3;
+
+	/**
+	 * Keeps the names of the threads that parsed the model files.
+	 */
+	private static class RecordingModelSupportFactory extends EMFModelSupportFactory {
+		private final Set<String> parsingThreads = Collections.synchronizedSet(new HashSet<String>());
+
+		@Override
+		public IModelResourceFactory createModelResourceFactory() {
+			final IModelResourceFactory factory = super.createModelResourceFactory();
+			return (IModelResourceFactory) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { IModelResourceFactory.class }, new InvocationHandler() {
+					@Override
+					public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+						if ("parse".equals(method.getName())) {
+							parsingThreads.add(Thread.currentThread().getName());
+						}
+						try {
+							return method.invoke(factory, args);
+						} catch (InvocationTargetException ex) {
+							throw ex.getCause();
+						}
+					}
+				});
+		}
+	}
+
+	@Rule
+	public GraphChangeListenerRule<SyncValidationListener> syncValidation
+		= new GraphChangeListenerRule<>(new SyncValidationListener());
+
+	@Rule
+	public TemporaryFolder modelFolder = new TemporaryFolder();
+
+	@Parameters(name = "{0}")
+	public static Iterable<Object[]> params() {
+		return BackendTestSuite.caseParams();
+	}
+
+	private final RecordingModelSupportFactory recorder;
+
+	public ParsingPipelineTest(IGraphDatabaseFactory dbf) {
+		this(dbf, new RecordingModelSupportFactory());
+	}
+
+	private ParsingPipelineTest(IGraphDatabaseFactory dbf, RecordingModelSupportFactory recorder) {
+		super(dbf, recorder);
+		this.recorder = recorder;
+	}
+
+	@Override
+	protected IModelIndexer createIndexer(File indexerFolder, FileBasedCredentialsStore credStore) {
+		final ModelIndexerImpl indexer = (ModelIndexerImpl) super.createIndexer(indexerFolder, credStore);
+		indexer.setParsingPipeline(PARSE_THREADS, 2, Long.MAX_VALUE);
+		return indexer;
+	}
+
+	@Test
+	public void filesParsedAhead() throws Throwable {
+		indexTrees();
+
+		assertFalse(recorder.parsingThreads.isEmpty());
+		for (String threadName : recorder.parsingThreads) {
+			assertTrue("Files should be parsed by the pipeline, but " + threadName + " did",
+				threadName.startsWith("hawk-parse-"));
+		}
+	}
+
+	@Test
+	public void oneFileAheadWithByteLimit() throws Throwable {
+		// Only the file being written may be in flight, as they all exceed the limit
+		((ModelIndexerImpl) indexer).setParsingPipeline(PARSE_THREADS, FILE_COUNT, 1);
+		indexTrees();
+	}
+
+	@Test
+	public void sequentialParsing() throws Throwable {
+		((ModelIndexerImpl) indexer).setParsingPipeline(1, FILE_COUNT, Long.MAX_VALUE);
+		indexTrees();
+
+		for (String threadName : recorder.parsingThreads) {
+			assertFalse("No parsing threads should be used, but " + threadName + " was",
+				threadName.startsWith("hawk-parse-"));
+		}
+	}
+
+	@Test
+	public void changedFilesParsedAhead() throws Throwable {
+		indexTrees();
+
+		for (int i = 0; i < FILE_COUNT; i++) {
+			copyModel("changed-trees/add-child.model", "tree" + i + ".model");
+		}
+		copyModel("changed-trees/rename-root.model", "tree0.model");
+		indexer.requestImmediateSync();
+		waitForSync(new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				assertEquals(0, syncValidation.getListener().getTotalErrors());
+				assertEquals(3 * FILE_COUNT - 1 + 3, eol("return Tree.all.size;"));
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Indexes {@link #FILE_COUNT} copies of a tree, and a tree whose children
+	 * are split across two files, and checks that the graph matches them.
+	 */
+	private void indexTrees() throws Throwable {
+		for (int i = 0; i < FILE_COUNT; i++) {
+			copyModel("tree/tree.model", "tree" + i + ".model");
+		}
+		copyModel("tree-xres/root.model", "root.model");
+		copyModel("tree-xres/child.model", "child.model");
+
+		indexer.registerMetamodels(
+			new File("resources/metamodels/Ecore.ecore"),
+			new File("resources/metamodels/Tree.ecore"));
+		requestFolderIndex(modelFolder.getRoot());
+		waitForSync(new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				assertEquals(0, syncValidation.getListener().getTotalErrors());
+				assertEquals(2 * FILE_COUNT + 3, eol("return Tree.all.size;"));
+				assertEquals(2, eol("return Tree.all.selectOne(t|t.label = 'root').children.size;"));
+				return null;
+			}
+		});
+	}
+
+	private void copyModel(String source, String target) throws IOException {
+		Files.copy(new File("resources/models/" + source).toPath(),
+			new File(modelFolder.getRoot(), target).toPath(), StandardCopyOption.REPLACE_EXISTING);
+	}
+
+}
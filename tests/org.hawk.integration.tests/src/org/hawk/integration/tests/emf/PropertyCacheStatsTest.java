@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.integration.tests.emf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+import org.hawk.backend.tests.BackendTestSuite;
+import org.hawk.backend.tests.factories.IGraphDatabaseFactory;
+import org.hawk.core.query.IQueryEngine;
+import org.hawk.epsilon.emc.pgetters.PropertyAccessCache;
+import org.hawk.integration.tests.ModelIndexingTest;
+import org.junit.Test;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Checks the hit and miss counters of the per-query property cache, both
+ * directly and through the statistics reported by the query engine.
+ */
+public class PropertyCacheStatsTest extends ModelIndexingTest {
+
+	@Parameters(name = "{0}")
+	public static Iterable<Object[]> params() {
+		return BackendTestSuite.caseParams();
+	}
+
+	public PropertyCacheStatsTest(IGraphDatabaseFactory dbf) {
+		super(dbf, new EMFModelSupportFactory());
+	}
+
+	@Test
+	public void cacheCountsHitsAndMisses() {
+		final PropertyAccessCache cache = new PropertyAccessCache(10);
+		assertSame(PropertyAccessCache.MISSING, cache.get(1, "label"));
+		cache.put(1, "label", "t3");
+		assertEquals("t3", cache.get(1, "label"));
+
+		// Unset attributes are cached as null, and still count as hits
+		cache.put(2, "label", null);
+		assertEquals(null, cache.get(2, "label"));
+
+		assertEquals(2, cache.getHits());
+		assertEquals(1, cache.getMisses());
+		assertEquals(2.0 / 3, cache.getHitRatio(), 1e-9);
+	}
+
+	@Test
+	public void cacheEvictsLeastRecentlyUsed() {
+		final PropertyAccessCache cache = new PropertyAccessCache(2);
+		cache.put(1, "label", "a");
+		cache.put(2, "label", "b");
+		cache.get(1, "label");
+		cache.put(3, "label", "c");
+
+		assertEquals(2, cache.size());
+		assertEquals("a", cache.get(1, "label"));
+		assertSame(PropertyAccessCache.MISSING, cache.get(2, "label"));
+		assertEquals(2, cache.getHits());
+		assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	public void disabledCacheCountsNothing() {
+		final PropertyAccessCache cache = new PropertyAccessCache(0);
+		cache.put(1, "label", "a");
+		assertSame(PropertyAccessCache.MISSING, cache.get(1, "label"));
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getHits());
+		assertEquals(0, cache.getMisses());
+		assertEquals(0, cache.getHitRatio(), 0);
+	}
+
+	@Test
+	public void queryReportsStatistics() throws Throwable {
+		indexer.registerMetamodels(
+			new File("resources/metamodels/Ecore.ecore"),
+			new File("resources/metamodels/Tree.ecore"));
+		requestFolderIndex(new File("resources/models/tree"));
+
+		waitForSync(new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				// First read of each label misses, the second one hits
+				final Map<String, Object> stats = queryStats("return Tree.all.collect(t|t.label + t.label);");
+				final long hits = (Long) stats.get(IQueryEngine.STAT_PROPERTY_CACHE_HITS);
+				final long misses = (Long) stats.get(IQueryEngine.STAT_PROPERTY_CACHE_MISSES);
+				assertTrue("Repeated reads should hit the cache, got " + hits, hits >= 2);
+				assertTrue("First reads should miss the cache, got " + misses, misses >= 2);
+
+				// Each query starts with an empty cache
+				final Map<String, Object> again = queryStats("return Tree.all.collect(t|t.label + t.label);");
+				assertEquals(hits, again.get(IQueryEngine.STAT_PROPERTY_CACHE_HITS));
+				assertEquals(misses, again.get(IQueryEngine.STAT_PROPERTY_CACHE_MISSES));
+				return null;
+			}
+		});
+	}
+
+	private Map<String, Object> queryStats(String query) throws Exception {
+		final Map<String, Object> stats = new HashMap<>();
+		final Consumer<Map<String, Object>> consumer = stats::putAll;
+		final Object result = eol(query,
+			Collections.singletonMap(IQueryEngine.PROPERTY_STATS_CONSUMER, consumer));
+		assertEquals(2, ((Collection<?>) result).size());
+		assertTrue(((Collection<?>) result).containsAll(Arrays.asList("t3t3", "t9000t9000")));
+		assertNotNull(stats.get(IQueryEngine.STAT_PROPERTY_CACHE_HITS));
+		return stats;
+	}
+
+}
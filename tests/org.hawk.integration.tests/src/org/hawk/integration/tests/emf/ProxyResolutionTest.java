@@ -0,0 +1,225 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.integration.tests.emf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.Callable;
+
+import org.hawk.backend.tests.BackendTestSuite;
+import org.hawk.backend.tests.factories.IGraphDatabaseFactory;
+import org.hawk.core.graph.IGraphTransaction;
+import org.hawk.graph.updater.GraphModelBatchInjector;
+import org.hawk.graph.updater.GraphModelUpdater;
+import org.hawk.graph.updater.proxies.ProxyResolutionCursor;
+import org.hawk.integration.tests.ModelIndexingTest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Checks that proxy references are resolved one target file at a time, and
+ * that an interrupted resolution pass revisits the files changed since.
+ */
+public class ProxyResolutionTest extends ModelIndexingTest {
+
+	private static final int CHILD_COUNT = 10;
+
+	@Rule
+	public TemporaryFolder modelFolder = new TemporaryFolder();
+
+	@Parameters(name = "{0}")
+	public static Iterable<Object[]> params() {
+		return BackendTestSuite.caseParams();
+	}
+
+	public ProxyResolutionTest(IGraphDatabaseFactory dbf) {
+		super(dbf, new EMFModelSupportFactory());
+	}
+
+	@Before
+	public void prepare() throws Throwable {
+		indexer.registerMetamodels(
+			new File("resources/metamodels/Ecore.ecore"),
+			new File("resources/metamodels/Tree.ecore"));
+	}
+
+	@Test
+	public void allTargetFilesResolved() throws Throwable {
+		writeRoot(CHILD_COUNT);
+		writeChildren(0, CHILD_COUNT);
+		requestFolderIndex(modelFolder.getRoot());
+		waitForSync(new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				assertResolved(CHILD_COUNT, CHILD_COUNT);
+				return null;
+			}
+		});
+	}
+
+	@Test
+	public void targetFilesAddedLater() throws Throwable {
+		writeRoot(CHILD_COUNT);
+		requestFolderIndex(modelFolder.getRoot());
+		waitForSync(new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				assertResolved(0, CHILD_COUNT);
+				return null;
+			}
+		});
+
+		// Only some of the target files show up at first
+		writeChildren(0, CHILD_COUNT / 2);
+		indexer.requestImmediateSync();
+		waitForSync(new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				assertResolved(CHILD_COUNT / 2, CHILD_COUNT);
+				return null;
+			}
+		});
+
+		writeChildren(CHILD_COUNT / 2, CHILD_COUNT);
+		indexer.requestImmediateSync();
+		waitForSync(new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				assertResolved(CHILD_COUNT, CHILD_COUNT);
+				return null;
+			}
+		});
+	}
+
+	@Test
+	public void interruptedPassRevisitsChangedFiles() throws Throwable {
+		writeRoot(CHILD_COUNT);
+		requestFolderIndex(modelFolder.getRoot());
+		waitForSync(new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				assertResolved(0, CHILD_COUNT);
+				return null;
+			}
+		});
+
+		// Pretend a pass was interrupted after going through all the target files
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			new ProxyResolutionCursor(db).setLastTarget("\uffff");
+			tx.success();
+		}
+
+		writeChildren(0, CHILD_COUNT);
+		indexer.requestImmediateSync();
+		waitForSync(new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				assertResolved(CHILD_COUNT, CHILD_COUNT);
+				return null;
+			}
+		});
+	}
+
+	@Test
+	public void updatedFileAddsProxies() throws Throwable {
+		writeRoot(1);
+		writeChildren(0, 1);
+		requestFolderIndex(modelFolder.getRoot());
+		waitForSync(new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				assertResolved(1, 1);
+				return null;
+			}
+		});
+
+		// References added to an indexed file, to files that do not exist yet
+		writeRoot(CHILD_COUNT);
+		indexer.requestImmediateSync();
+		waitForSync(new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				assertResolved(1, CHILD_COUNT);
+				return null;
+			}
+		});
+
+		writeChildren(1, CHILD_COUNT);
+		indexer.requestImmediateSync();
+		waitForSync(new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				assertResolved(CHILD_COUNT, CHILD_COUNT);
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Checks that the root has <code>nResolved</code> children, that the
+	 * proxies to the other <code>nChildren - nResolved</code> child files are
+	 * still pending, and that the resolution pass was completed.
+	 */
+	private void assertResolved(int nResolved, int nChildren) throws Exception {
+		assertEquals(nResolved, eol("return Tree.all.selectOne(t|t.label = 'root').children.size;"));
+		assertEquals(nResolved + 1, eol("return Tree.all.size;"));
+
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			assertNull(new ProxyResolutionCursor(db).getLastTarget());
+
+			final int pendingLists = db.getOrCreateNodeIndex(GraphModelBatchInjector.PROXY_DICT_NAME)
+				.query(GraphModelUpdater.PROXY_REFERENCE_PREFIX, "*").size();
+			assertEquals(nResolved < nChildren ? 1 : 0, pendingLists);
+			tx.success();
+		}
+	}
+
+	/**
+	 * Writes a root tree whose children are the roots of other files.
+	 */
+	private void writeRoot(int nChildren) throws IOException {
+		final StringBuilder sb = new StringBuilder();
+		sb.append("<?xml version=\"1.0\" encoding=\"ASCII\"?>\n");
+		sb.append("<Tree:Tree xmi:version=\"2.0\" xmlns:xmi=\"http://www.omg.org/XMI\" xmlns:Tree=\"Tree\" label=\"root\">\n");
+		for (int i = 0; i < nChildren; i++) {
+			sb.append(String.format("  <children href=\"child%d.model#/\"/>\n", i));
+		}
+		sb.append("</Tree:Tree>\n");
+		writeModel("root.model", sb.toString());
+	}
+
+	private void writeChildren(int from, int to) throws IOException {
+		for (int i = from; i < to; i++) {
+			writeModel("child" + i + ".model", String.format(
+				"<?xml version=\"1.0\" encoding=\"ASCII\"?>\n"
+				+ "<Tree:Tree xmi:version=\"2.0\" xmlns:xmi=\"http://www.omg.org/XMI\" xmlns:Tree=\"Tree\" label=\"child%d\"/>\n", i));
+		}
+	}
+
+	private void writeModel(String name, String contents) throws IOException {
+		Files.write(new File(modelFolder.getRoot(), name).toPath(), contents.getBytes(StandardCharsets.US_ASCII));
+	}
+
+}
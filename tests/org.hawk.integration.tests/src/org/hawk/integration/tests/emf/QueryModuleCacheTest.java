@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.integration.tests.emf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Map;
+
+import org.hawk.backend.tests.BackendTestSuite;
+import org.hawk.backend.tests.factories.IGraphDatabaseFactory;
+import org.hawk.epsilon.emc.EOLQueryEngine;
+import org.hawk.epsilon.emc.QueryModuleCache;
+import org.hawk.integration.tests.ModelIndexingTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Checks that repeated queries reuse their parsed modules, and that a reused
+ * module does not carry any state from its previous runs.
+ */
+public class QueryModuleCacheTest extends ModelIndexingTest {
+
+	@Parameters(name = "{0}")
+	public static Iterable<Object[]> params() {
+		return BackendTestSuite.caseParams();
+	}
+
+	public QueryModuleCacheTest(IGraphDatabaseFactory dbf) {
+		super(dbf, new EMFModelSupportFactory());
+	}
+
+	@Before
+	public void prepare() throws Throwable {
+		indexer.registerMetamodels(
+			new File("resources/metamodels/Ecore.ecore"),
+			new File("resources/metamodels/Tree.ecore"));
+		requestFolderIndex(new File("resources/models/tree"));
+		waitForSync(() -> {
+			assertEquals(2, eol("return Tree.all.size;"));
+			return null;
+		});
+	}
+
+	@Test
+	public void repeatedQueryIsReused() throws Exception {
+		final QueryModuleCache cache = queryEngine.getQueryCache();
+		final String query = "return Tree.all.collect(t|t.label).asSet().size();";
+
+		final long misses = cache.getMisses(), hits = cache.getHits();
+		assertEquals(2, eol(query));
+		assertEquals(misses + 1, cache.getMisses());
+
+		for (int i = 1; i <= 3; i++) {
+			assertEquals(2, eol(query));
+			assertEquals(hits + i, cache.getHits());
+		}
+		assertEquals(misses + 1, cache.getMisses());
+	}
+
+	@Test
+	public void extendedPropertiesAreNotCarried() throws Exception {
+		final QueryModuleCache cache = queryEngine.getQueryCache();
+		final String query = "var t = Tree.all.selectOne(t|t.label = 't3');"
+			+ "var seen = t.~seen; t.~seen = true; return seen;";
+
+		final long hits = cache.getHits();
+		assertNull(eol(query));
+		assertNull("A reused module should not see the extended properties of the previous run", eol(query));
+		assertEquals(hits + 1, cache.getHits());
+	}
+
+	@Test
+	public void argumentsAreNotCarried() throws Exception {
+		final QueryModuleCache cache = queryEngine.getQueryCache();
+		final String query = "return n + Tree.all.size;";
+
+		final long hits = cache.getHits();
+		assertEquals(3, eol(query, arguments(1)));
+		assertEquals(4, eol(query, arguments(2)));
+		assertEquals(hits + 1, cache.getHits());
+	}
+
+	@Test
+	public void failedRunIsNotReused() throws Exception {
+		final QueryModuleCache cache = queryEngine.getQueryCache();
+		final String query = "if (n = 0) { var t = Tree.all.first; return t.label.foo(); } return n;";
+
+		try {
+			eol(query, arguments(0));
+		} catch (Exception ex) {
+			// expected: undefined operation
+		}
+
+		// The module of the failed run is discarded, so this one is parsed again
+		final long misses = cache.getMisses();
+		assertEquals(1, eol(query, arguments(1)));
+		assertEquals(misses + 1, cache.getMisses());
+		assertEquals(2, eol(query, arguments(2)));
+	}
+
+	@Test
+	public void metamodelChangesInvalidate() throws Exception {
+		final QueryModuleCache cache = queryEngine.getQueryCache();
+		final String query = "return Tree.all.size;";
+		assertEquals(2, eol(query));
+
+		final long invalidations = cache.getInvalidations();
+		indexer.addDerivedAttribute("Tree", "Tree", "doubleLabel", "String", false, true, false,
+			EOLQueryEngine.TYPE, "return self.label + self.label;");
+		assertTrue(cache.getInvalidations() > invalidations);
+
+		final long misses = cache.getMisses();
+		assertEquals(2, eol(query));
+		assertEquals(misses + 1, cache.getMisses());
+	}
+
+	private Map<String, Object> arguments(int n) {
+		return Collections.<String, Object>singletonMap(EOLQueryEngine.PROPERTY_ARGUMENTS,
+			Collections.<String, Object>singletonMap("n", n));
+	}
+
+}
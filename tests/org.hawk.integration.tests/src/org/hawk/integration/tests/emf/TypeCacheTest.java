@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.integration.tests.emf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.hawk.backend.tests.BackendTestSuite;
+import org.hawk.backend.tests.factories.IGraphDatabaseFactory;
+import org.hawk.core.IModelIndexer;
+import org.hawk.core.IModelUpdater;
+import org.hawk.core.graph.IGraphNode;
+import org.hawk.core.graph.IGraphTransaction;
+import org.hawk.core.model.IHawkClass;
+import org.hawk.epsilon.emc.EOLQueryEngine;
+import org.hawk.graph.Slot;
+import org.hawk.graph.updater.GraphModelUpdater;
+import org.hawk.graph.updater.TypeCache;
+import org.hawk.integration.tests.ModelIndexingTest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Checks that the type cache of the model updater is kept across
+ * synchronisations, and that it is told about changes in the metamodels.
+ */
+public class TypeCacheTest extends ModelIndexingTest {
+
+	private static final String TREE_URI = "Tree";
+
+	@Rule
+	public TemporaryFolder modelFolder = new TemporaryFolder();
+
+	@Parameters(name = "{0}")
+	public static Iterable<Object[]> params() {
+		return BackendTestSuite.caseParams();
+	}
+
+	public TypeCacheTest(IGraphDatabaseFactory dbf) {
+		super(dbf, new EMFModelSupportFactory());
+	}
+
+	@Before
+	public void prepare() throws Throwable {
+		Files.copy(new File("resources/models/tree/tree.model").toPath(),
+			new File(modelFolder.getRoot(), "tree.model").toPath());
+
+		indexer.registerMetamodels(
+			new File("resources/metamodels/Ecore.ecore"),
+			new File("resources/metamodels/Tree.ecore"));
+		requestFolderIndex(modelFolder.getRoot());
+		waitForSync(new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				assertEquals(2, eol("return Tree.all.size;"));
+				return null;
+			}
+		});
+	}
+
+	@Test
+	public void keptAcrossSyncs() throws Throwable {
+		final TypeCache typeCache = getTypeCache();
+		final Object typeId = getTypeNodeId(typeCache);
+
+		Files.copy(new File("resources/models/changed-trees/add-child.model").toPath(),
+			new File(modelFolder.getRoot(), "tree.model").toPath(), StandardCopyOption.REPLACE_EXISTING);
+		indexer.requestImmediateSync();
+		waitForSync(new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				assertEquals(3, eol("return Tree.all.size;"));
+				return null;
+			}
+		});
+
+		assertSame(typeCache, getTypeCache());
+		assertEquals(typeId, getTypeNodeId(typeCache));
+	}
+
+	@Test
+	public void derivedAttributeChangesSlots() throws Throwable {
+		final TypeCache typeCache = getTypeCache();
+		assertFalse(getSlots(typeCache).containsKey("doubleLabel"));
+
+		indexer.addDerivedAttribute(TREE_URI, "Tree", "doubleLabel", "String", false, true, false,
+			EOLQueryEngine.TYPE, "return self.label + self.label;");
+		final Slot slot = getSlots(typeCache).get("doubleLabel");
+		assertNotNull("The new derived attribute should be visible through the cache", slot);
+		assertTrue(slot.isDerived());
+
+		indexer.removeDerivedAttribute(TREE_URI, "Tree", "doubleLabel");
+		assertFalse(getSlots(typeCache).containsKey("doubleLabel"));
+	}
+
+	@Test
+	public void indexedAttributeChangesSlots() throws Throwable {
+		final TypeCache typeCache = getTypeCache();
+		assertFalse(getSlots(typeCache).get("label").isIndexed());
+
+		indexer.addIndexedAttribute(TREE_URI, "Tree", "label");
+		assertTrue(getSlots(typeCache).get("label").isIndexed());
+	}
+
+	@Test
+	public void removedMetamodelIsForgotten() throws Throwable {
+		final TypeCache typeCache = getTypeCache();
+		getTypeNodeId(typeCache);
+
+		indexer.removeMetamodels(TREE_URI);
+		try {
+			getTypeNodeId(typeCache);
+			fail("The type of a removed metamodel should not be found");
+		} catch (Exception ex) {
+			// expected
+		}
+
+		// The new type node is found, rather than the one that was removed
+		indexer.registerMetamodels(new File("resources/metamodels/Tree.ecore"));
+		assertNotNull(getTypeNodeId(typeCache));
+	}
+
+	private TypeCache getTypeCache() {
+		for (IModelUpdater updater : indexer.getModelUpdaters()) {
+			if (updater instanceof GraphModelUpdater) {
+				return ((GraphModelUpdater) updater).getTypeCache();
+			}
+		}
+		throw new IllegalStateException("No graph model updater found");
+	}
+
+	private Object getTypeNodeId(TypeCache typeCache) throws Exception {
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final IGraphNode typeNode = typeCache.getEClassNode(db, treeClass());
+			assertEquals("Tree", typeNode.getProperty(IModelIndexer.IDENTIFIER_PROPERTY));
+			tx.success();
+			return typeNode.getId();
+		}
+	}
+
+	private Map<String, Slot> getSlots(TypeCache typeCache) throws Exception {
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final Map<String, Slot> slots = typeCache.getEClassNodeSlots(db, treeClass());
+			tx.success();
+			return slots;
+		}
+	}
+
+	/**
+	 * Returns a class which can only be asked for its name and metamodel.
+	 */
+	private static IHawkClass treeClass() {
+		return (IHawkClass) Proxy.newProxyInstance(TypeCacheTest.class.getClassLoader(),
+			new Class<?>[] { IHawkClass.class }, new InvocationHandler() {
+				@Override
+				public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+					switch (method.getName()) {
+					case "getName": return "Tree";
+					case "getPackageNSURI": return TREE_URI;
+					case "getUri": return TREE_URI + "#Tree";
+					default: throw new UnsupportedOperationException(method.getName());
+					}
+				}
+			});
+	}
+
+}
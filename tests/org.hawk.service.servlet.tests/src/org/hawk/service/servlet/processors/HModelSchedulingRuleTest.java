@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.service.servlet.processors;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.eclipse.core.runtime.jobs.IJobManager;
+import org.eclipse.core.runtime.jobs.Job;
+import org.hawk.osgiserver.HModel;
+import org.hawk.osgiserver.HModelSchedulingRule;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the conflicts between {@link HModelSchedulingRule}s.
+ */
+public class HModelSchedulingRuleTest {
+
+	private HModel model, otherModel;
+
+	@Before
+	public void setUp() {
+		model = mock(HModel.class);
+		otherModel = mock(HModel.class);
+	}
+
+	@Test
+	public void rulesConflictWithThemselves() {
+		final HModelSchedulingRule readRule = new HModelSchedulingRule(model, true);
+		final HModelSchedulingRule writeRule = new HModelSchedulingRule(model);
+		assertTrue(readRule.isConflicting(readRule));
+		assertTrue(writeRule.isConflicting(writeRule));
+	}
+
+	@Test
+	public void readOnlyRulesShareModel() {
+		final HModelSchedulingRule r1 = new HModelSchedulingRule(model, true);
+		final HModelSchedulingRule r2 = new HModelSchedulingRule(model, true);
+		assertFalse(r1.isConflicting(r2));
+		assertFalse(r2.isConflicting(r1));
+	}
+
+	@Test
+	public void exclusiveRulesConflict() {
+		final HModelSchedulingRule read = new HModelSchedulingRule(model, true);
+		final HModelSchedulingRule w1 = new HModelSchedulingRule(model);
+		final HModelSchedulingRule w2 = new HModelSchedulingRule(model);
+
+		assertTrue(w1.isConflicting(w2));
+		assertTrue(w2.isConflicting(w1));
+		assertTrue(read.isConflicting(w1));
+		assertTrue(w1.isConflicting(read));
+	}
+
+	@Test
+	public void differentModelsDoNotConflict() {
+		final HModelSchedulingRule read = new HModelSchedulingRule(model, true);
+		final HModelSchedulingRule write = new HModelSchedulingRule(model);
+		final HModelSchedulingRule otherRead = new HModelSchedulingRule(otherModel, true);
+		final HModelSchedulingRule otherWrite = new HModelSchedulingRule(otherModel);
+
+		assertFalse(read.isConflicting(otherRead));
+		assertFalse(read.isConflicting(otherWrite));
+		assertFalse(write.isConflicting(otherRead));
+		assertFalse(write.isConflicting(otherWrite));
+	}
+
+	@Test
+	public void readOnlyRulesDoNotOvertakeExclusive() {
+		final HModelSchedulingRule before = new HModelSchedulingRule(model, true);
+		final HModelSchedulingRule write = new HModelSchedulingRule(model);
+		final HModelSchedulingRule after1 = new HModelSchedulingRule(model, true);
+		final HModelSchedulingRule after2 = new HModelSchedulingRule(model, true);
+
+		assertTrue(write.isConflicting(before));
+		assertTrue(write.isConflicting(after1));
+
+		// Readers after the exclusive job wait for those before it...
+		assertTrue(after1.isConflicting(before));
+		assertTrue(before.isConflicting(after1));
+
+		// ... but still share the model among themselves
+		assertFalse(after1.isConflicting(after2));
+
+		// Other models are not affected
+		final HModelSchedulingRule otherRead = new HModelSchedulingRule(otherModel, true);
+		assertFalse(otherRead.isConflicting(after1));
+	}
+
+	@Test
+	public void beginReadOnlyRule() throws Exception {
+		final IJobManager jobManager = Job.getJobManager();
+		final HModelSchedulingRule r1 = new HModelSchedulingRule(model, true);
+		final HModelSchedulingRule r2 = new HModelSchedulingRule(model, true);
+
+		jobManager.beginRule(r1, null);
+		try {
+			// Another reader in the same epoch must not block
+			final Thread t = new Thread(() -> {
+				jobManager.beginRule(r2, null);
+				jobManager.endRule(r2);
+			});
+			t.start();
+			t.join(10_000);
+			assertFalse(t.isAlive());
+		} finally {
+			jobManager.endRule(r1);
+		}
+	}
+
+}
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.service.servlet.processors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.hawk.core.graph.IGraphDatabase;
+import org.hawk.core.graph.IGraphNode;
+import org.hawk.osgiserver.HModel;
+import org.hawk.service.api.HawkQueryOptions;
+import org.hawk.service.servlet.processors.QueryCursorRegistry.Cursor;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the paging of query results through {@link QueryCursorRegistry}.
+ */
+public class QueryCursorRegistryTest {
+
+	/**
+	 * Sequence of integers which can only be iterated while the transaction
+	 * that produced it is open, like the lazy results of some backends.
+	 */
+	private static class LazyResult implements Iterable<Object> {
+		private final int size;
+		private boolean txOpen = true;
+
+		public LazyResult(int size) {
+			this.size = size;
+		}
+
+		@Override
+		public Iterator<Object> iterator() {
+			return new Iterator<Object>() {
+				private int next = 0;
+
+				@Override
+				public boolean hasNext() {
+					checkOpen();
+					return next < size;
+				}
+
+				@Override
+				public Object next() {
+					checkOpen();
+					if (next >= size) {
+						throw new NoSuchElementException();
+					}
+					return next++;
+				}
+			};
+		}
+
+		private void checkOpen() {
+			if (!txOpen) {
+				throw new IllegalStateException("The transaction of the query has been closed");
+			}
+		}
+	}
+
+	private QueryCursorRegistry registry;
+	private HModel model;
+	private IGraphDatabase graph;
+
+	@Before
+	public void setUp() {
+		registry = new QueryCursorRegistry(60_000, 10, 100);
+		graph = mock(IGraphDatabase.class);
+		model = mock(HModel.class);
+		when(model.getGraph()).thenReturn(graph);
+		when(model.getName()).thenReturn("test");
+	}
+
+	@Test
+	public void pagesLazyResultAfterQueryTransaction() throws Exception {
+		final LazyResult result = new LazyResult(25);
+		final String cursorID = registry.open(model, new HawkQueryOptions(), result);
+		result.txOpen = false;
+
+		final List<List<Object>> pages = new ArrayList<>();
+		final Cursor cursor = registry.get(cursorID);
+		while (cursor.hasNext()) {
+			final List<Object> page = new ArrayList<>();
+			while (page.size() < registry.getPageSize(10) && cursor.hasNext()) {
+				page.add(cursor.next());
+			}
+			pages.add(page);
+		}
+
+		assertEquals(3, pages.size());
+		assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), pages.get(0));
+		assertEquals(Arrays.asList(20, 21, 22, 23, 24), pages.get(2));
+		assertFalse(cursor.hasNext());
+	}
+
+	@Test
+	public void nestedLazyResultIsCopied() throws Exception {
+		final LazyResult inner = new LazyResult(3);
+		final String cursorID = registry.open(model, new HawkQueryOptions(), Arrays.asList("a", inner));
+		inner.txOpen = false;
+
+		final Cursor cursor = registry.get(cursorID);
+		assertEquals("a", cursor.next());
+		assertEquals(Arrays.asList(0, 1, 2), cursor.next());
+		assertFalse(cursor.hasNext());
+	}
+
+	@Test
+	public void graphNodesAreLookedUpOnFetch() throws Exception {
+		final IGraphNode queried = mock(IGraphNode.class);
+		when(queried.getId()).thenReturn(42L);
+		final IGraphNode fetched = mock(IGraphNode.class);
+		when(graph.getNodeById(42L)).thenReturn(fetched);
+
+		final String cursorID = registry.open(model, new HawkQueryOptions(), Arrays.asList(queried));
+		final Cursor cursor = registry.get(cursorID);
+		assertSame(fetched, cursor.next());
+		verify(graph).getNodeById(42L);
+		assertFalse(cursor.hasNext());
+	}
+
+	@Test
+	public void singleResultIsOnePage() throws Exception {
+		final String cursorID = registry.open(model, new HawkQueryOptions(), "single");
+		final Cursor cursor = registry.get(cursorID);
+		assertEquals("single", cursor.next());
+		assertFalse(cursor.hasNext());
+	}
+
+}
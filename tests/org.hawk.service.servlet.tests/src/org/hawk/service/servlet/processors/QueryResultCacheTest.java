@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.service.servlet.processors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import org.hawk.core.runtime.CompositeGraphChangeListener;
+import org.hawk.service.api.HawkQueryOptions;
+import org.hawk.service.api.QueryResult;
+import org.junit.Test;
+
+/**
+ * Tests for the caching of encoded query results in {@link QueryResultCache}.
+ */
+public class QueryResultCacheTest {
+
+	private static final String INSTANCE = "test", LANGUAGE = "eol";
+
+	@Test
+	public void disabledByDefault() {
+		final QueryResultCache cache = new QueryResultCache(0, 60_000);
+		assertFalse(cache.isEnabled());
+
+		cache.put(INSTANCE, "q", LANGUAGE, new HawkQueryOptions(), 0, QueryResult.vInteger(1));
+		assertNull(cache.get(INSTANCE, "q", LANGUAGE, new HawkQueryOptions(), 0));
+		assertEquals(0, cache.getUsedBytes());
+	}
+
+	@Test
+	public void cachedUntilGenerationChanges() {
+		final QueryResultCache cache = new QueryResultCache(10_000, 60_000);
+		final QueryResult result = QueryResult.vString("result");
+		cache.put(INSTANCE, "q", LANGUAGE, new HawkQueryOptions(), 1, result);
+
+		final QueryResult cached = cache.get(INSTANCE, "q", LANGUAGE, new HawkQueryOptions(), 1);
+		assertEquals(result, cached);
+		assertNotSame("Callers should get their own copy", result, cached);
+		assertEquals(1, cache.getHits());
+
+		// Once the graph changes, the older results are dropped
+		assertNull(cache.get(INSTANCE, "q", LANGUAGE, new HawkQueryOptions(), 2));
+		assertNull(cache.get(INSTANCE, "q", LANGUAGE, new HawkQueryOptions(), 1));
+		assertEquals(0, cache.getUsedBytes());
+		assertEquals(2, cache.getMisses());
+	}
+
+	@Test
+	public void keyedByQueryLanguageAndOptions() {
+		final QueryResultCache cache = new QueryResultCache(10_000, 60_000);
+		final HawkQueryOptions options = new HawkQueryOptions().setIncludeAttributes(false);
+		cache.put(INSTANCE, "q", LANGUAGE, options, 1, QueryResult.vInteger(1));
+
+		assertNull(cache.get(INSTANCE, "q2", LANGUAGE, options, 1));
+		assertNull(cache.get(INSTANCE, "q", "other", options, 1));
+		assertNull(cache.get(INSTANCE, "q", LANGUAGE, new HawkQueryOptions(), 1));
+		assertNull(cache.get("other", "q", LANGUAGE, options, 1));
+
+		// Changing the options after the put does not change the stored key
+		options.setIncludeAttributes(true);
+		assertNull(cache.get(INSTANCE, "q", LANGUAGE, options, 1));
+		assertEquals(QueryResult.vInteger(1),
+			cache.get(INSTANCE, "q", LANGUAGE, new HawkQueryOptions().setIncludeAttributes(false), 1));
+	}
+
+	@Test
+	public void resultOfOlderGenerationIsNotStored() {
+		final QueryResultCache cache = new QueryResultCache(10_000, 60_000);
+		assertNull(cache.get(INSTANCE, "q", LANGUAGE, new HawkQueryOptions(), 2));
+
+		// The query started before the graph changed, but finished after
+		cache.put(INSTANCE, "q", LANGUAGE, new HawkQueryOptions(), 1, QueryResult.vInteger(1));
+		assertEquals(0, cache.getUsedBytes());
+		assertNull(cache.get(INSTANCE, "q", LANGUAGE, new HawkQueryOptions(), 2));
+	}
+
+	@Test
+	public void boundedByBytes() {
+		final long entryBytes = measure(QueryResult.vString("aaaa"));
+		final QueryResultCache cache = new QueryResultCache(2 * entryBytes, 60_000);
+		cache.put(INSTANCE, "a", LANGUAGE, new HawkQueryOptions(), 1, QueryResult.vString("aaaa"));
+		cache.put(INSTANCE, "b", LANGUAGE, new HawkQueryOptions(), 1, QueryResult.vString("bbbb"));
+		assertEquals(2 * entryBytes, cache.getUsedBytes());
+
+		// "a" is used more recently than "b", so "b" is evicted
+		cache.get(INSTANCE, "a", LANGUAGE, new HawkQueryOptions(), 1);
+		cache.put(INSTANCE, "c", LANGUAGE, new HawkQueryOptions(), 1, QueryResult.vString("cccc"));
+		assertEquals(2 * entryBytes, cache.getUsedBytes());
+		assertEquals(QueryResult.vString("aaaa"), cache.get(INSTANCE, "a", LANGUAGE, new HawkQueryOptions(), 1));
+		assertNull(cache.get(INSTANCE, "b", LANGUAGE, new HawkQueryOptions(), 1));
+		assertEquals(QueryResult.vString("cccc"), cache.get(INSTANCE, "c", LANGUAGE, new HawkQueryOptions(), 1));
+	}
+
+	@Test
+	public void largerThanCacheIsNotStored() {
+		final QueryResultCache cache = new QueryResultCache(1, 60_000);
+		cache.put(INSTANCE, "q", LANGUAGE, new HawkQueryOptions(), 1, QueryResult.vString("too large"));
+		assertEquals(0, cache.getUsedBytes());
+	}
+
+	@Test
+	public void entriesExpire() throws InterruptedException {
+		final QueryResultCache cache = new QueryResultCache(10_000, 1);
+		cache.put(INSTANCE, "q", LANGUAGE, new HawkQueryOptions(), 1, QueryResult.vInteger(1));
+		Thread.sleep(20);
+
+		assertNull(cache.get(INSTANCE, "q", LANGUAGE, new HawkQueryOptions(), 1));
+		assertEquals(0, cache.getUsedBytes());
+	}
+
+	@Test
+	public void invalidateOnlyDropsThatInstance() {
+		final QueryResultCache cache = new QueryResultCache(10_000, 60_000);
+		cache.put(INSTANCE, "q", LANGUAGE, new HawkQueryOptions(), 3, QueryResult.vInteger(1));
+		cache.put("other", "q", LANGUAGE, new HawkQueryOptions(), 3, QueryResult.vInteger(2));
+
+		cache.invalidate(INSTANCE);
+		assertEquals(measure(QueryResult.vInteger(2)), cache.getUsedBytes());
+		assertEquals(QueryResult.vInteger(2), cache.get("other", "q", LANGUAGE, new HawkQueryOptions(), 3));
+
+		// A restarted instance starts counting its generations again
+		cache.put(INSTANCE, "q", LANGUAGE, new HawkQueryOptions(), 0, QueryResult.vInteger(3));
+		assertEquals(QueryResult.vInteger(3), cache.get(INSTANCE, "q", LANGUAGE, new HawkQueryOptions(), 0));
+	}
+
+	@Test
+	public void generationCountsSuccessfulChanges() {
+		final CompositeGraphChangeListener listener = new CompositeGraphChangeListener();
+		assertEquals(0, listener.getGeneration());
+
+		listener.changeStart();
+		listener.changeSuccess();
+		assertEquals(1, listener.getGeneration());
+
+		listener.changeStart();
+		listener.changeFailure();
+		assertEquals(1, listener.getGeneration());
+	}
+
+	private static long measure(QueryResult result) {
+		final QueryResultCache cache = new QueryResultCache(Long.MAX_VALUE, 60_000);
+		cache.put(INSTANCE, "q", LANGUAGE, new HawkQueryOptions(), 0, result);
+		return cache.getUsedBytes();
+	}
+
+}
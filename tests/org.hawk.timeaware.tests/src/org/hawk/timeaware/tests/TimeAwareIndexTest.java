@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright (c) 2018 Aston University.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 3.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-3.0
+ *
+ * Contributors:
+ *     Antonio Garcia-Dominguez - initial API and implementation
+ ******************************************************************************/
+package org.hawk.timeaware.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.hawk.backend.tests.BackendTestSuite;
+import org.hawk.backend.tests.LogbackOnlyErrorsRule;
+import org.hawk.backend.tests.RedirectSystemErrorRule;
+import org.hawk.backend.tests.TemporaryDatabaseTest;
+import org.hawk.backend.tests.factories.IGraphDatabaseFactory;
+import org.hawk.core.graph.IGraphNode;
+import org.hawk.core.graph.IGraphTransaction;
+import org.hawk.core.graph.timeaware.ITimeAwareGraphDatabase;
+import org.hawk.core.graph.timeaware.ITimeAwareGraphNodeIndex;
+import org.hawk.greycat.GreycatSettings;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Tests for the node indices of timeaware backends, on how changes within a
+ * transaction are seen by searches and undone by rollbacks.
+ */
+@RunWith(Parameterized.class)
+public class TimeAwareIndexTest extends TemporaryDatabaseTest {
+
+	/**
+	 * Small enough for the tests to change more nodes than can be kept pending.
+	 */
+	private static final int BATCH_SIZE = 2;
+
+	private static final String INDEX_NAME = "test";
+
+	private ITimeAwareGraphDatabase taDB;
+
+	public TimeAwareIndexTest(IGraphDatabaseFactory dbf) {
+		super(dbf);
+	}
+
+	@Rule
+	public RedirectSystemErrorRule errRule = new RedirectSystemErrorRule();
+
+	@Rule
+	public LogbackOnlyErrorsRule logRule = new LogbackOnlyErrorsRule();
+
+	@Parameters(name="{0}")
+	public static Object[] params() {
+		return BackendTestSuite.timeAwareBackends();
+	}
+
+	@Override
+	public void setup() throws Exception {
+		final Properties props = new Properties();
+		props.setProperty(GreycatSettings.LUCENE_BATCH_SIZE, BATCH_SIZE + "");
+		// Searches must refresh the searcher themselves
+		props.setProperty(GreycatSettings.LUCENE_REFRESH_MILLIS, "0");
+		try (OutputStream os = new FileOutputStream(new File(folder.getRoot(), GreycatSettings.FILENAME))) {
+			props.store(os, null);
+		}
+
+		super.setup();
+		taDB = (ITimeAwareGraphDatabase) db;
+	}
+
+	@Test
+	public void searchSeesPendingChanges() throws Exception {
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final IGraphNode n = db.createNode(Collections.emptyMap(), "test");
+			index().add(n, "name", "foo");
+			assertEquals(1, index().query("name", "foo").size());
+
+			index().add(n, "other", "bar");
+			assertEquals(1, index().query("name", "foo").size());
+			assertEquals(1, index().query("other", "bar").size());
+
+			index().remove(n, "name", "foo");
+			assertEquals(0, index().query("name", "foo").size());
+			assertEquals(1, index().query("other", "bar").size());
+			tx.success();
+		}
+
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			assertEquals(0, index().query("name", "foo").size());
+			assertEquals(1, index().query("other", "bar").size());
+			tx.success();
+		}
+	}
+
+	@Test
+	public void addRemoveSameTransaction() throws Exception {
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final IGraphNode n = db.createNode(Collections.emptyMap(), "test");
+			index().add(n, "name", "foo");
+			index().remove(n);
+			tx.success();
+		}
+
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			assertEquals(0, index().query("name", "foo").size());
+			assertEquals(0, index().query("name", "*").size());
+			tx.success();
+		}
+	}
+
+	@Test
+	public void changesAtLaterTimepoint() throws Exception {
+		Object id;
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final IGraphNode n = db.createNode(Collections.emptyMap(), "test");
+			index().add(n, "name", "foo");
+			id = n.getId();
+			tx.success();
+		}
+
+		// All changes to the node in this transaction are revised in memory
+		taDB.setTime(5L);
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final IGraphNode n = db.getNodeById(id);
+			index().add(n, "name", "bar");
+			index().remove(n, "name", "foo");
+			index().add(n, "size", 3);
+			tx.success();
+		}
+
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			assertEquals(1, index().travelInTime(0L).query("name", "foo").size());
+			assertEquals(0, index().travelInTime(0L).query("name", "bar").size());
+			assertEquals(0, index().travelInTime(0L).query("size", 3).size());
+
+			assertEquals(0, index().query("name", "foo").size());
+			assertEquals(1, index().query("name", "bar").size());
+			assertEquals(1, index().query("size", 3).size());
+			tx.success();
+		}
+	}
+
+	@Test
+	public void rollbackUndoesChanges() throws Exception {
+		Object id;
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final IGraphNode n = db.createNode(Collections.emptyMap(), "test");
+			index().add(n, "name", "foo");
+			id = n.getId();
+			tx.success();
+		}
+
+		taDB.setTime(1L);
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			final IGraphNode n = db.getNodeById(id);
+			index().add(n, "name", "bar");
+			index().remove(n, "name", "foo");
+
+			// Searching writes the pending changes, which must still be undone
+			assertEquals(0, index().query("name", "foo").size());
+			assertEquals(1, index().query("name", "bar").size());
+
+			index().remove(n);
+			// no tx.success(): roll back
+		}
+
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			assertEquals(1, index().query("name", "foo").size());
+			assertEquals(0, index().query("name", "bar").size());
+			assertEquals(1, index().travelInTime(0L).query("name", "foo").size());
+			tx.success();
+		}
+	}
+
+	@Test
+	public void moreNodesThanBatchSize() throws Exception {
+		final int nNodes = 5 * BATCH_SIZE + 1;
+
+		final List<Object> ids = new ArrayList<>();
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			for (int i = 0; i < nNodes; i++) {
+				final IGraphNode n = db.createNode(Collections.emptyMap(), "test");
+				index().add(n, "name", "foo");
+				ids.add(n.getId());
+			}
+			assertEquals(nNodes, index().query("name", "foo").size());
+			tx.success();
+		}
+
+		taDB.setTime(1L);
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			for (Object id : ids) {
+				index().remove(db.getNodeById(id), "name", "foo");
+			}
+			assertEquals(0, index().query("name", "foo").size());
+			// no tx.success(): roll back
+		}
+
+		try (IGraphTransaction tx = db.beginTransaction()) {
+			assertEquals(nNodes, index().query("name", "foo").size());
+			tx.success();
+		}
+	}
+
+	private ITimeAwareGraphNodeIndex index() {
+		return (ITimeAwareGraphNodeIndex) db.getOrCreateNodeIndex(INDEX_NAME);
+	}
+
+}